@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+/**
+ * Internal array helpers for the hot equality and arithmetic paths in the primitive lists. This is the portable
+ * baseline, and uses plain loops so it works on Java 8, Android, and GWT alike. Multi-release JARs also carry a Java 17
+ * version of this class under {@code META-INF/versions/17}, which delegates to the range overloads of
+ * {@link java.util.Arrays#equals} that newer JVMs vectorize, and uses {@code Math.fma()} for the multiply-add helpers.
+ * Both versions must behave identically, except that the fused multiply-add rounds once where this rounds twice.
+ */
+final class ArraySupport {
+	private ArraySupport() {
+	}
+
+	/**
+	 * Compares {@code length} items of {@code a} starting at {@code aFrom} with {@code length} items of {@code b}
+	 * starting at {@code bFrom}. Ranges are not checked here; callers must pass valid ranges.
+	 *
+	 * @return true if every compared pair of items is equal
+	 */
+	static boolean rangeEquals(int[] a, int aFrom, int[] b, int bFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[aFrom + i] != b[bFrom + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compares {@code length} items of {@code a} starting at {@code aFrom} with {@code length} items of {@code b}
+	 * starting at {@code bFrom}. Ranges are not checked here; callers must pass valid ranges.
+	 *
+	 * @return true if every compared pair of items is equal
+	 */
+	static boolean rangeEquals(long[] a, int aFrom, long[] b, int bFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[aFrom + i] != b[bFrom + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compares {@code length} items of {@code a} starting at {@code aFrom} with {@code length} items of {@code b}
+	 * starting at {@code bFrom}. Ranges are not checked here; callers must pass valid ranges.
+	 *
+	 * @return true if every compared pair of items is equal
+	 */
+	static boolean rangeEquals(short[] a, int aFrom, short[] b, int bFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[aFrom + i] != b[bFrom + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compares {@code length} items of {@code a} starting at {@code aFrom} with {@code length} items of {@code b}
+	 * starting at {@code bFrom}. Ranges are not checked here; callers must pass valid ranges.
+	 *
+	 * @return true if every compared pair of items is equal
+	 */
+	static boolean rangeEquals(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[aFrom + i] != b[bFrom + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compares {@code length} items of {@code a} starting at {@code aFrom} with {@code length} items of {@code b}
+	 * starting at {@code bFrom}. Ranges are not checked here; callers must pass valid ranges.
+	 *
+	 * @return true if every compared pair of items is equal
+	 */
+	static boolean rangeEquals(char[] a, int aFrom, char[] b, int bFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			if (a[aFrom + i] != b[bFrom + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * For {@code length} items, sets {@code a[aFrom + i]} to {@code a[aFrom + i] * b[bFrom + i] + c[cFrom + i]}.
+	 * This rounds after the multiply and again after the add. Ranges are not checked here.
+	 */
+	static void mulAdd(float[] a, int aFrom, float[] b, int bFrom, float[] c, int cFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] = a[aFrom + i] * b[bFrom + i] + c[cFrom + i];
+		}
+	}
+
+	/**
+	 * For {@code length} items, adds {@code b[bFrom + i] * scale} to {@code a[aFrom + i]}. This rounds after the
+	 * multiply and again after the add. Ranges are not checked here.
+	 */
+	static void addScaled(float[] a, int aFrom, float[] b, int bFrom, int length, float scale) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] += b[bFrom + i] * scale;
+		}
+	}
+
+	/**
+	 * For {@code length} items, sets {@code a[aFrom + i]} to {@code a[aFrom + i] * b[bFrom + i] + c[cFrom + i]}.
+	 * This rounds after the multiply and again after the add. Ranges are not checked here.
+	 */
+	static void mulAdd(double[] a, int aFrom, double[] b, int bFrom, double[] c, int cFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] = a[aFrom + i] * b[bFrom + i] + c[cFrom + i];
+		}
+	}
+
+	/**
+	 * For {@code length} items, adds {@code b[bFrom + i] * scale} to {@code a[aFrom + i]}. This rounds after the
+	 * multiply and again after the add. Ranges are not checked here.
+	 */
+	static void addScaled(double[] a, int aFrom, double[] b, int bFrom, int length, double scale) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] += b[bFrom + i] * scale;
+		}
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * The shared parts of {@link ObjectBloomFilter}, {@link IntBloomFilter}, and {@link LongBloomFilter}: a fixed-size
+ * array of bits, and the double hashing that decides which bits each item sets. A Bloom filter can say that an item is
+ * definitely not present, or that it might be present; it never forgets an item, but it can't remove one either (use a
+ * {@link CuckooFilter} subclass for that). Putting one in front of a large {@link ObjectSet} or {@link LongSet} that is
+ * mostly checked for items that aren't there rejects most of those checks with a few probes into a small, flat array.
+ * <br>
+ * The size of the bit array and the number of bits set per item are chosen from the expected number of items and the
+ * target false positive rate; the rate will be higher if more items are added. Each item's hash is mixed with two
+ * multipliers from {@link Utilities#GOOD_MULTIPLIERS}, chosen by the seed, in the same way as {@code place()} in the
+ * hashed collections, and the two mixed values give the bit positions by enhanced double hashing.
+ * <br>
+ * Two filters with the same size, number of hashes, and seed can be combined with {@code union()}, and any filter can
+ * be stored as a long array with {@link #toLongArray()} and restored by a constructor that takes that array.
+ */
+public abstract class BloomFilter {
+	private static final double LN2 = Math.log(2.0);
+
+	/**
+	 * The bits of this filter, 64 per long.
+	 */
+	protected long[] words;
+	/**
+	 * How many bits are set for each item.
+	 */
+	protected int hashCount;
+	/**
+	 * Chooses the multipliers; filters can only be combined if they have the same seed.
+	 */
+	protected int seed;
+	/**
+	 * Multipliers from {@link Utilities#GOOD_MULTIPLIERS}, chosen by {@link #seed}.
+	 */
+	protected int multiplierA, multiplierB;
+
+	/**
+	 * Creates a filter sized to hold {@code expectedItems} items with a false positive rate of about
+	 * {@code falsePositiveRate}. The bit array can hold at most 2 to the 32 bits (512 MiB).
+	 *
+	 * @param expectedItems     how many items are expected to be added; at least 1 is used
+	 * @param falsePositiveRate the target chance of {@code mightContain()} returning true for an item that wasn't
+	 *                          added, once {@code expectedItems} items have been added; between 0 and 1, exclusive
+	 * @param seed              any int; chooses the multipliers used to hash items
+	 */
+	protected BloomFilter(int expectedItems, double falsePositiveRate, int seed) {
+		if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+			throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1, exclusive: " + falsePositiveRate);
+		}
+		final double n = Math.max(1, expectedItems);
+		final double bits = -n * Math.log(falsePositiveRate) / (LN2 * LN2);
+		final int wordCount = (int) Math.min(1L << 26, Math.max(1L, (long) Math.ceil(bits / 64.0)));
+		words = new long[wordCount];
+		hashCount = (int) Math.min(30L, Math.max(1L, Math.round(wordCount * 64.0 / n * LN2)));
+		setSeed(seed);
+	}
+
+	/**
+	 * Restores a filter from the output of {@link #toLongArray()}.
+	 *
+	 * @param data a long array produced by {@link #toLongArray()}
+	 */
+	protected BloomFilter(long[] data) {
+		if (data.length < 2 || data.length > (1 << 26) + 1) {
+			throw new IllegalArgumentException("data is not a serialized BloomFilter; length was " + data.length);
+		}
+		hashCount = (int) (data[0] >>> 32);
+		if (hashCount < 1 || hashCount > 30) {
+			throw new IllegalArgumentException("data is not a serialized BloomFilter; hash count was " + hashCount);
+		}
+		words = Arrays.copyOfRange(data, 1, data.length);
+		setSeed((int) data[0]);
+	}
+
+	/**
+	 * Creates a copy of {@code other}, with the same settings and the same items.
+	 *
+	 * @param other another BloomFilter to copy
+	 */
+	protected BloomFilter(BloomFilter other) {
+		words = other.words.clone();
+		hashCount = other.hashCount;
+		setSeed(other.seed);
+	}
+
+	private void setSeed(int seed) {
+		this.seed = seed;
+		multiplierA = Utilities.GOOD_MULTIPLIERS[seed & 255];
+		multiplierB = Utilities.GOOD_MULTIPLIERS[(seed >>> 8 & 255) + 256];
+	}
+
+	/**
+	 * Sets the bits for an item, given two mixed hashes of it.
+	 *
+	 * @return true if any bit was not already set, meaning the item was definitely not present before
+	 */
+	protected boolean set(int h1, int h2) {
+		final long[] words = this.words;
+		final long bits = (long) words.length << 6;
+		long changed = 0L;
+		for (int i = 0; i < hashCount; i++) {
+			final long index = (h1 & 0xFFFFFFFFL) * bits >>> 32;
+			final long before = words[(int) (index >>> 6)];
+			changed |= ~before & 1L << index;
+			words[(int) (index >>> 6)] = before | 1L << index;
+			h1 += h2;
+			h2 += i;
+		}
+		return changed != 0L;
+	}
+
+	/**
+	 * Checks the bits for an item, given two mixed hashes of it.
+	 *
+	 * @return true if every bit for the item is set
+	 */
+	protected boolean test(int h1, int h2) {
+		final long[] words = this.words;
+		final long bits = (long) words.length << 6;
+		for (int i = 0; i < hashCount; i++) {
+			final long index = (h1 & 0xFFFFFFFFL) * bits >>> 32;
+			if ((words[(int) (index >>> 6)] & 1L << index) == 0L) return false;
+			h1 += h2;
+			h2 += i;
+		}
+		return true;
+	}
+
+	/**
+	 * Sets every bit that is set in {@code other}, so this filter might contain every item that either filter might
+	 * contain.
+	 *
+	 * @param other another filter of the same class, made with the same size, false positive rate, and seed
+	 * @throws IllegalArgumentException if {@code other} can't be combined with this
+	 */
+	protected void unionWith(BloomFilter other) {
+		if (other.getClass() != getClass() || other.words.length != words.length || other.hashCount != hashCount
+			|| other.seed != seed) {
+			throw new IllegalArgumentException("BloomFilters must have the same type, size, hash count, and seed to be "
+				+ "combined.");
+		}
+		final long[] words = this.words, otherWords = other.words;
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= otherWords[i];
+		}
+	}
+
+	/**
+	 * @return how many bits this filter has; always a multiple of 64
+	 */
+	public long getBitCount() {
+		return (long) words.length << 6;
+	}
+
+	/**
+	 * @return how many bits are set for each item
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	/**
+	 * @return the seed that chooses the multipliers used to hash items
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return how many bits are currently set
+	 */
+	public long cardinality() {
+		long count = 0L;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Estimates how many different items have been added, from the fraction of bits that are set.
+	 *
+	 * @return an estimate of how many different items have been added
+	 */
+	public double approximateSize() {
+		final double bits = getBitCount(), set = cardinality();
+		if (set >= bits) return Double.POSITIVE_INFINITY;
+		return -bits / hashCount * Math.log1p(-set / bits);
+	}
+
+	/**
+	 * Gets the chance that an item that was never added would be reported as possibly present, given the bits that are
+	 * set now.
+	 *
+	 * @return the current false positive rate, between 0 and 1
+	 */
+	public double currentFalsePositiveRate() {
+		return Math.pow(cardinality() / (double) getBitCount(), hashCount);
+	}
+
+	/**
+	 * @return true if no items have been added since this was created or cleared
+	 */
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0L) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Removes every item, keeping the same size and settings.
+	 */
+	public void clear() {
+		Arrays.fill(words, 0L);
+	}
+
+	/**
+	 * Stores this filter as a long array, which can be given to the constructor of the same class to restore it. The
+	 * first long holds the hash count and the seed; the rest are the bits.
+	 *
+	 * @return a new long array holding this filter's settings and bits
+	 */
+	public long[] toLongArray() {
+		final long[] data = new long[words.length + 1];
+		data[0] = (long) hashCount << 32 | (seed & 0xFFFFFFFFL);
+		System.arraycopy(words, 0, data, 1, words.length);
+		return data;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		BloomFilter other = (BloomFilter) o;
+		return hashCount == other.hashCount && seed == other.seed && Arrays.equals(words, other.words);
+	}
+
+	@Override
+	public int hashCode() {
+		return (Arrays.hashCode(words) * 31 + hashCount) * 31 + seed;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " with " + getBitCount() + " bits, " + hashCount + " hashes, and "
+			+ cardinality() + " bits set";
+	}
+}
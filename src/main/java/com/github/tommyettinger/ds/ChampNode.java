@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+
+import java.util.Objects;
+
+/**
+ * A node in a compressed hash-array mapped prefix tree (CHAMP), used by {@link PersistentObjectObjectMap} and
+ * {@link PersistentObjectSet}. Each node consumes 5 bits of a key's hash; {@link #dataMap} marks which of the 32
+ * branches hold a key-value pair directly, and {@link #nodeMap} marks which hold a child node. {@link #content} holds
+ * the pairs first, as alternating keys and values in branch order, then the child nodes in branch order. Once all 32
+ * bits of the hash are used up, at a shift greater than {@link #MAX_SHIFT}, a node is a collision node that just holds
+ * {@link #dataMap} pairs in no particular order.
+ * <br>
+ * Removal always pulls a lone remaining pair up into its parent, so two tries that hold the same pairs always have
+ * the same shape; that lets equality and diffing skip any subtrees that are shared by reference.
+ * <br>
+ * Nodes are never changed after they become visible through a persistent collection. A node whose {@link #edit} is
+ * the same non-null token as the one passed to an operation belongs to a transient builder, and is changed in place.
+ */
+final class ChampNode {
+	static final int MAX_SHIFT = 30;
+	static final ChampNode EMPTY = new ChampNode(null, 0, 0, new Object[0]);
+	/**
+	 * Returned by {@link #find(ChampNode, Object, int, int)} when a key is not present, since null is a valid value.
+	 */
+	static final Object NOT_FOUND = new Object();
+
+	final Object edit;
+	int dataMap, nodeMap;
+	Object[] content;
+
+	ChampNode(Object edit, int dataMap, int nodeMap, Object[] content) {
+		this.edit = edit;
+		this.dataMap = dataMap;
+		this.nodeMap = nodeMap;
+		this.content = content;
+	}
+
+	/**
+	 * Tracks what an insertion or removal did, so the caller can update its size.
+	 */
+	static final class Change {
+		boolean sizeChanged;
+		Object oldValue;
+
+		Change reset() {
+			sizeChanged = false;
+			oldValue = NOT_FOUND;
+			return this;
+		}
+	}
+
+	/**
+	 * Receives the differences found by {@link #diff(ChampNode, ChampNode, int, Differ)}.
+	 */
+	interface Differ {
+		void added(Object key, Object value);
+
+		void removed(Object key, Object value);
+
+		void changed(Object key, Object oldValue, Object newValue);
+	}
+
+	static int hash(Object key) {
+		final int h = BitConversion.imul(key.hashCode(), 0xFAB9E45B);
+		return h ^ h >>> 16;
+	}
+
+	private static int bit(int hash, int shift) {
+		return 1 << (hash >>> shift & 31);
+	}
+
+	private static int index(int bitmap, int bit) {
+		return Integer.bitCount(bitmap & bit - 1);
+	}
+
+	int dataCount(int shift) {
+		return shift > MAX_SHIFT ? dataMap : Integer.bitCount(dataMap);
+	}
+
+	int nodeCount(int shift) {
+		return shift > MAX_SHIFT ? 0 : Integer.bitCount(nodeMap);
+	}
+
+	private boolean isSingleton(int shift) {
+		return shift > MAX_SHIFT ? dataMap == 1 : nodeMap == 0 && Integer.bitCount(dataMap) == 1;
+	}
+
+	private ChampNode editable(Object edit, int dataMap, int nodeMap, Object[] content) {
+		if (edit != null && this.edit == edit) {
+			this.dataMap = dataMap;
+			this.nodeMap = nodeMap;
+			this.content = content;
+			return this;
+		}
+		return new ChampNode(edit, dataMap, nodeMap, content);
+	}
+
+	private ChampNode withSlot(Object edit, int slot, Object item) {
+		if (edit != null && this.edit == edit) {
+			content[slot] = item;
+			return this;
+		}
+		Object[] next = content.clone();
+		next[slot] = item;
+		return new ChampNode(edit, dataMap, nodeMap, next);
+	}
+
+	static Object find(ChampNode node, Object key, int hash, int shift) {
+		while (true) {
+			final Object[] content = node.content;
+			if (shift > MAX_SHIFT) {
+				for (int i = 0, n = node.dataMap << 1; i < n; i += 2) {
+					if (key.equals(content[i])) return content[i + 1];
+				}
+				return NOT_FOUND;
+			}
+			final int bit = bit(hash, shift);
+			if ((node.dataMap & bit) != 0) {
+				final int i = index(node.dataMap, bit) << 1;
+				return key.equals(content[i]) ? content[i + 1] : NOT_FOUND;
+			}
+			if ((node.nodeMap & bit) == 0) return NOT_FOUND;
+			node = (ChampNode) content[(Integer.bitCount(node.dataMap) << 1) + index(node.nodeMap, bit)];
+			shift += 5;
+		}
+	}
+
+	static ChampNode put(ChampNode node, Object key, Object value, int hash, int shift, Object edit, Change change) {
+		final Object[] content = node.content;
+		if (shift > MAX_SHIFT) {
+			final int n = node.dataMap << 1;
+			for (int i = 0; i < n; i += 2) {
+				if (key.equals(content[i])) {
+					change.oldValue = content[i + 1];
+					if (content[i + 1] == value) return node;
+					return node.withSlot(edit, i + 1, value);
+				}
+			}
+			Object[] next = new Object[n + 2];
+			System.arraycopy(content, 0, next, 0, n);
+			next[n] = key;
+			next[n + 1] = value;
+			change.sizeChanged = true;
+			return node.editable(edit, node.dataMap + 1, 0, next);
+		}
+		final int bit = bit(hash, shift);
+		if ((node.dataMap & bit) != 0) {
+			final int i = index(node.dataMap, bit) << 1;
+			final Object k = content[i];
+			if (key.equals(k)) {
+				change.oldValue = content[i + 1];
+				if (content[i + 1] == value) return node;
+				return node.withSlot(edit, i + 1, value);
+			}
+			change.sizeChanged = true;
+			ChampNode sub = pair(k, content[i + 1], hash(k), key, value, hash, shift + 5, edit);
+			// move the pair at i into a new child node
+			final int dataLength = Integer.bitCount(node.dataMap) << 1;
+			final int nodeIndex = dataLength - 2 + index(node.nodeMap, bit);
+			Object[] next = new Object[content.length - 1];
+			System.arraycopy(content, 0, next, 0, i);
+			System.arraycopy(content, i + 2, next, i, nodeIndex - i);
+			next[nodeIndex] = sub;
+			System.arraycopy(content, nodeIndex + 2, next, nodeIndex + 1, content.length - nodeIndex - 2);
+			return node.editable(edit, node.dataMap ^ bit, node.nodeMap | bit, next);
+		}
+		if ((node.nodeMap & bit) != 0) {
+			final int slot = (Integer.bitCount(node.dataMap) << 1) + index(node.nodeMap, bit);
+			final ChampNode sub = (ChampNode) content[slot];
+			final ChampNode nextSub = put(sub, key, value, hash, shift + 5, edit, change);
+			if (nextSub == sub) return node;
+			return node.withSlot(edit, slot, nextSub);
+		}
+		change.sizeChanged = true;
+		final int i = index(node.dataMap, bit) << 1;
+		Object[] next = new Object[content.length + 2];
+		System.arraycopy(content, 0, next, 0, i);
+		next[i] = key;
+		next[i + 1] = value;
+		System.arraycopy(content, i, next, i + 2, content.length - i);
+		return node.editable(edit, node.dataMap | bit, node.nodeMap, next);
+	}
+
+	/**
+	 * Creates the smallest subtree, starting at {@code shift}, that holds two pairs with different keys.
+	 */
+	private static ChampNode pair(Object k0, Object v0, int h0, Object k1, Object v1, int h1, int shift, Object edit) {
+		if (shift > MAX_SHIFT) {
+			return new ChampNode(edit, 2, 0, new Object[]{k0, v0, k1, v1});
+		}
+		final int b0 = bit(h0, shift), b1 = bit(h1, shift);
+		if (b0 == b1) {
+			return new ChampNode(edit, 0, b0, new Object[]{pair(k0, v0, h0, k1, v1, h1, shift + 5, edit)});
+		}
+		return new ChampNode(edit, b0 | b1, 0, Integer.compareUnsigned(b0, b1) < 0
+			? new Object[]{k0, v0, k1, v1} : new Object[]{k1, v1, k0, v0});
+	}
+
+	static ChampNode remove(ChampNode node, Object key, int hash, int shift, Object edit, Change change) {
+		final Object[] content = node.content;
+		if (shift > MAX_SHIFT) {
+			final int n = node.dataMap << 1;
+			for (int i = 0; i < n; i += 2) {
+				if (key.equals(content[i])) {
+					change.oldValue = content[i + 1];
+					change.sizeChanged = true;
+					Object[] next = new Object[n - 2];
+					System.arraycopy(content, 0, next, 0, i);
+					System.arraycopy(content, i + 2, next, i, n - i - 2);
+					return node.editable(edit, node.dataMap - 1, 0, next);
+				}
+			}
+			return node;
+		}
+		final int bit = bit(hash, shift);
+		if ((node.dataMap & bit) != 0) {
+			final int i = index(node.dataMap, bit) << 1;
+			if (!key.equals(content[i])) return node;
+			change.oldValue = content[i + 1];
+			change.sizeChanged = true;
+			Object[] next = new Object[content.length - 2];
+			System.arraycopy(content, 0, next, 0, i);
+			System.arraycopy(content, i + 2, next, i, content.length - i - 2);
+			return node.editable(edit, node.dataMap ^ bit, node.nodeMap, next);
+		}
+		if ((node.nodeMap & bit) != 0) {
+			final int slot = (Integer.bitCount(node.dataMap) << 1) + index(node.nodeMap, bit);
+			final ChampNode sub = (ChampNode) content[slot];
+			final ChampNode nextSub = remove(sub, key, hash, shift + 5, edit, change);
+			// a Builder may have changed sub in place, so check for a lone pair even if nextSub is sub
+			if (!change.sizeChanged) return node;
+			if (!nextSub.isSingleton(shift + 5)) return node.withSlot(edit, slot, nextSub);
+			// pull the lone pair in nextSub up into this node
+			final int i = index(node.dataMap, bit) << 1;
+			Object[] next = new Object[content.length + 1];
+			System.arraycopy(content, 0, next, 0, i);
+			next[i] = nextSub.content[0];
+			next[i + 1] = nextSub.content[1];
+			System.arraycopy(content, i, next, i + 2, slot - i);
+			System.arraycopy(content, slot + 1, next, slot + 2, content.length - slot - 1);
+			return node.editable(edit, node.dataMap | bit, node.nodeMap ^ bit, next);
+		}
+		return node;
+	}
+
+	/**
+	 * Calls {@code differ} once for every pair that is in only one of {@code a} or {@code b}, or that has different
+	 * values in each; subtrees that {@code a} and {@code b} share are skipped.
+	 */
+	static void diff(ChampNode a, ChampNode b, int shift, Differ differ) {
+		if (a == b) return;
+		if (shift > MAX_SHIFT) {
+			for (int i = 0, n = a.dataMap << 1; i < n; i += 2) {
+				compare(a.content[i], a.content[i + 1], find(b, a.content[i], 0, shift), differ);
+			}
+			for (int i = 0, n = b.dataMap << 1; i < n; i += 2) {
+				if (find(a, b.content[i], 0, shift) == NOT_FOUND) differ.added(b.content[i], b.content[i + 1]);
+			}
+			return;
+		}
+		final int aData = Integer.bitCount(a.dataMap) << 1, bData = Integer.bitCount(b.dataMap) << 1;
+		for (int bits = a.dataMap | a.nodeMap | b.dataMap | b.nodeMap; bits != 0; bits &= bits - 1) {
+			final int bit = bits & -bits;
+			if ((a.dataMap & bit) != 0) {
+				final int i = index(a.dataMap, bit) << 1;
+				final Object key = a.content[i], value = a.content[i + 1];
+				if ((b.dataMap & bit) != 0) {
+					final int j = index(b.dataMap, bit) << 1;
+					if (key.equals(b.content[j])) {
+						compare(key, value, b.content[j + 1], differ);
+					} else {
+						differ.removed(key, value);
+						differ.added(b.content[j], b.content[j + 1]);
+					}
+				} else if ((b.nodeMap & bit) != 0) {
+					final ChampNode sub = (ChampNode) b.content[bData + index(b.nodeMap, bit)];
+					compare(key, value, find(sub, key, hash(key), shift + 5), differ);
+					forEachExcept(sub, shift + 5, key, false, differ);
+				} else {
+					differ.removed(key, value);
+				}
+			} else if ((a.nodeMap & bit) != 0) {
+				final ChampNode sub = (ChampNode) a.content[aData + index(a.nodeMap, bit)];
+				if ((b.nodeMap & bit) != 0) {
+					diff(sub, (ChampNode) b.content[bData + index(b.nodeMap, bit)], shift + 5, differ);
+				} else if ((b.dataMap & bit) != 0) {
+					final int j = index(b.dataMap, bit) << 1;
+					final Object key = b.content[j], value = b.content[j + 1];
+					final Object old = find(sub, key, hash(key), shift + 5);
+					forEachExcept(sub, shift + 5, key, true, differ);
+					if (old == NOT_FOUND) differ.added(key, value);
+					else if (!Objects.equals(old, value)) differ.changed(key, old, value);
+				} else {
+					forEachExcept(sub, shift + 5, null, true, differ);
+				}
+			} else if ((b.dataMap & bit) != 0) {
+				final int j = index(b.dataMap, bit) << 1;
+				differ.added(b.content[j], b.content[j + 1]);
+			} else {
+				forEachExcept((ChampNode) b.content[bData + index(b.nodeMap, bit)], shift + 5, null, false, differ);
+			}
+		}
+	}
+
+	private static void compare(Object key, Object value, Object other, Differ differ) {
+		if (other == NOT_FOUND) differ.removed(key, value);
+		else if (!Objects.equals(value, other)) differ.changed(key, value, other);
+	}
+
+	/**
+	 * Reports every pair in {@code node} except the one with key {@code except} as removed or added.
+	 */
+	private static void forEachExcept(ChampNode node, int shift, Object except, boolean removed, Differ differ) {
+		final Object[] content = node.content;
+		final int data = node.dataCount(shift) << 1;
+		for (int i = 0; i < data; i += 2) {
+			if (except != null && except.equals(content[i])) continue;
+			if (removed) differ.removed(content[i], content[i + 1]);
+			else differ.added(content[i], content[i + 1]);
+		}
+		for (int i = data, n = data + node.nodeCount(shift); i < n; i++) {
+			forEachExcept((ChampNode) content[i], shift + 5, except, removed, differ);
+		}
+	}
+
+	/**
+	 * Checks if {@code a} and {@code b} hold the same pairs, skipping subtrees that they share. This relies on the
+	 * shape of a trie depending only on the pairs it holds.
+	 */
+	static boolean equal(ChampNode a, ChampNode b, int shift) {
+		if (a == b) return true;
+		if (shift > MAX_SHIFT) {
+			if (a.dataMap != b.dataMap) return false;
+			for (int i = 0, n = a.dataMap << 1; i < n; i += 2) {
+				Object other = find(b, a.content[i], 0, shift);
+				if (other == NOT_FOUND || !Objects.equals(a.content[i + 1], other)) return false;
+			}
+			return true;
+		}
+		if (a.dataMap != b.dataMap || a.nodeMap != b.nodeMap) return false;
+		final Object[] ac = a.content, bc = b.content;
+		final int data = Integer.bitCount(a.dataMap) << 1;
+		for (int i = 0; i < data; i += 2) {
+			if (!ac[i].equals(bc[i]) || !Objects.equals(ac[i + 1], bc[i + 1])) return false;
+		}
+		for (int i = data; i < ac.length; i++) {
+			if (!equal((ChampNode) ac[i], (ChampNode) bc[i], shift + 5)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Walks every pair in a trie, depth-first, without recursion.
+	 */
+	static class Cursor {
+		private final ChampNode[] nodes = new ChampNode[8];
+		private final int[] dataPositions = new int[8], nodePositions = new int[8];
+		private int depth;
+		Object key, value;
+
+		Cursor(ChampNode root) {
+			nodes[0] = root;
+		}
+
+		/**
+		 * Moves to the next pair, setting {@link #key} and {@link #value}.
+		 *
+		 * @return false if there are no more pairs
+		 */
+		boolean advance() {
+			while (true) {
+				final ChampNode node = nodes[depth];
+				final int shift = depth * 5, data = node.dataCount(shift);
+				if (dataPositions[depth] < data) {
+					final int i = dataPositions[depth]++ << 1;
+					key = node.content[i];
+					value = node.content[i + 1];
+					return true;
+				}
+				if (nodePositions[depth] < node.nodeCount(shift)) {
+					final ChampNode child = (ChampNode) node.content[(data << 1) + nodePositions[depth]++];
+					nodes[++depth] = child;
+					dataPositions[depth] = 0;
+					nodePositions[depth] = 0;
+					continue;
+				}
+				if (depth == 0) return false;
+				nodes[depth--] = null;
+			}
+		}
+	}
+}
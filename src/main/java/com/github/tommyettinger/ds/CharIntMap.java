@@ -0,0 +1,931 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+import com.github.tommyettinger.ds.support.util.CharAppender;
+import com.github.tommyettinger.ds.support.util.CharIterator;
+import com.github.tommyettinger.ds.support.util.IntAppender;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import com.github.tommyettinger.function.CharIntBiConsumer;
+import com.github.tommyettinger.function.CharIntToIntBiFunction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unordered-in-name-only map where the keys are unboxed chars and the values are unboxed ints. Unlike
+ * {@link IntIntMap}, this never hashes anything; a char key is used directly as an index into a two-level table of
+ * "pages," each holding the values for 256 consecutive chars, and presence of a key is tracked by a bit set that
+ * works like the {@code int[]} in {@link CharBitSet}. This makes {@link #get(char)}, {@link #put(char, int)},
+ * {@link #containsKey(char)}, and {@link #remove(char)} all truly O(1), with no probing and no collisions.
+ * Iteration always goes in ascending key order.
+ * <br>
+ * Pages are only allocated when a key in their range is first put into the map, so a map that only contains ASCII
+ * chars only allocates one page of 256 ints, plus a 256-element array of page references and a few ints of bits.
+ * The full range of 65536 char keys can be stored if needed, at which point the memory use is similar to a plain
+ * {@code int[65536]}. This is a good fit for glyph caches, tokenizers, and other code that maps chars to small data
+ * at very high rates.
+ * <br>
+ * If a key isn't present, methods that look up a value return {@link #defaultValue}, which is 0 unless changed.
+ */
+public class CharIntMap implements Iterable<CharIntMap.Entry> {
+	/**
+	 * How many bits of a char are used to select an index within a page; the rest select the page.
+	 */
+	protected static final int PAGE_BITS = 8;
+	/**
+	 * How many values a single page holds.
+	 */
+	protected static final int PAGE_SIZE = 1 << PAGE_BITS;
+	/**
+	 * Masks a char to get its index within its page.
+	 */
+	protected static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	protected int size;
+
+	/**
+	 * The raw bits, each one representing the presence or absence of a key at a position. This grows as needed to
+	 * fit the highest key, the same way {@link CharBitSet} grows.
+	 */
+	protected int[] bits;
+
+	/**
+	 * The value pages, indexed by {@code key >>> PAGE_BITS}. A page is null until a key in its range is put here.
+	 */
+	protected int[][] pages;
+
+	public int defaultValue = 0;
+
+	/**
+	 * Creates a new, empty map. This doesn't allocate any value pages until a key is put into it.
+	 */
+	public CharIntMap() {
+		bits = new int[1];
+		pages = new int[65536 >>> PAGE_BITS][];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map. Only the pages that are in use by {@code map} are copied.
+	 *
+	 * @param map the map to copy
+	 */
+	public CharIntMap(CharIntMap map) {
+		bits = Arrays.copyOf(map.bits, map.bits.length);
+		pages = new int[map.pages.length][];
+		for (int i = 0; i < pages.length; i++) {
+			if (map.pages[i] != null)
+				pages[i] = Arrays.copyOf(map.pages[i], PAGE_SIZE);
+		}
+		size = map.size;
+		defaultValue = map.defaultValue;
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public CharIntMap(char[] keys, int[] values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a PrimitiveCollection of values
+	 */
+	public CharIntMap(PrimitiveCollection.OfChar keys, PrimitiveCollection.OfInt values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a PrimitiveCollection of values
+	 */
+	public void putAll(PrimitiveCollection.OfChar keys, PrimitiveCollection.OfInt values) {
+		CharIterator ki = keys.iterator();
+		IntIterator vi = values.iterator();
+		while (ki.hasNext() && vi.hasNext()) {
+			put(ki.nextChar(), vi.nextInt());
+		}
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public void putAll(char[] keys, int[] values) {
+		putAll(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys        an array of keys
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAll(char[] keys, int keyOffset, int[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		for (int k = keyOffset, v = valueOffset, i = 0; i < length; i++, k++, v++) {
+			put(keys[k], values[v]);
+		}
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	public void putAll(CharIntMap map) {
+		int[] otherBits = map.bits;
+		for (int word = 0; word < otherBits.length; word++) {
+			int w = otherBits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				put((char) key, map.pages[key >>> PAGE_BITS][key & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	private void checkCapacity(int word) {
+		if (word >= bits.length) {
+			int[] newBits = new int[1 << -BitConversion.countLeadingZeros(word)]; // resizes to next power of two size that can fit word
+			System.arraycopy(bits, 0, newBits, 0, bits.length);
+			bits = newBits;
+		}
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no prior value.
+	 */
+	public int put(char key, int value) {
+		return putOrDefault(key, value, defaultValue);
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or the given {@code defaultValue} if there was no prior value.
+	 */
+	public int putOrDefault(char key, int value, int defaultValue) {
+		final int word = key >>> 5;
+		checkCapacity(word);
+		int[] page = pages[key >>> PAGE_BITS];
+		if (page == null) {
+			page = pages[key >>> PAGE_BITS] = new int[PAGE_SIZE];
+		}
+		int old = defaultValue;
+		if ((bits[word] & 1 << key) != 0) {
+			old = page[key & PAGE_MASK];
+		} else {
+			bits[word] |= 1 << key;
+			size++;
+		}
+		page[key & PAGE_MASK] = value;
+		return old;
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #defaultValue} if the key is not in the map.
+	 *
+	 * @param key any {@code char}
+	 */
+	public int get(char key) {
+		final int word = key >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << key) == 0) return defaultValue;
+		return pages[key >>> PAGE_BITS][key & PAGE_MASK];
+	}
+
+	/**
+	 * Returns the value for the specified key, or the given default value if the key is not in the map.
+	 */
+	public int getOrDefault(char key, int defaultValue) {
+		final int word = key >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << key) == 0) return defaultValue;
+		return pages[key >>> PAGE_BITS][key & PAGE_MASK];
+	}
+
+	/**
+	 * Returns the key's current value and increments the stored value. If the key is not in the map, defaultValue + increment is
+	 * put into the map and defaultValue is returned.
+	 */
+	public int getAndIncrement(char key, int defaultValue, int increment) {
+		final int word = key >>> 5;
+		checkCapacity(word);
+		int[] page = pages[key >>> PAGE_BITS];
+		if (page == null) {
+			page = pages[key >>> PAGE_BITS] = new int[PAGE_SIZE];
+		}
+		if ((bits[word] & 1 << key) != 0) {
+			int old = page[key & PAGE_MASK];
+			page[key & PAGE_MASK] += increment;
+			return old;
+		}
+		bits[word] |= 1 << key;
+		size++;
+		page[key & PAGE_MASK] = defaultValue + increment;
+		return defaultValue;
+	}
+
+	/**
+	 * Removes the given key, if present, and returns the value that was associated with it, or {@link #defaultValue}
+	 * if the key was not present. This does not free the page the key was in, even if it is now unused; you can call
+	 * {@link #shrink()} to do that.
+	 *
+	 * @param key any {@code char}
+	 * @return the value that was associated with key, or {@link #defaultValue} if it wasn't present
+	 */
+	public int remove(char key) {
+		final int word = key >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << key) == 0) return defaultValue;
+		bits[word] &= ~(1 << key);
+		size--;
+		return pages[key >>> PAGE_BITS][key & PAGE_MASK];
+	}
+
+	public boolean containsKey(char key) {
+		final int word = key >>> 5;
+		return word < bits.length && (bits[word] & 1 << key) != 0;
+	}
+
+	/**
+	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value,
+	 * which may be an expensive operation.
+	 */
+	public boolean containsValue(int value) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				if (pages[key >>> PAGE_BITS][key & PAGE_MASK] == value) return true;
+				w &= w - 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lowest key that maps to the specified value, or {@code defaultKey} if value is not in the map.
+	 * Note, this traverses the entire map and compares every value, which may be an expensive operation.
+	 *
+	 * @param value      the value to search for
+	 * @param defaultKey the key to return when value cannot be found
+	 * @return a key that maps to value, if present, or defaultKey if value cannot be found
+	 */
+	public char findKey(int value, char defaultKey) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				if (pages[key >>> PAGE_BITS][key & PAGE_MASK] == value) return (char) key;
+				w &= w - 1;
+			}
+		}
+		return defaultKey;
+	}
+
+	/**
+	 * Returns the lowest key present in this map that is greater than or equal to {@code fromKey}, or -1 if there is
+	 * no such key. This can be used to iterate over keys in ascending order without allocating an iterator.
+	 *
+	 * @param fromKey the lowest key to consider; may be negative, which acts like 0
+	 * @return the next present key on or after fromKey, as an int, or -1 if none is present
+	 */
+	public int nextKey(int fromKey) {
+		if (fromKey < 0) fromKey = 0;
+		int[] bits = this.bits;
+		int word = fromKey >>> 5;
+		if (word >= bits.length)
+			return -1;
+		int bitsAtWord = bits[word] & -1 << fromKey;
+		if (bitsAtWord != 0) {
+			return BitConversion.countTrailingZeros(bitsAtWord) + (word << 5);
+		}
+		for (word++; word < bits.length; word++) {
+			bitsAtWord = bits[word];
+			if (bitsAtWord != 0) {
+				return BitConversion.countTrailingZeros(bitsAtWord) + (word << 5);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns true if the map has one or more items.
+	 */
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Returns the number of key-value mappings in this map. This runs in O(1) time.
+	 *
+	 * @return the number of key-value mappings in this map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the map is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the default value, a {@code int} which is returned by {@link #get(char)} if the key is not found.
+	 * If not changed, the default value is 0.
+	 *
+	 * @return the current default value
+	 */
+	public int getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Sets the default value, a {@code int} which is returned by {@link #get(char)} if the key is not found.
+	 * If not changed, the default value is 0. Note that {@link #getOrDefault(char, int)} is also available,
+	 * which allows specifying a "not-found" value per-call.
+	 *
+	 * @param defaultValue may be any int; should usually be one that doesn't occur as a typical value
+	 */
+	public void setDefaultValue(int defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Removes all keys from this map. This only clears the presence bits, so it takes time proportional to the
+	 * highest key ever stored divided by 32, not to the number of pages. Allocated pages are kept for reuse.
+	 */
+	public void clear() {
+		if (size == 0) return;
+		size = 0;
+		Arrays.fill(bits, 0);
+	}
+
+	/**
+	 * Releases any value pages that no longer contain any present keys, and shrinks the presence bits to fit the
+	 * highest present key. This is the only way pages are freed.
+	 */
+	public void shrink() {
+		int[] bits = this.bits;
+		int wordsPerPage = PAGE_SIZE >>> 5;
+		for (int p = 0; p < pages.length; p++) {
+			if (pages[p] == null) continue;
+			boolean empty = true;
+			for (int w = p * wordsPerPage, e = Math.min(w + wordsPerPage, bits.length); w < e; w++) {
+				if (bits[w] != 0) {
+					empty = false;
+					break;
+				}
+			}
+			if (empty) pages[p] = null;
+		}
+		int top = bits.length;
+		while (top > 1 && bits[top - 1] == 0) top--;
+		if (top < bits.length) {
+			this.bits = Arrays.copyOf(bits, 1 << -BitConversion.countLeadingZeros(top - 1));
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		int h = size;
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				h ^= key;
+				h ^= pages[key >>> PAGE_BITS][key & PAGE_MASK];
+				w &= w - 1;
+			}
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof CharIntMap)) {
+			return false;
+		}
+		CharIntMap other = (CharIntMap) obj;
+		if (other.size != size) {
+			return false;
+		}
+		int[] bits = this.bits, otherBits = other.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			if (w != (word < otherBits.length ? otherBits[word] : 0)) return false;
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				if (pages[key >>> PAGE_BITS][key & PAGE_MASK] != other.pages[key >>> PAGE_BITS][key & PAGE_MASK])
+					return false;
+				w &= w - 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets a String representation of this map using {@link CharAppender#QUOTED} to get the String form of keys and
+	 * {@link IntAppender#DEFAULT} to get the String form of values.
+	 * Separates keys from values using "=", and separates entries using ", ". Wraps the output in curly braces.
+	 *
+	 * @return a String representation of this map
+	 */
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with the given entrySeparator and without braces.
+	 * This is different from {@link #toString()}, which includes braces by default.
+	 *
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator) {
+		return toString(entrySeparator, false);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(8 * size()), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Makes a String from the contents of this CharIntMap, but uses the given {@link CharAppender} and
+	 * {@link IntAppender} to convert each key and each value to a customizable representation and append them
+	 * to a temporary StringBuilder.
+	 *
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a CharAppender that can take a char key, such as {@link CharAppender#QUOTED}
+	 * @param valueAppender     an IntAppender that can take an int value, such as {@link IntAppender#DEFAULT}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator, String keyValueSeparator, boolean braces,
+						   CharAppender keyAppender, IntAppender valueAppender) {
+		return appendTo(new StringBuilder(8 * size()), entrySeparator, keyValueSeparator, braces, keyAppender, valueAppender).toString();
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this CharIntMap. Uses
+	 * {@link CharAppender#QUOTED} to write keys and {@link IntAppender#DEFAULT} to write values.
+	 * Uses {@code "="} to separate keys from their values. Uses {@code entrySeparator} to separate entries.
+	 * If {@code braces} is true, wraps the output in curly braces.
+	 *
+	 * @param sb             an Appendable CharSequence that this can append to
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @param braces         true to wrap the output in curly braces, or false to omit them
+	 * @param <S>            any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, CharAppender.QUOTED, IntAppender.DEFAULT);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this CharIntMap, but uses the given
+	 * {@link CharAppender} and {@link IntAppender} to convert each key and each value to a customizable
+	 * representation and append them to {@code sb}. Entries are appended in ascending key order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a CharAppender that can take a char key, such as {@link CharAppender#QUOTED}
+	 * @param valueAppender     an IntAppender that can take an int value, such as {@link IntAppender#DEFAULT}
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															CharAppender keyAppender, IntAppender valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			int[] bits = this.bits;
+			for (int word = 0; word < bits.length; word++) {
+				int w = bits[word];
+				while (w != 0) {
+					int key = word << 5 | BitConversion.countTrailingZeros(w);
+					if (!first) sb.append(entrySeparator);
+					first = false;
+					keyAppender.apply(sb, (char) key).append(keyValueSeparator);
+					valueAppender.apply(sb, pages[key >>> PAGE_BITS][key & PAGE_MASK]);
+					w &= w - 1;
+				}
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Performs the given action for each entry in this map, in ascending key order, until all entries
+	 * have been processed or the action throws an exception. This does not allocate.
+	 *
+	 * @param action The action to be performed for each entry
+	 */
+	public void forEach(CharIntBiConsumer action) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				action.accept((char) key, pages[key >>> PAGE_BITS][key & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	/**
+	 * Replaces each entry's value with the result of invoking the given
+	 * function on that entry until all entries have been processed or the
+	 * function throws an exception.
+	 *
+	 * @param function the function to apply to each entry
+	 */
+	public void replaceAll(CharIntToIntBiFunction function) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				int[] page = pages[key >>> PAGE_BITS];
+				page[key & PAGE_MASK] = function.applyAsInt((char) key, page[key & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	public int putIfAbsent(char key, int value) {
+		if (containsKey(key)) {
+			return pages[key >>> PAGE_BITS][key & PAGE_MASK];
+		}
+		return put(key, value);
+	}
+
+	public int replace(char key, int value) {
+		if (containsKey(key)) {
+			int[] page = pages[key >>> PAGE_BITS];
+			int old = page[key & PAGE_MASK];
+			page[key & PAGE_MASK] = value;
+			return old;
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator}, which iterates in ascending key order.
+	 * You can remove an Entry from this map using this Iterator.
+	 *
+	 * @return an {@link Iterator} over key-value pairs as {@link Entry} values
+	 */
+	@Override
+	public EntryIterator iterator() {
+		return new EntryIterator(this);
+	}
+
+	/**
+	 * Returns a {@link PrimitiveSet.SetOfChar} view of the keys contained in this map, in ascending order.
+	 * The set is backed by the map, so changes to the map are reflected in the set. It supports removal only through
+	 * its iterator.
+	 *
+	 * @return a set view of the keys contained in this map
+	 */
+	public Keys keySet() {
+		return new Keys(this);
+	}
+
+	/**
+	 * Returns a new iterator over the values in this map, in the ascending order of their keys.
+	 *
+	 * @return a new {@link ValueIterator}
+	 */
+	public ValueIterator values() {
+		return new ValueIterator(this);
+	}
+
+	public static class Entry {
+		public char key;
+		public int value;
+
+		public Entry() {
+		}
+
+		public Entry(char key, int value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		public Entry(Entry entry) {
+			this.key = entry.key;
+			this.value = entry.value;
+		}
+
+		public char getKey() {
+			return key;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Entry entry = (Entry) o;
+			return key == entry.key && value == entry.value;
+		}
+
+		@Override
+		public int hashCode() {
+			return key * 31 + value;
+		}
+	}
+
+	public static abstract class MapIterator {
+		public boolean hasNext;
+
+		protected final CharIntMap map;
+		protected int nextIndex, currentIndex;
+
+		public MapIterator(CharIntMap map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset() {
+			currentIndex = -1;
+			nextIndex = map.nextKey(0);
+			hasNext = nextIndex != -1;
+		}
+
+		protected void findNextIndex() {
+			nextIndex = map.nextKey(nextIndex + 1);
+			hasNext = nextIndex != -1;
+		}
+
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		public void remove() {
+			if (currentIndex < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			map.remove((char) currentIndex);
+			currentIndex = -1;
+		}
+	}
+
+	public static class KeyIterator extends MapIterator implements CharIterator {
+		public KeyIterator(CharIntMap map) {
+			super(map);
+		}
+
+		@Override
+		public char nextChar() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return (char) currentIndex;
+		}
+
+		/**
+		 * Returns a new CharList containing the remaining keys.
+		 */
+		public CharList toList() {
+			CharList list = new CharList(map.size);
+			while (hasNext) {
+				list.add(nextChar());
+			}
+			return list;
+		}
+	}
+
+	public static class ValueIterator extends MapIterator implements IntIterator {
+		public ValueIterator(CharIntMap map) {
+			super(map);
+		}
+
+		@Override
+		public int nextInt() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return map.pages[currentIndex >>> PAGE_BITS][currentIndex & PAGE_MASK];
+		}
+
+		/**
+		 * Returns a new IntList containing the remaining values.
+		 */
+		public IntList toList() {
+			IntList list = new IntList(map.size);
+			while (hasNext) {
+				list.add(nextInt());
+			}
+			return list;
+		}
+	}
+
+	public static class EntryIterator extends MapIterator implements Iterable<Entry>, Iterator<Entry> {
+		public EntryIterator(CharIntMap map) {
+			super(map);
+		}
+
+		@Override
+		public Iterator<Entry> iterator() {
+			return this;
+		}
+
+		@Override
+		public Entry next() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return new Entry((char) currentIndex, map.pages[currentIndex >>> PAGE_BITS][currentIndex & PAGE_MASK]);
+		}
+	}
+
+	public static class Keys implements PrimitiveSet.SetOfChar {
+		protected CharIntMap map;
+
+		public Keys(CharIntMap map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean add(char item) {
+			throw new UnsupportedOperationException("CharIntMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean remove(char item) {
+			throw new UnsupportedOperationException("CharIntMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean contains(char item) {
+			return map.containsKey(item);
+		}
+
+		@Override
+		public KeyIterator iterator() {
+			return new KeyIterator(map);
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("CharIntMap.Keys is read-only");
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+
+		@Override
+		public int hashCode() {
+			int hc = 1;
+			for (int k = map.nextKey(0); k != -1; k = map.nextKey(k + 1)) {
+				hc ^= k;
+			}
+			return hc;
+		}
+
+		@SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+		@Override
+		public boolean equals(Object other) {
+			return SetOfChar.super.equalContents(other);
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+
+	/**
+	 * Constructs an empty map.
+	 *
+	 * @return a new map containing nothing
+	 */
+	public static CharIntMap with() {
+		return new CharIntMap();
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static CharIntMap with(char key0, int value0) {
+		CharIntMap map = new CharIntMap();
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This can be useful in some code-generation scenarios, or when you want to make a
+	 * map conveniently by-hand and have it populated at the start.
+	 *
+	 * @param key0   a char key
+	 * @param value0 an int value
+	 * @param key1   a char key
+	 * @param value1 an int value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static CharIntMap with(char key0, int value0, char key1, int value1) {
+		CharIntMap map = new CharIntMap();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This can be useful in some code-generation scenarios, or when you want to make a
+	 * map conveniently by-hand and have it populated at the start.
+	 *
+	 * @param key0   a char key
+	 * @param value0 an int value
+	 * @param key1   a char key
+	 * @param value1 an int value
+	 * @param key2   a char key
+	 * @param value2 an int value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static CharIntMap with(char key0, int value0, char key1, int value1, char key2, int value2) {
+		CharIntMap map = new CharIntMap();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+}
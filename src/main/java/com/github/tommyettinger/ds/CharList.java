@@ -1202,6 +1202,265 @@ public class CharList implements PrimitiveCollection.OfChar, Ordered.OfChar, Arr
 		}
 	}
 
+	/**
+	 * Gets the index in {@link #items} of the item at index 0, without changing how items are stored. Items are
+	 * stored in order from there to the end of {@link #items}; subclasses that use a circular buffer, such as
+	 * {@link CharDeque}, continue from index 0 after that. For a CharList, this is always 0.
+	 *
+	 * @return the index in {@link #items} of the item at index 0
+	 */
+	protected int storageStart() {
+		return 0;
+	}
+
+	/**
+	 * Gets the index in {@link #items} of the item at {@code index}, which can be from 0 to {@link #size()},
+	 * inclusive. This takes {@link #storageStart()} into account, wrapping around the end of {@link #items} if needed.
+	 */
+	private int storageIndex(int index) {
+		int start = storageStart();
+		return index < items.length - start ? start + index : index - (items.length - start);
+	}
+
+	/**
+	 * Searches this list for {@code value} using binary search. This list must be sorted in ascending order,
+	 * such as by {@link #sort()}, or the results are undefined. If this contains multiple items equal to
+	 * value, there is no guarantee which one will be found.
+	 *
+	 * @param value the char value to search for
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(char value) {
+		return binarySearch(0, size, value);
+	}
+
+	/**
+	 * Searches the range from {@code from} (inclusive) to {@code to} (exclusive) of this list for {@code value},
+	 * using binary search. That range must be sorted in ascending order, or the results are undefined.
+	 *
+	 * @param from  the first index to search, inclusive
+	 * @param to    the last index to search, exclusive
+	 * @param value the char value to search for
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(int from, int to, char value) {
+		if (from < 0 || to > size || from > to)
+			throw new IndexOutOfBoundsException("Invalid range: from=" + from + ", to=" + to + ", size=" + size);
+		char[] items = this.items;
+		int start = storageIndex(from), count = to - from, offset = from - start, end;
+		if (count <= items.length - start) {
+			end = start + count;
+		} else if (value > items[items.length - 1]) {
+			// The range wraps around the end of items, and value can only be in the part that wrapped.
+			end = count - (items.length - start);
+			offset += items.length;
+			start = 0;
+		} else {
+			// The range wraps around the end of items, and value can only be in the part before the end.
+			end = items.length;
+		}
+		int result = Arrays.binarySearch(items, start, end, value);
+		return result < 0 ? result - offset : result + offset;
+	}
+
+	/**
+	 * Merges this list with {@code other}, writing every item from both into {@code into} in ascending order.
+	 * Both this and other must already be sorted in ascending order. Duplicates are kept. Runs of items from one
+	 * list that fit between two items of the other list are found with galloping (exponential) search and copied in
+	 * bulk, so merging a short list into a long one needs far fewer comparisons than a linear merge.
+	 *
+	 * @param other another CharList sorted in ascending order
+	 * @param into  a CharList that will be cleared and then receive the merged items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public CharList mergeSorted(CharList other, CharList into) {
+		checkSortedOutput(other, into);
+		char[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		into.ensureCapacity(size + other.size);
+		while (i < na && j < nb) {
+			if (itemAt(a, sa, i) <= itemAt(b, sb, j)) {
+				int k = gallopAbove(a, sa, i + 1, na, itemAt(b, sb, j));
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else {
+				int k = gallopAtLeast(b, sb, j + 1, nb, itemAt(a, sa, i));
+				addRun(into, b, sb, j, k - j);
+				j = k;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		if (j < nb) addRun(into, b, sb, j, nb - j);
+		return into;
+	}
+
+	/**
+	 * Writes the items present in both this list and {@code other} into {@code into}, in ascending order. Both this
+	 * and other must already be sorted in ascending order. If an item appears m times here and n times in other,
+	 * it appears {@code Math.min(m, n)} times in the result. This skips through the longer list with galloping
+	 * (exponential) search, so it takes O(m log(n/m)) time when one list, of size m, is much shorter than the other,
+	 * of size n, and linear time when they have similar sizes.
+	 *
+	 * @param other another CharList sorted in ascending order
+	 * @param into  a CharList that will be cleared and then receive the shared items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public CharList intersectSorted(CharList other, CharList into) {
+		checkSortedOutput(other, into);
+		char[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		while (i < na && j < nb) {
+			char x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (x < y) {
+				i = gallopAtLeast(a, sa, i + 1, na, y);
+			} else if (y < x) {
+				j = gallopAtLeast(b, sb, j + 1, nb, x);
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list, {@code other}, or both into {@code into}, in ascending order. Both this
+	 * and other must already be sorted in ascending order. If an item appears m times here and n times in other,
+	 * it appears {@code Math.max(m, n)} times in the result. Runs of items only in one list are found with galloping
+	 * (exponential) search and copied in bulk.
+	 *
+	 * @param other another CharList sorted in ascending order
+	 * @param into  a CharList that will be cleared and then receive the combined items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public CharList unionSorted(CharList other, CharList into) {
+		checkSortedOutput(other, into);
+		char[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		into.ensureCapacity(size + other.size);
+		while (i < na && j < nb) {
+			char x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (x < y) {
+				int k = gallopAtLeast(a, sa, i + 1, na, y);
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else if (y < x) {
+				int k = gallopAtLeast(b, sb, j + 1, nb, x);
+				addRun(into, b, sb, j, k - j);
+				j = k;
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		if (j < nb) addRun(into, b, sb, j, nb - j);
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list but not in {@code other} into {@code into}, in ascending order. Both
+	 * this and other must already be sorted in ascending order. If an item appears m times here and n times in
+	 * other, it appears {@code Math.max(m - n, 0)} times in the result. Runs of items are found with galloping
+	 * (exponential) search, and runs that are kept are copied in bulk.
+	 *
+	 * @param other another CharList sorted in ascending order
+	 * @param into  a CharList that will be cleared and then receive the remaining items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public CharList differenceSorted(CharList other, CharList into) {
+		checkSortedOutput(other, into);
+		char[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		while (i < na && j < nb) {
+			char x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (x < y) {
+				int k = gallopAtLeast(a, sa, i + 1, na, y);
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else if (y < x) {
+				j = gallopAtLeast(b, sb, j + 1, nb, x);
+			} else {
+				i++;
+				j++;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		return into;
+	}
+
+	private void checkSortedOutput(CharList other, CharList into) {
+		if (into == this || into == other)
+			throw new IllegalArgumentException("The output list must not be one of the input lists.");
+	}
+
+	/**
+	 * Gets the item at {@code index} of the items stored in {@code a} starting at {@code start}, where items past the
+	 * end of {@code a} continue from its beginning. This is how deques store their items; lists always have
+	 * {@code start} equal to 0, so they never wrap.
+	 */
+	private static char itemAt(char[] a, int start, int index) {
+		return a[index < a.length - start ? start + index : index - (a.length - start)];
+	}
+
+	/**
+	 * Adds {@code count} items to {@code into}, starting at {@code index} of the items stored in {@code a} starting
+	 * at {@code start}, splitting the copy in two if it wraps around the end of {@code a}.
+	 */
+	private static void addRun(CharList into, char[] a, int start, int index, int count) {
+		int p = index < a.length - start ? start + index : index - (a.length - start);
+		int run = Math.min(count, a.length - p);
+		into.addAll(a, p, run);
+		if (run < count) into.addAll(a, 0, count - run);
+	}
+
+	/**
+	 * Finds the first index from {@code from} (inclusive) to {@code to} (exclusive) where the items stored in
+	 * {@code a}, starting at {@code start} and wrapping around its end as in {@link #itemAt}, have an item that is not
+	 * less than {@code key}, or {@code to} if there is no such index. The range must be sorted. This checks
+	 * indices from, from+1, from+3, from+7, and so on until it passes key, then binary searches the last gap, so it
+	 * takes time logarithmic in the distance to the result rather than in the size of the range.
+	 */
+	private static int gallopAtLeast(char[] a, int start, int from, int to, char key) {
+		int lo = from, hi = from, step = 1;
+		while (hi < to && itemAt(a, start, hi) < key) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (itemAt(a, start, mid) < key) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Like {@link #gallopAtLeast(char[], int, int, int, char)}, but finds the first index with an item greater than
+	 * {@code key}.
+	 */
+	private static int gallopAbove(char[] a, int start, int from, int to, char key) {
+		int lo = from, hi = from, step = 1;
+		while (hi < to && itemAt(a, start, hi) <= key) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (itemAt(a, start, mid) <= key) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
 	@Override
 	public void reverse() {
 		char[] items = this.items;
@@ -1312,6 +1571,22 @@ public class CharList implements PrimitiveCollection.OfChar, Ordered.OfChar, Arr
 		if (n != csq.length()) {
 			return false;
 		}
+		if (csq instanceof CharList) {
+			CharList list = (CharList) csq;
+			char[] a = items, b = list.items;
+			int i = storageStart(), j = list.storageStart();
+			// A deque can wrap around the end of its array, so this compares runs that don't wrap on either side.
+			while (n > 0) {
+				int run = Math.min(n, Math.min(a.length - i, b.length - j));
+				if (!ArraySupport.rangeEquals(a, i, b, j, run)) {
+					return false;
+				}
+				n -= run;
+				if ((i += run) == a.length) i = 0;
+				if ((j += run) == b.length) j = 0;
+			}
+			return true;
+		}
 		char[] items1 = this.items;
 		for (int i = 0; i < n; i++) {
 			if (items1[i] != csq.charAt(i)) {
@@ -0,0 +1,947 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+import com.github.tommyettinger.ds.support.util.Appender;
+import com.github.tommyettinger.ds.support.util.CharAppender;
+import com.github.tommyettinger.ds.support.util.CharIterator;
+import com.github.tommyettinger.function.CharObjBiConsumer;
+import com.github.tommyettinger.function.CharObjToObjBiFunction;
+import com.github.tommyettinger.function.CharToObjFunction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A map where the keys are unboxed chars and the values are objects. Unlike {@link IntObjectMap}, this never hashes
+ * anything; a char key is used directly as an index into a two-level table of "pages," each holding the values for
+ * 256 consecutive chars, and presence of a key is tracked by a bit set that works like the {@code int[]} in
+ * {@link CharBitSet}. This makes {@link #get(char)}, {@link #put(char, Object)}, {@link #containsKey(char)}, and
+ * {@link #remove(char)} all truly O(1), with no probing and no collisions. Iteration always goes in ascending key
+ * order. Null values are allowed, and are distinguished from missing keys by {@link #containsKey(char)}.
+ * <br>
+ * Pages are only allocated when a key in their range is first put into the map, so a map that only contains ASCII
+ * chars only allocates one page of 256 references, plus a 256-element array of page references and a few ints of
+ * bits. This is a good fit for glyph caches, tokenizers, and other code that maps chars to objects at very high
+ * rates.
+ * <br>
+ * If a key isn't present, methods that look up a value return {@link #defaultValue}, which is null unless changed.
+ *
+ * @param <V> the type of values
+ * @see CharIntMap CharIntMap is the same data structure with int values.
+ */
+public class CharObjectMap<V> implements Iterable<CharObjectMap.Entry<V>> {
+	/**
+	 * How many bits of a char are used to select an index within a page; the rest select the page.
+	 */
+	protected static final int PAGE_BITS = 8;
+	/**
+	 * How many values a single page holds.
+	 */
+	protected static final int PAGE_SIZE = 1 << PAGE_BITS;
+	/**
+	 * Masks a char to get its index within its page.
+	 */
+	protected static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	protected int size;
+
+	/**
+	 * The raw bits, each one representing the presence or absence of a key at a position. This grows as needed to
+	 * fit the highest key, the same way {@link CharBitSet} grows.
+	 */
+	protected int[] bits;
+
+	/**
+	 * The value pages, indexed by {@code key >>> PAGE_BITS}. A page is null until a key in its range is put here.
+	 */
+	protected Object[][] pages;
+
+	public V defaultValue = null;
+
+	/**
+	 * Creates a new, empty map. This doesn't allocate any value pages until a key is put into it.
+	 */
+	public CharObjectMap() {
+		bits = new int[1];
+		pages = new Object[65536 >>> PAGE_BITS][];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map. Only the pages that are in use by {@code map} are copied,
+	 * and values are copied by reference.
+	 *
+	 * @param map the map to copy
+	 */
+	public CharObjectMap(CharObjectMap<? extends V> map) {
+		bits = Arrays.copyOf(map.bits, map.bits.length);
+		pages = new Object[map.pages.length][];
+		for (int i = 0; i < pages.length; i++) {
+			if (map.pages[i] != null)
+				pages[i] = Arrays.copyOf(map.pages[i], PAGE_SIZE);
+		}
+		size = map.size;
+		defaultValue = map.defaultValue;
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public CharObjectMap(char[] keys, V[] values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a Collection of values
+	 */
+	public CharObjectMap(PrimitiveCollection.OfChar keys, Collection<? extends V> values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a Collection of values
+	 */
+	public void putAll(PrimitiveCollection.OfChar keys, Collection<? extends V> values) {
+		CharIterator ki = keys.iterator();
+		Iterator<? extends V> vi = values.iterator();
+		while (ki.hasNext() && vi.hasNext()) {
+			put(ki.nextChar(), vi.next());
+		}
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public void putAll(char[] keys, V[] values) {
+		putAll(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys        an array of keys
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAll(char[] keys, int keyOffset, V[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		for (int k = keyOffset, v = valueOffset, i = 0; i < length; i++, k++, v++) {
+			put(keys[k], values[v]);
+		}
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(CharObjectMap<? extends V> map) {
+		int[] otherBits = map.bits;
+		for (int word = 0; word < otherBits.length; word++) {
+			int w = otherBits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				put((char) key, (V) map.pages[key >>> PAGE_BITS][key & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	private void checkCapacity(int word) {
+		if (word >= bits.length) {
+			int[] newBits = new int[1 << -BitConversion.countLeadingZeros(word)]; // resizes to next power of two size that can fit word
+			System.arraycopy(bits, 0, newBits, 0, bits.length);
+			bits = newBits;
+		}
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no prior value.
+	 */
+	public V put(char key, V value) {
+		return putOrDefault(key, value, defaultValue);
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or the given {@code defaultValue} if there was no prior value.
+	 */
+	@SuppressWarnings("unchecked")
+	public V putOrDefault(char key, V value, V defaultValue) {
+		final int word = key >>> 5;
+		checkCapacity(word);
+		Object[] page = pages[key >>> PAGE_BITS];
+		if (page == null) {
+			page = pages[key >>> PAGE_BITS] = new Object[PAGE_SIZE];
+		}
+		V old = defaultValue;
+		if ((bits[word] & 1 << key) != 0) {
+			old = (V) page[key & PAGE_MASK];
+		} else {
+			bits[word] |= 1 << key;
+			size++;
+		}
+		page[key & PAGE_MASK] = value;
+		return old;
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #defaultValue} if the key is not in the map.
+	 *
+	 * @param key any {@code char}
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(char key) {
+		final int word = key >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << key) == 0) return defaultValue;
+		return (V) pages[key >>> PAGE_BITS][key & PAGE_MASK];
+	}
+
+	/**
+	 * Returns the value for the specified key, or the given default value if the key is not in the map.
+	 */
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(char key, V defaultValue) {
+		final int word = key >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << key) == 0) return defaultValue;
+		return (V) pages[key >>> PAGE_BITS][key & PAGE_MASK];
+	}
+
+	/**
+	 * Removes the given key, if present, and returns the value that was associated with it, or {@link #defaultValue}
+	 * if the key was not present. The slot the value occupied is set to null so it can be garbage-collected, but the
+	 * page itself is kept; you can call {@link #shrink()} to release pages that are no longer used.
+	 *
+	 * @param key any {@code char}
+	 * @return the value that was associated with key, or {@link #defaultValue} if it wasn't present
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(char key) {
+		final int word = key >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << key) == 0) return defaultValue;
+		bits[word] &= ~(1 << key);
+		size--;
+		Object[] page = pages[key >>> PAGE_BITS];
+		V old = (V) page[key & PAGE_MASK];
+		page[key & PAGE_MASK] = null;
+		return old;
+	}
+
+	public boolean containsKey(char key) {
+		final int word = key >>> 5;
+		return word < bits.length && (bits[word] & 1 << key) != 0;
+	}
+
+	/**
+	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value,
+	 * which may be an expensive operation.
+	 */
+	public boolean containsValue(Object value) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				if (Objects.equals(pages[key >>> PAGE_BITS][key & PAGE_MASK], value)) return true;
+				w &= w - 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lowest key that maps to the specified value, or {@code defaultKey} if value is not in the map.
+	 * Note, this traverses the entire map and compares every value, which may be an expensive operation.
+	 *
+	 * @param value      the value to search for
+	 * @param defaultKey the key to return when value cannot be found
+	 * @return a key that maps to value, if present, or defaultKey if value cannot be found
+	 */
+	public char findKey(Object value, char defaultKey) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				if (Objects.equals(pages[key >>> PAGE_BITS][key & PAGE_MASK], value)) return (char) key;
+				w &= w - 1;
+			}
+		}
+		return defaultKey;
+	}
+
+	/**
+	 * Returns the lowest key present in this map that is greater than or equal to {@code fromKey}, or -1 if there is
+	 * no such key. This can be used to iterate over keys in ascending order without allocating an iterator.
+	 *
+	 * @param fromKey the lowest key to consider; may be negative, which acts like 0
+	 * @return the next present key on or after fromKey, as an int, or -1 if none is present
+	 */
+	public int nextKey(int fromKey) {
+		if (fromKey < 0) fromKey = 0;
+		int[] bits = this.bits;
+		int word = fromKey >>> 5;
+		if (word >= bits.length)
+			return -1;
+		int bitsAtWord = bits[word] & -1 << fromKey;
+		if (bitsAtWord != 0) {
+			return BitConversion.countTrailingZeros(bitsAtWord) + (word << 5);
+		}
+		for (word++; word < bits.length; word++) {
+			bitsAtWord = bits[word];
+			if (bitsAtWord != 0) {
+				return BitConversion.countTrailingZeros(bitsAtWord) + (word << 5);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns true if the map has one or more items.
+	 */
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Returns the number of key-value mappings in this map. This runs in O(1) time.
+	 *
+	 * @return the number of key-value mappings in this map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the map is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the default value, a {@code V} which is returned by {@link #get(char)} if the key is not found.
+	 * If not changed, the default value is null.
+	 *
+	 * @return the current default value
+	 */
+	public V getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Sets the default value, a {@code V} which is returned by {@link #get(char)} if the key is not found.
+	 * If not changed, the default value is null. Note that {@link #getOrDefault(char, Object)} is also available,
+	 * which allows specifying a "not-found" value per-call.
+	 *
+	 * @param defaultValue may be any V object or null; should usually be one that doesn't occur as a typical value
+	 */
+	public void setDefaultValue(V defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Removes all keys from this map. Allocated pages are kept for reuse, but have their contents set to null.
+	 */
+	public void clear() {
+		if (size == 0) return;
+		size = 0;
+		Arrays.fill(bits, 0);
+		for (int i = 0; i < pages.length; i++) {
+			if (pages[i] != null) Utilities.clear(pages[i]);
+		}
+	}
+
+	/**
+	 * Releases any value pages that no longer contain any present keys, and shrinks the presence bits to fit the
+	 * highest present key. This is the only way pages are freed.
+	 */
+	public void shrink() {
+		int[] bits = this.bits;
+		int wordsPerPage = PAGE_SIZE >>> 5;
+		for (int p = 0; p < pages.length; p++) {
+			if (pages[p] == null) continue;
+			boolean empty = true;
+			for (int w = p * wordsPerPage, e = Math.min(w + wordsPerPage, bits.length); w < e; w++) {
+				if (bits[w] != 0) {
+					empty = false;
+					break;
+				}
+			}
+			if (empty) pages[p] = null;
+		}
+		int top = bits.length;
+		while (top > 1 && bits[top - 1] == 0) top--;
+		if (top < bits.length) {
+			this.bits = Arrays.copyOf(bits, 1 << -BitConversion.countLeadingZeros(top - 1));
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		int h = size;
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				h ^= key;
+				Object value = pages[key >>> PAGE_BITS][key & PAGE_MASK];
+				if (value != null) h ^= value.hashCode();
+				w &= w - 1;
+			}
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof CharObjectMap)) {
+			return false;
+		}
+		CharObjectMap<?> other = (CharObjectMap<?>) obj;
+		if (other.size != size) {
+			return false;
+		}
+		int[] bits = this.bits, otherBits = other.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			if (w != (word < otherBits.length ? otherBits[word] : 0)) return false;
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				if (!Objects.equals(pages[key >>> PAGE_BITS][key & PAGE_MASK], other.pages[key >>> PAGE_BITS][key & PAGE_MASK]))
+					return false;
+				w &= w - 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets a String representation of this map using {@link CharAppender#QUOTED} to get the String form of keys and
+	 * {@code Appender::append} to get the String form of values.
+	 * Separates keys from values using "=", and separates entries using ", ". Wraps the output in curly braces.
+	 *
+	 * @return a String representation of this map
+	 */
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with the given entrySeparator and without braces.
+	 * This is different from {@link #toString()}, which includes braces by default.
+	 *
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator) {
+		return toString(entrySeparator, false);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(8 * size()), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Makes a String from the contents of this CharObjectMap, but uses the given {@link CharAppender} and
+	 * {@link Appender} to convert each key and each value to a customizable representation and append them
+	 * to a temporary StringBuilder.
+	 *
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a CharAppender that can take a char key, such as {@link CharAppender#QUOTED}
+	 * @param valueAppender     a function that takes an Appendable CharSequence and a V, and returns the modified sequence
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator, String keyValueSeparator, boolean braces,
+						   CharAppender keyAppender, Appender<V> valueAppender) {
+		return appendTo(new StringBuilder(8 * size()), entrySeparator, keyValueSeparator, braces, keyAppender, valueAppender).toString();
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this CharObjectMap. Uses
+	 * {@link CharAppender#QUOTED} to write keys and {@link Appender#append(CharSequence, Object)} to write values.
+	 * Uses {@code "="} to separate keys from their values. Uses {@code entrySeparator} to separate entries.
+	 * If {@code braces} is true, wraps the output in curly braces.
+	 *
+	 * @param sb             an Appendable CharSequence that this can append to
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @param braces         true to wrap the output in curly braces, or false to omit them
+	 * @param <S>            any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, CharAppender.QUOTED, Appender::append);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this CharObjectMap, but uses the given
+	 * {@link CharAppender} and {@link Appender} to convert each key and each value to a customizable
+	 * representation and append them to {@code sb}. Entries are appended in ascending key order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a CharAppender that can take a char key, such as {@link CharAppender#QUOTED}
+	 * @param valueAppender     a function that takes an Appendable CharSequence and a V, and returns the modified sequence
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															CharAppender keyAppender, Appender<V> valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			int[] bits = this.bits;
+			for (int word = 0; word < bits.length; word++) {
+				int w = bits[word];
+				while (w != 0) {
+					int key = word << 5 | BitConversion.countTrailingZeros(w);
+					if (!first) sb.append(entrySeparator);
+					first = false;
+					keyAppender.apply(sb, (char) key).append(keyValueSeparator);
+					valueAppender.apply(sb, (V) pages[key >>> PAGE_BITS][key & PAGE_MASK]);
+					w &= w - 1;
+				}
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Performs the given action for each entry in this map, in ascending key order, until all entries
+	 * have been processed or the action throws an exception. This does not allocate.
+	 *
+	 * @param action The action to be performed for each entry
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(CharObjBiConsumer<? super V> action) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				action.accept((char) key, (V) pages[key >>> PAGE_BITS][key & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	/**
+	 * Replaces each entry's value with the result of invoking the given
+	 * function on that entry until all entries have been processed or the
+	 * function throws an exception.
+	 *
+	 * @param function the function to apply to each entry
+	 */
+	@SuppressWarnings("unchecked")
+	public void replaceAll(CharObjToObjBiFunction<? super V, ? extends V> function) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int key = word << 5 | BitConversion.countTrailingZeros(w);
+				Object[] page = pages[key >>> PAGE_BITS];
+				page[key & PAGE_MASK] = function.apply((char) key, (V) page[key & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public V putIfAbsent(char key, V value) {
+		if (containsKey(key)) {
+			return (V) pages[key >>> PAGE_BITS][key & PAGE_MASK];
+		}
+		return put(key, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V replace(char key, V value) {
+		if (containsKey(key)) {
+			Object[] page = pages[key >>> PAGE_BITS];
+			V old = (V) page[key & PAGE_MASK];
+			page[key & PAGE_MASK] = value;
+			return old;
+		}
+		return defaultValue;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V computeIfAbsent(char key, CharToObjFunction<? extends V> mappingFunction) {
+		if (containsKey(key)) {
+			return (V) pages[key >>> PAGE_BITS][key & PAGE_MASK];
+		}
+		V newValue = mappingFunction.apply(key);
+		put(key, newValue);
+		return newValue;
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator}, which iterates in ascending key order.
+	 * You can remove an Entry from this map using this Iterator.
+	 *
+	 * @return an {@link Iterator} over key-value pairs as {@link Entry} values
+	 */
+	@Override
+	public EntryIterator<V> iterator() {
+		return new EntryIterator<>(this);
+	}
+
+	/**
+	 * Returns a {@link PrimitiveSet.SetOfChar} view of the keys contained in this map, in ascending order.
+	 * The set is backed by the map, so changes to the map are reflected in the set. It supports removal only through
+	 * its iterator.
+	 *
+	 * @return a set view of the keys contained in this map
+	 */
+	public Keys<V> keySet() {
+		return new Keys<>(this);
+	}
+
+	/**
+	 * Returns a new iterator over the values in this map, in the ascending order of their keys.
+	 *
+	 * @return a new {@link ValueIterator}
+	 */
+	public ValueIterator<V> values() {
+		return new ValueIterator<>(this);
+	}
+
+	public static class Entry<V> {
+		public char key;
+		public V value;
+
+		public Entry() {
+		}
+
+		public Entry(char key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		public Entry(Entry<? extends V> entry) {
+			this.key = entry.key;
+			this.value = entry.value;
+		}
+
+		public char getKey() {
+			return key;
+		}
+
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Entry<?> entry = (Entry<?>) o;
+			return key == entry.key && Objects.equals(value, entry.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return key * 31 + (value == null ? 0 : value.hashCode());
+		}
+	}
+
+	public static abstract class MapIterator<V> {
+		public boolean hasNext;
+
+		protected final CharObjectMap<V> map;
+		protected int nextIndex, currentIndex;
+
+		public MapIterator(CharObjectMap<V> map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset() {
+			currentIndex = -1;
+			nextIndex = map.nextKey(0);
+			hasNext = nextIndex != -1;
+		}
+
+		protected void findNextIndex() {
+			nextIndex = map.nextKey(nextIndex + 1);
+			hasNext = nextIndex != -1;
+		}
+
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		public void remove() {
+			if (currentIndex < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			map.remove((char) currentIndex);
+			currentIndex = -1;
+		}
+	}
+
+	public static class KeyIterator<V> extends MapIterator<V> implements CharIterator {
+		public KeyIterator(CharObjectMap<V> map) {
+			super(map);
+		}
+
+		@Override
+		public char nextChar() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return (char) currentIndex;
+		}
+
+		/**
+		 * Returns a new CharList containing the remaining keys.
+		 */
+		public CharList toList() {
+			CharList list = new CharList(map.size);
+			while (hasNext) {
+				list.add(nextChar());
+			}
+			return list;
+		}
+	}
+
+	public static class ValueIterator<V> extends MapIterator<V> implements Iterable<V>, Iterator<V> {
+		public ValueIterator(CharObjectMap<V> map) {
+			super(map);
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V next() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return (V) map.pages[currentIndex >>> PAGE_BITS][currentIndex & PAGE_MASK];
+		}
+
+		/**
+		 * Returns a new ObjectList containing the remaining values.
+		 */
+		public ObjectList<V> toList() {
+			ObjectList<V> list = new ObjectList<>(map.size);
+			while (hasNext) {
+				list.add(next());
+			}
+			return list;
+		}
+	}
+
+	public static class EntryIterator<V> extends MapIterator<V> implements Iterable<Entry<V>>, Iterator<Entry<V>> {
+		public EntryIterator(CharObjectMap<V> map) {
+			super(map);
+		}
+
+		@Override
+		public Iterator<Entry<V>> iterator() {
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<V> next() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return new Entry<>((char) currentIndex, (V) map.pages[currentIndex >>> PAGE_BITS][currentIndex & PAGE_MASK]);
+		}
+	}
+
+	public static class Keys<V> implements PrimitiveSet.SetOfChar {
+		protected CharObjectMap<V> map;
+
+		public Keys(CharObjectMap<V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean add(char item) {
+			throw new UnsupportedOperationException("CharObjectMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean remove(char item) {
+			throw new UnsupportedOperationException("CharObjectMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean contains(char item) {
+			return map.containsKey(item);
+		}
+
+		@Override
+		public KeyIterator<V> iterator() {
+			return new KeyIterator<>(map);
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("CharObjectMap.Keys is read-only");
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+
+		@Override
+		public int hashCode() {
+			int hc = 1;
+			for (int k = map.nextKey(0); k != -1; k = map.nextKey(k + 1)) {
+				hc ^= k;
+			}
+			return hc;
+		}
+
+		@SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+		@Override
+		public boolean equals(Object other) {
+			return SetOfChar.super.equalContents(other);
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+
+	/**
+	 * Constructs an empty map given the types as generic type arguments.
+	 *
+	 * @param <V> the type of values
+	 * @return a new map containing nothing
+	 */
+	public static <V> CharObjectMap<V> with() {
+		return new CharObjectMap<>();
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @param <V>    the type of value0
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static <V> CharObjectMap<V> with(char key0, V value0) {
+		CharObjectMap<V> map = new CharObjectMap<>();
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   a char key
+	 * @param value0 a V value
+	 * @param key1   a char key
+	 * @param value1 a V value
+	 * @param <V>    the type of values
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static <V> CharObjectMap<V> with(char key0, V value0, char key1, V value1) {
+		CharObjectMap<V> map = new CharObjectMap<>();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   a char key
+	 * @param value0 a V value
+	 * @param key1   a char key
+	 * @param value1 a V value
+	 * @param key2   a char key
+	 * @param value2 a V value
+	 * @param <V>    the type of values
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static <V> CharObjectMap<V> with(char key0, V value0, char key1, V value1, char key2, V value2) {
+		CharObjectMap<V> map = new CharObjectMap<>();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+/**
+ * Used by bidirectional maps such as {@link IntIntBiMap} and {@link ObjectIntBiMap} to determine what happens when
+ * a put would associate a value with a key, but that value is already associated with a different key. Because a
+ * bidirectional map must be able to look up a key from its value, each value can only belong to one key at a time.
+ * <br>
+ * The default for bidirectional maps is {@link #THROW}, which matches what you would want when interning IDs, where
+ * a duplicate value indicates a bug. {@link #REPLACE} is useful when the newest association should always win, and
+ * {@link #IGNORE} is useful when the first association should always win.
+ */
+public enum CollisionPolicy {
+	/**
+	 * A put that would give a value to a second key throws an {@link IllegalArgumentException} and leaves the map
+	 * unchanged.
+	 */
+	THROW,
+	/**
+	 * A put that would give a value to a second key first removes the older key that had that value, then performs
+	 * the put normally.
+	 */
+	REPLACE,
+	/**
+	 * A put that would give a value to a second key does nothing, leaving the older key with that value.
+	 */
+	IGNORE;
+}
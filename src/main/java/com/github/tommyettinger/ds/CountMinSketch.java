@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * Estimates how many times each item has been added, using a fixed amount of memory no matter how many distinct items
+ * there are. Where an {@link ObjectIntMap} or {@link LongLongMap} used for counting grows with every distinct key,
+ * this keeps {@link #getDepth() depth} rows of {@link #getWidth() width} counters, and each item adds to one counter
+ * per row; the estimate for an item is the smallest of its counters. Estimates are never lower than the true count,
+ * and are higher by at most about {@code e / width} times the total of all counts, with probability at least
+ * {@code 1 - e ^ -depth}. Adding and estimating take constant time and never allocate.
+ * <br>
+ * With conservative update, which can be chosen in the constructor, adding only raises the counters that need to be
+ * raised to keep every estimate correct, instead of all of them; this makes the estimates for rare items much more
+ * accurate, but counts can't then be negative.
+ * <br>
+ * Items can be Objects (hashed with {@link Object#hashCode()}), ints, or longs, hashed as in {@link HyperLogLog}: an
+ * int and a long with the same value count as the same item, and so does an Object whose hashCode() is that int. Two
+ * sketches with the same width, depth, and seed can be combined with {@link #merge(CountMinSketch)}.
+ */
+public class CountMinSketch {
+	protected final long[] counts;
+	protected final int width, depth;
+	protected final boolean conservative;
+	protected final int seed;
+	/**
+	 * Mixed into every hash; derived from {@link #seed} and {@link Utilities#GOOD_MULTIPLIERS}.
+	 */
+	protected final long seedMix;
+	protected long totalCount;
+
+	/**
+	 * Creates a sketch with the given number of counters per row and number of rows, without conservative update, and
+	 * with a seed of 0.
+	 *
+	 * @param width how many counters each row has; at least 1
+	 * @param depth how many rows there are; between 1 and 32
+	 */
+	public CountMinSketch(int width, int depth) {
+		this(width, depth, false, 0);
+	}
+
+	/**
+	 * Creates a sketch with the given number of counters per row and number of rows.
+	 *
+	 * @param width        how many counters each row has; at least 1
+	 * @param depth        how many rows there are; between 1 and 32
+	 * @param conservative if true, use conservative update, which is more accurate but can't take negative counts
+	 * @param seed         any int; only sketches with the same seed can be merged
+	 */
+	public CountMinSketch(int width, int depth, boolean conservative, int seed) {
+		if (width < 1 || depth < 1 || depth > 32 || (long) width * depth > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Invalid width " + width + " or depth " + depth);
+		}
+		this.width = width;
+		this.depth = depth;
+		this.conservative = conservative;
+		this.seed = seed;
+		seedMix = (long) Utilities.GOOD_MULTIPLIERS[seed & 255] << 32 ^ Utilities.GOOD_MULTIPLIERS[(seed >>> 8 & 255) + 256];
+		counts = new long[width * depth];
+	}
+
+	/**
+	 * Creates a copy of {@code other}.
+	 *
+	 * @param other another CountMinSketch to copy
+	 */
+	public CountMinSketch(CountMinSketch other) {
+		this(other.width, other.depth, other.conservative, other.seed);
+		System.arraycopy(other.counts, 0, counts, 0, counts.length);
+		totalCount = other.totalCount;
+	}
+
+	/**
+	 * Creates a sketch whose estimates are within {@code epsilon} times the total count of the true count, with
+	 * probability at least {@code 1 - delta}.
+	 *
+	 * @param epsilon      the relative error, such as 0.001
+	 * @param delta        the chance of an estimate being outside the error bound, such as 0.01
+	 * @param conservative if true, use conservative update, which is more accurate but can't take negative counts
+	 * @return a new CountMinSketch with the width and depth needed for those bounds
+	 */
+	public static CountMinSketch withError(double epsilon, double delta, boolean conservative) {
+		if (!(epsilon > 0.0 && delta > 0.0 && delta < 1.0)) {
+			throw new IllegalArgumentException("Invalid epsilon " + epsilon + " or delta " + delta);
+		}
+		return new CountMinSketch((int) Math.min(1 << 28, Math.ceil(Math.E / epsilon)),
+			(int) Math.min(32, Math.max(1, Math.ceil(Math.log(1.0 / delta)))), conservative, 0);
+	}
+
+	/**
+	 * Mixes a 64-bit input and the seed into a 64-bit hash.
+	 */
+	protected long hash(long item) {
+		long z = (item ^ seedMix) * 0xD1B54A32D192ED03L;
+		z = (z ^ z >>> 31) * 0xF1357AEA2E62A9C5L;
+		return z ^ z >>> 29;
+	}
+
+	/**
+	 * Adds {@code count} for an already-mixed 64-bit hash. Each row's counter is chosen by enhanced double hashing of
+	 * the two halves of the hash.
+	 *
+	 * @return the new estimate for the item
+	 */
+	protected long addHash(long hash, long count) {
+		if (conservative && count < 0L) {
+			throw new IllegalArgumentException("Conservative update can't add a negative count: " + count);
+		}
+		totalCount += count;
+		final long[] counts = this.counts;
+		int h1 = (int) (hash >>> 32), h2 = (int) hash;
+		if (!conservative) {
+			long min = Long.MAX_VALUE;
+			for (int row = 0, base = 0; row < depth; row++, base += width) {
+				final int i = base + (int) ((h1 & 0xFFFFFFFFL) * width >>> 32);
+				min = Math.min(min, counts[i] += count);
+				h1 += h2;
+				h2 += row;
+			}
+			return min;
+		}
+		final int startH1 = h1, startH2 = h2;
+		long min = Long.MAX_VALUE;
+		for (int row = 0, base = 0; row < depth; row++, base += width) {
+			min = Math.min(min, counts[base + (int) ((h1 & 0xFFFFFFFFL) * width >>> 32)]);
+			h1 += h2;
+			h2 += row;
+		}
+		final long target = min + count;
+		h1 = startH1;
+		h2 = startH2;
+		for (int row = 0, base = 0; row < depth; row++, base += width) {
+			final int i = base + (int) ((h1 & 0xFFFFFFFFL) * width >>> 32);
+			if (counts[i] < target) counts[i] = target;
+			h1 += h2;
+			h2 += row;
+		}
+		return target;
+	}
+
+	/**
+	 * Gets the estimate for an already-mixed 64-bit hash.
+	 */
+	protected long estimateHash(long hash) {
+		final long[] counts = this.counts;
+		int h1 = (int) (hash >>> 32), h2 = (int) hash;
+		long min = Long.MAX_VALUE;
+		for (int row = 0, base = 0; row < depth; row++, base += width) {
+			min = Math.min(min, counts[base + (int) ((h1 & 0xFFFFFFFFL) * width >>> 32)]);
+			h1 += h2;
+			h2 += row;
+		}
+		return min;
+	}
+
+	/**
+	 * Adds 1 to the count for an Object item, using its {@link Object#hashCode()}.
+	 *
+	 * @param item the item to count; must not be null
+	 * @return the new estimate for {@code item}
+	 */
+	public long add(Object item) {
+		return addHash(hash(item.hashCode()), 1L);
+	}
+
+	/**
+	 * Adds {@code count} to the count for an Object item, using its {@link Object#hashCode()}.
+	 *
+	 * @param item  the item to count; must not be null
+	 * @param count how much to add; can only be negative without conservative update
+	 * @return the new estimate for {@code item}
+	 */
+	public long add(Object item, long count) {
+		return addHash(hash(item.hashCode()), count);
+	}
+
+	/**
+	 * Adds 1 to the count for an int item.
+	 *
+	 * @param item the item to count
+	 * @return the new estimate for {@code item}
+	 */
+	public long add(int item) {
+		return addHash(hash(item), 1L);
+	}
+
+	/**
+	 * Adds {@code count} to the count for an int item.
+	 *
+	 * @param item  the item to count
+	 * @param count how much to add; can only be negative without conservative update
+	 * @return the new estimate for {@code item}
+	 */
+	public long add(int item, long count) {
+		return addHash(hash(item), count);
+	}
+
+	/**
+	 * Adds 1 to the count for a long item.
+	 *
+	 * @param item the item to count
+	 * @return the new estimate for {@code item}
+	 */
+	public long add(long item) {
+		return addHash(hash(item), 1L);
+	}
+
+	/**
+	 * Adds {@code count} to the count for a long item.
+	 *
+	 * @param item  the item to count
+	 * @param count how much to add; can only be negative without conservative update
+	 * @return the new estimate for {@code item}
+	 */
+	public long add(long item, long count) {
+		return addHash(hash(item), count);
+	}
+
+	/**
+	 * Estimates how many times an Object item was added; never less than the true count.
+	 *
+	 * @param item the item to look up; must not be null
+	 * @return an estimate of the count for {@code item}
+	 */
+	public long estimate(Object item) {
+		return estimateHash(hash(item.hashCode()));
+	}
+
+	/**
+	 * Estimates how many times an int item was added; never less than the true count.
+	 *
+	 * @param item the item to look up
+	 * @return an estimate of the count for {@code item}
+	 */
+	public long estimate(int item) {
+		return estimateHash(hash(item));
+	}
+
+	/**
+	 * Estimates how many times a long item was added; never less than the true count.
+	 *
+	 * @param item the item to look up
+	 * @return an estimate of the count for {@code item}
+	 */
+	public long estimate(long item) {
+		return estimateHash(hash(item));
+	}
+
+	/**
+	 * Adds every count in {@code other} to this, so estimates cover the items added to both.
+	 *
+	 * @param other another CountMinSketch with the same width, depth, and seed
+	 * @throws IllegalArgumentException if {@code other} has a different width, depth, or seed
+	 */
+	public void merge(CountMinSketch other) {
+		if (other.width != width || other.depth != depth || other.seed != seed) {
+			throw new IllegalArgumentException("CountMinSketches must have the same width, depth, and seed to be merged.");
+		}
+		final long[] counts = this.counts, others = other.counts;
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += others[i];
+		}
+		totalCount += other.totalCount;
+	}
+
+	/**
+	 * @return the sum of every count added
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	public boolean isConservative() {
+		return conservative;
+	}
+
+	public int getSeed() {
+		return seed;
+	}
+
+	public void clear() {
+		Arrays.fill(counts, 0L);
+		totalCount = 0L;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CountMinSketch other = (CountMinSketch) o;
+		return width == other.width && depth == other.depth && seed == other.seed
+			&& conservative == other.conservative && Arrays.equals(counts, other.counts);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(counts) * 31 + seed;
+	}
+
+	@Override
+	public String toString() {
+		return "CountMinSketch with width " + width + ", depth " + depth + ", and total count " + totalCount;
+	}
+}
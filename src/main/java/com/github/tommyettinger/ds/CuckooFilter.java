@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+
+import java.util.Arrays;
+
+/**
+ * The shared parts of {@link ObjectCuckooFilter}, {@link IntCuckooFilter}, and {@link LongCuckooFilter}. Like a
+ * {@link BloomFilter}, a cuckoo filter can say that an item is definitely not present, or that it might be present, but
+ * it can also remove items that were added. Each item is stored as a 16-bit fingerprint in one of two buckets of four
+ * fingerprints; each bucket is one long in {@link #buckets}, so every check reads at most two longs. When both buckets
+ * for a new item are full, fingerprints already in the table are moved to their other buckets to make room, as in
+ * cuckoo hashing.
+ * <br>
+ * The false positive rate is at most about 8 in 65535 (0.012%) when the filter is full, and lower when it is not; that
+ * is better than a Bloom filter with a similar number of bits per item. The table has a fixed size, chosen from the
+ * capacity given to the constructor; once it is full, adding more items fails and returns false. Only remove an item
+ * that was definitely added, because removing an item that was never added can remove the fingerprint of a different
+ * item that shares it.
+ * <br>
+ * The hashes are mixed with two multipliers from {@link Utilities#GOOD_MULTIPLIERS}, chosen by the seed, in the same
+ * way as {@link BloomFilter}. A filter can be stored as a long array with {@link #toLongArray()} and restored by a
+ * constructor that takes that array.
+ */
+public abstract class CuckooFilter {
+	/**
+	 * How many times fingerprints will be moved to make room for a new one, before the filter is considered full.
+	 */
+	protected static final int MAX_KICKS = 500;
+
+	/**
+	 * Each long is a bucket of four 16-bit fingerprints; 0 means an empty slot.
+	 */
+	protected long[] buckets;
+	/**
+	 * Used to get a bucket index from the high bits of a hash; 32 minus the base-2 logarithm of the bucket count.
+	 */
+	protected int shift;
+	protected int size;
+	/**
+	 * Chooses the multipliers; see {@link #getSeed()}.
+	 */
+	protected int seed;
+	/**
+	 * Multipliers from {@link Utilities#GOOD_MULTIPLIERS}, chosen by {@link #seed}.
+	 */
+	protected int multiplierA, multiplierB;
+	/**
+	 * A fingerprint that couldn't be placed after {@link #MAX_KICKS} moves, or 0 if there is none. While there is a
+	 * victim, this filter is full.
+	 */
+	protected int victim;
+	/**
+	 * One of the two buckets {@link #victim} could go in.
+	 */
+	protected int victimBucket;
+	/**
+	 * The state of a small random number generator that picks which fingerprint to move.
+	 */
+	protected int kickState;
+
+	/**
+	 * Creates a filter with room for at least {@code capacity} items.
+	 *
+	 * @param capacity how many items this should be able to hold; the table is sized so it is at most 95% full then
+	 * @param seed     any int; chooses the multipliers used to hash items
+	 */
+	protected CuckooFilter(int capacity, int seed) {
+		final long needed = (long) Math.ceil(Math.max(1, capacity) / (4 * 0.95));
+		final int bucketCount = (int) Math.min(1L << 30, Math.max(2L, Long.highestOneBit(needed - 1L << 1 | 1L)));
+		buckets = new long[bucketCount];
+		shift = Integer.numberOfLeadingZeros(bucketCount) + 1;
+		setSeed(seed);
+	}
+
+	/**
+	 * Restores a filter from the output of {@link #toLongArray()}.
+	 *
+	 * @param data a long array produced by {@link #toLongArray()}
+	 */
+	protected CuckooFilter(long[] data) {
+		final int bucketCount = data.length - 2;
+		if (bucketCount < 2 || (bucketCount & bucketCount - 1) != 0) {
+			throw new IllegalArgumentException("data is not a serialized CuckooFilter; length was " + data.length);
+		}
+		buckets = Arrays.copyOfRange(data, 2, data.length);
+		shift = Integer.numberOfLeadingZeros(bucketCount) + 1;
+		size = (int) (data[0] >>> 32);
+		setSeed((int) data[0]);
+		victim = (int) (data[1] >>> 32) & 0xFFFF;
+		victimBucket = (int) data[1] & bucketCount - 1;
+	}
+
+	/**
+	 * Creates a copy of {@code other}, with the same settings and the same items.
+	 *
+	 * @param other another CuckooFilter to copy
+	 */
+	protected CuckooFilter(CuckooFilter other) {
+		buckets = other.buckets.clone();
+		shift = other.shift;
+		size = other.size;
+		setSeed(other.seed);
+		victim = other.victim;
+		victimBucket = other.victimBucket;
+		kickState = other.kickState;
+	}
+
+	private void setSeed(int seed) {
+		this.seed = seed;
+		multiplierA = Utilities.GOOD_MULTIPLIERS[seed & 255];
+		multiplierB = Utilities.GOOD_MULTIPLIERS[(seed >>> 8 & 255) + 256];
+	}
+
+	private static int fingerprint(int h2) {
+		final int fp = h2 & 0xFFFF;
+		return fp == 0 ? 1 : fp;
+	}
+
+	/**
+	 * Gets the other bucket that {@code fp} could be in, if it is in {@code bucket}; this works both ways.
+	 */
+	private int alternate(int bucket, int fp) {
+		return bucket ^ BitConversion.imul(fp, 0x5BD1E995) >>> shift;
+	}
+
+	/**
+	 * Gets the lane (0 to 3) in {@code bucket} that holds {@code fp}, or -1 if none does.
+	 */
+	private static int lane(long bucket, int fp) {
+		for (int j = 0; j < 64; j += 16) {
+			if ((int) (bucket >>> j & 0xFFFF) == fp) return j >>> 4;
+		}
+		return -1;
+	}
+
+	private boolean place(int bucket, int fp) {
+		final int j = lane(buckets[bucket], 0);
+		if (j < 0) return false;
+		buckets[bucket] |= (long) fp << (j << 4);
+		return true;
+	}
+
+	/**
+	 * Adds the fingerprint for an item, given two mixed hashes of it.
+	 *
+	 * @return true if the item was added, or false if this filter is full
+	 */
+	protected boolean insert(int h1, int h2) {
+		if (victim != 0) return false;
+		int fp = fingerprint(h2);
+		int bucket = h1 >>> shift;
+		final int other = alternate(bucket, fp);
+		if (place(bucket, fp) || place(other, fp)) {
+			size++;
+			return true;
+		}
+		bucket = (kickState & 1) == 0 ? bucket : other;
+		for (int kick = 0; kick < MAX_KICKS; kick++) {
+			// a tiny xorshift generator picks which of the four fingerprints to move
+			kickState ^= kickState << 13;
+			kickState ^= kickState >>> 17;
+			kickState ^= kickState << 5;
+			if (kickState == 0) kickState = 0x9E3779B9;
+			final int j = (kickState & 3) << 4;
+			final long b = buckets[bucket];
+			final int moved = (int) (b >>> j & 0xFFFF);
+			buckets[bucket] = b & ~(0xFFFFL << j) | (long) fp << j;
+			fp = moved;
+			bucket = alternate(bucket, fp);
+			if (place(bucket, fp)) {
+				size++;
+				return true;
+			}
+		}
+		// keep the last displaced fingerprint so nothing already added is lost
+		victim = fp;
+		victimBucket = bucket;
+		size++;
+		return true;
+	}
+
+	/**
+	 * Checks for the fingerprint of an item, given two mixed hashes of it.
+	 *
+	 * @return true if the item might be present
+	 */
+	protected boolean find(int h1, int h2) {
+		final int fp = fingerprint(h2);
+		final int bucket = h1 >>> shift, other = alternate(bucket, fp);
+		if (lane(buckets[bucket], fp) >= 0 || lane(buckets[other], fp) >= 0) return true;
+		return victim == fp && (victimBucket == bucket || victimBucket == other);
+	}
+
+	/**
+	 * Removes one copy of the fingerprint of an item, given two mixed hashes of it.
+	 *
+	 * @return true if a matching fingerprint was removed
+	 */
+	protected boolean delete(int h1, int h2) {
+		final int fp = fingerprint(h2);
+		final int bucket = h1 >>> shift, other = alternate(bucket, fp);
+		if (victim == fp && (victimBucket == bucket || victimBucket == other)) {
+			victim = 0;
+			size--;
+			return true;
+		}
+		if (!clear(bucket, fp) && !clear(other, fp)) return false;
+		size--;
+		if (victim != 0) {
+			// there is room now, so put the victim back in the table
+			final int v = victim, vb = victimBucket;
+			victim = 0;
+			size--;
+			insert(vb << shift, v);
+		}
+		return true;
+	}
+
+	private boolean clear(int bucket, int fp) {
+		final int j = lane(buckets[bucket], fp);
+		if (j < 0) return false;
+		buckets[bucket] &= ~(0xFFFFL << (j << 4));
+		return true;
+	}
+
+	/**
+	 * Gets how many items have been added and not removed. Items added more than once are counted each time.
+	 *
+	 * @return how many fingerprints are stored
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return how many items this can hold in the best case; it will often fill up a little before this
+	 */
+	public int capacity() {
+		return buckets.length << 2;
+	}
+
+	/**
+	 * @return true if an add has failed to find room, so no more items can be added until some are removed
+	 */
+	public boolean isFull() {
+		return victim != 0;
+	}
+
+	/**
+	 * @return the seed that chooses the multipliers used to hash items
+	 */
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Removes every item, keeping the same size and settings.
+	 */
+	public void clear() {
+		Arrays.fill(buckets, 0L);
+		size = 0;
+		victim = 0;
+	}
+
+	/**
+	 * Stores this filter as a long array, which can be given to the constructor of the same class to restore it. The
+	 * first two longs hold the size, seed, and any victim; the rest are the buckets.
+	 *
+	 * @return a new long array holding this filter's settings and fingerprints
+	 */
+	public long[] toLongArray() {
+		final long[] data = new long[buckets.length + 2];
+		data[0] = (long) size << 32 | (seed & 0xFFFFFFFFL);
+		data[1] = (long) victim << 32 | victimBucket;
+		System.arraycopy(buckets, 0, data, 2, buckets.length);
+		return data;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CuckooFilter other = (CuckooFilter) o;
+		return size == other.size && seed == other.seed && victim == other.victim
+			&& (victim == 0 || victimBucket == other.victimBucket) && Arrays.equals(buckets, other.buckets);
+	}
+
+	@Override
+	public int hashCode() {
+		return (Arrays.hashCode(buckets) * 31 + size) * 31 + seed;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " with " + size + " items and capacity " + capacity();
+	}
+}
@@ -495,6 +495,562 @@ public class DoubleList implements PrimitiveCollection.OfDouble, Ordered.OfDoubl
 		return this;
 	}
 
+	/**
+	 * Adds each item in {@code other} to the item at the same index in this DoubleList, stores the results in this
+	 * and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code +} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this DoubleList).
+	 *
+	 * @param other another DoubleList; each item in this will be assigned {@code item + otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public DoubleList plus(DoubleList other) {
+		return plus(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Adds to {@code count} items in this DoubleList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this DoubleList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public DoubleList plus(int start, DoubleList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] += b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Subtracts each item in {@code other} from the item at the same index in this DoubleList, stores the results in
+	 * this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code -} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this DoubleList).
+	 *
+	 * @param other another DoubleList; each item in this will be assigned {@code item - otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public DoubleList minus(DoubleList other) {
+		return minus(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Subtracts from {@code count} items in this DoubleList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this DoubleList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public DoubleList minus(int start, DoubleList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] -= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies each item in this DoubleList by the item at the same index in {@code other}, stores the results in
+	 * this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code *} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this DoubleList).
+	 *
+	 * @param other another DoubleList; each item in this will be assigned {@code item * otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public DoubleList times(DoubleList other) {
+		return times(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Multiplies {@code count} items in this DoubleList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this DoubleList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public DoubleList times(int start, DoubleList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] *= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Divides each item in this DoubleList by the item at the same index in {@code other}, stores the results in
+	 * this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code /} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this DoubleList).
+	 *
+	 * @param other another DoubleList; each item in this will be assigned {@code item / otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public DoubleList div(DoubleList other) {
+		return div(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Divides {@code count} items in this DoubleList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this DoubleList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public DoubleList div(int start, DoubleList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] /= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the remainder of each item in this DoubleList with the item at the same index in {@code other}, stores the
+	 * results in this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code %} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this DoubleList).
+	 *
+	 * @param other another DoubleList; each item in this will be assigned {@code item % otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public DoubleList rem(DoubleList other) {
+		return rem(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Gets the remainder of {@code count} items in this DoubleList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this DoubleList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public DoubleList rem(int start, DoubleList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] %= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies each item in this DoubleList by the item at the same index in {@code multiplier}, then adds the item at
+	 * the same index in {@code addend}, stores the results in this and returns it. If the lists have different sizes,
+	 * this only changes as many items as the smallest list has. On Java 17 and up, using the multi-release JAR, this is
+	 * a fused multiply-add with one rounding, as by {@code Math.fma()}; on older JVMs, it is a separate multiply and
+	 * add, rounding after each, so results can differ in the last bit.
+	 *
+	 * @param multiplier another DoubleList; each item in this will be multiplied by its item at the same index
+	 * @param addend     another DoubleList; each item at the same index will be added after multiplying
+	 * @return this for chaining
+	 */
+	public DoubleList mulAdd(DoubleList multiplier, DoubleList addend) {
+		return mulAdd(0, multiplier, 0, addend, 0, Math.min(size, Math.min(multiplier.size, addend.size)));
+	}
+
+	/**
+	 * For {@code count} items in this DoubleList starting at {@code start}, multiplies the item by the matching item in
+	 * {@code multiplier} (starting at {@code multiplierStart}), then adds the matching item in {@code addend} (starting
+	 * at {@code addendStart}), and stores the result in this. Only this DoubleList is modified.
+	 *
+	 * @param start           the first index in this to change
+	 * @param multiplier      another DoubleList, which may be this
+	 * @param multiplierStart the first index in multiplier to read
+	 * @param addend          another DoubleList, which may be this
+	 * @param addendStart     the first index in addend to read
+	 * @param count           how many items to change
+	 * @return this for chaining
+	 */
+	public DoubleList mulAdd(int start, DoubleList multiplier, int multiplierStart, DoubleList addend, int addendStart, int count) {
+		checkElementwise(start, multiplier, multiplierStart, count);
+		checkElementwise(start, addend, addendStart, count);
+		double[] a = items, b = multiplier.items, c = addend.items;
+		if (b == a && multiplierStart < start && multiplierStart + count > start) b = Arrays.copyOf(b, b.length);
+		if (c == a && addendStart < start && addendStart + count > start) c = Arrays.copyOf(c, c.length);
+		int s = storageIndex(start), m = multiplier.storageIndex(multiplierStart), d = addend.storageIndex(addendStart);
+		while (count > 0) {
+			int run = Math.min(count, Math.min(a.length - s, Math.min(b.length - m, c.length - d)));
+			ArraySupport.mulAdd(a, s, b, m, c, d, run);
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((m += run) == b.length) m = 0;
+			if ((d += run) == c.length) d = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds each item in {@code other}, multiplied by {@code scale}, to the item at the same index in this DoubleList,
+	 * stores the results in this and returns it. This is sometimes called "axpy," and is useful for things like
+	 * adding a velocity times a time step to a position. If other has a different size, this only changes the first
+	 * {@code Math.min(size(), other.size())} items. Like {@link #mulAdd(DoubleList, DoubleList)}, this rounds once on Java 17
+	 * and up, and twice on older JVMs.
+	 *
+	 * @param other another DoubleList
+	 * @param scale what to multiply each item in other by before adding it
+	 * @return this for chaining
+	 */
+	public DoubleList addScaled(DoubleList other, double scale) {
+		return addScaled(0, other, 0, Math.min(size, other.size), scale);
+	}
+
+	/**
+	 * For {@code count} items in this DoubleList starting at {@code start}, adds the matching item in {@code other}
+	 * (starting at {@code otherStart}) multiplied by {@code scale}, and stores the result in this. Only this DoubleList
+	 * is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @param scale      what to multiply each item in other by before adding it
+	 * @return this for chaining
+	 */
+	public DoubleList addScaled(int start, DoubleList other, int otherStart, int count, double scale) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			ArraySupport.addScaled(a, s, b, t, run, scale);
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the dot product of this DoubleList and {@code other}, which is the sum of the products of items at the same
+	 * index. If other has a different size, this only uses the first {@code Math.min(size(), other.size())} items.
+	 * The sum is accumulated in order, without any compensation for rounding error.
+	 *
+	 * @param other another DoubleList
+	 * @return the dot product of this and other
+	 */
+	public double dot(DoubleList other) {
+		return dot(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Gets the dot product of {@code count} items in this DoubleList starting at {@code start} with {@code count} items
+	 * in {@code other} starting at {@code otherStart}.
+	 * The sum is accumulated in order, without any compensation for rounding error.
+	 *
+	 * @param start      the first index in this to read
+	 * @param other      another DoubleList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many pairs of items to multiply and sum
+	 * @return the dot product of the given ranges
+	 */
+	public double dot(int start, DoubleList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		double[] a = items, b = other.items;
+		double sum = 0;
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				sum += a[s + i] * b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return sum;
+	}
+
+	private void checkElementwise(int start, DoubleList other, int otherStart, int count) {
+		if (start < 0 || otherStart < 0 || count < 0 || start > size - count || otherStart > other.size - count)
+			throw new IndexOutOfBoundsException("Invalid range: start=" + start + ", otherStart=" + otherStart +
+				", count=" + count + ", size=" + size + ", other.size()=" + other.size);
+	}
+
+	/**
+	 * Gets the sum of all items in this DoubleList, using Neumaier's variant of Kahan summation to greatly reduce the
+	 * rounding error that a simple loop would accumulate.
+	 *
+	 * @return the sum of all items
+	 */
+	public double sum() {
+		return sum(0, size);
+	}
+
+	/**
+	 * Gets the sum of the items from {@code from} (inclusive) to {@code to} (exclusive) in this DoubleList, using
+	 * Neumaier's variant of Kahan summation to greatly reduce the rounding error that a simple loop would
+	 * accumulate. Both the running sum and its compensation term are kept as doubles.
+	 *
+	 * @param from the first index to sum, inclusive
+	 * @param to   the last index to sum, exclusive
+	 * @return the sum of the items in the given range
+	 */
+	public double sum(int from, int to) {
+		checkReduceRange(from, to);
+		double[] items = this.items;
+		double sum = 0, c = 0;
+		for (int p = storageIndex(from), left = to - from; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				double x = items[i], t = sum + x;
+				if (Math.abs(sum) >= Math.abs(x)) c += (sum - t) + x;
+				else c += (x - t) + sum;
+				sum = t;
+			}
+		}
+		return (sum + c);
+	}
+
+	/**
+	 * Replaces each item in this DoubleList with the sum of itself and every item before it, so the last item becomes the
+	 * sum of all items. This is an inclusive prefix sum, or scan; applied to a histogram, it produces a cumulative
+	 * distribution. The running sum is compensated with Neumaier summation, so late items don't drift.
+	 *
+	 * @return this for chaining
+	 */
+	public DoubleList inclusiveScan() {
+		return inclusiveScan(0, size);
+	}
+
+	/**
+	 * Replaces each item from {@code from} (inclusive) to {@code to} (exclusive) with the sum of itself and every item
+	 * before it in that range. This is an inclusive prefix sum, or scan, over just that range. The running sum is
+	 * compensated with Neumaier summation, so late items don't drift.
+	 *
+	 * @param from the first index to change, inclusive
+	 * @param to   the last index to change, exclusive
+	 * @return this for chaining
+	 */
+	public DoubleList inclusiveScan(int from, int to) {
+		checkReduceRange(from, to);
+		double[] items = this.items;
+		double sum = 0, c = 0;
+		for (int p = storageIndex(from), left = to - from; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				double x = items[i], t = sum + x;
+				if (Math.abs(sum) >= Math.abs(x)) c += (sum - t) + x;
+				else c += (x - t) + sum;
+				sum = t;
+				items[i] = (sum + c);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Replaces each item in this DoubleList with the sum of every item before it, so the first item becomes 0. This is an
+	 * exclusive prefix sum, or scan. The running sum is compensated with Neumaier summation.
+	 *
+	 * @return the sum of all items before this call, which would be the next item in the scan
+	 */
+	public double exclusiveScan() {
+		return exclusiveScan(0, size);
+	}
+
+	/**
+	 * Replaces each item from {@code from} (inclusive) to {@code to} (exclusive) with the sum of every item before it
+	 * in that range, so the item at {@code from} becomes 0. This is an exclusive prefix sum, or scan, over just that
+	 * range. The running sum is compensated with Neumaier summation.
+	 *
+	 * @param from the first index to change, inclusive
+	 * @param to   the last index to change, exclusive
+	 * @return the sum of the items in the range before this call, which would be the next item in the scan
+	 */
+	public double exclusiveScan(int from, int to) {
+		checkReduceRange(from, to);
+		double[] items = this.items;
+		double sum = 0, c = 0;
+		for (int p = storageIndex(from), left = to - from; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				double x = items[i], t = sum + x;
+				items[i] = (sum + c);
+				if (Math.abs(sum) >= Math.abs(x)) c += (sum - t) + x;
+				else c += (x - t) + sum;
+				sum = t;
+			}
+		}
+		return (sum + c);
+	}
+
+	/**
+	 * Gets the smallest item in this DoubleList. If any item is NaN, this returns NaN.
+	 *
+	 * @return the smallest item
+	 * @throws IndexOutOfBoundsException if this is empty
+	 */
+	public double min() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("DoubleList is empty.");
+		}
+		double[] items = this.items;
+		int p = storageIndex(0);
+		double m = items[p];
+		for (int left = size; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				m = Math.min(m, items[i]);
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Gets the largest item in this DoubleList. If any item is NaN, this returns NaN.
+	 *
+	 * @return the largest item
+	 * @throws IndexOutOfBoundsException if this is empty
+	 */
+	public double max() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("DoubleList is empty.");
+		}
+		double[] items = this.items;
+		int p = storageIndex(0);
+		double m = items[p];
+		for (int left = size; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				m = Math.max(m, items[i]);
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Gets the index of the first occurrence of the smallest item in this DoubleList, or -1 if this is empty.
+	 * NaN items are never chosen, unless every item is NaN, in which case this returns 0.
+	 *
+	 * @return the index of the smallest item, or -1 if this is empty
+	 */
+	public int argMin() {
+		if (size == 0) return -1;
+		double[] items = this.items;
+		int p = storageIndex(0), best = 0;
+		double m = items[p];
+		for (int done = 0; done < size; p = 0) {
+			int run = Math.min(size - done, items.length - p);
+			for (int i = p, n = p + run; i < n; i++) {
+				if (items[i] < m || (m != m && items[i] == items[i])) {
+					m = items[i];
+					best = done + i - p;
+				}
+			}
+			done += run;
+		}
+		return best;
+	}
+
+	/**
+	 * Gets the index of the first occurrence of the largest item in this DoubleList, or -1 if this is empty.
+	 * NaN items are never chosen, unless every item is NaN, in which case this returns 0.
+	 *
+	 * @return the index of the largest item, or -1 if this is empty
+	 */
+	public int argMax() {
+		if (size == 0) return -1;
+		double[] items = this.items;
+		int p = storageIndex(0), best = 0;
+		double m = items[p];
+		for (int done = 0; done < size; p = 0) {
+			int run = Math.min(size - done, items.length - p);
+			for (int i = p, n = p + run; i < n; i++) {
+				if (items[i] > m || (m != m && items[i] == items[i])) {
+					m = items[i];
+					best = done + i - p;
+				}
+			}
+			done += run;
+		}
+		return best;
+	}
+
+	/**
+	 * Gets the arithmetic mean of the items in this DoubleList, or {@code NaN} if this is empty.
+	 *
+	 * @return the mean of all items, as a double
+	 */
+	public double mean() {
+		return sum() / size;
+	}
+
+	private void checkReduceRange(int from, int to) {
+		if (from < 0 || to > size || from > to)
+			throw new IndexOutOfBoundsException("Invalid range: from=" + from + ", to=" + to + ", size=" + size);
+	}
+
 	public void insert(int index, double value) {
 		if (index > size) {
 			throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
@@ -1108,6 +1664,265 @@ public class DoubleList implements PrimitiveCollection.OfDouble, Ordered.OfDoubl
 		}
 	}
 
+	/**
+	 * Gets the index in {@link #items} of the item at index 0, without changing how items are stored. Items are
+	 * stored in order from there to the end of {@link #items}; subclasses that use a circular buffer, such as
+	 * {@link DoubleDeque}, continue from index 0 after that. For a DoubleList, this is always 0.
+	 *
+	 * @return the index in {@link #items} of the item at index 0
+	 */
+	protected int storageStart() {
+		return 0;
+	}
+
+	/**
+	 * Gets the index in {@link #items} of the item at {@code index}, which can be from 0 to {@link #size()},
+	 * inclusive. This takes {@link #storageStart()} into account, wrapping around the end of {@link #items} if needed.
+	 */
+	private int storageIndex(int index) {
+		int start = storageStart();
+		return index < items.length - start ? start + index : index - (items.length - start);
+	}
+
+	/**
+	 * Searches this list for {@code value} using binary search. This list must be sorted in ascending order,
+	 * such as by {@link #sort()}, or the results are undefined. If this contains multiple items equal to
+	 * value, there is no guarantee which one will be found.
+	 *
+	 * @param value the double value to search for
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(double value) {
+		return binarySearch(0, size, value);
+	}
+
+	/**
+	 * Searches the range from {@code from} (inclusive) to {@code to} (exclusive) of this list for {@code value},
+	 * using binary search. That range must be sorted in ascending order, or the results are undefined.
+	 *
+	 * @param from  the first index to search, inclusive
+	 * @param to    the last index to search, exclusive
+	 * @param value the double value to search for
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(int from, int to, double value) {
+		if (from < 0 || to > size || from > to)
+			throw new IndexOutOfBoundsException("Invalid range: from=" + from + ", to=" + to + ", size=" + size);
+		double[] items = this.items;
+		int start = storageIndex(from), count = to - from, offset = from - start, end;
+		if (count <= items.length - start) {
+			end = start + count;
+		} else if (Double.compare(value, items[items.length - 1]) > 0) {
+			// The range wraps around the end of items, and value can only be in the part that wrapped.
+			end = count - (items.length - start);
+			offset += items.length;
+			start = 0;
+		} else {
+			// The range wraps around the end of items, and value can only be in the part before the end.
+			end = items.length;
+		}
+		int result = Arrays.binarySearch(items, start, end, value);
+		return result < 0 ? result - offset : result + offset;
+	}
+
+	/**
+	 * Merges this list with {@code other}, writing every item from both into {@code into} in ascending order.
+	 * Both this and other must already be sorted in ascending order. Duplicates are kept. Runs of items from one
+	 * list that fit between two items of the other list are found with galloping (exponential) search and copied in
+	 * bulk, so merging a short list into a long one needs far fewer comparisons than a linear merge.
+	 *
+	 * @param other another DoubleList sorted in ascending order
+	 * @param into  a DoubleList that will be cleared and then receive the merged items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public DoubleList mergeSorted(DoubleList other, DoubleList into) {
+		checkSortedOutput(other, into);
+		double[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		into.ensureCapacity(size + other.size);
+		while (i < na && j < nb) {
+			if (Double.compare(itemAt(a, sa, i), itemAt(b, sb, j)) <= 0) {
+				int k = gallopAbove(a, sa, i + 1, na, itemAt(b, sb, j));
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else {
+				int k = gallopAtLeast(b, sb, j + 1, nb, itemAt(a, sa, i));
+				addRun(into, b, sb, j, k - j);
+				j = k;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		if (j < nb) addRun(into, b, sb, j, nb - j);
+		return into;
+	}
+
+	/**
+	 * Writes the items present in both this list and {@code other} into {@code into}, in ascending order. Both this
+	 * and other must already be sorted in ascending order. If an item appears m times here and n times in other,
+	 * it appears {@code Math.min(m, n)} times in the result. This skips through the longer list with galloping
+	 * (exponential) search, so it takes O(m log(n/m)) time when one list, of size m, is much shorter than the other,
+	 * of size n, and linear time when they have similar sizes.
+	 *
+	 * @param other another DoubleList sorted in ascending order
+	 * @param into  a DoubleList that will be cleared and then receive the shared items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public DoubleList intersectSorted(DoubleList other, DoubleList into) {
+		checkSortedOutput(other, into);
+		double[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		while (i < na && j < nb) {
+			double x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (Double.compare(x, y) < 0) {
+				i = gallopAtLeast(a, sa, i + 1, na, y);
+			} else if (Double.compare(y, x) < 0) {
+				j = gallopAtLeast(b, sb, j + 1, nb, x);
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list, {@code other}, or both into {@code into}, in ascending order. Both this
+	 * and other must already be sorted in ascending order. If an item appears m times here and n times in other,
+	 * it appears {@code Math.max(m, n)} times in the result. Runs of items only in one list are found with galloping
+	 * (exponential) search and copied in bulk.
+	 *
+	 * @param other another DoubleList sorted in ascending order
+	 * @param into  a DoubleList that will be cleared and then receive the combined items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public DoubleList unionSorted(DoubleList other, DoubleList into) {
+		checkSortedOutput(other, into);
+		double[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		into.ensureCapacity(size + other.size);
+		while (i < na && j < nb) {
+			double x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (Double.compare(x, y) < 0) {
+				int k = gallopAtLeast(a, sa, i + 1, na, y);
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else if (Double.compare(y, x) < 0) {
+				int k = gallopAtLeast(b, sb, j + 1, nb, x);
+				addRun(into, b, sb, j, k - j);
+				j = k;
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		if (j < nb) addRun(into, b, sb, j, nb - j);
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list but not in {@code other} into {@code into}, in ascending order. Both
+	 * this and other must already be sorted in ascending order. If an item appears m times here and n times in
+	 * other, it appears {@code Math.max(m - n, 0)} times in the result. Runs of items are found with galloping
+	 * (exponential) search, and runs that are kept are copied in bulk.
+	 *
+	 * @param other another DoubleList sorted in ascending order
+	 * @param into  a DoubleList that will be cleared and then receive the remaining items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public DoubleList differenceSorted(DoubleList other, DoubleList into) {
+		checkSortedOutput(other, into);
+		double[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		while (i < na && j < nb) {
+			double x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (Double.compare(x, y) < 0) {
+				int k = gallopAtLeast(a, sa, i + 1, na, y);
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else if (Double.compare(y, x) < 0) {
+				j = gallopAtLeast(b, sb, j + 1, nb, x);
+			} else {
+				i++;
+				j++;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		return into;
+	}
+
+	private void checkSortedOutput(DoubleList other, DoubleList into) {
+		if (into == this || into == other)
+			throw new IllegalArgumentException("The output list must not be one of the input lists.");
+	}
+
+	/**
+	 * Gets the item at {@code index} of the items stored in {@code a} starting at {@code start}, where items past the
+	 * end of {@code a} continue from its beginning. This is how deques store their items; lists always have
+	 * {@code start} equal to 0, so they never wrap.
+	 */
+	private static double itemAt(double[] a, int start, int index) {
+		return a[index < a.length - start ? start + index : index - (a.length - start)];
+	}
+
+	/**
+	 * Adds {@code count} items to {@code into}, starting at {@code index} of the items stored in {@code a} starting
+	 * at {@code start}, splitting the copy in two if it wraps around the end of {@code a}.
+	 */
+	private static void addRun(DoubleList into, double[] a, int start, int index, int count) {
+		int p = index < a.length - start ? start + index : index - (a.length - start);
+		int run = Math.min(count, a.length - p);
+		into.addAll(a, p, run);
+		if (run < count) into.addAll(a, 0, count - run);
+	}
+
+	/**
+	 * Finds the first index from {@code from} (inclusive) to {@code to} (exclusive) where the items stored in
+	 * {@code a}, starting at {@code start} and wrapping around its end as in {@link #itemAt}, have an item that is not
+	 * less than {@code key}, or {@code to} if there is no such index. The range must be sorted. This checks
+	 * indices from, from+1, from+3, from+7, and so on until it passes key, then binary searches the last gap, so it
+	 * takes time logarithmic in the distance to the result rather than in the size of the range.
+	 */
+	private static int gallopAtLeast(double[] a, int start, int from, int to, double key) {
+		int lo = from, hi = from, step = 1;
+		while (hi < to && Double.compare(itemAt(a, start, hi), key) < 0) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (Double.compare(itemAt(a, start, mid), key) < 0) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Like {@link #gallopAtLeast(double[], int, int, int, double)}, but finds the first index with an item greater than
+	 * {@code key}.
+	 */
+	private static int gallopAbove(double[] a, int start, int from, int to, double key) {
+		int lo = from, hi = from, step = 1;
+		while (hi < to && Double.compare(itemAt(a, start, hi), key) <= 0) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (Double.compare(itemAt(a, start, mid), key) <= 0) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
 	@Override
 	public void reverse() {
 		double[] items = this.items;
@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A sliding window of double items that keeps its sum, minimum, maximum, mean, and variance up to date as items are
+ * added to the end with {@link #addLast(double)} and removed from the start with {@link #removeFirst()}. Every
+ * aggregate can be read in O(1) time, and each add or remove costs O(1) amortized time, instead of rescanning the whole
+ * window. If a limit is given, adding to a full window removes the oldest item first, so this acts as a count-based
+ * window.
+ * <br>
+ * The items are held in a {@link DoubleDeque}, and the minimum and maximum are tracked with two more DoubleDeques used
+ * as monotonic queues. Items are ordered as {@link Double#compare(double, double)} orders them, so NaN is treated as
+ * larger than any other value. NaN and infinite items are counted separately from the running sum, so the sum, mean,
+ * and variance recover once they leave the window. The sum uses Neumaier's variant of Kahan summation, so values added
+ * and later removed leave very little rounding error behind. The mean and variance are updated with Welford's method,
+ * which is stable even when the variance is small compared to the mean. Removing an item far from the others would
+ * leave rounding error in the variance that is large next to what remains, so when that could happen, the mean and
+ * variance are recomputed from the items in O(n) time.
+ *
+ * @see DoubleDeque DoubleDeque holds the items, without the aggregates.
+ */
+public class DoubleWindow {
+	/**
+	 * The items in the window, oldest first.
+	 */
+	protected final DoubleDeque items;
+	/**
+	 * A non-decreasing run of items, where the first is the minimum of the window.
+	 */
+	protected final DoubleDeque minima;
+	/**
+	 * A non-increasing run of items, where the first is the maximum of the window.
+	 */
+	protected final DoubleDeque maxima;
+	/**
+	 * The most items this can hold before {@link #addLast(double)} removes the oldest, or {@link Integer#MAX_VALUE}.
+	 */
+	protected final int limit;
+
+	protected double sum, compensation;
+	/**
+	 * How many NaN, positive infinite, and negative infinite items are in the window; these are kept out of the
+	 * running sum and variance, and are applied when those are read.
+	 */
+	protected int nanCount, positiveInfinityCount, negativeInfinityCount;
+	protected double mean, squaredDeviations;
+	/**
+	 * A bound on the rounding error that updates have left in {@link #squaredDeviations}; once it is too large a part
+	 * of {@link #squaredDeviations}, the mean and variance are recomputed from the items.
+	 */
+	protected double deviationError;
+
+	/**
+	 * Creates a new DoubleWindow with no limit; items only leave it when {@link #removeFirst()} is called.
+	 */
+	public DoubleWindow() {
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new DoubleWindow that holds at most {@code limit} items; once it is full, each {@link #addLast(double)}
+	 * removes the oldest item.
+	 *
+	 * @param limit the most items this window can hold; must be at least 1
+	 */
+	public DoubleWindow(int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException("A DoubleWindow must have a limit of at least 1, but was " + limit);
+		}
+		this.limit = limit;
+		int initial = Math.min(limit, 16);
+		items = new DoubleDeque(initial);
+		minima = new DoubleDeque(initial);
+		maxima = new DoubleDeque(initial);
+	}
+
+	/**
+	 * Gets the most items this can hold before {@link #addLast(double)} removes the oldest.
+	 *
+	 * @return the limit given in the constructor, or {@link Integer#MAX_VALUE} if there was none
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	public boolean notEmpty() {
+		return items.notEmpty();
+	}
+
+	/**
+	 * Adds {@code value} to the end of this window, first removing the oldest item if this is already at its limit.
+	 *
+	 * @param value the item to add
+	 */
+	public void addLast(double value) {
+		if (items.size() == limit) {
+			removeFirst();
+		}
+		items.addLast(value);
+		while (minima.notEmpty() && Double.compare(minima.peekLast(), value) > 0) {
+			minima.removeLast();
+		}
+		minima.addLast(value);
+		while (maxima.notEmpty() && Double.compare(maxima.peekLast(), value) < 0) {
+			maxima.removeLast();
+		}
+		maxima.addLast(value);
+		if (!Double.isFinite(value)) {
+			if (value != value) nanCount++;
+			else if (value > 0) positiveInfinityCount++;
+			else negativeInfinityCount++;
+			return;
+		}
+		accumulate(value);
+		final int n = finiteCount();
+		final double delta = value - mean;
+		mean += delta / n;
+		final double term = delta * (value - mean);
+		squaredDeviations += term;
+		deviationError += (squaredDeviations + term) * 0x1p-52;
+	}
+
+	/**
+	 * Removes and returns the oldest item in this window.
+	 *
+	 * @return the oldest item
+	 * @throws NoSuchElementException if this window is empty
+	 */
+	public double removeFirst() {
+		if (items.isEmpty()) {
+			throw new NoSuchElementException("DoubleWindow is empty.");
+		}
+		final double value = items.removeFirst();
+		if (items.isEmpty()) {
+			clear();
+			return value;
+		}
+		if (Double.compare(minima.peekFirst(), value) == 0) minima.removeFirst();
+		if (Double.compare(maxima.peekFirst(), value) == 0) maxima.removeFirst();
+		if (!Double.isFinite(value)) {
+			if (value != value) nanCount--;
+			else if (value > 0) positiveInfinityCount--;
+			else negativeInfinityCount--;
+			return value;
+		}
+		accumulate(-value);
+		final int n = finiteCount();
+		if (n == 0) {
+			sum = compensation = mean = squaredDeviations = deviationError = 0.0;
+			return value;
+		}
+		final double delta = value - mean;
+		mean -= delta / n;
+		final double term = delta * (value - mean);
+		deviationError += (squaredDeviations + Math.abs(term)) * 0x1p-52;
+		squaredDeviations -= term;
+		// removing an item far from the others cancels most of squaredDeviations, but not its rounding error
+		if (deviationError > squaredDeviations * 0x1p-26) rescan();
+		return value;
+	}
+
+	/**
+	 * Removes the oldest items until at most {@code newSize} remain.
+	 *
+	 * @param newSize how many of the newest items to keep
+	 */
+	public void truncateFirst(int newSize) {
+		for (int n = items.size() - Math.max(0, newSize); n > 0; n--) {
+			removeFirst();
+		}
+	}
+
+	/**
+	 * Removes every item and resets every aggregate.
+	 */
+	public void clear() {
+		items.clear();
+		minima.clear();
+		maxima.clear();
+		sum = 0.0;
+		compensation = 0.0;
+		nanCount = positiveInfinityCount = negativeInfinityCount = 0;
+		mean = 0.0;
+		squaredDeviations = 0.0;
+		deviationError = 0.0;
+	}
+
+	/**
+	 * @return how many items in the window are neither NaN nor infinite
+	 */
+	private int finiteCount() {
+		return items.size() - nanCount - positiveInfinityCount - negativeInfinityCount;
+	}
+
+	/**
+	 * Gets what any sum that includes the non-finite items would be: NaN, an infinity, or 0 if there are none.
+	 */
+	private double nonFiniteSum() {
+		if (nanCount != 0 || (positiveInfinityCount != 0 && negativeInfinityCount != 0)) return Double.NaN;
+		if (positiveInfinityCount != 0) return Double.POSITIVE_INFINITY;
+		if (negativeInfinityCount != 0) return Double.NEGATIVE_INFINITY;
+		return 0.0;
+	}
+
+	/**
+	 * Adds {@code x} to the running sum with Neumaier's compensation.
+	 */
+	private void accumulate(double x) {
+		final double t = sum + x;
+		if (Math.abs(sum) >= Math.abs(x)) compensation += (sum - t) + x;
+		else compensation += (x - t) + sum;
+		sum = t;
+	}
+
+	/**
+	 * Recomputes {@link #mean} and {@link #squaredDeviations} from the items, with the old mean as a shift so the
+	 * squares stay small, plus a correction for how far off that shift was. This takes O(n) time, but only happens
+	 * after an item far from the others leaves the window or after very many updates.
+	 */
+	private void rescan() {
+		final int n = finiteCount();
+		final double shift = mean;
+		double total = 0.0, offset = 0.0;
+		for (int i = 0, size = items.size(); i < size; i++) {
+			final double x = items.get(i);
+			if (Double.isFinite(x)) {
+				final double d = x - shift;
+				total += d * d;
+				offset += d;
+			}
+		}
+		mean = shift + offset / n;
+		squaredDeviations = Math.max(0.0, total - offset * offset / n);
+		deviationError = 0.0;
+	}
+
+	/**
+	 * Gets the item at {@code index}, where 0 is the oldest item; this follows {@link DoubleDeque#get(int)}.
+	 *
+	 * @param index the index of the item to get
+	 * @return the item at {@code index}
+	 */
+	public double get(int index) {
+		return items.get(index);
+	}
+
+	/**
+	 * @return the oldest item
+	 * @throws NoSuchElementException if this window is empty
+	 */
+	public double first() {
+		return items.getFirst();
+	}
+
+	/**
+	 * @return the newest item
+	 * @throws NoSuchElementException if this window is empty
+	 */
+	public double last() {
+		return items.getLast();
+	}
+
+	/**
+	 * Gets the sum of the items in this window in O(1) time.
+	 *
+	 * @return the sum of the items, or 0 if this is empty
+	 */
+	public double sum() {
+		return nonFiniteSum() + sum + compensation;
+	}
+
+	/**
+	 * Gets the smallest item in this window in O(1) time.
+	 *
+	 * @return the smallest item
+	 * @throws NoSuchElementException if this window is empty
+	 */
+	public double min() {
+		if (minima.isEmpty()) {
+			throw new NoSuchElementException("DoubleWindow is empty.");
+		}
+		return minima.peekFirst();
+	}
+
+	/**
+	 * Gets the largest item in this window in O(1) time.
+	 *
+	 * @return the largest item
+	 * @throws NoSuchElementException if this window is empty
+	 */
+	public double max() {
+		if (maxima.isEmpty()) {
+			throw new NoSuchElementException("DoubleWindow is empty.");
+		}
+		return maxima.peekFirst();
+	}
+
+	/**
+	 * Gets the arithmetic mean of the items in this window in O(1) time.
+	 *
+	 * @return the mean of the items, or {@code NaN} if this is empty
+	 */
+	public double mean() {
+		if (items.isEmpty()) return Double.NaN;
+		if (finiteCount() != items.size()) return nonFiniteSum();
+		return mean;
+	}
+
+	/**
+	 * Gets the population variance of the items in this window in O(1) time; this divides by the number of items.
+	 *
+	 * @return the population variance of the items, or {@code NaN} if this is empty
+	 */
+	public double variance() {
+		if (items.isEmpty() || finiteCount() != items.size()) return Double.NaN;
+		return squaredDeviations / items.size();
+	}
+
+	/**
+	 * Gets the sample variance of the items in this window in O(1) time; this divides by one less than the number of
+	 * items.
+	 *
+	 * @return the sample variance of the items, or {@code NaN} if this has fewer than 2 items
+	 */
+	public double sampleVariance() {
+		if (items.size() < 2 || finiteCount() != items.size()) return Double.NaN;
+		return squaredDeviations / (items.size() - 1);
+	}
+
+	/**
+	 * Gets the population standard deviation of the items in this window, which is the square root of
+	 * {@link #variance()}.
+	 *
+	 * @return the population standard deviation of the items, or {@code NaN} if this is empty
+	 */
+	public double standardDeviation() {
+		return Math.sqrt(variance());
+	}
+
+	/**
+	 * Copies the items in this window, oldest first, into a new DoubleDeque.
+	 *
+	 * @return a new DoubleDeque holding the items in this window
+	 */
+	public DoubleDeque toDeque() {
+		return new DoubleDeque(items);
+	}
+
+	@Override
+	public String toString() {
+		return items.toString();
+	}
+}
@@ -18,8 +18,10 @@ package com.github.tommyettinger.ds;
 
 import com.github.tommyettinger.ds.support.util.Appender;
 import com.github.tommyettinger.ds.support.util.PartialParser;
+import com.github.tommyettinger.ds.support.util.LegibleTokenizer;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -597,4 +599,49 @@ public interface EnhancedCollection<T> extends Collection<T> {
 			add(parser.parse(str, offset, lim));
 		}
 	}
+
+	/**
+	 * Adds items to this EnhancedCollection drawn from {@code reader}, which should provide text in the same format
+	 * that {@link #addLegible(String, String, PartialParser, int, int)} reads. This only buffers a bounded amount of the
+	 * text at a time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one
+	 * String. This does not close {@code reader}.
+	 *
+	 * @param reader    a Reader providing the text to parse
+	 * @param delimiter the String separating every item
+	 * @param parser    a PartialParser that returns a {@code T} item from a section of text
+	 */
+	default void addLegible(Reader reader, String delimiter, PartialParser<T> parser) {
+		addLegible(new LegibleTokenizer(reader), delimiter, parser);
+	}
+
+	/**
+	 * Adds items to this EnhancedCollection drawn from a window of any CharSequence, such as a CharBuffer or CharList,
+	 * in the same format that {@link #addLegible(String, String, PartialParser, int, int)} reads. This copies a bounded
+	 * amount of the text at a time into a {@link LegibleTokenizer}, rather than making a substring for each item.
+	 *
+	 * @param text      a CharSequence containing the text to parse
+	 * @param delimiter the String separating every item
+	 * @param parser    a PartialParser that returns a {@code T} item from a section of text
+	 * @param offset    the first position to read from in {@code text}
+	 * @param length    how many chars to read; -1 is treated as maximum length
+	 */
+	default void addLegible(CharSequence text, String delimiter, PartialParser<T> parser, int offset, int length) {
+		if (text == null) return;
+		addLegible(new LegibleTokenizer(text, offset, length), delimiter, parser);
+	}
+
+	/**
+	 * Adds items to this EnhancedCollection drawn from the remaining tokens in {@code tokens}, split on
+	 * {@code delimiter}. The parser is given {@link LegibleTokenizer#text()}, which is shared by many tokens.
+	 *
+	 * @param tokens    a LegibleTokenizer over the text to parse
+	 * @param delimiter the String separating every item
+	 * @param parser    a PartialParser that returns a {@code T} item from a section of text
+	 */
+	default void addLegible(LegibleTokenizer tokens, String delimiter, PartialParser<T> parser) {
+		if (tokens == null || delimiter == null || parser == null || delimiter.isEmpty()) return;
+		while (tokens.next(delimiter)) {
+			add(parser.parse(tokens.text(), tokens.start(), tokens.end()));
+		}
+	}
 }
@@ -24,6 +24,7 @@ import com.github.tommyettinger.function.ObjToLongFunction;
 import com.github.tommyettinger.function.ObjToObjFunction;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
@@ -1666,6 +1667,57 @@ public class EnumLongMap implements Iterable<EnumLongMap.Entry> {
 		}
 	}
 
+	/**
+	 * Puts key-value pairs into this map drawn from {@code reader}, which should provide text in the same format that
+	 * {@link #putLegible(String, String, String, PartialParser, int, int)} reads. This only buffers a bounded amount of the
+	 * text at a time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one
+	 * String. This does not close {@code reader}.
+	 *
+	 * @param reader            a Reader providing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param keyParser         a PartialParser that returns a key from a section of text
+	 */
+	public void putLegible(Reader reader, String entrySeparator, String keyValueSeparator, PartialParser<Enum<?>> keyParser) {
+		putLegible(new LegibleTokenizer(reader), entrySeparator, keyValueSeparator, keyParser);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from a window of any CharSequence, such as a CharBuffer or CharList, in
+	 * the same format that {@link #putLegible(String, String, String, PartialParser, int, int)} reads. This copies a bounded
+	 * amount of the text at a time into a {@link LegibleTokenizer}, rather than making a substring for each item.
+	 *
+	 * @param text              a CharSequence containing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param keyParser         a PartialParser that returns a key from a section of text
+	 * @param offset            the first position to read from in {@code text}
+	 * @param length            how many chars to read; -1 is treated as maximum length
+	 */
+	public void putLegible(CharSequence text, String entrySeparator, String keyValueSeparator, PartialParser<Enum<?>> keyParser, int offset, int length) {
+		if (text == null) return;
+		putLegible(new LegibleTokenizer(text, offset, length), entrySeparator, keyValueSeparator, keyParser);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from the remaining tokens in {@code tokens}, alternating between
+	 * splitting on {@code keyValueSeparator} and on {@code entrySeparator}.
+	 *
+	 * @param tokens            a LegibleTokenizer over the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param keyParser         a PartialParser that returns a key from a section of text
+	 */
+	public void putLegible(LegibleTokenizer tokens, String entrySeparator, String keyValueSeparator, PartialParser<Enum<?>> keyParser) {
+		if (tokens == null || entrySeparator == null || keyValueSeparator == null || keyParser == null
+			|| entrySeparator.isEmpty() || keyValueSeparator.isEmpty()) return;
+		while (tokens.next(keyValueSeparator)) {
+			Enum<?> k = keyParser.parse(tokens.text(), tokens.start(), tokens.end());
+			if (!tokens.next(entrySeparator)) break;
+			put(k, Base.BASE10.readLong(tokens.chars(), tokens.start(), tokens.end()));
+		}
+	}
+
 	/**
 	 * Creates a new map by parsing all of {@code str} with the given PartialParser for keys,
 	 * with entries separated by {@code entrySeparator}, such as {@code ", "} and
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A variant on {@link ObjectObjectMap} that uses hopscotch hashing, so that looking up a key only ever checks a bounded
+ * neighborhood of the table, no matter how clustered the keys are. Each key is stored within
+ * {@link #NEIGHBORHOOD} slots after its home position (the slot {@link #place(Object)} gives it), and each home
+ * position has a 32-bit bitmap in {@link #hops} recording which of those slots hold its keys. A lookup only calls
+ * {@link #equate(Object, Object)} on the keys in its home bitmap, so it never has to walk past long runs of other
+ * keys like linear probing can.
+ * <br>
+ * Putting a new key finds the nearest empty slot, then moves other entries closer to their homes until that slot is
+ * within the new key's neighborhood. If that can't be done, the table is resized. If the table is already mostly
+ * empty, which happens when very many keys have the same hashCode(), the entry goes in an overflow list instead;
+ * lookups that miss their neighborhood then also check the overflow list, which is empty in normal use.
+ * <br>
+ * Removal never moves other entries, so it leaves gaps that ObjectObjectMap's linear probing would not. Copying a
+ * HopscotchObjectObjectMap into an ObjectObjectMap, or the reverse, re-puts each entry rather than copying the tables
+ * directly. This uses one extra {@code int} per slot in the table.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class HopscotchObjectObjectMap<K, V> extends ObjectObjectMap<K, V> {
+	/**
+	 * How many slots, starting at a key's home position, can hold that key; this is the number of bits in an int.
+	 */
+	public static final int NEIGHBORHOOD = 32;
+
+	/**
+	 * For each home position in {@link #keyTable}, a bitmap where bit {@code n} is set if the slot {@code n} after that
+	 * position holds a key with that home.
+	 */
+	protected int[] hops;
+	/**
+	 * Indices in {@link #keyTable} of keys that could not be placed within their neighborhood.
+	 */
+	protected IntList overflow;
+
+	/**
+	 * Creates a new map with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public HopscotchObjectObjectMap() {
+		this(Utilities.getDefaultTableCapacity(), Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new map with the given starting capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 */
+	public HopscotchObjectObjectMap(int initialCapacity) {
+		this(initialCapacity, Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public HopscotchObjectObjectMap(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+		hops = new int[keyTable.length];
+		overflow = new IntList(0);
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map an ObjectObjectMap to copy, or a subclass such as this one
+	 */
+	public HopscotchObjectObjectMap(ObjectObjectMap<? extends K, ? extends V> map) {
+		this(map.size(), map.loadFactor);
+		putAll(map);
+		defaultValue = map.defaultValue;
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map a Map to copy
+	 */
+	public HopscotchObjectObjectMap(Map<? extends K, ? extends V> map) {
+		this(map.size());
+		putAll(map);
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public HopscotchObjectObjectMap(K[] keys, V[] values) {
+		this(Math.min(keys.length, values.length));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a Collection of keys
+	 * @param values a Collection of values
+	 */
+	public HopscotchObjectObjectMap(Collection<? extends K> keys, Collection<? extends V> values) {
+		this(Math.min(keys.size(), values.size()));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Returns the index of the key if present, else {@code ~home}, where {@code home} is the home position of the key.
+	 * Unlike in ObjectObjectMap, the slot at {@code home} is not necessarily empty. This only checks the slots in the
+	 * home bitmap for key, and then the overflow list if it isn't empty.
+	 *
+	 * @param key a non-null K key
+	 * @return a negative index if the key was not found, or the non-negative index of the existing key if found
+	 */
+	@Override
+	protected int locateKey(Object key) {
+		K[] keyTable = this.keyTable;
+		int home = place(key);
+		for (int bits = hops[home]; bits != 0; bits &= bits - 1) {
+			int i = home + BitConversion.countTrailingZeros(bits) & mask;
+			if (equate(key, keyTable[i]))
+				return i;
+		}
+		IntList overflow = this.overflow;
+		for (int j = 0, n = overflow.size(); j < n; j++) {
+			int i = overflow.get(j);
+			if (equate(key, keyTable[i]))
+				return i;
+		}
+		return ~home;
+	}
+
+	/**
+	 * Puts {@code key} and {@code value}, where key must not already be present, into the tables without changing
+	 * {@link #size}. This moves other entries within their neighborhoods to make room; if that fails, this resizes the
+	 * tables and tries again if {@code mayResize} is true and the tables are at least 1/8 full, or otherwise puts the
+	 * entry in the overflow list.
+	 *
+	 * @param key       a non-null key that is not in this map
+	 * @param value     the value to associate with key
+	 * @param mayResize if false, this never resizes, such as when this is already resizing
+	 * @return the index in {@link #keyTable} where key was placed
+	 */
+	protected int insert(K key, V value, boolean mayResize) {
+		for (; ; ) {
+			K[] keyTable = this.keyTable;
+			V[] valueTable = this.valueTable;
+			int[] hops = this.hops;
+			int mask = this.mask, home = place(key), free = home, dist = 0;
+			while (keyTable[free] != null) {
+				free = free + 1 & mask;
+				dist++;
+			}
+			// Very distant empty slots would take too many moves to bring close; resizing is better.
+			if (dist < NEIGHBORHOOD << 3) {
+				while (dist >= NEIGHBORHOOD) {
+					int back = NEIGHBORHOOD - 1;
+					for (; back > 0; back--) {
+						int start = free - back & mask, bits = hops[start] & (1 << back) - 1;
+						if (bits != 0) {
+							int offset = BitConversion.countTrailingZeros(bits), from = start + offset & mask;
+							keyTable[free] = keyTable[from];
+							valueTable[free] = valueTable[from];
+							keyTable[from] = null;
+							valueTable[from] = null;
+							hops[start] ^= 1 << offset | 1 << back;
+							free = from;
+							dist -= back - offset;
+							break;
+						}
+					}
+					if (back == 0) break;
+				}
+				if (dist < NEIGHBORHOOD) {
+					keyTable[free] = key;
+					valueTable[free] = value;
+					hops[home] |= 1 << dist;
+					return free;
+				}
+			}
+			if (mayResize && size >= keyTable.length >>> 3) {
+				resize(keyTable.length << 1);
+			} else {
+				keyTable[free] = key;
+				valueTable[free] = value;
+				overflow.add(free);
+				return free;
+			}
+		}
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no prior value.
+	 */
+	@Override
+	public V put(K key, V value) {
+		return putOrDefault(key, value, defaultValue);
+	}
+
+	@Override
+	public V putOrDefault(K key, V value, V defaultValue) {
+		if (key == null) return defaultValue;
+		int i = locateKey(key);
+		if (i >= 0) { // Existing key was found.
+			V oldValue = valueTable[i];
+			valueTable[i] = value;
+			return oldValue;
+		}
+		insert(key, value, true);
+		if (++size >= threshold) {
+			resize(keyTable.length << 1);
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Puts every entry in {@code map} into this map one at a time, since the tables can't be copied directly.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@Override
+	public void putAll(ObjectObjectMap<? extends K, ? extends V> map) {
+		ensureCapacity(map.size);
+		map.scrub();
+		K[] keyTable = map.keyTable;
+		V[] valueTable = map.valueTable;
+		K key;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			key = keyTable[i];
+			if (key != null) {
+				put(key, valueTable[i]);
+			}
+		}
+	}
+
+	/**
+	 * Skips checks for existing keys, doesn't increment size.
+	 */
+	@Override
+	protected void putResize(K key, V value) {
+		insert(key, value, false);
+	}
+
+	@Override
+	public V get(Object key) {
+		if (key == null) return defaultValue;
+		int i = locateKey(key);
+		return i < 0 ? defaultValue : valueTable[i];
+	}
+
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		if (key == null) return defaultValue;
+		int i = locateKey(key);
+		return i < 0 ? defaultValue : valueTable[i];
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (key == null) return defaultValue;
+		int pos = locateKey(key);
+		if (pos < 0) return defaultValue;
+		V oldValue = valueTable[pos];
+		removeSlot(pos);
+		return oldValue;
+	}
+
+	/**
+	 * Removes the entry at {@code index} in {@link #keyTable} and {@link #valueTable}. No other entries are moved.
+	 *
+	 * @param index the index in {@link #keyTable} of an entry to remove
+	 * @return {@code index}, always
+	 */
+	@Override
+	protected int removeSlot(int index) {
+		int home = place(keyTable[index]), offset = index - home & mask;
+		if (offset < NEIGHBORHOOD && (hops[home] & 1 << offset) != 0) {
+			hops[home] ^= 1 << offset;
+		} else {
+			overflow.remove(index);
+		}
+		keyTable[index] = null;
+		valueTable[index] = null;
+		size--;
+		return index;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && locateKey(key) >= 0;
+	}
+
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		super.clear();
+		Arrays.fill(hops, 0);
+		overflow.clear();
+	}
+
+	@Override
+	public void truncate(int newSize) {
+		scrub();
+		K[] keyTable = this.keyTable;
+		newSize = Math.max(0, newSize);
+		for (int i = keyTable.length - 1; i >= 0 && size > newSize; i--) {
+			if (keyTable[i] != null) {
+				removeSlot(i);
+			}
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		hops = new int[newSize];
+		overflow.clear();
+		super.resize(newSize);
+	}
+
+	/**
+	 * Always returns false, because removal can leave gaps that linear probing would stop at.
+	 *
+	 * @return false
+	 */
+	@Override
+	protected boolean isHashed() {
+		return false;
+	}
+
+	/**
+	 * Constructs an empty map given the types as generic type arguments.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 * @return a new map containing nothing
+	 */
+	public static <K, V> HopscotchObjectObjectMap<K, V> with() {
+		return new HopscotchObjectObjectMap<>(0);
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static <K, V> HopscotchObjectObjectMap<K, V> with(K key0, V value0) {
+		HopscotchObjectObjectMap<K, V> map = new HopscotchObjectObjectMap<>(1);
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a single-entry map given two key-value pairs.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing entries mapping each key to the following value
+	 */
+	public static <K, V> HopscotchObjectObjectMap<K, V> with(K key0, V value0, K key1, V value1) {
+		HopscotchObjectObjectMap<K, V> map = new HopscotchObjectObjectMap<>(2);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a single-entry map given three key-value pairs.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param key2   a K key
+	 * @param value2 a V value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing entries mapping each key to the following value
+	 */
+	public static <K, V> HopscotchObjectObjectMap<K, V> with(K key0, V value0, K key1, V value1, K key2, V value2) {
+		HopscotchObjectObjectMap<K, V> map = new HopscotchObjectObjectMap<>(3);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+
+	/**
+	 * Constructs a single-entry map given four key-value pairs.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param key2   a K key
+	 * @param value2 a V value
+	 * @param key3   a K key
+	 * @param value3 a V value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing entries mapping each key to the following value
+	 */
+	public static <K, V> HopscotchObjectObjectMap<K, V> with(K key0, V value0, K key1, V value1, K key2, V value2, K key3, V value3) {
+		HopscotchObjectObjectMap<K, V> map = new HopscotchObjectObjectMap<>(4);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		map.put(key3, value3);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This can be useful in some code-generation scenarios, or when you want to make a
+	 * map conveniently by-hand and have it populated at the start. You can also use
+	 * {@link #HopscotchObjectObjectMap(Object[], Object[])}, which takes all keys and then all values.
+	 * This needs all keys to have the same type and all values to have the same type, because
+	 * it gets those types from the first key parameter and first value parameter. Any keys that don't
+	 * have K as their type or values that don't have V as their type have that entry skipped.
+	 *
+	 * @param key0   the first key; will be used to determine the type of all keys
+	 * @param value0 the first value; will be used to determine the type of all values
+	 * @param rest   a varargs or non-null array of alternating K, V, K, V... elements
+	 * @param <K>    the type of keys, inferred from key0
+	 * @param <V>    the type of values, inferred from value0
+	 * @return a new map containing the given keys and values
+	 */
+	public static <K, V> HopscotchObjectObjectMap<K, V> with(K key0, V value0, Object... rest) {
+		HopscotchObjectObjectMap<K, V> map = new HopscotchObjectObjectMap<>(1 + (rest.length >>> 1));
+		map.put(key0, value0);
+		map.putPairs(rest);
+		return map;
+	}
+}
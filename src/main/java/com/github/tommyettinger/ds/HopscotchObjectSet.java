@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A variant on {@link ObjectSet} that uses hopscotch hashing, so that looking up an item only ever checks a bounded
+ * neighborhood of the table, no matter how clustered the items are. Each item is stored within
+ * {@link #NEIGHBORHOOD} slots after its home position (the slot {@link #place(Object)} gives it), and each home
+ * position has a 32-bit bitmap in {@link #hops} recording which of those slots hold its items. A lookup only calls
+ * {@link #equate(Object, Object)} on the items in its home bitmap, so it never has to walk past long runs of other
+ * items like linear probing can.
+ * <br>
+ * Adding an item finds the nearest empty slot, then moves other items closer to their homes until that slot is within
+ * the new item's neighborhood. If that can't be done, the table is resized. If the table is already mostly empty,
+ * which happens when very many items have the same hashCode(), the item goes in an overflow list instead; lookups
+ * that miss their neighborhood then also check the overflow list, which is empty in normal use.
+ * <br>
+ * Removal never moves other items, so it leaves gaps that ObjectSet's linear probing would not. Copying a
+ * HopscotchObjectSet into an ObjectSet, or the reverse, re-adds each item rather than copying the table directly.
+ * This uses one extra {@code int} per slot in the table.
+ *
+ * @param <T> the type of items
+ */
+public class HopscotchObjectSet<T> extends ObjectSet<T> {
+	/**
+	 * How many slots, starting at an item's home position, can hold that item; this is the number of bits in an int.
+	 */
+	public static final int NEIGHBORHOOD = 32;
+
+	/**
+	 * For each home position in {@link #keyTable}, a bitmap where bit {@code n} is set if the slot {@code n} after that
+	 * position holds an item with that home.
+	 */
+	protected int[] hops;
+	/**
+	 * Indices in {@link #keyTable} of items that could not be placed within their neighborhood.
+	 */
+	protected IntList overflow;
+
+	/**
+	 * Creates a new set with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public HopscotchObjectSet() {
+		this(Utilities.getDefaultTableCapacity(), Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new set with a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 */
+	public HopscotchObjectSet(int initialCapacity) {
+		this(initialCapacity, Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new set with the specified initial capacity and load factor. This set will hold initialCapacity items before
+	 * growing the backing table.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public HopscotchObjectSet(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+		hops = new int[keyTable.length];
+		overflow = new IntList(0);
+	}
+
+	/**
+	 * Creates a new instance containing the items in the specified iterator.
+	 *
+	 * @param coll an iterator that will have its remaining contents added to this
+	 */
+	public HopscotchObjectSet(Iterator<? extends T> coll) {
+		this();
+		addAll(coll);
+	}
+
+	/**
+	 * Creates a new set identical to the specified set.
+	 *
+	 * @param set an ObjectSet to copy, or a subclass such as this one
+	 */
+	public HopscotchObjectSet(ObjectSet<? extends T> set) {
+		this(set.size(), set.loadFactor);
+		addAll(set);
+	}
+
+	/**
+	 * Creates a new set that contains all distinct elements in {@code coll}.
+	 *
+	 * @param coll a Collection of items to add
+	 */
+	public HopscotchObjectSet(Collection<? extends T> coll) {
+		this(coll.size());
+		addAll(coll);
+	}
+
+	/**
+	 * Creates a new set using {@code length} items from the given {@code array}, starting at {@code} offset (inclusive).
+	 *
+	 * @param array  an array to draw items from
+	 * @param offset the first index in array to draw an item from
+	 * @param length how many items to take from array; bounds-checking is the responsibility of the using code
+	 */
+	public HopscotchObjectSet(T[] array, int offset, int length) {
+		this(length);
+		addAll(array, offset, length);
+	}
+
+	/**
+	 * Creates a new set containing all items in the given array.
+	 *
+	 * @param array an array that will be used in full, except for duplicate items
+	 */
+	public HopscotchObjectSet(T[] array) {
+		this(array, 0, array.length);
+	}
+
+	/**
+	 * Returns the index of the key if present, else {@code ~home}, where {@code home} is the home position of the key.
+	 * Unlike in ObjectSet, the slot at {@code home} is not necessarily empty. This only checks the slots in the home
+	 * bitmap for key, and then the overflow list if it isn't empty.
+	 *
+	 * @param key a non-null K key
+	 * @return a negative index if the key was not found, or the non-negative index of the existing key if found
+	 */
+	@Override
+	protected int locateKey(Object key) {
+		T[] keyTable = this.keyTable;
+		int home = place(key);
+		for (int bits = hops[home]; bits != 0; bits &= bits - 1) {
+			int i = home + BitConversion.countTrailingZeros(bits) & mask;
+			if (equate(key, keyTable[i]))
+				return i;
+		}
+		IntList overflow = this.overflow;
+		for (int j = 0, n = overflow.size(); j < n; j++) {
+			int i = overflow.get(j);
+			if (equate(key, keyTable[i]))
+				return i;
+		}
+		return ~home;
+	}
+
+	/**
+	 * Puts {@code key}, which must not already be present, into the table without changing {@link #size}. This moves
+	 * other items within their neighborhoods to make room; if that fails, this resizes the table and tries again if
+	 * {@code mayResize} is true and the table is at least 1/8 full, or otherwise puts key in the overflow list.
+	 *
+	 * @param key       a non-null key that is not in this set
+	 * @param mayResize if false, this never resizes, such as when this is already resizing
+	 * @return the index in {@link #keyTable} where key was placed
+	 */
+	protected int insert(T key, boolean mayResize) {
+		for (; ; ) {
+			T[] keyTable = this.keyTable;
+			int[] hops = this.hops;
+			int mask = this.mask, home = place(key), free = home, dist = 0;
+			while (keyTable[free] != null) {
+				free = free + 1 & mask;
+				dist++;
+			}
+			// Very distant empty slots would take too many moves to bring close; resizing is better.
+			if (dist < NEIGHBORHOOD << 3) {
+				while (dist >= NEIGHBORHOOD) {
+					int back = NEIGHBORHOOD - 1;
+					for (; back > 0; back--) {
+						int start = free - back & mask, bits = hops[start] & (1 << back) - 1;
+						if (bits != 0) {
+							int offset = BitConversion.countTrailingZeros(bits), from = start + offset & mask;
+							keyTable[free] = keyTable[from];
+							keyTable[from] = null;
+							hops[start] ^= 1 << offset | 1 << back;
+							free = from;
+							dist -= back - offset;
+							break;
+						}
+					}
+					if (back == 0) break;
+				}
+				if (dist < NEIGHBORHOOD) {
+					keyTable[free] = key;
+					hops[home] |= 1 << dist;
+					return free;
+				}
+			}
+			if (mayResize && size >= keyTable.length >>> 3) {
+				resize(keyTable.length << 1);
+			} else {
+				keyTable[free] = key;
+				overflow.add(free);
+				return free;
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the key was not already in the set. If this set already contains the key, the call leaves the set unchanged
+	 * and returns false.
+	 */
+	@Override
+	public boolean add(T key) {
+		if (key == null || locateKey(key) >= 0) return false;
+		insert(key, true);
+		if (++size >= threshold) {
+			resize(keyTable.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Like {@link #add(Object)}, but skips checks for existing keys, and doesn't increment size.
+	 */
+	@Override
+	protected void addResize(T key) {
+		insert(key, false);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends T> coll) {
+		final int oldSize = size;
+		ensureCapacity(coll.size());
+		for (T t : coll) {
+			add(t);
+		}
+		return oldSize != size;
+	}
+
+	/**
+	 * Returns true if the key was removed.
+	 */
+	@Override
+	public boolean remove(Object key) {
+		if (key == null) return false;
+		int pos = locateKey(key);
+		if (pos < 0) return false;
+		removeSlot(pos);
+		return true;
+	}
+
+	/**
+	 * Removes the item at {@code index} in {@link #keyTable}. No other items are moved.
+	 *
+	 * @param index the index in {@link #keyTable} of an item to remove
+	 * @return {@code index}, always
+	 */
+	@Override
+	protected int removeSlot(int index) {
+		int home = place(keyTable[index]), offset = index - home & mask;
+		if (offset < NEIGHBORHOOD && (hops[home] & 1 << offset) != 0) {
+			hops[home] ^= 1 << offset;
+		} else {
+			overflow.remove(index);
+		}
+		keyTable[index] = null;
+		size--;
+		return index;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return key != null && locateKey(key) >= 0;
+	}
+
+	@Override
+	public T get(T key) {
+		if (key == null) return null;
+		int i = locateKey(key);
+		return i < 0 ? null : keyTable[i];
+	}
+
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		super.clear();
+		Arrays.fill(hops, 0);
+		overflow.clear();
+	}
+
+	@Override
+	public void truncate(int newSize) {
+		scrub();
+		T[] keyTable = this.keyTable;
+		newSize = Math.max(0, newSize);
+		for (int i = keyTable.length - 1; i >= 0 && size > newSize; i--) {
+			if (keyTable[i] != null) {
+				removeSlot(i);
+			}
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		hops = new int[newSize];
+		overflow.clear();
+		super.resize(newSize);
+	}
+
+	/**
+	 * Always returns false, because removal can leave gaps that linear probing would stop at.
+	 *
+	 * @return false
+	 */
+	@Override
+	protected boolean isHashed() {
+		return false;
+	}
+
+	/**
+	 * Constructs an empty set given the type as a generic type argument.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @param <T> the type of items; must be given explicitly
+	 * @return a new set containing nothing
+	 */
+	public static <T> HopscotchObjectSet<T> with() {
+		return new HopscotchObjectSet<>(0);
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given item, but can be resized.
+	 *
+	 * @param item one T item
+	 * @param <T>  the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given item
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(1);
+		set.add(item);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(2);
+		set.add(item0, item1);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param item2 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1, T item2) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(3);
+		set.add(item0, item1, item2);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param item2 a T item
+	 * @param item3 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1, T item2, T item3) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(4);
+		set.add(item0, item1, item2, item3);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param item2 a T item
+	 * @param item3 a T item
+	 * @param item4 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1, T item2, T item3, T item4) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(5);
+		set.add(item0, item1, item2, item3, item4);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param item2 a T item
+	 * @param item3 a T item
+	 * @param item4 a T item
+	 * @param item5 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1, T item2, T item3, T item4, T item5) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(6);
+		set.add(item0, item1, item2, item3, item4, item5);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param item2 a T item
+	 * @param item3 a T item
+	 * @param item4 a T item
+	 * @param item5 a T item
+	 * @param item6 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1, T item2, T item3, T item4, T item5, T item6) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(7);
+		set.add(item0, item1, item2, item3, item4, item5, item6);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 *
+	 * @param item0 a T item
+	 * @param item1 a T item
+	 * @param item2 a T item
+	 * @param item3 a T item
+	 * @param item4 a T item
+	 * @param item5 a T item
+	 * @param item6 a T item
+	 * @param item7 a T item
+	 * @param <T>   the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	public static <T> HopscotchObjectSet<T> with(T item0, T item1, T item2, T item3, T item4, T item5, T item6, T item7) {
+		HopscotchObjectSet<T> set = new HopscotchObjectSet<>(8);
+		set.add(item0, item1, item2, item3, item4, item5, item6, item7);
+		return set;
+	}
+
+	/**
+	 * Creates a new HopscotchObjectSet that holds only the given items, but can be resized.
+	 * This overload will only be used when an array is supplied and the type of the
+	 * items requested is the component type of the array, or if varargs are used and
+	 * there are 9 or more arguments.
+	 *
+	 * @param varargs a T varargs or T array; remember that varargs allocate
+	 * @param <T>     the type of item, typically inferred
+	 * @return a new HopscotchObjectSet that holds the given items
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> HopscotchObjectSet<T> with(T... varargs) {
+		return new HopscotchObjectSet<>(varargs);
+	}
+}
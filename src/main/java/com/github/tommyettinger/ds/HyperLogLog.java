@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * Estimates how many distinct items have been added, using a small, fixed amount of memory no matter how many items
+ * there are. With the default precision of 14, this uses 16 KiB and is usually within about 1% of the true count,
+ * where an {@link ObjectSet} or {@link LongSet} would need to store every distinct item. Adding an item takes constant
+ * time and never allocates.
+ * <br>
+ * Items can be Objects (hashed with {@link Object#hashCode()}), ints, or longs. An int and a long with the same value
+ * count as the same item, and so does an Object whose hashCode() is that int, such as an Integer; a Long with a large
+ * value does not match the same long, because {@link Long#hashCode()} only has 32 bits. Each item's hash is mixed
+ * to 64 bits using multipliers from {@link Utilities#GOOD_MULTIPLIERS} chosen by the seed.
+ * <br>
+ * Two HyperLogLogs with the same precision and seed can be combined with {@link #merge(HyperLogLog)}, which gives the
+ * same estimate as if every item had been added to one of them; this lets separate threads or machines each count
+ * their share of the items. The registers can be stored with {@link #getRegisters()} and restored with
+ * {@link #HyperLogLog(byte[], int)}.
+ */
+public class HyperLogLog {
+	/**
+	 * One register per bucket; each holds the highest rank seen for hashes in that bucket.
+	 */
+	protected final byte[] registers;
+	/**
+	 * The base-2 logarithm of the number of registers.
+	 */
+	protected final int precision;
+	protected final int seed;
+	/**
+	 * Mixed into every hash; derived from {@link #seed} and {@link Utilities#GOOD_MULTIPLIERS}.
+	 */
+	protected final long seedMix;
+
+	/**
+	 * Creates a HyperLogLog with precision 14 (16384 registers) and a seed of 0.
+	 */
+	public HyperLogLog() {
+		this(14, 0);
+	}
+
+	/**
+	 * Creates a HyperLogLog with the given precision and a seed of 0.
+	 *
+	 * @param precision between 4 and 18; the standard error is about {@code 1.04 / Math.sqrt(1 << precision)}
+	 */
+	public HyperLogLog(int precision) {
+		this(precision, 0);
+	}
+
+	/**
+	 * Creates a HyperLogLog with the given precision and seed.
+	 *
+	 * @param precision between 4 and 18; the standard error is about {@code 1.04 / Math.sqrt(1 << precision)}
+	 * @param seed      any int; only HyperLogLogs with the same seed can be merged
+	 */
+	public HyperLogLog(int precision, int seed) {
+		if (precision < 4 || precision > 18) {
+			throw new IllegalArgumentException("precision must be between 4 and 18, inclusive: " + precision);
+		}
+		this.precision = precision;
+		this.registers = new byte[1 << precision];
+		this.seed = seed;
+		seedMix = (long) Utilities.GOOD_MULTIPLIERS[seed & 255] << 32 ^ Utilities.GOOD_MULTIPLIERS[(seed >>> 8 & 255) + 256];
+	}
+
+	/**
+	 * Restores a HyperLogLog from registers returned by {@link #getRegisters()}.
+	 *
+	 * @param registers a byte array from {@link #getRegisters()}; its length must be a power of two from 16 to 262144
+	 * @param seed      the seed of the HyperLogLog that the registers came from
+	 */
+	public HyperLogLog(byte[] registers, int seed) {
+		this(Integer.numberOfTrailingZeros(registers.length), seed);
+		if (this.registers.length != registers.length) {
+			throw new IllegalArgumentException("The length of registers must be a power of two: " + registers.length);
+		}
+		System.arraycopy(registers, 0, this.registers, 0, registers.length);
+	}
+
+	/**
+	 * Creates a copy of {@code other}.
+	 *
+	 * @param other another HyperLogLog to copy
+	 */
+	public HyperLogLog(HyperLogLog other) {
+		this(other.registers, other.seed);
+	}
+
+	/**
+	 * Mixes a 64-bit input and the seed into a 64-bit hash.
+	 */
+	protected long hash(long item) {
+		long z = (item ^ seedMix) * 0xD1B54A32D192ED03L;
+		z = (z ^ z >>> 31) * 0xF1357AEA2E62A9C5L;
+		return z ^ z >>> 29;
+	}
+
+	/**
+	 * Updates the register for an already-mixed 64-bit hash.
+	 *
+	 * @return true if a register changed, which means the estimate changed
+	 */
+	protected boolean addHash(long hash) {
+		final int index = (int) (hash >>> 64 - precision);
+		final int rank = Long.numberOfLeadingZeros(hash << precision | 1L << precision - 1) + 1;
+		if (rank > registers[index]) {
+			registers[index] = (byte) rank;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds an Object item, using its {@link Object#hashCode()}.
+	 *
+	 * @param item the item to add; must not be null
+	 * @return true if the estimate may have changed
+	 */
+	public boolean add(Object item) {
+		return addHash(hash(item.hashCode()));
+	}
+
+	/**
+	 * Adds an int item; this counts as the same item as a long with the same value.
+	 *
+	 * @param item the item to add
+	 * @return true if the estimate may have changed
+	 */
+	public boolean add(int item) {
+		return addHash(hash(item));
+	}
+
+	/**
+	 * Adds a long item.
+	 *
+	 * @param item the item to add
+	 * @return true if the estimate may have changed
+	 */
+	public boolean add(long item) {
+		return addHash(hash(item));
+	}
+
+	/**
+	 * Adds every item in {@code items}.
+	 *
+	 * @param items the items to add
+	 */
+	public void addAll(int[] items) {
+		for (int item : items) {
+			addHash(hash(item));
+		}
+	}
+
+	/**
+	 * Adds every item in {@code items}.
+	 *
+	 * @param items the items to add
+	 */
+	public void addAll(long[] items) {
+		for (long item : items) {
+			addHash(hash(item));
+		}
+	}
+
+	/**
+	 * Adds every item in {@code items}.
+	 *
+	 * @param items the items to add; none can be null
+	 */
+	public void addAll(Iterable<?> items) {
+		for (Object item : items) {
+			addHash(hash(item.hashCode()));
+		}
+	}
+
+	/**
+	 * Estimates how many distinct items have been added. This uses Ertl's improved estimator, which works from a
+	 * histogram of the register values and needs no switch to linear counting for small counts, so it avoids the
+	 * bias the classic estimator has where the two meet (about 2% at 2.5 times the register count). The relative
+	 * error is close to {@link #standardError()} at every count.
+	 *
+	 * @return an estimate of the number of distinct items added
+	 */
+	public long estimate() {
+		final int m = registers.length, q = 64 - precision;
+		final int[] counts = new int[q + 2];
+		for (byte r : registers) {
+			counts[r]++;
+		}
+		double z = m * tau(1.0 - (double) counts[q + 1] / m);
+		for (int k = q; k > 0; k--) {
+			z = 0.5 * (z + counts[k]);
+		}
+		z += m * sigma((double) counts[0] / m);
+		final double alpha = m == 16 ? 0.673 : m == 32 ? 0.697 : m == 64 ? 0.709 : 0.7213 / (1.0 + 1.079 / m);
+		return Math.round(alpha * m * m / z);
+	}
+
+	/**
+	 * The correction for empty registers in Ertl's estimator; x is the fraction of registers that are 0.
+	 */
+	private static double sigma(double x) {
+		if (x == 1.0) return Double.POSITIVE_INFINITY;
+		double y = 1.0, z = x, prev;
+		do {
+			x *= x;
+			prev = z;
+			z += x * y;
+			y += y;
+		} while (z != prev);
+		return z;
+	}
+
+	/**
+	 * The correction for saturated registers in Ertl's estimator; x is the fraction of registers below the maximum.
+	 */
+	private static double tau(double x) {
+		if (x == 0.0 || x == 1.0) return 0.0;
+		double y = 1.0, z = 1.0 - x, prev;
+		do {
+			x = Math.sqrt(x);
+			prev = z;
+			y *= 0.5;
+			z -= (1.0 - x) * (1.0 - x) * y;
+		} while (z != prev);
+		return z / 3.0;
+	}
+
+	/**
+	 * Makes this count every item that was added to either this or {@code other}.
+	 *
+	 * @param other another HyperLogLog with the same precision and seed
+	 * @throws IllegalArgumentException if {@code other} has a different precision or seed
+	 */
+	public void merge(HyperLogLog other) {
+		if (other.precision != precision || other.seed != seed) {
+			throw new IllegalArgumentException("HyperLogLogs must have the same precision and seed to be merged.");
+		}
+		final byte[] registers = this.registers, others = other.registers;
+		for (int i = 0; i < registers.length; i++) {
+			if (others[i] > registers[i]) registers[i] = others[i];
+		}
+	}
+
+	/**
+	 * @return the base-2 logarithm of the number of registers
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	public int getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @return the expected relative error of {@link #estimate()}, as a fraction such as 0.008125
+	 */
+	public double standardError() {
+		return 1.04 / Math.sqrt(registers.length);
+	}
+
+	/**
+	 * Gets a copy of the registers, which can be given to {@link #HyperLogLog(byte[], int)} with the same seed.
+	 *
+	 * @return a new byte array holding the registers
+	 */
+	public byte[] getRegisters() {
+		return registers.clone();
+	}
+
+	public boolean isEmpty() {
+		for (byte r : registers) {
+			if (r != 0) return false;
+		}
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(registers, (byte) 0);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		HyperLogLog other = (HyperLogLog) o;
+		return seed == other.seed && Arrays.equals(registers, other.registers);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(registers) * 31 + seed;
+	}
+
+	@Override
+	public String toString() {
+		return "HyperLogLog with precision " + precision + " and estimate " + estimate();
+	}
+}
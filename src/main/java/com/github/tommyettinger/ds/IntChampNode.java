@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+
+import java.util.Objects;
+
+/**
+ * A node in a compressed hash-array mapped prefix tree (CHAMP) with int keys, used by {@link PersistentIntObjectMap}.
+ * This works like {@link ChampNode}, but keeps the keys of the pairs in this node unboxed in {@link #keys}, in branch
+ * order, while {@link #slots} holds the matching values followed by the child nodes, in branch order. Because
+ * {@link #hash(int)} is a bijection, two different keys never have the same hash, so there are no collision nodes.
+ */
+final class IntChampNode {
+	static final IntChampNode EMPTY = new IntChampNode(null, 0, 0, new int[0], new Object[0]);
+	/**
+	 * Returned by {@link #find(IntChampNode, int, int)} when a key is not present, since null is a valid value.
+	 */
+	static final Object NOT_FOUND = ChampNode.NOT_FOUND;
+
+	final Object edit;
+	int dataMap, nodeMap;
+	int[] keys;
+	Object[] slots;
+
+	IntChampNode(Object edit, int dataMap, int nodeMap, int[] keys, Object[] slots) {
+		this.edit = edit;
+		this.dataMap = dataMap;
+		this.nodeMap = nodeMap;
+		this.keys = keys;
+		this.slots = slots;
+	}
+
+	/**
+	 * Receives the differences found by {@link #diff(IntChampNode, IntChampNode, int, Differ)}.
+	 */
+	interface Differ {
+		void added(int key, Object value);
+
+		void removed(int key, Object value);
+
+		void changed(int key, Object oldValue, Object newValue);
+	}
+
+	static int hash(int key) {
+		final int h = BitConversion.imul(key, 0xFAB9E45B);
+		return h ^ h >>> 16;
+	}
+
+	private static int bit(int hash, int shift) {
+		return 1 << (hash >>> shift & 31);
+	}
+
+	private static int index(int bitmap, int bit) {
+		return Integer.bitCount(bitmap & bit - 1);
+	}
+
+	private IntChampNode editable(Object edit, int dataMap, int nodeMap, int[] keys, Object[] slots) {
+		if (edit != null && this.edit == edit) {
+			this.dataMap = dataMap;
+			this.nodeMap = nodeMap;
+			this.keys = keys;
+			this.slots = slots;
+			return this;
+		}
+		return new IntChampNode(edit, dataMap, nodeMap, keys, slots);
+	}
+
+	private IntChampNode withSlot(Object edit, int slot, Object item) {
+		if (edit != null && this.edit == edit) {
+			slots[slot] = item;
+			return this;
+		}
+		Object[] next = slots.clone();
+		next[slot] = item;
+		return new IntChampNode(edit, dataMap, nodeMap, keys, next);
+	}
+
+	static Object find(IntChampNode node, int key, int hash) {
+		for (int shift = 0; ; shift += 5) {
+			final int bit = bit(hash, shift);
+			if ((node.dataMap & bit) != 0) {
+				final int i = index(node.dataMap, bit);
+				return node.keys[i] == key ? node.slots[i] : NOT_FOUND;
+			}
+			if ((node.nodeMap & bit) == 0) return NOT_FOUND;
+			node = (IntChampNode) node.slots[node.keys.length + index(node.nodeMap, bit)];
+		}
+	}
+
+	static IntChampNode put(IntChampNode node, int key, Object value, int hash, int shift, Object edit,
+							ChampNode.Change change) {
+		final int[] keys = node.keys;
+		final Object[] slots = node.slots;
+		final int bit = bit(hash, shift);
+		if ((node.dataMap & bit) != 0) {
+			final int i = index(node.dataMap, bit);
+			final int k = keys[i];
+			if (k == key) {
+				change.oldValue = slots[i];
+				if (slots[i] == value) return node;
+				return node.withSlot(edit, i, value);
+			}
+			change.sizeChanged = true;
+			IntChampNode sub = pair(k, slots[i], hash(k), key, value, hash, shift + 5, edit);
+			// move the pair at i into a new child node
+			final int nodeIndex = keys.length - 1 + index(node.nodeMap, bit);
+			int[] nextKeys = new int[keys.length - 1];
+			System.arraycopy(keys, 0, nextKeys, 0, i);
+			System.arraycopy(keys, i + 1, nextKeys, i, keys.length - i - 1);
+			Object[] next = new Object[slots.length];
+			System.arraycopy(slots, 0, next, 0, i);
+			System.arraycopy(slots, i + 1, next, i, nodeIndex - i);
+			next[nodeIndex] = sub;
+			System.arraycopy(slots, nodeIndex + 1, next, nodeIndex + 1, slots.length - nodeIndex - 1);
+			return node.editable(edit, node.dataMap ^ bit, node.nodeMap | bit, nextKeys, next);
+		}
+		if ((node.nodeMap & bit) != 0) {
+			final int slot = keys.length + index(node.nodeMap, bit);
+			final IntChampNode sub = (IntChampNode) slots[slot];
+			final IntChampNode nextSub = put(sub, key, value, hash, shift + 5, edit, change);
+			if (nextSub == sub) return node;
+			return node.withSlot(edit, slot, nextSub);
+		}
+		change.sizeChanged = true;
+		final int i = index(node.dataMap, bit);
+		int[] nextKeys = new int[keys.length + 1];
+		System.arraycopy(keys, 0, nextKeys, 0, i);
+		nextKeys[i] = key;
+		System.arraycopy(keys, i, nextKeys, i + 1, keys.length - i);
+		Object[] next = new Object[slots.length + 1];
+		System.arraycopy(slots, 0, next, 0, i);
+		next[i] = value;
+		System.arraycopy(slots, i, next, i + 1, slots.length - i);
+		return node.editable(edit, node.dataMap | bit, node.nodeMap, nextKeys, next);
+	}
+
+	/**
+	 * Creates the smallest subtree, starting at {@code shift}, that holds two pairs with different keys (and so
+	 * different hashes).
+	 */
+	private static IntChampNode pair(int k0, Object v0, int h0, int k1, Object v1, int h1, int shift, Object edit) {
+		final int b0 = bit(h0, shift), b1 = bit(h1, shift);
+		if (b0 == b1) {
+			return new IntChampNode(edit, 0, b0, new int[0],
+				new Object[]{pair(k0, v0, h0, k1, v1, h1, shift + 5, edit)});
+		}
+		return Integer.compareUnsigned(b0, b1) < 0
+			? new IntChampNode(edit, b0 | b1, 0, new int[]{k0, k1}, new Object[]{v0, v1})
+			: new IntChampNode(edit, b0 | b1, 0, new int[]{k1, k0}, new Object[]{v1, v0});
+	}
+
+	static IntChampNode remove(IntChampNode node, int key, int hash, int shift, Object edit, ChampNode.Change change) {
+		final int[] keys = node.keys;
+		final Object[] slots = node.slots;
+		final int bit = bit(hash, shift);
+		if ((node.dataMap & bit) != 0) {
+			final int i = index(node.dataMap, bit);
+			if (keys[i] != key) return node;
+			change.oldValue = slots[i];
+			change.sizeChanged = true;
+			int[] nextKeys = new int[keys.length - 1];
+			System.arraycopy(keys, 0, nextKeys, 0, i);
+			System.arraycopy(keys, i + 1, nextKeys, i, keys.length - i - 1);
+			Object[] next = new Object[slots.length - 1];
+			System.arraycopy(slots, 0, next, 0, i);
+			System.arraycopy(slots, i + 1, next, i, slots.length - i - 1);
+			return node.editable(edit, node.dataMap ^ bit, node.nodeMap, nextKeys, next);
+		}
+		if ((node.nodeMap & bit) != 0) {
+			final int slot = keys.length + index(node.nodeMap, bit);
+			final IntChampNode sub = (IntChampNode) slots[slot];
+			final IntChampNode nextSub = remove(sub, key, hash, shift + 5, edit, change);
+			// a Builder may have changed sub in place, so check for a lone pair even if nextSub is sub
+			if (!change.sizeChanged) return node;
+			if (nextSub.nodeMap != 0 || nextSub.keys.length != 1) return node.withSlot(edit, slot, nextSub);
+			// pull the lone pair in nextSub up into this node
+			final int i = index(node.dataMap, bit);
+			int[] nextKeys = new int[keys.length + 1];
+			System.arraycopy(keys, 0, nextKeys, 0, i);
+			nextKeys[i] = nextSub.keys[0];
+			System.arraycopy(keys, i, nextKeys, i + 1, keys.length - i);
+			Object[] next = new Object[slots.length];
+			System.arraycopy(slots, 0, next, 0, i);
+			next[i] = nextSub.slots[0];
+			System.arraycopy(slots, i, next, i + 1, slot - i);
+			System.arraycopy(slots, slot + 1, next, slot + 1, slots.length - slot - 1);
+			return node.editable(edit, node.dataMap | bit, node.nodeMap ^ bit, nextKeys, next);
+		}
+		return node;
+	}
+
+	/**
+	 * Calls {@code differ} once for every pair that is in only one of {@code a} or {@code b}, or that has different
+	 * values in each; subtrees that {@code a} and {@code b} share are skipped.
+	 */
+	static void diff(IntChampNode a, IntChampNode b, int shift, Differ differ) {
+		if (a == b) return;
+		final int aData = a.keys.length, bData = b.keys.length;
+		for (int bits = a.dataMap | a.nodeMap | b.dataMap | b.nodeMap; bits != 0; bits &= bits - 1) {
+			final int bit = bits & -bits;
+			if ((a.dataMap & bit) != 0) {
+				final int i = index(a.dataMap, bit);
+				final int key = a.keys[i];
+				final Object value = a.slots[i];
+				if ((b.dataMap & bit) != 0) {
+					final int j = index(b.dataMap, bit);
+					if (key == b.keys[j]) {
+						compare(key, value, b.slots[j], differ);
+					} else {
+						differ.removed(key, value);
+						differ.added(b.keys[j], b.slots[j]);
+					}
+				} else if ((b.nodeMap & bit) != 0) {
+					final IntChampNode sub = (IntChampNode) b.slots[bData + index(b.nodeMap, bit)];
+					compare(key, value, find(sub, key, hash(key)), differ);
+					forEachExcept(sub, key, true, false, differ);
+				} else {
+					differ.removed(key, value);
+				}
+			} else if ((a.nodeMap & bit) != 0) {
+				final IntChampNode sub = (IntChampNode) a.slots[aData + index(a.nodeMap, bit)];
+				if ((b.nodeMap & bit) != 0) {
+					diff(sub, (IntChampNode) b.slots[bData + index(b.nodeMap, bit)], shift + 5, differ);
+				} else if ((b.dataMap & bit) != 0) {
+					final int j = index(b.dataMap, bit);
+					final int key = b.keys[j];
+					final Object value = b.slots[j];
+					final Object old = find(sub, key, hash(key));
+					forEachExcept(sub, key, true, true, differ);
+					if (old == NOT_FOUND) differ.added(key, value);
+					else if (!Objects.equals(old, value)) differ.changed(key, old, value);
+				} else {
+					forEachExcept(sub, 0, false, true, differ);
+				}
+			} else if ((b.dataMap & bit) != 0) {
+				final int j = index(b.dataMap, bit);
+				differ.added(b.keys[j], b.slots[j]);
+			} else {
+				forEachExcept((IntChampNode) b.slots[bData + index(b.nodeMap, bit)], 0, false, false, differ);
+			}
+		}
+	}
+
+	private static void compare(int key, Object value, Object other, Differ differ) {
+		if (other == NOT_FOUND) differ.removed(key, value);
+		else if (!Objects.equals(value, other)) differ.changed(key, value, other);
+	}
+
+	/**
+	 * Reports every pair in {@code node}, except the one with key {@code except} if {@code skip} is true, as removed
+	 * or added.
+	 */
+	private static void forEachExcept(IntChampNode node, int except, boolean skip, boolean removed, Differ differ) {
+		final int[] keys = node.keys;
+		final Object[] slots = node.slots;
+		final int data = keys.length;
+		for (int i = 0; i < data; i++) {
+			if (skip && keys[i] == except) continue;
+			if (removed) differ.removed(keys[i], slots[i]);
+			else differ.added(keys[i], slots[i]);
+		}
+		for (int i = data; i < slots.length; i++) {
+			forEachExcept((IntChampNode) slots[i], except, skip, removed, differ);
+		}
+	}
+
+	/**
+	 * Checks if {@code a} and {@code b} hold the same pairs, skipping subtrees that they share. This relies on the
+	 * shape of a trie depending only on the pairs it holds.
+	 */
+	static boolean equal(IntChampNode a, IntChampNode b) {
+		if (a == b) return true;
+		if (a.dataMap != b.dataMap || a.nodeMap != b.nodeMap) return false;
+		final int[] ak = a.keys, bk = b.keys;
+		final Object[] as = a.slots, bs = b.slots;
+		final int data = ak.length;
+		for (int i = 0; i < data; i++) {
+			if (ak[i] != bk[i] || !Objects.equals(as[i], bs[i])) return false;
+		}
+		for (int i = data; i < as.length; i++) {
+			if (!equal((IntChampNode) as[i], (IntChampNode) bs[i])) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Walks every pair in a trie, depth-first, without recursion.
+	 */
+	static class Cursor {
+		private final IntChampNode[] nodes = new IntChampNode[8];
+		private final int[] positions = new int[8];
+		private int depth;
+		int key;
+		Object value;
+
+		Cursor(IntChampNode root) {
+			nodes[0] = root;
+		}
+
+		/**
+		 * Moves to the next pair, setting {@link #key} and {@link #value}.
+		 *
+		 * @return false if there are no more pairs
+		 */
+		boolean advance() {
+			while (true) {
+				final IntChampNode node = nodes[depth];
+				final int p = positions[depth];
+				if (p < node.keys.length) {
+					key = node.keys[p];
+					value = node.slots[p];
+					positions[depth]++;
+					return true;
+				}
+				if (p < node.slots.length) {
+					positions[depth]++;
+					nodes[++depth] = (IntChampNode) node.slots[p];
+					positions[depth] = 0;
+					continue;
+				}
+				if (depth == 0) return false;
+				nodes[depth--] = null;
+			}
+		}
+	}
+}
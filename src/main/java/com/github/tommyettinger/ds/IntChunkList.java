@@ -0,0 +1,589 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.IntIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A list of int items stored in a sequence of fixed-capacity chunks, so inserting or removing in the middle only moves
+ * the items in one chunk plus one int per later chunk, instead of every later item as in
+ * {@link IntList#insert(int, int)}. With the default chunk capacity of {@value #DEFAULT_CHUNK_CAPACITY}, that makes
+ * middle edits on a list of a million items about as fast as on a list of a few thousand. {@link #get(int)} and
+ * {@link #set(int, int)} find the chunk with a binary search over the start index of each chunk, and remember the last
+ * chunk used, so sequential access is nearly as fast as in a {@link IntList}. Iterating with {@link #iterator()} walks
+ * the chunks directly.
+ * <br>
+ * A chunk that fills up is split in half; a chunk that becomes empty is dropped, and a chunk that becomes small is
+ * merged with its neighbor. Appending with {@link #add(int)} fills each chunk completely before starting a new one.
+ * This is a good choice when a list is large and is edited at arbitrary positions, such as a timeline or a text buffer;
+ * for lists that are mostly appended to and read, {@link IntList} is smaller and faster.
+ *
+ * @see IntList IntList keeps every item in one array.
+ */
+public class IntChunkList implements PrimitiveCollection.OfInt, Arrangeable {
+	/**
+	 * The chunk capacity used by constructors that don't take one.
+	 */
+	public static final int DEFAULT_CHUNK_CAPACITY = 1024;
+
+	/**
+	 * The most items one chunk can hold.
+	 */
+	protected final int chunkCapacity;
+	/**
+	 * The chunks, each an array with length {@link #chunkCapacity}; only the first {@link #chunkCount} are used.
+	 */
+	protected int[][] chunks;
+	/**
+	 * How many items are in each chunk.
+	 */
+	protected int[] chunkSizes;
+	/**
+	 * The index in the whole list of the first item in each chunk.
+	 */
+	protected int[] chunkStarts;
+	/**
+	 * How many chunks are in use; this is always at least 1, even when the list is empty.
+	 */
+	protected int chunkCount;
+	protected int size;
+	/**
+	 * The chunk that was used most recently, which is checked before doing a binary search.
+	 */
+	protected int lastChunk;
+
+	/**
+	 * Creates an empty IntChunkList with a chunk capacity of {@value #DEFAULT_CHUNK_CAPACITY}.
+	 */
+	public IntChunkList() {
+		this(DEFAULT_CHUNK_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty IntChunkList where each chunk holds at most {@code chunkCapacity} items. Larger chunks make reads
+	 * and appends a little faster, and smaller chunks make middle edits faster; the square root of the expected size is
+	 * a good balance.
+	 *
+	 * @param chunkCapacity how many items each chunk can hold; at least 8
+	 */
+	public IntChunkList(int chunkCapacity) {
+		this.chunkCapacity = Math.max(8, chunkCapacity);
+		chunks = new int[4][];
+		chunkSizes = new int[4];
+		chunkStarts = new int[4];
+		chunks[0] = new int[this.chunkCapacity];
+		chunkCount = 1;
+	}
+
+	/**
+	 * Creates a new IntChunkList holding the items in {@code coll}, in iteration order.
+	 *
+	 * @param coll a primitive collection that will have its contents added to this
+	 */
+	public IntChunkList(OfInt coll) {
+		this();
+		addAll(coll);
+	}
+
+	/**
+	 * Creates a new IntChunkList holding the items in {@code array}, in order.
+	 *
+	 * @param array a non-null int array to add to this
+	 */
+	public IntChunkList(int[] array) {
+		this();
+		addAll(array, 0, array.length);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the most items one chunk can hold.
+	 *
+	 * @return the chunk capacity
+	 */
+	public int getChunkCapacity() {
+		return chunkCapacity;
+	}
+
+	/**
+	 * Finds which chunk holds the item at {@code index}, which must be between 0 (inclusive) and {@link #size}
+	 * (exclusive).
+	 *
+	 * @param index an index in the whole list
+	 * @return the index of the chunk that holds {@code index}
+	 */
+	protected int chunkOf(int index) {
+		int c = lastChunk;
+		if (c < chunkCount && index >= chunkStarts[c] && index - chunkStarts[c] < chunkSizes[c]) return c;
+		int lo = 0, hi = chunkCount - 1;
+		while (lo < hi) {
+			int mid = lo + hi + 1 >>> 1;
+			if (chunkStarts[mid] <= index) lo = mid;
+			else hi = mid - 1;
+		}
+		return lastChunk = lo;
+	}
+
+	/**
+	 * Makes room for a new, empty chunk at position {@code c}, shifting later chunks up. The new chunk's start is set
+	 * to {@code start}.
+	 */
+	private void insertChunk(int c, int start) {
+		if (chunkCount == chunks.length) {
+			int newLength = Math.max(8, (int) (chunkCount * 1.75f));
+			chunks = Arrays.copyOf(chunks, newLength);
+			chunkSizes = Arrays.copyOf(chunkSizes, newLength);
+			chunkStarts = Arrays.copyOf(chunkStarts, newLength);
+		}
+		int after = chunkCount - c;
+		System.arraycopy(chunks, c, chunks, c + 1, after);
+		System.arraycopy(chunkSizes, c, chunkSizes, c + 1, after);
+		System.arraycopy(chunkStarts, c, chunkStarts, c + 1, after);
+		chunks[c] = new int[chunkCapacity];
+		chunkSizes[c] = 0;
+		chunkStarts[c] = start;
+		chunkCount++;
+	}
+
+	/**
+	 * Drops the chunk at position {@code c}, which should be empty, shifting later chunks down.
+	 */
+	private void deleteChunk(int c) {
+		int after = chunkCount - c - 1;
+		System.arraycopy(chunks, c + 1, chunks, c, after);
+		System.arraycopy(chunkSizes, c + 1, chunkSizes, c, after);
+		System.arraycopy(chunkStarts, c + 1, chunkStarts, c, after);
+		chunks[--chunkCount] = null;
+	}
+
+	/**
+	 * Moves the upper half of the items in chunk {@code c} into a new chunk just after it.
+	 */
+	private void split(int c) {
+		int half = chunkSizes[c] >>> 1, moved = chunkSizes[c] - half;
+		insertChunk(c + 1, chunkStarts[c] + half);
+		System.arraycopy(chunks[c], half, chunks[c + 1], 0, moved);
+		chunkSizes[c] = half;
+		chunkSizes[c + 1] = moved;
+	}
+
+	/**
+	 * If chunk {@code c} is empty, drops it; if it and a neighbor together fill at most half a chunk, merges them.
+	 */
+	private void shrinkChunk(int c) {
+		if (chunkCount == 1) return;
+		if (chunkSizes[c] == 0) {
+			deleteChunk(c);
+		} else if (c + 1 < chunkCount && chunkSizes[c] + chunkSizes[c + 1] <= chunkCapacity >>> 1) {
+			merge(c);
+		} else if (c > 0 && chunkSizes[c - 1] + chunkSizes[c] <= chunkCapacity >>> 1) {
+			merge(c - 1);
+		}
+	}
+
+	/**
+	 * Appends the items of chunk {@code c + 1} to chunk {@code c}, then drops chunk {@code c + 1}.
+	 */
+	private void merge(int c) {
+		System.arraycopy(chunks[c + 1], 0, chunks[c], chunkSizes[c], chunkSizes[c + 1]);
+		chunkSizes[c] += chunkSizes[c + 1];
+		deleteChunk(c + 1);
+	}
+
+	/**
+	 * Adds {@code delta} to the start of every chunk from {@code c} on.
+	 */
+	private void shiftStarts(int c, int delta) {
+		final int[] chunkStarts = this.chunkStarts;
+		for (int n = chunkCount; c < n; c++) {
+			chunkStarts[c] += delta;
+		}
+	}
+
+	/**
+	 * Recalculates the start of every chunk from {@code c} on, using the sizes of earlier chunks.
+	 */
+	private void recalculateStarts(int c) {
+		int start = c == 0 ? 0 : chunkStarts[c - 1] + chunkSizes[c - 1];
+		for (int n = chunkCount; c < n; c++) {
+			chunkStarts[c] = start;
+			start += chunkSizes[c];
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index must be >= 0 and < size: " + index + ", size " + size);
+		}
+	}
+
+	/**
+	 * Appends {@code value} to the end of this list. This fills the last chunk before starting a new one.
+	 *
+	 * @param value the item to add
+	 * @return true
+	 */
+	@Override
+	public boolean add(int value) {
+		int c = chunkCount - 1;
+		if (chunkSizes[c] == chunkCapacity) {
+			insertChunk(++c, size);
+		}
+		chunks[c][chunkSizes[c]++] = value;
+		size++;
+		return true;
+	}
+
+	/**
+	 * Inserts {@code value} at {@code index}, moving the items after it in the same chunk up by one.
+	 *
+	 * @param index where to insert {@code value}; may be equal to {@link #size()} to append
+	 * @param value the item to insert
+	 */
+	public void insert(int index, int value) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("index must be >= 0 and <= size: " + index + ", size " + size);
+		}
+		if (index == size) {
+			add(value);
+			return;
+		}
+		int c = chunkOf(index);
+		if (chunkSizes[c] == chunkCapacity) {
+			split(c);
+			if (index >= chunkStarts[c + 1]) c++;
+		}
+		final int[] chunk = chunks[c];
+		final int local = index - chunkStarts[c];
+		System.arraycopy(chunk, local, chunk, local + 1, chunkSizes[c] - local);
+		chunk[local] = value;
+		chunkSizes[c]++;
+		size++;
+		shiftStarts(c + 1, 1);
+		lastChunk = c;
+	}
+
+	/**
+	 * Gets the item at {@code index}.
+	 *
+	 * @param index the index of the item to get
+	 * @return the item at {@code index}
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+	 */
+	public int get(int index) {
+		checkIndex(index);
+		int c = chunkOf(index);
+		return chunks[c][index - chunkStarts[c]];
+	}
+
+	/**
+	 * Replaces the item at {@code index} with {@code value}.
+	 *
+	 * @param index the index of the item to replace
+	 * @param value the new item
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+	 */
+	public void set(int index, int value) {
+		checkIndex(index);
+		int c = chunkOf(index);
+		chunks[c][index - chunkStarts[c]] = value;
+	}
+
+	/**
+	 * Removes and returns the item at {@code index}, moving the items after it in the same chunk down by one.
+	 *
+	 * @param index the index of the item to remove
+	 * @return the removed item
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+	 */
+	public int removeAt(int index) {
+		checkIndex(index);
+		int c = chunkOf(index);
+		final int[] chunk = chunks[c];
+		final int local = index - chunkStarts[c], last = --chunkSizes[c];
+		int value = chunk[local];
+		System.arraycopy(chunk, local + 1, chunk, local, last - local);
+		size--;
+		shiftStarts(c + 1, -1);
+		shrinkChunk(c);
+		return value;
+	}
+
+	/**
+	 * Removes the items from {@code start} (inclusive) to {@code end} (exclusive). Chunks that are entirely in the
+	 * range are dropped without touching their items.
+	 *
+	 * @param start the first index to remove, inclusive
+	 * @param end   the last index to remove, exclusive
+	 */
+	public void removeRange(int start, int end) {
+		if (start < 0 || end > size || start > end) {
+			throw new IndexOutOfBoundsException("Invalid range: start " + start + ", end " + end + ", size " + size);
+		}
+		if (start == end) return;
+		final int first = chunkOf(start);
+		int c = first, pos = start - chunkStarts[c], remaining = end - start;
+		while (remaining > 0) {
+			final int s = chunkSizes[c], n = Math.min(remaining, s - pos);
+			remaining -= n;
+			if (n == s && chunkCount > 1) {
+				deleteChunk(c);
+			} else {
+				System.arraycopy(chunks[c], pos + n, chunks[c], pos, s - pos - n);
+				chunkSizes[c] = s - n;
+				c++;
+			}
+			pos = 0;
+		}
+		size -= end - start;
+		recalculateStarts(Math.min(first, chunkCount - 1));
+		if (first < chunkCount) shrinkChunk(first);
+	}
+
+	/**
+	 * Removes the first occurrence of {@code value}, if present.
+	 *
+	 * @param value the item to remove
+	 * @return true if this list changed
+	 */
+	@Override
+	public boolean remove(int value) {
+		int index = indexOf(value);
+		if (index == -1) return false;
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Finds the first index of {@code value}.
+	 *
+	 * @param value the item to look for
+	 * @return the first index of {@code value}, or -1 if it isn't present
+	 */
+	public int indexOf(int value) {
+		for (int c = 0; c < chunkCount; c++) {
+			final int[] chunk = chunks[c];
+			for (int i = 0, n = chunkSizes[c]; i < n; i++) {
+				if (chunk[i] == value) return chunkStarts[c] + i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(int value) {
+		return indexOf(value) != -1;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(chunks, 1, chunkCount, null);
+		chunkCount = 1;
+		chunkSizes[0] = 0;
+		size = 0;
+		lastChunk = 0;
+	}
+
+	@Override
+	public void swap(int first, int second) {
+		int f = get(first);
+		set(first, get(second));
+		set(second, f);
+	}
+
+	/**
+	 * Reverses the order of the items, by reversing the order of the chunks and the items within each chunk.
+	 */
+	@Override
+	public void reverse() {
+		for (int i = 0, j = chunkCount - 1; i < j; i++, j--) {
+			int[] tc = chunks[i];
+			chunks[i] = chunks[j];
+			chunks[j] = tc;
+			int ts = chunkSizes[i];
+			chunkSizes[i] = chunkSizes[j];
+			chunkSizes[j] = ts;
+		}
+		for (int c = 0; c < chunkCount; c++) {
+			final int[] chunk = chunks[c];
+			for (int i = 0, j = chunkSizes[c] - 1; i < j; i++, j--) {
+				int t = chunk[i];
+				chunk[i] = chunk[j];
+				chunk[j] = t;
+			}
+		}
+		recalculateStarts(0);
+		lastChunk = 0;
+	}
+
+	/**
+	 * Copies every item, in order, into {@code dest} starting at {@code offset}, with one
+	 * {@link System#arraycopy} call per chunk.
+	 *
+	 * @param dest   the array to copy into; must have room for {@link #size()} items after {@code offset}
+	 * @param offset the first index in {@code dest} to write to
+	 * @return {@code dest}, after modifications
+	 */
+	public int[] copyTo(int[] dest, int offset) {
+		for (int c = 0; c < chunkCount; c++) {
+			System.arraycopy(chunks[c], 0, dest, offset + chunkStarts[c], chunkSizes[c]);
+		}
+		return dest;
+	}
+
+	@Override
+	public int[] toArray() {
+		return copyTo(new int[size], 0);
+	}
+
+	/**
+	 * Creates a new {@link IntList} holding the items in this, in order.
+	 *
+	 * @return a new IntList with the same items
+	 */
+	public IntList toIntList() {
+		return new IntList(toArray());
+	}
+
+	@Override
+	public IntIterator iterator() {
+		return new IntChunkListIterator(this);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = size;
+		for (int c = 0; c < chunkCount; c++) {
+			final int[] chunk = chunks[c];
+			for (int i = 0, n = chunkSizes[c]; i < n; i++) {
+				h = h * 31 + chunk[i];
+			}
+		}
+		return h ^ h >>> 16;
+	}
+
+	/**
+	 * Compares the items of this and {@code o} in order, if {@code o} is also a IntChunkList. The chunk capacities and
+	 * the way items are split between chunks don't matter.
+	 *
+	 * @param o object to be compared for equality with this list
+	 * @return true if this is equal to o, or false otherwise
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) return true;
+		if (!(o instanceof IntChunkList)) return false;
+		IntChunkList other = (IntChunkList) o;
+		if (size != other.size) return false;
+		IntIterator a = iterator(), b = other.iterator();
+		while (a.hasNext()) {
+			if (a.nextInt() != b.nextInt()) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with a delimiter of {@code ", "} and square brackets enabled.
+	 *
+	 * @return the square-bracketed String representation of this IntChunkList, with items separated by ", "
+	 */
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Creates a new IntChunkList holding the given items, with the default chunk capacity.
+	 *
+	 * @param varargs either 0 or more int items, or an array of int
+	 * @return a new IntChunkList holding the given items
+	 */
+	public static IntChunkList with(int... varargs) {
+		return new IntChunkList(varargs);
+	}
+
+	/**
+	 * A {@link IntIterator} that walks the chunks of a IntChunkList directly, rather than looking up each index.
+	 */
+	public static class IntChunkListIterator implements IntIterator {
+		protected final IntChunkList list;
+		protected int index, chunk, local;
+		protected boolean valid = false;
+
+		public IntChunkListIterator(IntChunkList list) {
+			this.list = list;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < list.size;
+		}
+
+		@Override
+		public int nextInt() {
+			if (index >= list.size) {
+				throw new NoSuchElementException();
+			}
+			while (local >= list.chunkSizes[chunk]) {
+				chunk++;
+				local = 0;
+			}
+			valid = true;
+			index++;
+			return list.chunks[chunk][local++];
+		}
+
+		/**
+		 * Removes the item most recently returned by {@link #nextInt()}.
+		 */
+		@Override
+		public void remove() {
+			if (!valid) {
+				throw new IllegalStateException("remove() can only be called once per call to next().");
+			}
+			list.removeAt(--index);
+			valid = false;
+			if (index < list.size) {
+				chunk = list.chunkOf(index);
+				local = index - list.chunkStarts[chunk];
+			} else {
+				chunk = list.chunkCount - 1;
+				local = list.chunkSizes[chunk];
+			}
+		}
+
+		/**
+		 * Returns this iterator to the first item, so it can be used again.
+		 */
+		public void reset() {
+			index = chunk = local = 0;
+			valid = false;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import com.github.tommyettinger.function.IntToFloatFunction;
 
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
@@ -1897,6 +1898,54 @@ public class IntFloatMap implements Iterable<IntFloatMap.Entry> {
 		}
 	}
 
+	/**
+	 * Puts key-value pairs into this map drawn from {@code reader}, which should provide text in the same format that
+	 * {@link #putLegible(String, String, String, int, int)} reads. This only buffers a bounded amount of the
+	 * text at a time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one
+	 * String. This does not close {@code reader}.
+	 *
+	 * @param reader            a Reader providing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 */
+	public void putLegible(Reader reader, String entrySeparator, String keyValueSeparator) {
+		putLegible(new LegibleTokenizer(reader), entrySeparator, keyValueSeparator);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from a window of any CharSequence, such as a CharBuffer or CharList, in
+	 * the same format that {@link #putLegible(String, String, String, int, int)} reads. This copies a bounded
+	 * amount of the text at a time into a {@link LegibleTokenizer}, rather than making a substring for each item.
+	 *
+	 * @param text              a CharSequence containing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param offset            the first position to read from in {@code text}
+	 * @param length            how many chars to read; -1 is treated as maximum length
+	 */
+	public void putLegible(CharSequence text, String entrySeparator, String keyValueSeparator, int offset, int length) {
+		if (text == null) return;
+		putLegible(new LegibleTokenizer(text, offset, length), entrySeparator, keyValueSeparator);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from the remaining tokens in {@code tokens}, alternating between
+	 * splitting on {@code keyValueSeparator} and on {@code entrySeparator}.
+	 *
+	 * @param tokens            a LegibleTokenizer over the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 */
+	public void putLegible(LegibleTokenizer tokens, String entrySeparator, String keyValueSeparator) {
+		if (tokens == null || entrySeparator == null || keyValueSeparator == null
+			|| entrySeparator.isEmpty() || keyValueSeparator.isEmpty()) return;
+		while (tokens.next(keyValueSeparator)) {
+			int k = Base.BASE10.readInt(tokens.chars(), tokens.start(), tokens.end());
+			if (!tokens.next(entrySeparator)) break;
+			put(k, Base.BASE10.readFloat(tokens.chars(), tokens.start(), tokens.end()));
+		}
+	}
+
 	/**
 	 * Constructs an empty map.
 	 * This is usually less useful than just using the constructor, but can be handy
@@ -0,0 +1,538 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.IntAppender;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import com.github.tommyettinger.function.IntIntBiConsumer;
+
+import java.util.Iterator;
+
+/**
+ * A bidirectional map from int keys to int values, where each value can belong to only one key, so values can be
+ * used to look up their keys in constant time. This keeps two coordinated {@link IntIntMap}s, one from keys to values
+ * and one from values to keys, and every change goes through both, so they can't get out of sync. Calling
+ * {@link #inverse()} returns a view that swaps the roles of keys and values without copying anything; changes to the
+ * inverse are visible in this map and vice versa.
+ * <br>
+ * Unlike {@link NumberedSet}, which also allows lookups in both directions, the values here don't need to be dense or
+ * in insertion order, so this is suitable for mapping external IDs to internal IDs and back.
+ * <br>
+ * If a put would give a value to a second key, what happens is controlled by the {@link CollisionPolicy}, which
+ * defaults to {@link CollisionPolicy#THROW}. {@link #forcePut(int, int)} always replaces the older key, regardless of
+ * policy.
+ */
+public class IntIntBiMap implements Iterable<IntIntMap.Entry> {
+	/**
+	 * Maps keys to values.
+	 */
+	protected IntIntMap forward;
+	/**
+	 * Maps values to keys.
+	 */
+	protected IntIntMap backward;
+	/**
+	 * The view with keys and values swapped; created lazily, and shares both maps with this.
+	 */
+	protected IntIntBiMap inverse;
+	protected CollisionPolicy policy = CollisionPolicy.THROW;
+
+	/**
+	 * Creates a new bimap with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of
+	 * {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public IntIntBiMap() {
+		this(Utilities.getDefaultTableCapacity(), Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new bimap with the given initial capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity how many items this should hold before resizing
+	 */
+	public IntIntBiMap(int initialCapacity) {
+		this(initialCapacity, Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new bimap with the given initial capacity and load factor.
+	 *
+	 * @param initialCapacity how many items this should hold before resizing
+	 * @param loadFactor      what fraction of the capacity can be filled before resizing
+	 */
+	public IntIntBiMap(int initialCapacity, float loadFactor) {
+		forward = new IntIntMap(initialCapacity, loadFactor);
+		backward = new IntIntMap(initialCapacity, loadFactor);
+	}
+
+	/**
+	 * Creates a new bimap identical to the specified bimap, including its policy and default values.
+	 *
+	 * @param other another IntIntBiMap to copy
+	 */
+	public IntIntBiMap(IntIntBiMap other) {
+		forward = new IntIntMap(other.forward);
+		backward = new IntIntMap(other.backward);
+		policy = other.policy;
+	}
+
+	/**
+	 * Given two arrays, one of keys and one of values, this puts each key-value pair into a new bimap. If the arrays
+	 * are different sizes, this only uses the length of the shorter one. If a value repeats, this throws an
+	 * IllegalArgumentException, as per {@link CollisionPolicy#THROW}.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values, which must not contain duplicates
+	 */
+	public IntIntBiMap(int[] keys, int[] values) {
+		this(Math.min(keys.length, values.length));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Used only to create the inverse view, which shares its maps with the original.
+	 *
+	 * @param forward  the map from this view's keys to its values
+	 * @param backward the map from this view's values to its keys
+	 * @param inverse  the bimap this will be the inverse of
+	 */
+	protected IntIntBiMap(IntIntMap forward, IntIntMap backward, IntIntBiMap inverse) {
+		this.forward = forward;
+		this.backward = backward;
+		this.inverse = inverse;
+		policy = inverse.policy;
+	}
+
+	/**
+	 * Gets a view of this bimap with keys and values swapped. This doesn't copy anything, and the inverse of the
+	 * inverse is this bimap. The inverse shares this bimap's {@link CollisionPolicy}.
+	 *
+	 * @return a view of this bimap from values to keys
+	 */
+	public IntIntBiMap inverse() {
+		if (inverse == null) inverse = new IntIntBiMap(backward, forward, this);
+		return inverse;
+	}
+
+	public CollisionPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Sets the {@link CollisionPolicy} used when a put would give a value to a second key. This also affects the
+	 * {@link #inverse()} view, if it has been created.
+	 *
+	 * @param policy a non-null CollisionPolicy
+	 */
+	public void setPolicy(CollisionPolicy policy) {
+		this.policy = policy;
+		if (inverse != null) inverse.policy = policy;
+	}
+
+	/**
+	 * Gets the value returned by {@link #get(int)} when a key is not present.
+	 *
+	 * @return the default value
+	 */
+	public int getDefaultValue() {
+		return forward.defaultValue;
+	}
+
+	public void setDefaultValue(int defaultValue) {
+		forward.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Gets the key returned by {@link #getKey(int)} when a value is not present. This is the same as the default value
+	 * of the {@link #inverse()}.
+	 *
+	 * @return the default key
+	 */
+	public int getDefaultKey() {
+		return backward.defaultValue;
+	}
+
+	public void setDefaultKey(int defaultKey) {
+		backward.defaultValue = defaultKey;
+	}
+
+	/**
+	 * Associates value with key, and key with value. If key already had a value, that older value is no longer
+	 * associated with anything. If value is already associated with a different key, this acts according to the
+	 * {@link #getPolicy() policy}.
+	 *
+	 * @param key   any int key
+	 * @param value any int value
+	 * @return the previous value for key, or {@link #getDefaultValue()} if key was not present
+	 * @throws IllegalArgumentException if value belongs to another key and the policy is {@link CollisionPolicy#THROW}
+	 */
+	public int put(int key, int value) {
+		if (backward.containsKey(value)) {
+			int other = backward.get(value);
+			if (other == key) return value;
+			switch (policy) {
+				case THROW:
+					throw new IllegalArgumentException("The value " + value + " is already associated with the key " + other + ".");
+				case IGNORE:
+					return forward.containsKey(key) ? forward.get(key) : forward.defaultValue;
+				default:
+					forward.remove(other);
+			}
+		}
+		return putUnchecked(key, value);
+	}
+
+	/**
+	 * Associates value with key, and key with value, removing any older key that had value, regardless of the
+	 * {@link #getPolicy() policy}.
+	 *
+	 * @param key   any int key
+	 * @param value any int value
+	 * @return the previous value for key, or {@link #getDefaultValue()} if key was not present
+	 */
+	public int forcePut(int key, int value) {
+		if (backward.containsKey(value)) {
+			int other = backward.get(value);
+			if (other == key) return value;
+			forward.remove(other);
+		}
+		return putUnchecked(key, value);
+	}
+
+	/**
+	 * Puts into both maps, assuming value doesn't belong to another key.
+	 */
+	protected int putUnchecked(int key, int value) {
+		int oldSize = forward.size();
+		int old = forward.put(key, value);
+		if (forward.size() == oldSize) backward.remove(old);
+		backward.put(value, key);
+		return old;
+	}
+
+	/**
+	 * Puts each key-value pair from the given arrays, using {@link #put(int, int)}. If the arrays are different
+	 * sizes, this only uses the length of the shorter one.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public void putAll(int[] keys, int[] values) {
+		int length = Math.min(keys.length, values.length);
+		for (int i = 0; i < length; i++) {
+			put(keys[i], values[i]);
+		}
+	}
+
+	/**
+	 * Puts every entry of other into this, using {@link #put(int, int)}.
+	 *
+	 * @param other another IntIntBiMap
+	 */
+	public void putAll(IntIntBiMap other) {
+		for (IntIntMap.Entry e : other.forward) {
+			put(e.key, e.value);
+		}
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #getDefaultValue()} if the key is not present.
+	 *
+	 * @param key any int key
+	 * @return the value for key, or the default value
+	 */
+	public int get(int key) {
+		return forward.get(key);
+	}
+
+	public int getOrDefault(int key, int defaultValue) {
+		return forward.getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns the key associated with the specified value, or {@link #getDefaultKey()} if the value is not present.
+	 * This runs in constant time.
+	 *
+	 * @param value any int value
+	 * @return the key for value, or the default key
+	 */
+	public int getKey(int value) {
+		return backward.get(value);
+	}
+
+	public int getKeyOrDefault(int value, int defaultKey) {
+		return backward.getOrDefault(value, defaultKey);
+	}
+
+	public boolean containsKey(int key) {
+		return forward.containsKey(key);
+	}
+
+	/**
+	 * Returns true if the specified value is associated with any key. Unlike in {@link IntIntMap}, this runs in
+	 * constant time.
+	 *
+	 * @param value any int value
+	 * @return true if value is present
+	 */
+	public boolean containsValue(int value) {
+		return backward.containsKey(value);
+	}
+
+	/**
+	 * Removes the key and its value.
+	 *
+	 * @param key the key to remove
+	 * @return the value that was associated with key, or {@link #getDefaultValue()} if key was not present
+	 */
+	public int remove(int key) {
+		if (!forward.containsKey(key)) return forward.defaultValue;
+		int value = forward.remove(key);
+		backward.remove(value);
+		return value;
+	}
+
+	/**
+	 * Removes the value and its key.
+	 *
+	 * @param value the value to remove
+	 * @return the key that was associated with value, or {@link #getDefaultKey()} if value was not present
+	 */
+	public int removeValue(int value) {
+		return inverse().remove(value);
+	}
+
+	public int size() {
+		return forward.size();
+	}
+
+	public boolean isEmpty() {
+		return forward.isEmpty();
+	}
+
+	public boolean notEmpty() {
+		return forward.notEmpty();
+	}
+
+	public void clear() {
+		forward.clear();
+		backward.clear();
+	}
+
+	/**
+	 * Reduces the size of both internal maps to the smallest size that could hold all items.
+	 *
+	 * @param maximumCapacity the maximum capacity to shrink to
+	 */
+	public void shrink(int maximumCapacity) {
+		forward.shrink(maximumCapacity);
+		backward.shrink(maximumCapacity);
+	}
+
+	public void ensureCapacity(int additionalCapacity) {
+		forward.ensureCapacity(additionalCapacity);
+		backward.ensureCapacity(additionalCapacity);
+	}
+
+	/**
+	 * Calls {@code action} on each key and its value, in no particular order.
+	 *
+	 * @param action a function that will be given each key and value
+	 */
+	public void forEach(IntIntBiConsumer action) {
+		for (IntIntMap.Entry e : forward) {
+			action.accept(e.key, e.value);
+		}
+	}
+
+	/**
+	 * Returns an iterator over the entries of this bimap. The entry it returns is reused on each call to next(), and
+	 * must not be modified. Removing through the iterator keeps both directions in sync.
+	 *
+	 * @return an iterator over the entries of this bimap
+	 */
+	@Override
+	public EntryIterator iterator() {
+		return new EntryIterator(this);
+	}
+
+	/**
+	 * Returns a view of the keys of this bimap. The view supports removal, which also removes the associated value,
+	 * but not addition. The keys of {@code inverse().keySet()} are this bimap's values.
+	 *
+	 * @return a view of the keys of this bimap
+	 */
+	public Keys keySet() {
+		return new Keys(this);
+	}
+
+	@Override
+	public int hashCode() {
+		return forward.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof IntIntBiMap)) return false;
+		return forward.equals(((IntIntBiMap) o).forward);
+	}
+
+	@Override
+	public String toString() {
+		return forward.toString();
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return forward.toString(entrySeparator, braces);
+	}
+
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return forward.appendTo(sb, entrySeparator, braces);
+	}
+
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															IntAppender keyAppender, IntAppender valueAppender) {
+		return forward.appendTo(sb, entrySeparator, keyValueSeparator, braces, keyAppender, valueAppender);
+	}
+
+	public static class EntryIterator implements Iterable<IntIntMap.Entry>, Iterator<IntIntMap.Entry> {
+		protected IntIntBiMap map;
+		protected IntIntMap.EntryIterator iter;
+		protected int lastValue;
+
+		public EntryIterator(IntIntBiMap map) {
+			this.map = map;
+			iter = new IntIntMap.EntryIterator(map.forward);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iter.hasNext();
+		}
+
+		@Override
+		public IntIntMap.Entry next() {
+			IntIntMap.Entry e = iter.next();
+			lastValue = e.value;
+			return e;
+		}
+
+		@Override
+		public void remove() {
+			iter.remove();
+			map.backward.remove(lastValue);
+		}
+
+		public void reset() {
+			iter.reset();
+		}
+
+		@Override
+		public EntryIterator iterator() {
+			return this;
+		}
+	}
+
+	public static class KeyIterator implements IntIterator {
+		protected EntryIterator iter;
+
+		public KeyIterator(IntIntBiMap map) {
+			iter = new EntryIterator(map);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iter.hasNext();
+		}
+
+		@Override
+		public int nextInt() {
+			return iter.next().key;
+		}
+
+		@Override
+		public void remove() {
+			iter.remove();
+		}
+
+		public void reset() {
+			iter.reset();
+		}
+	}
+
+	public static class Keys implements PrimitiveSet.SetOfInt {
+		protected IntIntBiMap map;
+
+		public Keys(IntIntBiMap map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean add(int item) {
+			throw new UnsupportedOperationException("IntIntBiMap.Keys does not support add()");
+		}
+
+		@Override
+		public boolean remove(int item) {
+			if (!map.containsKey(item)) return false;
+			map.remove(item);
+			return true;
+		}
+
+		@Override
+		public boolean contains(int item) {
+			return map.containsKey(item);
+		}
+
+		@Override
+		public KeyIterator iterator() {
+			return new KeyIterator(map);
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public int hashCode() {
+			int h = 0;
+			KeyIterator it = iterator();
+			while (it.hasNext()) {
+				h += it.nextInt();
+			}
+			return h;
+		}
+
+		@SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+		@Override
+		public boolean equals(Object other) {
+			return SetOfInt.super.equalContents(other);
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+}
@@ -20,10 +20,12 @@ import com.github.tommyettinger.digital.Base;
 import com.github.tommyettinger.digital.BitConversion;
 import com.github.tommyettinger.ds.support.util.IntAppender;
 import com.github.tommyettinger.ds.support.util.IntIterator;
+import com.github.tommyettinger.ds.support.util.LegibleTokenizer;
 import com.github.tommyettinger.function.IntIntBiConsumer;
 
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
@@ -153,9 +155,14 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 	 */
 	public IntIntMap(IntIntMap map) {
 		this((int) (map.keyTable.length * map.loadFactor), map.loadFactor);
+		map.scrub();
 		hashMultiplier = map.hashMultiplier;
-		System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
-		System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
+		if (map.isHashed()) {
+			System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
+			System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
+		} else {
+			rehashFrom(map.keyTable, map.valueTable);
+		}
 		size = map.size;
 		defaultValue = map.defaultValue;
 		zeroValue = map.zeroValue;
@@ -308,6 +315,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 				hasZeroValue = true;
 				zeroValue = map.zeroValue;
 			}
+			map.scrub();
 			int[] keyTable = map.keyTable;
 			int[] valueTable = map.valueTable;
 			int key;
@@ -321,7 +329,8 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 	}
 
 	private void resetTo(IntIntMap map) {
-		if(loadFactor == map.loadFactor) {
+		map.scrub();
+		if(loadFactor == map.loadFactor && map.isHashed()) {
 			this.threshold = map.threshold;
 			this.mask = map.mask;
 			this.shift = map.shift;
@@ -589,6 +598,50 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 		Arrays.fill(keyTable, 0);
 	}
 
+	/**
+	 * Makes sure that {@link #keyTable} holds only the keys actually in this map, so every slot in it can be read.
+	 * This is called before anything reads the whole table, such as iteration or copying. It does nothing here, but
+	 * {@link StampedIntIntMap} uses it to remove keys left in the table by its constant-time {@link #clear()}.
+	 */
+	protected void scrub() {
+	}
+
+	/**
+	 * Fills the empty {@link #keyTable} and {@link #valueTable}, which must be the same length as {@code oldKeyTable},
+	 * with every non-zero key and its value placed by linear probing. This is private so constructors can use it
+	 * without calling {@link #resize(int)} or {@link #putResize(int, int)}, which a subclass may override to touch
+	 * fields it hasn't set up yet.
+	 *
+	 * @param oldKeyTable   a key table from a map that might not use linear probing
+	 * @param oldValueTable the value table that goes with {@code oldKeyTable}
+	 */
+	private void rehashFrom(int[] oldKeyTable, int[] oldValueTable) {
+		int[] keyTable = this.keyTable, valueTable = this.valueTable;
+		for (int j = 0; j < oldKeyTable.length; j++) {
+			int key = oldKeyTable[j];
+			if (key != 0) {
+				for (int i = place(key); ; i = i + 1 & mask) {
+					if (keyTable[i] == 0) {
+						keyTable[i] = key;
+						valueTable[i] = oldValueTable[j];
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if every key in {@link #keyTable} is in the position that {@link #place(int)} and linear probing
+	 * would give it, so the tables can be copied straight into another map. This is always true here, but
+	 * {@link SmallIntIntMap} returns false while it keeps a few entries packed at the start of its table.
+	 *
+	 * @return true if the tables can be copied directly into a map that hashes its keys
+	 */
+	protected boolean isHashed() {
+		return true;
+	}
+
 	/**
 	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may
 	 * be an expensive operation.
@@ -597,6 +650,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 		if (hasZeroValue && zeroValue == value) {
 			return true;
 		}
+		scrub();
 		int[] valueTable = this.valueTable;
 		int[] keyTable = this.keyTable;
 		for (int i = valueTable.length - 1; i >= 0; i--) {
@@ -634,6 +688,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 		if (hasZeroValue && zeroValue == value) {
 			return 0;
 		}
+		scrub();
 		int[] valueTable = this.valueTable;
 		int[] keyTable = this.keyTable;
 		for (int i = valueTable.length - 1; i >= 0; i--) {
@@ -657,6 +712,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 	}
 
 	protected void resize(int newSize) {
+		scrub();
 		int oldCapacity = keyTable.length;
 		threshold = (int) (newSize * loadFactor);
 		mask = newSize - 1;
@@ -728,6 +784,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 
 	@Override
 	public int hashCode() {
+		scrub();
 		int h = hasZeroValue ? zeroValue ^ size : size;
 		int[] keyTable = this.keyTable;
 		int[] valueTable = this.valueTable;
@@ -756,6 +813,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 		if (other.hasZeroValue != hasZeroValue || other.zeroValue != zeroValue) {
 			return false;
 		}
+		scrub();
 		int[] keyTable = this.keyTable;
 		int[] valueTable = this.valueTable;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -892,6 +950,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 				sb.append(entrySeparator);
 			}
 		}
+		scrub();
 		int[] keyTable = this.keyTable;
 		int[] valueTable = this.valueTable;
 		int i = keyTable.length;
@@ -963,6 +1022,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 	 * @param newSize the target size to try to reach by removing items, if smaller than the current size
 	 */
 	public void truncate(int newSize) {
+		scrub();
 		int[] keyTable = this.keyTable;
 		newSize = Math.max(0, newSize);
 		for (int i = keyTable.length - 1; i >= 0 && size > newSize; i--) {
@@ -1133,6 +1193,7 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 		}
 
 		public void reset() {
+			map.scrub();
 			currentIndex = INDEX_ILLEGAL;
 			nextIndex = INDEX_ZERO;
 			if (map.hasZeroValue) {
@@ -1854,6 +1915,54 @@ public class IntIntMap implements Iterable<IntIntMap.Entry> {
 		}
 	}
 
+	/**
+	 * Puts key-value pairs into this map drawn from {@code reader}, which should provide text in the same format that
+	 * {@link #putLegible(String, String, String, int, int)} reads. This only buffers a bounded amount of the
+	 * text at a time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one
+	 * String. This does not close {@code reader}.
+	 *
+	 * @param reader            a Reader providing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 */
+	public void putLegible(Reader reader, String entrySeparator, String keyValueSeparator) {
+		putLegible(new LegibleTokenizer(reader), entrySeparator, keyValueSeparator);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from a window of any CharSequence, such as a CharBuffer or CharList, in
+	 * the same format that {@link #putLegible(String, String, String, int, int)} reads. This copies a bounded
+	 * amount of the text at a time into a {@link LegibleTokenizer}, rather than making a substring for each item.
+	 *
+	 * @param text              a CharSequence containing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param offset            the first position to read from in {@code text}
+	 * @param length            how many chars to read; -1 is treated as maximum length
+	 */
+	public void putLegible(CharSequence text, String entrySeparator, String keyValueSeparator, int offset, int length) {
+		if (text == null) return;
+		putLegible(new LegibleTokenizer(text, offset, length), entrySeparator, keyValueSeparator);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from the remaining tokens in {@code tokens}, alternating between
+	 * splitting on {@code keyValueSeparator} and on {@code entrySeparator}.
+	 *
+	 * @param tokens            a LegibleTokenizer over the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 */
+	public void putLegible(LegibleTokenizer tokens, String entrySeparator, String keyValueSeparator) {
+		if (tokens == null || entrySeparator == null || keyValueSeparator == null
+			|| entrySeparator.isEmpty() || keyValueSeparator.isEmpty()) return;
+		while (tokens.next(keyValueSeparator)) {
+			int k = Base.BASE10.readInt(tokens.chars(), tokens.start(), tokens.end());
+			if (!tokens.next(entrySeparator)) break;
+			put(k, Base.BASE10.readInt(tokens.chars(), tokens.start(), tokens.end()));
+		}
+	}
+
 	/**
 	 * Attempts to put alternating key-value pairs into this map, drawing a key, then a value from {@code pairs}, then
 	 * another key, another value, and so on until another pair cannot be drawn.  All keys and values must be primitive
@@ -0,0 +1,614 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.IntAppender;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import com.github.tommyettinger.function.IntIntBiConsumer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A multimap from int keys to any number of int values per key, where the values for each key keep their insertion
+ * order and duplicates are allowed. Unlike an {@code IntObjectMap<IntList>}, this doesn't allocate a list per key;
+ * all values for all keys share one pool made of two {@code int[]} arrays, one holding values and one holding the
+ * index of the next value for the same key (or -1 at the end of a group). Each key maps to a small group record that
+ * stores the first and last pool index and the number of values, so {@link #put(int, int)} and
+ * {@link #valueCount(int)} are O(1), and {@link #removeAll(int)} is O(1) because it splices the whole chain onto a
+ * free list for reuse.
+ * <br>
+ * After many removals, or after building the multimap up incrementally, values for one key can be spread across the
+ * pool. Calling {@link #compact()} rewrites the pool so each key's values are contiguous and in order, which is
+ * effectively a CSR (compressed sparse row) layout, and then reading a group is a linear scan.
+ * <br>
+ * Use {@link #get(int, IntList)} to read all values for a key into a reusable IntList, or
+ * {@link #forEach(int, com.github.tommyettinger.function.IntConsumer)} to visit them without copying.
+ */
+public class IntIntMultiMap {
+	/**
+	 * Maps each key to the index of its group in {@link #heads}, {@link #tails}, and {@link #counts}.
+	 */
+	protected IntIntMap groups;
+	/**
+	 * The pool index of the first value in each group.
+	 */
+	protected int[] heads;
+	/**
+	 * The pool index of the last value in each group.
+	 */
+	protected int[] tails;
+	/**
+	 * How many values each group holds.
+	 */
+	protected int[] counts;
+	/**
+	 * The lowest group index that has never been used; groups below this that are not in use are in
+	 * {@link #freeGroups}.
+	 */
+	protected int groupLimit;
+	protected IntList freeGroups;
+
+	/**
+	 * The shared pool of values for all keys.
+	 */
+	protected int[] values;
+	/**
+	 * For each index in {@link #values}, the index of the next value in the same group, or -1 if there is none.
+	 * Slots on the free list are chained through this array too.
+	 */
+	protected int[] next;
+	/**
+	 * The lowest pool index that has never been used.
+	 */
+	protected int poolLimit;
+	/**
+	 * The first pool index in the free list, or -1 if the free list is empty.
+	 */
+	protected int freeSlot = -1;
+	/**
+	 * The total number of values across all keys.
+	 */
+	protected int totalSize;
+
+	/**
+	 * Creates a new multimap with room for 16 keys and 16 values before it needs to resize.
+	 */
+	public IntIntMultiMap() {
+		this(16, 16);
+	}
+
+	/**
+	 * Creates a new multimap with room for the given number of keys and values before it needs to resize.
+	 *
+	 * @param keyCapacity   how many distinct keys this can hold before resizing
+	 * @param valueCapacity how many values this can hold, in total across all keys, before resizing
+	 */
+	public IntIntMultiMap(int keyCapacity, int valueCapacity) {
+		keyCapacity = Math.max(1, keyCapacity);
+		valueCapacity = Math.max(1, valueCapacity);
+		groups = new IntIntMap(keyCapacity);
+		heads = new int[keyCapacity];
+		tails = new int[keyCapacity];
+		counts = new int[keyCapacity];
+		freeGroups = new IntList();
+		values = new int[valueCapacity];
+		next = new int[valueCapacity];
+	}
+
+	/**
+	 * Creates a new multimap with the same keys and values as the given one. The copy is always compacted.
+	 *
+	 * @param other another IntIntMultiMap to copy
+	 */
+	public IntIntMultiMap(IntIntMultiMap other) {
+		this(other.groups.size(), other.totalSize);
+		IntList buffer = new IntList();
+		for (IntIntMap.Entry e : other.groups) {
+			putAll(e.key, other.get(e.key, buffer));
+		}
+	}
+
+	private int allocateSlot() {
+		if (freeSlot != -1) {
+			int slot = freeSlot;
+			freeSlot = next[slot];
+			return slot;
+		}
+		if (poolLimit == values.length) {
+			int newSize = Math.max(8, (int) (poolLimit * 1.75f));
+			values = Arrays.copyOf(values, newSize);
+			next = Arrays.copyOf(next, newSize);
+		}
+		return poolLimit++;
+	}
+
+	private int allocateGroup() {
+		if (freeGroups.notEmpty()) return freeGroups.pop();
+		if (groupLimit == heads.length) {
+			int newSize = Math.max(8, (int) (groupLimit * 1.75f));
+			heads = Arrays.copyOf(heads, newSize);
+			tails = Arrays.copyOf(tails, newSize);
+			counts = Arrays.copyOf(counts, newSize);
+		}
+		return groupLimit++;
+	}
+
+	/**
+	 * Adds {@code value} to the end of the values associated with {@code key}. If the key was not present, it is
+	 * added. This allows duplicate values for the same key.
+	 *
+	 * @param key   any int key
+	 * @param value any int value
+	 */
+	public void put(int key, int value) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) {
+			g = allocateGroup();
+			groups.put(key, g);
+			counts[g] = 0;
+		}
+		int slot = allocateSlot();
+		values[slot] = value;
+		next[slot] = -1;
+		if (counts[g]++ == 0) heads[g] = slot;
+		else next[tails[g]] = slot;
+		tails[g] = slot;
+		totalSize++;
+	}
+
+	/**
+	 * Adds every item in {@code items} to the end of the values associated with {@code key}.
+	 *
+	 * @param key   any int key
+	 * @param items the int values to add for key
+	 */
+	public void putAll(int key, PrimitiveCollection.OfInt items) {
+		IntIterator it = items.iterator();
+		while (it.hasNext()) {
+			put(key, it.nextInt());
+		}
+	}
+
+	/**
+	 * Adds every item in {@code items} to the end of the values associated with {@code key}.
+	 *
+	 * @param key   any int key
+	 * @param items the int values to add for key
+	 */
+	public void putAll(int key, int... items) {
+		for (int i = 0; i < items.length; i++) {
+			put(key, items[i]);
+		}
+	}
+
+	/**
+	 * Clears {@code into} and then fills it with the values associated with {@code key}, in the order they were
+	 * added. If the key is not present, {@code into} will be empty. This allows the same IntList to be reused for
+	 * many calls.
+	 *
+	 * @param key  the key to look up
+	 * @param into an IntList that will be cleared and then receive the values; will be modified
+	 * @return {@code into}, for chaining
+	 */
+	public IntList get(int key, IntList into) {
+		into.clear();
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return into;
+		into.ensureCapacity(counts[g]);
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			into.add(values[s]);
+		}
+		return into;
+	}
+
+	/**
+	 * Gets a new IntList containing the values associated with {@code key}, in the order they were added.
+	 * Prefer {@link #get(int, IntList)} if you look up many keys, since it allows reusing one IntList.
+	 *
+	 * @param key the key to look up
+	 * @return a new IntList of the values for key, which may be empty
+	 */
+	public IntList get(int key) {
+		return get(key, new IntList());
+	}
+
+	/**
+	 * Gets the first value associated with {@code key}, or {@code defaultValue} if the key is not present.
+	 *
+	 * @param key          the key to look up
+	 * @param defaultValue returned if key is not present
+	 * @return the first value added for key, or defaultValue
+	 */
+	public int getFirst(int key, int defaultValue) {
+		int g = groups.getOrDefault(key, -1);
+		return g == -1 ? defaultValue : values[heads[g]];
+	}
+
+	/**
+	 * Calls {@code action} on each value associated with {@code key}, in the order they were added. This does not
+	 * allocate.
+	 *
+	 * @param key    the key to look up
+	 * @param action a function that will be given each value for key
+	 */
+	public void forEach(int key, com.github.tommyettinger.function.IntConsumer action) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return;
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			action.accept(values[s]);
+		}
+	}
+
+	/**
+	 * Calls {@code action} on every key-value pair in this multimap. Keys are visited in no particular order, but
+	 * values for any given key are visited in the order they were added. This does not allocate.
+	 *
+	 * @param action a function that will be given each key and one of its values, once per value
+	 */
+	public void forEach(IntIntBiConsumer action) {
+		int[] keyTable = groups.keyTable, valueTable = groups.valueTable;
+		if (groups.hasZeroValue) {
+			int g = groups.zeroValue;
+			for (int s = heads[g]; s != -1; s = next[s]) {
+				action.accept(0, values[s]);
+			}
+		}
+		for (int i = 0; i < keyTable.length; i++) {
+			int key = keyTable[i];
+			if (key != 0) {
+				int g = valueTable[i];
+				for (int s = heads[g]; s != -1; s = next[s]) {
+					action.accept(key, values[s]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of values associated with {@code key}, or 0 if the key is not present. This runs in O(1) time.
+	 *
+	 * @param key the key to look up
+	 * @return how many values key has
+	 */
+	public int valueCount(int key) {
+		int g = groups.getOrDefault(key, -1);
+		return g == -1 ? 0 : counts[g];
+	}
+
+	public boolean containsKey(int key) {
+		return groups.containsKey(key);
+	}
+
+	/**
+	 * Returns true if {@code value} is associated with {@code key} at least once. This checks only the values for
+	 * the given key.
+	 *
+	 * @param key   the key to look up
+	 * @param value the value to search for
+	 * @return true if the key is present and has the given value
+	 */
+	public boolean contains(int key, int value) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return false;
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			if (values[s] == value) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all values associated with {@code key}, and the key itself. This runs in O(1) time apart from the map
+	 * lookup, because the key's whole chain of values is moved onto the free list at once.
+	 *
+	 * @param key the key to remove
+	 * @return how many values were removed, which is 0 if the key was not present
+	 */
+	public int removeAll(int key) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return 0;
+		groups.remove(key);
+		int removed = counts[g];
+		next[tails[g]] = freeSlot;
+		freeSlot = heads[g];
+		counts[g] = 0;
+		freeGroups.add(g);
+		totalSize -= removed;
+		return removed;
+	}
+
+	/**
+	 * Removes the first occurrence of {@code value} from the values associated with {@code key}. If that was the
+	 * last value for key, the key is removed as well.
+	 *
+	 * @param key   the key to look up
+	 * @param value the value to remove once
+	 * @return true if a value was removed
+	 */
+	public boolean remove(int key, int value) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return false;
+		for (int s = heads[g], prev = -1; s != -1; prev = s, s = next[s]) {
+			if (values[s] == value) {
+				if (counts[g] == 1) {
+					removeAll(key);
+					return true;
+				}
+				if (prev == -1) heads[g] = next[s];
+				else next[prev] = next[s];
+				if (tails[g] == s) tails[g] = prev;
+				next[s] = freeSlot;
+				freeSlot = s;
+				counts[g]--;
+				totalSize--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Rewrites the shared pool so that every key's values are stored contiguously and in order, then trims the pool
+	 * to exactly fit the current values. This discards the free list. Call this after bulk building or after many
+	 * removals to make reading groups a linear scan.
+	 */
+	public void compact() {
+		int[] newValues = new int[Math.max(1, totalSize)];
+		int[] newNext = new int[newValues.length];
+		int[] keyTable = groups.keyTable, valueTable = groups.valueTable;
+		int pos = 0;
+		if (groups.hasZeroValue) {
+			pos = compactGroup(groups.zeroValue, newValues, newNext, pos);
+		}
+		for (int i = 0; i < keyTable.length; i++) {
+			if (keyTable[i] != 0) {
+				pos = compactGroup(valueTable[i], newValues, newNext, pos);
+			}
+		}
+		values = newValues;
+		next = newNext;
+		poolLimit = pos;
+		freeSlot = -1;
+	}
+
+	private int compactGroup(int g, int[] newValues, int[] newNext, int pos) {
+		int start = pos;
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			newValues[pos] = values[s];
+			newNext[pos] = pos + 1;
+			pos++;
+		}
+		newNext[pos - 1] = -1;
+		heads[g] = start;
+		tails[g] = pos - 1;
+		return pos;
+	}
+
+	/**
+	 * Gets the number of distinct keys in this multimap.
+	 *
+	 * @return how many keys are present
+	 */
+	public int size() {
+		return groups.size();
+	}
+
+	/**
+	 * Gets the total number of values across all keys in this multimap.
+	 *
+	 * @return how many values are present, counting duplicates
+	 */
+	public int totalSize() {
+		return totalSize;
+	}
+
+	public boolean isEmpty() {
+		return groups.size() == 0;
+	}
+
+	public boolean notEmpty() {
+		return groups.size() != 0;
+	}
+
+	/**
+	 * Removes all keys and values, but keeps the current capacity of the pool and of the key storage.
+	 */
+	public void clear() {
+		groups.clear();
+		freeGroups.clear();
+		groupLimit = 0;
+		poolLimit = 0;
+		freeSlot = -1;
+		totalSize = 0;
+	}
+
+	/**
+	 * Returns a read-only {@link PrimitiveSet.SetOfInt} view of the keys in this multimap.
+	 *
+	 * @return a read-only set view of the keys
+	 */
+	public Keys keySet() {
+		return new Keys(this);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = totalSize;
+		int[] keyTable = groups.keyTable, valueTable = groups.valueTable;
+		if (groups.hasZeroValue) {
+			h += groupHash(0, groups.zeroValue);
+		}
+		for (int i = 0; i < keyTable.length; i++) {
+			if (keyTable[i] != 0) {
+				h += groupHash(keyTable[i], valueTable[i]);
+			}
+		}
+		return h;
+	}
+
+	private int groupHash(int key, int g) {
+		int h = key;
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			h = h * 31 + values[s];
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof IntIntMultiMap)) return false;
+		IntIntMultiMap other = (IntIntMultiMap) o;
+		if (totalSize != other.totalSize || groups.size() != other.groups.size()) return false;
+		for (IntIntMap.Entry e : groups) {
+			int og = other.groups.getOrDefault(e.key, -1);
+			if (og == -1 || counts[e.value] != other.counts[og]) return false;
+			for (int s = heads[e.value], os = other.heads[og]; s != -1; s = next[s], os = other.next[os]) {
+				if (values[s] != other.values[os]) return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(32), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this IntIntMultiMap, with each key followed by "="
+	 * and then its values in square brackets, separated by {@code ", "}. Keys are appended in no particular order.
+	 *
+	 * @param sb             an Appendable CharSequence that this can append to
+	 * @param entrySeparator how to separate keys, such as {@code ", "}
+	 * @param braces         true to wrap the output in curly braces, or false to omit them
+	 * @param <S>            any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this multimap
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, IntAppender.DEFAULT, IntAppender.DEFAULT);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this IntIntMultiMap, using the given
+	 * {@link IntAppender}s to write keys and values. Each key is followed by {@code keyValueSeparator} and then its
+	 * values in square brackets, separated by {@code ", "}. Keys are appended in no particular order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate keys, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its values, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       an IntAppender that can take an int key, such as {@link IntAppender#DEFAULT}
+	 * @param valueAppender     an IntAppender that can take an int value, such as {@link IntAppender#DEFAULT}
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this multimap
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															IntAppender keyAppender, IntAppender valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			for (IntIntMap.Entry e : groups) {
+				if (!first) sb.append(entrySeparator);
+				first = false;
+				keyAppender.apply(sb, e.key).append(keyValueSeparator).append('[');
+				for (int s = heads[e.value]; s != -1; s = next[s]) {
+					if (s != heads[e.value]) sb.append(", ");
+					valueAppender.apply(sb, values[s]);
+				}
+				sb.append(']');
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	public static class Keys implements PrimitiveSet.SetOfInt {
+		protected IntIntMultiMap map;
+
+		public Keys(IntIntMultiMap map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean add(int item) {
+			throw new UnsupportedOperationException("IntIntMultiMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean remove(int item) {
+			throw new UnsupportedOperationException("IntIntMultiMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean contains(int item) {
+			return map.containsKey(item);
+		}
+
+		@Override
+		public IntIterator iterator() {
+			final IntIntMap.KeyIterator it = map.groups.keySet().iterator();
+			return new IntIterator() {
+				@Override
+				public int nextInt() {
+					return it.nextInt();
+				}
+
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+			};
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("IntIntMultiMap.Keys is read-only");
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public int hashCode() {
+			return map.groups.keySet().hashCode();
+		}
+
+		@SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+		@Override
+		public boolean equals(Object other) {
+			return SetOfInt.super.equalContents(other);
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+}
@@ -0,0 +1,575 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.IntAppender;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A map from non-negative int keys drawn from a dense range, or universe, starting at 0, to int values, using the
+ * sparse set of Briggs and Torczon. This works like {@link IntSparseSet}, with a values array kept parallel to the
+ * dense keys array, so {@link #put(int, int)}, {@link #get(int)}, {@link #remove(int)}, {@link #containsKey(int)}, and
+ * {@link #clear()} are all O(1), and iteration only visits entries actually in the map. Keys at or past the universe
+ * grow the sparse array when put; negative keys can't be put.
+ * <br>
+ * This is meant for per-frame scratch data over a large grid or graph, such as distances or parent links in a
+ * breadth-first search, where an {@link IntIntMap} would spend more time in {@link IntIntMap#clear()} than in
+ * actual work. Removing an entry moves the last entry into its place, so the order of entries changes after removal.
+ * The {@link IntIntMap.Entry} objects produced by {@link #iterator()} are reused, as they are in IntIntMap.
+ *
+ * @see IntSparseSet IntSparseSet is the same technique without values.
+ */
+public class IntIntSparseMap implements Iterable<IntIntMap.Entry> {
+	/**
+	 * The keys in this map, in positions 0 (inclusive) to {@link #size} (exclusive).
+	 */
+	protected int[] keys;
+	/**
+	 * The values in this map, in the same positions as their keys in {@link #keys}.
+	 */
+	protected int[] values;
+	/**
+	 * Indexed by key; holds the position in {@link #keys} where that key may be. Entries are never cleared, so an
+	 * entry only counts if it is less than {@link #size} and {@link #keys} holds the same key at that position.
+	 */
+	protected int[] sparse;
+	protected int size;
+
+	/**
+	 * The value returned when a key is not present, such as by {@link #get(int)} or {@link #remove(int)}.
+	 */
+	public int defaultValue = 0;
+
+	/**
+	 * Creates a new map that can hold keys from 0 to 1023 without growing.
+	 */
+	public IntIntSparseMap() {
+		this(1024);
+	}
+
+	/**
+	 * Creates a new map that can hold keys from 0 (inclusive) to {@code universe} (exclusive) without growing.
+	 *
+	 * @param universe one more than the largest key expected; must be non-negative
+	 */
+	public IntIntSparseMap(int universe) {
+		this(universe, Math.min(universe, 16));
+	}
+
+	/**
+	 * Creates a new map that can hold keys from 0 (inclusive) to {@code universe} (exclusive), and can hold
+	 * {@code capacity} entries at once, without growing.
+	 *
+	 * @param universe one more than the largest key expected; must be non-negative
+	 * @param capacity how many entries this can hold before the dense arrays need to grow; must be non-negative
+	 */
+	public IntIntSparseMap(int universe, int capacity) {
+		if (universe < 0) throw new IllegalArgumentException("universe must be >= 0: " + universe);
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		sparse = new int[universe];
+		keys = new int[capacity];
+		values = new int[capacity];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map another IntIntSparseMap to copy
+	 */
+	public IntIntSparseMap(IntIntSparseMap map) {
+		sparse = Arrays.copyOf(map.sparse, map.sparse.length);
+		keys = Arrays.copyOf(map.keys, map.keys.length);
+		values = Arrays.copyOf(map.values, map.values.length);
+		size = map.size;
+		defaultValue = map.defaultValue;
+	}
+
+	public int getDefaultValue() {
+		return defaultValue;
+	}
+
+	public void setDefaultValue(int defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Gets the current universe size; keys from 0 (inclusive) up to this (exclusive) can be put without growing.
+	 *
+	 * @return the length of the sparse array
+	 */
+	public int universe() {
+		return sparse.length;
+	}
+
+	/**
+	 * Gets the position of {@code key} in iteration order, or -1 if it is not present.
+	 *
+	 * @param key any int
+	 * @return the position of key, or -1 if it is not present
+	 */
+	public int indexOf(int key) {
+		if (key < 0 || key >= sparse.length) return -1;
+		final int s = sparse[key];
+		return s < size && keys[s] == key ? s : -1;
+	}
+
+	public boolean containsKey(int key) {
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * Returns true if the specified value is in the map. This traverses every entry.
+	 */
+	public boolean containsValue(int value) {
+		int[] values = this.values;
+		for (int i = 0, n = size; i < n; i++) {
+			if (values[i] == value) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #defaultValue} if the key is not in the map.
+	 *
+	 * @param key any {@code int}
+	 */
+	public int get(int key) {
+		final int s = indexOf(key);
+		return s < 0 ? defaultValue : values[s];
+	}
+
+	/**
+	 * Returns the value for the specified key, or the given {@code defaultValue} if the key is not in the map.
+	 *
+	 * @param key any {@code int}
+	 */
+	public int getOrDefault(int key, int defaultValue) {
+		final int s = indexOf(key);
+		return s < 0 ? defaultValue : values[s];
+	}
+
+	/**
+	 * Puts a new key at the end of the dense arrays; the key must be non-negative and not already present.
+	 *
+	 * @return the position the key was put at
+	 */
+	protected int append(int key) {
+		if (key < 0) throw new IllegalArgumentException("key must be >= 0: " + key);
+		ensureUniverse(key + 1);
+		if (size == keys.length) {
+			int newCapacity = Math.max(8, (int) (size * 1.75f));
+			keys = Arrays.copyOf(keys, newCapacity);
+			values = Arrays.copyOf(values, newCapacity);
+		}
+		keys[size] = key;
+		sparse[key] = size;
+		return size++;
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no
+	 * prior value. If the key is at least {@link #universe()}, the universe grows to fit it.
+	 *
+	 * @param key   a non-negative int
+	 * @param value any int
+	 * @throws IllegalArgumentException if key is negative
+	 */
+	public int put(int key, int value) {
+		int s = indexOf(key);
+		if (s >= 0) {
+			int oldValue = values[s];
+			values[s] = value;
+			return oldValue;
+		}
+		s = append(key);
+		values[s] = value;
+		return defaultValue;
+	}
+
+	/**
+	 * Returns the key's current value and increments the stored value. If the key is not in the map, defaultValue +
+	 * increment is put into the map and defaultValue is returned.
+	 *
+	 * @param key          a non-negative int
+	 * @param defaultValue the value to treat as the current value if key is not present
+	 * @param increment    how much to add to the value
+	 */
+	public int getAndIncrement(int key, int defaultValue, int increment) {
+		int s = indexOf(key);
+		if (s >= 0) {
+			int oldValue = values[s];
+			values[s] += increment;
+			return oldValue;
+		}
+		s = append(key);
+		values[s] = defaultValue + increment;
+		return defaultValue;
+	}
+
+	/**
+	 * Removes the entry for {@code key}, if present, and returns its value, or {@link #defaultValue} if it wasn't
+	 * present. The last entry in iteration order takes its place.
+	 *
+	 * @param key any int
+	 * @return the removed value, or {@link #defaultValue} if key was not present
+	 */
+	public int remove(int key) {
+		final int s = indexOf(key);
+		if (s < 0) return defaultValue;
+		final int oldValue = values[s], last = keys[--size];
+		keys[s] = last;
+		values[s] = values[size];
+		sparse[last] = s;
+		return oldValue;
+	}
+
+	/**
+	 * Gets the key at the given position in iteration order.
+	 *
+	 * @param index a position from 0 (inclusive) to {@link #size()} (exclusive)
+	 * @return the key at that position
+	 */
+	public int keyAt(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		return keys[index];
+	}
+
+	/**
+	 * Gets the value at the given position in iteration order.
+	 *
+	 * @param index a position from 0 (inclusive) to {@link #size()} (exclusive)
+	 * @return the value at that position
+	 */
+	public int valueAt(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		return values[index];
+	}
+
+	/**
+	 * Sets the value at the given position in iteration order.
+	 *
+	 * @param index a position from 0 (inclusive) to {@link #size()} (exclusive)
+	 * @param value the value to set
+	 * @return the previous value at that position
+	 */
+	public int setAt(int index, int value) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		int oldValue = values[index];
+		values[index] = value;
+		return oldValue;
+	}
+
+	/**
+	 * Removes all entries in constant time; no array is changed or shrunk.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Grows the universe, if needed, so keys from 0 (inclusive) to {@code universe} (exclusive) can be put without
+	 * growing again. The universe never shrinks.
+	 *
+	 * @param universe one more than the largest key that should be usable without growing
+	 */
+	public void ensureUniverse(int universe) {
+		if (universe > sparse.length) {
+			sparse = Arrays.copyOf(sparse, Math.max(universe, (int) Math.min(Integer.MAX_VALUE, sparse.length * 1.75)));
+		}
+	}
+
+	/**
+	 * Increases the size of the dense arrays to accommodate the specified number of additional entries. Useful before
+	 * adding many entries to avoid multiple backing array resizes.
+	 *
+	 * @param additionalCapacity how many additional entries this should be able to hold without resizing (probably)
+	 */
+	public void ensureCapacity(int additionalCapacity) {
+		if (size + additionalCapacity > keys.length) {
+			keys = Arrays.copyOf(keys, size + additionalCapacity);
+			values = Arrays.copyOf(values, size + additionalCapacity);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Copies the keys into a new {@link IntList}, in iteration order.
+	 *
+	 * @return a new IntList holding the keys of this map
+	 */
+	public IntList keyList() {
+		return new IntList(keys, 0, size);
+	}
+
+	/**
+	 * Copies the values into a new {@link IntList}, in iteration order.
+	 *
+	 * @return a new IntList holding the values of this map
+	 */
+	public IntList valueList() {
+		return new IntList(values, 0, size);
+	}
+
+	/**
+	 * Computes the same hash code as an {@link IntIntMap} with the same entries.
+	 *
+	 * @return a hash code for this map
+	 */
+	@Override
+	public int hashCode() {
+		int h = size;
+		int[] keys = this.keys, values = this.values;
+		for (int i = 0, n = size; i < n; i++) {
+			h ^= keys[i];
+			h ^= values[i];
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof IntIntSparseMap)) {
+			return false;
+		}
+		IntIntSparseMap other = (IntIntSparseMap) obj;
+		if (other.size != size) {
+			return false;
+		}
+		int[] keys = this.keys, values = this.values;
+		for (int i = 0, n = size; i < n; i++) {
+			int s = other.indexOf(keys[i]);
+			if (s < 0 || other.values[s] != values[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Gets a String representation of this map, separating keys from values using "=" and entries using
+	 * {@code entrySeparator}. Wraps the output in curly braces if {@code braces} is true.
+	 *
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @param braces         true to wrap the output in curly braces, or false to omit them
+	 * @return a String representation of this map
+	 */
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(8 * size), entrySeparator, "=", braces,
+			IntAppender.DEFAULT, IntAppender.DEFAULT).toString();
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this map, using the given {@link IntAppender}s to
+	 * convert each key and each value. Entries are appended in iteration order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       an IntAppender that can take an int key, such as {@link IntAppender#DEFAULT}
+	 * @param valueAppender     an IntAppender that can take an int value, such as {@link IntAppender#DEFAULT}
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator,
+															 boolean braces, IntAppender keyAppender, IntAppender valueAppender) {
+		try {
+			if (braces) sb.append('{');
+			for (int i = 0, n = size; i < n; i++) {
+				if (i > 0) sb.append(entrySeparator);
+				keyAppender.apply(sb, keys[i]).append(keyValueSeparator);
+				valueAppender.apply(sb, values[i]);
+			}
+			if (braces) sb.append('}');
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Returns an iterator over the entries in this map, in the order they are in the dense arrays. The same
+	 * {@link IntIntMap.Entry} is returned by each call to {@link Iterator#next()}. Remove is supported; removing the
+	 * current entry moves the last entry into its place, and the iterator will still visit it.
+	 */
+	@Override
+	public EntryIterator iterator() {
+		return new EntryIterator(this);
+	}
+
+	/**
+	 * Returns an iterator over the keys in this map, in iteration order. Remove is supported.
+	 */
+	public KeyIterator keyIterator() {
+		return new KeyIterator(this);
+	}
+
+	/**
+	 * Returns an iterator over the values in this map, in iteration order. Remove is supported.
+	 */
+	public ValueIterator valueIterator() {
+		return new ValueIterator(this);
+	}
+
+	public static abstract class MapIterator {
+		protected final IntIntSparseMap map;
+		/**
+		 * The next position in the map's dense arrays to go to.
+		 */
+		protected int index;
+		protected boolean removable;
+
+		public MapIterator(IntIntSparseMap map) {
+			this.map = map;
+		}
+
+		public void reset() {
+			index = 0;
+			removable = false;
+		}
+
+		public boolean hasNext() {
+			return index < map.size;
+		}
+
+		/**
+		 * Moves to the next position and returns the one it was at.
+		 */
+		protected int advance() {
+			if (index >= map.size) {
+				throw new NoSuchElementException();
+			}
+			removable = true;
+			return index++;
+		}
+
+		public void remove() {
+			if (!removable) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			removable = false;
+			map.remove(map.keys[--index]);
+		}
+	}
+
+	public static class EntryIterator extends MapIterator implements Iterator<IntIntMap.Entry> {
+		protected final IntIntMap.Entry entry = new IntIntMap.Entry();
+
+		public EntryIterator(IntIntSparseMap map) {
+			super(map);
+		}
+
+		@Override
+		public IntIntMap.Entry next() {
+			int i = advance();
+			entry.key = map.keys[i];
+			entry.value = map.values[i];
+			return entry;
+		}
+	}
+
+	public static class KeyIterator extends MapIterator implements IntIterator {
+		public KeyIterator(IntIntSparseMap map) {
+			super(map);
+		}
+
+		@Override
+		public int nextInt() {
+			return map.keys[advance()];
+		}
+	}
+
+	public static class ValueIterator extends MapIterator implements IntIterator {
+		public ValueIterator(IntIntSparseMap map) {
+			super(map);
+		}
+
+		@Override
+		public int nextInt() {
+			return map.values[advance()];
+		}
+	}
+
+	/**
+	 * Constructs an empty map.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @return a new map containing nothing
+	 */
+	public static IntIntSparseMap with() {
+		return new IntIntSparseMap();
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 *
+	 * @param key0   a non-negative int key
+	 * @param value0 an int value
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static IntIntSparseMap with(int key0, int value0) {
+		IntIntSparseMap map = new IntIntSparseMap(key0 + 1, 1);
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values. The array must have an even length; keys are at even
+	 * indices and must be non-negative, and values are at odd indices.
+	 *
+	 * @param keysAndValues alternating non-negative int keys and int values
+	 * @return a new map containing the given entries
+	 */
+	public static IntIntSparseMap with(int... keysAndValues) {
+		IntIntSparseMap map = new IntIntSparseMap(16, keysAndValues.length >>> 1);
+		for (int i = 1; i < keysAndValues.length; i += 2) {
+			map.put(keysAndValues[i - 1], keysAndValues[i]);
+		}
+		return map;
+	}
+}
@@ -26,6 +26,7 @@ import com.github.tommyettinger.function.IntToObjFunction;
 import com.github.tommyettinger.function.ObjObjToObjBiFunction;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.Arrays;
@@ -155,6 +156,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 	 */
 	public IntObjectMap(IntObjectMap<? extends V> map) {
 		this((int) (map.keyTable.length * map.loadFactor), map.loadFactor);
+		map.scrub();
 		hashMultiplier = map.hashMultiplier;
 		System.arraycopy(map.keyTable, 0, keyTable, 0, map.keyTable.length);
 		System.arraycopy(map.valueTable, 0, valueTable, 0, map.valueTable.length);
@@ -310,6 +312,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 				hasZeroValue = true;
 				zeroValue = map.zeroValue;
 			}
+			map.scrub();
 			int[] keyTable = map.keyTable;
 			V[] valueTable = map.valueTable;
 			int key;
@@ -323,6 +326,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 	}
 
 	private void resetTo(IntObjectMap<? extends V> map) {
+		map.scrub();
 		if(loadFactor == map.loadFactor) {
 			this.threshold = map.threshold;
 			this.mask = map.mask;
@@ -564,6 +568,14 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 		Utilities.clear(valueTable);
 	}
 
+	/**
+	 * Makes sure that {@link #keyTable} holds only the keys actually in this map, so every slot in it can be read.
+	 * This is called before anything reads the whole table, such as iteration or copying. It does nothing here, but
+	 * {@link StampedIntObjectMap} uses it to remove keys left in the table by its constant-time {@link #clear()}.
+	 */
+	protected void scrub() {
+	}
+
 	/**
 	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may
 	 * be an expensive operation.
@@ -572,6 +584,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 		if (hasZeroValue) {
 			return Objects.equals(zeroValue, value);
 		}
+		scrub();
 		V[] valueTable = this.valueTable;
 		int[] keyTable = this.keyTable;
 		for (int i = valueTable.length - 1; i >= 0; i--) {
@@ -609,6 +622,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 		if (hasZeroValue && Objects.equals(zeroValue, value)) {
 			return 0;
 		}
+		scrub();
 		V[] valueTable = this.valueTable;
 		int[] keyTable = this.keyTable;
 		for (int i = valueTable.length - 1; i >= 0; i--) {
@@ -632,6 +646,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 	}
 
 	protected void resize(int newSize) {
+		scrub();
 		int oldCapacity = keyTable.length;
 		threshold = (int) (newSize * loadFactor);
 		mask = newSize - 1;
@@ -703,6 +718,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 
 	@Override
 	public int hashCode() {
+		scrub();
 		int h = hasZeroValue && zeroValue != null ? zeroValue.hashCode() ^ size : size;
 		int[] keyTable = this.keyTable;
 		V[] valueTable = this.valueTable;
@@ -734,6 +750,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 		if (other.hasZeroValue != hasZeroValue || !Objects.equals(other.zeroValue, zeroValue)) {
 			return false;
 		}
+		scrub();
 		int[] keyTable = this.keyTable;
 		V[] valueTable = this.valueTable;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -870,6 +887,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 					sb.append(entrySeparator);
 				}
 			}
+			scrub();
 			int[] keyTable = this.keyTable;
 			V[] valueTable = this.valueTable;
 			int i = keyTable.length;
@@ -950,6 +968,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 	 * @param newSize the target size to try to reach by removing items, if smaller than the current size
 	 */
 	public void truncate(int newSize) {
+		scrub();
 		int[] keyTable = this.keyTable;
 		V[] valTable = this.valueTable;
 		newSize = Math.max(0, newSize);
@@ -1123,6 +1142,7 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 		}
 
 		public void reset() {
+			map.scrub();
 			currentIndex = INDEX_ILLEGAL;
 			nextIndex = INDEX_ZERO;
 			if (map.hasZeroValue) {
@@ -1862,6 +1882,57 @@ public class IntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
 		}
 	}
 
+	/**
+	 * Puts key-value pairs into this map drawn from {@code reader}, which should provide text in the same format that
+	 * {@link #putLegible(String, String, String, PartialParser, int, int)} reads. This only buffers a bounded amount of the
+	 * text at a time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one
+	 * String. This does not close {@code reader}.
+	 *
+	 * @param reader            a Reader providing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param valueParser       a PartialParser that returns a value from a section of text
+	 */
+	public void putLegible(Reader reader, String entrySeparator, String keyValueSeparator, PartialParser<V> valueParser) {
+		putLegible(new LegibleTokenizer(reader), entrySeparator, keyValueSeparator, valueParser);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from a window of any CharSequence, such as a CharBuffer or CharList, in
+	 * the same format that {@link #putLegible(String, String, String, PartialParser, int, int)} reads. This copies a bounded
+	 * amount of the text at a time into a {@link LegibleTokenizer}, rather than making a substring for each item.
+	 *
+	 * @param text              a CharSequence containing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param valueParser       a PartialParser that returns a value from a section of text
+	 * @param offset            the first position to read from in {@code text}
+	 * @param length            how many chars to read; -1 is treated as maximum length
+	 */
+	public void putLegible(CharSequence text, String entrySeparator, String keyValueSeparator, PartialParser<V> valueParser, int offset, int length) {
+		if (text == null) return;
+		putLegible(new LegibleTokenizer(text, offset, length), entrySeparator, keyValueSeparator, valueParser);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from the remaining tokens in {@code tokens}, alternating between
+	 * splitting on {@code keyValueSeparator} and on {@code entrySeparator}.
+	 *
+	 * @param tokens            a LegibleTokenizer over the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param valueParser       a PartialParser that returns a value from a section of text
+	 */
+	public void putLegible(LegibleTokenizer tokens, String entrySeparator, String keyValueSeparator, PartialParser<V> valueParser) {
+		if (tokens == null || entrySeparator == null || keyValueSeparator == null || valueParser == null
+			|| entrySeparator.isEmpty() || keyValueSeparator.isEmpty()) return;
+		while (tokens.next(keyValueSeparator)) {
+			int k = Base.BASE10.readInt(tokens.chars(), tokens.start(), tokens.end());
+			if (!tokens.next(entrySeparator)) break;
+			put(k, valueParser.parse(tokens.text(), tokens.start(), tokens.end()));
+		}
+	}
+
 	/**
 	 * Constructs an empty map given the key type as a generic type argument.
 	 * This is usually less useful than just using the constructor, but can be handy
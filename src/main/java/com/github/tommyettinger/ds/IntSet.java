@@ -141,6 +141,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 	 */
 	public IntSet(IntSet set) {
 		this((int) (set.keyTable.length * set.loadFactor), set.loadFactor);
+		set.scrub();
 		hashMultiplier = set.hashMultiplier;
 		System.arraycopy(set.keyTable, 0, keyTable, 0, set.keyTable.length);
 		size = set.size;
@@ -284,6 +285,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 			if (set.hasZeroValue) {
 				add(0);
 			}
+			set.scrub();
 			int[] keyTable = set.keyTable;
 			for (int i = 0, n = keyTable.length; i < n; i++) {
 				int key = keyTable[i];
@@ -296,6 +298,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 	}
 
 	private void resetTo(IntSet set) {
+		set.scrub();
 		if(loadFactor == set.loadFactor) {
 			threshold = set.threshold;
 			mask = set.mask;
@@ -431,6 +434,14 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 		hasZeroValue = false;
 	}
 
+	/**
+	 * Makes sure that {@link #keyTable} holds only the items actually in this set, so every slot in it can be read.
+	 * This is called before anything reads the whole table, such as iteration or copying. It does nothing here, but
+	 * {@link StampedIntSet} uses it to remove items left in the table by its constant-time {@link #clear()}.
+	 */
+	protected void scrub() {
+	}
+
 	@Override
 	public boolean contains(int key) {
 		if (key == 0) {
@@ -450,6 +461,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 		if (hasZeroValue) {
 			return 0;
 		}
+		scrub();
 		int[] keyTable = this.keyTable;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
 			if (keyTable[i] != 0) {
@@ -471,6 +483,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 	}
 
 	protected void resize(int newSize) {
+		scrub();
 		int oldCapacity = keyTable.length;
 		mask = newSize - 1;
 		threshold = Math.min((int) (newSize * (double) loadFactor + 1), mask);
@@ -529,6 +542,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 
 	@Override
 	public int hashCode() {
+		scrub();
 		int h = size;
 		int[] keyTable = this.keyTable;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -550,6 +564,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 				return builder;
 			}
 			builder.append('[');
+			scrub();
 			int[] keyTable = this.keyTable;
 			int i = keyTable.length;
 			if (hasZeroValue) {
@@ -596,6 +611,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 	 * @param newSize the target size to try to reach by removing items, if smaller than the current size
 	 */
 	public void truncate(int newSize) {
+		scrub();
 		int[] keyTable = this.keyTable;
 		newSize = Math.max(0, newSize);
 		for (int i = keyTable.length - 1; i >= 0 && size > newSize; i--) {
@@ -652,6 +668,7 @@ public class IntSet implements PrimitiveSet.SetOfInt {
 		}
 
 		public void reset() {
+			set.scrub();
 			currentIndex = INDEX_ILLEGAL;
 			nextIndex = INDEX_ZERO;
 			if (set.hasZeroValue) {
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.IntIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of non-negative ints drawn from a dense range, or universe, starting at 0, using the sparse set of Briggs and
+ * Torczon. Each item is stored in a {@code dense} array in insertion order (until something is removed), and a
+ * {@code sparse} array indexed by item holds where that item is in {@code dense}. An item is only in the set if the
+ * two arrays agree with each other, so {@link #add(int)}, {@link #remove(int)}, {@link #contains(int)}, and
+ * {@link #clear()} are all O(1), and none of them need to zero out either array. Iteration only visits the items
+ * actually in the set, in the order they are in {@code dense}.
+ * <br>
+ * This is a good fit for "visited" sets in breadth-first search or flood fill over a large grid, where an {@link IntSet}
+ * would spend more time in {@link IntSet#clear()} (which takes time proportional to its capacity) than in actual work.
+ * The trade-off is memory: {@code sparse} has one int for every possible item, so the universe should be the size
+ * of the range items actually come from, such as the number of cells in a grid. Adding an item at or past the universe
+ * grows {@code sparse}; negative items can't be added.
+ * <br>
+ * Removing an item moves the last item in {@code dense} into its place, so the order of items changes after removal.
+ *
+ * @see IntIntSparseMap IntIntSparseMap associates an int value with each item, using the same technique.
+ */
+public class IntSparseSet implements PrimitiveSet.SetOfInt {
+	/**
+	 * The items in this set, in positions 0 (inclusive) to {@link #size} (exclusive). Positions at or after size may
+	 * hold stale items, which are ignored.
+	 */
+	protected int[] dense;
+	/**
+	 * Indexed by item; holds the position in {@link #dense} where that item may be. Entries are never cleared, so an
+	 * entry only counts if it is less than {@link #size} and {@link #dense} holds the same item at that position.
+	 */
+	protected int[] sparse;
+	protected int size;
+
+	/**
+	 * Creates a new set that can hold items from 0 to 1023 without growing.
+	 */
+	public IntSparseSet() {
+		this(1024);
+	}
+
+	/**
+	 * Creates a new set that can hold items from 0 (inclusive) to {@code universe} (exclusive) without growing.
+	 *
+	 * @param universe one more than the largest item expected; must be non-negative
+	 */
+	public IntSparseSet(int universe) {
+		this(universe, Math.min(universe, 16));
+	}
+
+	/**
+	 * Creates a new set that can hold items from 0 (inclusive) to {@code universe} (exclusive), and can hold
+	 * {@code capacity} items at once, without growing.
+	 *
+	 * @param universe one more than the largest item expected; must be non-negative
+	 * @param capacity how many items this can hold before the dense array needs to grow; must be non-negative
+	 */
+	public IntSparseSet(int universe, int capacity) {
+		if (universe < 0) throw new IllegalArgumentException("universe must be >= 0: " + universe);
+		if (capacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		sparse = new int[universe];
+		dense = new int[capacity];
+	}
+
+	/**
+	 * Creates a new set identical to the specified set.
+	 *
+	 * @param set another IntSparseSet to copy
+	 */
+	public IntSparseSet(IntSparseSet set) {
+		sparse = Arrays.copyOf(set.sparse, set.sparse.length);
+		dense = Arrays.copyOf(set.dense, set.dense.length);
+		size = set.size;
+	}
+
+	/**
+	 * Creates a new set containing all the non-negative items in the given PrimitiveCollection.OfInt.
+	 *
+	 * @param coll a PrimitiveCollection.OfInt that will be used in full; it must not contain negative items
+	 */
+	public IntSparseSet(PrimitiveCollection.OfInt coll) {
+		this(16, coll.size());
+		addAll(coll);
+	}
+
+	/**
+	 * Creates a new set containing all the items in the given array.
+	 *
+	 * @param array an array that will be used in full; it must not contain negative items
+	 */
+	public IntSparseSet(int[] array) {
+		this(16, array.length);
+		addAll(array);
+	}
+
+	/**
+	 * Gets the current universe size; items from 0 (inclusive) up to this (exclusive) can be added without growing.
+	 *
+	 * @return the length of the sparse array
+	 */
+	public int universe() {
+		return sparse.length;
+	}
+
+	/**
+	 * Returns true if {@code item} is in this set. Negative items and items outside the universe are never present.
+	 *
+	 * @param item any int
+	 * @return true if item is present in this set
+	 */
+	@Override
+	public boolean contains(int item) {
+		if (item < 0 || item >= sparse.length) return false;
+		final int s = sparse[item];
+		return s < size && dense[s] == item;
+	}
+
+	/**
+	 * Adds {@code item} if it isn't already present. If item is at least {@link #universe()}, the universe grows to
+	 * fit it.
+	 *
+	 * @param item a non-negative int
+	 * @return true if the item was not already in the set
+	 * @throws IllegalArgumentException if item is negative
+	 */
+	@Override
+	public boolean add(int item) {
+		if (item < 0) throw new IllegalArgumentException("item must be >= 0: " + item);
+		if (item >= sparse.length) {
+			ensureUniverse(item + 1);
+		} else {
+			final int s = sparse[item];
+			if (s < size && dense[s] == item) return false;
+		}
+		if (size == dense.length) {
+			dense = Arrays.copyOf(dense, Math.max(8, (int) (size * 1.75f)));
+		}
+		dense[size] = item;
+		sparse[item] = size++;
+		return true;
+	}
+
+	/**
+	 * Removes {@code item} if it is present. The last item in iteration order takes its place.
+	 *
+	 * @param item any int
+	 * @return true if the item was present
+	 */
+	@Override
+	public boolean remove(int item) {
+		if (item < 0 || item >= sparse.length) return false;
+		final int s = sparse[item];
+		if (s >= size || dense[s] != item) return false;
+		final int last = dense[--size];
+		dense[s] = last;
+		sparse[last] = s;
+		return true;
+	}
+
+	/**
+	 * Removes and returns the last item in iteration order, which is usually the most recently added item.
+	 *
+	 * @return the removed item
+	 * @throws NoSuchElementException if this set is empty
+	 */
+	public int pop() {
+		if (size == 0) throw new NoSuchElementException("IntSparseSet is empty.");
+		return dense[--size];
+	}
+
+	/**
+	 * Gets the item at the given position in iteration order.
+	 *
+	 * @param index a position from 0 (inclusive) to {@link #size()} (exclusive)
+	 * @return the item at that position
+	 */
+	public int get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		return dense[index];
+	}
+
+	/**
+	 * Gets the position of {@code item} in iteration order, or -1 if it is not present.
+	 *
+	 * @param item any int
+	 * @return the position of item, or -1 if it is not present
+	 */
+	public int indexOf(int item) {
+		if (item < 0 || item >= sparse.length) return -1;
+		final int s = sparse[item];
+		return s < size && dense[s] == item ? s : -1;
+	}
+
+	@Override
+	public int first() {
+		if (size == 0) throw new IllegalStateException("Can't get the first() item of an empty IntSparseSet.");
+		return dense[0];
+	}
+
+	/**
+	 * Removes all items in constant time; neither array is changed or shrunk.
+	 */
+	@Override
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Grows the universe, if needed, so items from 0 (inclusive) to {@code universe} (exclusive) can be added without
+	 * growing again. The universe never shrinks.
+	 *
+	 * @param universe one more than the largest item that should be addable without growing
+	 */
+	public void ensureUniverse(int universe) {
+		if (universe > sparse.length) {
+			sparse = Arrays.copyOf(sparse, Math.max(universe, (int) Math.min(Integer.MAX_VALUE, sparse.length * 1.75)));
+		}
+	}
+
+	/**
+	 * Increases the size of the dense array to accommodate the specified number of additional items. Useful before
+	 * adding many items to avoid multiple backing array resizes.
+	 *
+	 * @param additionalCapacity how many additional items this should be able to hold without resizing (probably)
+	 */
+	public void ensureCapacity(int additionalCapacity) {
+		if (size + additionalCapacity > dense.length) {
+			dense = Arrays.copyOf(dense, size + additionalCapacity);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int[] toArray() {
+		return Arrays.copyOf(dense, size);
+	}
+
+	@Override
+	public int[] toArray(int[] receiver) {
+		if (receiver.length < size) receiver = new int[size];
+		System.arraycopy(dense, 0, receiver, 0, size);
+		return receiver;
+	}
+
+	/**
+	 * Computes the same hash code as an {@link IntSet} with the same items.
+	 *
+	 * @return a hash code for this set
+	 */
+	@Override
+	public int hashCode() {
+		int h = size;
+		int[] dense = this.dense;
+		for (int i = 0, n = size; i < n; i++) {
+			h += dense[i];
+		}
+		return h ^ h >>> 16;
+	}
+
+	@SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+	@Override
+	public boolean equals(Object o) {
+		return SetOfInt.super.equalContents(o);
+	}
+
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Returns an iterator over the items in this set, in the order they are in the dense array. Remove is supported;
+	 * removing the current item moves the last item into its place, and the iterator will still visit it.
+	 */
+	@Override
+	public IntSparseSetIterator iterator() {
+		return new IntSparseSetIterator(this);
+	}
+
+	public static class IntSparseSetIterator implements IntIterator {
+		/**
+		 * The next position in the set's dense array to return from {@link #nextInt()}.
+		 */
+		protected int index;
+		/**
+		 * True if {@link #remove()} can be called, because {@link #nextInt()} has been called since the last removal.
+		 */
+		protected boolean removable;
+		/**
+		 * The set to iterate over.
+		 */
+		protected final IntSparseSet set;
+
+		public IntSparseSetIterator(IntSparseSet set) {
+			this.set = set;
+		}
+
+		public void reset() {
+			index = 0;
+			removable = false;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < set.size;
+		}
+
+		@Override
+		public int nextInt() {
+			if (index >= set.size) {
+				throw new NoSuchElementException();
+			}
+			removable = true;
+			return set.dense[index++];
+		}
+
+		@Override
+		public void remove() {
+			if (!removable) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			removable = false;
+			set.remove(set.dense[--index]);
+		}
+	}
+
+	/**
+	 * Constructs an empty set.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @return a new set containing nothing
+	 */
+	public static IntSparseSet with() {
+		return new IntSparseSet();
+	}
+
+	/**
+	 * Creates a new IntSparseSet that holds only the given item, but can be resized.
+	 *
+	 * @param item a non-negative int item
+	 * @return a new IntSparseSet that holds the given item
+	 */
+	public static IntSparseSet with(int item) {
+		IntSparseSet set = new IntSparseSet(item + 1, 1);
+		set.add(item);
+		return set;
+	}
+
+	/**
+	 * Creates a new IntSparseSet that holds only the given items, but can be resized.
+	 *
+	 * @param varargs non-negative int items, or an array of them
+	 * @return a new IntSparseSet that holds the given items
+	 */
+	public static IntSparseSet with(int... varargs) {
+		return new IntSparseSet(varargs);
+	}
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint-set forest (also called union-find) over the ints from 0 up to (but not including) {@link #size()}. Each
+ * int starts in its own component; {@link #union(int, int)} joins the components of two ints, and {@link #find(int)}
+ * gets a representative int for a component, so two ints are connected exactly when they have the same
+ * representative. Both take nearly constant amortized time, using path halving and union by size.
+ * <br>
+ * Everything is stored in three int arrays, so this never allocates per item, and there is no hashing; that makes it
+ * a good fit for labeling connected components in grids (using {@code x + y * width} as the int) or graphs. Besides
+ * the parent of each int and the size of each component, this keeps a circular list of the members of each
+ * component, so {@link #component(int, IntList)} takes time proportional to the size of that component.
+ * <br>
+ * This grows as needed; {@link #add()} adds one more int, {@link #extend(int)} adds many at once, and
+ * {@link #union(int, int)} adds any ints it is given that are not present yet.
+ *
+ * @see ObjectUnionFind ObjectUnionFind is a counterpart for any Object items.
+ */
+public class IntUnionFind {
+	/**
+	 * The parent of each int in its tree; a representative is its own parent.
+	 */
+	protected int[] parent;
+	/**
+	 * For each representative, how many ints are in its component; other ints' entries are unused.
+	 */
+	protected int[] sizes;
+	/**
+	 * The next int in the same component, in a circular list.
+	 */
+	protected int[] next;
+	protected int size;
+	protected int components;
+
+	/**
+	 * Creates an empty IntUnionFind with room for 16 ints before it needs to grow.
+	 */
+	public IntUnionFind() {
+		this(0, 16);
+	}
+
+	/**
+	 * Creates an IntUnionFind holding the ints from 0 to {@code size - 1}, each in its own component.
+	 *
+	 * @param size how many ints to start with
+	 */
+	public IntUnionFind(int size) {
+		this(size, size);
+	}
+
+	/**
+	 * Creates an IntUnionFind holding the ints from 0 to {@code size - 1}, each in its own component, with room for
+	 * {@code capacity} ints before it needs to grow.
+	 *
+	 * @param size     how many ints to start with
+	 * @param capacity how many ints this can hold before it needs to grow
+	 */
+	public IntUnionFind(int size, int capacity) {
+		if (size < 0) throw new IllegalArgumentException("size can't be negative: " + size);
+		capacity = Math.max(size, capacity);
+		parent = new int[capacity];
+		sizes = new int[capacity];
+		next = new int[capacity];
+		extend(size);
+	}
+
+	/**
+	 * Creates a copy of {@code other}, with the same ints and components.
+	 *
+	 * @param other another IntUnionFind to copy
+	 */
+	public IntUnionFind(IntUnionFind other) {
+		parent = Arrays.copyOf(other.parent, other.size);
+		sizes = Arrays.copyOf(other.sizes, other.size);
+		next = Arrays.copyOf(other.next, other.size);
+		size = other.size;
+		components = other.components;
+	}
+
+	/**
+	 * Makes sure this can hold at least {@code capacity} ints without growing.
+	 *
+	 * @param capacity how many ints this should be able to hold
+	 */
+	public void ensureCapacity(int capacity) {
+		if (capacity > parent.length) {
+			resize(Math.max(capacity, Math.max(8, (int) (parent.length * 1.75f))));
+		}
+	}
+
+	protected void resize(int newCapacity) {
+		parent = Arrays.copyOf(parent, newCapacity);
+		sizes = Arrays.copyOf(sizes, newCapacity);
+		next = Arrays.copyOf(next, newCapacity);
+	}
+
+	/**
+	 * Adds one int, equal to the previous {@link #size()}, in its own component.
+	 *
+	 * @return the int that was added
+	 */
+	public int add() {
+		final int item = size;
+		extend(size + 1);
+		return item;
+	}
+
+	/**
+	 * If {@link #size()} is less than {@code newSize}, adds ints until it is, each in its own component.
+	 *
+	 * @param newSize how many ints this should hold
+	 */
+	public void extend(int newSize) {
+		if (newSize <= size) return;
+		ensureCapacity(newSize);
+		for (int i = size; i < newSize; i++) {
+			parent[i] = i;
+			sizes[i] = 1;
+			next[i] = i;
+		}
+		components += newSize - size;
+		size = newSize;
+	}
+
+	/**
+	 * Gets the representative of the component that contains {@code item}. Two ints are in the same component if and
+	 * only if they have the same representative, but the representative can change after {@link #union(int, int)}.
+	 *
+	 * @param item an int from 0 to {@link #size()}, exclusive
+	 * @return the representative of the component containing {@code item}
+	 * @throws IndexOutOfBoundsException if {@code item} is negative or not less than {@link #size()}
+	 */
+	public int find(int item) {
+		if (item < 0 || item >= size) {
+			throw new IndexOutOfBoundsException("item must be between 0 and size, exclusive: " + item + ", size " + size);
+		}
+		final int[] parent = this.parent;
+		int p;
+		while ((p = parent[item]) != item) {
+			// path halving: point every other node on the path at its grandparent
+			item = parent[item] = parent[p];
+		}
+		return item;
+	}
+
+	/**
+	 * Joins the components that contain {@code a} and {@code b}. If either is not less than {@link #size()}, this
+	 * first extends this to include it.
+	 *
+	 * @param a a non-negative int
+	 * @param b a non-negative int
+	 * @return true if they were in different components before, or false if nothing changed
+	 */
+	public boolean union(int a, int b) {
+		extend(Math.max(a, b) + 1);
+		int ra = find(a), rb = find(b);
+		if (ra == rb) return false;
+		if (sizes[ra] < sizes[rb]) {
+			final int t = ra;
+			ra = rb;
+			rb = t;
+		}
+		parent[rb] = ra;
+		sizes[ra] += sizes[rb];
+		// splice the two circular member lists together
+		final int t = next[ra];
+		next[ra] = next[rb];
+		next[rb] = t;
+		components--;
+		return true;
+	}
+
+	/**
+	 * @param a an int from 0 to {@link #size()}, exclusive
+	 * @param b an int from 0 to {@link #size()}, exclusive
+	 * @return true if {@code a} and {@code b} are in the same component
+	 */
+	public boolean connected(int a, int b) {
+		return find(a) == find(b);
+	}
+
+	/**
+	 * @param item an int from 0 to {@link #size()}, exclusive
+	 * @return how many ints are in the same component as {@code item}, including itself
+	 */
+	public int componentSize(int item) {
+		return sizes[find(item)];
+	}
+
+	/**
+	 * Adds every int in the same component as {@code item}, including {@code item}, to {@code into}. This takes time
+	 * proportional to the size of the component.
+	 *
+	 * @param item an int from 0 to {@link #size()}, exclusive
+	 * @param into an IntList (or IntDeque, or other subclass) that will have the component's ints added
+	 * @return {@code into}, after modifications
+	 */
+	public IntList component(int item, IntList into) {
+		find(item);
+		final int[] next = this.next;
+		int i = item;
+		do {
+			into.add(i);
+			i = next[i];
+		} while (i != item);
+		return into;
+	}
+
+	/**
+	 * Gets every int in the same component as {@code item}, including {@code item}, in a new IntList.
+	 *
+	 * @param item an int from 0 to {@link #size()}, exclusive
+	 * @return a new IntList holding the component's ints
+	 */
+	public IntList component(int item) {
+		return component(item, new IntList(componentSize(item)));
+	}
+
+	/**
+	 * Adds the representative of every component to {@code into}.
+	 *
+	 * @param into an IntList that will have one int added per component
+	 * @return {@code into}, after modifications
+	 */
+	public IntList representatives(IntList into) {
+		final int[] parent = this.parent;
+		for (int i = 0; i < size; i++) {
+			if (parent[i] == i) into.add(i);
+		}
+		return into;
+	}
+
+	/**
+	 * Labels every int with a number for its component, from 0 to {@link #componentCount()}, exclusive, numbered in
+	 * the order each component's lowest int appears. This is the usual last step of connected-component labeling.
+	 *
+	 * @param labels an int array with length at least {@link #size()}, or null to allocate one; will be modified
+	 * @return {@code labels}, or a new array if it was null or too small, with the label of each int at its index
+	 */
+	public int[] labels(int[] labels) {
+		if (labels == null || labels.length < size) labels = new int[size];
+		final int[] roots = new int[size];
+		Arrays.fill(roots, -1);
+		int label = 0;
+		for (int i = 0; i < size; i++) {
+			final int r = find(i);
+			if (roots[r] == -1) roots[r] = label++;
+			labels[i] = roots[r];
+		}
+		return labels;
+	}
+
+	/**
+	 * @return how many ints this holds
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return how many separate components there are
+	 */
+	public int componentCount() {
+		return components;
+	}
+
+	/**
+	 * Puts every int back in its own component, keeping the same {@link #size()}.
+	 */
+	public void reset() {
+		final int n = size;
+		size = 0;
+		components = 0;
+		extend(n);
+	}
+
+	/**
+	 * Removes every int, so {@link #size()} is 0.
+	 */
+	public void clear() {
+		size = 0;
+		components = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "IntUnionFind with " + size + " items in " + components + " components";
+	}
+}
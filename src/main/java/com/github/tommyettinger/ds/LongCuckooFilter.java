@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+/**
+ * A cuckoo filter for long items, which can say that an item is definitely not present, or that it might be, and unlike
+ * a Bloom filter, can also remove items. This uses far less memory than a {@link LongSet} holding the same items, but
+ * it can't list its items, and it will sometimes report an item that was never added. See {@link CuckooFilter} for how
+ * items are stored, and the limits on removal.
+ *
+ * @see LongBloomFilter LongBloomFilter can't remove items, but can be combined with another filter.
+ */
+public class LongCuckooFilter extends CuckooFilter {
+	/**
+	 * Creates a filter with room for at least {@code capacity} items, using a seed of 0.
+	 *
+	 * @param capacity how many items this should be able to hold
+	 */
+	public LongCuckooFilter(int capacity) {
+		super(capacity, 0);
+	}
+
+	/**
+	 * Creates a filter with room for at least {@code capacity} items.
+	 *
+	 * @param capacity how many items this should be able to hold
+	 * @param seed     any int; chooses the multipliers used to hash items
+	 */
+	public LongCuckooFilter(int capacity, int seed) {
+		super(capacity, seed);
+	}
+
+	/**
+	 * Restores a filter from the output of {@link #toLongArray()}.
+	 *
+	 * @param data a long array produced by {@link #toLongArray()} on a LongCuckooFilter
+	 */
+	public LongCuckooFilter(long[] data) {
+		super(data);
+	}
+
+	/**
+	 * Creates a copy of {@code other}, with the same settings and the same items.
+	 *
+	 * @param other another LongCuckooFilter to copy
+	 */
+	public LongCuckooFilter(LongCuckooFilter other) {
+		super(other);
+	}
+
+	/**
+	 * Mixes {@code item} with the seed into two hashes, packed with the first in the upper 32 bits and the second in
+	 * the lower 32 bits.
+	 */
+	private long hash(long item) {
+		long z = (item ^ (long) multiplierA << 32 ^ seed) * 0xD1B54A32D192ED03L;
+		z = (z ^ z >>> 29) * ((long) multiplierB << 1 | 1L);
+		return z ^ z >>> 48;
+	}
+
+	/**
+	 * Adds {@code item} to this filter. Adding the same item again stores it again, so it would need to be removed
+	 * twice.
+	 *
+	 * @param item the item to add
+	 * @return true if {@code item} was added, or false if this filter is full
+	 */
+	public boolean add(long item) {
+		final long h = hash(item);
+		return insert((int) (h >>> 32), (int) h);
+	}
+
+	/**
+	 * Checks if {@code item} might have been added. If this returns false, {@code item} is definitely not present;
+	 * if this returns true, it probably is.
+	 *
+	 * @param item the item to check
+	 * @return false if {@code item} is definitely not present, or true if it might be
+	 */
+	public boolean mightContain(long item) {
+		final long h = hash(item);
+		return find((int) (h >>> 32), (int) h);
+	}
+
+	/**
+	 * Removes {@code item} from this filter. Only remove items that were definitely added; see {@link CuckooFilter}.
+	 *
+	 * @param item the item to remove
+	 * @return true if {@code item} might have been present and was removed, or false if it was definitely not present
+	 */
+	public boolean remove(long item) {
+		final long h = hash(item);
+		return delete((int) (h >>> 32), (int) h);
+	}
+
+	/**
+	 * Adds {@code length} items from {@code items}, starting at {@code offset}, stopping early if this fills up.
+	 *
+	 * @param items  the items to add
+	 * @param offset the first index in {@code items} to add
+	 * @param length how many items to add
+	 * @return how many items were added
+	 */
+	public int addAll(long[] items, int offset, int length) {
+		for (int i = offset, n = offset + length; i < n; i++) {
+			if (!add(items[i])) return i - offset;
+		}
+		return length;
+	}
+
+	/**
+	 * Adds every item in {@code items}, stopping early if this fills up.
+	 *
+	 * @param items the items to add
+	 * @return how many items were added
+	 */
+	public int addAll(long[] items) {
+		return addAll(items, 0, items.length);
+	}
+
+	/**
+	 * Checks every item in {@code items}, and sets the same index in {@code results} to the result of
+	 * {@link #mightContain(long)} for that item.
+	 *
+	 * @param items   the items to check
+	 * @param results must be at least as long as {@code items}; will be modified
+	 * @return how many items might be present
+	 */
+	public int mightContainAll(long[] items, boolean[] results) {
+		int count = 0;
+		for (int i = 0; i < items.length; i++) {
+			if (results[i] = mightContain(items[i])) count++;
+		}
+		return count;
+	}
+}
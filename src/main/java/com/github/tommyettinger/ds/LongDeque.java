@@ -557,6 +557,17 @@ public class LongDeque extends LongList implements RandomAccess, Arrangeable, Pr
 		}
 	}
 
+	/**
+	 * Gets the index of the head in {@link #items}. Items run from there to the end of {@link #items} and, if this
+	 * deque wraps around, continue from index 0.
+	 *
+	 * @return the index in {@link #items} of the item at index 0
+	 */
+	@Override
+	protected int storageStart() {
+		return head;
+	}
+
 	@Override
 	public long[] shrink() {
 		trimToSize();
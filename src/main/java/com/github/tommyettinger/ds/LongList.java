@@ -492,6 +492,556 @@ public class LongList implements PrimitiveCollection.OfLong, Ordered.OfLong, Arr
 		return this;
 	}
 
+	/**
+	 * Adds each item in {@code other} to the item at the same index in this LongList, stores the results in this
+	 * and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code +} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this LongList).
+	 *
+	 * @param other another LongList; each item in this will be assigned {@code item + otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public LongList plus(LongList other) {
+		return plus(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Adds to {@code count} items in this LongList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this LongList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public LongList plus(int start, LongList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] += b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Subtracts each item in {@code other} from the item at the same index in this LongList, stores the results in
+	 * this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code -} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this LongList).
+	 *
+	 * @param other another LongList; each item in this will be assigned {@code item - otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public LongList minus(LongList other) {
+		return minus(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Subtracts from {@code count} items in this LongList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this LongList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public LongList minus(int start, LongList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] -= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies each item in this LongList by the item at the same index in {@code other}, stores the results in
+	 * this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code *} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this LongList).
+	 *
+	 * @param other another LongList; each item in this will be assigned {@code item * otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public LongList times(LongList other) {
+		return times(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Multiplies {@code count} items in this LongList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this LongList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public LongList times(int start, LongList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] *= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Divides each item in this LongList by the item at the same index in {@code other}, stores the results in
+	 * this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code /} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this LongList).
+	 *
+	 * @param other another LongList; each item in this will be assigned {@code item / otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public LongList div(LongList other) {
+		return div(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Divides {@code count} items in this LongList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this LongList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public LongList div(int start, LongList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] /= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the remainder of each item in this LongList with the item at the same index in {@code other}, stores the
+	 * results in this and returns it.
+	 * If other has a different size, this only changes the first {@code Math.min(size(), other.size())} items.
+	 * The presence of this method allows Kotlin code to use the {@code %} operator between two lists (though it
+	 * shouldn't be used more than once in an expression, because this method modifies this LongList).
+	 *
+	 * @param other another LongList; each item in this will be assigned {@code item % otherItem}
+	 * @return this for chaining and Kotlin compatibility
+	 */
+	// Kotlin-friendly operator
+	public LongList rem(LongList other) {
+		return rem(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Gets the remainder of {@code count} items in this LongList, starting at {@code start}, using the items in {@code other}
+	 * starting at {@code otherStart}, stores the results in this and returns it. Only this LongList is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @return this for chaining
+	 */
+	public LongList rem(int start, LongList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] %= b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Multiplies each item in this LongList by the item at the same index in {@code multiplier}, then adds the item at
+	 * the same index in {@code addend}, stores the results in this and returns it. If the lists have different sizes,
+	 * this only changes as many items as the smallest list has. This performs a separate multiply and add, with
+	 * rounding after each, rather than a fused operation with one rounding.
+	 *
+	 * @param multiplier another LongList; each item in this will be multiplied by its item at the same index
+	 * @param addend     another LongList; each item at the same index will be added after multiplying
+	 * @return this for chaining
+	 */
+	public LongList mulAdd(LongList multiplier, LongList addend) {
+		return mulAdd(0, multiplier, 0, addend, 0, Math.min(size, Math.min(multiplier.size, addend.size)));
+	}
+
+	/**
+	 * For {@code count} items in this LongList starting at {@code start}, multiplies the item by the matching item in
+	 * {@code multiplier} (starting at {@code multiplierStart}), then adds the matching item in {@code addend} (starting
+	 * at {@code addendStart}), and stores the result in this. Only this LongList is modified.
+	 *
+	 * @param start           the first index in this to change
+	 * @param multiplier      another LongList, which may be this
+	 * @param multiplierStart the first index in multiplier to read
+	 * @param addend          another LongList, which may be this
+	 * @param addendStart     the first index in addend to read
+	 * @param count           how many items to change
+	 * @return this for chaining
+	 */
+	public LongList mulAdd(int start, LongList multiplier, int multiplierStart, LongList addend, int addendStart, int count) {
+		checkElementwise(start, multiplier, multiplierStart, count);
+		checkElementwise(start, addend, addendStart, count);
+		long[] a = items, b = multiplier.items, c = addend.items;
+		if (b == a && multiplierStart < start && multiplierStart + count > start) b = Arrays.copyOf(b, b.length);
+		if (c == a && addendStart < start && addendStart + count > start) c = Arrays.copyOf(c, c.length);
+		int s = storageIndex(start), m = multiplier.storageIndex(multiplierStart), d = addend.storageIndex(addendStart);
+		while (count > 0) {
+			int run = Math.min(count, Math.min(a.length - s, Math.min(b.length - m, c.length - d)));
+			for (int i = 0; i < run; i++) {
+				a[s + i] = a[s + i] * b[m + i] + c[d + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((m += run) == b.length) m = 0;
+			if ((d += run) == c.length) d = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Adds each item in {@code other}, multiplied by {@code scale}, to the item at the same index in this LongList,
+	 * stores the results in this and returns it. This is sometimes called "axpy," and is useful for things like
+	 * adding a velocity times a time step to a position. If other has a different size, this only changes the first
+	 * {@code Math.min(size(), other.size())} items.
+	 *
+	 * @param other another LongList
+	 * @param scale what to multiply each item in other by before adding it
+	 * @return this for chaining
+	 */
+	public LongList addScaled(LongList other, long scale) {
+		return addScaled(0, other, 0, Math.min(size, other.size), scale);
+	}
+
+	/**
+	 * For {@code count} items in this LongList starting at {@code start}, adds the matching item in {@code other}
+	 * (starting at {@code otherStart}) multiplied by {@code scale}, and stores the result in this. Only this LongList
+	 * is modified.
+	 *
+	 * @param start      the first index in this to change
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many items to change
+	 * @param scale      what to multiply each item in other by before adding it
+	 * @return this for chaining
+	 */
+	public LongList addScaled(int start, LongList other, int otherStart, int count, long scale) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		if (b == a && otherStart < start && otherStart + count > start) b = Arrays.copyOf(b, b.length);
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				a[s + i] += b[t + i] * scale;
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the dot product of this LongList and {@code other}, which is the sum of the products of items at the same
+	 * index. If other has a different size, this only uses the first {@code Math.min(size(), other.size())} items.
+	 * The products and the sum can overflow, as with any long math.
+	 *
+	 * @param other another LongList
+	 * @return the dot product of this and other
+	 */
+	public long dot(LongList other) {
+		return dot(0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Gets the dot product of {@code count} items in this LongList starting at {@code start} with {@code count} items
+	 * in {@code other} starting at {@code otherStart}.
+	 * The products and the sum can overflow, as with any long math.
+	 *
+	 * @param start      the first index in this to read
+	 * @param other      another LongList, which may be this
+	 * @param otherStart the first index in other to read
+	 * @param count      how many pairs of items to multiply and sum
+	 * @return the dot product of the given ranges
+	 */
+	public long dot(int start, LongList other, int otherStart, int count) {
+		checkElementwise(start, other, otherStart, count);
+		long[] a = items, b = other.items;
+		long sum = 0;
+		for (int s = storageIndex(start), t = other.storageIndex(otherStart); count > 0; ) {
+			int run = Math.min(count, Math.min(a.length - s, b.length - t));
+			for (int i = 0; i < run; i++) {
+				sum += a[s + i] * b[t + i];
+			}
+			count -= run;
+			if ((s += run) == a.length) s = 0;
+			if ((t += run) == b.length) t = 0;
+		}
+		return sum;
+	}
+
+	private void checkElementwise(int start, LongList other, int otherStart, int count) {
+		if (start < 0 || otherStart < 0 || count < 0 || start > size - count || otherStart > other.size - count)
+			throw new IndexOutOfBoundsException("Invalid range: start=" + start + ", otherStart=" + otherStart +
+				", count=" + count + ", size=" + size + ", other.size()=" + other.size);
+	}
+
+	/**
+	 * Gets the sum of all items in this LongList, as a long.
+	 *
+	 * @return the sum of all items
+	 */
+	public long sum() {
+		return sum(0, size);
+	}
+
+	/**
+	 * Gets the sum of the items from {@code from} (inclusive) to {@code to} (exclusive) in this LongList, as a long.
+	 * The loop is unrolled with four independent accumulators, so the additions can overlap on modern CPUs.
+	 *
+	 * @param from the first index to sum, inclusive
+	 * @param to   the last index to sum, exclusive
+	 * @return the sum of the items in the given range
+	 */
+	public long sum(int from, int to) {
+		checkReduceRange(from, to);
+		long[] items = this.items;
+		long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		for (int p = storageIndex(from), left = to - from; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			int i = p, n = p + run;
+			for (int end = n - 3; i < end; i += 4) {
+				s0 += items[i];
+				s1 += items[i + 1];
+				s2 += items[i + 2];
+				s3 += items[i + 3];
+			}
+			for (; i < n; i++) {
+				s0 += items[i];
+			}
+		}
+		return s0 + s1 + s2 + s3;
+	}
+
+	/**
+	 * Replaces each item in this LongList with the sum of itself and every item before it, so the last item becomes the
+	 * sum of all items. This is an inclusive prefix sum, or scan.
+	 *
+	 * @return this for chaining
+	 */
+	public LongList inclusiveScan() {
+		return inclusiveScan(0, size);
+	}
+
+	/**
+	 * Replaces each item from {@code from} (inclusive) to {@code to} (exclusive) with the sum of itself and every item
+	 * before it in that range. This is an inclusive prefix sum, or scan, over just that range.
+	 *
+	 * @param from the first index to change, inclusive
+	 * @param to   the last index to change, exclusive
+	 * @return this for chaining
+	 */
+	public LongList inclusiveScan(int from, int to) {
+		checkReduceRange(from, to);
+		long[] items = this.items;
+		long sum = 0;
+		for (int p = storageIndex(from), left = to - from; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				items[i] = sum += items[i];
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Replaces each item in this LongList with the sum of every item before it, so the first item becomes 0. This is an
+	 * exclusive prefix sum, or scan; it produces the starting offsets of buckets given their sizes.
+	 *
+	 * @return the sum of all items before this call, which would be the next item in the scan
+	 */
+	public long exclusiveScan() {
+		return exclusiveScan(0, size);
+	}
+
+	/**
+	 * Replaces each item from {@code from} (inclusive) to {@code to} (exclusive) with the sum of every item before it
+	 * in that range, so the item at {@code from} becomes 0. This is an exclusive prefix sum, or scan, over just that
+	 * range.
+	 *
+	 * @param from the first index to change, inclusive
+	 * @param to   the last index to change, exclusive
+	 * @return the sum of the items in the range before this call, which would be the next item in the scan
+	 */
+	public long exclusiveScan(int from, int to) {
+		checkReduceRange(from, to);
+		long[] items = this.items;
+		long sum = 0;
+		for (int p = storageIndex(from), left = to - from; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				long item = items[i];
+				items[i] = sum;
+				sum += item;
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the smallest item in this LongList.
+	 *
+	 * @return the smallest item
+	 * @throws IndexOutOfBoundsException if this is empty
+	 */
+	public long min() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("LongList is empty.");
+		}
+		long[] items = this.items;
+		int p = storageIndex(0);
+		long m = items[p];
+		for (int left = size; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				m = Math.min(m, items[i]);
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Gets the largest item in this LongList.
+	 *
+	 * @return the largest item
+	 * @throws IndexOutOfBoundsException if this is empty
+	 */
+	public long max() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("LongList is empty.");
+		}
+		long[] items = this.items;
+		int p = storageIndex(0);
+		long m = items[p];
+		for (int left = size; left > 0; p = 0) {
+			int run = Math.min(left, items.length - p);
+			left -= run;
+			for (int i = p, n = p + run; i < n; i++) {
+				m = Math.max(m, items[i]);
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Gets the index of the first occurrence of the smallest item in this LongList, or -1 if this is empty.
+	 *
+	 * @return the index of the smallest item, or -1 if this is empty
+	 */
+	public int argMin() {
+		if (size == 0) return -1;
+		long[] items = this.items;
+		int p = storageIndex(0), best = 0;
+		long m = items[p];
+		for (int done = 0; done < size; p = 0) {
+			int run = Math.min(size - done, items.length - p);
+			for (int i = p, n = p + run; i < n; i++) {
+				if (items[i] < m) {
+					m = items[i];
+					best = done + i - p;
+				}
+			}
+			done += run;
+		}
+		return best;
+	}
+
+	/**
+	 * Gets the index of the first occurrence of the largest item in this LongList, or -1 if this is empty.
+	 *
+	 * @return the index of the largest item, or -1 if this is empty
+	 */
+	public int argMax() {
+		if (size == 0) return -1;
+		long[] items = this.items;
+		int p = storageIndex(0), best = 0;
+		long m = items[p];
+		for (int done = 0; done < size; p = 0) {
+			int run = Math.min(size - done, items.length - p);
+			for (int i = p, n = p + run; i < n; i++) {
+				if (items[i] > m) {
+					m = items[i];
+					best = done + i - p;
+				}
+			}
+			done += run;
+		}
+		return best;
+	}
+
+	/**
+	 * Gets the arithmetic mean of the items in this LongList, or {@code NaN} if this is empty.
+	 *
+	 * @return the mean of all items, as a double
+	 */
+	public double mean() {
+		return (double) sum() / size;
+	}
+
+	private void checkReduceRange(int from, int to) {
+		if (from < 0 || to > size || from > to)
+			throw new IndexOutOfBoundsException("Invalid range: from=" + from + ", to=" + to + ", size=" + size);
+	}
+
 	public void insert(int index, long value) {
 		if (index > size) {
 			throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
@@ -1022,6 +1572,265 @@ public class LongList implements PrimitiveCollection.OfLong, Ordered.OfLong, Arr
 		}
 	}
 
+	/**
+	 * Gets the index in {@link #items} of the item at index 0, without changing how items are stored. Items are
+	 * stored in order from there to the end of {@link #items}; subclasses that use a circular buffer, such as
+	 * {@link LongDeque}, continue from index 0 after that. For a LongList, this is always 0.
+	 *
+	 * @return the index in {@link #items} of the item at index 0
+	 */
+	protected int storageStart() {
+		return 0;
+	}
+
+	/**
+	 * Gets the index in {@link #items} of the item at {@code index}, which can be from 0 to {@link #size()},
+	 * inclusive. This takes {@link #storageStart()} into account, wrapping around the end of {@link #items} if needed.
+	 */
+	private int storageIndex(int index) {
+		int start = storageStart();
+		return index < items.length - start ? start + index : index - (items.length - start);
+	}
+
+	/**
+	 * Searches this list for {@code value} using binary search. This list must be sorted in ascending order,
+	 * such as by {@link #sort()}, or the results are undefined. If this contains multiple items equal to
+	 * value, there is no guarantee which one will be found.
+	 *
+	 * @param value the long value to search for
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(long value) {
+		return binarySearch(0, size, value);
+	}
+
+	/**
+	 * Searches the range from {@code from} (inclusive) to {@code to} (exclusive) of this list for {@code value},
+	 * using binary search. That range must be sorted in ascending order, or the results are undefined.
+	 *
+	 * @param from  the first index to search, inclusive
+	 * @param to    the last index to search, exclusive
+	 * @param value the long value to search for
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(int from, int to, long value) {
+		if (from < 0 || to > size || from > to)
+			throw new IndexOutOfBoundsException("Invalid range: from=" + from + ", to=" + to + ", size=" + size);
+		long[] items = this.items;
+		int start = storageIndex(from), count = to - from, offset = from - start, end;
+		if (count <= items.length - start) {
+			end = start + count;
+		} else if (value > items[items.length - 1]) {
+			// The range wraps around the end of items, and value can only be in the part that wrapped.
+			end = count - (items.length - start);
+			offset += items.length;
+			start = 0;
+		} else {
+			// The range wraps around the end of items, and value can only be in the part before the end.
+			end = items.length;
+		}
+		int result = Arrays.binarySearch(items, start, end, value);
+		return result < 0 ? result - offset : result + offset;
+	}
+
+	/**
+	 * Merges this list with {@code other}, writing every item from both into {@code into} in ascending order.
+	 * Both this and other must already be sorted in ascending order. Duplicates are kept. Runs of items from one
+	 * list that fit between two items of the other list are found with galloping (exponential) search and copied in
+	 * bulk, so merging a short list into a long one needs far fewer comparisons than a linear merge.
+	 *
+	 * @param other another LongList sorted in ascending order
+	 * @param into  a LongList that will be cleared and then receive the merged items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public LongList mergeSorted(LongList other, LongList into) {
+		checkSortedOutput(other, into);
+		long[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		into.ensureCapacity(size + other.size);
+		while (i < na && j < nb) {
+			if (itemAt(a, sa, i) <= itemAt(b, sb, j)) {
+				int k = gallopAbove(a, sa, i + 1, na, itemAt(b, sb, j));
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else {
+				int k = gallopAtLeast(b, sb, j + 1, nb, itemAt(a, sa, i));
+				addRun(into, b, sb, j, k - j);
+				j = k;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		if (j < nb) addRun(into, b, sb, j, nb - j);
+		return into;
+	}
+
+	/**
+	 * Writes the items present in both this list and {@code other} into {@code into}, in ascending order. Both this
+	 * and other must already be sorted in ascending order. If an item appears m times here and n times in other,
+	 * it appears {@code Math.min(m, n)} times in the result. This skips through the longer list with galloping
+	 * (exponential) search, so it takes O(m log(n/m)) time when one list, of size m, is much shorter than the other,
+	 * of size n, and linear time when they have similar sizes.
+	 *
+	 * @param other another LongList sorted in ascending order
+	 * @param into  a LongList that will be cleared and then receive the shared items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public LongList intersectSorted(LongList other, LongList into) {
+		checkSortedOutput(other, into);
+		long[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		while (i < na && j < nb) {
+			long x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (x < y) {
+				i = gallopAtLeast(a, sa, i + 1, na, y);
+			} else if (y < x) {
+				j = gallopAtLeast(b, sb, j + 1, nb, x);
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list, {@code other}, or both into {@code into}, in ascending order. Both this
+	 * and other must already be sorted in ascending order. If an item appears m times here and n times in other,
+	 * it appears {@code Math.max(m, n)} times in the result. Runs of items only in one list are found with galloping
+	 * (exponential) search and copied in bulk.
+	 *
+	 * @param other another LongList sorted in ascending order
+	 * @param into  a LongList that will be cleared and then receive the combined items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public LongList unionSorted(LongList other, LongList into) {
+		checkSortedOutput(other, into);
+		long[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		into.ensureCapacity(size + other.size);
+		while (i < na && j < nb) {
+			long x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (x < y) {
+				int k = gallopAtLeast(a, sa, i + 1, na, y);
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else if (y < x) {
+				int k = gallopAtLeast(b, sb, j + 1, nb, x);
+				addRun(into, b, sb, j, k - j);
+				j = k;
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		if (j < nb) addRun(into, b, sb, j, nb - j);
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list but not in {@code other} into {@code into}, in ascending order. Both
+	 * this and other must already be sorted in ascending order. If an item appears m times here and n times in
+	 * other, it appears {@code Math.max(m - n, 0)} times in the result. Runs of items are found with galloping
+	 * (exponential) search, and runs that are kept are copied in bulk.
+	 *
+	 * @param other another LongList sorted in ascending order
+	 * @param into  a LongList that will be cleared and then receive the remaining items; must not be this or other
+	 * @return {@code into}, for chaining
+	 */
+	public LongList differenceSorted(LongList other, LongList into) {
+		checkSortedOutput(other, into);
+		long[] a = items, b = other.items;
+		int sa = storageStart(), sb = other.storageStart(), i = 0, j = 0, na = size, nb = other.size;
+		into.clear();
+		while (i < na && j < nb) {
+			long x = itemAt(a, sa, i), y = itemAt(b, sb, j);
+			if (x < y) {
+				int k = gallopAtLeast(a, sa, i + 1, na, y);
+				addRun(into, a, sa, i, k - i);
+				i = k;
+			} else if (y < x) {
+				j = gallopAtLeast(b, sb, j + 1, nb, x);
+			} else {
+				i++;
+				j++;
+			}
+		}
+		if (i < na) addRun(into, a, sa, i, na - i);
+		return into;
+	}
+
+	private void checkSortedOutput(LongList other, LongList into) {
+		if (into == this || into == other)
+			throw new IllegalArgumentException("The output list must not be one of the input lists.");
+	}
+
+	/**
+	 * Gets the item at {@code index} of the items stored in {@code a} starting at {@code start}, where items past the
+	 * end of {@code a} continue from its beginning. This is how deques store their items; lists always have
+	 * {@code start} equal to 0, so they never wrap.
+	 */
+	private static long itemAt(long[] a, int start, int index) {
+		return a[index < a.length - start ? start + index : index - (a.length - start)];
+	}
+
+	/**
+	 * Adds {@code count} items to {@code into}, starting at {@code index} of the items stored in {@code a} starting
+	 * at {@code start}, splitting the copy in two if it wraps around the end of {@code a}.
+	 */
+	private static void addRun(LongList into, long[] a, int start, int index, int count) {
+		int p = index < a.length - start ? start + index : index - (a.length - start);
+		int run = Math.min(count, a.length - p);
+		into.addAll(a, p, run);
+		if (run < count) into.addAll(a, 0, count - run);
+	}
+
+	/**
+	 * Finds the first index from {@code from} (inclusive) to {@code to} (exclusive) where the items stored in
+	 * {@code a}, starting at {@code start} and wrapping around its end as in {@link #itemAt}, have an item that is not
+	 * less than {@code key}, or {@code to} if there is no such index. The range must be sorted. This checks
+	 * indices from, from+1, from+3, from+7, and so on until it passes key, then binary searches the last gap, so it
+	 * takes time logarithmic in the distance to the result rather than in the size of the range.
+	 */
+	private static int gallopAtLeast(long[] a, int start, int from, int to, long key) {
+		int lo = from, hi = from, step = 1;
+		while (hi < to && itemAt(a, start, hi) < key) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (itemAt(a, start, mid) < key) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
+	/**
+	 * Like {@link #gallopAtLeast(long[], int, int, int, long)}, but finds the first index with an item greater than
+	 * {@code key}.
+	 */
+	private static int gallopAbove(long[] a, int start, int from, int to, long key) {
+		int lo = from, hi = from, step = 1;
+		while (hi < to && itemAt(a, start, hi) <= key) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (itemAt(a, start, mid) <= key) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
 	@Override
 	public void reverse() {
 		long[] items = this.items;
@@ -1118,11 +1927,17 @@ public class LongList implements PrimitiveCollection.OfLong, Ordered.OfLong, Arr
 		if (n != list.size()) {
 			return false;
 		}
-		long[] items1 = this.items, items2 = list.items;
-		for (int i = 0; i < n; i++) {
-			if (items1[i] != items2[i]) {
+		long[] a = items, b = list.items;
+		int i = storageStart(), j = list.storageStart();
+		// A deque can wrap around the end of its array, so this compares runs that don't wrap on either side.
+		while (n > 0) {
+			int run = Math.min(n, Math.min(a.length - i, b.length - j));
+			if (!ArraySupport.rangeEquals(a, i, b, j, run)) {
 				return false;
 			}
+			n -= run;
+			if ((i += run) == a.length) i = 0;
+			if ((j += run) == b.length) j = 0;
 		}
 		return true;
 	}
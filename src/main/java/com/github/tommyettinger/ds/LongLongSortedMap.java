@@ -0,0 +1,1456 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.LongAppender;
+import com.github.tommyettinger.ds.support.util.LongIterator;
+import com.github.tommyettinger.function.LongLongBiConsumer;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A sorted map where the keys and values are both unboxed longs, kept in ascending key order by a B+ tree.
+ * Each node in the tree stores its keys in a primitive {@code long[]} of up to {@link #NODE_CAPACITY} items, and all
+ * key-value pairs are stored in the {@code long[]} arrays of leaf nodes that are linked to their neighbors, so
+ * iterating in order is a linear walk over a few large arrays rather than a pointer chase per entry. There is no
+ * boxing anywhere, which makes this a good fit for time-ordered indexes, such as timestamps mapped to offsets.
+ * Lookups, insertions, and removals take {@code O(log(n))} time, but with a high branching factor the tree is very
+ * shallow. Branch nodes track the size of each of their subtrees, which allows {@link #rank(long)},
+ * {@link #keyAt(int)}, and {@link #valueAt(int)} to also run in {@code O(log(n))} time.
+ * <br>
+ * This supports the navigation operations you would expect from a sorted map, like {@link #floorKey(long, long)},
+ * {@link #ceilingKey(long, long)}, {@link #lowerKey(long, long)}, and {@link #higherKey(long, long)}, plus iteration
+ * over a range of keys with {@link #range(long, long)}. Because the keys are primitive, methods that could fail to
+ * find a key take a default key to return instead. If you have keys that are already sorted,
+ * {@link #putAllSorted(long[], long[])} can build the tree bottom-up in {@code O(n)} time when this map is empty.
+ * <br>
+ * If a key isn't present, methods that look up a value return {@link #defaultValue}, which is 0 unless changed.
+ *
+ * @see IntObjectSortedMap IntObjectSortedMap is the same data structure with int keys and object values.
+ */
+public class LongLongSortedMap implements Iterable<LongLongSortedMap.Entry> {
+	/**
+	 * The maximum number of keys in a leaf node, and the maximum number of children of a branch node.
+	 */
+	protected static final int NODE_CAPACITY = 64;
+	/**
+	 * The minimum number of keys in a leaf node, or children of a branch node, unless that node is the root.
+	 */
+	protected static final int MIN_COUNT = NODE_CAPACITY >>> 1;
+
+	/**
+	 * A node in the B+ tree; for a {@link Leaf}, {@link #count} is the number of keys, and for a {@link Branch}, it is
+	 * the number of children (so one more than the number of separator keys).
+	 */
+	protected static abstract class Node {
+		public int count;
+		public final long[] keys;
+
+		protected Node(int keyCapacity) {
+			keys = new long[keyCapacity];
+		}
+	}
+
+	protected static final class Leaf extends Node {
+		public final long[] values = new long[NODE_CAPACITY];
+		public Leaf prev, next;
+
+		public Leaf() {
+			super(NODE_CAPACITY);
+		}
+	}
+
+	/**
+	 * A branch node; {@code keys[i]} is a separator that is less than or equal to every key in {@code children[i+1]},
+	 * and greater than every key in {@code children[i]}. {@code sizes[i]} is the number of entries in the subtree
+	 * rooted at {@code children[i]}.
+	 */
+	protected static final class Branch extends Node {
+		public final Node[] children = new Node[NODE_CAPACITY];
+		public final int[] sizes = new int[NODE_CAPACITY];
+
+		public Branch() {
+			super(NODE_CAPACITY - 1);
+		}
+	}
+
+	protected int size;
+	protected Node root;
+	/**
+	 * How many levels of branches are above the leaves; 0 when the root is a leaf.
+	 */
+	protected int height;
+
+	/**
+	 * Reused during insertion and removal to remember the path from the root to a leaf.
+	 */
+	protected Branch[] path = new Branch[8];
+	/**
+	 * Reused during insertion and removal to remember which child was taken at each branch in {@link #path}.
+	 */
+	protected int[] pathIndex = new int[8];
+	/**
+	 * Set by {@link #leafAt(int)} to the index of the requested entry within the leaf it returns.
+	 */
+	protected int indexInLeaf;
+
+	public long defaultValue = 0;
+
+	/**
+	 * Creates a new, empty map.
+	 */
+	public LongLongSortedMap() {
+		root = new Leaf();
+	}
+
+	/**
+	 * Creates a new map identical to the specified map. This builds the tree bottom-up, so it takes {@code O(n)} time.
+	 *
+	 * @param map the map to copy
+	 */
+	public LongLongSortedMap(LongLongSortedMap map) {
+		this();
+		defaultValue = map.defaultValue;
+		putAll(map);
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public LongLongSortedMap(long[] keys, long[] values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a Collection of values
+	 */
+	public LongLongSortedMap(PrimitiveCollection.OfLong keys, PrimitiveCollection.OfLong values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a Collection of values
+	 */
+	public void putAll(PrimitiveCollection.OfLong keys, PrimitiveCollection.OfLong values) {
+		LongIterator ki = keys.iterator();
+		LongIterator vi = values.iterator();
+		while (ki.hasNext() && vi.hasNext()) {
+			put(ki.nextLong(), vi.nextLong());
+		}
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public void putAll(long[] keys, long[] values) {
+		putAll(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys        an array of keys
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAll(long[] keys, int keyOffset, long[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		for (int k = keyOffset, v = valueOffset, i = 0; i < length; i++, k++, v++) {
+			put(keys[k], values[v]);
+		}
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical. If this map is empty, this builds the tree
+	 * bottom-up in {@code O(n)} time, because the entries in {@code map} are already sorted.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	public void putAll(LongLongSortedMap map) {
+		if (map.size == 0) return;
+		if (size == 0) {
+			long[] ks = new long[map.size];
+			long[] vs = new long[map.size];
+			int i = 0;
+			for (Leaf leaf = map.firstLeaf(); leaf != null; leaf = leaf.next) {
+				System.arraycopy(leaf.keys, 0, ks, i, leaf.count);
+				System.arraycopy(leaf.values, 0, vs, i, leaf.count);
+				i += leaf.count;
+			}
+			build(ks, 0, vs, 0, i);
+			return;
+		}
+		for (Leaf leaf = map.firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				put(leaf.keys[i], leaf.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Like {@link #putAll(long[], long[])}, but if this map is empty and {@code keys} is sorted in strictly ascending
+	 * order, this builds the tree bottom-up in {@code O(n)} time, filling each node as full as it can. Otherwise, this
+	 * just calls {@link #put(long, long)} for each pair, which is still correct, just slower.
+	 *
+	 * @param keys   an array of keys, ideally sorted in ascending order with no duplicates
+	 * @param values an array of values
+	 */
+	public void putAllSorted(long[] keys, long[] values) {
+		putAllSorted(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Like {@link #putAll(long[], int, long[], int, int)}, but if this map is empty and the given section of
+	 * {@code keys} is sorted in strictly ascending order, this builds the tree bottom-up in {@code O(n)} time, filling
+	 * each node as full as it can. Otherwise, this just calls {@link #put(long, long)} for each pair, which is still
+	 * correct, just slower.
+	 *
+	 * @param keys        an array of keys, ideally sorted in ascending order with no duplicates
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAllSorted(long[] keys, int keyOffset, long[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		if (length <= 0) return;
+		if (size == 0) {
+			boolean sorted = true;
+			for (int i = keyOffset + 1, n = keyOffset + length; i < n; i++) {
+				if (keys[i - 1] >= keys[i]) {
+					sorted = false;
+					break;
+				}
+			}
+			if (sorted) {
+				build(keys, keyOffset, values, valueOffset, length);
+				return;
+			}
+		}
+		putAll(keys, keyOffset, values, valueOffset, length);
+	}
+
+	/**
+	 * Builds the tree bottom-up from strictly ascending keys; this map must be empty.
+	 */
+	protected void build(long[] keys, int keyOffset, long[] values, int valueOffset, int length) {
+		int nodeCount = (length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+		Node[] level = new Node[nodeCount];
+		long[] mins = new long[nodeCount];
+		int[] sizes = new int[nodeCount];
+		Leaf prev = null;
+		for (int n = 0, start = 0; n < nodeCount; n++) {
+			// spreads the entries evenly, so every leaf has at least MIN_COUNT keys if there is more than one
+			int end = (int) ((long) length * (n + 1) / nodeCount);
+			Leaf leaf = new Leaf();
+			leaf.count = end - start;
+			System.arraycopy(keys, keyOffset + start, leaf.keys, 0, leaf.count);
+			System.arraycopy(values, valueOffset + start, leaf.values, 0, leaf.count);
+			leaf.prev = prev;
+			if (prev != null) prev.next = leaf;
+			prev = leaf;
+			level[n] = leaf;
+			mins[n] = leaf.keys[0];
+			sizes[n] = leaf.count;
+			start = end;
+		}
+		int h = 0;
+		while (nodeCount > 1) {
+			int upperCount = (nodeCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+			Node[] upper = new Node[upperCount];
+			long[] upperMins = new long[upperCount];
+			int[] upperSizes = new int[upperCount];
+			for (int n = 0, start = 0; n < upperCount; n++) {
+				int end = (int) ((long) nodeCount * (n + 1) / upperCount);
+				Branch branch = new Branch();
+				branch.count = end - start;
+				System.arraycopy(level, start, branch.children, 0, branch.count);
+				System.arraycopy(sizes, start, branch.sizes, 0, branch.count);
+				System.arraycopy(mins, start + 1, branch.keys, 0, branch.count - 1);
+				int total = 0;
+				for (int i = 0; i < branch.count; i++) {
+					total += branch.sizes[i];
+				}
+				upper[n] = branch;
+				upperMins[n] = mins[start];
+				upperSizes[n] = total;
+				start = end;
+			}
+			level = upper;
+			mins = upperMins;
+			sizes = upperSizes;
+			nodeCount = upperCount;
+			h++;
+		}
+		root = level[0];
+		height = h;
+		size = length;
+		ensurePathCapacity();
+	}
+
+	private void ensurePathCapacity() {
+		if (height > path.length) {
+			Branch[] newPath = new Branch[height + 4];
+			int[] newIndex = new int[height + 4];
+			System.arraycopy(path, 0, newPath, 0, path.length);
+			System.arraycopy(pathIndex, 0, newIndex, 0, pathIndex.length);
+			path = newPath;
+			pathIndex = newIndex;
+		}
+	}
+
+	/**
+	 * Finds the first index in {@code keys}, up to {@code count}, that holds a key greater than or equal to {@code key}.
+	 */
+	protected static int lowerBound(long[] keys, int count, long key) {
+		int low = 0, high = count;
+		while (low < high) {
+			int mid = low + high >>> 1;
+			if (keys[mid] < key) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Finds the first index in {@code keys}, up to {@code count}, that holds a key greater than {@code key}.
+	 */
+	protected static int upperBound(long[] keys, int count, long key) {
+		int low = 0, high = count;
+		while (low < high) {
+			int mid = low + high >>> 1;
+			if (keys[mid] <= key) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Descends to the leaf that would contain {@code key}.
+	 */
+	protected Leaf findLeaf(long key) {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Branch b = (Branch) node;
+			node = b.children[upperBound(b.keys, b.count - 1, key)];
+		}
+		return (Leaf) node;
+	}
+
+	protected Leaf firstLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			node = ((Branch) node).children[0];
+		}
+		return (Leaf) node;
+	}
+
+	protected Leaf lastLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			node = ((Branch) node).children[node.count - 1];
+		}
+		return (Leaf) node;
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no prior value.
+	 */
+	public long put(long key, long value) {
+		return putOrDefault(key, value, defaultValue);
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or the given {@code defaultValue} if there was no prior value.
+	 */
+	public long putOrDefault(long key, long value, long defaultValue) {
+		Node node = root;
+		for (int h = 0; h < height; h++) {
+			Branch b = (Branch) node;
+			int idx = upperBound(b.keys, b.count - 1, key);
+			path[h] = b;
+			pathIndex[h] = idx;
+			node = b.children[idx];
+		}
+		Leaf leaf = (Leaf) node;
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count && leaf.keys[idx] == key) {
+			long old = leaf.values[idx];
+			leaf.values[idx] = value;
+			return old;
+		}
+		size++;
+		Node split = null;
+		long splitKey = 0;
+		if (leaf.count < NODE_CAPACITY) {
+			insertIntoLeaf(leaf, idx, key, value);
+		} else {
+			Leaf right = new Leaf();
+			System.arraycopy(leaf.keys, MIN_COUNT, right.keys, 0, NODE_CAPACITY - MIN_COUNT);
+			System.arraycopy(leaf.values, MIN_COUNT, right.values, 0, NODE_CAPACITY - MIN_COUNT);
+			right.count = NODE_CAPACITY - MIN_COUNT;
+			leaf.count = MIN_COUNT;
+			right.next = leaf.next;
+			if (right.next != null) right.next.prev = right;
+			right.prev = leaf;
+			leaf.next = right;
+			if (idx <= MIN_COUNT) insertIntoLeaf(leaf, idx, key, value);
+			else insertIntoLeaf(right, idx - MIN_COUNT, key, value);
+			split = right;
+			splitKey = right.keys[0];
+		}
+		for (int h = height - 1; h >= 0; h--) {
+			Branch b = path[h];
+			int ci = pathIndex[h];
+			if (split == null) {
+				b.sizes[ci]++;
+				continue;
+			}
+			Node left = b.children[ci];
+			int leftSize = sizeOf(left), rightSize = sizeOf(split);
+			if (b.count < NODE_CAPACITY) {
+				insertIntoBranch(b, ci, splitKey, split, leftSize, rightSize);
+				split = null;
+			} else {
+				// splits this branch first, then inserts the new child into whichever half should hold it
+				Branch right = new Branch();
+				int moved = NODE_CAPACITY - MIN_COUNT;
+				System.arraycopy(b.children, MIN_COUNT, right.children, 0, moved);
+				System.arraycopy(b.sizes, MIN_COUNT, right.sizes, 0, moved);
+				System.arraycopy(b.keys, MIN_COUNT, right.keys, 0, moved - 1);
+				long promoted = b.keys[MIN_COUNT - 1];
+				Utilities.clear(b.children, MIN_COUNT, moved);
+				right.count = moved;
+				b.count = MIN_COUNT;
+				if (ci < MIN_COUNT) insertIntoBranch(b, ci, splitKey, split, leftSize, rightSize);
+				else insertIntoBranch(right, ci - MIN_COUNT, splitKey, split, leftSize, rightSize);
+				split = right;
+				splitKey = promoted;
+			}
+		}
+		if (split != null) {
+			Branch newRoot = new Branch();
+			newRoot.children[0] = root;
+			newRoot.children[1] = split;
+			newRoot.sizes[0] = sizeOf(root);
+			newRoot.sizes[1] = sizeOf(split);
+			newRoot.keys[0] = splitKey;
+			newRoot.count = 2;
+			root = newRoot;
+			height++;
+			ensurePathCapacity();
+		}
+		return defaultValue;
+	}
+
+	private static void insertIntoLeaf(Leaf leaf, int idx, long key, long value) {
+		int move = leaf.count - idx;
+		if (move > 0) {
+			System.arraycopy(leaf.keys, idx, leaf.keys, idx + 1, move);
+			System.arraycopy(leaf.values, idx, leaf.values, idx + 1, move);
+		}
+		leaf.keys[idx] = key;
+		leaf.values[idx] = value;
+		leaf.count++;
+	}
+
+	/**
+	 * Inserts {@code child} immediately after the existing child at {@code ci}, with {@code key} separating them.
+	 */
+	private static void insertIntoBranch(Branch b, int ci, long key, Node child, int leftSize, int rightSize) {
+		int move = b.count - ci - 1;
+		if (move > 0) {
+			System.arraycopy(b.children, ci + 1, b.children, ci + 2, move);
+			System.arraycopy(b.sizes, ci + 1, b.sizes, ci + 2, move);
+			System.arraycopy(b.keys, ci, b.keys, ci + 1, move);
+		}
+		b.children[ci + 1] = child;
+		b.keys[ci] = key;
+		b.sizes[ci] = leftSize;
+		b.sizes[ci + 1] = rightSize;
+		b.count++;
+	}
+
+	private static int sizeOf(Node node) {
+		if (node instanceof Leaf) return node.count;
+		Branch b = (Branch) node;
+		int total = 0;
+		for (int i = 0; i < b.count; i++) {
+			total += b.sizes[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #defaultValue} if the key is not in the map.
+	 *
+	 * @param key any {@code long}
+	 */
+	public long get(long key) {
+		return getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns the value for the specified key, or the given default value if the key is not in the map.
+	 */
+	public long getOrDefault(long key, long defaultValue) {
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count && leaf.keys[idx] == key) return leaf.values[idx];
+		return defaultValue;
+	}
+
+	public boolean containsKey(long key) {
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		return idx < leaf.count && leaf.keys[idx] == key;
+	}
+
+	/**
+	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value,
+	 * which may be an expensive operation.
+	 */
+	public boolean containsValue(long value) {
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				if (leaf.values[i] == value) return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lowest key that maps to the specified value, or {@code defaultKey} if value is not in the map.
+	 * Note, this traverses the entire map and compares every value, which may be an expensive operation.
+	 *
+	 * @param value      the value to search for
+	 * @param defaultKey the key to return when value cannot be found
+	 * @return a key that maps to value, if present, or defaultKey if value cannot be found
+	 */
+	public long findKey(long value, long defaultKey) {
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				if (leaf.values[i] == value) return leaf.keys[i];
+			}
+		}
+		return defaultKey;
+	}
+
+	/**
+	 * Removes the given key, if present, and returns the value that was associated with it, or {@link #defaultValue}
+	 * if the key was not present.
+	 *
+	 * @param key any {@code long}
+	 * @return the value that was associated with key, or {@link #defaultValue} if it wasn't present
+	 */
+	public long remove(long key) {
+		Node node = root;
+		for (int h = 0; h < height; h++) {
+			Branch b = (Branch) node;
+			int idx = upperBound(b.keys, b.count - 1, key);
+			path[h] = b;
+			pathIndex[h] = idx;
+			node = b.children[idx];
+		}
+		Leaf leaf = (Leaf) node;
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx >= leaf.count || leaf.keys[idx] != key) return defaultValue;
+		long old = leaf.values[idx];
+		int move = leaf.count - idx - 1;
+		if (move > 0) {
+			System.arraycopy(leaf.keys, idx + 1, leaf.keys, idx, move);
+			System.arraycopy(leaf.values, idx + 1, leaf.values, idx, move);
+		}
+		--leaf.count;
+		size--;
+		for (int h = height - 1; h >= 0; h--) {
+			Branch b = path[h];
+			int ci = pathIndex[h];
+			b.sizes[ci]--;
+			if (b.children[ci].count < MIN_COUNT) {
+				rebalance(b, ci);
+			}
+		}
+		if (height > 0 && root.count == 1) {
+			root = ((Branch) root).children[0];
+			height--;
+		}
+		return old;
+	}
+
+	/**
+	 * Fixes an underfull child of {@code parent} at {@code ci}, either by merging it with a sibling or by moving
+	 * entries over from a sibling.
+	 */
+	private void rebalance(Branch parent, int ci) {
+		int a = ci > 0 ? ci - 1 : ci;
+		Node leftNode = parent.children[a], rightNode = parent.children[a + 1];
+		int total = leftNode.count + rightNode.count;
+		if (leftNode instanceof Leaf) {
+			Leaf left = (Leaf) leftNode, right = (Leaf) rightNode;
+			if (total <= NODE_CAPACITY) {
+				System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+				System.arraycopy(right.values, 0, left.values, left.count, right.count);
+				left.count = total;
+				left.next = right.next;
+				if (right.next != null) right.next.prev = left;
+				parent.sizes[a] = total;
+				removeChild(parent, a + 1);
+			} else {
+				int leftCount = total >>> 1;
+				if (left.count > leftCount) {
+					int m = left.count - leftCount;
+					System.arraycopy(right.keys, 0, right.keys, m, right.count);
+					System.arraycopy(right.values, 0, right.values, m, right.count);
+					System.arraycopy(left.keys, leftCount, right.keys, 0, m);
+					System.arraycopy(left.values, leftCount, right.values, 0, m);
+				} else {
+					int m = leftCount - left.count;
+					System.arraycopy(right.keys, 0, left.keys, left.count, m);
+					System.arraycopy(right.values, 0, left.values, left.count, m);
+					System.arraycopy(right.keys, m, right.keys, 0, right.count - m);
+					System.arraycopy(right.values, m, right.values, 0, right.count - m);
+				}
+				left.count = leftCount;
+				right.count = total - leftCount;
+				parent.keys[a] = right.keys[0];
+				parent.sizes[a] = left.count;
+				parent.sizes[a + 1] = right.count;
+			}
+		} else {
+			Branch left = (Branch) leftNode, right = (Branch) rightNode;
+			if (total <= NODE_CAPACITY) {
+				left.keys[left.count - 1] = parent.keys[a];
+				System.arraycopy(right.keys, 0, left.keys, left.count, right.count - 1);
+				System.arraycopy(right.children, 0, left.children, left.count, right.count);
+				System.arraycopy(right.sizes, 0, left.sizes, left.count, right.count);
+				left.count = total;
+				parent.sizes[a] += parent.sizes[a + 1];
+				removeChild(parent, a + 1);
+			} else {
+				int leftCount = total >>> 1;
+				if (left.count > leftCount) {
+					int m = left.count - leftCount;
+					System.arraycopy(right.children, 0, right.children, m, right.count);
+					System.arraycopy(right.sizes, 0, right.sizes, m, right.count);
+					System.arraycopy(right.keys, 0, right.keys, m, right.count - 1);
+					right.keys[m - 1] = parent.keys[a];
+					System.arraycopy(left.children, leftCount, right.children, 0, m);
+					System.arraycopy(left.sizes, leftCount, right.sizes, 0, m);
+					System.arraycopy(left.keys, leftCount, right.keys, 0, m - 1);
+					parent.keys[a] = left.keys[leftCount - 1];
+					Utilities.clear(left.children, leftCount, m);
+				} else {
+					int m = leftCount - left.count;
+					left.keys[left.count - 1] = parent.keys[a];
+					System.arraycopy(right.children, 0, left.children, left.count, m);
+					System.arraycopy(right.sizes, 0, left.sizes, left.count, m);
+					System.arraycopy(right.keys, 0, left.keys, left.count, m - 1);
+					parent.keys[a] = right.keys[m - 1];
+					System.arraycopy(right.children, m, right.children, 0, right.count - m);
+					System.arraycopy(right.sizes, m, right.sizes, 0, right.count - m);
+					System.arraycopy(right.keys, m, right.keys, 0, right.count - m - 1);
+					Utilities.clear(right.children, right.count - m, m);
+				}
+				left.count = leftCount;
+				right.count = total - leftCount;
+				parent.sizes[a] = sizeOf(left);
+				parent.sizes[a + 1] = sizeOf(right);
+			}
+		}
+	}
+
+	/**
+	 * Removes the child at {@code ci}, which must be greater than 0, along with the separator to its left.
+	 */
+	private static void removeChild(Branch b, int ci) {
+		int move = b.count - ci - 1;
+		if (move > 0) {
+			System.arraycopy(b.children, ci + 1, b.children, ci, move);
+			System.arraycopy(b.sizes, ci + 1, b.sizes, ci, move);
+			System.arraycopy(b.keys, ci, b.keys, ci - 1, move);
+		}
+		b.children[--b.count] = null;
+	}
+
+	/**
+	 * Returns true if the map has one or more items.
+	 */
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Returns the number of key-value mappings in this map. This runs in O(1) time.
+	 *
+	 * @return the number of key-value mappings in this map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the map is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the default value, a {@code long} which is returned by {@link #get(long)} if the key is not found.
+	 * If not changed, the default value is 0.
+	 *
+	 * @return the current default value
+	 */
+	public long getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Sets the default value, a {@code long} which is returned by {@link #get(long)} if the key is not found.
+	 * If not changed, the default value is 0. Note that {@link #getOrDefault(long, long)} is also available,
+	 * which allows specifying a "not-found" value per-call.
+	 *
+	 * @param defaultValue may be any long; should usually be one that doesn't occur as a typical value
+	 */
+	public void setDefaultValue(long defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Removes all entries from this map, and discards all nodes.
+	 */
+	public void clear() {
+		root = new Leaf();
+		height = 0;
+		size = 0;
+		Utilities.clear(path);
+	}
+
+	/**
+	 * Gets the lowest key in this map.
+	 *
+	 * @return the lowest key
+	 * @throws IllegalStateException if this map is empty
+	 */
+	public long firstKey() {
+		if (size == 0)
+			throw new IllegalStateException("Can't get the firstKey() of an empty LongLongSortedMap.");
+		return firstLeaf().keys[0];
+	}
+
+	/**
+	 * Gets the highest key in this map.
+	 *
+	 * @return the highest key
+	 * @throws IllegalStateException if this map is empty
+	 */
+	public long lastKey() {
+		if (size == 0)
+			throw new IllegalStateException("Can't get the lastKey() of an empty LongLongSortedMap.");
+		Leaf leaf = lastLeaf();
+		return leaf.keys[leaf.count - 1];
+	}
+
+	/**
+	 * Gets the greatest key in this map that is less than or equal to {@code key}, or {@code defaultKey} if there
+	 * is no such key.
+	 *
+	 * @param key        the key to search for
+	 * @param defaultKey returned if no key in this map is less than or equal to {@code key}
+	 * @return the greatest key less than or equal to {@code key}, or {@code defaultKey} if none is present
+	 */
+	public long floorKey(long key, long defaultKey) {
+		Leaf leaf = findLeaf(key);
+		int idx = upperBound(leaf.keys, leaf.count, key) - 1;
+		if (idx >= 0) return leaf.keys[idx];
+		leaf = leaf.prev;
+		return leaf == null ? defaultKey : leaf.keys[leaf.count - 1];
+	}
+
+	/**
+	 * Gets the greatest key in this map that is strictly less than {@code key}, or {@code defaultKey} if there
+	 * is no such key.
+	 *
+	 * @param key        the key to search for
+	 * @param defaultKey returned if no key in this map is less than {@code key}
+	 * @return the greatest key less than {@code key}, or {@code defaultKey} if none is present
+	 */
+	public long lowerKey(long key, long defaultKey) {
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key) - 1;
+		if (idx >= 0) return leaf.keys[idx];
+		leaf = leaf.prev;
+		return leaf == null ? defaultKey : leaf.keys[leaf.count - 1];
+	}
+
+	/**
+	 * Gets the least key in this map that is greater than or equal to {@code key}, or {@code defaultKey} if there
+	 * is no such key.
+	 *
+	 * @param key        the key to search for
+	 * @param defaultKey returned if no key in this map is greater than or equal to {@code key}
+	 * @return the least key greater than or equal to {@code key}, or {@code defaultKey} if none is present
+	 */
+	public long ceilingKey(long key, long defaultKey) {
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count) return leaf.keys[idx];
+		leaf = leaf.next;
+		return leaf == null ? defaultKey : leaf.keys[0];
+	}
+
+	/**
+	 * Gets the least key in this map that is strictly greater than {@code key}, or {@code defaultKey} if there
+	 * is no such key.
+	 *
+	 * @param key        the key to search for
+	 * @param defaultKey returned if no key in this map is greater than {@code key}
+	 * @return the least key greater than {@code key}, or {@code defaultKey} if none is present
+	 */
+	public long higherKey(long key, long defaultKey) {
+		Leaf leaf = findLeaf(key);
+		int idx = upperBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count) return leaf.keys[idx];
+		leaf = leaf.next;
+		return leaf == null ? defaultKey : leaf.keys[0];
+	}
+
+	/**
+	 * Gets the number of keys in this map that are strictly less than {@code key}. If {@code key} is present, this is
+	 * its index in the sorted order, and can be given to {@link #keyAt(int)} or {@link #valueAt(int)}. The number of
+	 * keys in a range from {@code a} inclusive to {@code b} exclusive is {@code rank(b) - rank(a)}.
+	 *
+	 * @param key any long; does not need to be present
+	 * @return how many keys are less than {@code key}
+	 */
+	public int rank(long key) {
+		Node node = root;
+		int r = 0;
+		for (int h = height; h > 0; h--) {
+			Branch b = (Branch) node;
+			int idx = upperBound(b.keys, b.count - 1, key);
+			for (int i = 0; i < idx; i++) {
+				r += b.sizes[i];
+			}
+			node = b.children[idx];
+		}
+		return r + lowerBound(node.keys, node.count, key);
+	}
+
+	/**
+	 * Descends to the leaf holding the entry at the given sorted {@code index}, and stores the index within that leaf
+	 * in {@link #indexInLeaf}.
+	 */
+	protected Leaf leafAt(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index can't be < 0 or >= size: " + index + " >= " + size);
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Branch b = (Branch) node;
+			int i = 0;
+			while (index >= b.sizes[i]) {
+				index -= b.sizes[i++];
+			}
+			node = b.children[i];
+		}
+		indexInLeaf = index;
+		return (Leaf) node;
+	}
+
+	/**
+	 * Gets the key at the given index in sorted order, where index 0 is the lowest key.
+	 *
+	 * @param index must be at least 0 and less than {@link #size()}
+	 * @return the key at the given sorted index
+	 */
+	public long keyAt(int index) {
+		Leaf leaf = leafAt(index);
+		return leaf.keys[indexInLeaf];
+	}
+
+	/**
+	 * Gets the value associated with the key at the given index in sorted order, where index 0 is the lowest key.
+	 *
+	 * @param index must be at least 0 and less than {@link #size()}
+	 * @return the value associated with the key at the given sorted index
+	 */
+	public long valueAt(int index) {
+		Leaf leaf = leafAt(index);
+		return leaf.values[indexInLeaf];
+	}
+
+	@Override
+	public int hashCode() {
+		long h = size;
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				long k = leaf.keys[i];
+				h += k ^ k >>> 32;
+				k = leaf.values[i];
+				h += k ^ k >>> 32;
+			}
+		}
+		return (int) (h ^ h >>> 32);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof LongLongSortedMap)) {
+			return false;
+		}
+		LongLongSortedMap other = (LongLongSortedMap) obj;
+		if (other.size != size) {
+			return false;
+		}
+		Leaf a = firstLeaf(), b = other.firstLeaf();
+		int ai = 0, bi = 0;
+		for (int n = 0; n < size; n++) {
+			while (ai >= a.count) {
+				a = a.next;
+				ai = 0;
+			}
+			while (bi >= b.count) {
+				b = b.next;
+				bi = 0;
+			}
+			if (a.keys[ai] != b.keys[bi] || a.values[ai] != b.values[bi]) return false;
+			ai++;
+			bi++;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets a String representation of this map using {@link LongAppender#DEFAULT} to get the String form of keys and
+	 * values.
+	 * Separates keys from values using "=", and separates entries using ", ". Wraps the output in curly braces.
+	 *
+	 * @return a String representation of this map
+	 */
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with the given entrySeparator and without braces.
+	 * This is different from {@link #toString()}, which includes braces by default.
+	 *
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator) {
+		return toString(entrySeparator, false);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(32), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Makes a String from the contents of this LongLongSortedMap, but uses the given {@link LongAppender}s to
+	 * convert each key and each value to a customizable representation and append them to a temporary StringBuilder.
+	 *
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a LongAppender that can take a long key, such as {@link LongAppender#DEFAULT}
+	 * @param valueAppender     a LongAppender that can take a long value, such as {@link LongAppender#DEFAULT}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator, String keyValueSeparator, boolean braces,
+						   LongAppender keyAppender, LongAppender valueAppender) {
+		return appendTo(new StringBuilder(), entrySeparator, keyValueSeparator, braces, keyAppender, valueAppender).toString();
+	}
+
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, LongAppender.DEFAULT, LongAppender.DEFAULT);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this LongLongSortedMap, but uses the given
+	 * {@link LongAppender}s to convert each key and each value to a customizable
+	 * representation and append them to {@code sb}. Entries are appended in ascending key order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a LongAppender that can take a long key, such as {@link LongAppender#DEFAULT}
+	 * @param valueAppender     a LongAppender that can take a long value, such as {@link LongAppender#DEFAULT}
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															LongAppender keyAppender, LongAppender valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+				for (int i = 0; i < leaf.count; i++) {
+					if (!first) sb.append(entrySeparator);
+					first = false;
+					keyAppender.apply(sb, leaf.keys[i]).append(keyValueSeparator);
+					valueAppender.apply(sb, leaf.values[i]);
+				}
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Performs the given action for each entry in this map, in ascending key order, until all entries
+	 * have been processed or the action throws an exception. This does not allocate.
+	 *
+	 * @param action The action to be performed for each entry
+	 */
+	public void forEach(LongLongBiConsumer action) {
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				action.accept(leaf.keys[i], leaf.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator}, which iterates in ascending key order.
+	 * You can remove an Entry from this map using this Iterator.
+	 *
+	 * @return an {@link Iterator} over key-value pairs as {@link Entry} values
+	 */
+	@Override
+	public EntryIterator iterator() {
+		return new EntryIterator(this);
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator} over only the entries with keys greater than or equal to
+	 * {@code fromKey} and less than {@code toKey}, in ascending key order. This takes {@code O(log(n))} time to
+	 * find the start of the range, and then each step is constant-time.
+	 *
+	 * @param fromKey the lowest key to iterate over, inclusive
+	 * @param toKey   the key to stop iterating at, exclusive
+	 * @return an {@link Iterator} over key-value pairs as {@link Entry} values, in the given range
+	 */
+	public EntryIterator range(long fromKey, long toKey) {
+		return new EntryIterator(this, fromKey, toKey);
+	}
+
+	/**
+	 * Creates a new {@link KeyIterator} over only the keys greater than or equal to {@code fromKey} and less than
+	 * {@code toKey}, in ascending order.
+	 *
+	 * @param fromKey the lowest key to iterate over, inclusive
+	 * @param toKey   the key to stop iterating at, exclusive
+	 * @return an iterator over the keys in the given range
+	 */
+	public KeyIterator keyRange(long fromKey, long toKey) {
+		return new KeyIterator(this, fromKey, toKey);
+	}
+
+	/**
+	 * Creates a new {@link ValueIterator} over only the values with keys greater than or equal to {@code fromKey}
+	 * and less than {@code toKey}, in ascending key order.
+	 *
+	 * @param fromKey the lowest key to iterate over, inclusive
+	 * @param toKey   the key to stop iterating at, exclusive
+	 * @return an iterator over the values in the given range
+	 */
+	public ValueIterator valueRange(long fromKey, long toKey) {
+		return new ValueIterator(this, fromKey, toKey);
+	}
+
+	/**
+	 * Returns a {@link PrimitiveSet.SetOfLong} view of the keys contained in this map, in ascending order.
+	 * The set is backed by the map, so changes to the map are reflected in the set. It supports removal only through
+	 * its iterator.
+	 *
+	 * @return a set view of the keys contained in this map
+	 */
+	public Keys keySet() {
+		return new Keys(this);
+	}
+
+	/**
+	 * Returns a new iterator over the values in this map, in the ascending order of their keys.
+	 *
+	 * @return a new {@link ValueIterator}
+	 */
+	public ValueIterator values() {
+		return new ValueIterator(this);
+	}
+
+	public static class Entry {
+		public long key;
+		public long value;
+
+		public Entry() {
+		}
+
+		public Entry(long key, long value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		public Entry(Entry entry) {
+			this.key = entry.key;
+			this.value = entry.value;
+		}
+
+		public long getKey() {
+			return key;
+		}
+
+		public long getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Entry entry = (Entry) o;
+			return key == entry.key && value == entry.value;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (key ^ key >>> 32 ^ value ^ value >>> 32);
+		}
+	}
+
+	/**
+	 * Walks the linked leaves of an LongLongSortedMap, optionally stopping before an exclusive upper bound.
+	 * Removing an entry through this iterator finds its place in the tree again afterward, so it stays valid even if
+	 * nodes were merged.
+	 *
+	 */
+	public static abstract class MapIterator {
+		public boolean hasNext;
+
+		protected final LongLongSortedMap map;
+		protected final boolean bounded;
+		protected final long fromKey, toKey;
+		protected Leaf leaf;
+		protected int index;
+		protected long currentKey;
+		protected boolean valid;
+
+		public MapIterator(LongLongSortedMap map) {
+			this.map = map;
+			bounded = false;
+			fromKey = 0;
+			toKey = 0;
+			reset();
+		}
+
+		public MapIterator(LongLongSortedMap map, long fromKey, long toKey) {
+			this.map = map;
+			bounded = true;
+			this.fromKey = fromKey;
+			this.toKey = toKey;
+			reset();
+		}
+
+		public void reset() {
+			valid = false;
+			if (bounded) {
+				seek(fromKey);
+			} else {
+				leaf = map.firstLeaf();
+				index = 0;
+				findNextIndex();
+			}
+		}
+
+		protected void seek(long key) {
+			leaf = map.findLeaf(key);
+			index = lowerBound(leaf.keys, leaf.count, key);
+			findNextIndex();
+		}
+
+		protected void findNextIndex() {
+			while (leaf != null && index >= leaf.count) {
+				leaf = leaf.next;
+				index = 0;
+			}
+			hasNext = leaf != null && (!bounded || leaf.keys[index] < toKey);
+		}
+
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		/**
+		 * Moves past the current position and records the key that was there in {@link #currentKey}; returns the
+		 * leaf that held that key, so subclasses can read the value.
+		 */
+		protected Leaf advance() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			Leaf current = leaf;
+			currentKey = leaf.keys[index++];
+			valid = true;
+			findNextIndex();
+			return current;
+		}
+
+		public void remove() {
+			if (!valid) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			valid = false;
+			map.remove(currentKey);
+			seek(currentKey);
+		}
+	}
+
+	public static class KeyIterator extends MapIterator implements LongIterator {
+		public KeyIterator(LongLongSortedMap map) {
+			super(map);
+		}
+
+		public KeyIterator(LongLongSortedMap map, long fromKey, long toKey) {
+			super(map, fromKey, toKey);
+		}
+
+		@Override
+		public long nextLong() {
+			advance();
+			return currentKey;
+		}
+
+		/**
+		 * Returns a new LongList containing the remaining keys.
+		 */
+		public LongList toList() {
+			LongList list = new LongList(map.size);
+			while (hasNext) {
+				list.add(nextLong());
+			}
+			return list;
+		}
+	}
+
+	public static class ValueIterator extends MapIterator implements LongIterator {
+		public ValueIterator(LongLongSortedMap map) {
+			super(map);
+		}
+
+		public ValueIterator(LongLongSortedMap map, long fromKey, long toKey) {
+			super(map, fromKey, toKey);
+		}
+
+		@Override
+		public long nextLong() {
+			int i = index;
+			return advance().values[i];
+		}
+
+		/**
+		 * Returns a new LongList containing the remaining values.
+		 */
+		public LongList toList() {
+			LongList list = new LongList(map.size);
+			while (hasNext) {
+				list.add(nextLong());
+			}
+			return list;
+		}
+	}
+
+	public static class EntryIterator extends MapIterator implements Iterable<Entry>, Iterator<Entry> {
+		public EntryIterator(LongLongSortedMap map) {
+			super(map);
+		}
+
+		public EntryIterator(LongLongSortedMap map, long fromKey, long toKey) {
+			super(map, fromKey, toKey);
+		}
+
+		@Override
+		public Iterator<Entry> iterator() {
+			return this;
+		}
+
+		@Override
+		public Entry next() {
+			int i = index;
+			long value = advance().values[i];
+			return new Entry(currentKey, value);
+		}
+	}
+
+	public static class Keys implements PrimitiveSet.SetOfLong {
+		protected LongLongSortedMap map;
+
+		public Keys(LongLongSortedMap map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean add(long item) {
+			throw new UnsupportedOperationException("LongLongSortedMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean remove(long item) {
+			throw new UnsupportedOperationException("LongLongSortedMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean contains(long item) {
+			return map.containsKey(item);
+		}
+
+		@Override
+		public KeyIterator iterator() {
+			return new KeyIterator(map);
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("LongLongSortedMap.Keys is read-only");
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+
+		@Override
+		public int hashCode() {
+			int hc = 1;
+			for (Leaf leaf = map.firstLeaf(); leaf != null; leaf = leaf.next) {
+				for (int i = 0; i < leaf.count; i++) {
+					hc += leaf.keys[i];
+				}
+			}
+			return hc;
+		}
+
+		@SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+		@Override
+		public boolean equals(Object other) {
+			return SetOfLong.super.equalContents(other);
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+
+	/**
+	 * Constructs an empty map given the types as generic type arguments.
+	 *
+	 * @return a new map containing nothing
+	 */
+	public static LongLongSortedMap with() {
+		return new LongLongSortedMap();
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static LongLongSortedMap with(long key0, long value0) {
+		LongLongSortedMap map = new LongLongSortedMap();
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   an long key
+	 * @param value0 a long value
+	 * @param key1   an long key
+	 * @param value1 a long value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static LongLongSortedMap with(long key0, long value0, long key1, long value1) {
+		LongLongSortedMap map = new LongLongSortedMap();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   an long key
+	 * @param value0 a long value
+	 * @param key1   an long key
+	 * @param value1 a long value
+	 * @param key2   an long key
+	 * @param value2 a long value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static LongLongSortedMap with(long key0, long value0, long key1, long value1, long key2, long value2) {
+		LongLongSortedMap map = new LongLongSortedMap();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+
+/**
+ * A Bloom filter for Object items, which can say that an item is definitely not present, or that it might be. This uses
+ * far less memory than an {@link ObjectSet} holding the same items, and never has to look at the items themselves, but
+ * it can't list or remove its items, and it will sometimes report an item that was never added. See {@link BloomFilter}
+ * for how the size and number of hashes are chosen, and for combining and storing filters.
+ * <br>
+ * {@link #mightContainAll(Object[], boolean[])} checks many items at once, which is convenient for filtering a batch
+ * before looking up only the items that might be present.
+ *
+ * @param <T> the type of items; should have a good {@link Object#hashCode()}
+ * @see ObjectCuckooFilter ObjectCuckooFilter can also remove items.
+ */
+public class ObjectBloomFilter<T> extends BloomFilter {
+	/**
+	 * Creates a filter sized to hold {@code expectedItems} items with a false positive rate of about
+	 * {@code falsePositiveRate}, using a seed of 0.
+	 *
+	 * @param expectedItems     how many items are expected to be added; at least 1 is used
+	 * @param falsePositiveRate the target false positive rate, between 0 and 1, exclusive, such as 0.01
+	 */
+	public ObjectBloomFilter(int expectedItems, double falsePositiveRate) {
+		super(expectedItems, falsePositiveRate, 0);
+	}
+
+	/**
+	 * Creates a filter sized to hold {@code expectedItems} items with a false positive rate of about
+	 * {@code falsePositiveRate}.
+	 *
+	 * @param expectedItems     how many items are expected to be added; at least 1 is used
+	 * @param falsePositiveRate the target false positive rate, between 0 and 1, exclusive, such as 0.01
+	 * @param seed              any int; chooses the multipliers used to hash items
+	 */
+	public ObjectBloomFilter(int expectedItems, double falsePositiveRate, int seed) {
+		super(expectedItems, falsePositiveRate, seed);
+	}
+
+	/**
+	 * Restores a filter from the output of {@link #toLongArray()}.
+	 *
+	 * @param data a long array produced by {@link #toLongArray()} on an ObjectBloomFilter
+	 */
+	public ObjectBloomFilter(long[] data) {
+		super(data);
+	}
+
+	/**
+	 * Creates a copy of {@code other}, with the same settings and the same items.
+	 *
+	 * @param other another ObjectBloomFilter to copy
+	 */
+	public ObjectBloomFilter(ObjectBloomFilter<T> other) {
+		super(other);
+	}
+
+	/**
+	 * Mixes {@code item} with the seed into two hashes, packed with the first in the upper 32 bits and the second in
+	 * the lower 32 bits.
+	 */
+	private long hash(Object item) {
+		int h1 = BitConversion.imul(item.hashCode() ^ multiplierA, 0xFAB9E45B);
+		h1 ^= h1 >>> 15;
+		int h2 = BitConversion.imul(h1 ^ seed, multiplierB);
+		h2 ^= h2 >>> 16;
+		return (long) h1 << 32 | h2 & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Adds {@code item} to this filter.
+	 *
+	 * @param item the item to add; must not be null
+	 * @return true if {@code item} was definitely not present before, or false if it might have been
+	 */
+	public boolean add(T item) {
+		final long h = hash(item);
+		return set((int) (h >>> 32), (int) h);
+	}
+
+	/**
+	 * Checks if {@code item} might have been added. If this returns false, {@code item} was definitely never added;
+	 * if this returns true, it probably was, with a chance of a false positive that depends on how full this is.
+	 *
+	 * @param item the item to check; must not be null
+	 * @return false if {@code item} is definitely not present, or true if it might be
+	 */
+	public boolean mightContain(T item) {
+		final long h = hash(item);
+		return test((int) (h >>> 32), (int) h);
+	}
+
+	/**
+	 * Adds every item in {@code items}.
+	 *
+	 * @param items the items to add; none can be null
+	 */
+	public void addAll(T[] items) {
+		addAll(items, 0, items.length);
+	}
+
+	/**
+	 * Adds {@code length} items from {@code items}, starting at {@code offset}.
+	 *
+	 * @param items  the items to add; none can be null
+	 * @param offset the first index in {@code items} to add
+	 * @param length how many items to add
+	 */
+	public void addAll(T[] items, int offset, int length) {
+		for (int i = offset, n = offset + length; i < n; i++) {
+			add(items[i]);
+		}
+	}
+
+	/**
+	 * Adds every item in {@code items}.
+	 *
+	 * @param items the items to add; none can be null
+	 */
+	public void addAll(Iterable<? extends T> items) {
+		for (T item : items) {
+			add(item);
+		}
+	}
+
+	/**
+	 * Checks every item in {@code items}, and sets the same index in {@code results} to the result of
+	 * {@link #mightContain(Object)} for that item.
+	 *
+	 * @param items   the items to check; none can be null
+	 * @param results must be at least as long as {@code items}; will be modified
+	 * @return how many items might be present
+	 */
+	public int mightContainAll(T[] items, boolean[] results) {
+		return mightContainAll(items, 0, items.length, results);
+	}
+
+	/**
+	 * Checks {@code length} items from {@code items}, starting at {@code offset}, and sets {@code results} at the
+	 * index {@code i - offset} to the result of {@link #mightContain(Object)} for the item at index {@code i}.
+	 *
+	 * @param items   the items to check; none can be null
+	 * @param offset  the first index in {@code items} to check
+	 * @param length  how many items to check
+	 * @param results must have room for at least {@code length} items; will be modified
+	 * @return how many items might be present
+	 */
+	public int mightContainAll(T[] items, int offset, int length, boolean[] results) {
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			if (results[i] = mightContain(items[offset + i])) count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Adds every item that might be in {@code other} to this filter, so this then might contain every item that
+	 * either filter might contain.
+	 *
+	 * @param other another ObjectBloomFilter made with the same expected size, false positive rate, and seed
+	 * @throws IllegalArgumentException if {@code other} has a different size, hash count, or seed
+	 */
+	public void union(ObjectBloomFilter<?> other) {
+		unionWith(other);
+	}
+}
@@ -0,0 +1,602 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.function.IntObjBiConsumer;
+import com.github.tommyettinger.function.ObjIntBiConsumer;
+
+import java.util.Iterator;
+
+/**
+ * A bidirectional map from non-null K keys to int values, where each value can belong to only one key, so values can
+ * be used to look up their keys in constant time. This keeps two coordinated maps, an {@link ObjectIntMap} from keys to
+ * values and an {@link IntObjectMap} from values to keys, and every change goes through both, so they can't get out of
+ * sync. Calling {@link #inverse()} returns an {@link Inverse} view from int values to K keys without copying
+ * anything; changes to the inverse are visible in this map and vice versa.
+ * <br>
+ * Unlike {@link NumberedSet}, which also allows lookups in both directions, the values here don't need to be dense or
+ * in insertion order, so this is suitable for interning external IDs (such as Strings) to internal int IDs and back.
+ * <br>
+ * If a put would give a value to a second key, what happens is controlled by the {@link CollisionPolicy}, which
+ * defaults to {@link CollisionPolicy#THROW}. {@link #forcePut(Object, int)} always replaces the older key, regardless
+ * of policy. The same policy applies to puts through the inverse, where it controls what happens when a key would be
+ * given a second value.
+ *
+ * @param <K> the type of keys; keys must not be null
+ */
+public class ObjectIntBiMap<K> implements Iterable<ObjectIntMap.Entry<K>> {
+	/**
+	 * Maps keys to values.
+	 */
+	protected ObjectIntMap<K> forward;
+	/**
+	 * Maps values to keys. Because keys are never null, a null result means a value is absent.
+	 */
+	protected IntObjectMap<K> backward;
+	/**
+	 * The view from values to keys; created lazily.
+	 */
+	protected Inverse<K> inverse;
+	protected CollisionPolicy policy = CollisionPolicy.THROW;
+
+	/**
+	 * Creates a new bimap with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of
+	 * {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public ObjectIntBiMap() {
+		this(Utilities.getDefaultTableCapacity(), Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new bimap with the given initial capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity how many items this should hold before resizing
+	 */
+	public ObjectIntBiMap(int initialCapacity) {
+		this(initialCapacity, Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new bimap with the given initial capacity and load factor.
+	 *
+	 * @param initialCapacity how many items this should hold before resizing
+	 * @param loadFactor      what fraction of the capacity can be filled before resizing
+	 */
+	public ObjectIntBiMap(int initialCapacity, float loadFactor) {
+		forward = new ObjectIntMap<>(initialCapacity, loadFactor);
+		backward = new IntObjectMap<>(initialCapacity, loadFactor);
+	}
+
+	/**
+	 * Creates a new bimap identical to the specified bimap, including its policy and default values.
+	 *
+	 * @param other another ObjectIntBiMap to copy
+	 */
+	public ObjectIntBiMap(ObjectIntBiMap<? extends K> other) {
+		forward = new ObjectIntMap<>(other.forward);
+		backward = new IntObjectMap<>(other.backward.size());
+		backward.defaultValue = other.backward.defaultValue;
+		for (IntObjectMap.Entry<? extends K> e : other.backward) {
+			backward.put(e.key, e.value);
+		}
+		policy = other.policy;
+	}
+
+	/**
+	 * Given two arrays, one of keys and one of values, this puts each key-value pair into a new bimap. If the arrays
+	 * are different sizes, this only uses the length of the shorter one. If a value repeats, this throws an
+	 * IllegalArgumentException, as per {@link CollisionPolicy#THROW}.
+	 *
+	 * @param keys   an array of non-null keys
+	 * @param values an array of values, which must not contain duplicates
+	 */
+	public ObjectIntBiMap(K[] keys, int[] values) {
+		this(Math.min(keys.length, values.length));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Gets a view of this bimap from values to keys. This doesn't copy anything, and {@link Inverse#inverse()}
+	 * returns this bimap.
+	 *
+	 * @return a view of this bimap from values to keys
+	 */
+	public Inverse<K> inverse() {
+		if (inverse == null) inverse = new Inverse<>(this);
+		return inverse;
+	}
+
+	public CollisionPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Sets the {@link CollisionPolicy} used when a put would give a value to a second key, or, through the
+	 * {@link #inverse()}, a key to a second value.
+	 *
+	 * @param policy a non-null CollisionPolicy
+	 */
+	public void setPolicy(CollisionPolicy policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Gets the value returned by {@link #get(Object)} when a key is not present.
+	 *
+	 * @return the default value
+	 */
+	public int getDefaultValue() {
+		return forward.defaultValue;
+	}
+
+	public void setDefaultValue(int defaultValue) {
+		forward.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Gets the key returned by {@link #getKey(int)} when a value is not present. This is normally null.
+	 *
+	 * @return the default key
+	 */
+	public K getDefaultKey() {
+		return backward.defaultValue;
+	}
+
+	public void setDefaultKey(K defaultKey) {
+		backward.defaultValue = defaultKey;
+	}
+
+	/**
+	 * Associates value with key, and key with value. If key already had a value, that older value is no longer
+	 * associated with anything. If value is already associated with a different key, this acts according to the
+	 * {@link #getPolicy() policy}.
+	 *
+	 * @param key   a non-null K key
+	 * @param value any int value
+	 * @return the previous value for key, or {@link #getDefaultValue()} if key was not present
+	 * @throws IllegalArgumentException if value belongs to another key and the policy is {@link CollisionPolicy#THROW}
+	 */
+	public int put(K key, int value) {
+		if (key == null) throw new NullPointerException("ObjectIntBiMap does not allow null keys.");
+		K other = backward.getOrDefault(value, null);
+		if (other != null) {
+			if (forward.equate(other, key)) return value;
+			switch (policy) {
+				case THROW:
+					throw new IllegalArgumentException("The value " + value + " is already associated with the key " + other + ".");
+				case IGNORE:
+					return forward.get(key);
+				default:
+					forward.remove(other);
+			}
+		}
+		return putUnchecked(key, value);
+	}
+
+	/**
+	 * Associates value with key, and key with value, removing any older key that had value, regardless of the
+	 * {@link #getPolicy() policy}.
+	 *
+	 * @param key   a non-null K key
+	 * @param value any int value
+	 * @return the previous value for key, or {@link #getDefaultValue()} if key was not present
+	 */
+	public int forcePut(K key, int value) {
+		if (key == null) throw new NullPointerException("ObjectIntBiMap does not allow null keys.");
+		K other = backward.getOrDefault(value, null);
+		if (other != null) {
+			if (forward.equate(other, key)) return value;
+			forward.remove(other);
+		}
+		return putUnchecked(key, value);
+	}
+
+	/**
+	 * Puts into both maps, assuming value doesn't belong to another key.
+	 */
+	protected int putUnchecked(K key, int value) {
+		int oldSize = forward.size();
+		int old = forward.put(key, value);
+		if (forward.size() == oldSize) backward.remove(old);
+		backward.put(value, key);
+		return old;
+	}
+
+	/**
+	 * Gets the value for key if it is present; otherwise, puts key with the given value and returns that value. If key
+	 * is absent and value already belongs to a different key, this acts according to the {@link #getPolicy() policy}.
+	 * This is useful for interning IDs, where value is the next unused ID.
+	 *
+	 * @param key   a non-null K key
+	 * @param value the int value to use if key is not present
+	 * @return the value for key after this call
+	 */
+	public int putIfAbsent(K key, int value) {
+		if (forward.containsKey(key)) return forward.get(key);
+		put(key, value);
+		return forward.get(key);
+	}
+
+	/**
+	 * Puts each key-value pair from the given arrays, using {@link #put(Object, int)}. If the arrays are different
+	 * sizes, this only uses the length of the shorter one.
+	 *
+	 * @param keys   an array of non-null keys
+	 * @param values an array of values
+	 */
+	public void putAll(K[] keys, int[] values) {
+		int length = Math.min(keys.length, values.length);
+		for (int i = 0; i < length; i++) {
+			put(keys[i], values[i]);
+		}
+	}
+
+	/**
+	 * Puts every entry of other into this, using {@link #put(Object, int)}.
+	 *
+	 * @param other another ObjectIntBiMap
+	 */
+	public void putAll(ObjectIntBiMap<? extends K> other) {
+		for (ObjectIntMap.Entry<? extends K> e : other.forward) {
+			put(e.key, e.value);
+		}
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #getDefaultValue()} if the key is not present.
+	 *
+	 * @param key a K key
+	 * @return the value for key, or the default value
+	 */
+	public int get(Object key) {
+		return forward.get(key);
+	}
+
+	public int getOrDefault(Object key, int defaultValue) {
+		return forward.getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns the key associated with the specified value, or {@link #getDefaultKey()} if the value is not present.
+	 * This runs in constant time.
+	 *
+	 * @param value any int value
+	 * @return the key for value, or the default key
+	 */
+	public K getKey(int value) {
+		return backward.get(value);
+	}
+
+	public K getKeyOrDefault(int value, K defaultKey) {
+		return backward.getOrDefault(value, defaultKey);
+	}
+
+	public boolean containsKey(Object key) {
+		return forward.containsKey(key);
+	}
+
+	/**
+	 * Returns true if the specified value is associated with any key. Unlike in {@link ObjectIntMap}, this runs in
+	 * constant time.
+	 *
+	 * @param value any int value
+	 * @return true if value is present
+	 */
+	public boolean containsValue(int value) {
+		return backward.containsKey(value);
+	}
+
+	/**
+	 * Removes the key and its value.
+	 *
+	 * @param key the key to remove
+	 * @return the value that was associated with key, or {@link #getDefaultValue()} if key was not present
+	 */
+	public int remove(Object key) {
+		if (!forward.containsKey(key)) return forward.defaultValue;
+		int value = forward.remove(key);
+		backward.remove(value);
+		return value;
+	}
+
+	/**
+	 * Removes the value and its key.
+	 *
+	 * @param value the value to remove
+	 * @return the key that was associated with value, or {@link #getDefaultKey()} if value was not present
+	 */
+	public K removeValue(int value) {
+		K key = backward.getOrDefault(value, null);
+		if (key == null) return backward.defaultValue;
+		backward.remove(value);
+		forward.remove(key);
+		return key;
+	}
+
+	public int size() {
+		return forward.size();
+	}
+
+	public boolean isEmpty() {
+		return forward.isEmpty();
+	}
+
+	public boolean notEmpty() {
+		return forward.notEmpty();
+	}
+
+	public void clear() {
+		forward.clear();
+		backward.clear();
+	}
+
+	/**
+	 * Reduces the size of both internal maps to the smallest size that could hold all items.
+	 *
+	 * @param maximumCapacity the maximum capacity to shrink to
+	 */
+	public void shrink(int maximumCapacity) {
+		forward.shrink(maximumCapacity);
+		backward.shrink(maximumCapacity);
+	}
+
+	public void ensureCapacity(int additionalCapacity) {
+		forward.ensureCapacity(additionalCapacity);
+		backward.ensureCapacity(additionalCapacity);
+	}
+
+	/**
+	 * Calls {@code action} on each key and its value, in no particular order.
+	 *
+	 * @param action a function that will be given each key and value
+	 */
+	public void forEach(ObjIntBiConsumer<? super K> action) {
+		for (ObjectIntMap.Entry<K> e : forward) {
+			action.accept(e.key, e.value);
+		}
+	}
+
+	/**
+	 * Returns an iterator over the entries of this bimap. The entry it returns is reused on each call to next(), and
+	 * must not be modified. Removing through the iterator keeps both directions in sync.
+	 *
+	 * @return an iterator over the entries of this bimap
+	 */
+	@Override
+	public EntryIterator<K> iterator() {
+		return new EntryIterator<>(this);
+	}
+
+	@Override
+	public int hashCode() {
+		return forward.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof ObjectIntBiMap)) return false;
+		return forward.equals(((ObjectIntBiMap<?>) o).forward);
+	}
+
+	@Override
+	public String toString() {
+		return forward.toString();
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return forward.toString(entrySeparator, braces);
+	}
+
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return forward.appendTo(sb, entrySeparator, braces);
+	}
+
+	public static class EntryIterator<K> implements Iterable<ObjectIntMap.Entry<K>>, Iterator<ObjectIntMap.Entry<K>> {
+		protected ObjectIntBiMap<K> map;
+		protected ObjectIntMap.EntryIterator<K> iter;
+		protected int lastValue;
+
+		public EntryIterator(ObjectIntBiMap<K> map) {
+			this.map = map;
+			iter = new ObjectIntMap.EntryIterator<>(map.forward);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iter.hasNext();
+		}
+
+		@Override
+		public ObjectIntMap.Entry<K> next() {
+			ObjectIntMap.Entry<K> e = iter.next();
+			lastValue = e.value;
+			return e;
+		}
+
+		@Override
+		public void remove() {
+			iter.remove();
+			map.backward.remove(lastValue);
+		}
+
+		public void reset() {
+			iter.reset();
+		}
+
+		@Override
+		public EntryIterator<K> iterator() {
+			return this;
+		}
+	}
+
+	/**
+	 * A view of an {@link ObjectIntBiMap} from int values to K keys. This shares all storage with the ObjectIntBiMap
+	 * it was obtained from, and uses the same {@link CollisionPolicy}; here, a collision happens when a put would give
+	 * a key to a second value.
+	 *
+	 * @param <K> the type of the original bimap's keys, which are this view's values
+	 */
+	public static class Inverse<K> implements Iterable<IntObjectMap.Entry<K>> {
+		protected ObjectIntBiMap<K> map;
+
+		public Inverse(ObjectIntBiMap<K> map) {
+			this.map = map;
+		}
+
+		/**
+		 * Gets the ObjectIntBiMap this is a view of.
+		 *
+		 * @return the original bimap
+		 */
+		public ObjectIntBiMap<K> inverse() {
+			return map;
+		}
+
+		/**
+		 * Returns the K associated with the given int, or the original bimap's {@link #getDefaultKey() default key}.
+		 *
+		 * @param key an int, which is a value in the original bimap
+		 * @return the associated K, or the default key
+		 */
+		public K get(int key) {
+			return map.getKey(key);
+		}
+
+		public K getOrDefault(int key, K defaultValue) {
+			return map.getKeyOrDefault(key, defaultValue);
+		}
+
+		public boolean containsKey(int key) {
+			return map.containsValue(key);
+		}
+
+		public boolean containsValue(Object value) {
+			return map.containsKey(value);
+		}
+
+		/**
+		 * Associates key with value in both directions. If value already belongs to a different int, this acts
+		 * according to the original bimap's {@link ObjectIntBiMap#getPolicy() policy}.
+		 *
+		 * @param key   an int, which is a value in the original bimap
+		 * @param value a non-null K, which is a key in the original bimap
+		 * @return the previous K for key, or the default key if key was not present
+		 * @throws IllegalArgumentException if value belongs to another int and the policy is {@link CollisionPolicy#THROW}
+		 */
+		public K put(int key, K value) {
+			if (value == null) throw new NullPointerException("ObjectIntBiMap does not allow null keys.");
+			if (map.forward.containsKey(value)) {
+				int other = map.forward.get(value);
+				if (other == key) return value;
+				switch (map.policy) {
+					case THROW:
+						throw new IllegalArgumentException("The value " + value + " is already associated with the key " + other + ".");
+					case IGNORE:
+						return map.backward.get(key);
+					default:
+						map.backward.remove(other);
+				}
+			}
+			int oldSize = map.backward.size();
+			K old = map.backward.put(key, value);
+			if (map.backward.size() == oldSize) map.forward.remove(old);
+			map.forward.put(value, key);
+			return old;
+		}
+
+		public K remove(int key) {
+			return map.removeValue(key);
+		}
+
+		public int size() {
+			return map.size();
+		}
+
+		public boolean isEmpty() {
+			return map.isEmpty();
+		}
+
+		public boolean notEmpty() {
+			return map.notEmpty();
+		}
+
+		public void clear() {
+			map.clear();
+		}
+
+		/**
+		 * Calls {@code action} on each int and its associated K, in no particular order.
+		 *
+		 * @param action a function that will be given each int and K
+		 */
+		public void forEach(IntObjBiConsumer<? super K> action) {
+			for (IntObjectMap.Entry<K> e : map.backward) {
+				action.accept(e.key, e.value);
+			}
+		}
+
+		/**
+		 * Returns an iterator over the entries of this view. The entry it returns is reused on each call to next(),
+		 * and must not be modified. Removing through the iterator keeps both directions in sync.
+		 *
+		 * @return an iterator over the entries of this view
+		 */
+		@Override
+		public Iterator<IntObjectMap.Entry<K>> iterator() {
+			final IntObjectMap.EntryIterator<K> iter = new IntObjectMap.EntryIterator<>(map.backward);
+			return new Iterator<IntObjectMap.Entry<K>>() {
+				K last;
+
+				@Override
+				public boolean hasNext() {
+					return iter.hasNext();
+				}
+
+				@Override
+				public IntObjectMap.Entry<K> next() {
+					IntObjectMap.Entry<K> e = iter.next();
+					last = e.value;
+					return e;
+				}
+
+				@Override
+				public void remove() {
+					iter.remove();
+					map.forward.remove(last);
+				}
+			};
+		}
+
+		@Override
+		public int hashCode() {
+			return map.backward.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Inverse)) return false;
+			return map.backward.equals(((Inverse<?>) o).map.backward);
+		}
+
+		@Override
+		public String toString() {
+			return map.backward.toString();
+		}
+	}
+}
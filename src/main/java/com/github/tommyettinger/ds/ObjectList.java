@@ -1208,6 +1208,212 @@ public class ObjectList<T> extends ArrayList<T> implements Ordered<T>, EnhancedC
 		ObjectComparators.sort(this, from, to, c);
 	}
 
+	/**
+	 * Searches this list for {@code value} using binary search. This list must be sorted in ascending order according
+	 * to {@code c}, such as by {@link #sort(Comparator)}, or the results are undefined. If this contains multiple
+	 * items equal to value, there is no guarantee which one will be found.
+	 *
+	 * @param value the item to search for
+	 * @param c     a Comparator that can compare T items, or null to use the natural order of Comparable T items
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(T value, Comparator<? super T> c) {
+		return binarySearch(0, size(), value, c);
+	}
+
+	/**
+	 * Searches the range from {@code from} (inclusive) to {@code to} (exclusive) of this list for {@code value},
+	 * using binary search. That range must be sorted in ascending order according to {@code c}, or the results are
+	 * undefined.
+	 *
+	 * @param from  the first index to search, inclusive
+	 * @param to    the last index to search, exclusive
+	 * @param value the item to search for
+	 * @param c     a Comparator that can compare T items, or null to use the natural order of Comparable T items
+	 * @return the index of value, if it is present; otherwise, {@code (-(insertion point) - 1)}, where the insertion point is the index where value would be inserted to keep this sorted
+	 */
+	public int binarySearch(int from, int to, T value, Comparator<? super T> c) {
+		if (from < 0 || to > size() || from > to)
+			throw new IndexOutOfBoundsException("Invalid range: from=" + from + ", to=" + to + ", size=" + size());
+		Comparator<? super T> cmp = orNatural(c);
+		int lo = from, hi = to - 1;
+		while (lo <= hi) {
+			int mid = lo + hi >>> 1;
+			int r = cmp.compare(get(mid), value);
+			if (r < 0) lo = mid + 1;
+			else if (r > 0) hi = mid - 1;
+			else return mid;
+		}
+		return -(lo + 1);
+	}
+
+	/**
+	 * Merges this list with {@code other}, writing every item from both into {@code into} in ascending order
+	 * according to {@code c}. Both this and other must already be sorted by {@code c}. Duplicates are kept, and
+	 * items from this list come before equal items from other. Runs of items from one list that fit between two
+	 * items of the other list are found with galloping (exponential) search, so merging a short list into a long one
+	 * needs far fewer comparisons than a linear merge.
+	 *
+	 * @param other another ObjectList sorted by {@code c}
+	 * @param into  an ObjectList that will be cleared and then receive the merged items; must not be this or other
+	 * @param c     a Comparator that can compare T items, or null to use the natural order of Comparable T items
+	 * @return {@code into}, for chaining
+	 */
+	public ObjectList<T> mergeSorted(ObjectList<? extends T> other, ObjectList<T> into, Comparator<? super T> c) {
+		checkSortedOutput(other, into);
+		Comparator<? super T> cmp = orNatural(c);
+		int i = 0, na = size(), j = 0, nb = other.size();
+		into.clear();
+		into.ensureCapacity(na + nb);
+		while (i < na && j < nb) {
+			if (cmp.compare(get(i), other.get(j)) <= 0) {
+				int k = gallop(this, i + 1, na, other.get(j), cmp, true);
+				while (i < k) into.add(get(i++));
+			} else {
+				int k = gallop(other, j + 1, nb, get(i), cmp, false);
+				while (j < k) into.add(other.get(j++));
+			}
+		}
+		while (i < na) into.add(get(i++));
+		while (j < nb) into.add(other.get(j++));
+		return into;
+	}
+
+	/**
+	 * Writes the items present in both this list and {@code other} into {@code into}, in ascending order according
+	 * to {@code c}, taking each item from this list. Both this and other must already be sorted by {@code c}. If an
+	 * item appears m times here and n times in other, it appears {@code Math.min(m, n)} times in the result. This
+	 * skips through the longer list with galloping (exponential) search, so it takes O(m log(n/m)) comparisons when
+	 * one list, of size m, is much shorter than the other, of size n.
+	 *
+	 * @param other another ObjectList sorted by {@code c}
+	 * @param into  an ObjectList that will be cleared and then receive the shared items; must not be this or other
+	 * @param c     a Comparator that can compare T items, or null to use the natural order of Comparable T items
+	 * @return {@code into}, for chaining
+	 */
+	public ObjectList<T> intersectSorted(ObjectList<? extends T> other, ObjectList<T> into, Comparator<? super T> c) {
+		checkSortedOutput(other, into);
+		Comparator<? super T> cmp = orNatural(c);
+		int i = 0, na = size(), j = 0, nb = other.size();
+		into.clear();
+		while (i < na && j < nb) {
+			T x = get(i), y = other.get(j);
+			int r = cmp.compare(x, y);
+			if (r < 0) {
+				i = gallop(this, i + 1, na, y, cmp, false);
+			} else if (r > 0) {
+				j = gallop(other, j + 1, nb, x, cmp, false);
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list, {@code other}, or both into {@code into}, in ascending order according
+	 * to {@code c}. Both this and other must already be sorted by {@code c}. If an item appears m times here and n
+	 * times in other, it appears {@code Math.max(m, n)} times in the result, and items that are in both are taken
+	 * from this list. Runs of items only in one list are found with galloping (exponential) search.
+	 *
+	 * @param other another ObjectList sorted by {@code c}
+	 * @param into  an ObjectList that will be cleared and then receive the combined items; must not be this or other
+	 * @param c     a Comparator that can compare T items, or null to use the natural order of Comparable T items
+	 * @return {@code into}, for chaining
+	 */
+	public ObjectList<T> unionSorted(ObjectList<? extends T> other, ObjectList<T> into, Comparator<? super T> c) {
+		checkSortedOutput(other, into);
+		Comparator<? super T> cmp = orNatural(c);
+		int i = 0, na = size(), j = 0, nb = other.size();
+		into.clear();
+		into.ensureCapacity(na + nb);
+		while (i < na && j < nb) {
+			T x = get(i), y = other.get(j);
+			int r = cmp.compare(x, y);
+			if (r < 0) {
+				int k = gallop(this, i + 1, na, y, cmp, false);
+				while (i < k) into.add(get(i++));
+			} else if (r > 0) {
+				int k = gallop(other, j + 1, nb, x, cmp, false);
+				while (j < k) into.add(other.get(j++));
+			} else {
+				into.add(x);
+				i++;
+				j++;
+			}
+		}
+		while (i < na) into.add(get(i++));
+		while (j < nb) into.add(other.get(j++));
+		return into;
+	}
+
+	/**
+	 * Writes the items present in this list but not in {@code other} into {@code into}, in ascending order according
+	 * to {@code c}. Both this and other must already be sorted by {@code c}. If an item appears m times here and n
+	 * times in other, it appears {@code Math.max(m - n, 0)} times in the result. Runs of items are found with
+	 * galloping (exponential) search.
+	 *
+	 * @param other another ObjectList sorted by {@code c}
+	 * @param into  an ObjectList that will be cleared and then receive the remaining items; must not be this or other
+	 * @param c     a Comparator that can compare T items, or null to use the natural order of Comparable T items
+	 * @return {@code into}, for chaining
+	 */
+	public ObjectList<T> differenceSorted(ObjectList<? extends T> other, ObjectList<T> into, Comparator<? super T> c) {
+		checkSortedOutput(other, into);
+		Comparator<? super T> cmp = orNatural(c);
+		int i = 0, na = size(), j = 0, nb = other.size();
+		into.clear();
+		while (i < na && j < nb) {
+			T x = get(i), y = other.get(j);
+			int r = cmp.compare(x, y);
+			if (r < 0) {
+				int k = gallop(this, i + 1, na, y, cmp, false);
+				while (i < k) into.add(get(i++));
+			} else if (r > 0) {
+				j = gallop(other, j + 1, nb, x, cmp, false);
+			} else {
+				i++;
+				j++;
+			}
+		}
+		while (i < na) into.add(get(i++));
+		return into;
+	}
+
+	private void checkSortedOutput(ObjectList<?> other, ObjectList<?> into) {
+		if (into == this || into == other)
+			throw new IllegalArgumentException("The output list must not be one of the input lists.");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Comparator<? super T> orNatural(Comparator<? super T> c) {
+		return c == null ? (Comparator<? super T>) Comparator.naturalOrder() : c;
+	}
+
+	/**
+	 * Finds the first index from {@code from} (inclusive) to {@code to} (exclusive) where {@code list} has an item
+	 * greater than {@code key} (if {@code above} is true) or not less than key (if above is false), or {@code to} if
+	 * there is no such index. The range must be sorted. This checks indices from, from+1, from+3, from+7, and so on
+	 * until it passes key, then binary searches the last gap.
+	 */
+	private static <T> int gallop(List<? extends T> list, int from, int to, T key, Comparator<? super T> cmp, boolean above) {
+		int limit = above ? 0 : -1;
+		int lo = from, hi = from, step = 1;
+		while (hi < to && cmp.compare(list.get(hi), key) <= limit) {
+			lo = hi + 1;
+			hi = to - hi > step ? hi + step : to;
+			step <<= 1;
+		}
+		while (lo < hi) {
+			int mid = lo + hi >>> 1;
+			if (cmp.compare(list.get(mid), key) <= limit) lo = mid + 1;
+			else hi = mid;
+		}
+		return lo;
+	}
+
 	/**
 	 * Currently calls {@link #sort()} because this can't access
 	 * {@link java.util.Arrays#sort(Object[], int, int)} without the parent ArrayList's items array.
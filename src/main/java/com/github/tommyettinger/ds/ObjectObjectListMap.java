@@ -0,0 +1,613 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.Appender;
+
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A multimap from non-null K keys to any number of V values per key, where the values for each key keep their
+ * insertion order and duplicates (including null values) are allowed. Unlike an {@code ObjectObjectMap<K, ObjectList<V>>},
+ * this doesn't allocate a list per key; all values for all keys share one pool made of an {@code Object[]} holding
+ * values and an {@code int[]} holding the index of the next value for the same key (or -1 at the end of a group).
+ * Each key maps to a small group record that stores the first and last pool index and the number of values, so
+ * {@link #put(Object, Object)} and {@link #valueCount(Object)} are O(1), and {@link #removeAll(Object)} is O(1)
+ * because it splices the whole chain onto a free list for reuse.
+ * <br>
+ * After many removals, or after building the multimap up incrementally, values for one key can be spread across the
+ * pool. Calling {@link #compact()} rewrites the pool so each key's values are contiguous and in order, which is
+ * effectively a CSR (compressed sparse row) layout, and then reading a group is a linear scan.
+ * <br>
+ * Use {@link #get(Object, ObjectList)} to read all values for a key into a reusable ObjectList, or
+ * {@link #forEach(Object, Consumer)} to visit them without copying.
+ *
+ * @param <K> the type of keys; keys must not be null
+ * @param <V> the type of values; values may be null
+ */
+public class ObjectObjectListMap<K, V> {
+	/**
+	 * Maps each key to the index of its group in {@link #heads}, {@link #tails}, and {@link #counts}.
+	 */
+	protected ObjectIntMap<K> groups;
+	/**
+	 * The pool index of the first value in each group.
+	 */
+	protected int[] heads;
+	/**
+	 * The pool index of the last value in each group.
+	 */
+	protected int[] tails;
+	/**
+	 * How many values each group holds.
+	 */
+	protected int[] counts;
+	/**
+	 * The lowest group index that has never been used; groups below this that are not in use are in
+	 * {@link #freeGroups}.
+	 */
+	protected int groupLimit;
+	protected IntList freeGroups;
+
+	/**
+	 * The shared pool of values for all keys.
+	 */
+	protected Object[] values;
+	/**
+	 * For each index in {@link #values}, the index of the next value in the same group, or -1 if there is none.
+	 * Slots on the free list are chained through this array too.
+	 */
+	protected int[] next;
+	/**
+	 * The lowest pool index that has never been used.
+	 */
+	protected int poolLimit;
+	/**
+	 * The first pool index in the free list, or -1 if the free list is empty.
+	 */
+	protected int freeSlot = -1;
+	/**
+	 * The total number of values across all keys.
+	 */
+	protected int totalSize;
+
+	/**
+	 * Creates a new multimap with room for 16 keys and 16 values before it needs to resize.
+	 */
+	public ObjectObjectListMap() {
+		this(16, 16);
+	}
+
+	/**
+	 * Creates a new multimap with room for the given number of keys and values before it needs to resize.
+	 *
+	 * @param keyCapacity   how many distinct keys this can hold before resizing
+	 * @param valueCapacity how many values this can hold, in total across all keys, before resizing
+	 */
+	public ObjectObjectListMap(int keyCapacity, int valueCapacity) {
+		keyCapacity = Math.max(1, keyCapacity);
+		valueCapacity = Math.max(1, valueCapacity);
+		groups = new ObjectIntMap<>(keyCapacity);
+		heads = new int[keyCapacity];
+		tails = new int[keyCapacity];
+		counts = new int[keyCapacity];
+		freeGroups = new IntList();
+		values = new Object[valueCapacity];
+		next = new int[valueCapacity];
+	}
+
+	/**
+	 * Creates a new multimap with the same keys and values as the given one. The copy is always compacted.
+	 *
+	 * @param other another ObjectObjectListMap to copy
+	 */
+	public ObjectObjectListMap(ObjectObjectListMap<? extends K, ? extends V> other) {
+		this(other.groups.size(), other.totalSize);
+		for (ObjectIntMap.Entry<? extends K> e : other.groups) {
+			K key = e.key;
+			for (int s = other.heads[e.value]; s != -1; s = other.next[s]) {
+				put(key, other.valueAt(s));
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueAt(int slot) {
+		return (V) values[slot];
+	}
+
+	private int allocateSlot() {
+		if (freeSlot != -1) {
+			int slot = freeSlot;
+			freeSlot = next[slot];
+			return slot;
+		}
+		if (poolLimit == values.length) {
+			int newSize = Math.max(8, (int) (poolLimit * 1.75f));
+			values = Arrays.copyOf(values, newSize);
+			next = Arrays.copyOf(next, newSize);
+		}
+		return poolLimit++;
+	}
+
+	private int allocateGroup() {
+		if (freeGroups.notEmpty()) return freeGroups.pop();
+		if (groupLimit == heads.length) {
+			int newSize = Math.max(8, (int) (groupLimit * 1.75f));
+			heads = Arrays.copyOf(heads, newSize);
+			tails = Arrays.copyOf(tails, newSize);
+			counts = Arrays.copyOf(counts, newSize);
+		}
+		return groupLimit++;
+	}
+
+	/**
+	 * Adds {@code value} to the end of the values associated with {@code key}. If the key was not present, it is
+	 * added. This allows duplicate values for the same key.
+	 *
+	 * @param key   a non-null K key
+	 * @param value any V value, which may be null
+	 */
+	public void put(K key, V value) {
+		if (key == null) throw new NullPointerException("ObjectObjectListMap does not allow null keys.");
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) {
+			g = allocateGroup();
+			groups.put(key, g);
+			counts[g] = 0;
+		}
+		int slot = allocateSlot();
+		values[slot] = value;
+		next[slot] = -1;
+		if (counts[g]++ == 0) heads[g] = slot;
+		else next[tails[g]] = slot;
+		tails[g] = slot;
+		totalSize++;
+	}
+
+	/**
+	 * Adds every item in {@code items} to the end of the values associated with {@code key}.
+	 *
+	 * @param key   a non-null K key
+	 * @param items the V values to add for key
+	 */
+	public void putAll(K key, Iterable<? extends V> items) {
+		for (V item : items) {
+			put(key, item);
+		}
+	}
+
+	/**
+	 * Clears {@code into} and then fills it with the values associated with {@code key}, in the order they were
+	 * added. If the key is not present, {@code into} will be empty. This allows the same ObjectList to be reused for
+	 * many calls.
+	 *
+	 * @param key  the key to look up
+	 * @param into an ObjectList that will be cleared and then receive the values; will be modified
+	 * @return {@code into}, for chaining
+	 */
+	public ObjectList<V> get(Object key, ObjectList<V> into) {
+		into.clear();
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return into;
+		into.ensureCapacity(counts[g]);
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			into.add(valueAt(s));
+		}
+		return into;
+	}
+
+	/**
+	 * Gets a new ObjectList containing the values associated with {@code key}, in the order they were added.
+	 * Prefer {@link #get(Object, ObjectList)} if you look up many keys, since it allows reusing one ObjectList.
+	 *
+	 * @param key the key to look up
+	 * @return a new ObjectList of the values for key, which may be empty
+	 */
+	public ObjectList<V> get(Object key) {
+		return get(key, new ObjectList<>());
+	}
+
+	/**
+	 * Gets the first value associated with {@code key}, or {@code defaultValue} if the key is not present.
+	 *
+	 * @param key          the key to look up
+	 * @param defaultValue returned if key is not present
+	 * @return the first value added for key, or defaultValue
+	 */
+	public V getFirst(Object key, V defaultValue) {
+		int g = groups.getOrDefault(key, -1);
+		return g == -1 ? defaultValue : valueAt(heads[g]);
+	}
+
+	/**
+	 * Calls {@code action} on each value associated with {@code key}, in the order they were added. This does not
+	 * allocate.
+	 *
+	 * @param key    the key to look up
+	 * @param action a function that will be given each value for key
+	 */
+	public void forEach(Object key, Consumer<? super V> action) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return;
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			action.accept(valueAt(s));
+		}
+	}
+
+	/**
+	 * Calls {@code action} on every key-value pair in this multimap. Keys are visited in no particular order, but
+	 * values for any given key are visited in the order they were added. This does not allocate.
+	 *
+	 * @param action a function that will be given each key and one of its values, once per value
+	 */
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		K[] keyTable = groups.keyTable;
+		int[] valueTable = groups.valueTable;
+		for (int i = 0; i < keyTable.length; i++) {
+			K key = keyTable[i];
+			if (key != null) {
+				for (int s = heads[valueTable[i]]; s != -1; s = next[s]) {
+					action.accept(key, valueAt(s));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of values associated with {@code key}, or 0 if the key is not present. This runs in O(1) time.
+	 *
+	 * @param key the key to look up
+	 * @return how many values key has
+	 */
+	public int valueCount(Object key) {
+		int g = groups.getOrDefault(key, -1);
+		return g == -1 ? 0 : counts[g];
+	}
+
+	public boolean containsKey(Object key) {
+		return groups.containsKey(key);
+	}
+
+	/**
+	 * Returns true if {@code value} is associated with {@code key} at least once, comparing with
+	 * {@link Objects#equals(Object, Object)}. This checks only the values for the given key.
+	 *
+	 * @param key   the key to look up
+	 * @param value the value to search for; may be null
+	 * @return true if the key is present and has the given value
+	 */
+	public boolean contains(Object key, Object value) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return false;
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			if (Objects.equals(values[s], value)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all values associated with {@code key}, and the key itself. This runs in O(1) time apart from the map
+	 * lookup and releasing value references, because the key's whole chain of values is moved onto the free list
+	 * at once.
+	 *
+	 * @param key the key to remove
+	 * @return how many values were removed, which is 0 if the key was not present
+	 */
+	public int removeAll(Object key) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return 0;
+		groups.remove(key);
+		int removed = counts[g];
+		for (int s = heads[g]; s != -1; s = next[s]) {
+			values[s] = null;
+		}
+		next[tails[g]] = freeSlot;
+		freeSlot = heads[g];
+		counts[g] = 0;
+		freeGroups.add(g);
+		totalSize -= removed;
+		return removed;
+	}
+
+	/**
+	 * Removes the first occurrence of {@code value} from the values associated with {@code key}, comparing with
+	 * {@link Objects#equals(Object, Object)}. If that was the last value for key, the key is removed as well.
+	 *
+	 * @param key   the key to look up
+	 * @param value the value to remove once; may be null
+	 * @return true if a value was removed
+	 */
+	public boolean remove(Object key, Object value) {
+		int g = groups.getOrDefault(key, -1);
+		if (g == -1) return false;
+		for (int s = heads[g], prev = -1; s != -1; prev = s, s = next[s]) {
+			if (Objects.equals(values[s], value)) {
+				if (counts[g] == 1) {
+					removeAll(key);
+					return true;
+				}
+				if (prev == -1) heads[g] = next[s];
+				else next[prev] = next[s];
+				if (tails[g] == s) tails[g] = prev;
+				values[s] = null;
+				next[s] = freeSlot;
+				freeSlot = s;
+				counts[g]--;
+				totalSize--;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Rewrites the shared pool so that every key's values are stored contiguously and in order, then trims the pool
+	 * to exactly fit the current values. This discards the free list. Call this after bulk building or after many
+	 * removals to make reading groups a linear scan.
+	 */
+	public void compact() {
+		Object[] newValues = new Object[Math.max(1, totalSize)];
+		int[] newNext = new int[newValues.length];
+		K[] keyTable = groups.keyTable;
+		int[] valueTable = groups.valueTable;
+		int pos = 0;
+		for (int i = 0; i < keyTable.length; i++) {
+			if (keyTable[i] != null) {
+				int g = valueTable[i], start = pos;
+				for (int s = heads[g]; s != -1; s = next[s]) {
+					newValues[pos] = values[s];
+					newNext[pos] = pos + 1;
+					pos++;
+				}
+				newNext[pos - 1] = -1;
+				heads[g] = start;
+				tails[g] = pos - 1;
+			}
+		}
+		values = newValues;
+		next = newNext;
+		poolLimit = pos;
+		freeSlot = -1;
+	}
+
+	/**
+	 * Gets the number of distinct keys in this multimap.
+	 *
+	 * @return how many keys are present
+	 */
+	public int size() {
+		return groups.size();
+	}
+
+	/**
+	 * Gets the total number of values across all keys in this multimap.
+	 *
+	 * @return how many values are present, counting duplicates
+	 */
+	public int totalSize() {
+		return totalSize;
+	}
+
+	public boolean isEmpty() {
+		return groups.size() == 0;
+	}
+
+	public boolean notEmpty() {
+		return groups.size() != 0;
+	}
+
+	/**
+	 * Removes all keys and values, but keeps the current capacity of the pool and of the key storage.
+	 */
+	public void clear() {
+		groups.clear();
+		Utilities.clear(values, 0, poolLimit);
+		freeGroups.clear();
+		groupLimit = 0;
+		poolLimit = 0;
+		freeSlot = -1;
+		totalSize = 0;
+	}
+
+	/**
+	 * Returns a read-only Set view of the keys in this multimap.
+	 *
+	 * @return a read-only set view of the keys
+	 */
+	public Keys<K> keySet() {
+		return new Keys<>(this);
+	}
+
+	@Override
+	public int hashCode() {
+		int h = totalSize;
+		K[] keyTable = groups.keyTable;
+		int[] valueTable = groups.valueTable;
+		for (int i = 0; i < keyTable.length; i++) {
+			K key = keyTable[i];
+			if (key != null) {
+				int gh = key.hashCode();
+				for (int s = heads[valueTable[i]]; s != -1; s = next[s]) {
+					gh = gh * 31 + Objects.hashCode(values[s]);
+				}
+				h += gh;
+			}
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof ObjectObjectListMap)) return false;
+		ObjectObjectListMap<?, ?> other = (ObjectObjectListMap<?, ?>) o;
+		if (totalSize != other.totalSize || groups.size() != other.groups.size()) return false;
+		K[] keyTable = groups.keyTable;
+		int[] valueTable = groups.valueTable;
+		for (int i = 0; i < keyTable.length; i++) {
+			K key = keyTable[i];
+			if (key != null) {
+				int g = valueTable[i];
+				int og = other.groups.getOrDefault(key, -1);
+				if (og == -1 || counts[g] != other.counts[og]) return false;
+				for (int s = heads[g], os = other.heads[og]; s != -1; s = next[s], os = other.next[os]) {
+					if (!Objects.equals(values[s], other.values[os])) return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(32), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this ObjectObjectListMap, with each key followed by
+	 * "=" and then its values in square brackets, separated by {@code ", "}. Keys are appended in no particular order.
+	 *
+	 * @param sb             an Appendable CharSequence that this can append to
+	 * @param entrySeparator how to separate keys, such as {@code ", "}
+	 * @param braces         true to wrap the output in curly braces, or false to omit them
+	 * @param <S>            any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this multimap
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, Appender::append, Appender::append);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this ObjectObjectListMap, using the given
+	 * {@link Appender}s to write keys and values. Each key is followed by {@code keyValueSeparator} and then its
+	 * values in square brackets, separated by {@code ", "}. Keys are appended in no particular order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate keys, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its values, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       an Appender that can take a K key, such as {@code Appender::append}
+	 * @param valueAppender     an Appender that can take a V value, such as {@code Appender::append}
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this multimap
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															Appender<K> keyAppender, Appender<V> valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			K[] keyTable = groups.keyTable;
+			int[] valueTable = groups.valueTable;
+			for (int i = 0; i < keyTable.length; i++) {
+				K key = keyTable[i];
+				if (key == null) continue;
+				if (!first) sb.append(entrySeparator);
+				first = false;
+				keyAppender.apply(sb, key).append(keyValueSeparator).append('[');
+				int g = valueTable[i];
+				for (int s = heads[g]; s != -1; s = next[s]) {
+					if (s != heads[g]) sb.append(", ");
+					valueAppender.apply(sb, valueAt(s));
+				}
+				sb.append(']');
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	public static class Keys<K> extends AbstractSet<K> implements EnhancedCollection<K> {
+		protected ObjectObjectListMap<K, ?> map;
+
+		public Keys(ObjectObjectListMap<K, ?> map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return map.containsKey(o);
+		}
+
+		@Override
+		public Iterator<K> iterator() {
+			final Iterator<K> it = map.groups.keySet().iterator();
+			return new Iterator<K>() {
+				@Override
+				public boolean hasNext() {
+					return it.hasNext();
+				}
+
+				@Override
+				public K next() {
+					return it.next();
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException("ObjectObjectListMap.Keys is read-only");
+				}
+			};
+		}
+
+		@Override
+		public boolean add(K k) {
+			throw new UnsupportedOperationException("ObjectObjectListMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			throw new UnsupportedOperationException("ObjectObjectListMap.Keys is read-only");
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("ObjectObjectListMap.Keys is read-only");
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public int hashCode() {
+			return super.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+}
@@ -19,9 +19,11 @@ package com.github.tommyettinger.ds;
 import com.github.tommyettinger.digital.BitConversion;
 import com.github.tommyettinger.ds.support.util.Appender;
 import com.github.tommyettinger.ds.support.util.PartialParser;
+import com.github.tommyettinger.ds.support.util.LegibleTokenizer;
 import com.github.tommyettinger.function.ObjObjToObjBiFunction;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
 import java.util.Arrays;
@@ -147,16 +149,21 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 	 * @param map an ObjectObjectMap to copy
 	 */
 	public ObjectObjectMap(ObjectObjectMap<? extends K, ? extends V> map) {
+		map.scrub();
 		this.loadFactor = map.loadFactor;
 		this.threshold = map.threshold;
 		this.mask = map.mask;
 		this.shift = map.shift;
 		this.hashMultiplier = map.hashMultiplier;
 
-		keyTable = Arrays.copyOf(map.keyTable, map.keyTable.length);
-		valueTable = Arrays.copyOf(map.valueTable, map.valueTable.length);
 		size = map.size;
 		defaultValue = map.defaultValue;
+		if (map.isHashed()) {
+			keyTable = Arrays.copyOf(map.keyTable, map.keyTable.length);
+			valueTable = Arrays.copyOf(map.valueTable, map.valueTable.length);
+		} else {
+			rehashFrom(map.keyTable, map.valueTable);
+		}
 	}
 
 	/**
@@ -317,6 +324,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 			resetTo(map);
 		} else {
 			ensureCapacity(map.size);
+			map.scrub();
 			K[] keyTable = map.keyTable;
 			V[] valueTable = map.valueTable;
 			K key;
@@ -330,7 +338,8 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 	}
 
 	private void resetTo(ObjectObjectMap<? extends K, ? extends V> map) {
-		if(loadFactor == map.loadFactor) {
+		map.scrub();
+		if(loadFactor == map.loadFactor && map.isHashed()) {
 			this.threshold = map.threshold;
 			this.mask = map.mask;
 			this.shift = map.shift;
@@ -494,6 +503,33 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 		}
 	}
 
+	/**
+	 * Removes the entry at {@code index} in {@link #keyTable} and {@link #valueTable}, then moves later entries back as
+	 * needed so linear probing can still find them. This is what an iterator uses to remove the entry it last returned.
+	 *
+	 * @param index the index in {@link #keyTable} of an entry to remove
+	 * @return the index of the slot that was left empty, which is {@code index} unless a later entry was moved into it
+	 */
+	protected int removeSlot(int index) {
+		K[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		int i = index, mask = this.mask, next = i + 1 & mask;
+		K key;
+		while ((key = keyTable[next]) != null) {
+			int placement = place(key);
+			if ((next - placement & mask) > (i - placement & mask)) {
+				keyTable[i] = key;
+				valueTable[i] = valueTable[next];
+				i = next;
+			}
+			next = next + 1 & mask;
+		}
+		keyTable[i] = null;
+		valueTable[i] = null;
+		size--;
+		return i;
+	}
+
 	/**
 	 * Returns true if the map has one or more items.
 	 */
@@ -580,6 +616,54 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 		Utilities.clear(valueTable);
 	}
 
+	/**
+	 * Makes sure that {@link #keyTable} and {@link #valueTable} hold only the entries actually in this map, so every
+	 * slot in them can be read. This is called before anything reads the whole table, such as iteration or copying.
+	 * It does nothing here, but {@link StampedObjectObjectMap} uses it to remove entries left in the table by its
+	 * constant-time {@link #clear()}.
+	 */
+	protected void scrub() {
+	}
+
+	/**
+	 * Fills a new {@link #keyTable} and {@link #valueTable}, the same length as {@code oldKeyTable}, with every
+	 * non-null key and its value placed by linear probing. This is private so constructors can use it without calling
+	 * {@link #resize(int)} or {@link #putResize(Object, Object)}, which a subclass may override to touch fields it
+	 * hasn't set up yet.
+	 *
+	 * @param oldKeyTable   a key table from a map that might not use linear probing
+	 * @param oldValueTable the value table that goes with {@code oldKeyTable}
+	 */
+	@SuppressWarnings("unchecked")
+	private void rehashFrom(K[] oldKeyTable, V[] oldValueTable) {
+		K[] keyTable = this.keyTable = (K[]) new Object[oldKeyTable.length];
+		V[] valueTable = this.valueTable = (V[]) new Object[oldKeyTable.length];
+		for (int j = 0; j < oldKeyTable.length; j++) {
+			K key = oldKeyTable[j];
+			if (key != null) {
+				for (int i = place(key); ; i = i + 1 & mask) {
+					if (keyTable[i] == null) {
+						keyTable[i] = key;
+						valueTable[i] = oldValueTable[j];
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if every key in {@link #keyTable} is in the position that {@link #place(Object)} and linear probing
+	 * would give it, so the tables can be copied straight into another map. This is always true here, but
+	 * {@link SmallObjectObjectMap} returns false while it keeps a few entries packed at the start of its table, and
+	 * {@link HopscotchObjectObjectMap} returns false because it can leave gaps between a key and its home position.
+	 *
+	 * @return true if the tables can be copied directly into a map that hashes its keys
+	 */
+	protected boolean isHashed() {
+		return true;
+	}
+
 	/**
 	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value, which may
 	 * be an expensive operation.
@@ -588,6 +672,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 	 *                 {@link #equals(Object)}.
 	 */
 	public boolean containsValue(Object value, boolean identity) {
+		scrub();
 		V[] valueTable = this.valueTable;
 		if (value == null) {
 			K[] keyTable = this.keyTable;
@@ -671,6 +756,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 	 * @return a key that maps to value, if present, or null if value cannot be found
 	 */
 	public K findKey(Object value, boolean identity) {
+		scrub();
 		V[] valueTable = this.valueTable;
 		if (value == null) {
 			K[] keyTable = this.keyTable;
@@ -709,6 +795,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 	}
 
 	protected void resize(int newSize) {
+		scrub();
 		int oldCapacity = keyTable.length;
 		threshold = (int) (newSize * loadFactor);
 		mask = newSize - 1;
@@ -780,6 +867,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 
 	@Override
 	public int hashCode() {
+		scrub();
 		int h = size;
 		K[] keyTable = this.keyTable;
 		V[] valueTable = this.valueTable;
@@ -809,6 +897,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 		if (other.size() != size) {
 			return false;
 		}
+		scrub();
 		K[] keyTable = this.keyTable;
 		V[] valueTable = this.valueTable;
 		try {
@@ -848,6 +937,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 		if (other.size != size) {
 			return false;
 		}
+		scrub();
 		K[] keyTable = this.keyTable;
 		V[] valueTable = this.valueTable;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -947,6 +1037,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 			if (braces) {
 				sb.append('{');
 			}
+			scrub();
 			K[] keyTable = this.keyTable;
 			V[] valueTable = this.valueTable;
 			int i = keyTable.length;
@@ -997,6 +1088,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 	 * @param newSize the target size to try to reach by removing items, if smaller than the current size
 	 */
 	public void truncate(int newSize) {
+		scrub();
 		K[] keyTable = this.keyTable;
 		V[] valTable = this.valueTable;
 		newSize = Math.max(0, newSize);
@@ -1221,6 +1313,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 		}
 
 		public void reset() {
+			map.scrub();
 			currentIndex = -1;
 			nextIndex = -1;
 			findNextIndex();
@@ -1243,23 +1336,7 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 			if (i < 0) {
 				throw new IllegalStateException("next must be called before remove.");
 			}
-			K[] keyTable = map.keyTable;
-			V[] valueTable = map.valueTable;
-			int mask = map.mask, next = i + 1 & mask;
-			K key;
-			while ((key = keyTable[next]) != null) {
-				int placement = map.place(key);
-				if ((next - placement & mask) > (i - placement & mask)) {
-					keyTable[i] = key;
-					valueTable[i] = valueTable[next];
-					i = next;
-				}
-				next = next + 1 & mask;
-			}
-			keyTable[i] = null;
-			valueTable[i] = null;
-			map.size--;
-			if (i != currentIndex) {
+			if (map.removeSlot(i) != i) {
 				--nextIndex;
 			}
 			currentIndex = -1;
@@ -1775,6 +1852,60 @@ public class ObjectObjectMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V
 		}
 	}
 
+	/**
+	 * Puts key-value pairs into this map drawn from {@code reader}, which should provide text in the same format that
+	 * {@link #putLegible(String, String, String, PartialParser, PartialParser, int, int)} reads. This only buffers a bounded amount of the
+	 * text at a time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one
+	 * String. This does not close {@code reader}.
+	 *
+	 * @param reader            a Reader providing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param keyParser         a PartialParser that returns a key from a section of text
+	 * @param valueParser       a PartialParser that returns a value from a section of text
+	 */
+	public void putLegible(Reader reader, String entrySeparator, String keyValueSeparator, PartialParser<K> keyParser, PartialParser<V> valueParser) {
+		putLegible(new LegibleTokenizer(reader), entrySeparator, keyValueSeparator, keyParser, valueParser);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from a window of any CharSequence, such as a CharBuffer or CharList, in
+	 * the same format that {@link #putLegible(String, String, String, PartialParser, PartialParser, int, int)} reads. This copies a bounded
+	 * amount of the text at a time into a {@link LegibleTokenizer}, rather than making a substring for each item.
+	 *
+	 * @param text              a CharSequence containing the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param keyParser         a PartialParser that returns a key from a section of text
+	 * @param valueParser       a PartialParser that returns a value from a section of text
+	 * @param offset            the first position to read from in {@code text}
+	 * @param length            how many chars to read; -1 is treated as maximum length
+	 */
+	public void putLegible(CharSequence text, String entrySeparator, String keyValueSeparator, PartialParser<K> keyParser, PartialParser<V> valueParser, int offset, int length) {
+		if (text == null) return;
+		putLegible(new LegibleTokenizer(text, offset, length), entrySeparator, keyValueSeparator, keyParser, valueParser);
+	}
+
+	/**
+	 * Puts key-value pairs into this map drawn from the remaining tokens in {@code tokens}, alternating between
+	 * splitting on {@code keyValueSeparator} and on {@code entrySeparator}.
+	 *
+	 * @param tokens            a LegibleTokenizer over the text to parse
+	 * @param entrySeparator    the String separating every key-value pair
+	 * @param keyValueSeparator the String separating every key from its corresponding value
+	 * @param keyParser         a PartialParser that returns a key from a section of text
+	 * @param valueParser       a PartialParser that returns a value from a section of text
+	 */
+	public void putLegible(LegibleTokenizer tokens, String entrySeparator, String keyValueSeparator, PartialParser<K> keyParser, PartialParser<V> valueParser) {
+		if (tokens == null || entrySeparator == null || keyValueSeparator == null || keyParser == null || valueParser == null
+			|| entrySeparator.isEmpty() || keyValueSeparator.isEmpty()) return;
+		while (tokens.next(keyValueSeparator)) {
+			K k = keyParser.parse(tokens.text(), tokens.start(), tokens.end());
+			if (!tokens.next(entrySeparator)) break;
+			put(k, valueParser.parse(tokens.text(), tokens.start(), tokens.end()));
+		}
+	}
+
 	/**
 	 * Creates a new map by parsing all of {@code str} with the given PartialParser for keys and
 	 * for values, with entries separated by {@code entrySeparator}, such as {@code ", "} and
@@ -0,0 +1,1619 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.util.Appender;
+
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A sorted {@link Map} kept in ascending key order by a B+ tree, using either the natural ordering of its keys or a
+ * {@link Comparator} given at construction. Each node in the tree stores its keys in an array of up to
+ * {@link #NODE_CAPACITY} items, and all key-value pairs are stored in leaf nodes that are linked to their neighbors,
+ * so iterating in order is a linear walk over a few large arrays rather than a pointer chase per entry, and there is
+ * no per-entry node object like in {@link java.util.TreeMap}. Lookups, insertions, and removals take
+ * {@code O(log(n))} comparisons, and with a high branching factor the tree is very shallow. Branch nodes track the
+ * size of each of their subtrees, which allows {@link #rank(Object)}, {@link #keyAt(int)}, and {@link #valueAt(int)}
+ * to also run in {@code O(log(n))} time.
+ * <br>
+ * This supports {@link #floorKey(Object)}, {@link #ceilingKey(Object)}, {@link #lowerKey(Object)}, and
+ * {@link #higherKey(Object)}, which return null if no such key exists, plus iteration over a range of keys with
+ * {@link #range(Object, Object)}. If you have keys that are already sorted,
+ * {@link #putAllSorted(Object[], Object[])} can build the tree bottom-up in {@code O(n)} time when this map is empty.
+ * <br>
+ * Keys cannot be null. Values can be null. If a key isn't present, methods that look up a value return
+ * {@link #defaultValue}, which is null unless changed.
+ *
+ * @param <K> the type of keys; must be {@link Comparable} if no Comparator is given
+ * @param <V> the type of values
+ * @see IntObjectSortedMap IntObjectSortedMap is the same data structure with primitive int keys.
+ */
+public class ObjectObjectSortedMap<K, V> implements Map<K, V>, Iterable<Map.Entry<K, V>> {
+	/**
+	 * The maximum number of keys in a leaf node, and the maximum number of children of a branch node.
+	 */
+	protected static final int NODE_CAPACITY = 64;
+	/**
+	 * The minimum number of keys in a leaf node, or children of a branch node, unless that node is the root.
+	 */
+	protected static final int MIN_COUNT = NODE_CAPACITY >>> 1;
+
+	/**
+	 * A node in the B+ tree; for a {@link Leaf}, {@link #count} is the number of keys, and for a {@link Branch}, it is
+	 * the number of children (so one more than the number of separator keys).
+	 */
+	protected static abstract class Node {
+		public int count;
+		public final Object[] keys;
+
+		protected Node(int keyCapacity) {
+			keys = new Object[keyCapacity];
+		}
+	}
+
+	protected static final class Leaf extends Node {
+		public final Object[] values = new Object[NODE_CAPACITY];
+		public Leaf prev, next;
+
+		public Leaf() {
+			super(NODE_CAPACITY);
+		}
+	}
+
+	/**
+	 * A branch node; {@code keys[i]} is a separator that is less than or equal to every key in {@code children[i+1]},
+	 * and greater than every key in {@code children[i]}. {@code sizes[i]} is the number of entries in the subtree
+	 * rooted at {@code children[i]}.
+	 */
+	protected static final class Branch extends Node {
+		public final Node[] children = new Node[NODE_CAPACITY];
+		public final int[] sizes = new int[NODE_CAPACITY];
+
+		public Branch() {
+			super(NODE_CAPACITY - 1);
+		}
+	}
+
+	protected int size;
+	protected Node root;
+	/**
+	 * How many levels of branches are above the leaves; 0 when the root is a leaf.
+	 */
+	protected int height;
+
+	/**
+	 * Reused during insertion and removal to remember the path from the root to a leaf.
+	 */
+	protected Branch[] path = new Branch[8];
+	/**
+	 * Reused during insertion and removal to remember which child was taken at each branch in {@link #path}.
+	 */
+	protected int[] pathIndex = new int[8];
+	/**
+	 * Set by {@link #leafAt(int)} to the index of the requested entry within the leaf it returns.
+	 */
+	protected int indexInLeaf;
+
+	/**
+	 * The Comparator used to order keys, or null if keys use their natural ordering.
+	 */
+	protected final Comparator<? super K> comparator;
+
+	public V defaultValue = null;
+
+	/**
+	 * Creates a new, empty map that orders its keys by their natural ordering.
+	 */
+	public ObjectObjectSortedMap() {
+		this((Comparator<? super K>) null);
+	}
+
+	/**
+	 * Creates a new, empty map that orders its keys using the given Comparator.
+	 *
+	 * @param comparator used to order keys; if null, the keys' natural ordering is used
+	 */
+	public ObjectObjectSortedMap(Comparator<? super K> comparator) {
+		this.comparator = comparator;
+		root = new Leaf();
+	}
+
+	/**
+	 * Creates a new map identical to the specified map, using the same Comparator. This builds the tree bottom-up,
+	 * so it takes {@code O(n)} time.
+	 *
+	 * @param map the map to copy
+	 */
+	public ObjectObjectSortedMap(ObjectObjectSortedMap<K, ? extends V> map) {
+		this(map.comparator);
+		defaultValue = map.defaultValue;
+		putAll(map);
+	}
+
+	/**
+	 * Creates a new map using the natural ordering of keys, and puts every entry in {@code map} into it.
+	 *
+	 * @param map the map to copy
+	 */
+	public ObjectObjectSortedMap(Map<? extends K, ? extends V> map) {
+		this();
+		putAll(map);
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public ObjectObjectSortedMap(K[] keys, V[] values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a Collection of keys
+	 * @param values a Collection of values
+	 */
+	public ObjectObjectSortedMap(Collection<? extends K> keys, Collection<? extends V> values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Gets the Comparator used to order keys, or null if this uses the keys' natural ordering.
+	 *
+	 * @return the Comparator this uses, which may be null
+	 */
+	public Comparator<? super K> getComparator() {
+		return comparator;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected int compare(Object a, Object b) {
+		return comparator == null ? ((Comparable<Object>) a).compareTo(b) : comparator.compare((K) a, (K) b);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   a Collection of keys
+	 * @param values a Collection of values
+	 */
+	public void putAll(Collection<? extends K> keys, Collection<? extends V> values) {
+		Iterator<? extends K> ki = keys.iterator();
+		Iterator<? extends V> vi = values.iterator();
+		while (ki.hasNext() && vi.hasNext()) {
+			put(ki.next(), vi.next());
+		}
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public void putAll(K[] keys, V[] values) {
+		putAll(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys        an array of keys
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAll(K[] keys, int keyOffset, V[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		for (int k = keyOffset, v = valueOffset, i = 0; i < length; i++, k++, v++) {
+			put(keys[k], values[v]);
+		}
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		if (map instanceof ObjectObjectSortedMap) {
+			putAllSorted((ObjectObjectSortedMap<? extends K, ? extends V>) map);
+			return;
+		}
+		for (Map.Entry<? extends K, ? extends V> e : map.entrySet()) {
+			put(e.getKey(), e.getValue());
+		}
+	}
+
+	private void putAllSorted(ObjectObjectSortedMap<? extends K, ? extends V> map) {
+		if (map.size == 0) return;
+		if (size == 0 && Objects.equals(map.comparator, comparator)) {
+			Object[] ks = new Object[map.size];
+			Object[] vs = new Object[map.size];
+			int i = 0;
+			for (Leaf leaf = map.firstLeaf(); leaf != null; leaf = leaf.next) {
+				System.arraycopy(leaf.keys, 0, ks, i, leaf.count);
+				System.arraycopy(leaf.values, 0, vs, i, leaf.count);
+				i += leaf.count;
+			}
+			build(ks, 0, vs, 0, i);
+			return;
+		}
+		for (Leaf leaf = map.firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				putRaw(leaf.keys[i], leaf.values[i]);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void putRaw(Object key, Object value) {
+		put((K) key, (V) value);
+	}
+
+	/**
+	 * Like {@link #putAll(Object[], Object[])}, but if this map is empty and {@code keys} is sorted in strictly
+	 * ascending order, this builds the tree bottom-up in {@code O(n)} time, filling each node as full as it can.
+	 * Otherwise, this just calls {@link #put(Object, Object)} for each pair, which is still correct, just slower.
+	 *
+	 * @param keys   an array of keys, ideally sorted in ascending order with no duplicates
+	 * @param values an array of values
+	 */
+	public void putAllSorted(K[] keys, V[] values) {
+		putAllSorted(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Like {@link #putAll(Object[], int, Object[], int, int)}, but if this map is empty and the given section of
+	 * {@code keys} is sorted in strictly ascending order, this builds the tree bottom-up in {@code O(n)} time, filling
+	 * each node as full as it can. Otherwise, this just calls {@link #put(Object, Object)} for each pair, which is
+	 * still correct, just slower.
+	 *
+	 * @param keys        an array of keys, ideally sorted in ascending order with no duplicates
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAllSorted(K[] keys, int keyOffset, V[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		if (length <= 0) return;
+		if (size == 0) {
+			boolean sorted = keys[keyOffset] != null;
+			for (int i = keyOffset + 1, n = keyOffset + length; sorted && i < n; i++) {
+				if (keys[i] == null || compare(keys[i - 1], keys[i]) >= 0) {
+					sorted = false;
+				}
+			}
+			if (sorted) {
+				build(keys, keyOffset, values, valueOffset, length);
+				return;
+			}
+		}
+		putAll(keys, keyOffset, values, valueOffset, length);
+	}
+
+	/**
+	 * Builds the tree bottom-up from strictly ascending keys; this map must be empty.
+	 */
+	protected void build(Object[] keys, int keyOffset, Object[] values, int valueOffset, int length) {
+		int nodeCount = (length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+		Node[] level = new Node[nodeCount];
+		Object[] mins = new Object[nodeCount];
+		int[] sizes = new int[nodeCount];
+		Leaf prev = null;
+		for (int n = 0, start = 0; n < nodeCount; n++) {
+			// spreads the entries evenly, so every leaf has at least MIN_COUNT keys if there is more than one
+			int end = (int) ((long) length * (n + 1) / nodeCount);
+			Leaf leaf = new Leaf();
+			leaf.count = end - start;
+			System.arraycopy(keys, keyOffset + start, leaf.keys, 0, leaf.count);
+			System.arraycopy(values, valueOffset + start, leaf.values, 0, leaf.count);
+			leaf.prev = prev;
+			if (prev != null) prev.next = leaf;
+			prev = leaf;
+			level[n] = leaf;
+			mins[n] = leaf.keys[0];
+			sizes[n] = leaf.count;
+			start = end;
+		}
+		int h = 0;
+		while (nodeCount > 1) {
+			int upperCount = (nodeCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+			Node[] upper = new Node[upperCount];
+			Object[] upperMins = new Object[upperCount];
+			int[] upperSizes = new int[upperCount];
+			for (int n = 0, start = 0; n < upperCount; n++) {
+				int end = (int) ((long) nodeCount * (n + 1) / upperCount);
+				Branch branch = new Branch();
+				branch.count = end - start;
+				System.arraycopy(level, start, branch.children, 0, branch.count);
+				System.arraycopy(sizes, start, branch.sizes, 0, branch.count);
+				System.arraycopy(mins, start + 1, branch.keys, 0, branch.count - 1);
+				int total = 0;
+				for (int i = 0; i < branch.count; i++) {
+					total += branch.sizes[i];
+				}
+				upper[n] = branch;
+				upperMins[n] = mins[start];
+				upperSizes[n] = total;
+				start = end;
+			}
+			level = upper;
+			mins = upperMins;
+			sizes = upperSizes;
+			nodeCount = upperCount;
+			h++;
+		}
+		root = level[0];
+		height = h;
+		size = length;
+		ensurePathCapacity();
+	}
+
+	private void ensurePathCapacity() {
+		if (height > path.length) {
+			Branch[] newPath = new Branch[height + 4];
+			int[] newIndex = new int[height + 4];
+			System.arraycopy(path, 0, newPath, 0, path.length);
+			System.arraycopy(pathIndex, 0, newIndex, 0, pathIndex.length);
+			path = newPath;
+			pathIndex = newIndex;
+		}
+	}
+
+	/**
+	 * Finds the first index in {@code keys}, up to {@code count}, that holds a key greater than or equal to {@code key}.
+	 */
+	protected int lowerBound(Object[] keys, int count, Object key) {
+		int low = 0, high = count;
+		while (low < high) {
+			int mid = low + high >>> 1;
+			if (compare(keys[mid], key) < 0) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Finds the first index in {@code keys}, up to {@code count}, that holds a key greater than {@code key}.
+	 */
+	protected int upperBound(Object[] keys, int count, Object key) {
+		int low = 0, high = count;
+		while (low < high) {
+			int mid = low + high >>> 1;
+			if (compare(keys[mid], key) <= 0) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Descends to the leaf that would contain {@code key}.
+	 */
+	protected Leaf findLeaf(Object key) {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Branch b = (Branch) node;
+			node = b.children[upperBound(b.keys, b.count - 1, key)];
+		}
+		return (Leaf) node;
+	}
+
+	protected Leaf firstLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			node = ((Branch) node).children[0];
+		}
+		return (Leaf) node;
+	}
+
+	protected Leaf lastLeaf() {
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			node = ((Branch) node).children[node.count - 1];
+		}
+		return (Leaf) node;
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no prior value.
+	 */
+	@Override
+	public V put(K key, V value) {
+		return putOrDefault(key, value, defaultValue);
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or the given {@code defaultValue} if there was no prior value.
+	 */
+	@SuppressWarnings("unchecked")
+	public V putOrDefault(K key, V value, V defaultValue) {
+		Objects.requireNonNull(key);
+		Node node = root;
+		for (int h = 0; h < height; h++) {
+			Branch b = (Branch) node;
+			int idx = upperBound(b.keys, b.count - 1, key);
+			path[h] = b;
+			pathIndex[h] = idx;
+			node = b.children[idx];
+		}
+		Leaf leaf = (Leaf) node;
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count && compare(leaf.keys[idx], key) == 0) {
+			V old = (V) leaf.values[idx];
+			leaf.values[idx] = value;
+			return old;
+		}
+		size++;
+		Node split = null;
+		Object splitKey = null;
+		if (leaf.count < NODE_CAPACITY) {
+			insertIntoLeaf(leaf, idx, key, value);
+		} else {
+			Leaf right = new Leaf();
+			System.arraycopy(leaf.keys, MIN_COUNT, right.keys, 0, NODE_CAPACITY - MIN_COUNT);
+			System.arraycopy(leaf.values, MIN_COUNT, right.values, 0, NODE_CAPACITY - MIN_COUNT);
+			Utilities.clear(leaf.keys, MIN_COUNT, NODE_CAPACITY - MIN_COUNT);
+			Utilities.clear(leaf.values, MIN_COUNT, NODE_CAPACITY - MIN_COUNT);
+			right.count = NODE_CAPACITY - MIN_COUNT;
+			leaf.count = MIN_COUNT;
+			right.next = leaf.next;
+			if (right.next != null) right.next.prev = right;
+			right.prev = leaf;
+			leaf.next = right;
+			if (idx <= MIN_COUNT) insertIntoLeaf(leaf, idx, key, value);
+			else insertIntoLeaf(right, idx - MIN_COUNT, key, value);
+			split = right;
+			splitKey = right.keys[0];
+		}
+		for (int h = height - 1; h >= 0; h--) {
+			Branch b = path[h];
+			int ci = pathIndex[h];
+			if (split == null) {
+				b.sizes[ci]++;
+				continue;
+			}
+			Node left = b.children[ci];
+			int leftSize = sizeOf(left), rightSize = sizeOf(split);
+			if (b.count < NODE_CAPACITY) {
+				insertIntoBranch(b, ci, splitKey, split, leftSize, rightSize);
+				split = null;
+			} else {
+				// splits this branch first, then inserts the new child into whichever half should hold it
+				Branch right = new Branch();
+				int moved = NODE_CAPACITY - MIN_COUNT;
+				System.arraycopy(b.children, MIN_COUNT, right.children, 0, moved);
+				System.arraycopy(b.sizes, MIN_COUNT, right.sizes, 0, moved);
+				System.arraycopy(b.keys, MIN_COUNT, right.keys, 0, moved - 1);
+				Object promoted = b.keys[MIN_COUNT - 1];
+				Utilities.clear(b.children, MIN_COUNT, moved);
+				Utilities.clear(b.keys, MIN_COUNT - 1, moved);
+				right.count = moved;
+				b.count = MIN_COUNT;
+				if (ci < MIN_COUNT) insertIntoBranch(b, ci, splitKey, split, leftSize, rightSize);
+				else insertIntoBranch(right, ci - MIN_COUNT, splitKey, split, leftSize, rightSize);
+				split = right;
+				splitKey = promoted;
+			}
+		}
+		if (split != null) {
+			Branch newRoot = new Branch();
+			newRoot.children[0] = root;
+			newRoot.children[1] = split;
+			newRoot.sizes[0] = sizeOf(root);
+			newRoot.sizes[1] = sizeOf(split);
+			newRoot.keys[0] = splitKey;
+			newRoot.count = 2;
+			root = newRoot;
+			height++;
+			ensurePathCapacity();
+		}
+		return defaultValue;
+	}
+
+	private static void insertIntoLeaf(Leaf leaf, int idx, Object key, Object value) {
+		int move = leaf.count - idx;
+		if (move > 0) {
+			System.arraycopy(leaf.keys, idx, leaf.keys, idx + 1, move);
+			System.arraycopy(leaf.values, idx, leaf.values, idx + 1, move);
+		}
+		leaf.keys[idx] = key;
+		leaf.values[idx] = value;
+		leaf.count++;
+	}
+
+	/**
+	 * Inserts {@code child} immediately after the existing child at {@code ci}, with {@code key} separating them.
+	 */
+	private static void insertIntoBranch(Branch b, int ci, Object key, Node child, int leftSize, int rightSize) {
+		int move = b.count - ci - 1;
+		if (move > 0) {
+			System.arraycopy(b.children, ci + 1, b.children, ci + 2, move);
+			System.arraycopy(b.sizes, ci + 1, b.sizes, ci + 2, move);
+			System.arraycopy(b.keys, ci, b.keys, ci + 1, move);
+		}
+		b.children[ci + 1] = child;
+		b.keys[ci] = key;
+		b.sizes[ci] = leftSize;
+		b.sizes[ci + 1] = rightSize;
+		b.count++;
+	}
+
+	private static int sizeOf(Node node) {
+		if (node instanceof Leaf) return node.count;
+		Branch b = (Branch) node;
+		int total = 0;
+		for (int i = 0; i < b.count; i++) {
+			total += b.sizes[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #defaultValue} if the key is not in the map.
+	 *
+	 * @param key a non-null K key, or something that can be compared with one
+	 */
+	@Override
+	public V get(Object key) {
+		return getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns the value for the specified key, or the given default value if the key is not in the map.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(Object key, V defaultValue) {
+		if (key == null) return defaultValue;
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count && compare(leaf.keys[idx], key) == 0) return (V) leaf.values[idx];
+		return defaultValue;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (key == null) return false;
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		return idx < leaf.count && compare(leaf.keys[idx], key) == 0;
+	}
+
+	/**
+	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value,
+	 * which may be an expensive operation.
+	 */
+	@Override
+	public boolean containsValue(Object value) {
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				if (Objects.equals(leaf.values[i], value)) return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lowest key that maps to the specified value, or null if value is not in the map.
+	 * Note, this traverses the entire map and compares every value, which may be an expensive operation.
+	 *
+	 * @param value the value to search for
+	 * @return a key that maps to value, if present, or null if value cannot be found
+	 */
+	@SuppressWarnings("unchecked")
+	public K findKey(Object value) {
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				if (Objects.equals(leaf.values[i], value)) return (K) leaf.keys[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the given key, if present, and returns the value that was associated with it, or {@link #defaultValue}
+	 * if the key was not present.
+	 *
+	 * @param key a non-null K key, or something that can be compared with one
+	 * @return the value that was associated with key, or {@link #defaultValue} if it wasn't present
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if (key == null) return defaultValue;
+		Node node = root;
+		for (int h = 0; h < height; h++) {
+			Branch b = (Branch) node;
+			int idx = upperBound(b.keys, b.count - 1, key);
+			path[h] = b;
+			pathIndex[h] = idx;
+			node = b.children[idx];
+		}
+		Leaf leaf = (Leaf) node;
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx >= leaf.count || compare(leaf.keys[idx], key) != 0) return defaultValue;
+		V old = (V) leaf.values[idx];
+		int move = leaf.count - idx - 1;
+		if (move > 0) {
+			System.arraycopy(leaf.keys, idx + 1, leaf.keys, idx, move);
+			System.arraycopy(leaf.values, idx + 1, leaf.values, idx, move);
+		}
+		leaf.keys[--leaf.count] = null;
+		leaf.values[leaf.count] = null;
+		size--;
+		for (int h = height - 1; h >= 0; h--) {
+			Branch b = path[h];
+			int ci = pathIndex[h];
+			b.sizes[ci]--;
+			if (b.children[ci].count < MIN_COUNT) {
+				rebalance(b, ci);
+			}
+		}
+		if (height > 0 && root.count == 1) {
+			root = ((Branch) root).children[0];
+			height--;
+		}
+		return old;
+	}
+
+	/**
+	 * Fixes an underfull child of {@code parent} at {@code ci}, either by merging it with a sibling or by moving
+	 * entries over from a sibling.
+	 */
+	private void rebalance(Branch parent, int ci) {
+		int a = ci > 0 ? ci - 1 : ci;
+		Node leftNode = parent.children[a], rightNode = parent.children[a + 1];
+		int total = leftNode.count + rightNode.count;
+		if (leftNode instanceof Leaf) {
+			Leaf left = (Leaf) leftNode, right = (Leaf) rightNode;
+			if (total <= NODE_CAPACITY) {
+				System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+				System.arraycopy(right.values, 0, left.values, left.count, right.count);
+				left.count = total;
+				left.next = right.next;
+				if (right.next != null) right.next.prev = left;
+				parent.sizes[a] = total;
+				removeChild(parent, a + 1);
+			} else {
+				int leftCount = total >>> 1;
+				if (left.count > leftCount) {
+					int m = left.count - leftCount;
+					System.arraycopy(right.keys, 0, right.keys, m, right.count);
+					System.arraycopy(right.values, 0, right.values, m, right.count);
+					System.arraycopy(left.keys, leftCount, right.keys, 0, m);
+					System.arraycopy(left.values, leftCount, right.values, 0, m);
+					Utilities.clear(left.keys, leftCount, m);
+					Utilities.clear(left.values, leftCount, m);
+				} else {
+					int m = leftCount - left.count;
+					System.arraycopy(right.keys, 0, left.keys, left.count, m);
+					System.arraycopy(right.values, 0, left.values, left.count, m);
+					System.arraycopy(right.keys, m, right.keys, 0, right.count - m);
+					System.arraycopy(right.values, m, right.values, 0, right.count - m);
+					Utilities.clear(right.keys, right.count - m, m);
+					Utilities.clear(right.values, right.count - m, m);
+				}
+				left.count = leftCount;
+				right.count = total - leftCount;
+				parent.keys[a] = right.keys[0];
+				parent.sizes[a] = left.count;
+				parent.sizes[a + 1] = right.count;
+			}
+		} else {
+			Branch left = (Branch) leftNode, right = (Branch) rightNode;
+			if (total <= NODE_CAPACITY) {
+				left.keys[left.count - 1] = parent.keys[a];
+				System.arraycopy(right.keys, 0, left.keys, left.count, right.count - 1);
+				System.arraycopy(right.children, 0, left.children, left.count, right.count);
+				System.arraycopy(right.sizes, 0, left.sizes, left.count, right.count);
+				left.count = total;
+				parent.sizes[a] += parent.sizes[a + 1];
+				removeChild(parent, a + 1);
+			} else {
+				int leftCount = total >>> 1;
+				if (left.count > leftCount) {
+					int m = left.count - leftCount;
+					System.arraycopy(right.children, 0, right.children, m, right.count);
+					System.arraycopy(right.sizes, 0, right.sizes, m, right.count);
+					System.arraycopy(right.keys, 0, right.keys, m, right.count - 1);
+					right.keys[m - 1] = parent.keys[a];
+					System.arraycopy(left.children, leftCount, right.children, 0, m);
+					System.arraycopy(left.sizes, leftCount, right.sizes, 0, m);
+					System.arraycopy(left.keys, leftCount, right.keys, 0, m - 1);
+					parent.keys[a] = left.keys[leftCount - 1];
+					Utilities.clear(left.children, leftCount, m);
+					Utilities.clear(left.keys, leftCount - 1, m);
+				} else {
+					int m = leftCount - left.count;
+					left.keys[left.count - 1] = parent.keys[a];
+					System.arraycopy(right.children, 0, left.children, left.count, m);
+					System.arraycopy(right.sizes, 0, left.sizes, left.count, m);
+					System.arraycopy(right.keys, 0, left.keys, left.count, m - 1);
+					parent.keys[a] = right.keys[m - 1];
+					System.arraycopy(right.children, m, right.children, 0, right.count - m);
+					System.arraycopy(right.sizes, m, right.sizes, 0, right.count - m);
+					System.arraycopy(right.keys, m, right.keys, 0, right.count - m - 1);
+					Utilities.clear(right.children, right.count - m, m);
+					Utilities.clear(right.keys, right.count - m - 1, m);
+				}
+				left.count = leftCount;
+				right.count = total - leftCount;
+				parent.sizes[a] = sizeOf(left);
+				parent.sizes[a + 1] = sizeOf(right);
+			}
+		}
+	}
+
+	/**
+	 * Removes the child at {@code ci}, which must be greater than 0, along with the separator to its left.
+	 */
+	private static void removeChild(Branch b, int ci) {
+		int move = b.count - ci - 1;
+		if (move > 0) {
+			System.arraycopy(b.children, ci + 1, b.children, ci, move);
+			System.arraycopy(b.sizes, ci + 1, b.sizes, ci, move);
+			System.arraycopy(b.keys, ci, b.keys, ci - 1, move);
+		}
+		b.children[--b.count] = null;
+		b.keys[b.count - 1] = null;
+	}
+
+	/**
+	 * Returns true if the map has one or more items.
+	 */
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Returns the number of key-value mappings in this map. This runs in O(1) time.
+	 *
+	 * @return the number of key-value mappings in this map
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the map is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the default value, a {@code V} which is returned by {@link #get(Object)} if the key is not found.
+	 * If not changed, the default value is null.
+	 *
+	 * @return the current default value
+	 */
+	public V getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Sets the default value, a {@code V} which is returned by {@link #get(Object)} if the key is not found.
+	 * If not changed, the default value is null. Note that {@link #getOrDefault(Object, Object)} is also available,
+	 * which allows specifying a "not-found" value per-call.
+	 *
+	 * @param defaultValue may be any V object or null; should usually be one that doesn't occur as a typical value
+	 */
+	public void setDefaultValue(V defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Removes all entries from this map, and discards all nodes.
+	 */
+	@Override
+	public void clear() {
+		root = new Leaf();
+		height = 0;
+		size = 0;
+		Utilities.clear(path);
+	}
+
+	/**
+	 * Gets the lowest key in this map.
+	 *
+	 * @return the lowest key
+	 * @throws IllegalStateException if this map is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public K firstKey() {
+		if (size == 0)
+			throw new IllegalStateException("Can't get the firstKey() of an empty ObjectObjectSortedMap.");
+		return (K) firstLeaf().keys[0];
+	}
+
+	/**
+	 * Gets the highest key in this map.
+	 *
+	 * @return the highest key
+	 * @throws IllegalStateException if this map is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public K lastKey() {
+		if (size == 0)
+			throw new IllegalStateException("Can't get the lastKey() of an empty ObjectObjectSortedMap.");
+		Leaf leaf = lastLeaf();
+		return (K) leaf.keys[leaf.count - 1];
+	}
+
+	/**
+	 * Gets the greatest key in this map that is less than or equal to {@code key}, or null if there is no such key.
+	 *
+	 * @param key the key to search for; must not be null
+	 * @return the greatest key less than or equal to {@code key}, or null if none is present
+	 */
+	@SuppressWarnings("unchecked")
+	public K floorKey(K key) {
+		Leaf leaf = findLeaf(key);
+		int idx = upperBound(leaf.keys, leaf.count, key) - 1;
+		if (idx >= 0) return (K) leaf.keys[idx];
+		leaf = leaf.prev;
+		return leaf == null ? null : (K) leaf.keys[leaf.count - 1];
+	}
+
+	/**
+	 * Gets the greatest key in this map that is strictly less than {@code key}, or null if there is no such key.
+	 *
+	 * @param key the key to search for; must not be null
+	 * @return the greatest key less than {@code key}, or null if none is present
+	 */
+	@SuppressWarnings("unchecked")
+	public K lowerKey(K key) {
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key) - 1;
+		if (idx >= 0) return (K) leaf.keys[idx];
+		leaf = leaf.prev;
+		return leaf == null ? null : (K) leaf.keys[leaf.count - 1];
+	}
+
+	/**
+	 * Gets the least key in this map that is greater than or equal to {@code key}, or null if there is no such key.
+	 *
+	 * @param key the key to search for; must not be null
+	 * @return the least key greater than or equal to {@code key}, or null if none is present
+	 */
+	@SuppressWarnings("unchecked")
+	public K ceilingKey(K key) {
+		Leaf leaf = findLeaf(key);
+		int idx = lowerBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count) return (K) leaf.keys[idx];
+		leaf = leaf.next;
+		return leaf == null ? null : (K) leaf.keys[0];
+	}
+
+	/**
+	 * Gets the least key in this map that is strictly greater than {@code key}, or null if there is no such key.
+	 *
+	 * @param key the key to search for; must not be null
+	 * @return the least key greater than {@code key}, or null if none is present
+	 */
+	@SuppressWarnings("unchecked")
+	public K higherKey(K key) {
+		Leaf leaf = findLeaf(key);
+		int idx = upperBound(leaf.keys, leaf.count, key);
+		if (idx < leaf.count) return (K) leaf.keys[idx];
+		leaf = leaf.next;
+		return leaf == null ? null : (K) leaf.keys[0];
+	}
+
+	/**
+	 * Gets the number of keys in this map that are strictly less than {@code key}. If {@code key} is present, this is
+	 * its index in the sorted order, and can be given to {@link #keyAt(int)} or {@link #valueAt(int)}. The number of
+	 * keys in a range from {@code a} inclusive to {@code b} exclusive is {@code rank(b) - rank(a)}.
+	 *
+	 * @param key any non-null K; does not need to be present
+	 * @return how many keys are less than {@code key}
+	 */
+	public int rank(K key) {
+		Node node = root;
+		int r = 0;
+		for (int h = height; h > 0; h--) {
+			Branch b = (Branch) node;
+			int idx = upperBound(b.keys, b.count - 1, key);
+			for (int i = 0; i < idx; i++) {
+				r += b.sizes[i];
+			}
+			node = b.children[idx];
+		}
+		return r + lowerBound(node.keys, node.count, key);
+	}
+
+	/**
+	 * Descends to the leaf holding the entry at the given sorted {@code index}, and stores the index within that leaf
+	 * in {@link #indexInLeaf}.
+	 */
+	protected Leaf leafAt(int index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException("index can't be < 0 or >= size: " + index + " >= " + size);
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			Branch b = (Branch) node;
+			int i = 0;
+			while (index >= b.sizes[i]) {
+				index -= b.sizes[i++];
+			}
+			node = b.children[i];
+		}
+		indexInLeaf = index;
+		return (Leaf) node;
+	}
+
+	/**
+	 * Gets the key at the given index in sorted order, where index 0 is the lowest key.
+	 *
+	 * @param index must be at least 0 and less than {@link #size()}
+	 * @return the key at the given sorted index
+	 */
+	@SuppressWarnings("unchecked")
+	public K keyAt(int index) {
+		Leaf leaf = leafAt(index);
+		return (K) leaf.keys[indexInLeaf];
+	}
+
+	/**
+	 * Gets the value associated with the key at the given index in sorted order, where index 0 is the lowest key.
+	 *
+	 * @param index must be at least 0 and less than {@link #size()}
+	 * @return the value associated with the key at the given sorted index
+	 */
+	@SuppressWarnings("unchecked")
+	public V valueAt(int index) {
+		Leaf leaf = leafAt(index);
+		return (V) leaf.values[indexInLeaf];
+	}
+
+	@Override
+	public int hashCode() {
+		int h = 0;
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				Object v = leaf.values[i];
+				h += leaf.keys[i].hashCode() ^ (v == null ? 0 : v.hashCode());
+			}
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof Map)) {
+			return false;
+		}
+		Map<?, ?> other = (Map<?, ?>) obj;
+		if (other.size() != size) {
+			return false;
+		}
+		try {
+			for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+				for (int i = 0; i < leaf.count; i++) {
+					Object value = leaf.values[i];
+					if (value == null) {
+						if (!(other.get(leaf.keys[i]) == null && other.containsKey(leaf.keys[i]))) {
+							return false;
+						}
+					} else if (!value.equals(other.get(leaf.keys[i]))) {
+						return false;
+					}
+				}
+			}
+		} catch (ClassCastException | NullPointerException unused) {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with the given entrySeparator and without braces.
+	 * This is different from {@link #toString()}, which includes braces by default.
+	 *
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator) {
+		return toString(entrySeparator, false);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(32), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Makes a String from the contents of this ObjectObjectSortedMap, but uses the given {@link Appender} and
+	 * {@link Appender} to convert each key and each value to a customizable representation and append them
+	 * to a temporary StringBuilder.
+	 *
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a function that takes an Appendable CharSequence and a K, and returns the modified sequence
+	 * @param valueAppender     a function that takes an Appendable CharSequence and a V, and returns the modified sequence
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator, String keyValueSeparator, boolean braces,
+						   Appender<K> keyAppender, Appender<V> valueAppender) {
+		return appendTo(new StringBuilder(), entrySeparator, keyValueSeparator, braces, keyAppender, valueAppender).toString();
+	}
+
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, Appender::append, Appender::append);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this ObjectObjectSortedMap, but uses the given
+	 * {@link Appender} and {@link Appender} to convert each key and each value to a customizable
+	 * representation and append them to {@code sb}. Entries are appended in ascending key order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a function that takes an Appendable CharSequence and a K, and returns the modified sequence
+	 * @param valueAppender     a function that takes an Appendable CharSequence and a V, and returns the modified sequence
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or CharList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															Appender<K> keyAppender, Appender<V> valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+				for (int i = 0; i < leaf.count; i++) {
+					if (!first) sb.append(entrySeparator);
+					first = false;
+					keyAppender.apply(sb, (K) leaf.keys[i]).append(keyValueSeparator);
+					valueAppender.apply(sb, (V) leaf.values[i]);
+				}
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Performs the given action for each entry in this map, in ascending key order, until all entries
+	 * have been processed or the action throws an exception. This does not allocate.
+	 *
+	 * @param action The action to be performed for each entry
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for (Leaf leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				action.accept((K) leaf.keys[i], (V) leaf.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator}, which iterates in ascending key order.
+	 * You can remove an Entry from this map using this Iterator.
+	 *
+	 * @return an {@link Iterator} over key-value pairs as {@link Map.Entry} values
+	 */
+	@Override
+	public EntryIterator<K, V> iterator() {
+		return new EntryIterator<>(this);
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator} over only the entries with keys greater than or equal to
+	 * {@code fromKey} and less than {@code toKey}, in ascending key order. This takes {@code O(log(n))} time to
+	 * find the start of the range, and then each step is constant-time.
+	 *
+	 * @param fromKey the lowest key to iterate over, inclusive
+	 * @param toKey   the key to stop iterating at, exclusive
+	 * @return an {@link Iterator} over key-value pairs as {@link Map.Entry} values, in the given range
+	 */
+	public EntryIterator<K, V> range(K fromKey, K toKey) {
+		return new EntryIterator<>(this, fromKey, toKey);
+	}
+
+	/**
+	 * Creates a new {@link KeyIterator} over only the keys greater than or equal to {@code fromKey} and less than
+	 * {@code toKey}, in ascending order.
+	 *
+	 * @param fromKey the lowest key to iterate over, inclusive
+	 * @param toKey   the key to stop iterating at, exclusive
+	 * @return an iterator over the keys in the given range
+	 */
+	public KeyIterator<K, V> keyRange(K fromKey, K toKey) {
+		return new KeyIterator<>(this, fromKey, toKey);
+	}
+
+	/**
+	 * Creates a new {@link ValueIterator} over only the values with keys greater than or equal to {@code fromKey}
+	 * and less than {@code toKey}, in ascending key order.
+	 *
+	 * @param fromKey the lowest key to iterate over, inclusive
+	 * @param toKey   the key to stop iterating at, exclusive
+	 * @return an iterator over the values in the given range
+	 */
+	public ValueIterator<K, V> valueRange(K fromKey, K toKey) {
+		return new ValueIterator<>(this, fromKey, toKey);
+	}
+
+	/**
+	 * Returns a Set view of the keys contained in this map, in ascending order. The set is backed by the map, so
+	 * changes to the map are reflected in the set. It supports removal, but not addition.
+	 *
+	 * @return a set view of the keys contained in this map
+	 */
+	@Override
+	public Keys<K, V> keySet() {
+		return new Keys<>(this);
+	}
+
+	/**
+	 * Returns a Collection of the values in the map, in the ascending order of their keys. Remove is supported by
+	 * the Collection's iterator.
+	 *
+	 * @return a {@link Collection} of V values
+	 */
+	@Override
+	public Values<K, V> values() {
+		return new Values<>(this);
+	}
+
+	/**
+	 * Returns a Set of Map.Entry, containing the entries in the map in ascending key order. Remove is supported by the
+	 * Set's iterator.
+	 *
+	 * @return a {@link java.util.Set} of {@link Map.Entry} key-value pairs
+	 */
+	@Override
+	public Entries<K, V> entrySet() {
+		return new Entries<>(this);
+	}
+
+	public static class Entry<K, V> implements Map.Entry<K, V> {
+		public K key;
+		public V value;
+
+		public Entry() {
+		}
+
+		public Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		public Entry(Map.Entry<? extends K, ? extends V> entry) {
+			key = entry.getKey();
+			value = entry.getValue();
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		/**
+		 * Replaces the value in this Entry only; this does not write through to a map.
+		 *
+		 * @param value new value to be stored in this entry
+		 * @return old value corresponding to the entry
+		 */
+		@Override
+		public V setValue(V value) {
+			V old = this.value;
+			this.value = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(key) ^ Objects.hashCode(value);
+		}
+	}
+
+	/**
+	 * Walks the linked leaves of an ObjectObjectSortedMap, optionally stopping before an exclusive upper bound.
+	 * Removing an entry through this iterator finds its place in the tree again afterward, so it stays valid even if
+	 * nodes were merged.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 */
+	public static abstract class MapIterator<K, V> {
+		public boolean hasNext;
+
+		protected final ObjectObjectSortedMap<K, V> map;
+		protected final boolean bounded;
+		protected final K fromKey, toKey;
+		protected Leaf leaf;
+		protected int index;
+		protected K currentKey;
+		protected boolean valid;
+
+		public MapIterator(ObjectObjectSortedMap<K, V> map) {
+			this.map = map;
+			bounded = false;
+			fromKey = null;
+			toKey = null;
+			reset();
+		}
+
+		public MapIterator(ObjectObjectSortedMap<K, V> map, K fromKey, K toKey) {
+			this.map = map;
+			bounded = true;
+			this.fromKey = fromKey;
+			this.toKey = toKey;
+			reset();
+		}
+
+		public void reset() {
+			valid = false;
+			if (bounded) {
+				seek(fromKey);
+			} else {
+				leaf = map.firstLeaf();
+				index = 0;
+				findNextIndex();
+			}
+		}
+
+		protected void seek(K key) {
+			leaf = map.findLeaf(key);
+			index = map.lowerBound(leaf.keys, leaf.count, key);
+			findNextIndex();
+		}
+
+		protected void findNextIndex() {
+			while (leaf != null && index >= leaf.count) {
+				leaf = leaf.next;
+				index = 0;
+			}
+			hasNext = leaf != null && (!bounded || map.compare(leaf.keys[index], toKey) < 0);
+		}
+
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		/**
+		 * Moves past the current position and records the key that was there in {@link #currentKey}; returns the
+		 * leaf that held that key, so subclasses can read the value.
+		 */
+		@SuppressWarnings("unchecked")
+		protected Leaf advance() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			Leaf current = leaf;
+			currentKey = (K) leaf.keys[index++];
+			valid = true;
+			findNextIndex();
+			return current;
+		}
+
+		public void remove() {
+			if (!valid) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			valid = false;
+			map.remove(currentKey);
+			seek(currentKey);
+		}
+	}
+
+	public static class KeyIterator<K, V> extends MapIterator<K, V> implements Iterable<K>, Iterator<K> {
+		public KeyIterator(ObjectObjectSortedMap<K, V> map) {
+			super(map);
+		}
+
+		public KeyIterator(ObjectObjectSortedMap<K, V> map, K fromKey, K toKey) {
+			super(map, fromKey, toKey);
+		}
+
+		@Override
+		public Iterator<K> iterator() {
+			return this;
+		}
+
+		@Override
+		public K next() {
+			advance();
+			return currentKey;
+		}
+
+		/**
+		 * Returns a new ObjectList containing the remaining keys.
+		 */
+		public ObjectList<K> toList() {
+			ObjectList<K> list = new ObjectList<>(map.size);
+			while (hasNext) {
+				list.add(next());
+			}
+			return list;
+		}
+	}
+
+	public static class ValueIterator<K, V> extends MapIterator<K, V> implements Iterable<V>, Iterator<V> {
+		public ValueIterator(ObjectObjectSortedMap<K, V> map) {
+			super(map);
+		}
+
+		public ValueIterator(ObjectObjectSortedMap<K, V> map, K fromKey, K toKey) {
+			super(map, fromKey, toKey);
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V next() {
+			int i = index;
+			return (V) advance().values[i];
+		}
+
+		/**
+		 * Returns a new ObjectList containing the remaining values.
+		 */
+		public ObjectList<V> toList() {
+			ObjectList<V> list = new ObjectList<>(map.size);
+			while (hasNext) {
+				list.add(next());
+			}
+			return list;
+		}
+	}
+
+	public static class EntryIterator<K, V> extends MapIterator<K, V> implements Iterable<Map.Entry<K, V>>, Iterator<Map.Entry<K, V>> {
+		public EntryIterator(ObjectObjectSortedMap<K, V> map) {
+			super(map);
+		}
+
+		public EntryIterator(ObjectObjectSortedMap<K, V> map, K fromKey, K toKey) {
+			super(map, fromKey, toKey);
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<K, V> next() {
+			int i = index;
+			V value = (V) advance().values[i];
+			return new Entry<>(currentKey, value);
+		}
+	}
+
+	public static class Keys<K, V> extends AbstractSet<K> {
+		protected ObjectObjectSortedMap<K, V> map;
+
+		public Keys(ObjectObjectSortedMap<K, V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return map.containsKey(o);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (!map.containsKey(o)) return false;
+			map.remove(o);
+			return true;
+		}
+
+		@Override
+		public KeyIterator<K, V> iterator() {
+			return new KeyIterator<>(map);
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+	}
+
+	public static class Values<K, V> extends AbstractCollection<V> {
+		protected ObjectObjectSortedMap<K, V> map;
+
+		public Values(ObjectObjectSortedMap<K, V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return map.containsValue(o);
+		}
+
+		@Override
+		public ValueIterator<K, V> iterator() {
+			return new ValueIterator<>(map);
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+	}
+
+	public static class Entries<K, V> extends AbstractSet<Map.Entry<K, V>> {
+		protected ObjectObjectSortedMap<K, V> map;
+
+		public Entries(ObjectObjectSortedMap<K, V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+			Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+			Object k = e.getKey();
+			return map.containsKey(k) && Objects.equals(map.get(k), e.getValue());
+		}
+
+		@Override
+		public EntryIterator<K, V> iterator() {
+			return new EntryIterator<>(map);
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+	}
+
+	/**
+	 * Constructs an empty map given the types as generic type arguments.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 * @return a new map containing nothing
+	 */
+	public static <K, V> ObjectObjectSortedMap<K, V> with() {
+		return new ObjectObjectSortedMap<>();
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static <K, V> ObjectObjectSortedMap<K, V> with(K key0, V value0) {
+		ObjectObjectSortedMap<K, V> map = new ObjectObjectSortedMap<>();
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param <K>    the type of keys
+	 * @param <V>    the type of values
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static <K, V> ObjectObjectSortedMap<K, V> with(K key0, V value0, K key1, V value1) {
+		ObjectObjectSortedMap<K, V> map = new ObjectObjectSortedMap<>();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param key2   a K key
+	 * @param value2 a V value
+	 * @param <K>    the type of keys
+	 * @param <V>    the type of values
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static <K, V> ObjectObjectSortedMap<K, V> with(K key0, V value0, K key1, V value1, K key2, V value2) {
+		ObjectObjectSortedMap<K, V> map = new ObjectObjectSortedMap<>();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+}
@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A fixed-capacity ring buffer of items. It never grows; when it is full, {@link #addLast(Object)} overwrites
+ * the oldest item instead, so the newest {@link #capacity()} items are always kept with no reallocation. This suits
+ * telemetry windows, frame-time histories, and replay buffers, which need a strictly bounded footprint.
+ * <br>
+ * Indices work as they do in {@link ObjectDeque}: index 0 is the oldest item still held, and {@link #get(int)} runs in
+ * O(1) time. Items can be removed from either end. {@link #copyTo(Object[], int)} copies the items in order to an array
+ * with at most two {@link System#arraycopy} calls, unrolling the wrap-around.
+ *
+ * @see ObjectDeque ObjectDeque grows when it is full instead of overwriting.
+ */
+public class ObjectRing<T> extends AbstractCollection<T> implements EnhancedCollection<T> {
+	/**
+	 * The backing array, which always has a length equal to {@link #capacity()}. Items are stored starting at
+	 * {@link #head} and wrap around to index 0.
+	 */
+	protected final T[] items;
+	/**
+	 * The index in {@link #items} of the oldest item.
+	 */
+	protected int head;
+	/**
+	 * How many items are currently held.
+	 */
+	protected int size;
+
+	/**
+	 * The value returned when nothing can be obtained from this ring and an exception is not meant to be thrown,
+	 * such as when calling {@link #peekFirst()} on an empty ring.
+	 */
+	public T defaultValue = null;
+
+	/**
+	 * Creates a new ObjectRing that holds at most {@code capacity} items.
+	 *
+	 * @param capacity how many items this can hold before it overwrites the oldest; must be at least 1
+	 */
+	@SuppressWarnings("unchecked")
+	public ObjectRing(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("An ObjectRing must have a capacity of at least 1, but was " + capacity);
+		}
+		items = (T[]) new Object[capacity];
+	}
+
+	/**
+	 * Creates a new ObjectRing with the same capacity, items, and default value as {@code ring}.
+	 *
+	 * @param ring another ObjectRing to copy
+	 */
+	public ObjectRing(ObjectRing<? extends T> ring) {
+		this(ring.items.length);
+		ring.copyTo(items, 0);
+		size = ring.size;
+		defaultValue = ring.defaultValue;
+	}
+
+	/**
+	 * Creates a new ObjectRing with a capacity equal to the length of {@code a}, holding all of its items.
+	 *
+	 * @param a a non-empty array
+	 */
+	public ObjectRing(T[] a) {
+		this(a.length);
+		System.arraycopy(a, 0, items, 0, a.length);
+		size = a.length;
+	}
+
+	public T getDefaultValue() {
+		return defaultValue;
+	}
+
+	public void setDefaultValue(T defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Gets the most items this can hold; this never changes.
+	 *
+	 * @return the capacity of this ring
+	 */
+	public int capacity() {
+		return items.length;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this ring holds {@link #capacity()} items, so the next {@link #addLast(Object)} will overwrite
+	 * the oldest item.
+	 *
+	 * @return true if this ring is full
+	 */
+	public boolean isFull() {
+		return size == items.length;
+	}
+
+	/**
+	 * Adds {@code value} after the newest item. If this ring is full, the oldest item is overwritten.
+	 *
+	 * @param value the item to add
+	 */
+	public void addLast(T value) {
+		final T[] items = this.items;
+		int tail = head + size;
+		if (tail >= items.length) tail -= items.length;
+		items[tail] = value;
+		if (size == items.length) {
+			if (++head == items.length) head = 0;
+		} else {
+			size++;
+		}
+	}
+
+	/**
+	 * Adds {@code value} after the newest item; the same as {@link #addLast(Object)}.
+	 *
+	 * @param value the item to add
+	 * @return true
+	 */
+	@Override
+	public boolean add(T value) {
+		addLast(value);
+		return true;
+	}
+
+	/**
+	 * Adds {@code length} items from {@code array}, starting at {@code offset}, after the newest item. If that would
+	 * go over {@link #capacity()}, the oldest items are overwritten, and only the last {@link #capacity()} items of
+	 * the given range are kept if it is longer than that. This copies with at most two {@link System#arraycopy} calls.
+	 *
+	 * @param array  the array to take items from
+	 * @param offset the first index in {@code array} to use
+	 * @param length how many items to add
+	 * @return true if any items were added
+	 */
+	@Override
+	public boolean addAll(T[] array, int offset, int length) {
+		length = Math.min(length, array.length - offset);
+		if (length <= 0) return false;
+		final T[] items = this.items;
+		final int capacity = items.length;
+		if (length >= capacity) {
+			System.arraycopy(array, offset + length - capacity, items, 0, capacity);
+			head = 0;
+			size = capacity;
+			return true;
+		}
+		int tail = head + size;
+		if (tail >= capacity) tail -= capacity;
+		int first = Math.min(length, capacity - tail);
+		System.arraycopy(array, offset, items, tail, first);
+		System.arraycopy(array, offset + first, items, 0, length - first);
+		int overflow = size + length - capacity;
+		if (overflow > 0) {
+			head += overflow;
+			if (head >= capacity) head -= capacity;
+			size = capacity;
+		} else {
+			size += length;
+		}
+		return true;
+	}
+
+	/**
+	 * Removes and returns the oldest item.
+	 *
+	 * @return the oldest item
+	 * @throws NoSuchElementException if this ring is empty
+	 */
+	public T removeFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException("ObjectRing is empty.");
+		}
+		T result = items[head];
+		items[head] = null;
+		if (++head == items.length) head = 0;
+		if (--size == 0) head = 0;
+		return result;
+	}
+
+	/**
+	 * Removes and returns the newest item.
+	 *
+	 * @return the newest item
+	 * @throws NoSuchElementException if this ring is empty
+	 */
+	public T removeLast() {
+		if (size == 0) {
+			throw new NoSuchElementException("ObjectRing is empty.");
+		}
+		int tail = head + --size;
+		if (tail >= items.length) tail -= items.length;
+		T result = items[tail];
+		items[tail] = null;
+		if (size == 0) head = 0;
+		return result;
+	}
+
+	/**
+	 * Removes and returns the oldest item, or returns {@link #getDefaultValue() defaultValue} if this ring is empty.
+	 *
+	 * @return the oldest item, or {@link #getDefaultValue() defaultValue} if this ring is empty
+	 */
+	public T pollFirst() {
+		return size == 0 ? defaultValue : removeFirst();
+	}
+
+	/**
+	 * Removes and returns the newest item, or returns {@link #getDefaultValue() defaultValue} if this ring is empty.
+	 *
+	 * @return the newest item, or {@link #getDefaultValue() defaultValue} if this ring is empty
+	 */
+	public T pollLast() {
+		return size == 0 ? defaultValue : removeLast();
+	}
+
+	/**
+	 * Returns the oldest item without removing it.
+	 *
+	 * @return the oldest item
+	 * @throws NoSuchElementException if this ring is empty
+	 */
+	public T getFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException("ObjectRing is empty.");
+		}
+		return items[head];
+	}
+
+	/**
+	 * Returns the newest item without removing it.
+	 *
+	 * @return the newest item
+	 * @throws NoSuchElementException if this ring is empty
+	 */
+	public T getLast() {
+		if (size == 0) {
+			throw new NoSuchElementException("ObjectRing is empty.");
+		}
+		int tail = head + size - 1;
+		if (tail >= items.length) tail -= items.length;
+		return items[tail];
+	}
+
+	/**
+	 * Returns the oldest item without removing it, or {@link #getDefaultValue() defaultValue} if this ring is empty.
+	 *
+	 * @return the oldest item, or {@link #getDefaultValue() defaultValue} if this ring is empty
+	 */
+	public T peekFirst() {
+		return size == 0 ? defaultValue : getFirst();
+	}
+
+	/**
+	 * Returns the newest item without removing it, or {@link #getDefaultValue() defaultValue} if this ring is empty.
+	 *
+	 * @return the newest item, or {@link #getDefaultValue() defaultValue} if this ring is empty
+	 */
+	public T peekLast() {
+		return size == 0 ? defaultValue : getLast();
+	}
+
+	/**
+	 * Returns the item at {@code index}, where 0 is the oldest item, in O(1) time. Like {@link ObjectDeque#get(int)},
+	 * negative indices refer to the oldest item and too-large indices refer to the newest item.
+	 *
+	 * @param index the index of the item to get
+	 * @return the item at {@code index}
+	 * @throws NoSuchElementException if this ring is empty
+	 */
+	public T get(int index) {
+		if (index <= 0)
+			return getFirst();
+		if (index >= size - 1)
+			return getLast();
+		int i = head + index;
+		if (i >= items.length)
+			i -= items.length;
+		return items[i];
+	}
+
+	/**
+	 * Returns the item at {@code index}, where 0 is the oldest item, in O(1) time. Like
+	 * {@link ObjectDeque#peekAt(int)}, negative indices refer to the oldest item and too-large indices refer to the
+	 * newest item, and this returns {@link #getDefaultValue() defaultValue} if this ring is empty.
+	 *
+	 * @param index the index of the item to get
+	 * @return the item at {@code index}, or {@link #getDefaultValue() defaultValue} if this ring is empty
+	 */
+	public T peekAt(int index) {
+		if (size == 0)
+			return defaultValue;
+		return get(index);
+	}
+
+	/**
+	 * Replaces the item at {@code index}, where 0 is the oldest item. Unlike {@link #get(int)}, this does nothing if
+	 * {@code index} is out of bounds.
+	 *
+	 * @param index the index of the item to replace
+	 * @param item  the new value
+	 */
+	public void set(int index, T item) {
+		if (index < 0 || index >= size)
+			return;
+		int i = head + index;
+		if (i >= items.length)
+			i -= items.length;
+		items[i] = item;
+	}
+
+	/**
+	 * Removes the item at {@code index}, where 0 is the oldest item, moving the newer items back to close the gap.
+	 *
+	 * @param index the index of the item to remove
+	 * @return the removed item
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #size()}
+	 */
+	public T removeAt(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index must be between 0 and " + (size - 1) + ", but was " + index);
+		}
+		final T[] items = this.items;
+		final int capacity = items.length;
+		int i = head + index;
+		if (i >= capacity) i -= capacity;
+		T result = items[i];
+		for (int n = index + 1; n < size; n++) {
+			int next = i + 1 == capacity ? 0 : i + 1;
+			items[i] = items[next];
+			i = next;
+		}
+		items[i] = null;
+		if (--size == 0) head = 0;
+		return result;
+	}
+
+	/**
+	 * Finds the index of the first (oldest) occurrence of {@code value}, where 0 is the oldest item.
+	 *
+	 * @param value the item to look for
+	 * @return the index of {@code value}, or -1 if it isn't present
+	 */
+	public int indexOf(Object value) {
+		final T[] items = this.items;
+		for (int n = 0, i = head; n < size; n++) {
+			if (Objects.equals(items[i], value)) return n;
+			if (++i == items.length) i = 0;
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return indexOf(value) != -1;
+	}
+
+	/**
+	 * Removes the oldest occurrence of {@code value}, if present.
+	 *
+	 * @param value the item to remove
+	 * @return true if this ring changed
+	 */
+	@Override
+	public boolean remove(Object value) {
+		int index = indexOf(value);
+		if (index == -1) return false;
+		removeAt(index);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		final int first = Math.min(size, items.length - head);
+		Arrays.fill(items, head, head + first, null);
+		Arrays.fill(items, 0, size - first, null);
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Copies every item, oldest first, into {@code dest} starting at {@code offset}. This uses at most two
+	 * {@link System#arraycopy} calls, one for the items before the wrap-around and one for the items after it.
+	 *
+	 * @param dest   the array to copy into; must have room for {@link #size()} items after {@code offset}
+	 * @param offset the first index in {@code dest} to write to
+	 * @return {@code dest}, after modifications
+	 */
+	public <E> E[] copyTo(E[] dest, int offset) {
+		final int first = Math.min(size, items.length - head);
+		System.arraycopy(items, head, dest, offset, first);
+		System.arraycopy(items, 0, dest, offset + first, size - first);
+		return dest;
+	}
+
+	/**
+	 * Copies every item, oldest first, into the start of {@code dest}.
+	 *
+	 * @param dest the array to copy into; must have room for {@link #size()} items
+	 * @return {@code dest}, after modifications
+	 * @see #copyTo(Object[], int)
+	 */
+	public <E> E[] copyTo(E[] dest) {
+		return copyTo(dest, 0);
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return new ObjectRingIterator<>(this);
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with a delimiter of {@code ", "} and square brackets enabled.
+	 *
+	 * @return the square-bracketed String representation of this ObjectRing, with items separated by ", "
+	 */
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	@Override
+	public int hashCode() {
+		final T[] items = this.items;
+		int hash = size + 1;
+		for (int n = 0, i = head; n < size; n++) {
+			hash *= 29; // avoids LEA pessimization
+			if (items[i] != null)
+				hash += items[i].hashCode();
+			if (++i == items.length) i = 0;
+		}
+		return hash;
+	}
+
+	/**
+	 * Compares the items of this and {@code o} in order, using {@link Objects#equals(Object, Object)}, if {@code o} is
+	 * also a ObjectRing. The capacities do not need to match.
+	 *
+	 * @param o object to be compared for equality with this ring
+	 * @return true if this is equal to o, or false otherwise
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this)
+			return true;
+		if (!(o instanceof ObjectRing))
+			return false;
+		ObjectRing<?> other = (ObjectRing<?>) o;
+		if (size != other.size)
+			return false;
+		for (int n = 0, i = head, j = other.head; n < size; n++) {
+			if (!Objects.equals(items[i], other.items[j]))
+				return false;
+			if (++i == items.length) i = 0;
+			if (++j == other.items.length) j = 0;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a new ObjectRing with a capacity equal to the number of items given, holding those items.
+	 *
+	 * @param varargs one or more items
+	 * @return a new full ObjectRing holding the given items
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> ObjectRing<T> with(T... varargs) {
+		return new ObjectRing<>(varargs);
+	}
+
+	/**
+	 * A {@link ObjectIterator} over the items in a ObjectRing, oldest first.
+	 */
+	public static class ObjectRingIterator<T> implements Iterator<T> {
+		protected final ObjectRing<T> ring;
+		protected int index;
+		protected boolean valid = false;
+
+		public ObjectRingIterator(ObjectRing<T> ring) {
+			this.ring = ring;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < ring.size;
+		}
+
+		@Override
+		public T next() {
+			if (index >= ring.size) {
+				throw new NoSuchElementException();
+			}
+			valid = true;
+			int i = ring.head + index++;
+			if (i >= ring.items.length) i -= ring.items.length;
+			return ring.items[i];
+		}
+
+		/**
+		 * Removes the item most recently returned by {@link #next()}.
+		 */
+		@Override
+		public void remove() {
+			if (!valid) {
+				throw new IllegalStateException("remove() can only be called once per call to next().");
+			}
+			ring.removeAt(--index);
+			valid = false;
+		}
+
+		/**
+		 * Returns this iterator to the oldest item, so it can be used again.
+		 */
+		public void reset() {
+			index = 0;
+			valid = false;
+		}
+	}
+}
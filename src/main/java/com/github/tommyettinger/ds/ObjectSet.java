@@ -140,13 +140,18 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 	 * Creates a new set identical to the specified set.
 	 */
 	public ObjectSet(ObjectSet<? extends T> set) {
+		set.scrub();
 		loadFactor = set.loadFactor;
 		threshold = set.threshold;
 		mask = set.mask;
 		shift = set.shift;
 		hashMultiplier = set.hashMultiplier;
-		keyTable = Arrays.copyOf(set.keyTable, set.keyTable.length);
 		size = set.size;
+		if (set.isHashed()) {
+			keyTable = Arrays.copyOf(set.keyTable, set.keyTable.length);
+		} else {
+			rehashFrom(set.keyTable);
+		}
 	}
 
 	/**
@@ -449,7 +454,8 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 	}
 
 	private void resetTo(ObjectSet<? extends T> set) {
-		if(loadFactor == set.loadFactor) {
+		set.scrub();
+		if(loadFactor == set.loadFactor && set.isHashed()) {
 			threshold = set.threshold;
 			mask = set.mask;
 			shift = set.shift;
@@ -518,6 +524,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 
 	public boolean addAll(ObjectSet<T> set) {
 		ensureCapacity(set.size);
+		set.scrub();
 		T[] keyTable = set.keyTable;
 		int oldSize = size;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -569,6 +576,30 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 		}
 	}
 
+	/**
+	 * Removes the item at {@code index} in {@link #keyTable}, then moves later items back as needed so linear probing
+	 * can still find them. This is what an iterator uses to remove the item it last returned.
+	 *
+	 * @param index the index in {@link #keyTable} of an item to remove
+	 * @return the index of the slot that was left empty, which is {@code index} unless a later item was moved into it
+	 */
+	protected int removeSlot(int index) {
+		T[] keyTable = this.keyTable;
+		int i = index, mask = this.mask, next = i + 1 & mask;
+		T key;
+		while ((key = keyTable[next]) != null) {
+			int placement = place(key);
+			if ((next - placement & mask) > (i - placement & mask)) {
+				keyTable[i] = key;
+				i = next;
+			}
+			next = next + 1 & mask;
+		}
+		keyTable[i] = null;
+		size--;
+		return i;
+	}
+
 	/**
 	 * Returns true if the set has one or more items.
 	 */
@@ -639,6 +670,48 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 		Utilities.clear(keyTable);
 	}
 
+	/**
+	 * Makes sure that {@link #keyTable} holds only the items actually in this set, so every slot in it can be read.
+	 * This is called before anything reads the whole table, such as iteration or copying. It does nothing here, but
+	 * {@link StampedObjectSet} uses it to remove items left in the table by its constant-time {@link #clear()}.
+	 */
+	protected void scrub() {
+	}
+
+	/**
+	 * Fills a new {@link #keyTable}, the same length as {@code oldKeyTable}, with every non-null key from
+	 * {@code oldKeyTable} placed by linear probing. This is private so constructors can use it without calling
+	 * {@link #resize(int)} or {@link #addResize(Object)}, which a subclass may override to touch fields it hasn't
+	 * set up yet.
+	 *
+	 * @param oldKeyTable a key table from a set that might not use linear probing
+	 */
+	@SuppressWarnings("unchecked")
+	private void rehashFrom(T[] oldKeyTable) {
+		T[] keyTable = this.keyTable = (T[]) new Object[oldKeyTable.length];
+		for (T key : oldKeyTable) {
+			if (key != null) {
+				for (int i = place(key); ; i = i + 1 & mask) {
+					if (keyTable[i] == null) {
+						keyTable[i] = key;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if every item in {@link #keyTable} is in the position that {@link #place(Object)} and linear probing
+	 * would give it, so the table can be copied straight into another set. This is always true here, but
+	 * {@link HopscotchObjectSet} returns false, because it can leave gaps between an item and its home position.
+	 *
+	 * @return true if the table can be copied directly into a set that uses linear probing
+	 */
+	protected boolean isHashed() {
+		return true;
+	}
+
 	@Override
 	public boolean contains(Object key) {
 		if (key == null) return false;
@@ -665,6 +738,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 	}
 
 	public T first() {
+		scrub();
 		T[] keyTable = this.keyTable;
 		T k = null;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -687,6 +761,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 	}
 
 	protected void resize(int newSize) {
+		scrub();
 		int oldCapacity = keyTable.length;
 		threshold = (int) (newSize * loadFactor);
 		mask = newSize - 1;
@@ -792,6 +867,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 
 	@Override
 	public int hashCode() {
+		scrub();
 		int h = size;
 		T[] keyTable = this.keyTable;
 		for (int i = 0, n = keyTable.length; i < n; i++) {
@@ -834,6 +910,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 			if (size == 0) {
 				return sb;
 			}
+			scrub();
 			T[] keyTable = this.keyTable;
 			int i = keyTable.length;
 			while (i-- > 0) {
@@ -881,6 +958,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 	 * @param newSize the target size to try to reach by removing items, if smaller than the current size
 	 */
 	public void truncate(int newSize) {
+		scrub();
 		T[] keyTable = this.keyTable;
 		newSize = Math.max(0, newSize);
 		for (int i = keyTable.length - 1; i >= 0 && size > newSize; i--) {
@@ -925,6 +1003,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 		}
 
 		public void reset() {
+			set.scrub();
 			currentIndex = -1;
 			nextIndex = -1;
 			findNextIndex();
@@ -947,20 +1026,7 @@ public class ObjectSet<T> implements Iterable<T>, Set<T>, EnhancedCollection<T>
 			if (i < 0) {
 				throw new IllegalStateException("next must be called before remove.");
 			}
-			T[] keyTable = set.keyTable;
-			int mask = set.mask, next = i + 1 & mask;
-			T key;
-			while ((key = keyTable[next]) != null) {
-				int placement = set.place(key);
-				if ((next - placement & mask) > (i - placement & mask)) {
-					keyTable[i] = key;
-					i = next;
-				}
-				next = next + 1 & mask;
-			}
-			keyTable[i] = null;
-			set.size--;
-			if (i != currentIndex) {
+			if (set.removeSlot(i) != i) {
 				--nextIndex;
 			}
 			currentIndex = -1;
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Collection;
+
+/**
+ * A disjoint-set forest (also called union-find) over any Object items, which tracks which items have been joined
+ * into the same component. This is an {@link IntUnionFind} over the indices of the items in a {@link NumberedSet}, so
+ * each item is hashed once per call, and the rest of the work is done on int arrays.
+ * <br>
+ * Items are added with {@link #add(Object)}, or by {@link #union(Object, Object)} if they are not present yet. Items
+ * can't be removed, except all at once with {@link #clear()}, because that would change the indices of other items.
+ *
+ * @param <T> the type of items; should implement {@link Object#equals(Object)} and {@link Object#hashCode()}
+ * @see IntUnionFind IntUnionFind can be used directly when items are already numbered.
+ */
+public class ObjectUnionFind<T> {
+	protected final NumberedSet<T> items;
+	protected final IntUnionFind forest;
+
+	/**
+	 * Creates an empty ObjectUnionFind.
+	 */
+	public ObjectUnionFind() {
+		this(16);
+	}
+
+	/**
+	 * Creates an empty ObjectUnionFind with room for {@code capacity} items before it needs to grow.
+	 *
+	 * @param capacity how many items this can hold before it needs to grow
+	 */
+	public ObjectUnionFind(int capacity) {
+		items = new NumberedSet<>(capacity);
+		forest = new IntUnionFind(0, capacity);
+	}
+
+	/**
+	 * Creates an ObjectUnionFind holding each item in {@code coll}, each in its own component.
+	 *
+	 * @param coll a Collection of items to add
+	 */
+	public ObjectUnionFind(Collection<? extends T> coll) {
+		this(coll.size());
+		for (T item : coll) {
+			add(item);
+		}
+	}
+
+	/**
+	 * Creates a copy of {@code other}, with the same items and components.
+	 *
+	 * @param other another ObjectUnionFind to copy
+	 */
+	public ObjectUnionFind(ObjectUnionFind<? extends T> other) {
+		items = new NumberedSet<>(other.items);
+		forest = new IntUnionFind(other.forest);
+	}
+
+	/**
+	 * Adds {@code item} in its own component, if it isn't already present.
+	 *
+	 * @param item the item to add
+	 * @return the index of {@code item}, whether or not it was added
+	 */
+	public int add(T item) {
+		final int index = items.indexOf(item);
+		if (index >= 0) return index;
+		items.add(item);
+		return forest.add();
+	}
+
+	/**
+	 * Joins the components that contain {@code a} and {@code b}, first adding either one if it isn't present.
+	 *
+	 * @param a an item
+	 * @param b an item
+	 * @return true if they were in different components before, or false if nothing changed
+	 */
+	public boolean union(T a, T b) {
+		return forest.union(add(a), add(b));
+	}
+
+	/**
+	 * Gets the representative of the component that contains {@code item}, or null if {@code item} isn't present.
+	 * Two items are in the same component if and only if they have the same representative, but the representative
+	 * can change after {@link #union(Object, Object)}.
+	 *
+	 * @param item an item
+	 * @return the representative of the component containing {@code item}, or null if it isn't present
+	 */
+	public T find(Object item) {
+		final int index = items.indexOf(item);
+		return index < 0 ? null : items.getAt(forest.find(index));
+	}
+
+	/**
+	 * @param a an item
+	 * @param b an item
+	 * @return true if {@code a} and {@code b} are both present and in the same component
+	 */
+	public boolean connected(Object a, Object b) {
+		final int ia = items.indexOf(a), ib = items.indexOf(b);
+		return ia >= 0 && ib >= 0 && forest.connected(ia, ib);
+	}
+
+	/**
+	 * @param item an item
+	 * @return how many items are in the same component as {@code item}, including itself, or 0 if it isn't present
+	 */
+	public int componentSize(Object item) {
+		final int index = items.indexOf(item);
+		return index < 0 ? 0 : forest.componentSize(index);
+	}
+
+	/**
+	 * Adds every item in the same component as {@code item}, including {@code item}, to {@code into}. This takes time
+	 * proportional to the size of the component.
+	 *
+	 * @param item an item
+	 * @param into a Collection that will have the component's items added; nothing is added if {@code item} isn't
+	 *             present
+	 * @param <C>  the type of Collection to add to
+	 * @return {@code into}, after modifications
+	 */
+	public <C extends Collection<? super T>> C component(Object item, C into) {
+		final int index = items.indexOf(item);
+		if (index < 0) return into;
+		final IntList indices = forest.component(index);
+		for (int i = 0, n = indices.size(); i < n; i++) {
+			into.add(items.getAt(indices.get(i)));
+		}
+		return into;
+	}
+
+	/**
+	 * Gets every item in the same component as {@code item}, including {@code item}, in a new ObjectList.
+	 *
+	 * @param item an item
+	 * @return a new ObjectList holding the component's items, which is empty if {@code item} isn't present
+	 */
+	public ObjectList<T> component(Object item) {
+		return component(item, new ObjectList<T>(Math.max(componentSize(item), 1)));
+	}
+
+	/**
+	 * Gets the index of {@code item}, which is the int that represents it in {@link #getForest()}.
+	 *
+	 * @param item an item
+	 * @return the index of {@code item}, or -1 if it isn't present
+	 */
+	public int indexOf(Object item) {
+		return items.indexOf(item);
+	}
+
+	/**
+	 * Gets the items this holds, in the order they were added, so the item at index {@code i} is the one represented
+	 * by {@code i} in {@link #getForest()}. This should not be modified.
+	 *
+	 * @return the NumberedSet of items used by this
+	 */
+	public NumberedSet<T> getItems() {
+		return items;
+	}
+
+	/**
+	 * Gets the IntUnionFind this uses for the indices of items. This can be used for operations like
+	 * {@link IntUnionFind#labels(int[])}, but should not have ints added to it directly.
+	 *
+	 * @return the IntUnionFind used by this
+	 */
+	public IntUnionFind getForest() {
+		return forest;
+	}
+
+	public boolean contains(Object item) {
+		return items.contains(item);
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	/**
+	 * @return how many separate components there are
+	 */
+	public int componentCount() {
+		return forest.componentCount();
+	}
+
+	/**
+	 * Removes every item.
+	 */
+	public void clear() {
+		items.clear();
+		forest.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "ObjectUnionFind with " + size() + " items in " + componentCount() + " components";
+	}
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link PackedBooleanList} that can also add and remove items at its start in amortized constant time. Items are
+ * packed 64 to a {@code long} word, and occupy a contiguous range of bits starting at {@link #head}; there is free
+ * space before the head and after the tail, instead of the wrap-around a {@link BooleanDeque} uses.
+ * <br>
+ * Single-item operations ({@link #get(int)}, {@link #set(int, boolean)}, the add, remove, peek, and poll methods at
+ * either end) work with the items wherever they are, and so do bulk reads such as {@link #countTrue(int, int)},
+ * {@link #nextTrue(int)}, and {@link #equals(Object)}. Bulk changes inherited from PackedBooleanList, such as
+ * {@link #and(PackedBooleanList)}, first shift the items down so the head is at bit 0; this takes time proportional to
+ * the number of words, and only happens when the head has moved.
+ *
+ * @author Tommy Ettinger
+ * @see BooleanDeque BooleanDeque uses a byte per item, and offers more of the Deque API.
+ */
+public class PackedBooleanDeque extends PackedBooleanList {
+
+	/**
+	 * The value returned when nothing can be obtained from this deque and an exception is not meant to be thrown,
+	 * such as when calling {@link #peekFirst()} on an empty deque.
+	 */
+	public boolean defaultValue = false;
+
+	/**
+	 * The absolute bit position in {@link #words} of the first item in this deque.
+	 */
+	protected int head;
+
+	/**
+	 * Creates a new deque with a capacity of 64.
+	 */
+	public PackedBooleanDeque() {
+		super();
+	}
+
+	/**
+	 * Creates a new deque with the specified capacity, in items.
+	 *
+	 * @param capacity Any elements added beyond this will cause the backing array to be grown.
+	 */
+	public PackedBooleanDeque(int capacity) {
+		super(capacity);
+	}
+
+	/**
+	 * Creates a new deque containing the elements in the specific list or deque.
+	 *
+	 * @param list another PackedBooleanList or PackedBooleanDeque
+	 */
+	public PackedBooleanDeque(PackedBooleanList list) {
+		super(list);
+		if (list instanceof PackedBooleanDeque) {
+			defaultValue = ((PackedBooleanDeque) list).defaultValue;
+		}
+	}
+
+	/**
+	 * Creates a new deque containing the elements in the specified array.
+	 *
+	 * @param array a non-null boolean array to add to this deque
+	 */
+	public PackedBooleanDeque(boolean[] array) {
+		super(array);
+	}
+
+	/**
+	 * Creates a new instance containing the items in the specified PrimitiveCollection.OfBoolean.
+	 *
+	 * @param coll a primitive collection that will have its contents added to this
+	 */
+	public PackedBooleanDeque(OfBoolean coll) {
+		super(coll);
+	}
+
+	public boolean getDefaultValue() {
+		return defaultValue;
+	}
+
+	public void setDefaultValue(boolean defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Shifts the items down so the head is at bit 0 of word 0, if it isn't already.
+	 */
+	@Override
+	protected void align() {
+		if (head == 0) return;
+		copyBits(words, head, words, 0, size);
+		fillBits(words, size, head + size, false);
+		head = 0;
+	}
+
+	/**
+	 * Gets the absolute bit position of the head in {@link #words}; items run from there without wrapping.
+	 *
+	 * @return the bit position in {@link #words} of the item at index 0
+	 */
+	@Override
+	protected int storageStart() {
+		return head;
+	}
+
+	@Override
+	public OrderType getOrderType() {
+		return OrderType.DEQUE;
+	}
+
+	/**
+	 * Makes room for at least one item before the head, either by shifting the items up in place or by growing.
+	 */
+	private void makeRoomAtHead() {
+		align();
+		int gap = Math.max(64, (size >>> 1) + 63 & -64), capacity = words.length << 6;
+		if (capacity - size >= gap) {
+			copyBits(words, 0, words, gap, size);
+			fillBits(words, 0, gap, false);
+		} else {
+			long[] newWords = new long[gap + Math.max(64, (int) (size * 1.75f)) + 63 >>> 6];
+			System.arraycopy(words, 0, newWords, gap >>> 6, size + 63 >>> 6);
+			words = newWords;
+		}
+		head = gap;
+	}
+
+	/**
+	 * Inserts the specified element at the front of this deque.
+	 *
+	 * @param value the element to add
+	 */
+	public void addFirst(boolean value) {
+		if (head == 0) {
+			makeRoomAtHead();
+		}
+		int i = --head;
+		if (value) words[i >>> 6] |= 1L << i;
+		size++;
+	}
+
+	/**
+	 * Inserts the specified element at the end of this deque.
+	 *
+	 * @param value the element to add
+	 */
+	public void addLast(boolean value) {
+		if (head + size == words.length << 6) {
+			if (head > words.length << 4) align();
+			else resize(Math.max(64, (int) (size * 1.75f)));
+		}
+		int i = head + size++;
+		if (value) words[i >>> 6] |= 1L << i;
+	}
+
+	/**
+	 * Appends the specified element to the end of this deque; the same as {@link #addLast(boolean)}.
+	 *
+	 * @param value the element to add
+	 * @return true
+	 */
+	@Override
+	public boolean add(boolean value) {
+		addLast(value);
+		return true;
+	}
+
+	/**
+	 * Removes and returns the first element of this deque.
+	 *
+	 * @return the first element of this deque
+	 * @throws NoSuchElementException if this deque is empty
+	 */
+	public boolean removeFirst() {
+		if (size == 0) {
+			throw new NoSuchElementException("PackedBooleanDeque is empty.");
+		}
+		int i = head;
+		long bit = words[i >>> 6] & 1L << i;
+		words[i >>> 6] ^= bit;
+		if (--size == 0) head = 0;
+		else head++;
+		return bit != 0L;
+	}
+
+	/**
+	 * Removes and returns the last element of this deque.
+	 *
+	 * @return the last element of this deque
+	 * @throws NoSuchElementException if this deque is empty
+	 */
+	public boolean removeLast() {
+		if (size == 0) {
+			throw new NoSuchElementException("PackedBooleanDeque is empty.");
+		}
+		int i = head + --size;
+		long bit = words[i >>> 6] & 1L << i;
+		words[i >>> 6] ^= bit;
+		if (size == 0) head = 0;
+		return bit != 0L;
+	}
+
+	/**
+	 * Removes and returns the first element of this deque, or returns {@link #getDefaultValue() defaultValue} if
+	 * this deque is empty.
+	 *
+	 * @return the first element of this deque, or {@link #getDefaultValue() defaultValue} if this deque is empty
+	 */
+	public boolean pollFirst() {
+		return size == 0 ? defaultValue : removeFirst();
+	}
+
+	/**
+	 * Removes and returns the last element of this deque, or returns {@link #getDefaultValue() defaultValue} if
+	 * this deque is empty.
+	 *
+	 * @return the last element of this deque, or {@link #getDefaultValue() defaultValue} if this deque is empty
+	 */
+	public boolean pollLast() {
+		return size == 0 ? defaultValue : removeLast();
+	}
+
+	/**
+	 * Retrieves, but does not remove, the first element of this deque, or returns
+	 * {@link #getDefaultValue() defaultValue} if this deque is empty.
+	 *
+	 * @return the first element of this deque, or {@link #getDefaultValue() defaultValue} if this deque is empty
+	 */
+	public boolean peekFirst() {
+		return size == 0 ? defaultValue : (words[head >>> 6] & 1L << head) != 0L;
+	}
+
+	/**
+	 * Retrieves, but does not remove, the last element of this deque, or returns
+	 * {@link #getDefaultValue() defaultValue} if this deque is empty.
+	 *
+	 * @return the last element of this deque, or {@link #getDefaultValue() defaultValue} if this deque is empty
+	 */
+	public boolean peekLast() {
+		if (size == 0) return defaultValue;
+		int i = head + size - 1;
+		return (words[i >>> 6] & 1L << i) != 0L;
+	}
+
+	/**
+	 * Returns the last (tail) item in the deque (without removing it).
+	 *
+	 * @return the last element of this deque
+	 * @throws NoSuchElementException when the deque is empty
+	 */
+	public boolean last() {
+		if (size == 0) {
+			throw new NoSuchElementException("PackedBooleanDeque is empty.");
+		}
+		return peekLast();
+	}
+
+	/**
+	 * Removes and returns the last item; the same as {@link #removeLast()}.
+	 *
+	 * @return the last item, removed from this
+	 */
+	@Override
+	public boolean pop() {
+		return removeLast();
+	}
+
+	@Override
+	public boolean get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		int i = head + index;
+		return (words[i >>> 6] & 1L << i) != 0L;
+	}
+
+	@Override
+	public void set(int index, boolean value) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		int i = head + index;
+		if (value) words[i >>> 6] |= 1L << i;
+		else words[i >>> 6] &= ~(1L << i);
+	}
+
+	@Override
+	public void not(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		int i = head + index;
+		words[i >>> 6] ^= 1L << i;
+	}
+
+	/**
+	 * Removes all items from this deque, zeroing only the words that were in use.
+	 */
+	@Override
+	public void clear() {
+		if (size != 0) {
+			Arrays.fill(words, head >>> 6, head + size + 63 >>> 6, 0L);
+		}
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Creates a new PackedBooleanDeque that holds only the given items, in order.
+	 *
+	 * @param varargs either 0 or more boolean items, or an array of boolean
+	 * @return a new PackedBooleanDeque that holds the given items
+	 */
+	public static PackedBooleanDeque with(boolean... varargs) {
+		return new PackedBooleanDeque(varargs);
+	}
+}
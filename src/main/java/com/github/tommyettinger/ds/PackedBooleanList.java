@@ -0,0 +1,1204 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.ds.support.sort.BooleanComparator;
+import com.github.tommyettinger.ds.support.util.BooleanIterator;
+import com.github.tommyettinger.function.BooleanPredicate;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A resizable, ordered list of {@code boolean} items, packed 64 to a {@code long} word. This uses an eighth of the
+ * memory of a {@link BooleanList}, and can perform logical operations with another PackedBooleanList 64 items at a
+ * time, using {@link #and(PackedBooleanList)}, {@link #or(PackedBooleanList)}, {@link #xor(PackedBooleanList)},
+ * {@link #andNot(PackedBooleanList)}, and {@link #not(int, int)}. It can also count true items in a range with
+ * {@link #countTrue(int, int)} and skip over runs of false or true items with {@link #nextTrue(int)} and
+ * {@link #nextFalse(int)}. This is a good fit for large columns of per-entity flags.
+ * <br>
+ * Single-item access is slightly slower than in a BooleanList, because it needs to shift and mask a word. Bits in
+ * {@link #words} at or after {@link #size()} are always kept as 0, so you should only write to {@link #words}
+ * directly if you also maintain that.
+ * <br>
+ * Because {@link Ordered.OfBoolean#order()} must return a {@link BooleanList}, {@link #order()} here returns a new,
+ * unpacked copy; the methods from {@link Arrangeable} are all implemented directly on the packed words instead.
+ *
+ * @author Tommy Ettinger
+ * @see PackedBooleanDeque PackedBooleanDeque has fast prepend as well as append operations, with packed storage.
+ * @see BooleanList BooleanList uses a byte per item, but has slightly faster single-item access.
+ */
+public class PackedBooleanList implements PrimitiveCollection.OfBoolean, Ordered.OfBoolean, Arrangeable {
+	/**
+	 * Returns true if this implementation retains order, which it does.
+	 *
+	 * @return true
+	 */
+	public boolean keepsOrder() {
+		return true;
+	}
+
+	/**
+	 * The backing words; item {@code i} is bit {@code i & 63} of {@code words[i >>> 6]}.
+	 */
+	public long[] words;
+	protected int size;
+
+	/**
+	 * Creates an ordered list with a capacity of 64.
+	 */
+	public PackedBooleanList() {
+		this(64);
+	}
+
+	/**
+	 * Creates an ordered list with the specified capacity, in items.
+	 *
+	 * @param capacity Any elements added beyond this will cause the backing array to be grown.
+	 */
+	public PackedBooleanList(int capacity) {
+		words = new long[Math.max(1, capacity + 63 >>> 6)];
+	}
+
+	/**
+	 * Creates a new list containing the elements in the specific list or deque.
+	 *
+	 * @param list another PackedBooleanList or PackedBooleanDeque
+	 */
+	public PackedBooleanList(PackedBooleanList list) {
+		this(list.size);
+		addAll(list);
+	}
+
+	/**
+	 * Creates a new list containing the elements in the specified array.
+	 *
+	 * @param array a non-null boolean array to add to this list
+	 */
+	public PackedBooleanList(boolean[] array) {
+		this(array, 0, array.length);
+	}
+
+	/**
+	 * Creates a new list containing the elements in the specified array.
+	 *
+	 * @param array      a non-null boolean array to add to this list
+	 * @param startIndex the first index in {@code array} to use
+	 * @param count      how many items to use from {@code array}
+	 */
+	public PackedBooleanList(boolean[] array, int startIndex, int count) {
+		this(count);
+		addAll(array, startIndex, count);
+	}
+
+	/**
+	 * Creates a new instance containing the items in the specified PrimitiveCollection.OfBoolean.
+	 *
+	 * @param coll a primitive collection that will have its contents added to this
+	 */
+	public PackedBooleanList(OfBoolean coll) {
+		this(coll.size());
+		addAll(coll);
+	}
+
+	/**
+	 * Creates a new instance containing the items in the specified iterator.
+	 *
+	 * @param coll an iterator that will have its remaining contents added to this
+	 */
+	public PackedBooleanList(BooleanIterator coll) {
+		this();
+		addAll(coll);
+	}
+
+	// PACKED BIT UTILITIES
+
+	/**
+	 * Gets 64 bits from {@code words}, starting at the absolute bit position {@code bit}. Bits past the end of
+	 * {@code words} are read as 0. The position must be inside {@code words}.
+	 */
+	static long bitsAt(long[] words, int bit) {
+		int w = bit >>> 6, s = bit & 63;
+		long lo = words[w] >>> s;
+		if (s == 0 || w + 1 >= words.length) return lo;
+		return lo | words[w + 1] << 64 - s;
+	}
+
+	/**
+	 * Copies {@code count} bits from {@code src} starting at {@code srcPos} into {@code dst} starting at
+	 * {@code dstPos}, leaving other bits in {@code dst} unchanged. This handles overlap when src and dst are the same.
+	 */
+	static void copyBits(long[] src, int srcPos, long[] dst, int dstPos, int count) {
+		if (count <= 0) return;
+		if (src != dst || dstPos <= srcPos) {
+			final int end = dstPos + count;
+			while (dstPos < end) {
+				int w = dstPos >>> 6, s = dstPos & 63, n = Math.min(64 - s, end - dstPos);
+				long mask = (-1L >>> 64 - n) << s;
+				dst[w] = (dst[w] & ~mask) | (bitsAt(src, srcPos) << s & mask);
+				dstPos += n;
+				srcPos += n;
+			}
+		} else {
+			int end = dstPos + count, srcEnd = srcPos + count;
+			while (end > dstPos) {
+				int lo = Math.max(dstPos, end - 1 & -64), n = end - lo;
+				int w = lo >>> 6, s = lo & 63;
+				long mask = (-1L >>> 64 - n) << s;
+				dst[w] = (dst[w] & ~mask) | (bitsAt(src, srcEnd - n) << s & mask);
+				end = lo;
+				srcEnd -= n;
+			}
+		}
+	}
+
+	/**
+	 * Sets every bit in {@code words} from {@code from} (inclusive) to {@code to} (exclusive) to {@code value}.
+	 */
+	static void fillBits(long[] words, int from, int to, boolean value) {
+		while (from < to) {
+			int w = from >>> 6, s = from & 63, n = Math.min(64 - s, to - from);
+			long mask = (-1L >>> 64 - n) << s;
+			if (value) words[w] |= mask;
+			else words[w] &= ~mask;
+			from += n;
+		}
+	}
+
+	/**
+	 * Called before any operation that changes {@link #words} as if the first item was bit 0 of word 0.
+	 * This does nothing in a PackedBooleanList; {@link PackedBooleanDeque} overrides it to move its items so they do
+	 * start at bit 0.
+	 */
+	protected void align() {
+	}
+
+	/**
+	 * Gets the absolute bit position in {@link #words} of the item at index 0, without moving any items. Items run
+	 * from there without gaps, and every bit before or after them is 0. For a PackedBooleanList, this is always 0;
+	 * {@link PackedBooleanDeque} returns its head. Methods that only read use this instead of {@link #align()}.
+	 *
+	 * @return the bit position in {@link #words} of the item at index 0
+	 */
+	protected int storageStart() {
+		return 0;
+	}
+
+	private void checkRange(int from, int to) {
+		if (from < 0 || to > size || from > to) {
+			throw new IndexOutOfBoundsException("Invalid range: from " + from + " to " + to + " with size " + size);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(boolean value) {
+		align();
+		if (size == words.length << 6) {
+			resize(Math.max(64, (int) (size * 1.75f)));
+		}
+		if (value) words[size >>> 6] |= 1L << size;
+		size++;
+		return true;
+	}
+
+	public void add(boolean value1, boolean value2) {
+		add(value1);
+		add(value2);
+	}
+
+	public void add(boolean value1, boolean value2, boolean value3) {
+		add(value1);
+		add(value2);
+		add(value3);
+	}
+
+	public void add(boolean value1, boolean value2, boolean value3, boolean value4) {
+		add(value1);
+		add(value2);
+		add(value3);
+		add(value4);
+	}
+
+	/**
+	 * Adds every item in {@code list} to the end of this, copying whole words at a time where possible.
+	 *
+	 * @param list another PackedBooleanList or PackedBooleanDeque; may be this
+	 * @return true if this changed
+	 */
+	public boolean addAll(PackedBooleanList list) {
+		return addAll(list, 0, list.size());
+	}
+
+	/**
+	 * Adds {@code count} items from {@code list}, starting at {@code offset} in {@code list}, to the end of this.
+	 *
+	 * @param list   another PackedBooleanList or PackedBooleanDeque; may be this
+	 * @param offset the first index in {@code list} to copy
+	 * @param count  how many items to copy
+	 * @return true if this changed
+	 */
+	public boolean addAll(PackedBooleanList list, int offset, int count) {
+		if (offset + count > list.size) {
+			throw new IllegalArgumentException("offset + count must be <= list.size(): " + offset + " + " + count + " <= " + list.size);
+		}
+		if (count <= 0) return false;
+		ensureCapacity(count);
+		// list is only read, so it isn't aligned; if it is this, ensureCapacity() has already aligned it
+		copyBits(list.words, list.storageStart() + offset, words, size, count);
+		size += count;
+		return true;
+	}
+
+	@Override
+	public boolean addAll(boolean[] array, int offset, int length) {
+		if (offset + length > array.length) {
+			throw new IllegalArgumentException("offset + length must be <= array.length: " + offset + " + " + length + " <= " + array.length);
+		}
+		if (length <= 0) return false;
+		align();
+		ensureCapacity(length);
+		long[] words = this.words;
+		for (int i = offset, n = offset + length, p = size; i < n; i++, p++) {
+			if (array[i]) words[p >>> 6] |= 1L << p;
+		}
+		size += length;
+		return true;
+	}
+
+	//Kotlin-friendly operator
+	public boolean get(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		return (words[index >>> 6] & 1L << index) != 0L;
+	}
+
+	//Kotlin-friendly operator
+	public void set(int index, boolean value) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		if (value) words[index >>> 6] |= 1L << index;
+		else words[index >>> 6] &= ~(1L << index);
+	}
+
+	public void and(int index, boolean value) {
+		if (!value) set(index, false);
+		else if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+	}
+
+	public void or(int index, boolean value) {
+		if (value) set(index, true);
+		else if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+	}
+
+	public void xor(int index, boolean value) {
+		if (value) not(index);
+		else if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+	}
+
+	public void not(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		words[index >>> 6] ^= 1L << index;
+	}
+
+	public void insert(int index, boolean value) {
+		if (index > size) {
+			throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+		}
+		align();
+		if (size == words.length << 6) {
+			resize(Math.max(64, (int) (size * 1.75f)));
+		}
+		copyBits(words, index, words, index + 1, size - index);
+		size++;
+		fillBits(words, index, index + 1, value);
+	}
+
+	/**
+	 * Sets every item from {@code from} (inclusive) to {@code to} (exclusive) to {@code value}, a word at a time.
+	 *
+	 * @param from  the first index to set, inclusive
+	 * @param to    the last index to set, exclusive
+	 * @param value the value to assign
+	 */
+	public void fill(int from, int to, boolean value) {
+		checkRange(from, to);
+		align();
+		fillBits(words, from, to, value);
+	}
+
+	// WORD-PARALLEL OPERATIONS
+
+	private static final int AND = 0, OR = 1, XOR = 2, AND_NOT = 3;
+
+	private PackedBooleanList combine(int op, int start, PackedBooleanList other, int otherStart, int count) {
+		if (start < 0 || otherStart < 0 || count < 0 || start + count > size || otherStart + count > other.size) {
+			throw new IndexOutOfBoundsException("Invalid range: start " + start + ", otherStart " + otherStart + ", count "
+				+ count + ", with sizes " + size + " and " + other.size);
+		}
+		if (count == 0) return this;
+		align();
+		long[] a = words, b = other.words;
+		if (b == a && otherStart < start && otherStart + count > start) {
+			b = Arrays.copyOf(b, b.length);
+		}
+		for (int pos = start, src = other.storageStart() + otherStart, end = start + count; pos < end; ) {
+			int w = pos >>> 6, s = pos & 63, n = Math.min(64 - s, end - pos);
+			long mask = (-1L >>> 64 - n) << s, bits = bitsAt(b, src) << s & mask;
+			switch (op) {
+				case AND:
+					a[w] &= bits | ~mask;
+					break;
+				case OR:
+					a[w] |= bits;
+					break;
+				case XOR:
+					a[w] ^= bits;
+					break;
+				default:
+					a[w] &= ~bits;
+			}
+			pos += n;
+			src += n;
+		}
+		return this;
+	}
+
+	/**
+	 * Sets each item in this to the logical AND of itself and the item at the same index in {@code other}, for the
+	 * first {@code Math.min(size(), other.size())} items. This works on 64 items at a time.
+	 *
+	 * @param other another PackedBooleanList or PackedBooleanDeque
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList and(PackedBooleanList other) {
+		return combine(AND, 0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Sets {@code count} items in this, starting at {@code start}, to the logical AND of themselves and the items in
+	 * {@code other} starting at {@code otherStart}. The ranges do not need to be aligned to words.
+	 *
+	 * @param start      the first index to change in this
+	 * @param other      another PackedBooleanList or PackedBooleanDeque; may be this
+	 * @param otherStart the first index to read in {@code other}
+	 * @param count      how many items to change
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList and(int start, PackedBooleanList other, int otherStart, int count) {
+		return combine(AND, start, other, otherStart, count);
+	}
+
+	/**
+	 * Sets each item in this to the logical OR of itself and the item at the same index in {@code other}, for the
+	 * first {@code Math.min(size(), other.size())} items. This works on 64 items at a time.
+	 *
+	 * @param other another PackedBooleanList or PackedBooleanDeque
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList or(PackedBooleanList other) {
+		return combine(OR, 0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Sets {@code count} items in this, starting at {@code start}, to the logical OR of themselves and the items in
+	 * {@code other} starting at {@code otherStart}. The ranges do not need to be aligned to words.
+	 *
+	 * @param start      the first index to change in this
+	 * @param other      another PackedBooleanList or PackedBooleanDeque; may be this
+	 * @param otherStart the first index to read in {@code other}
+	 * @param count      how many items to change
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList or(int start, PackedBooleanList other, int otherStart, int count) {
+		return combine(OR, start, other, otherStart, count);
+	}
+
+	/**
+	 * Sets each item in this to the logical XOR of itself and the item at the same index in {@code other}, for the
+	 * first {@code Math.min(size(), other.size())} items. This works on 64 items at a time.
+	 *
+	 * @param other another PackedBooleanList or PackedBooleanDeque
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList xor(PackedBooleanList other) {
+		return combine(XOR, 0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Sets {@code count} items in this, starting at {@code start}, to the logical XOR of themselves and the items in
+	 * {@code other} starting at {@code otherStart}. The ranges do not need to be aligned to words.
+	 *
+	 * @param start      the first index to change in this
+	 * @param other      another PackedBooleanList or PackedBooleanDeque; may be this
+	 * @param otherStart the first index to read in {@code other}
+	 * @param count      how many items to change
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList xor(int start, PackedBooleanList other, int otherStart, int count) {
+		return combine(XOR, start, other, otherStart, count);
+	}
+
+	/**
+	 * Sets to false each item in this where the item at the same index in {@code other} is true, for the
+	 * first {@code Math.min(size(), other.size())} items. This works on 64 items at a time.
+	 *
+	 * @param other another PackedBooleanList or PackedBooleanDeque
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList andNot(PackedBooleanList other) {
+		return combine(AND_NOT, 0, other, 0, Math.min(size, other.size));
+	}
+
+	/**
+	 * Sets to false each of {@code count} items in this, starting at {@code start}, where the corresponding item in
+	 * {@code other} starting at {@code otherStart} is true. The ranges do not need to be aligned to words.
+	 *
+	 * @param start      the first index to change in this
+	 * @param other      another PackedBooleanList or PackedBooleanDeque; may be this
+	 * @param otherStart the first index to read in {@code other}
+	 * @param count      how many items to change
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList andNot(int start, PackedBooleanList other, int otherStart, int count) {
+		return combine(AND_NOT, start, other, otherStart, count);
+	}
+
+	/**
+	 * Flips every item in this.
+	 *
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList not() {
+		return not(0, size);
+	}
+
+	/**
+	 * Flips every item from {@code from} (inclusive) to {@code to} (exclusive), a word at a time.
+	 *
+	 * @param from the first index to flip, inclusive
+	 * @param to   the last index to flip, exclusive
+	 * @return this, for chaining
+	 */
+	public PackedBooleanList not(int from, int to) {
+		checkRange(from, to);
+		align();
+		long[] words = this.words;
+		while (from < to) {
+			int w = from >>> 6, s = from & 63, n = Math.min(64 - s, to - from);
+			words[w] ^= (-1L >>> 64 - n) << s;
+			from += n;
+		}
+		return this;
+	}
+
+	/**
+	 * Counts how many items in this are true.
+	 *
+	 * @return the number of true items
+	 */
+	public int countTrue() {
+		long[] words = this.words;
+		int count = 0;
+		// every bit outside the items is 0, so whole words can be counted
+		for (int i = storageStart() >>> 6, n = storageStart() + size + 63 >>> 6; i < n; i++) {
+			count += Long.bitCount(words[i]);
+		}
+		return count;
+	}
+
+	/**
+	 * Counts how many items from {@code from} (inclusive) to {@code to} (exclusive) are true.
+	 *
+	 * @param from the first index to check, inclusive
+	 * @param to   the last index to check, exclusive
+	 * @return the number of true items in the range
+	 */
+	public int countTrue(int from, int to) {
+		checkRange(from, to);
+		long[] words = this.words;
+		int count = 0, start = storageStart();
+		from += start;
+		to += start;
+		while (from < to) {
+			int w = from >>> 6, s = from & 63, n = Math.min(64 - s, to - from);
+			count += Long.bitCount(words[w] & (-1L >>> 64 - n) << s);
+			from += n;
+		}
+		return count;
+	}
+
+	/**
+	 * Finds the first index at or after {@code fromIndex} that holds a true item, skipping 64 false items at a time.
+	 *
+	 * @param fromIndex the first index to check; if negative, this starts at 0
+	 * @return the index of the next true item, or -1 if there is none
+	 */
+	public int nextTrue(int fromIndex) {
+		if (fromIndex < 0) fromIndex = 0;
+		if (fromIndex >= size) return -1;
+		long[] words = this.words;
+		int start = storageStart(), from = start + fromIndex, w = from >>> 6;
+		long word = words[w] & -1L << from;
+		for (int n = start + size + 63 >>> 6; ; ) {
+			if (word != 0L) return (w << 6 | Long.numberOfTrailingZeros(word)) - start;
+			if (++w >= n) return -1;
+			word = words[w];
+		}
+	}
+
+	/**
+	 * Finds the first index at or after {@code fromIndex} that holds a false item, skipping 64 true items at a time.
+	 *
+	 * @param fromIndex the first index to check; if negative, this starts at 0
+	 * @return the index of the next false item, or -1 if there is none
+	 */
+	public int nextFalse(int fromIndex) {
+		if (fromIndex < 0) fromIndex = 0;
+		if (fromIndex >= size) return -1;
+		long[] words = this.words;
+		int start = storageStart(), from = start + fromIndex, w = from >>> 6;
+		long word = ~words[w] & -1L << from;
+		for (int n = start + size + 63 >>> 6; ; ) {
+			if (word != 0L) {
+				int found = (w << 6 | Long.numberOfTrailingZeros(word)) - start;
+				return found < size ? found : -1;
+			}
+			if (++w >= n) return -1;
+			word = ~words[w];
+		}
+	}
+
+	/**
+	 * Finds the last index at or before {@code fromIndex} that holds a true item, skipping 64 false items at a time.
+	 *
+	 * @param fromIndex the last index to check; if it is {@code size()} or more, this starts at the last item
+	 * @return the index of the previous true item, or -1 if there is none
+	 */
+	public int previousTrue(int fromIndex) {
+		if (fromIndex >= size) fromIndex = size - 1;
+		if (fromIndex < 0) return -1;
+		long[] words = this.words;
+		int start = storageStart(), from = start + fromIndex, w = from >>> 6;
+		long word = words[w] & -1L >>> 63 - (from & 63);
+		while (true) {
+			// every bit before the items is 0, so anything found here is at or after start
+			if (word != 0L) return (w << 6 | 63 - Long.numberOfLeadingZeros(word)) - start;
+			if (--w < 0) return -1;
+			word = words[w];
+		}
+	}
+
+	/**
+	 * Returns a new, unpacked {@link BooleanList} with a copy of the items in this. Changes to the returned list do
+	 * not affect this. This is only here to satisfy the {@link Ordered.OfBoolean} interface; the methods from
+	 * {@link Arrangeable} are implemented directly here, and don't call this.
+	 *
+	 * @return a new BooleanList holding the same items as this
+	 */
+	@Override
+	public BooleanList order() {
+		return new BooleanList(toArray());
+	}
+
+	@Override
+	public OrderType getOrderType() {
+		return OrderType.LIST;
+	}
+
+	@Override
+	public void swap(int first, int second) {
+		if (first >= size) {
+			throw new IndexOutOfBoundsException("first can't be >= size: " + first + " >= " + size);
+		}
+		if (second >= size) {
+			throw new IndexOutOfBoundsException("second can't be >= size: " + second + " >= " + size);
+		}
+		boolean firstValue = get(first);
+		set(first, get(second));
+		set(second, firstValue);
+	}
+
+	@Override
+	public boolean contains(boolean value) {
+		return indexOf(value) != -1;
+	}
+
+	/**
+	 * Returns the first index of {@code value}, or -1 if it is not present. This skips 64 items at a time.
+	 *
+	 * @param value a boolean value to search for
+	 * @return the first index of the given value, or -1 if it is not found
+	 */
+	public int indexOf(boolean value) {
+		return value ? nextTrue(0) : nextFalse(0);
+	}
+
+	/**
+	 * Returns the last index of {@code value}, or -1 if it is not present.
+	 *
+	 * @param value a boolean value to search for
+	 * @return the last index of the given value, or -1 if it is not found
+	 */
+	public int lastIndexOf(boolean value) {
+		if (value) return previousTrue(size - 1);
+		for (int i = size - 1; i >= 0; i--) {
+			if (!get(i)) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Removes the first occurrence of {@code value} from this list, if it is present.
+	 *
+	 * @param value a boolean value to remove
+	 * @return true if {@code value} was found and removed
+	 */
+	@Override
+	public boolean remove(boolean value) {
+		int index = indexOf(value);
+		if (index == -1) return false;
+		removeAt(index);
+		return true;
+	}
+
+	/**
+	 * Removes and returns the item at the specified index, shifting later items down a word at a time.
+	 *
+	 * @param index the index of the item to remove and return
+	 * @return the removed item
+	 */
+	public boolean removeAt(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		}
+		align();
+		boolean value = get(index);
+		copyBits(words, index + 1, words, index, size - index - 1);
+		fillBits(words, --size, size + 1, false);
+		return value;
+	}
+
+	/**
+	 * Removes the items between the specified start index, inclusive, and end index, exclusive.
+	 *
+	 * @param start Start index, inclusive.
+	 * @param end   End index, exclusive.
+	 */
+	@Override
+	public void removeRange(int start, int end) {
+		int n = size;
+		if (end > n) {
+			throw new IndexOutOfBoundsException("end can't be > size: " + end + " > " + size);
+		}
+		if (start > end) {
+			throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+		}
+		align();
+		int count = end - start;
+		copyBits(words, end, words, start, n - end);
+		fillBits(words, n - count, n, false);
+		size = n - count;
+	}
+
+	/**
+	 * Removes all items that pass {@code filter}, compacting the remaining items in one pass.
+	 *
+	 * @param filter a predicate that returns true for each item that should be removed
+	 * @return true if any items were removed
+	 */
+	@Override
+	public boolean removeIf(BooleanPredicate filter) {
+		align();
+		long[] words = this.words;
+		int n = size, kept = 0;
+		for (int i = 0; i < n; i++) {
+			boolean item = (words[i >>> 6] & 1L << i) != 0L;
+			if (!filter.test(item)) {
+				if (item) words[kept >>> 6] |= 1L << kept;
+				else words[kept >>> 6] &= ~(1L << kept);
+				kept++;
+			}
+		}
+		fillBits(words, kept, n, false);
+		size = kept;
+		return kept != n;
+	}
+
+	@Override
+	public boolean removeAll(OfBoolean c) {
+		final boolean f = c.contains(false), t = c.contains(true);
+		return (f || t) && removeIf(item -> item ? t : f);
+	}
+
+	@Override
+	public boolean retainAll(OfBoolean other) {
+		final boolean f = other.contains(false), t = other.contains(true);
+		return removeIf(item -> item ? !t : !f);
+	}
+
+	/**
+	 * Removes and returns the last item.
+	 *
+	 * @return the last item, removed from this
+	 */
+	public boolean pop() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("PackedBooleanList is empty.");
+		}
+		int i = --size;
+		long bit = words[i >>> 6] & 1L << i;
+		words[i >>> 6] ^= bit;
+		return bit != 0L;
+	}
+
+	/**
+	 * Returns the last item.
+	 *
+	 * @return the last item, without modifying this
+	 */
+	public boolean peek() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("PackedBooleanList is empty.");
+		}
+		return get(size - 1);
+	}
+
+	/**
+	 * Returns the first item.
+	 *
+	 * @return the first item, without modifying this
+	 */
+	@Override
+	public boolean first() {
+		if (size == 0) {
+			throw new IndexOutOfBoundsException("PackedBooleanList is empty.");
+		}
+		return get(0);
+	}
+
+	/**
+	 * Returns true if the list has one or more items, or false otherwise.
+	 *
+	 * @return true if the list has one or more items, or false otherwise
+	 */
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Returns true if the list is empty.
+	 *
+	 * @return true if the list is empty, or false if it has any items
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all items from this PackedBooleanList, zeroing only the words that were in use.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(words, 0, Math.min(words.length, size + 63 >>> 6), 0L);
+		size = 0;
+	}
+
+	/**
+	 * Reduces the size of the backing array to the fewest words that can hold the actual items. This is useful to
+	 * release memory when many items have been removed, or if it is known that more items will not be added.
+	 *
+	 * @return {@link #words}; this will be a different reference if this resized
+	 */
+	public long[] shrink() {
+		align();
+		if (words.length != Math.max(1, size + 63 >>> 6)) {
+			resize(size);
+		}
+		return words;
+	}
+
+	public void trimToSize() {
+		shrink();
+	}
+
+	/**
+	 * Increases the size of the backing array to accommodate the specified number of additional items. Useful before
+	 * adding many items to avoid multiple backing array resizes.
+	 *
+	 * @return {@link #words}; this will be a different reference if this resized
+	 */
+	public long[] ensureCapacity(int additionalCapacity) {
+		if (additionalCapacity < 0) {
+			throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+		}
+		align();
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > words.length << 6) {
+			resize(Math.max(Math.max(64, sizeNeeded), (int) (size * 1.75f)));
+		}
+		return words;
+	}
+
+	/**
+	 * Sets the list size. Unlike {@link BooleanList#setSize(int)}, any new items past the current size will be false.
+	 *
+	 * @return {@link #words}; this will be a different reference if this resized to a larger capacity
+	 */
+	public long[] setSize(int newSize) {
+		if (newSize < 0) {
+			throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		}
+		align();
+		if (newSize > words.length << 6) {
+			resize(Math.max(64, newSize));
+		}
+		if (newSize < size) {
+			fillBits(words, newSize, size, false);
+		}
+		size = newSize;
+		return words;
+	}
+
+	/**
+	 * Changes the backing array so it can hold at least {@code newSize} items.
+	 *
+	 * @param newSize the capacity to resize to, in items
+	 * @return the new backing array
+	 */
+	protected long[] resize(int newSize) {
+		align();
+		long[] newWords = new long[Math.max(1, newSize + 63 >>> 6)];
+		System.arraycopy(words, 0, newWords, 0, Math.min(size + 63 >>> 6, newWords.length));
+		if (newSize < size) {
+			size = newSize;
+			fillBits(newWords, newSize, newWords.length << 6, false);
+		}
+		this.words = newWords;
+		return newWords;
+	}
+
+	/**
+	 * Sorts this entire collection in ascending order (false, then true). This only needs to count the true items.
+	 */
+	public void sort() {
+		sort(0, size);
+	}
+
+	/**
+	 * Sorts a (clamped) subrange of this collection in ascending order (false, then true).
+	 *
+	 * @param from the index of the first element (inclusive) to be sorted
+	 * @param to   the index of the last element (exclusive) to be sorted
+	 */
+	public void sort(int from, int to) {
+		sort(from, to, null);
+	}
+
+	/**
+	 * Sorts all elements according to the order induced by the specified comparator, or in ascending order if
+	 * {@code c} is null. Because there are only two possible items, this just counts the true items and fills the
+	 * range, so it runs in linear time and is stable.
+	 *
+	 * @param c the comparator to determine the order of the PackedBooleanList
+	 */
+	@Override
+	public void sort(BooleanComparator c) {
+		sort(0, size, c);
+	}
+
+	/**
+	 * Sorts the specified (clamped) subrange of elements according to the order induced by the specified
+	 * comparator, or in ascending order (false, then true) if {@code c} is null. Because there are only two possible
+	 * items, this just counts the true items and fills the range, so it runs in linear time and is stable.
+	 *
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to   the index of the last element (exclusive) to be sorted.
+	 * @param c    the comparator to determine the order of the PackedBooleanList
+	 */
+	public void sort(int from, int to, BooleanComparator c) {
+		from = Math.max(Math.min(from, size - 1), 0);
+		to = Math.max(Math.min(to, size), from);
+		int order = c == null ? -1 : c.compare(false, true);
+		if (order == 0 || to - from < 2) return;
+		align();
+		int trues = countTrue(from, to);
+		if (order < 0) {
+			fillBits(words, from, to - trues, false);
+			fillBits(words, to - trues, to, true);
+		} else {
+			fillBits(words, from, from + trues, true);
+			fillBits(words, from + trues, to, false);
+		}
+	}
+
+	/**
+	 * Reverses the order of the items, reversing whole words at a time.
+	 */
+	@Override
+	public void reverse() {
+		align();
+		if (size < 2) return;
+		long[] words = this.words;
+		int n = size + 63 >>> 6;
+		for (int i = 0, j = n - 1; i <= j; i++, j--) {
+			long t = Long.reverse(words[i]);
+			words[i] = Long.reverse(words[j]);
+			words[j] = t;
+		}
+		int pad = (n << 6) - size;
+		copyBits(words, pad, words, 0, size);
+		fillBits(words, size, n << 6, false);
+	}
+
+	@Override
+	public void shuffle(Random random) {
+		for (int i = size - 1; i > 0; i--) {
+			swap(i, random.nextInt(i + 1));
+		}
+	}
+
+	/**
+	 * Reduces the size of the list to the specified size. If the list is already smaller than the specified size, no
+	 * action is taken.
+	 */
+	public void truncate(int newSize) {
+		newSize = Math.max(0, newSize);
+		if (size > newSize) {
+			align();
+			fillBits(words, newSize, size, false);
+			size = newSize;
+		}
+	}
+
+	/**
+	 * Returns a random item from the list, or false if the list is empty.
+	 *
+	 * @param random a {@link Random} or a subclass, such as any from juniper
+	 * @return a randomly selected item from this, or {@code false} if this is empty
+	 */
+	@Override
+	public boolean random(Random random) {
+		if (size == 0) {
+			return false;
+		}
+		return get(random.nextInt(size));
+	}
+
+	/**
+	 * Allocates a new boolean array with {@code size} elements and fills it with the items in this.
+	 *
+	 * @return a new boolean array with the same contents as this
+	 */
+	@Override
+	public boolean[] toArray() {
+		return toArray(new boolean[size]);
+	}
+
+	/**
+	 * If {@code array.length} at least equal to {@link #size()}, this copies the contents of this
+	 * into {@code array} and returns it; otherwise, it allocates a new boolean array that can fit all
+	 * the items in this, and proceeds to copy into that and return that.
+	 *
+	 * @param array a boolean array that will be modified if it can fit {@link #size()} items
+	 * @return {@code array}, if it had sufficient size, or a new array otherwise, either with a copy of this
+	 */
+	@Override
+	public boolean[] toArray(boolean[] array) {
+		if (array.length < size)
+			array = new boolean[size];
+		long[] words = this.words;
+		for (int i = 0, p = storageStart(); i < size; i++, p++) {
+			array[i] = (words[p >>> 6] & 1L << p) != 0L;
+		}
+		return array;
+	}
+
+	@Override
+	public int hashCode() {
+		long[] words = this.words;
+		int h = size, start = storageStart();
+		for (int i = 0, n = size + 63 >>> 6; i < n; i++) {
+			long w = bitsAt(words, start + (i << 6));
+			h = h * 31 + (int) (w ^ w >>> 32);
+		}
+		return h ^ h >>> 16;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (!(object instanceof PackedBooleanList)) {
+			return false;
+		}
+		PackedBooleanList list = (PackedBooleanList) object;
+		int n = size;
+		if (n != list.size()) {
+			return false;
+		}
+		int start = storageStart(), otherStart = list.storageStart();
+		if (((start | otherStart) & 63) == 0) {
+			return ArraySupport.rangeEquals(words, start >>> 6, list.words, otherStart >>> 6, n + 63 >>> 6);
+		}
+		for (int i = 0; i < n; i += 64) {
+			if (bitsAt(words, start + i) != bitsAt(list.words, otherStart + i)) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Returns a new primitive iterator over the items in this PackedBooleanList, in order.
+	 *
+	 * @return a {@link BooleanIterator}; use its nextBoolean() method instead of next()
+	 */
+	@Override
+	public PackedBooleanListIterator iterator() {
+		return new PackedBooleanListIterator(this);
+	}
+
+	/**
+	 * A {@link BooleanIterator} over the elements of a PackedBooleanList or PackedBooleanDeque.
+	 * Use {@link #nextBoolean()} in preference to {@link #next()} to avoid allocating Boolean objects.
+	 */
+	public static class PackedBooleanListIterator implements BooleanIterator {
+		protected int index, latest = -1;
+		protected PackedBooleanList list;
+
+		public PackedBooleanListIterator(PackedBooleanList list) {
+			this.list = list;
+		}
+
+		public PackedBooleanListIterator(PackedBooleanList list, int index) {
+			if (index < 0 || index >= list.size())
+				throw new IndexOutOfBoundsException("PackedBooleanListIterator does not satisfy index >= 0 && index < list.size()");
+			this.list = list;
+			this.index = index;
+		}
+
+		/**
+		 * Returns the next {@code boolean} element in the iteration.
+		 *
+		 * @return the next {@code boolean} element in the iteration
+		 * @throws NoSuchElementException if the iteration has no more elements
+		 */
+		@Override
+		public boolean nextBoolean() {
+			if (index >= list.size()) {
+				throw new NoSuchElementException();
+			}
+			return list.get(latest = index++);
+		}
+
+		/**
+		 * Returns {@code true} if the iteration has more elements.
+		 *
+		 * @return {@code true} if the iteration has more elements
+		 */
+		@Override
+		public boolean hasNext() {
+			return index < list.size();
+		}
+
+		/**
+		 * Removes from the list the last element that was returned by {@link #nextBoolean}.
+		 */
+		@Override
+		public void remove() {
+			if (latest == -1 || latest >= list.size()) {
+				throw new NoSuchElementException();
+			}
+			list.removeAt(latest);
+			index = latest;
+			latest = -1;
+		}
+
+		public void reset() {
+			index = 0;
+			latest = -1;
+		}
+
+		/**
+		 * Returns an iterator over elements of type {@code boolean}.
+		 *
+		 * @return this same PackedBooleanListIterator.
+		 */
+		public PackedBooleanListIterator iterator() {
+			return this;
+		}
+	}
+
+	/**
+	 * Constructs an empty list.
+	 *
+	 * @return a new list containing nothing
+	 */
+	public static PackedBooleanList with() {
+		return new PackedBooleanList(0);
+	}
+
+	/**
+	 * Creates a new PackedBooleanList that holds only the given items, in order.
+	 *
+	 * @param varargs either 0 or more boolean items, or an array of boolean
+	 * @return a new PackedBooleanList that holds the given items
+	 */
+	public static PackedBooleanList with(boolean... varargs) {
+		return new PackedBooleanList(varargs);
+	}
+
+	/**
+	 * Creates a new collection and fills it by calling {@link #addLegible(String, String, int, int)} on either all of
+	 * {@code str} (if {@code brackets} is false) or {@code str} without its first and last chars (if {@code brackets}
+	 * is true). Each item is expected to be separated by {@code delimiter}.
+	 *
+	 * @param str       a String that will be parsed in full (depending on brackets)
+	 * @param delimiter the delimiter between items in str
+	 * @param brackets  if true, the first and last chars in str will be ignored
+	 * @return a new collection parsed from str
+	 */
+	public static PackedBooleanList parse(String str, String delimiter, boolean brackets) {
+		PackedBooleanList c = new PackedBooleanList();
+		if (brackets)
+			c.addLegible(str, delimiter, 1, str.length() - 1);
+		else
+			c.addLegible(str, delimiter);
+		return c;
+	}
+}
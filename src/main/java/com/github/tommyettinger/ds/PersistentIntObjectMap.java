@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable, persistent map from int keys to Object values, stored as a compressed hash-array mapped prefix tree
+ * (CHAMP) that keeps its keys unboxed. Instead of being changed, a map produces a new map with
+ * {@link #with(int, Object)} or {@link #without(int)}, in O(log32 n) time; the new map shares every part of the tree
+ * that didn't change with the old one, so keeping many versions around costs only the parts that differ, rather than a
+ * full copy of an {@link IntObjectMap} per version.
+ * <br>
+ * For many changes at once, {@link #toBuilder()} gives a {@link Builder} that changes its own new nodes in place, and
+ * {@link #equals(Object)} and {@link #diff(PersistentIntObjectMap, DiffListener)} skip any subtrees that two maps
+ * share. Any int can be a key, including 0; values can be null.
+ *
+ * @param <V> the type of values
+ * @see PersistentObjectObjectMap PersistentObjectObjectMap is the counterpart of this for Object keys.
+ */
+public class PersistentIntObjectMap<V> implements Iterable<IntObjectMap.Entry<V>> {
+	private static final PersistentIntObjectMap<?> EMPTY = new PersistentIntObjectMap<>(IntChampNode.EMPTY, 0);
+
+	protected final IntChampNode root;
+	protected final int size;
+	/**
+	 * The cached hash code, or 0 if it hasn't been calculated yet (or if it is 0 and {@link #hashIsZero} is true).
+	 */
+	private int hash;
+	private boolean hashIsZero;
+
+	protected PersistentIntObjectMap(IntChampNode root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Gets the empty map; every empty PersistentIntObjectMap made by this class is the same object.
+	 *
+	 * @param <V> the type of values
+	 * @return an empty PersistentIntObjectMap
+	 */
+	@SuppressWarnings("unchecked")
+	public static <V> PersistentIntObjectMap<V> empty() {
+		return (PersistentIntObjectMap<V>) EMPTY;
+	}
+
+	/**
+	 * Creates a new map holding one key-value pair.
+	 *
+	 * @param key0   the key
+	 * @param value0 the value
+	 * @param <V>    the type of values, inferred from value0
+	 * @return a new map containing the given pair
+	 */
+	public static <V> PersistentIntObjectMap<V> of(int key0, V value0) {
+		return PersistentIntObjectMap.<V>empty().with(key0, value0);
+	}
+
+	/**
+	 * Creates a new map given alternating keys and values. Any pair where the key isn't a {@link Number}, or where the
+	 * value can't be cast to V, is skipped.
+	 *
+	 * @param key0   the first key
+	 * @param value0 the first value; will be used to determine the type of all values
+	 * @param rest   a varargs or non-null array of alternating Number, V, Number, V... elements
+	 * @param <V>    the type of values, inferred from value0
+	 * @return a new map containing the given keys and values
+	 */
+	@SuppressWarnings("unchecked")
+	public static <V> PersistentIntObjectMap<V> of(int key0, V value0, Object... rest) {
+		Builder<V> builder = new Builder<V>().put(key0, value0);
+		for (int i = 1; i < rest.length; i += 2) {
+			try {
+				builder.put(((Number) rest[i - 1]).intValue(), (V) rest[i]);
+			} catch (ClassCastException | NullPointerException ignored) {
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a new map holding every pair in {@code map}.
+	 *
+	 * @param map an IntObjectMap
+	 * @param <V> the type of values
+	 * @return a new PersistentIntObjectMap with the same pairs as {@code map}
+	 */
+	public static <V> PersistentIntObjectMap<V> from(IntObjectMap<? extends V> map) {
+		return PersistentIntObjectMap.<V>empty().withAll(map);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Gets the value for {@code key}, or null if it isn't present.
+	 *
+	 * @param key any int
+	 * @return the value for {@code key}, or null if it isn't present
+	 */
+	public V get(int key) {
+		return getOrDefault(key, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(int key, V defaultValue) {
+		Object value = IntChampNode.find(root, key, IntChampNode.hash(key));
+		return value == IntChampNode.NOT_FOUND ? defaultValue : (V) value;
+	}
+
+	public boolean containsKey(int key) {
+		return IntChampNode.find(root, key, IntChampNode.hash(key)) != IntChampNode.NOT_FOUND;
+	}
+
+	/**
+	 * Returns a map with the same pairs as this one, except that {@code key} is associated with {@code value}. If
+	 * {@code key} already has that identical value, this returns this map.
+	 *
+	 * @param key   the key to associate with {@code value}
+	 * @param value the value to associate with {@code key}
+	 * @return a map that maps {@code key} to {@code value}, sharing everything else with this map
+	 */
+	public PersistentIntObjectMap<V> with(int key, V value) {
+		ChampNode.Change change = new ChampNode.Change().reset();
+		IntChampNode next = IntChampNode.put(root, key, value, IntChampNode.hash(key), 0, null, change);
+		if (next == root) return this;
+		return new PersistentIntObjectMap<>(next, change.sizeChanged ? size + 1 : size);
+	}
+
+	/**
+	 * Returns a map with the same pairs as this one, except that {@code key} is not present. If {@code key} is
+	 * already not present, this returns this map.
+	 *
+	 * @param key the key to remove
+	 * @return a map without {@code key}, sharing everything else with this map
+	 */
+	public PersistentIntObjectMap<V> without(int key) {
+		ChampNode.Change change = new ChampNode.Change().reset();
+		IntChampNode next = IntChampNode.remove(root, key, IntChampNode.hash(key), 0, null, change);
+		if (next == root) return this;
+		if (size == 1) return empty();
+		return new PersistentIntObjectMap<>(next, size - 1);
+	}
+
+	/**
+	 * Returns a map with the pairs in this map and in {@code map}; where both have a key, the value from {@code map}
+	 * is used. This uses a {@link Builder}, so only the new nodes are allocated, once each.
+	 *
+	 * @param map an IntObjectMap
+	 * @return a map with the pairs of both maps
+	 */
+	public PersistentIntObjectMap<V> withAll(IntObjectMap<? extends V> map) {
+		Builder<V> builder = toBuilder();
+		for (IntObjectMap.Entry<? extends V> e : map) {
+			builder.put(e.key, e.value);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a {@link Builder} that starts with the pairs in this map. Changes to the builder never affect this map.
+	 *
+	 * @return a new Builder holding the same pairs as this map
+	 */
+	public Builder<V> toBuilder() {
+		return new Builder<>(this);
+	}
+
+	/**
+	 * Creates a new, mutable IntObjectMap with the same pairs as this.
+	 *
+	 * @return a new IntObjectMap holding the pairs in this map
+	 */
+	public IntObjectMap<V> toIntObjectMap() {
+		IntObjectMap<V> map = new IntObjectMap<>(size);
+		for (IntObjectMap.Entry<V> e : this) {
+			map.put(e.key, e.value);
+		}
+		return map;
+	}
+
+	/**
+	 * Calls {@code listener} once for each key that is only in this map, only in {@code newer}, or is in both with
+	 * different values. Any subtrees that this and {@code newer} share are skipped, so this is fast when
+	 * {@code newer} was made from this map with a few changes, or the other way around.
+	 *
+	 * @param newer    another PersistentIntObjectMap, usually a later version of this one
+	 * @param listener will be told about each key that was added, removed, or changed to get from this to {@code newer}
+	 */
+	public void diff(PersistentIntObjectMap<? extends V> newer, final DiffListener<? super V> listener) {
+		IntChampNode.diff(root, newer.root, 0, new IntChampNode.Differ() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void added(int key, Object value) {
+				listener.added(key, (V) value);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void removed(int key, Object value) {
+				listener.removed(key, (V) value);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void changed(int key, Object oldValue, Object newValue) {
+				listener.changed(key, (V) oldValue, (V) newValue);
+			}
+		});
+	}
+
+	/**
+	 * Compares this with another PersistentIntObjectMap, skipping any subtrees the two maps share.
+	 *
+	 * @param o object to be compared for equality with this map
+	 * @return true if {@code o} is a PersistentIntObjectMap with the same pairs as this
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) return true;
+		if (!(o instanceof PersistentIntObjectMap)) return false;
+		PersistentIntObjectMap<?> other = (PersistentIntObjectMap<?>) o;
+		final int h = hash, otherHash = other.hash;
+		return size == other.size && (h == 0 || otherHash == 0 || h == otherHash)
+			&& IntChampNode.equal(root, other.root);
+	}
+
+	/**
+	 * Gets the sum of the {@link IntObjectMap.Entry#hashCode()} of every pair; this is calculated once and then
+	 * cached.
+	 *
+	 * @return the hash code of this map
+	 */
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if (h == 0 && !hashIsZero) {
+			IntChampNode.Cursor cursor = new IntChampNode.Cursor(root);
+			while (cursor.advance()) {
+				h += cursor.value == null ? cursor.key : cursor.key ^ cursor.value.hashCode();
+			}
+			if (h == 0) hashIsZero = true;
+			else hash = h;
+		}
+		return h;
+	}
+
+	/**
+	 * Iterates over the pairs in this map, in an order that depends on the hashes of the keys. Each entry is a new
+	 * {@link IntObjectMap.Entry}; changing it has no effect on this map.
+	 *
+	 * @return an Iterator over the pairs in this map
+	 */
+	@Override
+	public Iterator<IntObjectMap.Entry<V>> iterator() {
+		return new Iterator<IntObjectMap.Entry<V>>() {
+			private final IntChampNode.Cursor cursor = new IntChampNode.Cursor(root);
+			private boolean ready = cursor.advance();
+
+			@Override
+			public boolean hasNext() {
+				return ready;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public IntObjectMap.Entry<V> next() {
+				if (!ready) throw new NoSuchElementException();
+				IntObjectMap.Entry<V> entry = new IntObjectMap.Entry<>(cursor.key, (V) cursor.value);
+				ready = cursor.advance();
+				return entry;
+			}
+		};
+	}
+
+	/**
+	 * Gets the keys of this map, in iteration order, in a new IntList.
+	 *
+	 * @return a new IntList holding every key in this map
+	 */
+	public IntList keys() {
+		IntList keys = new IntList(size);
+		IntChampNode.Cursor cursor = new IntChampNode.Cursor(root);
+		while (cursor.advance()) {
+			keys.add(cursor.key);
+		}
+		return keys;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(size * 8 + 2).append('{');
+		IntChampNode.Cursor cursor = new IntChampNode.Cursor(root);
+		boolean first = true;
+		while (cursor.advance()) {
+			if (!first) sb.append(", ");
+			first = false;
+			sb.append(cursor.key).append('=').append(Objects.toString(cursor.value));
+		}
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * Receives the differences found by {@link #diff(PersistentIntObjectMap, DiffListener)}.
+	 *
+	 * @param <V> the type of values
+	 */
+	public interface DiffListener<V> {
+		/**
+		 * Called for a key that is only in the newer map.
+		 */
+		void added(int key, V value);
+
+		/**
+		 * Called for a key that is only in the older map.
+		 */
+		void removed(int key, V value);
+
+		/**
+		 * Called for a key that is in both maps, with values that aren't equal.
+		 */
+		void changed(int key, V oldValue, V newValue);
+	}
+
+	/**
+	 * A mutable, single-use helper for making many changes to a {@link PersistentIntObjectMap} at once. Nodes that a
+	 * Builder creates are changed in place by later calls, instead of being copied again, until {@link #build()} is
+	 * called; nodes shared with the map it started from are copied once when first changed. A Builder should only be
+	 * used by one thread at a time.
+	 *
+	 * @param <V> the type of values
+	 */
+	public static class Builder<V> {
+		private Object edit = new Object();
+		private IntChampNode root;
+		private int size;
+		private final ChampNode.Change change = new ChampNode.Change();
+
+		public Builder() {
+			this(PersistentIntObjectMap.<V>empty());
+		}
+
+		public Builder(PersistentIntObjectMap<V> start) {
+			root = start.root;
+			size = start.size;
+		}
+
+		/**
+		 * Associates {@code key} with {@code value}.
+		 *
+		 * @param key   the key to associate with {@code value}
+		 * @param value the value to associate with {@code key}
+		 * @return this Builder, for chaining
+		 */
+		public Builder<V> put(int key, V value) {
+			root = IntChampNode.put(root, key, value, IntChampNode.hash(key), 0, edit, change.reset());
+			if (change.sizeChanged) size++;
+			return this;
+		}
+
+		/**
+		 * Removes {@code key}, if present.
+		 *
+		 * @param key the key to remove
+		 * @return this Builder, for chaining
+		 */
+		public Builder<V> remove(int key) {
+			root = IntChampNode.remove(root, key, IntChampNode.hash(key), 0, edit, change.reset());
+			if (change.sizeChanged) size--;
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		public V get(int key) {
+			Object value = IntChampNode.find(root, key, IntChampNode.hash(key));
+			return value == IntChampNode.NOT_FOUND ? null : (V) value;
+		}
+
+		public boolean containsKey(int key) {
+			return IntChampNode.find(root, key, IntChampNode.hash(key)) != IntChampNode.NOT_FOUND;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Creates a PersistentIntObjectMap with the current pairs. This Builder can still be used afterward, and later
+		 * changes won't affect the map this returns.
+		 *
+		 * @return a new PersistentIntObjectMap holding the current pairs
+		 */
+		public PersistentIntObjectMap<V> build() {
+			edit = new Object();
+			return size == 0 ? PersistentIntObjectMap.<V>empty() : new PersistentIntObjectMap<>(root, size);
+		}
+	}
+}
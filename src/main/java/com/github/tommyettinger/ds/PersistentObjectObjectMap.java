@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, persistent map from Object keys to Object values, stored as a compressed hash-array mapped prefix tree
+ * (CHAMP). Instead of being changed, a map produces a new map with {@link #with(Object, Object)} or
+ * {@link #without(Object)}, in O(log32 n) time; the new map shares every part of the tree that didn't change with the
+ * old one, so keeping many versions around, such as for an undo history or per-tick snapshots for rollback, costs
+ * only the parts that differ, rather than a full copy of an {@link ObjectObjectMap} per version.
+ * <br>
+ * For many changes at once, {@link #toBuilder()} gives a {@link Builder} that changes its own new nodes in place, and
+ * {@link #equals(Object)} and {@link #diff(PersistentObjectObjectMap, DiffListener)} skip any subtrees that two maps
+ * share, so comparing a map to a slightly changed version of itself only looks at the changed parts.
+ * <br>
+ * Keys can't be null; {@link #with(Object, Object)} returns this map unchanged if given a null key. Values can be
+ * null. This implements {@link Map} for reading; its mutating methods throw {@link UnsupportedOperationException}.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @see PersistentObjectSet PersistentObjectSet is the set counterpart of this.
+ */
+public class PersistentObjectObjectMap<K, V> extends AbstractMap<K, V> implements Iterable<Map.Entry<K, V>> {
+	private static final PersistentObjectObjectMap<?, ?> EMPTY = new PersistentObjectObjectMap<>(ChampNode.EMPTY, 0);
+
+	protected final ChampNode root;
+	protected final int size;
+	/**
+	 * The cached hash code, or 0 if it hasn't been calculated yet (or if it is 0 and {@link #hashIsZero} is true).
+	 */
+	private int hash;
+	private boolean hashIsZero;
+
+	protected PersistentObjectObjectMap(ChampNode root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Gets the empty map; every empty PersistentObjectObjectMap made by this class is the same object.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 * @return an empty PersistentObjectObjectMap
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> PersistentObjectObjectMap<K, V> empty() {
+		return (PersistentObjectObjectMap<K, V>) EMPTY;
+	}
+
+	/**
+	 * Creates a new map holding one key-value pair.
+	 *
+	 * @param key0   the key
+	 * @param value0 the value
+	 * @param <K>    the type of keys, inferred from key0
+	 * @param <V>    the type of values, inferred from value0
+	 * @return a new map containing the given pair
+	 */
+	public static <K, V> PersistentObjectObjectMap<K, V> of(K key0, V value0) {
+		return PersistentObjectObjectMap.<K, V>empty().with(key0, value0);
+	}
+
+	/**
+	 * Creates a new map given alternating keys and values. Any pair where the key is null, or where the key or value
+	 * can't be cast to K or V, is skipped.
+	 *
+	 * @param key0   the first key; will be used to determine the type of all keys
+	 * @param value0 the first value; will be used to determine the type of all values
+	 * @param rest   a varargs or non-null array of alternating K, V, K, V... elements
+	 * @param <K>    the type of keys, inferred from key0
+	 * @param <V>    the type of values, inferred from value0
+	 * @return a new map containing the given keys and values
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> PersistentObjectObjectMap<K, V> of(K key0, V value0, Object... rest) {
+		Builder<K, V> builder = new Builder<K, V>(PersistentObjectObjectMap.<K, V>empty()).put(key0, value0);
+		for (int i = 1; i < rest.length; i += 2) {
+			try {
+				if (rest[i - 1] != null)
+					builder.put((K) rest[i - 1], (V) rest[i]);
+			} catch (ClassCastException ignored) {
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a new map holding every pair in {@code map}.
+	 *
+	 * @param map a Map with no null keys
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 * @return a new PersistentObjectObjectMap with the same pairs as {@code map}
+	 */
+	public static <K, V> PersistentObjectObjectMap<K, V> from(Map<? extends K, ? extends V> map) {
+		if (map instanceof PersistentObjectObjectMap) {
+			@SuppressWarnings("unchecked") PersistentObjectObjectMap<K, V> same = (PersistentObjectObjectMap<K, V>) map;
+			return same;
+		}
+		return PersistentObjectObjectMap.<K, V>empty().withAll(map);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V get(Object key) {
+		if (key == null) return null;
+		Object value = ChampNode.find(root, key, ChampNode.hash(key), 0);
+		return value == ChampNode.NOT_FOUND ? null : (V) value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		if (key == null) return defaultValue;
+		Object value = ChampNode.find(root, key, ChampNode.hash(key), 0);
+		return value == ChampNode.NOT_FOUND ? defaultValue : (V) value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && ChampNode.find(root, key, ChampNode.hash(key), 0) != ChampNode.NOT_FOUND;
+	}
+
+	/**
+	 * Returns a map with the same pairs as this one, except that {@code key} is associated with {@code value}. If
+	 * {@code key} already has that identical value, or if {@code key} is null, this returns this map.
+	 *
+	 * @param key   the key to associate with {@code value}
+	 * @param value the value to associate with {@code key}
+	 * @return a map that maps {@code key} to {@code value}, sharing everything else with this map
+	 */
+	public PersistentObjectObjectMap<K, V> with(K key, V value) {
+		if (key == null) return this;
+		ChampNode.Change change = new ChampNode.Change().reset();
+		ChampNode next = ChampNode.put(root, key, value, ChampNode.hash(key), 0, null, change);
+		if (next == root) return this;
+		return new PersistentObjectObjectMap<>(next, change.sizeChanged ? size + 1 : size);
+	}
+
+	/**
+	 * Returns a map with the same pairs as this one, except that {@code key} is not present. If {@code key} is
+	 * already not present, this returns this map.
+	 *
+	 * @param key the key to remove
+	 * @return a map without {@code key}, sharing everything else with this map
+	 */
+	public PersistentObjectObjectMap<K, V> without(Object key) {
+		if (key == null) return this;
+		ChampNode.Change change = new ChampNode.Change().reset();
+		ChampNode next = ChampNode.remove(root, key, ChampNode.hash(key), 0, null, change);
+		if (next == root) return this;
+		if (size == 1) return empty();
+		return new PersistentObjectObjectMap<>(next, size - 1);
+	}
+
+	/**
+	 * Returns a map with the pairs in this map and in {@code map}; where both have a key, the value from {@code map}
+	 * is used. This uses a {@link Builder}, so only the new nodes are allocated, once each.
+	 *
+	 * @param map a Map with no null keys
+	 * @return a map with the pairs of both maps
+	 */
+	public PersistentObjectObjectMap<K, V> withAll(Map<? extends K, ? extends V> map) {
+		Builder<K, V> builder = toBuilder();
+		for (Map.Entry<? extends K, ? extends V> e : map.entrySet()) {
+			builder.put(e.getKey(), e.getValue());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a {@link Builder} that starts with the pairs in this map. Changes to the builder never affect this map.
+	 *
+	 * @return a new Builder holding the same pairs as this map
+	 */
+	public Builder<K, V> toBuilder() {
+		return new Builder<>(this);
+	}
+
+	/**
+	 * Calls {@code listener} once for each key that is only in this map, only in {@code newer}, or is in both with
+	 * different values. Any subtrees that this and {@code newer} share are skipped, so this is fast when
+	 * {@code newer} was made from this map with a few changes, or the other way around.
+	 *
+	 * @param newer    another PersistentObjectObjectMap, usually a later version of this one
+	 * @param listener will be told about each key that was added, removed, or changed to get from this to {@code newer}
+	 */
+	public void diff(PersistentObjectObjectMap<? extends K, ? extends V> newer,
+					 final DiffListener<? super K, ? super V> listener) {
+		ChampNode.diff(root, newer.root, 0, new ChampNode.Differ() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void added(Object key, Object value) {
+				listener.added((K) key, (V) value);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void removed(Object key, Object value) {
+				listener.removed((K) key, (V) value);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void changed(Object key, Object oldValue, Object newValue) {
+				listener.changed((K) key, (V) oldValue, (V) newValue);
+			}
+		});
+	}
+
+	/**
+	 * Compares this with another Map. If {@code o} is also a PersistentObjectObjectMap, this skips any subtrees the
+	 * two maps share, and doesn't need to look anything up by key; otherwise, this compares as any Map would.
+	 *
+	 * @param o object to be compared for equality with this map
+	 * @return true if {@code o} is a Map with the same pairs as this
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) return true;
+		if (o instanceof PersistentObjectObjectMap) {
+			PersistentObjectObjectMap<?, ?> other = (PersistentObjectObjectMap<?, ?>) o;
+			final int h = hash, otherHash = other.hash;
+			return size == other.size && (h == 0 || otherHash == 0 || h == otherHash)
+				&& ChampNode.equal(root, other.root, 0);
+		}
+		return super.equals(o);
+	}
+
+	/**
+	 * Gets the hash code as specified by {@link Map#hashCode()}; this is calculated once and then cached.
+	 *
+	 * @return the sum of the hash codes of every entry
+	 */
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if (h == 0 && !hashIsZero) {
+			ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+			while (cursor.advance()) {
+				h += cursor.key.hashCode() ^ (cursor.value == null ? 0 : cursor.value.hashCode());
+			}
+			if (h == 0) hashIsZero = true;
+			else hash = h;
+		}
+		return h;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return PersistentObjectObjectMap.this.iterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Iterates over the pairs in this map, in an order that depends on the hashes of the keys. Each entry is a new
+	 * {@link java.util.AbstractMap.SimpleImmutableEntry}.
+	 *
+	 * @return an Iterator over the pairs in this map
+	 */
+	@Override
+	public Iterator<Entry<K, V>> iterator() {
+		return new Iterator<Entry<K, V>>() {
+			private final ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+			private boolean ready = cursor.advance();
+
+			@Override
+			public boolean hasNext() {
+				return ready;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public Entry<K, V> next() {
+				if (!ready) throw new NoSuchElementException();
+				Entry<K, V> entry = new SimpleImmutableEntry<>((K) cursor.key, (V) cursor.value);
+				ready = cursor.advance();
+				return entry;
+			}
+		};
+	}
+
+	/**
+	 * Receives the differences found by {@link #diff(PersistentObjectObjectMap, DiffListener)}.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 */
+	public interface DiffListener<K, V> {
+		/**
+		 * Called for a key that is only in the newer map.
+		 */
+		void added(K key, V value);
+
+		/**
+		 * Called for a key that is only in the older map.
+		 */
+		void removed(K key, V value);
+
+		/**
+		 * Called for a key that is in both maps, with values that aren't equal.
+		 */
+		void changed(K key, V oldValue, V newValue);
+	}
+
+	/**
+	 * A mutable, single-use helper for making many changes to a {@link PersistentObjectObjectMap} at once. Nodes that
+	 * a Builder creates are changed in place by later calls, instead of being copied again, until {@link #build()}
+	 * is called; nodes shared with the map it started from are copied once when first changed. A Builder should only
+	 * be used by one thread at a time.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 */
+	public static class Builder<K, V> {
+		private Object edit = new Object();
+		private ChampNode root;
+		private int size;
+		private final ChampNode.Change change = new ChampNode.Change();
+
+		public Builder() {
+			this(PersistentObjectObjectMap.<K, V>empty());
+		}
+
+		public Builder(PersistentObjectObjectMap<K, V> start) {
+			root = start.root;
+			size = start.size;
+		}
+
+		/**
+		 * Associates {@code key} with {@code value}; does nothing if {@code key} is null.
+		 *
+		 * @param key   the key to associate with {@code value}
+		 * @param value the value to associate with {@code key}
+		 * @return this Builder, for chaining
+		 */
+		public Builder<K, V> put(K key, V value) {
+			if (key == null) return this;
+			root = ChampNode.put(root, key, value, ChampNode.hash(key), 0, edit, change.reset());
+			if (change.sizeChanged) size++;
+			return this;
+		}
+
+		/**
+		 * Removes {@code key}, if present.
+		 *
+		 * @param key the key to remove
+		 * @return this Builder, for chaining
+		 */
+		public Builder<K, V> remove(Object key) {
+			if (key == null) return this;
+			root = ChampNode.remove(root, key, ChampNode.hash(key), 0, edit, change.reset());
+			if (change.sizeChanged) size--;
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		public V get(Object key) {
+			if (key == null) return null;
+			Object value = ChampNode.find(root, key, ChampNode.hash(key), 0);
+			return value == ChampNode.NOT_FOUND ? null : (V) value;
+		}
+
+		public boolean containsKey(Object key) {
+			return key != null && ChampNode.find(root, key, ChampNode.hash(key), 0) != ChampNode.NOT_FOUND;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Creates a PersistentObjectObjectMap with the current pairs. This Builder can still be used afterward, and
+		 * later changes won't affect the map this returns.
+		 *
+		 * @return a new PersistentObjectObjectMap holding the current pairs
+		 */
+		public PersistentObjectObjectMap<K, V> build() {
+			edit = new Object();
+			return size == 0 ? PersistentObjectObjectMap.<K, V>empty() : new PersistentObjectObjectMap<>(root, size);
+		}
+	}
+}
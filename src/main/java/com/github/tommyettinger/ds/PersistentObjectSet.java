@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, persistent set of Object items, stored as a compressed hash-array mapped prefix tree (CHAMP).
+ * Instead of being changed, a set produces a new set with {@link #with(Object)} or {@link #without(Object)}, in
+ * O(log32 n) time; the new set shares every part of the tree that didn't change with the old one, so keeping many
+ * versions around costs only the parts that differ, rather than a full copy of an {@link ObjectSet} per version.
+ * <br>
+ * For many changes at once, {@link #toBuilder()} gives a {@link Builder} that changes its own new nodes in place, and
+ * {@link #equals(Object)} and {@link #diff(PersistentObjectSet, DiffListener)} skip any subtrees that two sets
+ * share. Items can't be null. This implements {@link java.util.Set} for reading; its mutating methods throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @param <T> the type of items
+ * @see PersistentObjectObjectMap PersistentObjectObjectMap is the map counterpart of this.
+ */
+public class PersistentObjectSet<T> extends AbstractSet<T> {
+	private static final PersistentObjectSet<?> EMPTY = new PersistentObjectSet<>(ChampNode.EMPTY, 0);
+
+	protected final ChampNode root;
+	protected final int size;
+	/**
+	 * The cached hash code, or 0 if it hasn't been calculated yet (or if it is 0 and {@link #hashIsZero} is true).
+	 */
+	private int hash;
+	private boolean hashIsZero;
+
+	protected PersistentObjectSet(ChampNode root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/**
+	 * Gets the empty set; every empty PersistentObjectSet made by this class is the same object.
+	 *
+	 * @param <T> the type of items
+	 * @return an empty PersistentObjectSet
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> PersistentObjectSet<T> empty() {
+		return (PersistentObjectSet<T>) EMPTY;
+	}
+
+	/**
+	 * Creates a new set holding the given items, skipping any nulls.
+	 *
+	 * @param items the items to put in the set
+	 * @param <T>   the type of items
+	 * @return a new PersistentObjectSet holding the given items
+	 */
+	@SafeVarargs
+	public static <T> PersistentObjectSet<T> of(T... items) {
+		Builder<T> builder = new Builder<>();
+		for (T item : items) {
+			builder.add(item);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a new set holding every item in {@code coll}, skipping any nulls.
+	 *
+	 * @param coll a Collection of items
+	 * @param <T>  the type of items
+	 * @return a new PersistentObjectSet holding the items in {@code coll}
+	 */
+	public static <T> PersistentObjectSet<T> from(Collection<? extends T> coll) {
+		if (coll instanceof PersistentObjectSet) {
+			@SuppressWarnings("unchecked") PersistentObjectSet<T> same = (PersistentObjectSet<T>) coll;
+			return same;
+		}
+		return PersistentObjectSet.<T>empty().withAll(coll);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean contains(Object item) {
+		return item != null && ChampNode.find(root, item, ChampNode.hash(item), 0) != ChampNode.NOT_FOUND;
+	}
+
+	/**
+	 * Returns a set with the items in this one plus {@code item}. If {@code item} is already present, or is null,
+	 * this returns this set.
+	 *
+	 * @param item the item to add
+	 * @return a set with {@code item}, sharing everything else with this set
+	 */
+	public PersistentObjectSet<T> with(T item) {
+		if (item == null) return this;
+		ChampNode.Change change = new ChampNode.Change().reset();
+		ChampNode next = ChampNode.put(root, item, null, ChampNode.hash(item), 0, null, change);
+		if (next == root) return this;
+		return new PersistentObjectSet<>(next, size + 1);
+	}
+
+	/**
+	 * Returns a set with the items in this one except {@code item}. If {@code item} is already not present, this
+	 * returns this set.
+	 *
+	 * @param item the item to remove
+	 * @return a set without {@code item}, sharing everything else with this set
+	 */
+	public PersistentObjectSet<T> without(Object item) {
+		if (item == null) return this;
+		ChampNode.Change change = new ChampNode.Change().reset();
+		ChampNode next = ChampNode.remove(root, item, ChampNode.hash(item), 0, null, change);
+		if (next == root) return this;
+		if (size == 1) return empty();
+		return new PersistentObjectSet<>(next, size - 1);
+	}
+
+	/**
+	 * Returns a set with the items in this set and in {@code coll}. This uses a {@link Builder}, so only the new
+	 * nodes are allocated, once each.
+	 *
+	 * @param coll a Collection of items
+	 * @return a set with the items of both
+	 */
+	public PersistentObjectSet<T> withAll(Collection<? extends T> coll) {
+		Builder<T> builder = toBuilder();
+		for (T item : coll) {
+			builder.add(item);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a {@link Builder} that starts with the items in this set. Changes to the builder never affect this set.
+	 *
+	 * @return a new Builder holding the same items as this set
+	 */
+	public Builder<T> toBuilder() {
+		return new Builder<>(this);
+	}
+
+	/**
+	 * Calls {@code listener} once for each item that is only in this set or only in {@code newer}. Any subtrees that
+	 * this and {@code newer} share are skipped, so this is fast when {@code newer} was made from this set with a few
+	 * changes, or the other way around.
+	 *
+	 * @param newer    another PersistentObjectSet, usually a later version of this one
+	 * @param listener will be told about each item that was added or removed to get from this to {@code newer}
+	 */
+	public void diff(PersistentObjectSet<? extends T> newer, final DiffListener<? super T> listener) {
+		ChampNode.diff(root, newer.root, 0, new ChampNode.Differ() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public void added(Object key, Object value) {
+				listener.added((T) key);
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public void removed(Object key, Object value) {
+				listener.removed((T) key);
+			}
+
+			@Override
+			public void changed(Object key, Object oldValue, Object newValue) {
+			}
+		});
+	}
+
+	/**
+	 * Compares this with another Set. If {@code o} is also a PersistentObjectSet, this skips any subtrees the two
+	 * sets share, and doesn't need to look anything up; otherwise, this compares as any Set would.
+	 *
+	 * @param o object to be compared for equality with this set
+	 * @return true if {@code o} is a Set with the same items as this
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) return true;
+		if (o instanceof PersistentObjectSet) {
+			PersistentObjectSet<?> other = (PersistentObjectSet<?>) o;
+			final int h = hash, otherHash = other.hash;
+			return size == other.size && (h == 0 || otherHash == 0 || h == otherHash)
+				&& ChampNode.equal(root, other.root, 0);
+		}
+		return super.equals(o);
+	}
+
+	/**
+	 * Gets the hash code as specified by {@link java.util.Set#hashCode()}; this is calculated once and then cached.
+	 *
+	 * @return the sum of the hash codes of every item
+	 */
+	@Override
+	public int hashCode() {
+		int h = hash;
+		if (h == 0 && !hashIsZero) {
+			ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+			while (cursor.advance()) {
+				h += cursor.key.hashCode();
+			}
+			if (h == 0) hashIsZero = true;
+			else hash = h;
+		}
+		return h;
+	}
+
+	/**
+	 * Iterates over the items in this set, in an order that depends on their hashes.
+	 *
+	 * @return an Iterator over the items in this set
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<T>() {
+			private final ChampNode.Cursor cursor = new ChampNode.Cursor(root);
+			private boolean ready = cursor.advance();
+
+			@Override
+			public boolean hasNext() {
+				return ready;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public T next() {
+				if (!ready) throw new NoSuchElementException();
+				T item = (T) cursor.key;
+				ready = cursor.advance();
+				return item;
+			}
+		};
+	}
+
+	/**
+	 * Receives the differences found by {@link #diff(PersistentObjectSet, DiffListener)}.
+	 *
+	 * @param <T> the type of items
+	 */
+	public interface DiffListener<T> {
+		/**
+		 * Called for an item that is only in the newer set.
+		 */
+		void added(T item);
+
+		/**
+		 * Called for an item that is only in the older set.
+		 */
+		void removed(T item);
+	}
+
+	/**
+	 * A mutable, single-use helper for making many changes to a {@link PersistentObjectSet} at once. Nodes that a
+	 * Builder creates are changed in place by later calls, instead of being copied again, until {@link #build()} is
+	 * called. A Builder should only be used by one thread at a time.
+	 *
+	 * @param <T> the type of items
+	 */
+	public static class Builder<T> {
+		private Object edit = new Object();
+		private ChampNode root;
+		private int size;
+		private final ChampNode.Change change = new ChampNode.Change();
+
+		public Builder() {
+			this(PersistentObjectSet.<T>empty());
+		}
+
+		public Builder(PersistentObjectSet<T> start) {
+			root = start.root;
+			size = start.size;
+		}
+
+		/**
+		 * Adds {@code item}; does nothing if it is null or already present.
+		 *
+		 * @param item the item to add
+		 * @return this Builder, for chaining
+		 */
+		public Builder<T> add(T item) {
+			if (item == null) return this;
+			root = ChampNode.put(root, item, null, ChampNode.hash(item), 0, edit, change.reset());
+			if (change.sizeChanged) size++;
+			return this;
+		}
+
+		/**
+		 * Removes {@code item}, if present.
+		 *
+		 * @param item the item to remove
+		 * @return this Builder, for chaining
+		 */
+		public Builder<T> remove(Object item) {
+			if (item == null) return this;
+			root = ChampNode.remove(root, item, ChampNode.hash(item), 0, edit, change.reset());
+			if (change.sizeChanged) size--;
+			return this;
+		}
+
+		public boolean contains(Object item) {
+			return item != null && ChampNode.find(root, item, ChampNode.hash(item), 0) != ChampNode.NOT_FOUND;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Creates a PersistentObjectSet with the current items. This Builder can still be used afterward, and later
+		 * changes won't affect the set this returns.
+		 *
+		 * @return a new PersistentObjectSet holding the current items
+		 */
+		public PersistentObjectSet<T> build() {
+			edit = new Object();
+			return size == 0 ? PersistentObjectSet.<T>empty() : new PersistentObjectSet<>(root, size);
+		}
+	}
+}
@@ -44,8 +44,10 @@ import com.github.tommyettinger.ds.support.util.ByteIterator;
 import com.github.tommyettinger.ds.support.util.CharIterator;
 import com.github.tommyettinger.ds.support.util.FloatIterator;
 import com.github.tommyettinger.ds.support.util.ShortIterator;
+import com.github.tommyettinger.ds.support.util.LegibleTokenizer;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Iterator;
 
 import com.github.tommyettinger.function.DoubleConsumer;
@@ -690,6 +692,48 @@ public interface PrimitiveCollection<T> {
 				add(Base.BASE10.readInt(str, offset, lim));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(Base.BASE10.readInt(tokens.chars(), tokens.start(), tokens.end()));
+			}
+		}
 	}
 
 	/**
@@ -1304,6 +1348,48 @@ public interface PrimitiveCollection<T> {
 				add(Base.BASE10.readLong(str, offset, lim));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(Base.BASE10.readLong(tokens.chars(), tokens.start(), tokens.end()));
+			}
+		}
 	}
 
 	/**
@@ -1887,6 +1973,48 @@ public interface PrimitiveCollection<T> {
 				add(Base.BASE10.readFloat(str, offset, lim));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(Base.BASE10.readFloat(tokens.chars(), tokens.start(), tokens.end()));
+			}
+		}
 	}
 
 	/**
@@ -2475,6 +2603,48 @@ public interface PrimitiveCollection<T> {
 				add(Base.BASE10.readDouble(str, offset, lim));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(Base.BASE10.readDouble(tokens.chars(), tokens.start(), tokens.end()));
+			}
+		}
 	}
 
 	/**
@@ -3054,6 +3224,48 @@ public interface PrimitiveCollection<T> {
 				add(Base.BASE10.readShort(str, offset, lim));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(Base.BASE10.readShort(tokens.chars(), tokens.start(), tokens.end()));
+			}
+		}
 	}
 
 	/**
@@ -3632,6 +3844,48 @@ public interface PrimitiveCollection<T> {
 				add(Base.BASE10.readByte(str, offset, lim));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(Base.BASE10.readByte(tokens.chars(), tokens.start(), tokens.end()));
+			}
+		}
 	}
 
 	/**
@@ -4238,6 +4492,48 @@ public interface PrimitiveCollection<T> {
 				add(str.charAt(offset));
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(tokens.chars()[tokens.start()]);
+			}
+		}
 	}
 
 	/**
@@ -4813,5 +5109,47 @@ public interface PrimitiveCollection<T> {
 				add(str.charAt(offset) == 't');
 			}
 		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from {@code reader}, which should provide text in the same format
+		 * that {@link #addLegible(String, String, int, int)} reads. This only buffers a bounded amount of the text at a
+		 * time, using a {@link LegibleTokenizer}, so it can load large text without first reading it into one String.
+		 * This does not close {@code reader}.
+		 *
+		 * @param reader    a Reader providing the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(Reader reader, String delimiter) {
+			addLegible(new LegibleTokenizer(reader), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from a window of any CharSequence, such as a CharBuffer or
+		 * CharList, in the same format that {@link #addLegible(String, String, int, int)} reads. This copies a bounded
+		 * amount of the text at a time into a {@link LegibleTokenizer}, rather than reading it all at once.
+		 *
+		 * @param text      a CharSequence containing the text to parse
+		 * @param delimiter the String separating every item
+		 * @param offset    the first position to read from in {@code text}
+		 * @param length    how many chars to read; -1 is treated as maximum length
+		 */
+		default void addLegible(CharSequence text, String delimiter, int offset, int length) {
+			if (text == null) return;
+			addLegible(new LegibleTokenizer(text, offset, length), delimiter);
+		}
+
+		/**
+		 * Adds items to this PrimitiveCollection drawn from the remaining tokens in {@code tokens}, split on
+		 * {@code delimiter}. Items are read straight from the tokenizer's buffer.
+		 *
+		 * @param tokens    a LegibleTokenizer over the text to parse
+		 * @param delimiter the String separating every item
+		 */
+		default void addLegible(LegibleTokenizer tokens, String delimiter) {
+			if (tokens == null || delimiter == null || delimiter.isEmpty()) return;
+			while (tokens.next(delimiter)) {
+				add(tokens.chars()[tokens.start()] == 't');
+			}
+		}
 	}
 }
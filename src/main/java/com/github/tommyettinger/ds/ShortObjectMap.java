@@ -0,0 +1,963 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import com.github.tommyettinger.digital.BitConversion;
+import com.github.tommyettinger.ds.support.util.Appender;
+import com.github.tommyettinger.ds.support.util.ShortAppender;
+import com.github.tommyettinger.ds.support.util.ShortIterator;
+import com.github.tommyettinger.function.ShortObjBiConsumer;
+import com.github.tommyettinger.function.ShortObjToObjBiFunction;
+import com.github.tommyettinger.function.ShortToObjFunction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A map where the keys are unboxed shorts and the values are objects. Unlike {@link IntObjectMap}, this never hashes
+ * anything; a short key is offset by {@code -Short.MIN_VALUE} so it is non-negative, and that index is used directly
+ * in a two-level table of "pages," each holding the values for 256 consecutive shorts. Presence of a key is tracked by
+ * a bit set that works like the {@code int[]} in {@link CharBitSet}. This makes {@link #get(short)},
+ * {@link #put(short, Object)}, {@link #containsKey(short)}, and {@link #remove(short)} all truly O(1), with no probing
+ * and no collisions. Iteration always goes in ascending (signed) key order. Null values are allowed, and are
+ * distinguished from missing keys by {@link #containsKey(short)}.
+ * <br>
+ * Pages are only allocated when a key in their range is first put into the map, so a map that only uses a small range
+ * of shorts only allocates a page or two of 256 references, plus a 256-element array of page references and the ints
+ * needed for its bits.
+ * <br>
+ * If a key isn't present, methods that look up a value return {@link #defaultValue}, which is null unless changed.
+ *
+ * @param <V> the type of values
+ * @see CharObjectMap CharObjectMap is the same data structure with char keys.
+ */
+public class ShortObjectMap<V> implements Iterable<ShortObjectMap.Entry<V>> {
+	/**
+	 * How many bits of an offset short are used to select an index within a page; the rest select the page.
+	 */
+	protected static final int PAGE_BITS = 8;
+	/**
+	 * How many values a single page holds.
+	 */
+	protected static final int PAGE_SIZE = 1 << PAGE_BITS;
+	/**
+	 * Masks an offset short to get its index within its page.
+	 */
+	protected static final int PAGE_MASK = PAGE_SIZE - 1;
+
+	protected int size;
+
+	/**
+	 * The raw bits, each one representing the presence or absence of a key at a position (offset by {@code -Short.MIN_VALUE}). This grows as needed to
+	 * fit the highest key, the same way {@link CharBitSet} grows.
+	 */
+	protected int[] bits;
+
+	/**
+	 * The value pages, indexed by {@code i >>> PAGE_BITS}. A page is null until a key in its range is put here.
+	 */
+	protected Object[][] pages;
+
+	public V defaultValue = null;
+
+	/**
+	 * Creates a new, empty map. This doesn't allocate any value pages until a key is put into it.
+	 */
+	public ShortObjectMap() {
+		bits = new int[1];
+		pages = new Object[65536 >>> PAGE_BITS][];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map. Only the pages that are in use by {@code map} are copied,
+	 * and values are copied by reference.
+	 *
+	 * @param map the map to copy
+	 */
+	public ShortObjectMap(ShortObjectMap<? extends V> map) {
+		bits = Arrays.copyOf(map.bits, map.bits.length);
+		pages = new Object[map.pages.length][];
+		for (int i = 0; i < pages.length; i++) {
+			if (map.pages[i] != null)
+				pages[i] = Arrays.copyOf(map.pages[i], PAGE_SIZE);
+		}
+		size = map.size;
+		defaultValue = map.defaultValue;
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public ShortObjectMap(short[] keys, V[] values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a Collection of values
+	 */
+	public ShortObjectMap(PrimitiveCollection.OfShort keys, Collection<? extends V> values) {
+		this();
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a Collection of values
+	 */
+	public void putAll(PrimitiveCollection.OfShort keys, Collection<? extends V> values) {
+		ShortIterator ki = keys.iterator();
+		Iterator<? extends V> vi = values.iterator();
+		while (ki.hasNext() && vi.hasNext()) {
+			put(ki.nextShort(), vi.next());
+		}
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public void putAll(short[] keys, V[] values) {
+		putAll(keys, 0, values, 0, Math.min(keys.length, values.length));
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this inserts each pair of key and value into this map with put().
+	 *
+	 * @param keys        an array of keys
+	 * @param keyOffset   the first index in keys to insert
+	 * @param values      an array of values
+	 * @param valueOffset the first index in values to insert
+	 * @param length      how many items from keys and values to insert, at-most
+	 */
+	public void putAll(short[] keys, int keyOffset, V[] values, int valueOffset, int length) {
+		length = Math.min(length, Math.min(keys.length - keyOffset, values.length - valueOffset));
+		for (int k = keyOffset, v = valueOffset, i = 0; i < length; i++, k++, v++) {
+			put(keys[k], values[v]);
+		}
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(ShortObjectMap<? extends V> map) {
+		int[] otherBits = map.bits;
+		for (int word = 0; word < otherBits.length; word++) {
+			int w = otherBits[word];
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				put((short) (i + Short.MIN_VALUE), (V) map.pages[i >>> PAGE_BITS][i & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	private void checkCapacity(int word) {
+		if (word >= bits.length) {
+			int[] newBits = new int[1 << -BitConversion.countLeadingZeros(word)]; // resizes to next power of two size that can fit word
+			System.arraycopy(bits, 0, newBits, 0, bits.length);
+			bits = newBits;
+		}
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or this map's {@link #defaultValue} if there was no prior value.
+	 */
+	public V put(short key, V value) {
+		return putOrDefault(key, value, defaultValue);
+	}
+
+	/**
+	 * Returns the old value associated with the specified key, or the given {@code defaultValue} if there was no prior value.
+	 */
+	@SuppressWarnings("unchecked")
+	public V putOrDefault(short key, V value, V defaultValue) {
+		final int i = key - Short.MIN_VALUE;
+		final int word = i >>> 5;
+		checkCapacity(word);
+		Object[] page = pages[i >>> PAGE_BITS];
+		if (page == null) {
+			page = pages[i >>> PAGE_BITS] = new Object[PAGE_SIZE];
+		}
+		V old = defaultValue;
+		if ((bits[word] & 1 << i) != 0) {
+			old = (V) page[i & PAGE_MASK];
+		} else {
+			bits[word] |= 1 << i;
+			size++;
+		}
+		page[i & PAGE_MASK] = value;
+		return old;
+	}
+
+	/**
+	 * Returns the value for the specified key, or {@link #defaultValue} if the key is not in the map.
+	 *
+	 * @param key any {@code short}
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(short key) {
+		final int i = key - Short.MIN_VALUE;
+		final int word = i >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << i) == 0) return defaultValue;
+		return (V) pages[i >>> PAGE_BITS][i & PAGE_MASK];
+	}
+
+	/**
+	 * Returns the value for the specified key, or the given default value if the key is not in the map.
+	 */
+	@SuppressWarnings("unchecked")
+	public V getOrDefault(short key, V defaultValue) {
+		final int i = key - Short.MIN_VALUE;
+		final int word = i >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << i) == 0) return defaultValue;
+		return (V) pages[i >>> PAGE_BITS][i & PAGE_MASK];
+	}
+
+	/**
+	 * Removes the given key, if present, and returns the value that was associated with it, or {@link #defaultValue}
+	 * if the key was not present. The slot the value occupied is set to null so it can be garbage-collected, but the
+	 * page itself is kept; you can call {@link #shrink()} to release pages that are no longer used.
+	 *
+	 * @param key any {@code short}
+	 * @return the value that was associated with key, or {@link #defaultValue} if it wasn't present
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(short key) {
+		final int i = key - Short.MIN_VALUE;
+		final int word = i >>> 5;
+		if (word >= bits.length || (bits[word] & 1 << i) == 0) return defaultValue;
+		bits[word] &= ~(1 << i);
+		size--;
+		Object[] page = pages[i >>> PAGE_BITS];
+		V old = (V) page[i & PAGE_MASK];
+		page[i & PAGE_MASK] = null;
+		return old;
+	}
+
+	public boolean containsKey(short key) {
+		final int i = key - Short.MIN_VALUE;
+		final int word = i >>> 5;
+		return word < bits.length && (bits[word] & 1 << i) != 0;
+	}
+
+	/**
+	 * Returns true if the specified value is in the map. Note this traverses the entire map and compares every value,
+	 * which may be an expensive operation.
+	 */
+	public boolean containsValue(Object value) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				if (Objects.equals(pages[i >>> PAGE_BITS][i & PAGE_MASK], value)) return true;
+				w &= w - 1;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the lowest key that maps to the specified value, or {@code defaultKey} if value is not in the map.
+	 * Note, this traverses the entire map and compares every value, which may be an expensive operation.
+	 *
+	 * @param value      the value to search for
+	 * @param defaultKey the key to return when value cannot be found
+	 * @return a key that maps to value, if present, or defaultKey if value cannot be found
+	 */
+	public short findKey(Object value, short defaultKey) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				if (Objects.equals(pages[i >>> PAGE_BITS][i & PAGE_MASK], value)) return (short) (i + Short.MIN_VALUE);
+				w &= w - 1;
+			}
+		}
+		return defaultKey;
+	}
+
+	/**
+	 * Returns the lowest index present in this map that is greater than or equal to {@code fromIndex}, or -1 if there
+	 * is no such index. An index is a key minus {@link Short#MIN_VALUE}, so it is always between 0 and 65535, inclusive;
+	 * you can get the key back from an index with {@code (short) (index + Short.MIN_VALUE)}.
+	 * This can be used to iterate over keys in ascending order without allocating an iterator.
+	 *
+	 * @param fromIndex the lowest index to consider; may be negative, which acts like 0
+	 * @return the next present index on or after fromIndex, or -1 if none is present
+	 */
+	public int nextIndex(int fromIndex) {
+		if (fromIndex < 0) fromIndex = 0;
+		int[] bits = this.bits;
+		int word = fromIndex >>> 5;
+		if (word >= bits.length)
+			return -1;
+		int bitsAtWord = bits[word] & -1 << fromIndex;
+		if (bitsAtWord != 0) {
+			return BitConversion.countTrailingZeros(bitsAtWord) + (word << 5);
+		}
+		for (word++; word < bits.length; word++) {
+			bitsAtWord = bits[word];
+			if (bitsAtWord != 0) {
+				return BitConversion.countTrailingZeros(bitsAtWord) + (word << 5);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns true if the map has one or more items.
+	 */
+	public boolean notEmpty() {
+		return size != 0;
+	}
+
+	/**
+	 * Returns the number of key-value mappings in this map. This runs in O(1) time.
+	 *
+	 * @return the number of key-value mappings in this map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the map is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Gets the default value, a {@code V} which is returned by {@link #get(short)} if the key is not found.
+	 * If not changed, the default value is null.
+	 *
+	 * @return the current default value
+	 */
+	public V getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Sets the default value, a {@code V} which is returned by {@link #get(short)} if the key is not found.
+	 * If not changed, the default value is null. Note that {@link #getOrDefault(short, Object)} is also available,
+	 * which allows specifying a "not-found" value per-call.
+	 *
+	 * @param defaultValue may be any V object or null; should usually be one that doesn't occur as a typical value
+	 */
+	public void setDefaultValue(V defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Removes all keys from this map. Allocated pages are kept for reuse, but have their contents set to null.
+	 */
+	public void clear() {
+		if (size == 0) return;
+		size = 0;
+		Arrays.fill(bits, 0);
+		for (int i = 0; i < pages.length; i++) {
+			if (pages[i] != null) Utilities.clear(pages[i]);
+		}
+	}
+
+	/**
+	 * Releases any value pages that no longer contain any present keys, and shrinks the presence bits to fit the
+	 * highest present key. This is the only way pages are freed.
+	 */
+	public void shrink() {
+		int[] bits = this.bits;
+		int wordsPerPage = PAGE_SIZE >>> 5;
+		for (int p = 0; p < pages.length; p++) {
+			if (pages[p] == null) continue;
+			boolean empty = true;
+			for (int w = p * wordsPerPage, e = Math.min(w + wordsPerPage, bits.length); w < e; w++) {
+				if (bits[w] != 0) {
+					empty = false;
+					break;
+				}
+			}
+			if (empty) pages[p] = null;
+		}
+		int top = bits.length;
+		while (top > 1 && bits[top - 1] == 0) top--;
+		if (top < bits.length) {
+			this.bits = Arrays.copyOf(bits, 1 << -BitConversion.countLeadingZeros(top - 1));
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		int h = size;
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				h ^= i;
+				Object value = pages[i >>> PAGE_BITS][i & PAGE_MASK];
+				if (value != null) h ^= value.hashCode();
+				w &= w - 1;
+			}
+		}
+		return h;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof ShortObjectMap)) {
+			return false;
+		}
+		ShortObjectMap<?> other = (ShortObjectMap<?>) obj;
+		if (other.size != size) {
+			return false;
+		}
+		int[] bits = this.bits, otherBits = other.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			if (w != (word < otherBits.length ? otherBits[word] : 0)) return false;
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				if (!Objects.equals(pages[i >>> PAGE_BITS][i & PAGE_MASK], other.pages[i >>> PAGE_BITS][i & PAGE_MASK]))
+					return false;
+				w &= w - 1;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets a String representation of this map using {@link ShortAppender#DEFAULT} to get the String form of keys and
+	 * {@code Appender::append} to get the String form of values.
+	 * Separates keys from values using "=", and separates entries using ", ". Wraps the output in curly braces.
+	 *
+	 * @return a String representation of this map
+	 */
+	@Override
+	public String toString() {
+		return toString(", ", true);
+	}
+
+	/**
+	 * Delegates to {@link #toString(String, boolean)} with the given entrySeparator and without braces.
+	 * This is different from {@link #toString()}, which includes braces by default.
+	 *
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator) {
+		return toString(entrySeparator, false);
+	}
+
+	public String toString(String entrySeparator, boolean braces) {
+		return appendTo(new StringBuilder(8 * size()), entrySeparator, braces).toString();
+	}
+
+	/**
+	 * Makes a String from the contents of this ShortObjectMap, but uses the given {@link ShortAppender} and
+	 * {@link Appender} to convert each key and each value to a customizable representation and append them
+	 * to a temporary StringBuilder.
+	 *
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a ShortAppender that can take a short key, such as {@link ShortAppender#DEFAULT}
+	 * @param valueAppender     a function that takes an Appendable CharSequence and a V, and returns the modified sequence
+	 * @return a new String representing this map
+	 */
+	public String toString(String entrySeparator, String keyValueSeparator, boolean braces,
+						   ShortAppender keyAppender, Appender<V> valueAppender) {
+		return appendTo(new StringBuilder(8 * size()), entrySeparator, keyValueSeparator, braces, keyAppender, valueAppender).toString();
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this ShortObjectMap. Uses
+	 * {@link ShortAppender#DEFAULT} to write keys and {@link Appender#append(CharSequence, Object)} to write values.
+	 * Uses {@code "="} to separate keys from their values. Uses {@code entrySeparator} to separate entries.
+	 * If {@code braces} is true, wraps the output in curly braces.
+	 *
+	 * @param sb             an Appendable CharSequence that this can append to
+	 * @param entrySeparator how to separate entries, such as {@code ", "}
+	 * @param braces         true to wrap the output in curly braces, or false to omit them
+	 * @param <S>            any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or ShortList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, boolean braces) {
+		return appendTo(sb, entrySeparator, "=", braces, ShortAppender.DEFAULT, Appender::append);
+	}
+
+	/**
+	 * Appends to an Appendable CharSequence from the contents of this ShortObjectMap, but uses the given
+	 * {@link ShortAppender} and {@link Appender} to convert each key and each value to a customizable
+	 * representation and append them to {@code sb}. Entries are appended in ascending key order.
+	 *
+	 * @param sb                an Appendable CharSequence that this can append to
+	 * @param entrySeparator    how to separate entries, such as {@code ", "}
+	 * @param keyValueSeparator how to separate each key from its value, such as {@code "="} or {@code ":"}
+	 * @param braces            true to wrap the output in curly braces, or false to omit them
+	 * @param keyAppender       a ShortAppender that can take a short key, such as {@link ShortAppender#DEFAULT}
+	 * @param valueAppender     a function that takes an Appendable CharSequence and a V, and returns the modified sequence
+	 * @param <S>               any type that is both a CharSequence and an Appendable, such as StringBuilder, StringBuffer, CharBuffer, or ShortList
+	 * @return {@code sb}, with the appended keys and values of this map
+	 */
+	@SuppressWarnings("unchecked")
+	public <S extends CharSequence & Appendable> S appendTo(S sb, String entrySeparator, String keyValueSeparator, boolean braces,
+															ShortAppender keyAppender, Appender<V> valueAppender) {
+		try {
+			if (braces) {
+				sb.append('{');
+			}
+			boolean first = true;
+			int[] bits = this.bits;
+			for (int word = 0; word < bits.length; word++) {
+				int w = bits[word];
+				while (w != 0) {
+					int i = word << 5 | BitConversion.countTrailingZeros(w);
+					if (!first) sb.append(entrySeparator);
+					first = false;
+					keyAppender.apply(sb, (short) (i + Short.MIN_VALUE)).append(keyValueSeparator);
+					valueAppender.apply(sb, (V) pages[i >>> PAGE_BITS][i & PAGE_MASK]);
+					w &= w - 1;
+				}
+			}
+			if (braces) {
+				sb.append('}');
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		return sb;
+	}
+
+	/**
+	 * Performs the given action for each entry in this map, in ascending key order, until all entries
+	 * have been processed or the action throws an exception. This does not allocate.
+	 *
+	 * @param action The action to be performed for each entry
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(ShortObjBiConsumer<? super V> action) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				action.accept((short) (i + Short.MIN_VALUE), (V) pages[i >>> PAGE_BITS][i & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	/**
+	 * Replaces each entry's value with the result of invoking the given
+	 * function on that entry until all entries have been processed or the
+	 * function throws an exception.
+	 *
+	 * @param function the function to apply to each entry
+	 */
+	@SuppressWarnings("unchecked")
+	public void replaceAll(ShortObjToObjBiFunction<? super V, ? extends V> function) {
+		int[] bits = this.bits;
+		for (int word = 0; word < bits.length; word++) {
+			int w = bits[word];
+			while (w != 0) {
+				int i = word << 5 | BitConversion.countTrailingZeros(w);
+				Object[] page = pages[i >>> PAGE_BITS];
+				page[i & PAGE_MASK] = function.apply((short) (i + Short.MIN_VALUE), (V) page[i & PAGE_MASK]);
+				w &= w - 1;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public V putIfAbsent(short key, V value) {
+		final int i = key - Short.MIN_VALUE;
+		if (containsKey(key)) {
+			return (V) pages[i >>> PAGE_BITS][i & PAGE_MASK];
+		}
+		return put(key, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V replace(short key, V value) {
+		final int i = key - Short.MIN_VALUE;
+		if (containsKey(key)) {
+			Object[] page = pages[i >>> PAGE_BITS];
+			V old = (V) page[i & PAGE_MASK];
+			page[i & PAGE_MASK] = value;
+			return old;
+		}
+		return defaultValue;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V computeIfAbsent(short key, ShortToObjFunction<? extends V> mappingFunction) {
+		final int i = key - Short.MIN_VALUE;
+		if (containsKey(key)) {
+			return (V) pages[i >>> PAGE_BITS][i & PAGE_MASK];
+		}
+		V newValue = mappingFunction.apply(key);
+		put(key, newValue);
+		return newValue;
+	}
+
+	/**
+	 * Creates a new {@link EntryIterator}, which iterates in ascending key order.
+	 * You can remove an Entry from this map using this Iterator.
+	 *
+	 * @return an {@link Iterator} over key-value pairs as {@link Entry} values
+	 */
+	@Override
+	public EntryIterator<V> iterator() {
+		return new EntryIterator<>(this);
+	}
+
+	/**
+	 * Returns a {@link PrimitiveCollection.OfShort} view of the keys contained in this map, in ascending order.
+	 * The set is backed by the map, so changes to the map are reflected in the set. It supports removal only through
+	 * its iterator.
+	 *
+	 * @return a set view of the keys contained in this map
+	 */
+	public Keys<V> keySet() {
+		return new Keys<>(this);
+	}
+
+	/**
+	 * Returns a new iterator over the values in this map, in the ascending order of their keys.
+	 *
+	 * @return a new {@link ValueIterator}
+	 */
+	public ValueIterator<V> values() {
+		return new ValueIterator<>(this);
+	}
+
+	public static class Entry<V> {
+		public short key;
+		public V value;
+
+		public Entry() {
+		}
+
+		public Entry(short key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		public Entry(Entry<? extends V> entry) {
+			this.key = entry.key;
+			this.value = entry.value;
+		}
+
+		public short getKey() {
+			return key;
+		}
+
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Entry<?> entry = (Entry<?>) o;
+			return key == entry.key && Objects.equals(value, entry.value);
+		}
+
+		@Override
+		public int hashCode() {
+			return key * 31 + (value == null ? 0 : value.hashCode());
+		}
+	}
+
+	public static abstract class MapIterator<V> {
+		public boolean hasNext;
+
+		protected final ShortObjectMap<V> map;
+		protected int nextIndex, currentIndex;
+
+		public MapIterator(ShortObjectMap<V> map) {
+			this.map = map;
+			reset();
+		}
+
+		public void reset() {
+			currentIndex = -1;
+			nextIndex = map.nextIndex(0);
+			hasNext = nextIndex != -1;
+		}
+
+		protected void findNextIndex() {
+			nextIndex = map.nextIndex(nextIndex + 1);
+			hasNext = nextIndex != -1;
+		}
+
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		public void remove() {
+			if (currentIndex < 0) {
+				throw new IllegalStateException("next must be called before remove.");
+			}
+			map.remove((short) (currentIndex + Short.MIN_VALUE));
+			currentIndex = -1;
+		}
+	}
+
+	public static class KeyIterator<V> extends MapIterator<V> implements ShortIterator {
+		public KeyIterator(ShortObjectMap<V> map) {
+			super(map);
+		}
+
+		@Override
+		public short nextShort() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return (short) (currentIndex + Short.MIN_VALUE);
+		}
+
+		/**
+		 * Returns a new ShortList containing the remaining keys.
+		 */
+		public ShortList toList() {
+			ShortList list = new ShortList(map.size);
+			while (hasNext) {
+				list.add(nextShort());
+			}
+			return list;
+		}
+	}
+
+	public static class ValueIterator<V> extends MapIterator<V> implements Iterable<V>, Iterator<V> {
+		public ValueIterator(ShortObjectMap<V> map) {
+			super(map);
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V next() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return (V) map.pages[currentIndex >>> PAGE_BITS][currentIndex & PAGE_MASK];
+		}
+
+		/**
+		 * Returns a new ObjectList containing the remaining values.
+		 */
+		public ObjectList<V> toList() {
+			ObjectList<V> list = new ObjectList<>(map.size);
+			while (hasNext) {
+				list.add(next());
+			}
+			return list;
+		}
+	}
+
+	public static class EntryIterator<V> extends MapIterator<V> implements Iterable<Entry<V>>, Iterator<Entry<V>> {
+		public EntryIterator(ShortObjectMap<V> map) {
+			super(map);
+		}
+
+		@Override
+		public Iterator<Entry<V>> iterator() {
+			return this;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<V> next() {
+			if (!hasNext) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex;
+			findNextIndex();
+			return new Entry<>((short) (currentIndex + Short.MIN_VALUE), (V) map.pages[currentIndex >>> PAGE_BITS][currentIndex & PAGE_MASK]);
+		}
+	}
+
+	public static class Keys<V> implements PrimitiveCollection.OfShort {
+		protected ShortObjectMap<V> map;
+
+		public Keys(ShortObjectMap<V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public boolean add(short item) {
+			throw new UnsupportedOperationException("ShortObjectMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean remove(short item) {
+			throw new UnsupportedOperationException("ShortObjectMap.Keys is read-only");
+		}
+
+		@Override
+		public boolean contains(short item) {
+			return map.containsKey(item);
+		}
+
+		@Override
+		public KeyIterator<V> iterator() {
+			return new KeyIterator<>(map);
+		}
+
+		@Override
+		public void clear() {
+			throw new UnsupportedOperationException("ShortObjectMap.Keys is read-only");
+		}
+
+		@Override
+		public int size() {
+			return map.size;
+		}
+
+		@Override
+		public int hashCode() {
+			int hc = 1;
+			for (int k = map.nextIndex(0); k != -1; k = map.nextIndex(k + 1)) {
+				hc ^= (short) (k + Short.MIN_VALUE);
+			}
+			return hc;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) return true;
+			if (!(other instanceof Keys)) return false;
+			Keys<?> o = (Keys<?>) other;
+			if (size() != o.size()) return false;
+			for (int k = map.nextIndex(0); k != -1; k = map.nextIndex(k + 1)) {
+				if (!o.map.containsKey((short) (k + Short.MIN_VALUE))) return false;
+			}
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return toString(", ", true);
+		}
+	}
+
+	/**
+	 * Constructs an empty map given the types as generic type arguments.
+	 *
+	 * @param <V> the type of values
+	 * @return a new map containing nothing
+	 */
+	public static <V> ShortObjectMap<V> with() {
+		return new ShortObjectMap<>();
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @param <V>    the type of value0
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static <V> ShortObjectMap<V> with(short key0, V value0) {
+		ShortObjectMap<V> map = new ShortObjectMap<>();
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   a short key
+	 * @param value0 a V value
+	 * @param key1   a short key
+	 * @param value1 a V value
+	 * @param <V>    the type of values
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static <V> ShortObjectMap<V> with(short key0, V value0, short key1, V value1) {
+		ShortObjectMap<V> map = new ShortObjectMap<>();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 *
+	 * @param key0   a short key
+	 * @param value0 a V value
+	 * @param key1   a short key
+	 * @param value1 a V value
+	 * @param key2   a short key
+	 * @param value2 a V value
+	 * @param <V>    the type of values
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static <V> ShortObjectMap<V> with(short key0, V value0, short key1, V value1, short key2, V value2) {
+		ShortObjectMap<V> map = new ShortObjectMap<>();
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+/**
+ * A variant on {@link IntIntMap} for maps that usually hold only a few entries, such as small per-entity attribute
+ * maps. While its table has at most {@link #SMALL_TABLE_SIZE} slots, this keeps its entries packed at the start of the
+ * table and finds keys by comparing them one at a time, without mixing or hashing them. Once it holds
+ * {@link #SMALL_TABLE_SIZE} entries, it grows its table and switches to hashing, as IntIntMap does; if
+ * {@link #shrink(int)} or {@link #clear(int)} make the table small again, it goes back to packing entries.
+ * <br>
+ * A new SmallIntIntMap starts with a table that has {@link #SMALL_TABLE_SIZE} slots, or fewer if a smaller initial
+ * capacity is requested, where an IntIntMap starts with enough room for {@link Utilities#getDefaultTableCapacity()}
+ * entries. As in IntIntMap, the key 0 is stored outside the table, but it still counts toward the size that decides
+ * when this starts hashing.
+ * <br>
+ * Copying a small SmallIntIntMap into an IntIntMap, or the reverse, rehashes each entry, rather than copying the table
+ * directly.
+ */
+public class SmallIntIntMap extends IntIntMap {
+	/**
+	 * The largest table size that is searched linearly instead of by hashing; a table this size can hold one less than
+	 * this many entries before it grows and starts hashing.
+	 */
+	public static final int SMALL_TABLE_SIZE = 8;
+
+	/**
+	 * Creates a new map that can hold {@code SMALL_TABLE_SIZE - 1} entries before it starts hashing, with a load factor
+	 * of {@link Utilities#getDefaultLoadFactor()} for when it does.
+	 */
+	public SmallIntIntMap() {
+		this(SMALL_TABLE_SIZE - 1);
+	}
+
+	/**
+	 * Creates a new map with the given starting capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If less than {@link #SMALL_TABLE_SIZE}, this map starts out small; otherwise it starts hashing
+	 */
+	public SmallIntIntMap(int initialCapacity) {
+		this(initialCapacity, Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table. The load factor is only used once this map grows past {@link #SMALL_TABLE_SIZE}.
+	 *
+	 * @param initialCapacity If less than {@link #SMALL_TABLE_SIZE}, this map starts out small; otherwise it starts hashing
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public SmallIntIntMap(int initialCapacity, float loadFactor) {
+		super(initialCapacity < SMALL_TABLE_SIZE ? Math.min(initialCapacity, 0) : initialCapacity, loadFactor);
+		if (initialCapacity < SMALL_TABLE_SIZE) {
+			threshold = keyTable.length;
+			ensureCapacity(initialCapacity);
+		}
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map an IntIntMap to copy, or a subclass such as this one
+	 */
+	public SmallIntIntMap(IntIntMap map) {
+		this(map.size, map.loadFactor);
+		defaultValue = map.defaultValue;
+		putAll(map);
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public SmallIntIntMap(int[] keys, int[] values) {
+		this(Math.min(keys.length, values.length));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a PrimitiveCollection of keys
+	 * @param values a PrimitiveCollection of values
+	 */
+	public SmallIntIntMap(PrimitiveCollection.OfInt keys, PrimitiveCollection.OfInt values) {
+		this(Math.min(keys.size(), values.size()));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Returns 0 while this map is small, so every search starts at the beginning of the table and checks each entry in
+	 * turn, or otherwise returns an index &gt;= 0 and &lt;= {@link #mask} for the specified {@code item}, mixed.
+	 *
+	 * @param item any int; it is only mixed if this map is not small
+	 * @return an index between 0 and {@link #mask} (both inclusive)
+	 */
+	@Override
+	protected int place(int item) {
+		return mask < SMALL_TABLE_SIZE ? 0 : super.place(item);
+	}
+
+	/**
+	 * Returns true if this map is currently using hashing, or false if it is small and keeps its entries packed.
+	 *
+	 * @return true if this map is hashing its keys, or false if it is small
+	 */
+	@Override
+	protected boolean isHashed() {
+		return mask >= SMALL_TABLE_SIZE;
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical. Unlike in IntIntMap, this never copies the table of
+	 * {@code map} directly, since its layout may not match this one.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@Override
+	public void putAll(IntIntMap map) {
+		ensureCapacity(map.size);
+		if (map.hasZeroValue) {
+			put(0, map.zeroValue);
+		}
+		map.scrub();
+		int[] keyTable = map.keyTable;
+		int[] valueTable = map.valueTable;
+		int key;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			key = keyTable[i];
+			if (key != 0) {
+				put(key, valueTable[i]);
+			}
+		}
+	}
+
+	/**
+	 * Increases the size of the backing array to accommodate the specified number of additional items. While the total
+	 * stays under {@link #SMALL_TABLE_SIZE}, this only grows the table enough to stay small; otherwise, this uses the
+	 * load factor as IntIntMap does, and starts hashing.
+	 *
+	 * @param additionalCapacity how many additional items this should be able to hold without resizing (probably)
+	 */
+	@Override
+	public void ensureCapacity(int additionalCapacity) {
+		int needed = size + additionalCapacity;
+		if (needed < SMALL_TABLE_SIZE) {
+			int tableSize = Integer.highestOneBit(needed) << 1;
+			if (keyTable.length < tableSize) {
+				resize(tableSize);
+			}
+		} else {
+			super.ensureCapacity(additionalCapacity);
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		super.resize(newSize);
+		if (newSize <= SMALL_TABLE_SIZE) {
+			threshold = newSize;
+		}
+	}
+
+	/**
+	 * Constructs an empty map.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @return a new map containing nothing
+	 */
+	public static SmallIntIntMap with() {
+		return new SmallIntIntMap(0);
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Like the more-argument with(), this will
+	 * convert its Number keys and values to primitive int and int, regardless of which
+	 * Number type was used.
+	 *
+	 * @param key0   the first and only key; will be converted to primitive int
+	 * @param value0 the first and only value; will be converted to primitive int
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static SmallIntIntMap with(Number key0, Number value0) {
+		SmallIntIntMap map = new SmallIntIntMap(1);
+		map.put(key0.intValue(), value0.intValue());
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Like the more-argument with(), this will
+	 * convert its Number keys and values to primitive int and int, regardless of which
+	 * Number type was used.
+	 *
+	 * @param key0   a Number key; will be converted to primitive int
+	 * @param value0 a Number for a value; will be converted to primitive int
+	 * @param key1   a Number key; will be converted to primitive int
+	 * @param value1 a Number for a value; will be converted to primitive int
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap with(Number key0, Number value0, Number key1, Number value1) {
+		SmallIntIntMap map = new SmallIntIntMap(2);
+		map.put(key0.intValue(), value0.intValue());
+		map.put(key1.intValue(), value1.intValue());
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Like the more-argument with(), this will
+	 * convert its Number keys and values to primitive int and int, regardless of which
+	 * Number type was used.
+	 *
+	 * @param key0   a Number key; will be converted to primitive int
+	 * @param value0 a Number for a value; will be converted to primitive int
+	 * @param key1   a Number key; will be converted to primitive int
+	 * @param value1 a Number for a value; will be converted to primitive int
+	 * @param key2   a Number key; will be converted to primitive int
+	 * @param value2 a Number for a value; will be converted to primitive int
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap with(Number key0, Number value0, Number key1, Number value1, Number key2, Number value2) {
+		SmallIntIntMap map = new SmallIntIntMap(3);
+		map.put(key0.intValue(), value0.intValue());
+		map.put(key1.intValue(), value1.intValue());
+		map.put(key2.intValue(), value2.intValue());
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Like the more-argument with(), this will
+	 * convert its Number keys and values to primitive int and int, regardless of which
+	 * Number type was used.
+	 *
+	 * @param key0   a Number key; will be converted to primitive int
+	 * @param value0 a Number for a value; will be converted to primitive int
+	 * @param key1   a Number key; will be converted to primitive int
+	 * @param value1 a Number for a value; will be converted to primitive int
+	 * @param key2   a Number key; will be converted to primitive int
+	 * @param value2 a Number for a value; will be converted to primitive int
+	 * @param key3   a Number key; will be converted to primitive int
+	 * @param value3 a Number for a value; will be converted to primitive int
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap with(Number key0, Number value0, Number key1, Number value1, Number key2, Number value2, Number key3, Number value3) {
+		SmallIntIntMap map = new SmallIntIntMap(4);
+		map.put(key0.intValue(), value0.intValue());
+		map.put(key1.intValue(), value1.intValue());
+		map.put(key2.intValue(), value2.intValue());
+		map.put(key3.intValue(), value3.intValue());
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This can be useful in some code-generation scenarios, or when you want to make a
+	 * map conveniently by-hand and have it populated at the start. You can also use
+	 * {@link #SmallIntIntMap(int[], int[])}, which takes all keys and then all values.
+	 * This needs all keys to be some kind of (boxed) Number, and converts them to primitive
+	 * {@code int}s. It also needs all values to be a (boxed) Number, and converts them to
+	 * primitive {@code int}s. Any keys or values that aren't {@code Number}s have that
+	 * entry skipped.
+	 *
+	 * @param key0   the first key; will be converted to a primitive int
+	 * @param value0 the first value; will be converted to a primitive int
+	 * @param rest   an array or varargs of Number elements
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap with(Number key0, Number value0, Number... rest) {
+		SmallIntIntMap map = new SmallIntIntMap(1 + (rest.length >>> 1));
+		map.put(key0.intValue(), value0.intValue());
+		map.putPairs(rest);
+		return map;
+	}
+
+	/**
+	 * Constructs an empty map.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @return a new map containing nothing
+	 */
+	public static SmallIntIntMap withPrimitive() {
+		return new SmallIntIntMap(0);
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Unlike the vararg with(), this doesn't
+	 * box its arguments into Number items.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static SmallIntIntMap withPrimitive(int key0, int value0) {
+		SmallIntIntMap map = new SmallIntIntMap(1);
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Unlike the vararg with(), this doesn't
+	 * box its arguments into Number items.
+	 *
+	 * @param key0   an int key
+	 * @param value0 an int value
+	 * @param key1   an int key
+	 * @param value1 an int value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap withPrimitive(int key0, int value0, int key1, int value1) {
+		SmallIntIntMap map = new SmallIntIntMap(2);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Unlike the vararg with(), this doesn't
+	 * box its arguments into Number items.
+	 *
+	 * @param key0   an int key
+	 * @param value0 an int value
+	 * @param key1   an int key
+	 * @param value1 an int value
+	 * @param key2   an int key
+	 * @param value2 an int value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap withPrimitive(int key0, int value0, int key1, int value1, int key2, int value2) {
+		SmallIntIntMap map = new SmallIntIntMap(3);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This is mostly useful as an optimization for {@link #with(Number, Number, Number...)}
+	 * when there's no "rest" of the keys or values. Unlike the vararg with(), this doesn't
+	 * box its arguments into Number items.
+	 *
+	 * @param key0   an int key
+	 * @param value0 an int value
+	 * @param key1   an int key
+	 * @param value1 an int value
+	 * @param key2   an int key
+	 * @param value2 an int value
+	 * @param key3   an int key
+	 * @param value3 an int value
+	 * @return a new map containing the given key-value pairs
+	 */
+	public static SmallIntIntMap withPrimitive(int key0, int value0, int key1, int value1, int key2, int value2, int key3, int value3) {
+		SmallIntIntMap map = new SmallIntIntMap(4);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		map.put(key3, value3);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This can be useful in some code-generation scenarios, or when you want to make a
+	 * map conveniently by-hand and have it populated at the start. You can also use
+	 * {@link #SmallIntIntMap(int[], int[])}, which takes all keys and then all values.
+	 * This needs all keys and all values to be primitive {@code int}s; if any are boxed,
+	 * then you should call {@link #with(Number, Number, Number...)}.
+	 * <br>
+	 * This method has to be named differently from {@link #with(Number, Number, Number...)} to
+	 * disambiguate the two, which would otherwise both be callable with all primitives
+	 * (due to auto-boxing).
+	 *
+	 * @param key0   the first key; must not be boxed
+	 * @param value0 the first value; must not be boxed
+	 * @param rest   an array or varargs of primitive int elements
+	 * @return a new map containing the given keys and values
+	 */
+	public static SmallIntIntMap withPrimitive(int key0, int value0, int... rest) {
+		SmallIntIntMap map = new SmallIntIntMap(1 + (rest.length >>> 1));
+		map.put(key0, value0);
+		map.putPairsPrimitive(rest);
+		return map;
+	}
+}
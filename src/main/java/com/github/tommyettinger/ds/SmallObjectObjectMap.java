@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A variant on {@link ObjectObjectMap} for maps that usually hold only a few entries, such as small per-entity
+ * attribute maps. While its table has at most {@link #SMALL_TABLE_SIZE} slots, this keeps its entries packed at the
+ * start of the table and finds keys by comparing them one at a time with {@link #equate(Object, Object)}, without ever
+ * calling {@link Object#hashCode()} on a key. Once it holds {@link #SMALL_TABLE_SIZE} entries, it grows its table and
+ * switches to hashing, as ObjectObjectMap does; if {@link #shrink(int)} or {@link #clear(int)} make the table small
+ * again, it goes back to packing entries.
+ * <br>
+ * A new SmallObjectObjectMap starts with a table that has {@link #SMALL_TABLE_SIZE} slots, or fewer if a smaller
+ * initial capacity is requested, where an ObjectObjectMap starts with enough room for
+ * {@link Utilities#getDefaultTableCapacity()} entries. While it is small, this iterates in the order entries were put
+ * in, but that order is lost once it switches to hashing; use {@link ObjectObjectOrderedMap} if you need an order.
+ * <br>
+ * Copying a small SmallObjectObjectMap into an ObjectObjectMap, or the reverse, rehashes each entry, rather than
+ * copying the table directly.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class SmallObjectObjectMap<K, V> extends ObjectObjectMap<K, V> {
+	/**
+	 * The largest table size that is searched linearly instead of by hashing; a table this size can hold one less than
+	 * this many entries before it grows and starts hashing.
+	 */
+	public static final int SMALL_TABLE_SIZE = 8;
+
+	/**
+	 * Creates a new map that can hold {@code SMALL_TABLE_SIZE - 1} entries before it starts hashing, with a load factor
+	 * of {@link Utilities#getDefaultLoadFactor()} for when it does.
+	 */
+	public SmallObjectObjectMap() {
+		this(SMALL_TABLE_SIZE - 1);
+	}
+
+	/**
+	 * Creates a new map with the given starting capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If less than {@link #SMALL_TABLE_SIZE}, this map starts out small; otherwise it starts hashing
+	 */
+	public SmallObjectObjectMap(int initialCapacity) {
+		this(initialCapacity, Utilities.getDefaultLoadFactor());
+	}
+
+	/**
+	 * Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table. The load factor is only used once this map grows past {@link #SMALL_TABLE_SIZE}.
+	 *
+	 * @param initialCapacity If less than {@link #SMALL_TABLE_SIZE}, this map starts out small; otherwise it starts hashing
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public SmallObjectObjectMap(int initialCapacity, float loadFactor) {
+		super(initialCapacity < SMALL_TABLE_SIZE ? Math.min(initialCapacity, 0) : initialCapacity, loadFactor);
+		if (initialCapacity < SMALL_TABLE_SIZE) {
+			threshold = keyTable.length;
+			ensureCapacity(initialCapacity);
+		}
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map an ObjectObjectMap to copy, or a subclass such as this one
+	 */
+	public SmallObjectObjectMap(ObjectObjectMap<? extends K, ? extends V> map) {
+		this(map.size, map.loadFactor);
+		defaultValue = map.defaultValue;
+		putAll(map);
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map a Map to copy
+	 */
+	public SmallObjectObjectMap(Map<? extends K, ? extends V> map) {
+		this(map.size());
+		putAll(map);
+	}
+
+	/**
+	 * Given two side-by-side arrays, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller array.
+	 *
+	 * @param keys   an array of keys
+	 * @param values an array of values
+	 */
+	public SmallObjectObjectMap(K[] keys, V[] values) {
+		this(Math.min(keys.length, values.length));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Given two side-by-side collections, one of keys, one of values, this constructs a map and inserts each pair of key and value into it.
+	 * If keys and values have different lengths, this only uses the length of the smaller collection.
+	 *
+	 * @param keys   a Collection of keys
+	 * @param values a Collection of values
+	 */
+	public SmallObjectObjectMap(Collection<? extends K> keys, Collection<? extends V> values) {
+		this(Math.min(keys.size(), values.size()));
+		putAll(keys, values);
+	}
+
+	/**
+	 * Returns 0 while this map is small, so every search starts at the beginning of the table and checks each entry in
+	 * turn, or otherwise returns an index &gt;= 0 and &lt;= {@link #mask} for the specified {@code item}, mixed.
+	 *
+	 * @param item a non-null Object; its hashCode() method is only called if this map is not small
+	 * @return an index between 0 and {@link #mask} (both inclusive)
+	 */
+	@Override
+	protected int place(Object item) {
+		return mask < SMALL_TABLE_SIZE ? 0 : super.place(item);
+	}
+
+	/**
+	 * Returns true if this map is currently using hashing, or false if it is small and keeps its entries packed.
+	 *
+	 * @return true if this map is hashing its keys, or false if it is small
+	 */
+	@Override
+	protected boolean isHashed() {
+		return mask >= SMALL_TABLE_SIZE;
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical. Unlike in ObjectObjectMap, this never copies the table
+	 * of {@code map} directly, since its layout may not match this one.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@Override
+	public void putAll(ObjectObjectMap<? extends K, ? extends V> map) {
+		ensureCapacity(map.size);
+		map.scrub();
+		K[] keyTable = map.keyTable;
+		V[] valueTable = map.valueTable;
+		K key;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			key = keyTable[i];
+			if (key != null) {
+				put(key, valueTable[i]);
+			}
+		}
+	}
+
+	/**
+	 * Increases the size of the backing array to accommodate the specified number of additional items. While the total
+	 * stays under {@link #SMALL_TABLE_SIZE}, this only grows the table enough to stay small; otherwise, this uses the
+	 * load factor as ObjectObjectMap does, and starts hashing.
+	 *
+	 * @param additionalCapacity how many additional items this should be able to hold without resizing (probably)
+	 */
+	@Override
+	public void ensureCapacity(int additionalCapacity) {
+		int needed = size + additionalCapacity;
+		if (needed < SMALL_TABLE_SIZE) {
+			int tableSize = Integer.highestOneBit(needed) << 1;
+			if (keyTable.length < tableSize) {
+				resize(tableSize);
+			}
+		} else {
+			super.ensureCapacity(additionalCapacity);
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		super.resize(newSize);
+		if (newSize <= SMALL_TABLE_SIZE) {
+			threshold = newSize;
+		}
+	}
+
+	/**
+	 * Constructs an empty map given the types as generic type arguments.
+	 * This is usually less useful than just using the constructor, but can be handy
+	 * in some code-generation scenarios when you don't know how many arguments you will have.
+	 *
+	 * @param <K> the type of keys
+	 * @param <V> the type of values
+	 * @return a new map containing nothing
+	 */
+	public static <K, V> SmallObjectObjectMap<K, V> with() {
+		return new SmallObjectObjectMap<>(0);
+	}
+
+	/**
+	 * Constructs a single-entry map given one key and one value.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   the first and only key
+	 * @param value0 the first and only value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing just the entry mapping key0 to value0
+	 */
+	public static <K, V> SmallObjectObjectMap<K, V> with(K key0, V value0) {
+		SmallObjectObjectMap<K, V> map = new SmallObjectObjectMap<>(1);
+		map.put(key0, value0);
+		return map;
+	}
+
+	/**
+	 * Constructs a single-entry map given two key-value pairs.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing entries mapping each key to the following value
+	 */
+	public static <K, V> SmallObjectObjectMap<K, V> with(K key0, V value0, K key1, V value1) {
+		SmallObjectObjectMap<K, V> map = new SmallObjectObjectMap<>(2);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		return map;
+	}
+
+	/**
+	 * Constructs a single-entry map given three key-value pairs.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param key2   a K key
+	 * @param value2 a V value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing entries mapping each key to the following value
+	 */
+	public static <K, V> SmallObjectObjectMap<K, V> with(K key0, V value0, K key1, V value1, K key2, V value2) {
+		SmallObjectObjectMap<K, V> map = new SmallObjectObjectMap<>(3);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		return map;
+	}
+
+	/**
+	 * Constructs a single-entry map given four key-value pairs.
+	 * This is mostly useful as an optimization for {@link #with(Object, Object, Object...)}
+	 * when there's no "rest" of the keys or values.
+	 *
+	 * @param key0   a K key
+	 * @param value0 a V value
+	 * @param key1   a K key
+	 * @param value1 a V value
+	 * @param key2   a K key
+	 * @param value2 a V value
+	 * @param key3   a K key
+	 * @param value3 a V value
+	 * @param <K>    the type of key0
+	 * @param <V>    the type of value0
+	 * @return a new map containing entries mapping each key to the following value
+	 */
+	public static <K, V> SmallObjectObjectMap<K, V> with(K key0, V value0, K key1, V value1, K key2, V value2, K key3, V value3) {
+		SmallObjectObjectMap<K, V> map = new SmallObjectObjectMap<>(4);
+		map.put(key0, value0);
+		map.put(key1, value1);
+		map.put(key2, value2);
+		map.put(key3, value3);
+		return map;
+	}
+
+	/**
+	 * Constructs a map given alternating keys and values.
+	 * This can be useful in some code-generation scenarios, or when you want to make a
+	 * map conveniently by-hand and have it populated at the start. You can also use
+	 * {@link #SmallObjectObjectMap(Object[], Object[])}, which takes all keys and then all values.
+	 * This needs all keys to have the same type and all values to have the same type, because
+	 * it gets those types from the first key parameter and first value parameter. Any keys that don't
+	 * have K as their type or values that don't have V as their type have that entry skipped.
+	 *
+	 * @param key0   the first key; will be used to determine the type of all keys
+	 * @param value0 the first value; will be used to determine the type of all values
+	 * @param rest   a varargs or non-null array of alternating K, V, K, V... elements
+	 * @param <K>    the type of keys, inferred from key0
+	 * @param <V>    the type of values, inferred from value0
+	 * @return a new map containing the given keys and values
+	 */
+	public static <K, V> SmallObjectObjectMap<K, V> with(K key0, V value0, Object... rest) {
+		SmallObjectObjectMap<K, V> map = new SmallObjectObjectMap<>(1 + (rest.length >>> 1));
+		map.put(key0, value0);
+		map.putPairs(rest);
+		return map;
+	}
+}
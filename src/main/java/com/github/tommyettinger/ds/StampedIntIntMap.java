@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * A variant on {@link IntIntMap} that can be cleared in constant time, for maps that are cleared and refilled over and
+ * over, such as scratch maps used once per frame. Each slot in the table is tagged with a generation stamp in a
+ * parallel {@code byte} array, and an entry only counts as present if its stamp matches the current generation.
+ * {@link #clear()} just advances the generation, instead of filling the key table with 0; the table is only wiped in
+ * full once every 256 clears, when the generation wraps around.
+ * <br>
+ * Entries left behind by a clear are ignored by {@link #put(int, int)}, {@link #get(int)}, {@link #containsKey(int)},
+ * and {@link #remove(int)}, and are overwritten as new entries are put. Anything that reads the whole table, such as
+ * iteration, {@link #containsValue(int)}, {@link #hashCode()}, or copying this into another map, first removes the
+ * entries left behind, which takes time proportional to the capacity, as iterating over any IntIntMap does.
+ * <br>
+ * This uses one extra byte per slot in the table. If keys come from a small, dense range, {@link IntIntSparseMap} may
+ * be a better fit.
+ */
+public class StampedIntIntMap extends IntIntMap {
+	/**
+	 * The generation each slot in {@link #keyTable} was last written in; only slots with the current
+	 * {@link #generation} can hold entries that are present.
+	 */
+	protected byte[] stamps;
+	/**
+	 * The current generation; this is advanced by {@link #clear()} and reset to 0 when the table is resized.
+	 */
+	protected byte generation;
+	/**
+	 * True if {@link #keyTable} may hold keys from an earlier generation, which {@link #scrub()} would remove.
+	 */
+	protected boolean stale;
+
+	/**
+	 * Creates a new map with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public StampedIntIntMap() {
+		super();
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map with the given starting capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 */
+	public StampedIntIntMap(int initialCapacity) {
+		super(initialCapacity);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public StampedIntIntMap(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map the map to copy
+	 */
+	public StampedIntIntMap(IntIntMap map) {
+		super(map);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Returns the index of the key if already present, else {@code ~index} for the next empty index. A slot from an
+	 * earlier generation counts as empty; if one is returned, its key is set to 0 and it is stamped with the current
+	 * generation, so an entry can be put there directly.
+	 */
+	@Override
+	protected int locateKey(int key) {
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			if (stamps[i] != generation) {
+				keyTable[i] = 0;
+				stamps[i] = generation;
+				return ~i;
+			}
+			int other = keyTable[i];
+			if (other == 0) {
+				return ~i; // Empty space is available.
+			}
+			if (other == key) {
+				return i; // Same key was found.
+			}
+		}
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical. Unlike in IntIntMap, this never copies the table of
+	 * {@code map} directly, since that table has no generation stamps.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@Override
+	public void putAll(IntIntMap map) {
+		ensureCapacity(map.size);
+		if (map.hasZeroValue) {
+			put(0, map.zeroValue);
+		}
+		map.scrub();
+		int[] keyTable = map.keyTable;
+		int[] valueTable = map.valueTable;
+		int key;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			key = keyTable[i];
+			if (key != 0) {
+				put(key, valueTable[i]);
+			}
+		}
+	}
+
+	@Override
+	public int get(int key) {
+		return getOrDefault(key, defaultValue);
+	}
+
+	@Override
+	public int getOrDefault(int key, int defaultValue) {
+		if (key == 0) {
+			return hasZeroValue ? zeroValue : defaultValue;
+		}
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == 0 || stamps[i] != generation)
+				return defaultValue;
+			if (other == key)
+				return valueTable[i];
+		}
+	}
+
+	@Override
+	public boolean containsKey(int key) {
+		if (key == 0) {
+			return hasZeroValue;
+		}
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == 0 || stamps[i] != generation)
+				return false;
+			if (other == key)
+				return true;
+		}
+	}
+
+	@Override
+	public int remove(int key) {
+		if (key == 0) {
+			if (hasZeroValue) {
+				hasZeroValue = false;
+				--size;
+				return zeroValue;
+			}
+			return defaultValue;
+		}
+		int pos = locateKey(key);
+		if (pos < 0) return defaultValue;
+		int[] keyTable = this.keyTable;
+		int[] valueTable = this.valueTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		int oldValue = valueTable[pos];
+
+		int mask = this.mask, last, slot;
+		size--;
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+			for (; ; ) {
+				if ((key = keyTable[pos]) == 0 || stamps[pos] != generation) {
+					keyTable[last] = 0;
+					return oldValue;
+				}
+				slot = place(key);
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+				pos = (pos + 1) & mask;
+			}
+			keyTable[last] = key;
+			valueTable[last] = valueTable[pos];
+		}
+	}
+
+	/**
+	 * Clears the map in constant time by advancing the generation, leaving the backing arrays at the current capacity.
+	 * Once every 256 calls that actually remove entries, the generation wraps around and the table is wiped in full.
+	 */
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		hasZeroValue = false;
+		size = 0;
+		if (++generation == 0) {
+			Arrays.fill(keyTable, 0);
+			stale = false;
+		} else {
+			stale = true;
+		}
+	}
+
+	/**
+	 * Removes any keys left in the table from an earlier generation, if there could be any.
+	 */
+	@Override
+	protected void scrub() {
+		if (!stale) return;
+		stale = false;
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			if (stamps[i] != generation) {
+				keyTable[i] = 0;
+			}
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		super.resize(newSize);
+		stamps = new byte[newSize];
+		generation = 0;
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * A variant on {@link IntSet} that can be cleared in constant time, for sets that are cleared and refilled over and
+ * over, such as "visited" sets used once per frame. Each slot in the table is tagged with a generation stamp in a
+ * parallel {@code byte} array, and an item only counts as present if its stamp matches the current generation.
+ * {@link #clear()} just advances the generation, instead of filling the table with 0; the table is only wiped in full
+ * once every 256 clears, when the generation wraps around.
+ * <br>
+ * Items left behind by a clear are ignored by {@link #add(int)}, {@link #contains(int)}, and {@link #remove(int)},
+ * and are overwritten as new items are added. Anything that reads the whole table, such as iteration,
+ * {@link #hashCode()}, {@link #toString()}, or copying this into another set, first removes the items left behind,
+ * which takes time proportional to the capacity, as iterating over any IntSet does.
+ * <br>
+ * This uses one extra byte per slot in the table. If items come from a small, dense range, {@link IntSparseSet} may
+ * be a better fit.
+ */
+@SuppressWarnings("overrides")
+public class StampedIntSet extends IntSet {
+	/**
+	 * The generation each slot in {@link #keyTable} was last written in; only slots with the current
+	 * {@link #generation} can hold items that are present.
+	 */
+	protected byte[] stamps;
+	/**
+	 * The current generation; this is advanced by {@link #clear()} and reset to 0 when the table is resized.
+	 */
+	protected byte generation;
+	/**
+	 * True if {@link #keyTable} may hold items from an earlier generation, which {@link #scrub()} would remove.
+	 */
+	protected boolean stale;
+
+	/**
+	 * Creates a new set with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public StampedIntSet() {
+		super();
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set with a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 */
+	public StampedIntSet(int initialCapacity) {
+		super(initialCapacity);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set with the specified initial capacity and load factor. This set will hold initialCapacity items before
+	 * growing the backing table.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public StampedIntSet(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set identical to the specified set.
+	 */
+	public StampedIntSet(IntSet set) {
+		super(set);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set containing all the items in the given PrimitiveCollection.OfInt.
+	 *
+	 * @param coll a PrimitiveCollection.OfInt that will be used in full
+	 */
+	public StampedIntSet(OfInt coll) {
+		this(coll.size());
+		addAll(coll);
+	}
+
+	@Override
+	public boolean add(int key) {
+		if (key == 0) {
+			if (hasZeroValue) return false;
+			hasZeroValue = true;
+			size++;
+			return true;
+		}
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == 0 || stamps[i] != generation) {
+				keyTable[i] = key;
+				stamps[i] = generation;
+				if (++size >= threshold) {
+					resize(keyTable.length << 1);
+				}
+				return true;
+			}
+			if (key == other)
+				return false; // Existing key was found.
+		}
+	}
+
+	/**
+	 * Adds every item in {@code set} to this. Unlike in IntSet, this never copies the table of {@code set} directly,
+	 * since that table has no generation stamps.
+	 *
+	 * @param set another IntSet
+	 * @return true if this set changed
+	 */
+	@Override
+	public boolean addAll(IntSet set) {
+		int oldSize = size;
+		ensureCapacity(set.size);
+		if (set.hasZeroValue) {
+			add(0);
+		}
+		set.scrub();
+		int[] keyTable = set.keyTable;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			int key = keyTable[i];
+			if (key != 0) {
+				add(key);
+			}
+		}
+		return size != oldSize;
+	}
+
+	@Override
+	public boolean remove(int key) {
+		if (key == 0) {
+			if (hasZeroValue) {
+				hasZeroValue = false;
+				size--;
+				return true;
+			}
+			return false;
+		}
+
+		int pos;
+		int mask = this.mask;
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == 0 || stamps[i] != generation) {
+				return false; // Nothing is present.
+			}
+			if (other == key) {
+				pos = i; // Same key was found.
+				break;
+			}
+		}
+		int last, slot;
+		size--;
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+			for (; ; ) {
+				if ((key = keyTable[pos]) == 0 || stamps[pos] != generation) {
+					keyTable[last] = 0;
+					return true;
+				}
+				slot = place(key);
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+				pos = (pos + 1) & mask;
+			}
+			keyTable[last] = key;
+		}
+	}
+
+	@Override
+	public boolean contains(int key) {
+		if (key == 0) {
+			return hasZeroValue;
+		}
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			int other = keyTable[i];
+			if (other == 0 || stamps[i] != generation)
+				return false;
+			if (key == other)
+				return true;
+		}
+	}
+
+	/**
+	 * Clears the set in constant time by advancing the generation, leaving the backing array at the current capacity.
+	 * Once every 256 calls that actually remove items, the generation wraps around and the table is wiped in full.
+	 */
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		size = 0;
+		hasZeroValue = false;
+		if (++generation == 0) {
+			Arrays.fill(keyTable, 0);
+			stale = false;
+		} else {
+			stale = true;
+		}
+	}
+
+	/**
+	 * Removes any items left in the table from an earlier generation, if there could be any.
+	 */
+	@Override
+	protected void scrub() {
+		if (!stale) return;
+		stale = false;
+		int[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			if (stamps[i] != generation) {
+				keyTable[i] = 0;
+			}
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		super.resize(newSize);
+		stamps = new byte[newSize];
+		generation = 0;
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Map;
+
+/**
+ * A variant on {@link ObjectObjectMap} that can be cleared in constant time, for maps that are cleared and refilled
+ * over and over, such as scratch maps used once per frame. Each slot in the table is tagged with a generation stamp in
+ * a parallel {@code byte} array, and an entry only counts as present if its stamp matches the current generation.
+ * {@link #clear()} just advances the generation, instead of setting every key and value to null; the table is only
+ * wiped in full once every 256 clears, when the generation wraps around.
+ * <br>
+ * Entries left behind by a clear are ignored by {@link #put(Object, Object)}, {@link #get(Object)},
+ * {@link #containsKey(Object)}, and {@link #remove(Object)}, and are overwritten as new entries are put. Anything that
+ * reads the whole table, such as iteration, {@link #containsValue(Object)}, {@link #hashCode()}, or copying this into
+ * another map, first removes the entries left behind, which takes time proportional to the capacity, as iterating
+ * over any ObjectObjectMap does. Until then, keys and values left behind can't be garbage-collected, so this is best
+ * used when the same keys are put again and again.
+ * <br>
+ * This uses one extra byte per slot in the table.
+ */
+public class StampedObjectObjectMap<K, V> extends ObjectObjectMap<K, V> {
+	/**
+	 * The generation each slot in {@link #keyTable} was last written in; only slots with the current
+	 * {@link #generation} can hold entries that are present.
+	 */
+	protected byte[] stamps;
+	/**
+	 * The current generation; this is advanced by {@link #clear()} and reset to 0 when the table is resized.
+	 */
+	protected byte generation;
+	/**
+	 * True if the table may hold entries from an earlier generation, which {@link #scrub()} would remove.
+	 */
+	protected boolean stale;
+
+	/**
+	 * Creates a new map with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public StampedObjectObjectMap() {
+		super();
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map with the given starting capacity and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 */
+	public StampedObjectObjectMap(int initialCapacity) {
+		super(initialCapacity);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map with the specified initial capacity and load factor. This map will hold initialCapacity items before
+	 * growing the backing table.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public StampedObjectObjectMap(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map an ObjectObjectMap to copy
+	 */
+	public StampedObjectObjectMap(ObjectObjectMap<? extends K, ? extends V> map) {
+		super(map);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new map identical to the specified map.
+	 *
+	 * @param map a Map to copy
+	 */
+	public StampedObjectObjectMap(Map<? extends K, ? extends V> map) {
+		this(map.size());
+		putAll(map);
+	}
+
+	/**
+	 * Returns the index of the key if already present, else {@code ~index} for the next empty index. A slot from an
+	 * earlier generation counts as empty; if one is returned, its key and value are set to null and it is stamped with
+	 * the current generation, so an entry can be put there directly.
+	 *
+	 * @param key a non-null K key
+	 * @return a negative index if the key was not found, or the non-negative index of the existing key if found
+	 */
+	@Override
+	protected int locateKey(Object key) {
+		K[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			if (stamps[i] != generation) {
+				keyTable[i] = null;
+				valueTable[i] = null;
+				stamps[i] = generation;
+				return ~i;
+			}
+			K other = keyTable[i];
+			if (other == null)
+				return ~i;
+			if (equate(key, other))
+				return i;
+		}
+	}
+
+	/**
+	 * Puts every key-value pair in the given map into this, with the values from the given map
+	 * overwriting the previous values if two keys are identical. Unlike in ObjectObjectMap, this never copies the
+	 * table of {@code map} directly, since that table has no generation stamps.
+	 *
+	 * @param map a map with compatible key and value types; will not be modified
+	 */
+	@Override
+	public void putAll(ObjectObjectMap<? extends K, ? extends V> map) {
+		ensureCapacity(map.size);
+		map.scrub();
+		K[] keyTable = map.keyTable;
+		V[] valueTable = map.valueTable;
+		K key;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			key = keyTable[i];
+			if (key != null) {
+				put(key, valueTable[i]);
+			}
+		}
+	}
+
+	@Override
+	public V get(Object key) {
+		return getOrDefault(key, defaultValue);
+	}
+
+	@Override
+	public V getOrDefault(Object key, V defaultValue) {
+		if (key == null) return defaultValue;
+		K[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			K other = keyTable[i];
+			if (other == null || stamps[i] != generation)
+				return defaultValue;
+			if (equate(key, other))
+				return valueTable[i];
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (key == null) return false;
+		K[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			K other = keyTable[i];
+			if (other == null || stamps[i] != generation)
+				return false;
+			if (equate(key, other))
+				return true;
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		if (key == null) return defaultValue;
+		int pos = locateKey(key);
+		if (pos < 0) return defaultValue;
+		K rem;
+		K[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		V oldValue = valueTable[pos];
+
+		int mask = this.mask, last, slot;
+		size--;
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+			for (; ; ) {
+				if ((rem = keyTable[pos]) == null || stamps[pos] != generation) {
+					keyTable[last] = null;
+					valueTable[last] = null;
+					return oldValue;
+				}
+				slot = place(rem);
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+				pos = (pos + 1) & mask;
+			}
+			keyTable[last] = rem;
+			valueTable[last] = valueTable[pos];
+		}
+	}
+
+	/**
+	 * Clears the map in constant time by advancing the generation, leaving the backing arrays at the current capacity.
+	 * Once every 256 calls that actually remove entries, the generation wraps around and the table is wiped in full.
+	 */
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		size = 0;
+		if (++generation == 0) {
+			Utilities.clear(keyTable);
+			Utilities.clear(valueTable);
+			stale = false;
+		} else {
+			stale = true;
+		}
+	}
+
+	/**
+	 * Removes any entries left in the table from an earlier generation, if there could be any.
+	 */
+	@Override
+	protected void scrub() {
+		if (!stale) return;
+		stale = false;
+		K[] keyTable = this.keyTable;
+		V[] valueTable = this.valueTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			if (stamps[i] != generation) {
+				keyTable[i] = null;
+				valueTable[i] = null;
+			}
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		super.resize(newSize);
+		stamps = new byte[newSize];
+		generation = 0;
+	}
+}
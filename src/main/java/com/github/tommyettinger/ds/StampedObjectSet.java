@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Collection;
+
+/**
+ * A variant on {@link ObjectSet} that can be cleared in constant time, for sets that are cleared and refilled over and
+ * over, such as scratch sets used once per frame. Each slot in the table is tagged with a generation stamp in a
+ * parallel {@code byte} array, and an item only counts as present if its stamp matches the current generation.
+ * {@link #clear()} just advances the generation, instead of setting every slot to null; the table is only wiped in
+ * full once every 256 clears, when the generation wraps around.
+ * <br>
+ * Items left behind by a clear are ignored by {@link #add(Object)}, {@link #contains(Object)}, {@link #get(Object)},
+ * and {@link #remove(Object)}, and are overwritten as new items are added. Anything that reads the whole table, such
+ * as iteration, {@link #hashCode()}, {@link #toString()}, or copying this into another set, first removes the items
+ * left behind, which takes time proportional to the capacity, as iterating over any ObjectSet does. Until then, items
+ * left behind can't be garbage-collected, so this is best used when the same items are added again and again.
+ * <br>
+ * This uses one extra byte per slot in the table.
+ */
+public class StampedObjectSet<T> extends ObjectSet<T> {
+	/**
+	 * The generation each slot in {@link #keyTable} was last written in; only slots with the current
+	 * {@link #generation} can hold items that are present.
+	 */
+	protected byte[] stamps;
+	/**
+	 * The current generation; this is advanced by {@link #clear()} and reset to 0 when the table is resized.
+	 */
+	protected byte generation;
+	/**
+	 * True if {@link #keyTable} may hold items from an earlier generation, which {@link #scrub()} would remove.
+	 */
+	protected boolean stale;
+
+	/**
+	 * Creates a new set with an initial capacity of {@link Utilities#getDefaultTableCapacity()} and a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 */
+	public StampedObjectSet() {
+		super();
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set with a load factor of {@link Utilities#getDefaultLoadFactor()}.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 */
+	public StampedObjectSet(int initialCapacity) {
+		super(initialCapacity);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set with the specified initial capacity and load factor. This set will hold initialCapacity items before
+	 * growing the backing table.
+	 *
+	 * @param initialCapacity If not a power of two, it is increased to the next nearest power of two.
+	 * @param loadFactor      what fraction of the capacity can be filled before this has to resize; 0 &lt; loadFactor &lt;= 1
+	 */
+	public StampedObjectSet(int initialCapacity, float loadFactor) {
+		super(initialCapacity, loadFactor);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set identical to the specified set.
+	 */
+	public StampedObjectSet(ObjectSet<? extends T> set) {
+		super(set);
+		stamps = new byte[keyTable.length];
+	}
+
+	/**
+	 * Creates a new set that contains all distinct elements in {@code coll}.
+	 */
+	public StampedObjectSet(Collection<? extends T> coll) {
+		this(coll.size());
+		addAll(coll);
+	}
+
+	/**
+	 * Returns the index of the key if already present, else {@code ~index} for the next empty index. A slot from an
+	 * earlier generation counts as empty; if one is returned, it is set to null and stamped with the current
+	 * generation, so a key can be put there directly.
+	 *
+	 * @param key a non-null T key
+	 * @return a negative index if the key was not found, or the non-negative index of the existing key if found
+	 */
+	@Override
+	protected int locateKey(Object key) {
+		T[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			if (stamps[i] != generation) {
+				keyTable[i] = null;
+				stamps[i] = generation;
+				return ~i;
+			}
+			T other = keyTable[i];
+			if (other == null)
+				return ~i;
+			if (equate(key, other))
+				return i;
+		}
+	}
+
+	@Override
+	public boolean add(T key) {
+		if (key == null) return false;
+		int i = locateKey(key);
+		if (i >= 0) return false;
+		keyTable[~i] = key;
+		if (++size >= threshold) {
+			resize(keyTable.length << 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds every item in {@code coll} to this. Unlike in ObjectSet, this never copies the table of another ObjectSet
+	 * directly, since that table has no generation stamps.
+	 *
+	 * @param coll a Collection of items to add
+	 * @return true if this set changed
+	 */
+	@Override
+	public boolean addAll(Collection<? extends T> coll) {
+		final int oldSize = size;
+		ensureCapacity(coll.size());
+		for (T t : coll) {
+			add(t);
+		}
+		return oldSize != size;
+	}
+
+	@Override
+	public boolean remove(Object key) {
+		if (key == null) return false;
+		int pos = locateKey(key);
+		if (pos < 0) return false;
+		T[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		int mask = this.mask, last, slot;
+		size--;
+		T rem;
+		for (; ; ) {
+			pos = ((last = pos) + 1) & mask;
+			for (; ; ) {
+				if ((rem = keyTable[pos]) == null || stamps[pos] != generation) {
+					keyTable[last] = null;
+					return true;
+				}
+				slot = place(rem);
+				if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+				pos = (pos + 1) & mask;
+			}
+			keyTable[last] = rem;
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		if (key == null) return false;
+		T[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			T other = keyTable[i];
+			if (other == null || stamps[i] != generation)
+				return false;
+			if (equate(key, other))
+				return true;
+		}
+	}
+
+	@Override
+	public T get(T key) {
+		if (key == null) return null;
+		T[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = place(key); ; i = i + 1 & mask) {
+			T other = keyTable[i];
+			if (other == null || stamps[i] != generation)
+				return null;
+			if (equate(key, other))
+				return other;
+		}
+	}
+
+	/**
+	 * Clears the set in constant time by advancing the generation, leaving the backing arrays at the current capacity.
+	 * Once every 256 calls that actually remove items, the generation wraps around and the table is wiped in full.
+	 */
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		size = 0;
+		if (++generation == 0) {
+			Utilities.clear(keyTable);
+			stale = false;
+		} else {
+			stale = true;
+		}
+	}
+
+	/**
+	 * Removes any items left in the table from an earlier generation, if there could be any.
+	 */
+	@Override
+	protected void scrub() {
+		if (!stale) return;
+		stale = false;
+		T[] keyTable = this.keyTable;
+		byte[] stamps = this.stamps;
+		final byte generation = this.generation;
+		for (int i = 0, n = keyTable.length; i < n; i++) {
+			if (stamps[i] != generation) {
+				keyTable[i] = null;
+			}
+		}
+	}
+
+	@Override
+	protected void resize(int newSize) {
+		super.resize(newSize);
+		stamps = new byte[newSize];
+		generation = 0;
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, first-in-first-out queue of items that can be offered to by any number of producer threads
+ * and polled by exactly one consumer thread at a time, such as for gathering input events from several threads. This
+ * never allocates after construction. Producers claim slots in a ring of fixed
+ * power-of-two size with a compare-and-set on a padded index, and each slot has a sequence number that tells the
+ * consumer when the item in it has been written, so a slow producer never exposes a half-written item.
+ * <br>
+ * Any thread may call {@link #offer} and {@link #offerAll}, but only the consumer may call {@link #poll()},
+ * {@link #peek()}, and {@link #drainTo}. Items offered by one thread are polled in the order that thread offered
+ * them, and a batch from {@link #offerAll} is never interleaved with other producers' items. Unlike
+ * {@link com.github.tommyettinger.ds.ObjectDeque}, this never grows; {@link #offer} returns false when the queue is
+ * full.
+ *
+ * @see SpscObjectQueue SpscObjectQueue is a little faster when there is only one producer thread.
+ */
+public class MpscObjectQueue<T> extends RingFields {
+	protected final T[] buffer;
+	/**
+	 * For each slot, holds the producer index the slot is waiting for, plus 1 once an item has been written to it.
+	 */
+	protected final AtomicLongArray sequences;
+
+	/**
+	 * The value returned when nothing can be obtained from this queue, such as when calling {@link #poll()} on an
+	 * empty queue.
+	 */
+	public T defaultValue = null;
+
+	/**
+	 * Creates a new queue that can hold at least {@code capacity} items; the actual capacity is rounded up to the next
+	 * power of two, and is at least 2.
+	 *
+	 * @param capacity the minimum number of items this can hold at once; at most 2 to the 30
+	 */
+	@SuppressWarnings("unchecked")
+	public MpscObjectQueue(int capacity) {
+		super(capacity);
+		buffer = (T[]) new Object[mask + 1];
+		sequences = new AtomicLongArray(mask + 1);
+		for (int i = 0; i <= mask; i++) {
+			sequences.lazySet(i, i);
+		}
+	}
+
+	public T getDefaultValue() {
+		return defaultValue;
+	}
+
+	public void setDefaultValue(T defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Adds {@code item} to the end of this queue, if there is room.
+	 *
+	 * @param item the item to add
+	 * @return true if the item was added, or false if this queue was full
+	 * @throws NullPointerException if {@code item} is null
+	 */
+	public boolean offer(T item) {
+		if (item == null) throw new NullPointerException("MpscObjectQueue does not permit null items.");
+		long index;
+		int slot;
+		while (true) {
+			index = producerIndex;
+			slot = (int) index & mask;
+			long diff = sequences.get(slot) - index;
+			if (diff == 0L) {
+				if (casProducerIndex(index, index + 1)) break;
+			} else if (diff < 0L) {
+				return false;
+			}
+		}
+		buffer[slot] = item;
+		sequences.lazySet(slot, index + 1);
+		return true;
+	}
+
+	/**
+	 * Adds as many items from {@code items} as will fit, starting at {@code offset} and adding at most
+	 * {@code count} items, in order. A single compare-and-set reserves a contiguous run of slots for all of them, so
+	 * items from other producers can't land in the middle of the batch. Each item is made visible to the consumer
+	 * separately, in order, as soon as it is written, so the consumer may see the start of a batch before the rest.
+	 *
+	 * @param items  the array to take items from
+	 * @param offset the first index in {@code items} to use
+	 * @param count  the most items to add
+	 * @return how many items were added, which is 0 if this queue was full
+	 * @throws NullPointerException if any item that would be added is null; no items are added then
+	 */
+	public int offerAll(T[] items, int offset, int count) {
+		if (count <= 0) return 0;
+		for (int i = 0; i < count; i++) {
+			if (items[offset + i] == null) throw new NullPointerException("MpscObjectQueue does not permit null items.");
+		}
+		long index;
+		int n;
+		do {
+			index = producerIndex;
+			long free = consumerIndex + mask + 1 - index;
+			if (free <= 0L) return 0;
+			n = (int) Math.min(free, count);
+		} while (!casProducerIndex(index, index + n));
+		for (int i = 0; i < n; i++) {
+			int slot = (int) (index + i) & mask;
+			buffer[slot] = items[offset + i];
+			sequences.lazySet(slot, index + i + 1);
+		}
+		return n;
+	}
+
+	/**
+	 * Adds as many items from {@code items} as will fit, in order.
+	 *
+	 * @param items the array to take items from
+	 * @return how many items were added, which is 0 if this queue was full
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public final int offerAll(T... items) {
+		return offerAll(items, 0, items.length);
+	}
+
+	/**
+	 * Removes and returns the first item in this queue, or returns {@link #getDefaultValue() defaultValue} if this
+	 * queue is empty.
+	 *
+	 * @return the first item in this queue, or {@link #getDefaultValue() defaultValue} if this queue is empty
+	 */
+	public T poll() {
+		final long index = consumerIndex;
+		final int slot = (int) index & mask;
+		if (sequences.get(slot) != index + 1) return defaultValue;
+		T item = buffer[slot];
+		buffer[slot] = null;
+		sequences.lazySet(slot, index + mask + 1);
+		orderedConsumerIndex(index + 1);
+		return item;
+	}
+
+	/**
+	 * Returns, but does not remove, the first item in this queue, or returns {@link #getDefaultValue() defaultValue}
+	 * if this queue is empty.
+	 *
+	 * @return the first item in this queue, or {@link #getDefaultValue() defaultValue} if this queue is empty
+	 */
+	public T peek() {
+		final long index = consumerIndex;
+		final int slot = (int) index & mask;
+		if (sequences.get(slot) != index + 1) return defaultValue;
+		return buffer[slot];
+	}
+
+	/**
+	 * Counts how many items, up to {@code limit}, the consumer can read starting at {@code index}.
+	 */
+	private int readable(long index, int limit) {
+		int n = 0;
+		while (n < limit && sequences.get((int) (index + n) & mask) == index + n + 1) {
+			n++;
+		}
+		return n;
+	}
+
+	/**
+	 * Gives the {@code n} slots starting at {@code index} back to the producers, after they have been read.
+	 */
+	private void release(long index, int n) {
+		for (int i = 0; i < n; i++) {
+			int slot = (int) (index + i) & mask;
+			buffer[slot] = null;
+			sequences.lazySet(slot, index + i + mask + 1);
+		}
+		orderedConsumerIndex(index + n);
+	}
+
+	/**
+	 * Removes every item currently in this queue and adds them, in order, to {@code into}.
+	 *
+	 * @param into the collection to add items to
+	 * @return how many items were moved
+	 */
+	public int drainTo(Collection<? super T> into) {
+		return drainTo(into, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Removes up to {@code limit} items from the front of this queue and adds them, in order, to {@code into}.
+	 *
+	 * @param into  the collection to add items to
+	 * @param limit the most items to move
+	 * @return how many items were moved
+	 */
+	public int drainTo(Collection<? super T> into, int limit) {
+		final long index = consumerIndex;
+		final int n = readable(index, limit);
+		for (int i = 0; i < n; i++) {
+			into.add(buffer[(int) (index + i) & mask]);
+		}
+		release(index, n);
+		return n;
+	}
+
+	@Override
+	public String toString() {
+		return "MpscObjectQueue with size " + size() + " and capacity " + capacity();
+	}
+}
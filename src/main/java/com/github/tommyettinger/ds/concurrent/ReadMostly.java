@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.concurrent;
+
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.function.ObjConsumer;
+import com.github.tommyettinger.function.ObjToSameFunction;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Publishes immutable snapshots of a map, set, or other collection to any number of reader threads, while one writer
+ * at a time changes a private copy. Readers never lock and never allocate; getting the current snapshot is a single
+ * volatile read, and lookups then go straight to an ordinary collection such as an
+ * {@link com.github.tommyettinger.ds.ObjectObjectMap} or {@link com.github.tommyettinger.ds.IntIntMap}. This suits
+ * tables that are read constantly by many threads but only change a few times per second, where
+ * {@code synchronized} access would make every reader wait on every other reader.
+ * <br>
+ * Any number of changes can be made with {@link #edit()} or {@link #update(ObjConsumer)} before they become visible
+ * together with {@link #publish()}. There are two modes, chosen when this is constructed:
+ * <ul>
+ *     <li>In copying mode, the default, {@link #publish()} hands the private copy to readers as-is, and the next
+ *     change makes a new private copy with the copier function (usually a copy constructor, like
+ *     {@code IntIntMap::new}). Readers only need {@link #read()}, and can keep using a snapshot as long as they
+ *     like.</li>
+ *     <li>In delta mode, this keeps exactly two collections, and never copies a whole one after construction.
+ *     {@link #update(ObjConsumer)} changes the private copy and also remembers the change; after
+ *     {@link #publish()} swaps the two, it waits until no reader is still using the old snapshot, then repeats the
+ *     remembered changes on it so it can be the next private copy. This costs time proportional to the number of
+ *     changes instead of the size of the table, but readers must bracket their use of a snapshot with
+ *     {@link #enter()} and {@link #exit(Object)}, and shouldn't hold on to it for long, since the writer waits for
+ *     them.</li>
+ * </ul>
+ * The writer methods are {@code synchronized}, so more than one writer thread is safe, but they will take turns.
+ * Readers must never change a snapshot.
+ * <br>
+ * This is only available on the JVM and Android, not GWT.
+ *
+ * @param <C> the type of collection being published, such as {@code ObjectObjectMap<String, Route>}
+ */
+public class ReadMostly<C> {
+	/**
+	 * How many reader counters each of the two epochs has; must be a power of two.
+	 */
+	private static final int STRIPES = 8;
+	/**
+	 * How far apart, in longs, reader counters are spaced, so each has its own cache line.
+	 */
+	private static final int SPACING = 16;
+
+	protected final ObjToSameFunction<C> copier;
+	protected final boolean delta;
+
+	/**
+	 * The snapshot readers see; in delta mode, this is always {@code buffers[epoch & 1]}.
+	 */
+	protected volatile C published;
+	/**
+	 * The writer's private copy, or null if it hasn't been made since the last publish (in copying mode).
+	 */
+	protected C working;
+	/**
+	 * True if {@link #working} has changes that haven't been published.
+	 */
+	protected boolean dirty;
+
+	/**
+	 * Delta mode only: the two collections that take turns being published.
+	 */
+	protected final Object[] buffers;
+	/**
+	 * Delta mode only: counts how many times the buffers have been swapped.
+	 */
+	protected volatile long epoch;
+	/**
+	 * Delta mode only: how many readers are using each buffer, spread over several padded counters per buffer. A
+	 * reader may leave on a different counter than it entered on, so only the total for a buffer is meaningful.
+	 */
+	protected final AtomicLongArray readers;
+	/**
+	 * Delta mode only: the changes made to {@link #working} since it was last published, to repeat on the other
+	 * buffer.
+	 */
+	protected final ObjectList<ObjConsumer<? super C>> pending;
+
+	/**
+	 * Creates a ReadMostly in copying mode that publishes {@code initial} right away. After this, {@code initial}
+	 * belongs to this object and must not be changed by anything else.
+	 *
+	 * @param initial the first snapshot; must not be changed after this
+	 * @param copier  makes a new, independent copy of a collection, such as {@code ObjectObjectMap::new}
+	 */
+	public ReadMostly(C initial, ObjToSameFunction<C> copier) {
+		this(initial, copier, false);
+	}
+
+	/**
+	 * Creates a ReadMostly that publishes {@code initial} right away. After this, {@code initial} belongs to this object
+	 * and must not be changed by anything else.
+	 *
+	 * @param initial the first snapshot; must not be changed after this
+	 * @param copier  makes a new, independent copy of a collection, such as {@code ObjectObjectMap::new}
+	 * @param delta   if true, use delta mode, which copies {@code initial} once here and then only repeats changes;
+	 *                readers must then use {@link #enter()} and {@link #exit(Object)}
+	 */
+	public ReadMostly(C initial, ObjToSameFunction<C> copier, boolean delta) {
+		this.copier = copier;
+		this.delta = delta;
+		published = initial;
+		if (delta) {
+			working = copier.apply(initial);
+			buffers = new Object[]{initial, working};
+			readers = new AtomicLongArray(2 * STRIPES * SPACING);
+			pending = new ObjectList<>();
+		} else {
+			buffers = null;
+			readers = null;
+			pending = null;
+		}
+	}
+
+	/**
+	 * @return true if this uses delta mode, so readers must use {@link #enter()} and {@link #exit(Object)}
+	 */
+	public boolean isDelta() {
+		return delta;
+	}
+
+	/**
+	 * Gets the current snapshot, which can be read from any thread without locking. In copying mode, the snapshot
+	 * stays valid forever; in delta mode, use {@link #enter()} instead, because the writer may reuse a snapshot that
+	 * isn't protected by {@link #enter()}.
+	 *
+	 * @return the most recently published snapshot; must not be changed
+	 */
+	public C read() {
+		return published;
+	}
+
+	/**
+	 * Gets the current snapshot and marks it as in use, so a writer in delta mode won't reuse it until
+	 * {@link #exit(Object)} is called with it. This never blocks and never allocates. In copying mode, this is the same
+	 * as {@link #read()}, and {@link #exit(Object)} does nothing, so readers can use the same code in either mode.
+	 *
+	 * @return the most recently published snapshot; must not be changed, and must be passed to {@link #exit(Object)}
+	 */
+	@SuppressWarnings("unchecked")
+	public C enter() {
+		if (!delta) return published;
+		final int stripe = stripe();
+		while (true) {
+			final long e = epoch;
+			final int counter = (((int) e & 1) * STRIPES + stripe) * SPACING;
+			readers.getAndIncrement(counter);
+			if (epoch == e) return (C) buffers[(int) e & 1];
+			// the buffers were swapped in between, so the writer may already be changing that buffer
+			readers.getAndDecrement(counter);
+		}
+	}
+
+	/**
+	 * Marks a snapshot from {@link #enter()} as no longer in use by this reader. This should be called once for each
+	 * call to {@link #enter()}, as soon as the reader is done; it doesn't have to be on the same thread, so a snapshot
+	 * can be handed to another thread or an executor to finish with.
+	 *
+	 * @param snapshot the snapshot returned by {@link #enter()}
+	 */
+	public void exit(C snapshot) {
+		if (!delta) return;
+		final int parity = snapshot == buffers[0] ? 0 : 1;
+		readers.getAndDecrement((parity * STRIPES + stripe()) * SPACING);
+	}
+
+	private static int stripe() {
+		final long id = Thread.currentThread().getId();
+		return (int) (id ^ id >>> 3) & STRIPES - 1;
+	}
+
+	/**
+	 * Gets the writer's private copy, so it can be changed directly; changes become visible to readers when
+	 * {@link #publish()} is called. This is only available in copying mode; in delta mode, every change must go through
+	 * {@link #update(ObjConsumer)} so it can be repeated later. Only the writer may call this, and the returned
+	 * collection must not be changed after {@link #publish()}, except by calling this again.
+	 *
+	 * @return the private copy, which is made here if there isn't one yet
+	 * @throws IllegalStateException if this is in delta mode
+	 */
+	public synchronized C edit() {
+		if (delta) {
+			throw new IllegalStateException("A delta-mode ReadMostly can only be changed with update().");
+		}
+		if (working == null) working = copier.apply(published);
+		dirty = true;
+		return working;
+	}
+
+	/**
+	 * Applies {@code change} to the writer's private copy; it becomes visible to readers when {@link #publish()} is
+	 * called. In delta mode, {@code change} is kept until it has also been applied to the other buffer, so it must have
+	 * the same effect each time it runs, and shouldn't capture anything that will be changed later.
+	 *
+	 * @param change changes the private copy, such as {@code m -> m.put(key, value)}
+	 */
+	public synchronized void update(ObjConsumer<? super C> change) {
+		if (delta) {
+			change.accept(working);
+			pending.add(change);
+		} else {
+			if (working == null) working = copier.apply(published);
+			change.accept(working);
+		}
+		dirty = true;
+	}
+
+	/**
+	 * Applies {@code change} and then publishes, as one step.
+	 *
+	 * @param change changes the private copy, such as {@code m -> m.put(key, value)}
+	 */
+	public synchronized void updateAndPublish(ObjConsumer<? super C> change) {
+		update(change);
+		publish();
+	}
+
+	/**
+	 * Makes every change since the last publish visible to readers at once. If nothing has changed, this does nothing.
+	 * In delta mode, this waits until readers are done with the previous snapshot, then brings it up to date so it
+	 * can be changed next.
+	 *
+	 * @return true if a new snapshot was published
+	 */
+	public synchronized boolean publish() {
+		if (!dirty) return false;
+		dirty = false;
+		if (!delta) {
+			published = working;
+			working = null;
+			return true;
+		}
+		final long e = epoch;
+		final int old = (int) e & 1;
+		@SuppressWarnings("unchecked") final C stale = (C) buffers[old];
+		published = working;
+		epoch = e + 1;
+		// wait for readers that entered before the swap to leave the old buffer; a reader can exit on a different
+		// counter than it entered on, so only the total over all the old buffer's counters must reach 0
+		for (int spins = 0; readerCount(old) != 0; spins++) {
+			if (spins > 100) Thread.yield();
+		}
+		for (int i = 0, n = pending.size(); i < n; i++) {
+			pending.get(i).accept(stale);
+		}
+		pending.clear();
+		working = stale;
+		return true;
+	}
+
+	/**
+	 * Adds up the reader counters for one buffer. Every reader that can still be using that buffer incremented its
+	 * counter before the swap, so a total of 0 means no reader is left, even though each counter is read separately.
+	 *
+	 * @param parity which buffer to count readers for, 0 or 1
+	 * @return how many readers entered that buffer and haven't exited yet
+	 */
+	private long readerCount(int parity) {
+		long total = 0L;
+		for (int s = 0; s < STRIPES; s++) {
+			total += readers.get((parity * STRIPES + s) * SPACING);
+		}
+		return total;
+	}
+
+	/**
+	 * @return true if there are changes that haven't been published yet
+	 */
+	public synchronized boolean hasUnpublishedChanges() {
+		return dirty;
+	}
+
+	@Override
+	public String toString() {
+		return "ReadMostly" + (delta ? " (delta mode): " : ": ") + published;
+	}
+}
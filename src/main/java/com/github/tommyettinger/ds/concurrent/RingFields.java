@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.concurrent;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The shared base of the ring queues in this package. It holds the producer index and the consumer index, each on its
+ * own cache line; the padding is spread across a class hierarchy because the JVM is free to reorder fields within one
+ * class, but always lays out superclass fields before subclass fields.
+ * <br>
+ * Both indices only ever increase; an index is masked with {@link #mask} to get a position in the buffer.
+ */
+abstract class RingFields extends RingConsumerFields {
+	long p20, p21, p22, p23, p24, p25, p26, p27;
+
+	/**
+	 * One less than the capacity, which is always a power of two.
+	 */
+	protected final int mask;
+
+	RingFields(int capacity) {
+		if (capacity < 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("capacity must be between 0 and 2 to the 30, but was " + capacity);
+		}
+		mask = capacity <= 2 ? 1 : (-1 >>> Integer.numberOfLeadingZeros(capacity - 1));
+	}
+
+	/**
+	 * Gets the maximum number of items this can hold at once, which is always a power of two.
+	 *
+	 * @return the capacity of this queue
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Gets how many items are in this queue. If other threads are offering or polling at the same time, this is only
+	 * an estimate, but it is always between 0 and {@link #capacity()}, inclusive.
+	 *
+	 * @return how many items are in this queue
+	 */
+	public int size() {
+		long after = consumerIndex, before, producer;
+		do {
+			before = after;
+			producer = producerIndex;
+			after = consumerIndex;
+		} while (before != after);
+		return (int) Math.max(0L, Math.min(mask + 1L, producer - after));
+	}
+
+	/**
+	 * Returns true if this queue has no items. If other threads are offering or polling at the same time, the result
+	 * may already be out of date when this returns.
+	 *
+	 * @return true if this queue is empty
+	 */
+	public boolean isEmpty() {
+		return consumerIndex >= producerIndex;
+	}
+}
+
+abstract class RingPadding0 {
+	long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class RingProducerFields extends RingPadding0 {
+	static final AtomicLongFieldUpdater<RingProducerFields> PRODUCER_INDEX =
+		AtomicLongFieldUpdater.newUpdater(RingProducerFields.class, "producerIndex");
+
+	/**
+	 * The index of the next slot to be claimed by a producer.
+	 */
+	protected volatile long producerIndex;
+	/**
+	 * A producer-local copy of the consumer index, so the producer doesn't have to read the volatile field every time.
+	 */
+	protected long consumerLimit;
+
+	/**
+	 * Publishes {@code index} as the producer index, with release semantics but without a full fence.
+	 */
+	final void orderedProducerIndex(long index) {
+		PRODUCER_INDEX.lazySet(this, index);
+	}
+
+	final boolean casProducerIndex(long expected, long index) {
+		return PRODUCER_INDEX.compareAndSet(this, expected, index);
+	}
+}
+
+abstract class RingPadding1 extends RingProducerFields {
+	long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class RingConsumerFields extends RingPadding1 {
+	static final AtomicLongFieldUpdater<RingConsumerFields> CONSUMER_INDEX =
+		AtomicLongFieldUpdater.newUpdater(RingConsumerFields.class, "consumerIndex");
+
+	/**
+	 * The index of the next slot the consumer will read.
+	 */
+	protected volatile long consumerIndex;
+	/**
+	 * A consumer-local copy of the producer index, so the consumer doesn't have to read the volatile field every time.
+	 */
+	protected long producerLimit;
+
+	/**
+	 * Publishes {@code index} as the consumer index, with release semantics but without a full fence.
+	 */
+	final void orderedConsumerIndex(long index) {
+		CONSUMER_INDEX.lazySet(this, index);
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.concurrent;
+
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.PrimitiveCollection;
+
+/**
+ * A bounded, lock-free, first-in-first-out queue of long items that can be used by exactly one producer thread and
+ * exactly one consumer thread at a time, such as for handing work from a logic thread to a render thread. This never
+ * allocates after construction and never boxes its items; the buffer is a ring of fixed power-of-two size,
+ * and the producer and consumer only communicate through two padded, ordered index fields.
+ * <br>
+ * Only the producer may call {@link #offer} and {@link #offerAll}, and only the consumer may call {@link #poll()},
+ * {@link #peek()}, and {@link #drainTo}; {@link #size()}, {@link #isEmpty()}, and {@link #capacity()} can be
+ * called from any thread. If more than one thread needs to offer items, use {@link MpscLongQueue} instead.
+ * Unlike {@link com.github.tommyettinger.ds.LongDeque}, this never grows; {@link #offer} returns false when the
+ * queue is full.
+ *
+ * @see MpscLongQueue MpscLongQueue allows any number of producer threads.
+ */
+public class SpscLongQueue extends RingFields {
+	protected final long[] buffer;
+
+	/**
+	 * The value returned when nothing can be obtained from this queue, such as when calling {@link #poll()} on an
+	 * empty queue.
+	 */
+	public long defaultValue = 0L;
+
+	/**
+	 * Creates a new queue that can hold at least {@code capacity} items; the actual capacity is rounded up to the next
+	 * power of two, and is at least 2.
+	 *
+	 * @param capacity the minimum number of items this can hold at once; at most 2 to the 30
+	 */
+	public SpscLongQueue(int capacity) {
+		super(capacity);
+		buffer = new long[mask + 1];
+	}
+
+	public long getDefaultValue() {
+		return defaultValue;
+	}
+
+	public void setDefaultValue(long defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * Adds {@code item} to the end of this queue, if there is room.
+	 *
+	 * @param item the item to add
+	 * @return true if the item was added, or false if this queue was full
+	 */
+	public boolean offer(long item) {
+		final long index = producerIndex;
+		if (index - consumerLimit > mask) {
+			consumerLimit = consumerIndex;
+			if (index - consumerLimit > mask) return false;
+		}
+		buffer[(int) index & mask] = item;
+		orderedProducerIndex(index + 1);
+		return true;
+	}
+
+	/**
+	 * Adds as many items from {@code items} as will fit, starting at {@code offset} and adding at most
+	 * {@code count} items, in order. The items are published to the consumer together.
+	 *
+	 * @param items  the array to take items from
+	 * @param offset the first index in {@code items} to use
+	 * @param count  the most items to add
+	 * @return how many items were added, which is 0 if this queue was full
+	 */
+	public int offerAll(long[] items, int offset, int count) {
+		if (count <= 0) return 0;
+		final long index = producerIndex;
+		long free = consumerLimit + mask + 1 - index;
+		if (free < count) {
+			consumerLimit = consumerIndex;
+			free = consumerLimit + mask + 1 - index;
+		}
+		final int n = (int) Math.min(free, count);
+		for (int i = 0; i < n; i++) {
+			buffer[(int) (index + i) & mask] = items[offset + i];
+		}
+		if (n > 0) orderedProducerIndex(index + n);
+		return n;
+	}
+
+	/**
+	 * Adds as many items from {@code items} as will fit, in order.
+	 *
+	 * @param items the array to take items from
+	 * @return how many items were added, which is 0 if this queue was full
+	 */
+	public int offerAll(long... items) {
+		return offerAll(items, 0, items.length);
+	}
+
+	/**
+	 * Removes and returns the first item in this queue, or returns {@link #getDefaultValue() defaultValue} if this
+	 * queue is empty.
+	 *
+	 * @return the first item in this queue, or {@link #getDefaultValue() defaultValue} if this queue is empty
+	 */
+	public long poll() {
+		final long index = consumerIndex;
+		if (index >= producerLimit) {
+			producerLimit = producerIndex;
+			if (index >= producerLimit) return defaultValue;
+		}
+		final int slot = (int) index & mask;
+		long item = buffer[slot];
+		orderedConsumerIndex(index + 1);
+		return item;
+	}
+
+	/**
+	 * Returns, but does not remove, the first item in this queue, or returns {@link #getDefaultValue() defaultValue}
+	 * if this queue is empty.
+	 *
+	 * @return the first item in this queue, or {@link #getDefaultValue() defaultValue} if this queue is empty
+	 */
+	public long peek() {
+		final long index = consumerIndex;
+		if (index >= producerLimit) {
+			producerLimit = producerIndex;
+			if (index >= producerLimit) return defaultValue;
+		}
+		return buffer[(int) index & mask];
+	}
+
+	/**
+	 * Counts how many items, up to {@code limit}, the consumer can read starting at {@code index}.
+	 */
+	private int readable(long index, int limit) {
+		long available = producerLimit - index;
+		if (available < limit) {
+			producerLimit = producerIndex;
+			available = producerLimit - index;
+		}
+		return (int) Math.max(0L, Math.min(available, limit));
+	}
+
+	/**
+	 * Gives the {@code n} slots starting at {@code index} back to the producers, after they have been read.
+	 */
+	private void release(long index, int n) {
+		orderedConsumerIndex(index + n);
+	}
+
+	/**
+	 * Removes every item currently in this queue and adds them, in order, to {@code into}.
+	 *
+	 * @param into the collection to add items to
+	 * @return how many items were moved
+	 */
+	public int drainTo(PrimitiveCollection.OfLong into) {
+		return drainTo(into, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Removes up to {@code limit} items from the front of this queue and adds them, in order, to {@code into}.
+	 *
+	 * @param into  the collection to add items to
+	 * @param limit the most items to move
+	 * @return how many items were moved
+	 */
+	public int drainTo(PrimitiveCollection.OfLong into, int limit) {
+		final long index = consumerIndex;
+		final int n = readable(index, limit);
+		for (int i = 0; i < n; i++) {
+			into.add(buffer[(int) (index + i) & mask]);
+		}
+		release(index, n);
+		return n;
+	}
+
+	/**
+	 * Removes every item currently in this queue and adds them, in order, to the end of {@code into}. This copies
+	 * items in at most two blocks, rather than one at a time.
+	 *
+	 * @param into the list or deque to add items to
+	 * @return how many items were moved
+	 */
+	public int drainTo(LongList into) {
+		return drainTo(into, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Removes up to {@code limit} items from the front of this queue and adds them, in order, to the end of
+	 * {@code into}. This copies items in at most two blocks, rather than one at a time.
+	 *
+	 * @param into  the list or deque to add items to
+	 * @param limit the most items to move
+	 * @return how many items were moved
+	 */
+	public int drainTo(LongList into, int limit) {
+		final long index = consumerIndex;
+		final int n = readable(index, limit);
+		if (n == 0) return 0;
+		final int slot = (int) index & mask, first = Math.min(n, mask + 1 - slot);
+		into.addAll(buffer, slot, first);
+		if (first < n) into.addAll(buffer, 0, n - first);
+		release(index, n);
+		return n;
+	}
+
+
+	/**
+	 * Adds as many items from {@code items} as will fit, starting at {@code offset} and adding at most
+	 * {@code count} items, in order. The items are published to the consumer together.
+	 *
+	 * @param items  the list or deque to take items from
+	 * @param offset the first index in {@code items} to use
+	 * @param count  the most items to add
+	 * @return how many items were added, which is 0 if this queue was full
+	 */
+	public int offerAll(LongList items, int offset, int count) {
+		if (count <= 0) return 0;
+		final long index = producerIndex;
+		long free = consumerLimit + mask + 1 - index;
+		if (free < count) {
+			consumerLimit = consumerIndex;
+			free = consumerLimit + mask + 1 - index;
+		}
+		final int n = (int) Math.min(free, count);
+		for (int i = 0; i < n; i++) {
+			buffer[(int) (index + i) & mask] = items.get(offset + i);
+		}
+		if (n > 0) orderedProducerIndex(index + n);
+		return n;
+	}
+
+	/**
+	 * Adds as many items from {@code items} as will fit, in order.
+	 *
+	 * @param items the list or deque to take items from
+	 * @return how many items were added, which is 0 if this queue was full
+	 */
+	public int offerAll(LongList items) {
+		return offerAll(items, 0, items.size());
+	}
+
+	@Override
+	public String toString() {
+		return "SpscLongQueue with size " + size() + " and capacity " + capacity();
+	}
+}
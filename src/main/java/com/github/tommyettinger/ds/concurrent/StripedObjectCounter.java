@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.concurrent;
+
+import com.github.tommyettinger.ds.ObjectLongMap;
+import com.github.tommyettinger.ds.ObjectLongOrderedMap;
+import com.github.tommyettinger.ds.support.sort.LongComparators;
+
+/**
+ * Counts occurrences of Object keys from many threads at once, such as for aggregating metrics in a server. Each thread
+ * adds to one of several stripes, each a plain {@link ObjectLongMap} with its own lock, chosen by the thread's ID; so
+ * threads rarely wait on each other, even when they all count the same hot key, and no key ever needs a boxed counter
+ * object like a {@code ConcurrentHashMap<K, LongAdder>} would. Reading a count merges that key across all stripes.
+ * <br>
+ * {@link #increment(Object, long)} and {@link #sum(Object)} are the main methods; {@link #sumThenReset(Object)} and
+ * {@link #sumAllThenReset()} read and clear counts in one step per stripe, so no increment is lost or counted twice
+ * between reporting intervals. {@link #top(int)} gets the keys with the highest counts, in descending order by count,
+ * in an {@link ObjectLongOrderedMap}. Counts from one stripe are always read together, but a merged result isn't an
+ * atomic snapshot of every stripe; increments that happen during a read may or may not be included.
+ * <br>
+ * This is only available on the JVM and Android, not GWT.
+ *
+ * @param <K> the type of keys
+ */
+public class StripedObjectCounter<K> {
+	protected final ObjectLongMap<K>[] stripes;
+	protected final int mask;
+
+	/**
+	 * Creates a counter with two stripes per available processor, up to 64 stripes.
+	 */
+	public StripedObjectCounter() {
+		this(Math.min(Runtime.getRuntime().availableProcessors() << 1, 64));
+	}
+
+	/**
+	 * Creates a counter with at least {@code stripes} stripes, rounded up to a power of two.
+	 *
+	 * @param stripes how many independently-locked maps to spread counts over; between 1 and 1024
+	 */
+	@SuppressWarnings("unchecked")
+	public StripedObjectCounter(int stripes) {
+		final int n = Integer.highestOneBit(Math.min(Math.max(stripes, 1), 1024) - 1 << 1 | 1);
+		this.stripes = (ObjectLongMap<K>[]) new ObjectLongMap<?>[n];
+		for (int i = 0; i < n; i++) {
+			this.stripes[i] = new ObjectLongMap<>(16);
+		}
+		mask = n - 1;
+	}
+
+	/**
+	 * Gets the stripe the current thread adds to.
+	 */
+	protected ObjectLongMap<K> stripe() {
+		final long id = Thread.currentThread().getId();
+		return stripes[(int) (id ^ id >>> 7) & mask];
+	}
+
+	/**
+	 * @return how many stripes this uses
+	 */
+	public int getStripeCount() {
+		return stripes.length;
+	}
+
+	/**
+	 * Adds 1 to the count for {@code key}.
+	 *
+	 * @param key the key to count; must not be null
+	 */
+	public void increment(K key) {
+		increment(key, 1L);
+	}
+
+	/**
+	 * Adds {@code delta} to the count for {@code key}; {@code delta} can be negative.
+	 *
+	 * @param key   the key to count; must not be null
+	 * @param delta how much to add to the count
+	 */
+	public void increment(K key, long delta) {
+		final ObjectLongMap<K> stripe = stripe();
+		synchronized (stripe) {
+			stripe.getAndIncrement(key, 0L, delta);
+		}
+	}
+
+	/**
+	 * Gets the count for {@code key}, summed over every stripe.
+	 *
+	 * @param key the key to look up
+	 * @return the current count for {@code key}, or 0 if it hasn't been counted
+	 */
+	public long sum(Object key) {
+		long sum = 0L;
+		for (ObjectLongMap<K> stripe : stripes) {
+			synchronized (stripe) {
+				sum += stripe.get(key);
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the count for {@code key}, summed over every stripe, and removes {@code key} from each stripe as it is
+	 * read.
+	 *
+	 * @param key the key to look up and reset
+	 * @return the count for {@code key} before it was reset, or 0 if it hadn't been counted
+	 */
+	public long sumThenReset(Object key) {
+		long sum = 0L;
+		for (ObjectLongMap<K> stripe : stripes) {
+			synchronized (stripe) {
+				sum += stripe.remove(key);
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the total of every count for every key.
+	 *
+	 * @return the sum of all counts
+	 */
+	public long total() {
+		long sum = 0L;
+		for (ObjectLongMap<K> stripe : stripes) {
+			synchronized (stripe) {
+				for (ObjectLongMap.Entry<K> e : stripe) {
+					sum += e.value;
+				}
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * Adds every count from every stripe into {@code into}, which is not cleared first.
+	 *
+	 * @param into a map that will have each key's count added to its current value
+	 * @param reset if true, each stripe is cleared right after it is read
+	 * @return {@code into}, after modifications
+	 */
+	protected ObjectLongMap<K> merge(ObjectLongMap<K> into, boolean reset) {
+		for (ObjectLongMap<K> stripe : stripes) {
+			synchronized (stripe) {
+				for (ObjectLongMap.Entry<K> e : stripe) {
+					into.getAndIncrement(e.key, 0L, e.value);
+				}
+				if (reset) stripe.clear();
+			}
+		}
+		return into;
+	}
+
+	/**
+	 * Gets the count of every key, summed over every stripe, in a new {@link ObjectLongMap}.
+	 *
+	 * @return a new map from each counted key to its count
+	 */
+	public ObjectLongMap<K> sumAll() {
+		return merge(new ObjectLongMap<>(), false);
+	}
+
+	/**
+	 * Gets the count of every key, summed over every stripe, in a new {@link ObjectLongMap}, and clears each stripe as
+	 * it is read, so each increment is in either this result or a later one, never both.
+	 *
+	 * @return a new map from each counted key to its count before it was reset
+	 */
+	public ObjectLongMap<K> sumAllThenReset() {
+		return merge(new ObjectLongMap<>(), true);
+	}
+
+	/**
+	 * Adds the count of every key to {@code into}, and clears each stripe as it is read. This can reuse the same map
+	 * every reporting interval, after clearing it, so it doesn't allocate once that map is big enough.
+	 *
+	 * @param into a map that will have each key's count added to its current value
+	 * @return {@code into}, after modifications
+	 */
+	public ObjectLongMap<K> sumAllThenReset(ObjectLongMap<K> into) {
+		return merge(into, true);
+	}
+
+	/**
+	 * Gets the {@code k} keys with the highest counts, with their counts, in descending order by count.
+	 *
+	 * @param k the most keys to return
+	 * @return a new ordered map of at most {@code k} keys, highest count first
+	 */
+	public ObjectLongOrderedMap<K> top(int k) {
+		return top(k, false);
+	}
+
+	/**
+	 * Gets the {@code k} keys with the highest counts, with their counts, in descending order by count. If
+	 * {@code reset} is true, every count is cleared as it is read, as with {@link #sumAllThenReset()}.
+	 *
+	 * @param k     the most keys to return
+	 * @param reset if true, clear all counts as they are read
+	 * @return a new ordered map of at most {@code k} keys, highest count first
+	 */
+	public ObjectLongOrderedMap<K> top(int k, boolean reset) {
+		ObjectLongOrderedMap<K> ordered = new ObjectLongOrderedMap<>();
+		merge(ordered, reset);
+		ordered.sortByValue(LongComparators.OPPOSITE_COMPARATOR);
+		ordered.truncate(Math.max(0, k));
+		return ordered;
+	}
+
+	/**
+	 * Removes every count from every stripe.
+	 */
+	public void clear() {
+		for (ObjectLongMap<K> stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "StripedObjectCounter" + sumAll();
+	}
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Bounded, lock-free queues for handing primitive or Object items between threads without boxing or allocation,
+ * {@link com.github.tommyettinger.ds.concurrent.ReadMostly} for publishing snapshots of collections to many readers,
+ * and striped counters such as {@link com.github.tommyettinger.ds.concurrent.StripedObjectCounter} for counting keys
+ * from many threads.
+ * This package uses {@code java.util.concurrent.atomic}, so it is only available on the JVM and Android; it is left out
+ * of the GWT module.
+ */
+package com.github.tommyettinger.ds.concurrent;
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.support.util;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+/**
+ * An Appendable CharSequence that holds only a small, fixed-size chunk of chars, and passes each full chunk on to a
+ * {@link Writer}, an {@link OutputStream}, or a {@link ByteBuffer}. The last two get the chars encoded as UTF-8.
+ * Because this is both a CharSequence and an Appendable, it can be given to any {@code appendTo()} method in this
+ * library, such as {@link com.github.tommyettinger.ds.LongLongMap#appendTo(CharSequence, String, boolean)}, and it
+ * lets large collections be written out as text without ever building the whole text in memory.
+ * <br>
+ * You must call {@link #flush()} or {@link #close()} when you are done appending, or the last chunk won't be written.
+ * {@link #length()} counts every char appended so far, but {@link #charAt(int)} and {@link #subSequence(int, int)}
+ * can only see chars that are still in the current chunk, and throw an {@link IndexOutOfBoundsException} for chars
+ * that have already been passed on. {@link #toString()} likewise only returns the current chunk.
+ * <br>
+ * A {@link java.nio.CharBuffer} is already an Appendable CharSequence, so it can be passed to {@code appendTo()}
+ * directly; it will throw a {@link java.nio.BufferOverflowException} if it fills up, as will the ByteBuffer here.
+ */
+public abstract class ChunkedAppendable implements CharSequence, Appendable, Flushable, Closeable {
+	/**
+	 * The default number of chars held before they are passed on.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+	protected final char[] chunk;
+	protected int used;
+	protected long passed;
+
+	protected ChunkedAppendable(int chunkSize) {
+		chunk = new char[Math.max(16, chunkSize)];
+	}
+
+	/**
+	 * Creates a ChunkedAppendable that writes chars to {@code writer} in chunks of {@link #DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param writer a non-null Writer
+	 * @return a new ChunkedAppendable that writes to {@code writer}
+	 */
+	public static ChunkedAppendable of(Writer writer) {
+		return of(writer, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a ChunkedAppendable that writes chars to {@code writer} every {@code chunkSize} chars.
+	 *
+	 * @param writer    a non-null Writer
+	 * @param chunkSize how many chars to hold before writing them; at least 16
+	 * @return a new ChunkedAppendable that writes to {@code writer}
+	 */
+	public static ChunkedAppendable of(final Writer writer, int chunkSize) {
+		return new ChunkedAppendable(chunkSize) {
+			@Override
+			protected void pass(char[] chars, int count) throws IOException {
+				writer.write(chars, 0, count);
+			}
+
+			@Override
+			protected void flushTarget() throws IOException {
+				writer.flush();
+			}
+
+			@Override
+			protected void closeTarget() throws IOException {
+				writer.close();
+			}
+		};
+	}
+
+	/**
+	 * Creates a ChunkedAppendable that writes UTF-8 bytes to {@code stream} in chunks of {@link #DEFAULT_CHUNK_SIZE}
+	 * chars.
+	 *
+	 * @param stream a non-null OutputStream
+	 * @return a new ChunkedAppendable that writes to {@code stream}
+	 */
+	public static ChunkedAppendable of(OutputStream stream) {
+		return of(stream, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a ChunkedAppendable that writes UTF-8 bytes to {@code stream} every {@code chunkSize} chars.
+	 *
+	 * @param stream    a non-null OutputStream
+	 * @param chunkSize how many chars to hold before encoding and writing them; at least 16
+	 * @return a new ChunkedAppendable that writes to {@code stream}
+	 */
+	public static ChunkedAppendable of(final OutputStream stream, int chunkSize) {
+		return new ChunkedAppendable(chunkSize) {
+			private final byte[] bytes = new byte[chunk.length * 3];
+
+			@Override
+			protected void pass(char[] chars, int count) throws IOException {
+				stream.write(bytes, 0, encodeUTF8(chars, count, bytes));
+			}
+
+			@Override
+			protected void flushTarget() throws IOException {
+				stream.flush();
+			}
+
+			@Override
+			protected void closeTarget() throws IOException {
+				stream.close();
+			}
+		};
+	}
+
+	/**
+	 * Creates a ChunkedAppendable that puts UTF-8 bytes into {@code buffer} in chunks of {@link #DEFAULT_CHUNK_SIZE}
+	 * chars. If the buffer doesn't have room, this throws a {@link java.nio.BufferOverflowException}.
+	 *
+	 * @param buffer a non-null ByteBuffer with enough remaining space for the encoded text
+	 * @return a new ChunkedAppendable that puts bytes into {@code buffer}
+	 */
+	public static ChunkedAppendable of(ByteBuffer buffer) {
+		return of(buffer, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a ChunkedAppendable that puts UTF-8 bytes into {@code buffer} every {@code chunkSize} chars. If the
+	 * buffer doesn't have room, this throws a {@link java.nio.BufferOverflowException}.
+	 *
+	 * @param buffer    a non-null ByteBuffer with enough remaining space for the encoded text
+	 * @param chunkSize how many chars to hold before encoding and putting them; at least 16
+	 * @return a new ChunkedAppendable that puts bytes into {@code buffer}
+	 */
+	public static ChunkedAppendable of(final ByteBuffer buffer, int chunkSize) {
+		return new ChunkedAppendable(chunkSize) {
+			private final byte[] bytes = new byte[chunk.length * 3];
+
+			@Override
+			protected void pass(char[] chars, int count) {
+				buffer.put(bytes, 0, encodeUTF8(chars, count, bytes));
+			}
+		};
+	}
+
+	/**
+	 * Passes {@code count} chars from the start of {@code chars} on to the target.
+	 */
+	protected abstract void pass(char[] chars, int count) throws IOException;
+
+	/**
+	 * Flushes the target, if it can be flushed. Does nothing by default.
+	 */
+	protected void flushTarget() throws IOException {
+	}
+
+	/**
+	 * Closes the target, if it can be closed. Does nothing by default.
+	 */
+	protected void closeTarget() throws IOException {
+	}
+
+	/**
+	 * Encodes {@code count} chars from {@code chars} as UTF-8 into {@code bytes}, which must have room for
+	 * {@code count * 3} bytes. Unpaired surrogates are encoded as {@code '?'}, as {@link String#getBytes} does.
+	 *
+	 * @return how many bytes were written
+	 */
+	protected static int encodeUTF8(char[] chars, int count, byte[] bytes) {
+		int b = 0;
+		for (int i = 0; i < count; i++) {
+			char c = chars[i];
+			if (c < 0x80) {
+				bytes[b++] = (byte) c;
+			} else if (c < 0x800) {
+				bytes[b++] = (byte) (0xC0 | c >>> 6);
+				bytes[b++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(chars[i + 1])) {
+					int cp = Character.toCodePoint(c, chars[++i]);
+					bytes[b++] = (byte) (0xF0 | cp >>> 18);
+					bytes[b++] = (byte) (0x80 | (cp >>> 12 & 0x3F));
+					bytes[b++] = (byte) (0x80 | (cp >>> 6 & 0x3F));
+					bytes[b++] = (byte) (0x80 | (cp & 0x3F));
+				} else {
+					bytes[b++] = '?';
+				}
+			} else {
+				bytes[b++] = (byte) (0xE0 | c >>> 12);
+				bytes[b++] = (byte) (0x80 | (c >>> 6 & 0x3F));
+				bytes[b++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		return b;
+	}
+
+	/**
+	 * Passes on the current chunk, except that a trailing high surrogate is kept back so a surrogate pair is never
+	 * split between chunks.
+	 */
+	private void drain() throws IOException {
+		int count = used;
+		if (count > 1 && Character.isHighSurrogate(chunk[count - 1])) {
+			count--;
+		}
+		pass(chunk, count);
+		passed += count;
+		used -= count;
+		if (used != 0) chunk[0] = chunk[count];
+	}
+
+	@Override
+	public ChunkedAppendable append(char c) throws IOException {
+		if (used == chunk.length) drain();
+		chunk[used++] = c;
+		return this;
+	}
+
+	@Override
+	public ChunkedAppendable append(CharSequence csq) throws IOException {
+		if (csq == null) return append("null", 0, 4);
+		return append(csq, 0, csq.length());
+	}
+
+	@Override
+	public ChunkedAppendable append(CharSequence csq, int start, int end) throws IOException {
+		if (csq == null) csq = "null";
+		if (start < 0 || end > csq.length() || start > end) {
+			throw new IndexOutOfBoundsException("Invalid range: start " + start + ", end " + end + ", length " + csq.length());
+		}
+		while (start < end) {
+			if (used == chunk.length) drain();
+			int n = Math.min(chunk.length - used, end - start);
+			if (csq instanceof String) {
+				((String) csq).getChars(start, start + n, chunk, used);
+				used += n;
+				start += n;
+			} else {
+				for (int i = 0; i < n; i++) {
+					chunk[used++] = csq.charAt(start++);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Passes on every char appended so far, including a trailing high surrogate, and flushes the target.
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (used != 0) {
+			pass(chunk, used);
+			passed += used;
+			used = 0;
+		}
+		flushTarget();
+	}
+
+	/**
+	 * Calls {@link #flush()}, then closes the target (for a Writer or OutputStream).
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		closeTarget();
+	}
+
+	/**
+	 * Gets how many chars have been appended in total, including ones that were already passed on, clamped to
+	 * {@link Integer#MAX_VALUE}. Use {@link #totalLength()} if more than that many chars may be appended.
+	 *
+	 * @return the number of chars appended so far
+	 */
+	@Override
+	public int length() {
+		return (int) Math.min(Integer.MAX_VALUE, passed + used);
+	}
+
+	/**
+	 * Gets how many chars have been appended in total, including ones that were already passed on.
+	 *
+	 * @return the number of chars appended so far, as a long
+	 */
+	public long totalLength() {
+		return passed + used;
+	}
+
+	@Override
+	public char charAt(int index) {
+		long i = index - passed;
+		if (i < 0 || i >= used) {
+			throw new IndexOutOfBoundsException("Only chars " + passed + " (inclusive) to " + (passed + used)
+				+ " (exclusive) can be read, but index was " + index);
+		}
+		return chunk[(int) i];
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		long s = start - passed, e = end - passed;
+		if (s < 0 || e > used || s > e) {
+			throw new IndexOutOfBoundsException("Only chars " + passed + " (inclusive) to " + (passed + used)
+				+ " (exclusive) can be read, but the range was " + start + " to " + end);
+		}
+		return new String(chunk, (int) s, (int) (e - s));
+	}
+
+	/**
+	 * Returns only the chars that have been appended but not yet passed on.
+	 *
+	 * @return a String of the current chunk
+	 */
+	@Override
+	public String toString() {
+		return new String(chunk, 0, used);
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.support.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits text from a {@link Reader} or a window of a {@link CharSequence} into delimiter-separated tokens, holding
+ * only a bounded buffer of chars at a time. This is what the {@code addLegible()} and {@code putLegible()} overloads
+ * that take a Reader or CharSequence use, so large text can be loaded without first being read into one String.
+ * <br>
+ * Call {@link #next(String)} to advance to the next token; each call can use a different delimiter, which is how maps
+ * alternate between a key-value separator and an entry separator. The current token is the chars from
+ * {@link #start()} (inclusive) to {@link #end()} (exclusive) in both {@link #chars()} and {@link #text()}. Primitive
+ * items can be read straight from {@link #chars()} with methods like
+ * {@link com.github.tommyettinger.digital.Base#readInt(char[], int, int)}; a {@link PartialParser} can use
+ * {@link #text()}, which is one String shared by every token until the buffer is refilled, rather than a substring per
+ * token. The buffer only grows if a single token is longer than it.
+ * <br>
+ * Tokens follow the same rules as {@code addLegible(String, String)}: a token is at least one char long, and the last
+ * token runs to the end of the input. Any {@link IOException} from the Reader is rethrown wrapped in a
+ * {@link RuntimeException}, as {@code appendTo()} does.
+ */
+public class LegibleTokenizer {
+	/**
+	 * The default number of chars buffered at a time.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	protected final Reader reader;
+	protected final CharSequence source;
+	protected int sourcePos, sourceEnd;
+
+	protected char[] buffer;
+	protected int pos, limit;
+	protected boolean exhausted;
+	protected int start, end;
+	protected String text;
+
+	/**
+	 * Tokenizes everything {@code reader} provides, buffering {@link #DEFAULT_BUFFER_SIZE} chars at a time.
+	 * This does not close {@code reader}.
+	 *
+	 * @param reader a non-null Reader
+	 */
+	public LegibleTokenizer(Reader reader) {
+		this(reader, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Tokenizes everything {@code reader} provides, buffering {@code bufferSize} chars at a time.
+	 * This does not close {@code reader}.
+	 *
+	 * @param reader     a non-null Reader
+	 * @param bufferSize how many chars to buffer initially; at least 16
+	 */
+	public LegibleTokenizer(Reader reader, int bufferSize) {
+		this.reader = reader;
+		this.source = null;
+		buffer = new char[Math.max(16, bufferSize)];
+	}
+
+	/**
+	 * Tokenizes {@code length} chars of {@code text} starting at {@code offset}, buffering
+	 * {@link #DEFAULT_BUFFER_SIZE} chars at a time. This works with any CharSequence, such as a
+	 * {@link java.nio.CharBuffer} or a {@link com.github.tommyettinger.ds.CharList}.
+	 *
+	 * @param text   a non-null CharSequence
+	 * @param offset the first position to read from in {@code text}
+	 * @param length how many chars to read; -1 is treated as maximum length
+	 */
+	public LegibleTokenizer(CharSequence text, int offset, int length) {
+		this(text, offset, length, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Tokenizes {@code length} chars of {@code text} starting at {@code offset}, buffering {@code bufferSize} chars
+	 * at a time. This works with any CharSequence, such as a {@link java.nio.CharBuffer} or a
+	 * {@link com.github.tommyettinger.ds.CharList}.
+	 *
+	 * @param text       a non-null CharSequence
+	 * @param offset     the first position to read from in {@code text}
+	 * @param length     how many chars to read; -1 is treated as maximum length
+	 * @param bufferSize how many chars to buffer initially; at least 16
+	 */
+	public LegibleTokenizer(CharSequence text, int offset, int length, int bufferSize) {
+		this.reader = null;
+		this.source = text;
+		int tl = text.length();
+		sourcePos = Math.min(Math.max(offset, 0), tl);
+		sourceEnd = length < 0 ? tl : Math.min(tl, sourcePos + length);
+		buffer = new char[Math.max(16, bufferSize)];
+	}
+
+	/**
+	 * Advances to the next token, which ends before the next occurrence of {@code delimiter} or at the end of the
+	 * input. The delimiter itself is skipped.
+	 *
+	 * @param delimiter a non-empty String that separates this token from the next
+	 * @return true if there was another token, or false if the input has been used up
+	 */
+	public boolean next(String delimiter) {
+		final int dl = delimiter.length();
+		int from = pos + 1;
+		while (true) {
+			int found = indexOf(delimiter, dl, from);
+			if (found != -1) {
+				start = pos;
+				end = found;
+				pos = found + dl;
+				return true;
+			}
+			if (exhausted) {
+				if (pos < limit) {
+					start = pos;
+					end = pos = limit;
+					return true;
+				}
+				return false;
+			}
+			int resume = Math.max(pos + 1, limit - dl + 1) - pos;
+			fill();
+			from = pos + resume;
+		}
+	}
+
+	private int indexOf(String delimiter, int dl, int from) {
+		final char first = delimiter.charAt(0);
+		final char[] buffer = this.buffer;
+		OUTER:
+		for (int i = from, n = limit - dl; i <= n; i++) {
+			if (buffer[i] != first) continue;
+			for (int j = 1; j < dl; j++) {
+				if (buffer[i + j] != delimiter.charAt(j)) continue OUTER;
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Moves unconsumed chars to the start of the buffer, grows it if it is full, and reads more chars into it.
+	 */
+	protected void fill() {
+		if (pos > 0) {
+			System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+			limit -= pos;
+			pos = 0;
+		}
+		if (limit == buffer.length) {
+			buffer = Arrays.copyOf(buffer, buffer.length << 1);
+		}
+		text = null;
+		int n = read(buffer, limit, buffer.length - limit);
+		if (n < 0) exhausted = true;
+		else limit += n;
+	}
+
+	/**
+	 * Reads up to {@code count} chars into {@code into} at {@code offset}.
+	 *
+	 * @return how many chars were read, or -1 if there are no more
+	 */
+	protected int read(char[] into, int offset, int count) {
+		if (reader != null) {
+			try {
+				int n;
+				do {
+					n = reader.read(into, offset, count);
+				} while (n == 0);
+				return n;
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+		int n = Math.min(count, sourceEnd - sourcePos);
+		if (n <= 0) return -1;
+		if (source instanceof String) {
+			((String) source).getChars(sourcePos, sourcePos + n, into, offset);
+		} else {
+			for (int i = 0; i < n; i++) {
+				into[offset + i] = source.charAt(sourcePos + i);
+			}
+		}
+		sourcePos += n;
+		return n;
+	}
+
+	/**
+	 * Gets the buffer holding the current token; only valid until the next call to {@link #next(String)}.
+	 *
+	 * @return the buffer, which holds the current token from {@link #start()} to {@link #end()}
+	 */
+	public char[] chars() {
+		return buffer;
+	}
+
+	/**
+	 * Gets a String holding the contents of the buffer, so a {@link PartialParser} can read the current token from
+	 * {@link #start()} to {@link #end()}. The same String is returned until the buffer is refilled.
+	 *
+	 * @return a String that holds the current token from {@link #start()} to {@link #end()}
+	 */
+	public String text() {
+		if (text == null) text = new String(buffer, 0, limit);
+		return text;
+	}
+
+	/**
+	 * @return the index of the first char of the current token in {@link #chars()} and {@link #text()}, inclusive
+	 */
+	public int start() {
+		return start;
+	}
+
+	/**
+	 * @return the index after the last char of the current token in {@link #chars()} and {@link #text()}, exclusive
+	 */
+	public int end() {
+		return end;
+	}
+}
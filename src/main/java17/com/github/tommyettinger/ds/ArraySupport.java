@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import java.util.Arrays;
+
+/**
+ * Java 17 version of the internal array helpers, placed under {@code META-INF/versions/17} in the multi-release JAR.
+ * The range overloads of {@link Arrays#equals} are backed by the JVM's vectorized mismatch intrinsic, and
+ * {@link Math#fma(float, float, float)} compiles to a single fused multiply-add instruction on current CPUs.
+ * This must behave identically to the baseline version in {@code src/main/java}, except that the multiply-add helpers
+ * round once instead of twice.
+ */
+final class ArraySupport {
+	private ArraySupport() {
+	}
+
+	static boolean rangeEquals(int[] a, int aFrom, int[] b, int bFrom, int length) {
+		return Arrays.equals(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	static boolean rangeEquals(long[] a, int aFrom, long[] b, int bFrom, int length) {
+		return Arrays.equals(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	static boolean rangeEquals(short[] a, int aFrom, short[] b, int bFrom, int length) {
+		return Arrays.equals(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	static boolean rangeEquals(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+		return Arrays.equals(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	static boolean rangeEquals(char[] a, int aFrom, char[] b, int bFrom, int length) {
+		return Arrays.equals(a, aFrom, aFrom + length, b, bFrom, bFrom + length);
+	}
+
+	static void mulAdd(float[] a, int aFrom, float[] b, int bFrom, float[] c, int cFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] = Math.fma(a[aFrom + i], b[bFrom + i], c[cFrom + i]);
+		}
+	}
+
+	static void addScaled(float[] a, int aFrom, float[] b, int bFrom, int length, float scale) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] = Math.fma(b[bFrom + i], scale, a[aFrom + i]);
+		}
+	}
+
+	static void mulAdd(double[] a, int aFrom, double[] b, int bFrom, double[] c, int cFrom, int length) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] = Math.fma(a[aFrom + i], b[bFrom + i], c[cFrom + i]);
+		}
+	}
+
+	static void addScaled(double[] a, int aFrom, double[] b, int bFrom, int length, double scale) {
+		for (int i = 0; i < length; i++) {
+			a[aFrom + i] = Math.fma(b[bFrom + i], scale, a[aFrom + i]);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks {@link ArraySupport} and the list equality that relies on it. The build runs this class twice: once with
+ * the Java 8 baseline, and once (as {@code testJava17}) with the Java 17 classes from the multi-release JAR placed
+ * first, so both versions of ArraySupport have to pass the same checks.
+ */
+public class ArraySupportTest {
+	@Test
+	public void testRangeEquals() {
+		int[] a = new int[40], b = new int[50];
+		for (int i = 0; i < a.length; i++) {
+			a[i] = i * 7;
+		}
+		for (int i = 0; i < b.length; i++) {
+			b[i] = (i - 5) * 7;
+		}
+		assertTrue(ArraySupport.rangeEquals(a, 0, b, 5, 40));
+		assertTrue(ArraySupport.rangeEquals(a, 3, b, 8, 30));
+		assertTrue(ArraySupport.rangeEquals(a, 40, b, 0, 0));
+		assertFalse(ArraySupport.rangeEquals(a, 0, b, 4, 10));
+		// A difference at any position must be found, not just in the first or last few items.
+		for (int i = 0; i < a.length; i++) {
+			a[i]++;
+			assertFalse(ArraySupport.rangeEquals(a, 0, b, 5, 40));
+			assertTrue(ArraySupport.rangeEquals(a, 0, b, 5, i));
+			assertFalse(ArraySupport.rangeEquals(a, i, b, i + 5, 1));
+			a[i]--;
+		}
+
+		long[] la = {1L, 2L, 3L, Long.MIN_VALUE}, lb = {0L, 1L, 2L, 3L, Long.MIN_VALUE};
+		assertTrue(ArraySupport.rangeEquals(la, 0, lb, 1, 4));
+		assertFalse(ArraySupport.rangeEquals(la, 0, lb, 0, 4));
+		short[] sa = {1, 2, 3}, sb = {1, 2, 4};
+		assertTrue(ArraySupport.rangeEquals(sa, 0, sb, 0, 2));
+		assertFalse(ArraySupport.rangeEquals(sa, 0, sb, 0, 3));
+		byte[] ba = {-1, 0, 1}, bb = {0, 1};
+		assertTrue(ArraySupport.rangeEquals(ba, 1, bb, 0, 2));
+		assertFalse(ArraySupport.rangeEquals(ba, 0, bb, 0, 2));
+		char[] ca = "hello".toCharArray(), cb = "yellow".toCharArray();
+		assertTrue(ArraySupport.rangeEquals(ca, 1, cb, 1, 4));
+		assertFalse(ArraySupport.rangeEquals(ca, 0, cb, 0, 5));
+	}
+
+	@Test
+	public void testMulAdd() {
+		// 1 + 2^-23 squared needs more bits than a float has, so rounding once or twice gives different answers.
+		float x = 1f + 0x1p-23f, y = -1f - 0x1p-22f;
+		float[] a = {x, 2f, 3f}, b = {x, 4f, 0.5f}, c = {y, 1f, -1f};
+		ArraySupport.mulAdd(a, 0, b, 0, c, 0, 3);
+		float twice = x * x + y, once = Math.fma(x, x, y);
+		assertTrue(twice != once);
+		// The baseline rounds twice and the Java 17 version rounds once; either is correct here.
+		assertTrue(a[0] == twice || a[0] == once);
+		assertEquals(9f, a[1], 0f);
+		assertEquals(0.5f, a[2], 0f);
+
+		double[] d = {1.0, 2.0, 3.0}, e = {0.5, 0.25, 2.0};
+		ArraySupport.addScaled(d, 1, e, 0, 2, 4.0);
+		assertEquals(1.0, d[0], 0.0);
+		assertEquals(4.0, d[1], 0.0);
+		assertEquals(4.0, d[2], 0.0);
+
+		FloatDeque deque = new FloatDeque(4);
+		deque.addLast(0f, 0f, 1f, 2f);
+		deque.removeFirst();
+		deque.removeFirst();
+		deque.addLast(3f);
+		deque.mulAdd(FloatList.with(2f, 2f, 2f), FloatList.with(1f, 1f, 1f));
+		assertEquals(FloatList.with(3f, 5f, 7f), new FloatList(deque.iterator()));
+	}
+
+	@Test
+	public void testListEqualsWrappedDeque() {
+		// The deque's items wrap around the end of its backing array.
+		IntDeque deque = new IntDeque(8);
+		deque.addLast(-1, -1, -1, -1, -1, 0, 1, 2);
+		for (int i = 0; i < 5; i++) {
+			deque.removeFirst();
+		}
+		deque.addLast(3, 4, 5, 6);
+		IntList list = IntList.with(0, 1, 2, 3, 4, 5, 6);
+		int[] storage = deque.items;
+		int head = deque.head;
+		assertEquals(list, deque);
+		list.set(4, 40);
+		assertNotEquals(list, deque);
+		list.set(4, 4);
+		list.set(2, 20);
+		assertNotEquals(list, deque);
+		// Comparing must not rearrange the deque's storage.
+		assertSame(storage, deque.items);
+		assertEquals(head, deque.head);
+
+		LongDeque longs = new LongDeque(4);
+		longs.addLast(9L, 9L, 1L, 2L);
+		longs.removeFirst();
+		longs.removeFirst();
+		longs.addLast(3L);
+		assertEquals(LongList.with(1L, 2L, 3L), longs);
+		assertNotEquals(LongList.with(1L, 2L, 4L), longs);
+
+		CharDeque chars = new CharDeque(4);
+		chars.addLast('x', 'x', 'a', 'b');
+		chars.removeFirst();
+		chars.removeFirst();
+		chars.addLast('c');
+		assertEquals(CharList.with('a', 'b', 'c'), chars);
+		assertNotEquals(CharList.with('a', 'b', 'd'), chars);
+	}
+}
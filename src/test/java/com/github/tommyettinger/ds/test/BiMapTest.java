@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.CollisionPolicy;
+import com.github.tommyettinger.ds.IntIntBiMap;
+import com.github.tommyettinger.ds.IntIntMap;
+import com.github.tommyettinger.ds.IntObjectMap;
+import com.github.tommyettinger.ds.ObjectIntBiMap;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BiMapTest {
+	private static void checkConsistent(IntIntBiMap map) {
+		IntIntBiMap inv = map.inverse();
+		assertEquals(map.size(), inv.size());
+		for (IntIntMap.Entry e : map) {
+			assertTrue(inv.containsKey(e.value));
+			assertEquals(e.key, inv.get(e.value));
+		}
+	}
+
+	@Test
+	public void testIntIntPolicies() {
+		IntIntBiMap map = new IntIntBiMap();
+		map.put(1, 10);
+		map.put(2, 20);
+		try {
+			map.put(3, 10);
+			fail("THROW policy should reject a duplicate value");
+		} catch (IllegalArgumentException expected) {
+		}
+		assertFalse(map.containsKey(3));
+		map.setPolicy(CollisionPolicy.IGNORE);
+		map.put(3, 10);
+		assertFalse(map.containsKey(3));
+		assertEquals(1, map.getKey(10));
+		map.setPolicy(CollisionPolicy.REPLACE);
+		map.put(3, 10);
+		assertFalse(map.containsKey(1));
+		assertEquals(3, map.getKey(10));
+		assertEquals(20, map.forcePut(2, 30));
+		assertFalse(map.containsValue(20));
+		assertEquals(2, map.getKey(30));
+		assertEquals(CollisionPolicy.REPLACE, map.inverse().getPolicy());
+		checkConsistent(map);
+	}
+
+	@Test
+	public void testIntIntInverseAndRandom() {
+		Random random = new Random(29L);
+		IntIntBiMap map = new IntIntBiMap();
+		map.setPolicy(CollisionPolicy.REPLACE);
+		IntIntBiMap inv = map.inverse();
+		assertSame(map, inv.inverse());
+		for (int i = 0; i < 20000; i++) {
+			int a = random.nextInt(500), b = random.nextInt(500);
+			switch (random.nextInt(5)) {
+				case 0:
+					map.remove(a);
+					break;
+				case 1:
+					inv.remove(b);
+					break;
+				case 2:
+					inv.put(b, a);
+					break;
+				default:
+					map.put(a, b);
+			}
+		}
+		checkConsistent(map);
+		checkConsistent(inv);
+		int removed = 0, before = map.size();
+		for (Iterator<IntIntMap.Entry> it = map.iterator(); it.hasNext(); ) {
+			if ((it.next().key & 1) == 0) {
+				it.remove();
+				removed++;
+			}
+		}
+		assertEquals(before - removed, inv.size());
+		checkConsistent(map);
+		map.inverse().keySet().remove(map.get(map.keySet().iterator().nextInt()));
+		checkConsistent(map);
+		IntIntBiMap copy = new IntIntBiMap(map);
+		assertEquals(map, copy);
+		assertEquals(map.hashCode(), copy.hashCode());
+		map.setDefaultKey(-1);
+		assertEquals(-1, map.getKey(-12345));
+		assertEquals(-1, inv.get(-12345));
+	}
+
+	@Test
+	public void testObjectIntBiMap() {
+		ObjectIntBiMap<String> ids = new ObjectIntBiMap<>();
+		String[] names = {"alpha", "beta", "gamma", "delta"};
+		for (String name : names) {
+			ids.putIfAbsent(name, ids.size());
+		}
+		assertEquals(2, ids.putIfAbsent("gamma", 99));
+		assertEquals(4, ids.size());
+		for (int i = 0; i < names.length; i++) {
+			assertEquals(i, ids.get(names[i]));
+			assertEquals(names[i], ids.getKey(i));
+			assertEquals(names[i], ids.inverse().get(i));
+		}
+		try {
+			ids.put("epsilon", 0);
+			fail("THROW policy should reject a duplicate value");
+		} catch (IllegalArgumentException expected) {
+		}
+		try {
+			ids.inverse().put(7, "alpha");
+			fail("THROW policy should reject a duplicate key through the inverse");
+		} catch (IllegalArgumentException expected) {
+		}
+		ids.setPolicy(CollisionPolicy.REPLACE);
+		assertNull(ids.inverse().put(7, "alpha"));
+		assertFalse(ids.containsValue(0));
+		assertEquals(7, ids.get("alpha"));
+		assertEquals("beta", ids.removeValue(1));
+		assertFalse(ids.containsKey("beta"));
+		assertEquals(3, ids.inverse().size());
+		for (Iterator<IntObjectMap.Entry<String>> it = ids.inverse().iterator(); it.hasNext(); ) {
+			if (it.next().key == 7) it.remove();
+		}
+		assertFalse(ids.containsKey("alpha"));
+		ObjectIntBiMap<String> copy = new ObjectIntBiMap<>(ids);
+		assertEquals(ids, copy);
+		copy.remove("gamma");
+		assertNull(copy.getKey(2));
+		assertNotEquals(ids, copy);
+		assertSame(ids, ids.inverse().inverse());
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.CharChunkList;
+import com.github.tommyettinger.ds.IntChunkList;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.ObjectChunkList;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ChunkListTest {
+	@Test
+	public void testIntChunkListMatchesIntList() {
+		Random random = new Random(40L);
+		IntChunkList chunked = new IntChunkList(8);
+		IntList plain = new IntList();
+		for (int step = 0; step < 20000; step++) {
+			int op = random.nextInt(10), n = plain.size();
+			if (op < 4 || n == 0) {
+				int index = random.nextInt(n + 1), value = random.nextInt(1000);
+				chunked.insert(index, value);
+				plain.insert(index, value);
+			} else if (op < 6) {
+				int value = random.nextInt(1000);
+				chunked.add(value);
+				plain.add(value);
+			} else if (op < 8) {
+				int index = random.nextInt(n);
+				assertEquals(plain.removeAt(index), chunked.removeAt(index));
+			} else if (op < 9) {
+				int start = random.nextInt(n), end = Math.min(n, start + random.nextInt(30));
+				chunked.removeRange(start, end);
+				plain.removeRange(start, end);
+			} else {
+				int index = random.nextInt(n);
+				assertEquals(plain.get(index), chunked.get(index));
+				chunked.set(index, -index);
+				plain.set(index, -index);
+			}
+			assertEquals(plain.size(), chunked.size());
+		}
+		assertArrayEquals(plain.toArray(), chunked.toArray());
+		assertEquals(plain.hashCode(), chunked.hashCode());
+		IntIterator it = chunked.iterator();
+		for (int i = 0; i < plain.size(); i++) {
+			assertEquals(plain.get(i), it.nextInt());
+		}
+		assertFalse(it.hasNext());
+		chunked.reverse();
+		plain.reverse();
+		assertEquals(plain, chunked.toIntList());
+		assertEquals(new IntChunkList(plain), chunked);
+		chunked.removeRange(0, chunked.size());
+		assertTrue(chunked.isEmpty());
+		chunked.add(5);
+		assertEquals(5, chunked.get(0));
+	}
+
+	@Test
+	public void testCharChunkListEditing() {
+		CharChunkList text = new CharChunkList(8);
+		text.append("Hello world");
+		text.insert(5, ", big");
+		assertEquals("Hello, big world", text.toDenseString());
+		text.removeRange(5, 10);
+		assertEquals("Hello world", text.toDenseString());
+		assertEquals('w', text.charAt(6));
+		assertEquals("o w", text.subSequence(4, 7).toDenseString());
+		assertTrue(text.remove('H'));
+		assertEquals(10, text.length());
+	}
+
+	@Test
+	public void testObjectChunkList() {
+		ObjectChunkList<String> list = new ObjectChunkList<>(8);
+		ArrayList<String> plain = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String s = "s" + i;
+			list.add(i / 2, s);
+			plain.add(i / 2, s);
+		}
+		assertEquals(plain, list);
+		assertEquals(list, plain);
+		assertEquals(plain.hashCode(), list.hashCode());
+		assertEquals(plain.remove(37), list.remove(37));
+		assertEquals(plain.indexOf("s50"), list.indexOf("s50"));
+		Iterator<String> it = list.iterator();
+		while (it.hasNext()) {
+			if (it.next().endsWith("3")) it.remove();
+		}
+		plain.removeIf(s -> s.endsWith("3"));
+		assertEquals(plain, list);
+		list.swap(0, 1);
+		assertEquals(plain.get(0), list.get(1));
+		list.clear();
+		assertEquals(0, list.size());
+		assertEquals("[]", list.toString());
+	}
+}
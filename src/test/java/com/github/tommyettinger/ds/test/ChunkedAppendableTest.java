@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongLongMap;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.support.util.ChunkedAppendable;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ChunkedAppendableTest {
+	@Test
+	public void testMapToOutputStream() throws IOException {
+		Random random = new Random(35L);
+		LongLongMap map = new LongLongMap();
+		for (int i = 0; i < 5000; i++) {
+			map.put(random.nextLong(), random.nextLong());
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ChunkedAppendable sink = ChunkedAppendable.of(bytes, 100);
+		map.appendTo(sink, ", ", true).close();
+		String expected = map.toString();
+		assertEquals(expected, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+		assertEquals(expected.length(), sink.length());
+	}
+
+	@Test
+	public void testWriterAndUnicode() throws IOException {
+		ObjectList<String> words = ObjectList.with("café", "日本", "😀smile", "x");
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			expected.append(words.toString());
+		}
+		StringWriter writer = new StringWriter();
+		ChunkedAppendable sink = ChunkedAppendable.of(writer, 17);
+		for (int i = 0; i < 50; i++) {
+			words.appendTo(sink, ", ", true);
+		}
+		sink.flush();
+		assertEquals(expected.toString(), writer.toString());
+
+		ByteBuffer buffer = ByteBuffer.allocate(expected.length() * 4);
+		ChunkedAppendable bytes = ChunkedAppendable.of(buffer, 16);
+		for (int i = 0; i < 50; i++) {
+			words.appendTo(bytes, ", ", true);
+		}
+		bytes.flush();
+		byte[] encoded = expected.toString().getBytes(StandardCharsets.UTF_8);
+		assertEquals(encoded.length, buffer.position());
+		byte[] actual = new byte[buffer.position()];
+		buffer.flip();
+		buffer.get(actual);
+		assertArrayEquals(encoded, actual);
+	}
+
+	@Test
+	public void testReadingTheCurrentChunk() throws IOException {
+		StringWriter writer = new StringWriter();
+		ChunkedAppendable sink = ChunkedAppendable.of(writer, 16);
+		IntList.with(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).appendTo(sink, ",", false);
+		assertEquals(20, sink.length());
+		assertEquals('0', sink.charAt(19));
+		assertEquals("9,10", sink.subSequence(16, 20).toString());
+		try {
+			sink.charAt(0);
+			fail("chars that were passed on can't be read");
+		} catch (IndexOutOfBoundsException expected) {
+		}
+		sink.close();
+		assertEquals("1,2,3,4,5,6,7,8,9,10", writer.toString());
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.support.util.Appender;
+import com.github.tommyettinger.ds.support.util.CharAppender;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DirectIndexedMapTest {
+	@Test
+	public void testCharIntMap() {
+		CharIntMap map = new CharIntMap();
+		IntIntMap check = new IntIntMap();
+		for (int i = 0; i < 5000; i++) {
+			char k = (char) (i * 0x9E37 + (i >>> 3));
+			map.put(k, i);
+			check.put(k, i);
+		}
+		assertEquals(check.size(), map.size());
+		for (IntIntMap.Entry e : check) {
+			assertTrue(map.containsKey((char) e.key));
+			assertEquals(e.value, map.get((char) e.key));
+		}
+		int prev = -1;
+		for (CharIntMap.Entry e : map) {
+			assertTrue(e.key > prev);
+			prev = e.key;
+		}
+		CharIntMap copy = new CharIntMap(map);
+		assertEquals(map, copy);
+		assertEquals(map.hashCode(), copy.hashCode());
+		for (int i = 0; i < 5000; i += 2) {
+			char k = (char) (i * 0x9E37 + (i >>> 3));
+			map.remove(k);
+			check.remove(k);
+		}
+		assertEquals(check.size(), map.size());
+		assertNotEquals(map, copy);
+		map.shrink();
+		for (IntIntMap.Entry e : check) {
+			assertEquals(e.value, map.get((char) e.key));
+		}
+		map.defaultValue = -1;
+		assertEquals(-1, map.get('￿'));
+		assertEquals(map.size(), map.keySet().size());
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals("{}", map.toString());
+	}
+
+	@Test
+	public void testCharObjectMap() {
+		CharObjectMap<String> map = CharObjectMap.with('b', "bee", 'a', "ay", '☃', "snowman");
+		assertEquals(3, map.size());
+		assertEquals("{a=ay, b=bee, ☃=snowman}", map.toString(", ", "=", true, CharAppender.DEFAULT, Appender::append));
+		assertEquals("bee", map.remove('b'));
+		assertNull(map.get('b'));
+		map.put('z', null);
+		assertTrue(map.containsKey('z'));
+		assertTrue(map.containsValue(null));
+		assertEquals('z', map.findKey(null, '?'));
+		assertEquals("AY", map.computeIfAbsent('A', c -> "AY"));
+		CharList keys = map.keySet().iterator().toList();
+		assertEquals(CharList.with('A', 'a', 'z', '☃'), keys);
+	}
+
+	@Test
+	public void testShortObjectMap() {
+		ShortObjectMap<String> map = new ShortObjectMap<>();
+		for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i += 777) {
+			map.put((short) i, String.valueOf(i));
+		}
+		int prev = Integer.MIN_VALUE;
+		for (ShortObjectMap.Entry<String> e : map) {
+			assertTrue(e.key > prev);
+			assertEquals(String.valueOf(e.key), e.value);
+			prev = e.key;
+		}
+		assertEquals(String.valueOf(Short.MIN_VALUE), map.get(Short.MIN_VALUE));
+		assertTrue(map.keySet().contains((short) -32768));
+		assertFalse(map.keySet().contains((short) -1));
+		ShortObjectMap<String> copy = new ShortObjectMap<>(map);
+		assertEquals(map, copy);
+		copy.remove(Short.MIN_VALUE);
+		assertNotEquals(map, copy);
+	}
+
+	@Test
+	public void testByteObjectMap() {
+		ByteObjectMap<Integer> map = new ByteObjectMap<>();
+		for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
+			map.put((byte) i, i * i);
+		}
+		assertEquals(256, map.size());
+		assertEquals(Integer.valueOf(16384), map.get(Byte.MIN_VALUE));
+		assertEquals(Integer.valueOf(0), map.get((byte) 0));
+		map.remove((byte) 0);
+		assertNull(map.get((byte) 0));
+		assertEquals(255, map.size());
+		int prev = Integer.MIN_VALUE;
+		for (ByteObjectMap.Entry<Integer> e : map) {
+			assertTrue(e.key > prev);
+			prev = e.key;
+		}
+		map.replaceAll((k, v) -> -v);
+		assertEquals(Integer.valueOf(-1), map.get((byte) -1));
+		map.clear();
+		assertTrue(map.isEmpty());
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.DoubleList;
+import com.github.tommyettinger.ds.FloatDeque;
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongList;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ElementwiseListTest {
+	@Test
+	public void testIntList() {
+		IntList a = IntList.with(1, 2, 3, 4, 5);
+		IntList b = IntList.with(10, 20, 30);
+		assertEquals(IntList.with(11, 22, 33, 4, 5), a.plus(b));
+		assertEquals(IntList.with(1, 2, 3, 4, 5), a.minus(b));
+		assertEquals(IntList.with(10, 40, 90, 4, 5), a.times(b));
+		assertEquals(IntList.with(1, 2, 3, 4, 5), a.div(b));
+		assertEquals(IntList.with(1, 2, 3, 60, 120), a.times(3, b, 1, 2).minus(3, b, 1, 2).rem(0, b, 0, 0));
+		assertEquals(1 * 10 + 2 * 20 + 3 * 30, a.dot(b));
+		assertEquals(3L * Integer.MAX_VALUE * Integer.MAX_VALUE,
+			IntList.with(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE).dot(IntList.with(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE)) + 0L);
+		assertEquals(IntList.with(11, 22, 33, 60, 120), a.mulAdd(IntList.with(1, 1, 1), b));
+		assertEquals(IntList.with(11, 22, 33, 100, 180), a.addScaled(3, b, 1, 2, 2));
+		try {
+			a.plus(4, b, 0, 2);
+			fail("range past the end should throw");
+		} catch (IndexOutOfBoundsException expected) {
+		}
+	}
+
+	@Test
+	public void testFloatSimulationStep() {
+		FloatList position = FloatList.with(0f, 1f, 2f, 3f);
+		FloatList velocity = FloatList.with(1f, -1f, 0.5f, 0f);
+		for (int i = 0; i < 4; i++) {
+			position.addScaled(velocity, 0.25f);
+		}
+		assertEquals(FloatList.with(1f, 0f, 2.5f, 3f), position);
+		assertEquals(1f * 1f + 0f * -1f + 2.5f * 0.5f, position.dot(velocity), 0f);
+		assertEquals(position.dot(1, velocity, 1, 2), 1.25f, 0f);
+		// the deque wraps around its backing array here
+		FloatDeque deque = new FloatDeque(4);
+		deque.addLast(9f, 9f, 1f, 2f);
+		deque.removeFirst();
+		deque.removeFirst();
+		deque.addLast(3f);
+		deque.addLast(4f);
+		deque.plus(FloatList.with(10f, 20f, 30f, 40f));
+		assertEquals(11f, deque.get(0), 0f);
+		assertEquals(44f, deque.get(3), 0f);
+		assertEquals(11f * 11f + 22f * 22f + 33f * 33f + 44f * 44f, deque.dot(deque), 0f);
+	}
+
+	@Test
+	public void testLongAndDouble() {
+		LongList longs = LongList.with(1L << 40, 2L, 3L);
+		longs.times(LongList.with(2L, 2L, 2L)).plus(LongList.with(1L, 1L, 1L));
+		assertEquals(LongList.with((1L << 41) + 1L, 5L, 7L), longs);
+		DoubleList doubles = DoubleList.with(1.0, 2.0, 3.0);
+		doubles.mulAdd(DoubleList.with(0.5, 0.5, 0.5), DoubleList.with(1.0, 1.0, 1.0));
+		assertEquals(DoubleList.with(1.5, 2.0, 2.5), doubles);
+		assertEquals(1.5 * 1.5 + 2.0 * 2.0 + 2.5 * 2.5, doubles.dot(doubles), 0.0);
+		assertEquals(DoubleList.with(3.0, 4.0, 5.0), doubles.plus(doubles));
+	}
+
+	@Test
+	public void testOverlappingRangesOfTheSameList() {
+		// each item read must be the one from before this call, even if an earlier step already changed it
+		IntList ints = IntList.with(1, 1, 1, 1, 1);
+		assertEquals(IntList.with(1, 2, 2, 2, 2), ints.plus(1, ints, 0, 4));
+		ints = IntList.with(1, 2, 3, 4, 5);
+		assertEquals(IntList.with(1, 2, 6, 12, 20), ints.times(2, ints, 1, 3));
+		ints = IntList.with(2, 3, 4, 5);
+		assertEquals(IntList.with(2, 11, 19, 29), ints.mulAdd(1, ints, 1, ints, 0, 3));
+		// reading ahead of the range being changed was already fine, and stays the same
+		assertEquals(IntList.with(13, 30, 48, 29), ints.addScaled(0, ints, 1, 3, 1));
+		// a deque that wraps around its backing array
+		IntDeque deque = new IntDeque(4);
+		deque.addLast(0, 0, 1, 2);
+		deque.removeFirst();
+		deque.removeFirst();
+		deque.addLast(3, 4);
+		deque.minus(1, deque, 0, 3);
+		assertEquals(IntList.with(1, 1, 1, 1), new IntList(deque.iterator()));
+		LongList longs = LongList.with(1L, 1L, 1L);
+		assertEquals(LongList.with(1L, 2L, 2L), longs.plus(1, longs, 0, 2));
+		FloatList floats = FloatList.with(1f, 2f, 3f);
+		assertEquals(FloatList.with(1f, 4f, 7f), floats.addScaled(1, floats, 0, 2, 2f));
+		DoubleList doubles = DoubleList.with(1.0, 2.0, 4.0);
+		assertEquals(DoubleList.with(1.0, 2.0, 2.0), doubles.div(1, doubles, 0, 2));
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntBloomFilter;
+import com.github.tommyettinger.ds.LongBloomFilter;
+import com.github.tommyettinger.ds.LongCuckooFilter;
+import com.github.tommyettinger.ds.ObjectBloomFilter;
+import com.github.tommyettinger.ds.ObjectCuckooFilter;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FilterTest {
+	@Test
+	public void testBloomFalsePositiveRate() {
+		Random random = new Random(44L);
+		LongBloomFilter filter = new LongBloomFilter(100000, 0.01, 123);
+		long[] added = new long[100000];
+		for (int i = 0; i < added.length; i++) {
+			added[i] = random.nextLong();
+			filter.add(added[i]);
+		}
+		boolean[] results = new boolean[added.length];
+		assertEquals(added.length, filter.mightContainAll(added, results));
+		int falsePositives = 0;
+		for (int i = 0; i < 100000; i++) {
+			if (filter.mightContain(random.nextLong())) falsePositives++;
+		}
+		assertTrue("too many false positives: " + falsePositives, falsePositives < 1300);
+		assertEquals(100000.0, filter.approximateSize(), 2000.0);
+
+		LongBloomFilter restored = new LongBloomFilter(filter.toLongArray());
+		assertEquals(filter, restored);
+		for (long item : added) {
+			assertTrue(restored.mightContain(item));
+		}
+	}
+
+	@Test
+	public void testBloomUnion() {
+		IntBloomFilter evens = new IntBloomFilter(1000, 0.001), odds = new IntBloomFilter(1000, 0.001);
+		for (int i = 0; i < 2000; i += 2) {
+			assertTrue(evens.add(i));
+			odds.add(i + 1);
+		}
+		int[] items = new int[2000];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = i;
+		}
+		boolean[] results = new boolean[items.length];
+		assertTrue(evens.mightContainAll(items, results) < 1010);
+		evens.union(odds);
+		assertEquals(2000, evens.mightContainAll(items, results));
+		try {
+			evens.union(new IntBloomFilter(1000, 0.001, 1));
+			fail("filters with different seeds should not be combined");
+		} catch (IllegalArgumentException expected) {
+		}
+
+		ObjectBloomFilter<String> words = new ObjectBloomFilter<>(10, 0.01);
+		words.addAll(new String[]{"alpha", "beta", "gamma"});
+		assertTrue(words.mightContain("beta"));
+		assertFalse(words.add("alpha"));
+		assertTrue(words.currentFalsePositiveRate() < 0.01);
+		words.clear();
+		assertTrue(words.isEmpty());
+	}
+
+	@Test
+	public void testCuckoo() {
+		Random random = new Random(45L);
+		LongCuckooFilter filter = new LongCuckooFilter(50000);
+		long[] added = new long[50000];
+		for (int i = 0; i < added.length; i++) {
+			added[i] = random.nextLong();
+			assertTrue(filter.add(added[i]));
+		}
+		assertEquals(added.length, filter.size());
+		assertFalse(filter.isFull());
+		int falsePositives = 0;
+		for (int i = 0; i < 100000; i++) {
+			if (filter.mightContain(random.nextLong())) falsePositives++;
+		}
+		assertTrue("too many false positives: " + falsePositives, falsePositives < 50);
+		LongCuckooFilter restored = new LongCuckooFilter(filter.toLongArray());
+		assertEquals(filter, restored);
+		for (int i = 0; i < added.length; i += 2) {
+			assertTrue(restored.remove(added[i]));
+		}
+		for (int i = 0; i < added.length; i++) {
+			if ((i & 1) == 1) assertTrue(restored.mightContain(added[i]));
+		}
+		assertEquals(added.length / 2, restored.size());
+
+		// fill past capacity; nothing that was successfully added may be lost
+		ObjectCuckooFilter<Integer> small = new ObjectCuckooFilter<>(100);
+		int count = 0;
+		while (small.add(count)) {
+			count++;
+		}
+		assertTrue(small.isFull());
+		assertTrue(count >= 100);
+		for (int i = 0; i < count; i++) {
+			assertTrue(small.mightContain(i));
+		}
+		assertTrue(small.remove(0));
+		assertFalse(small.isFull());
+		for (int i = 1; i < count; i++) {
+			assertTrue(small.mightContain(i));
+		}
+	}
+}
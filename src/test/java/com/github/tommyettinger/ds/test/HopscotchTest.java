@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.*;
+import com.github.tommyettinger.ds.ObjectSet;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HopscotchTest {
+	static class ClumpedKey {
+		final int id;
+		final int hash;
+
+		ClumpedKey(int id, int hash) {
+			this.id = id;
+			this.hash = hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ClumpedKey && ((ClumpedKey) o).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	@Test
+	public void testHopscotchObjectSet() {
+		Random random = new Random(50L);
+		for (int round = 0; round < 100; round++) {
+			HopscotchObjectSet<String> set = new HopscotchObjectSet<>(random.nextInt(20), 0.5f + random.nextFloat() * 0.5f);
+			HashSet<String> plain = new HashSet<>();
+			int range = 2 + random.nextInt(round % 10 == 0 ? 2000 : 100);
+			for (int i = 0; i < 2000; i++) {
+				String key = "k" + random.nextInt(range);
+				int op = random.nextInt(10);
+				if (op < 6) {
+					assertEquals(plain.add(key), set.add(key));
+				} else if (op < 9) {
+					assertEquals(plain.remove(key), set.remove(key));
+				} else {
+					Iterator<String> it = set.iterator();
+					for (int skip = random.nextInt(4); it.hasNext(); skip--) {
+						String k = it.next();
+						if (skip == 0) {
+							it.remove();
+							plain.remove(k);
+							break;
+						}
+					}
+				}
+				assertEquals(plain.size(), set.size());
+			}
+			for (int i = 0; i < range; i++) {
+				assertEquals(plain.contains("k" + i), set.contains("k" + i));
+			}
+			HashSet<String> seen = new HashSet<>();
+			for (String k : set) {
+				assertTrue(seen.add(k));
+			}
+			assertEquals(plain, seen);
+			set.truncate(set.size() >>> 1);
+			assertEquals(plain.size() >>> 1, set.size());
+			for (String k : set) {
+				assertTrue(set.contains(k));
+			}
+		}
+	}
+
+	@Test
+	public void testHopscotchObjectObjectMap() {
+		Random random = new Random(-50L);
+		for (int round = 0; round < 100; round++) {
+			HopscotchObjectObjectMap<String, Integer> map = new HopscotchObjectObjectMap<>(random.nextInt(20));
+			HashMap<String, Integer> plain = new HashMap<>();
+			int range = 2 + random.nextInt(round % 10 == 0 ? 2000 : 100);
+			for (int i = 0; i < 2000; i++) {
+				String key = "k" + random.nextInt(range);
+				int op = random.nextInt(10);
+				if (op < 6) {
+					assertEquals(plain.put(key, i), map.put(key, i));
+				} else if (op < 9) {
+					assertEquals(plain.remove(key), map.remove(key));
+				} else {
+					Iterator<Map.Entry<String, Integer>> it = map.iterator();
+					for (int skip = random.nextInt(4); it.hasNext(); skip--) {
+						Map.Entry<String, Integer> e = it.next();
+						if (skip == 0) {
+							plain.remove(e.getKey());
+							it.remove();
+							break;
+						}
+					}
+				}
+				assertEquals(plain.size(), map.size());
+			}
+			for (int i = 0; i < range; i++) {
+				assertEquals(plain.get("k" + i), map.get("k" + i));
+				assertEquals(plain.containsKey("k" + i), map.containsKey("k" + i));
+			}
+			HashMap<String, Integer> seen = new HashMap<>();
+			for (Map.Entry<String, Integer> e : map) {
+				assertNull(seen.put(e.getKey(), e.getValue()));
+			}
+			assertEquals(plain, seen);
+		}
+	}
+
+	@Test
+	public void testCollidingHashCodes() {
+		HopscotchObjectObjectMap<ClumpedKey, Integer> map = new HopscotchObjectObjectMap<>();
+		HopscotchObjectSet<ClumpedKey> set = new HopscotchObjectSet<>();
+		// Every key has the same hashCode(), so at most 32 can share a neighborhood.
+		for (int i = 0; i < 1000; i++) {
+			map.put(new ClumpedKey(i, 0), i);
+			set.add(new ClumpedKey(i, 0));
+		}
+		assertEquals(1000, map.size());
+		assertEquals(1000, set.size());
+		assertTrue(map.getTableSize() <= 8192);
+		assertTrue(set.getTableSize() <= 8192);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, (int) map.get(new ClumpedKey(i, 0)));
+			assertTrue(set.contains(new ClumpedKey(i, 0)));
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			assertEquals(i, (int) map.remove(new ClumpedKey(i, 0)));
+			assertTrue(set.remove(new ClumpedKey(i, 0)));
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertEquals((i & 1) == 0 ? null : i, map.get(new ClumpedKey(i, 0)));
+			assertEquals((i & 1) != 0, set.contains(new ClumpedKey(i, 0)));
+		}
+		// Many small groups of colliding keys force entries to be moved closer to their homes.
+		HopscotchObjectSet<ClumpedKey> groups = new HopscotchObjectSet<>(16, 0.9f);
+		for (int i = 0; i < 5000; i++) {
+			groups.add(new ClumpedKey(i, i / 40));
+		}
+		assertEquals(5000, groups.size());
+		for (int i = 0; i < 5000; i++) {
+			assertTrue(groups.contains(new ClumpedKey(i, i / 40)));
+		}
+		assertFalse(groups.contains(new ClumpedKey(5000, 0)));
+	}
+
+	@Test
+	public void testCopies() {
+		ObjectObjectMap<String, Integer> plain = new ObjectObjectMap<>();
+		for (int i = 0; i < 300; i++) {
+			plain.put("k" + i, i);
+		}
+		HopscotchObjectObjectMap<String, Integer> hop = new HopscotchObjectObjectMap<>(plain);
+		assertEquals(plain, hop);
+		for (int i = 0; i < 300; i += 3) {
+			hop.remove("k" + i);
+		}
+		ObjectObjectMap<String, Integer> back = new ObjectObjectMap<>(hop);
+		ObjectObjectMap<String, Integer> into = new ObjectObjectMap<>();
+		into.putAll(hop);
+		assertEquals(hop, back);
+		assertEquals(hop, into);
+		for (int i = 0; i < 300; i++) {
+			assertEquals(i % 3 == 0 ? null : i, back.get("k" + i));
+			assertEquals(i % 3 == 0 ? null : i, into.get("k" + i));
+		}
+
+		ObjectSet<String> plainSet = ObjectSet.with("a", "b", "c", "d", "e", "f", "g", "h", "i");
+		HopscotchObjectSet<String> hopSet = new HopscotchObjectSet<>(plainSet);
+		assertEquals(plainSet, hopSet);
+		hopSet.remove("a");
+		HopscotchObjectSet<String> again = new HopscotchObjectSet<>();
+		again.addAll(plainSet);
+		assertTrue(again.contains("a"));
+		ObjectSet<String> backSet = new ObjectSet<>(hopSet);
+		ObjectSet<String> intoSet = new ObjectSet<>();
+		intoSet.addAll(hopSet);
+		assertEquals(hopSet, backSet);
+		assertEquals(hopSet, intoSet);
+		assertFalse(backSet.contains("a"));
+		assertTrue(backSet.contains("i"));
+		// Subclasses whose resize() needs their own fields must still copy a table that has to be rehashed.
+		StampedObjectSet<String> stampedSet = new StampedObjectSet<>(hopSet);
+		assertEquals(hopSet, stampedSet);
+		stampedSet.add("a");
+		assertTrue(stampedSet.contains("a"));
+		StampedObjectObjectMap<String, Integer> stamped = new StampedObjectObjectMap<>(hop);
+		assertEquals(hop, stamped);
+		stamped.put("k0", 0);
+		assertEquals(0, (int) stamped.get("k0"));
+		assertEquals(3, HopscotchObjectSet.with("x", "y", "z").size());
+		assertEquals(2, (int) HopscotchObjectObjectMap.with("x", 1, "y", 2).get("y"));
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.ByteList;
+import com.github.tommyettinger.ds.CharDeque;
+import com.github.tommyettinger.ds.CharList;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.ShortList;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the equality paths that have a Java 17 override in the multi-release JAR; this should pass with either one.
+ */
+public class ListEqualityTest {
+	@Test
+	public void testPrimitiveLists() {
+		IntList a = new IntList(), b = new IntList();
+		for (int i = 0; i < 100; i++) {
+			a.add(i * 31);
+			b.add(i * 31);
+		}
+		assertEquals(a, b);
+		b.set(99, -1);
+		assertNotEquals(a, b);
+		b.set(99, 99 * 31);
+		b.add(0);
+		assertNotEquals(a, b);
+		assertEquals(LongList.with(1L, 2L, Long.MIN_VALUE), LongList.with(1L, 2L, Long.MIN_VALUE));
+		assertNotEquals(LongList.with(1L, 2L, 3L), LongList.with(1L, 2L, 4L));
+		assertEquals(ShortList.with((short) 7, (short) -7), ShortList.with((short) 7, (short) -7));
+		assertNotEquals(ByteList.with((byte) 1, (byte) 2), ByteList.with((byte) 2, (byte) 1));
+	}
+
+	@Test
+	public void testWrappedDeques() {
+		IntDeque deque = new IntDeque(4);
+		deque.addLast(9, 9, 1, 2);
+		deque.removeFirst();
+		deque.removeFirst();
+		deque.addLast(3);
+		deque.addLast(4);
+		// the deque wraps around its backing array here
+		assertEquals(IntList.with(1, 2, 3, 4), deque);
+		assertNotEquals(IntList.with(9, 9, 1, 2), deque);
+
+		CharDeque chars = new CharDeque(4);
+		chars.addLast('x');
+		chars.addLast('x');
+		chars.addLast('a');
+		chars.addLast('b');
+		chars.removeFirst();
+		chars.removeFirst();
+		chars.addLast('c');
+		assertTrue(CharList.with('a', 'b', 'c').equals(chars));
+		assertTrue(CharList.with('a', 'b', 'c').equals("abc"));
+		assertFalse(CharList.with('a', 'b', 'c').equals(CharList.with('a', 'b', 'd')));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntIntMultiMap;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectObjectListMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MultiMapTest {
+	@Test
+	public void testIntIntAgainstHashMap() {
+		Random random = new Random(2025L);
+		IntIntMultiMap map = new IntIntMultiMap();
+		HashMap<Integer, List<Integer>> check = new HashMap<>();
+		int total = 0;
+		for (int round = 0; round < 50000; round++) {
+			int key = random.nextInt(300) - 10;
+			int op = random.nextInt(10);
+			if (op == 0) {
+				List<Integer> old = check.remove(key);
+				int removed = old == null ? 0 : old.size();
+				assertEquals(removed, map.removeAll(key));
+				total -= removed;
+			} else if (op == 1) {
+				int value = random.nextInt(8);
+				List<Integer> list = check.get(key);
+				boolean had = list != null && list.remove((Integer) value);
+				if (list != null && list.isEmpty()) check.remove(key);
+				assertEquals(had, map.remove(key, value));
+				if (had) total--;
+			} else {
+				int value = random.nextInt(8);
+				check.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+				map.put(key, value);
+				total++;
+			}
+			if (round % 10000 == 9999) map.compact();
+		}
+		assertEquals(check.size(), map.size());
+		assertEquals(total, map.totalSize());
+		IntList buffer = new IntList();
+		for (Map.Entry<Integer, List<Integer>> e : check.entrySet()) {
+			map.get(e.getKey(), buffer);
+			assertEquals(e.getValue().size(), map.valueCount(e.getKey()));
+			assertEquals(e.getValue().size(), buffer.size());
+			for (int i = 0; i < buffer.size(); i++) {
+				assertEquals(e.getValue().get(i).intValue(), buffer.get(i));
+			}
+		}
+		IntIntMultiMap copy = new IntIntMultiMap(map);
+		assertEquals(map, copy);
+		assertEquals(map.hashCode(), copy.hashCode());
+		int[] visited = new int[1];
+		map.forEach((k, v) -> visited[0]++);
+		assertEquals(total, visited[0]);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.get(0, buffer).size());
+	}
+
+	@Test
+	public void testIntIntBasics() {
+		IntIntMultiMap map = new IntIntMultiMap(2, 2);
+		map.putAll(0, 3, 1, 3);
+		map.put(5, 7);
+		assertEquals(IntList.with(3, 1, 3), map.get(0));
+		assertTrue(map.contains(0, 1));
+		assertFalse(map.contains(5, 1));
+		assertEquals(3, map.getFirst(0, -1));
+		assertEquals(-1, map.getFirst(6, -1));
+		assertTrue(map.remove(0, 3));
+		assertEquals(IntList.with(1, 3), map.get(0));
+		assertEquals(1, map.removeAll(5));
+		assertEquals("{0=[1, 3]}", map.toString());
+		assertTrue(map.keySet().contains(0));
+		assertEquals(1, map.keySet().size());
+	}
+
+	@Test
+	public void testObjectObjectListMap() {
+		ObjectObjectListMap<String, String> map = new ObjectObjectListMap<>();
+		map.put("fruit", "apple");
+		map.put("vegetable", "carrot");
+		map.put("fruit", "banana");
+		map.put("fruit", null);
+		map.put("fruit", "apple");
+		assertEquals(2, map.size());
+		assertEquals(5, map.totalSize());
+		assertEquals(4, map.valueCount("fruit"));
+		ObjectList<String> buffer = new ObjectList<>();
+		assertEquals(ObjectList.with("apple", "banana", null, "apple"), map.get("fruit", buffer));
+		assertTrue(map.remove("fruit", null));
+		assertTrue(map.remove("fruit", "apple"));
+		assertEquals(ObjectList.with("banana", "apple"), map.get("fruit", buffer));
+		assertEquals(1, map.removeAll("vegetable"));
+		assertFalse(map.containsKey("vegetable"));
+		map.put("vegetable", "pea");
+		map.compact();
+		assertEquals(ObjectList.with("banana", "apple"), map.get("fruit", buffer));
+		assertEquals("pea", map.getFirst("vegetable", null));
+		ObjectObjectListMap<String, String> copy = new ObjectObjectListMap<>(map);
+		assertEquals(map, copy);
+		assertEquals(map.hashCode(), copy.hashCode());
+		copy.put("vegetable", "leek");
+		assertNotEquals(map, copy);
+		assertEquals(2, map.keySet().size());
+		try {
+			map.keySet().remove("fruit");
+			fail("Keys should be read-only");
+		} catch (UnsupportedOperationException expected) {
+		}
+		map.clear();
+		assertEquals("{}", map.toString());
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.BooleanList;
+import com.github.tommyettinger.ds.PackedBooleanDeque;
+import com.github.tommyettinger.ds.PackedBooleanList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PackedBooleanTest {
+	private static void assertMatches(BooleanList expected, PackedBooleanList actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals("at index " + i, expected.get(i), actual.get(i));
+		}
+	}
+
+	@Test
+	public void testAgainstBooleanList() {
+		Random random = new Random(34L);
+		BooleanList model = new BooleanList();
+		PackedBooleanList packed = new PackedBooleanList(0);
+		for (int i = 0; i < 20000; i++) {
+			int size = model.size();
+			switch (random.nextInt(8)) {
+				case 0: {
+					int index = random.nextInt(size + 1);
+					boolean v = random.nextBoolean();
+					model.insert(index, v);
+					packed.insert(index, v);
+					break;
+				}
+				case 1:
+					if (size > 0) {
+						int index = random.nextInt(size);
+						assertEquals(model.removeAt(index), packed.removeAt(index));
+					}
+					break;
+				case 2:
+					if (size > 0) {
+						int a = random.nextInt(size), b = random.nextInt(size);
+						model.removeRange(Math.min(a, b), Math.max(a, b));
+						packed.removeRange(Math.min(a, b), Math.max(a, b));
+					}
+					break;
+				case 3:
+					if (size > 0) {
+						int index = random.nextInt(size);
+						model.not(index);
+						packed.not(index);
+					}
+					break;
+				default: {
+					boolean v = random.nextInt(3) == 0;
+					model.add(v);
+					packed.add(v);
+				}
+			}
+		}
+		assertMatches(model, packed);
+		int trues = 0;
+		for (int i = 0; i < model.size(); i++) if (model.get(i)) trues++;
+		assertEquals(trues, packed.countTrue());
+		int seen = 0;
+		for (int i = packed.nextTrue(0); i != -1; i = packed.nextTrue(i + 1)) {
+			assertTrue(model.get(i));
+			seen++;
+		}
+		assertEquals(trues, seen);
+		assertEquals(model.indexOf(false), packed.nextFalse(0));
+		assertEquals(model.lastIndexOf(true), packed.previousTrue(packed.size()));
+		model.reverse();
+		packed.reverse();
+		assertMatches(model, packed);
+		assertEquals(new PackedBooleanList(model.toArray()), packed);
+		packed.sort();
+		assertEquals(trues, packed.countTrue(packed.size() - trues, packed.size()));
+		assertEquals(packed.size() - trues, packed.nextTrue(0));
+	}
+
+	@Test
+	public void testLogicalOperations() {
+		Random random = new Random(340L);
+		for (int trial = 0; trial < 200; trial++) {
+			int n = random.nextInt(300);
+			boolean[] a = new boolean[n], b = new boolean[n];
+			for (int i = 0; i < n; i++) {
+				a[i] = random.nextBoolean();
+				b[i] = random.nextBoolean();
+			}
+			int start = n == 0 ? 0 : random.nextInt(n), otherStart = n == 0 ? 0 : random.nextInt(n);
+			int count = n - Math.max(start, otherStart) == 0 ? 0 : random.nextInt(n - Math.max(start, otherStart));
+			PackedBooleanList pa = new PackedBooleanList(a), pb = new PackedBooleanList(b);
+			pa.and(start, pb, otherStart, count).xor(pb).not(start / 2, n - start / 2);
+			PackedBooleanList pc = new PackedBooleanList(a).or(pb).andNot(new PackedBooleanList(b));
+			for (int i = 0; i < n; i++) {
+				boolean e = a[i];
+				if (i >= start && i < start + count) e &= b[otherStart + i - start];
+				e ^= b[i];
+				if (i >= start / 2 && i < n - start / 2) e = !e;
+				assertEquals(e, pa.get(i));
+				assertEquals(a[i] && !b[i], pc.get(i));
+			}
+			int from = n == 0 ? 0 : random.nextInt(n), trues = 0;
+			for (int i = from; i < n; i++) if (pa.get(i)) trues++;
+			assertEquals(trues, pa.countTrue(from, n));
+		}
+		PackedBooleanList self = PackedBooleanList.with(true, false, false, true, false, false, false);
+		self.or(2, self, 0, 5);
+		assertEquals(PackedBooleanList.with(true, false, true, true, false, true, false), self);
+	}
+
+	@Test
+	public void testDeque() {
+		Random random = new Random(3400L);
+		BooleanList model = new BooleanList();
+		PackedBooleanDeque deque = new PackedBooleanDeque(0);
+		for (int i = 0; i < 30000; i++) {
+			boolean v = random.nextBoolean();
+			switch (random.nextInt(7)) {
+				case 0:
+				case 1:
+					model.insert(0, v);
+					deque.addFirst(v);
+					break;
+				case 2:
+				case 3:
+					model.add(v);
+					deque.addLast(v);
+					break;
+				case 4:
+					if (model.notEmpty()) assertEquals(model.removeAt(0), deque.removeFirst());
+					break;
+				case 5:
+					if (model.notEmpty()) assertEquals(model.pop(), deque.removeLast());
+					break;
+				default:
+					if (model.notEmpty() && random.nextInt(50) == 0) {
+						int trues = 0;
+						for (int j = 0; j < model.size(); j++) if (model.get(j)) trues++;
+						assertEquals(trues, deque.countTrue());
+					}
+			}
+		}
+		assertMatches(model, deque);
+		assertEquals(new PackedBooleanList(model.toArray()), deque);
+		assertEquals(new PackedBooleanList(model.toArray()).hashCode(), deque.hashCode());
+		deque.clear();
+		assertTrue(deque.isEmpty());
+		assertFalse(deque.pollFirst());
+		deque.addFirst(true);
+		deque.addLast(false);
+		assertEquals("[true, false]", deque.toString());
+	}
+
+	@Test
+	public void testReadsDoNotMoveDequeItems() {
+		Random random = new Random(34000L);
+		for (int round = 0; round < 40; round++) {
+			BooleanList model = new BooleanList();
+			PackedBooleanDeque deque = new PackedBooleanDeque(0);
+			for (int i = 0, n = random.nextInt(300); i < n; i++) {
+				boolean v = random.nextInt(3) == 0;
+				model.insert(0, v);
+				deque.addFirst(v);
+			}
+			// leave the head away from bit 0, and not on a word boundary
+			for (int i = 0, n = random.nextInt(5); i < n && model.notEmpty(); i++) {
+				model.removeAt(0);
+				deque.removeFirst();
+			}
+			PackedBooleanList list = new PackedBooleanList(model.toArray());
+			long[] words = deque.words, before = words.clone();
+
+			int trues = 0;
+			for (int i = 0; i < model.size(); i++) if (model.get(i)) trues++;
+			assertEquals(trues, deque.countTrue());
+			for (int from = 0; from < model.size(); from += 17) {
+				assertEquals(list.countTrue(from, model.size()), deque.countTrue(from, model.size()));
+				assertEquals(list.nextTrue(from), deque.nextTrue(from));
+				assertEquals(list.nextFalse(from), deque.nextFalse(from));
+				assertEquals(list.previousTrue(from), deque.previousTrue(from));
+			}
+			assertTrue(Arrays.equals(model.toArray(), deque.toArray()));
+			assertEquals(list.hashCode(), deque.hashCode());
+			assertEquals(list, deque);
+			assertEquals(deque, list);
+			assertEquals(deque, new PackedBooleanDeque(deque));
+			// the deque is only read when it is the argument of a change to another list
+			PackedBooleanList copy = new PackedBooleanList();
+			copy.addAll(deque);
+			assertEquals(list, copy);
+			assertEquals(list, copy.xor(deque).or(deque));
+
+			assertSame(words, deque.words);
+			assertTrue(Arrays.equals(before, deque.words));
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntObjectMap;
+import com.github.tommyettinger.ds.PersistentIntObjectMap;
+import com.github.tommyettinger.ds.PersistentObjectObjectMap;
+import com.github.tommyettinger.ds.PersistentObjectSet;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersistentMapTest {
+	/**
+	 * A key where many different instances have the same hash code, to make collision nodes.
+	 */
+	private static final class Clash {
+		final int id;
+
+		Clash(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Clash && ((Clash) o).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return id & 3;
+		}
+
+		@Override
+		public String toString() {
+			return "Clash" + id;
+		}
+	}
+
+	@Test
+	public void testObjectObjectMapMatchesHashMap() {
+		Random random = new Random(41L);
+		Map<Object, Integer> expected = new HashMap<>();
+		PersistentObjectObjectMap<Object, Integer> map = PersistentObjectObjectMap.empty();
+		List<PersistentObjectObjectMap<Object, Integer>> versions = new ArrayList<>();
+		List<Map<Object, Integer>> expectedVersions = new ArrayList<>();
+		for (int i = 0; i < 20000; i++) {
+			Object key = random.nextBoolean() ? (Object) random.nextInt(3000) : new Clash(random.nextInt(60));
+			if (random.nextInt(3) == 0) {
+				expected.remove(key);
+				map = map.without(key);
+			} else {
+				int value = random.nextInt(10);
+				expected.put(key, value);
+				map = map.with(key, value);
+			}
+			if (i % 1000 == 0) {
+				versions.add(map);
+				expectedVersions.add(new HashMap<>(expected));
+			}
+		}
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+		for (int i = 0; i < versions.size(); i++) {
+			assertEquals(expectedVersions.get(i), versions.get(i));
+		}
+		PersistentObjectObjectMap<Object, Integer> rebuilt = PersistentObjectObjectMap.from(expected);
+		assertEquals(map, rebuilt);
+		assertEquals(rebuilt, map);
+		for (Object key : expected.keySet()) {
+			map = map.without(key);
+		}
+		assertTrue(map.isEmpty());
+		assertSame(PersistentObjectObjectMap.empty(), map);
+	}
+
+	@Test
+	public void testBuilderAndDiff() {
+		PersistentObjectObjectMap.Builder<Object, String> builder = new PersistentObjectObjectMap.Builder<>();
+		for (int i = 0; i < 500; i++) {
+			builder.put(i, "v" + i);
+		}
+		for (int i = 0; i < 40; i++) {
+			builder.put(new Clash(i), "c" + i);
+		}
+		PersistentObjectObjectMap<Object, String> first = builder.build();
+		builder.put(1, "changed").remove(2).put(1000, "added").remove(new Clash(5)).put(new Clash(77), "new");
+		PersistentObjectObjectMap<Object, String> second = builder.build();
+		// the first map must not see changes made by the builder after build()
+		assertEquals(540, first.size());
+		assertEquals("v1", first.get(1));
+		assertEquals("v2", first.get(2));
+		assertTrue(first.containsKey(new Clash(5)));
+		assertEquals(540, second.size());
+		assertNotEquals(first, second);
+
+		final Map<Object, String> added = new HashMap<>(), removed = new HashMap<>(), changed = new HashMap<>();
+		first.diff(second, new PersistentObjectObjectMap.DiffListener<Object, String>() {
+			@Override
+			public void added(Object key, String value) {
+				assertNull(added.put(key, value));
+			}
+
+			@Override
+			public void removed(Object key, String value) {
+				assertNull(removed.put(key, value));
+			}
+
+			@Override
+			public void changed(Object key, String oldValue, String newValue) {
+				assertNull(changed.put(key, oldValue + "->" + newValue));
+			}
+		});
+		Map<Object, String> expectedAdded = new HashMap<>();
+		expectedAdded.put(1000, "added");
+		expectedAdded.put(new Clash(77), "new");
+		Map<Object, String> expectedRemoved = new HashMap<>();
+		expectedRemoved.put(2, "v2");
+		expectedRemoved.put(new Clash(5), "c5");
+		assertEquals(expectedAdded, added);
+		assertEquals(expectedRemoved, removed);
+		assertEquals("v1->changed", changed.get(1));
+		assertEquals(1, changed.size());
+
+		// undoing the changes gives an equal map with the same hash
+		PersistentObjectObjectMap<Object, String> undone = second.with(1, "v1").with(2, "v2").without(1000)
+			.with(new Clash(5), "c5").without(new Clash(77));
+		assertEquals(first, undone);
+		assertEquals(first.hashCode(), undone.hashCode());
+		assertSame(undone, undone.with(3, undone.get(3)));
+		assertSame(undone, undone.without(-1));
+	}
+
+	@Test
+	public void testBuilderRemovalMatchesWithout() {
+		// a Builder changes its own nodes in place, so removals must still pull lone pairs up into the parent
+		PersistentObjectObjectMap.Builder<Integer, Integer> builder = new PersistentObjectObjectMap.Builder<>();
+		PersistentObjectSet.Builder<Integer> setBuilder = new PersistentObjectSet.Builder<>();
+		PersistentIntObjectMap.Builder<Integer> intBuilder = new PersistentIntObjectMap.Builder<>();
+		for (int i = 0; i < 200; i++) {
+			builder.put(i, i);
+			setBuilder.add(i);
+			intBuilder.put(i, i);
+		}
+		for (int i = 0; i < 198; i++) {
+			builder.remove(i);
+			setBuilder.remove(i);
+			intBuilder.remove(i);
+		}
+		PersistentObjectObjectMap<Integer, Integer> built = builder.build(),
+			plain = PersistentObjectObjectMap.<Integer, Integer>empty().with(198, 198).with(199, 199);
+		assertEquals(plain.hashCode(), built.hashCode());
+		assertEquals(plain, built);
+		assertEquals(built, plain);
+		final int[] differences = {0};
+		built.diff(plain, new PersistentObjectObjectMap.DiffListener<Integer, Integer>() {
+			@Override
+			public void added(Integer key, Integer value) {
+				differences[0]++;
+			}
+
+			@Override
+			public void removed(Integer key, Integer value) {
+				differences[0]++;
+			}
+
+			@Override
+			public void changed(Integer key, Integer oldValue, Integer newValue) {
+				differences[0]++;
+			}
+		});
+		assertEquals(0, differences[0]);
+
+		PersistentObjectSet<Integer> builtSet = setBuilder.build();
+		assertEquals(PersistentObjectSet.of(198, 199), builtSet);
+		assertEquals(builtSet, PersistentObjectSet.of(198, 199));
+		PersistentIntObjectMap<Integer> builtInt = intBuilder.build();
+		assertEquals(PersistentIntObjectMap.of(198, 198, 199, 199), builtInt);
+		assertEquals(builtInt, PersistentIntObjectMap.of(198, 198, 199, 199));
+	}
+
+	@Test
+	public void testObjectSet() {
+		Random random = new Random(43L);
+		HashSet<Object> expected = new HashSet<>();
+		PersistentObjectSet<Object> set = PersistentObjectSet.empty();
+		for (int i = 0; i < 10000; i++) {
+			Object item = random.nextBoolean() ? (Object) ("s" + random.nextInt(2000)) : new Clash(random.nextInt(30));
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(item), set.contains(item));
+				set = set.without(item);
+			} else {
+				expected.add(item);
+				set = set.with(item);
+			}
+		}
+		assertEquals(expected, set);
+		assertEquals(set, expected);
+		assertEquals(expected.hashCode(), set.hashCode());
+		assertEquals(expected, new HashSet<>(set));
+		PersistentObjectSet<Object> smaller = set.without("s1").without("s2").with("extra");
+		final HashSet<Object> added = new HashSet<>(), removed = new HashSet<>();
+		set.diff(smaller, new PersistentObjectSet.DiffListener<Object>() {
+			@Override
+			public void added(Object item) {
+				added.add(item);
+			}
+
+			@Override
+			public void removed(Object item) {
+				removed.add(item);
+			}
+		});
+		HashSet<Object> expectedRemoved = new HashSet<>();
+		if (expected.contains("s1")) expectedRemoved.add("s1");
+		if (expected.contains("s2")) expectedRemoved.add("s2");
+		assertEquals(expectedRemoved, removed);
+		assertEquals(expected.contains("extra") ? 0 : 1, added.size());
+	}
+
+	@Test
+	public void testIntObjectMap() {
+		Random random = new Random(47L);
+		IntObjectMap<String> expected = new IntObjectMap<>();
+		PersistentIntObjectMap<String> map = PersistentIntObjectMap.empty();
+		for (int i = 0; i < 20000; i++) {
+			int key = random.nextInt(5000) - 2500;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.containsKey(key), map.containsKey(key));
+				expected.remove(key);
+				map = map.without(key);
+			} else {
+				String value = "v" + random.nextInt(10);
+				expected.put(key, value);
+				map = map.with(key, value);
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (IntObjectMap.Entry<String> e : expected) {
+			assertEquals(e.value, map.get(e.key));
+		}
+		assertEquals(expected, map.toIntObjectMap());
+		PersistentIntObjectMap<String> rebuilt = PersistentIntObjectMap.from(expected);
+		assertEquals(map, rebuilt);
+		assertEquals(map.hashCode(), rebuilt.hashCode());
+
+		PersistentIntObjectMap<String> next = map.with(0, null).with(Integer.MIN_VALUE, "min");
+		assertTrue(next.containsKey(0));
+		assertNull(next.get(0));
+		assertEquals("min", next.get(Integer.MIN_VALUE));
+		final int[] counts = new int[3];
+		map.diff(next, new PersistentIntObjectMap.DiffListener<String>() {
+			@Override
+			public void added(int key, String value) {
+				counts[0]++;
+			}
+
+			@Override
+			public void removed(int key, String value) {
+				counts[1]++;
+			}
+
+			@Override
+			public void changed(int key, String oldValue, String newValue) {
+				counts[2]++;
+			}
+		});
+		assertEquals(map.containsKey(0) ? 1 : 2, counts[0]);
+		assertEquals(0, counts[1]);
+		assertEquals(map.containsKey(0) && map.get(0) != null ? 1 : 0, counts[2]);
+		PersistentIntObjectMap.Builder<String> builder = next.toBuilder().remove(Integer.MIN_VALUE);
+		if (map.containsKey(0)) builder.put(0, map.get(0));
+		else builder.remove(0);
+		assertEquals(map, builder.build());
+		assertNotEquals(map, next);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntIntMap;
+import com.github.tommyettinger.ds.ObjectObjectMap;
+import com.github.tommyettinger.ds.concurrent.ReadMostly;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class ReadMostlyTest {
+	@Test
+	public void testCopyingMode() {
+		ObjectObjectMap<String, String> start = new ObjectObjectMap<>();
+		start.put("a", "1");
+		ReadMostly<ObjectObjectMap<String, String>> table = new ReadMostly<>(start, ObjectObjectMap::new);
+		ObjectObjectMap<String, String> first = table.read();
+		assertSame(start, first);
+		table.edit().put("b", "2");
+		table.edit().put("c", "3");
+		assertTrue(table.hasUnpublishedChanges());
+		assertEquals(1, table.read().size());
+		assertTrue(table.publish());
+		assertFalse(table.publish());
+		assertEquals(3, table.read().size());
+		assertEquals(1, first.size());
+		table.updateAndPublish(m -> m.remove("a"));
+		assertNull(table.read().get("a"));
+		assertEquals(2, table.read().size());
+	}
+
+	@Test
+	public void testDeltaModeWithReaders() throws InterruptedException {
+		IntIntMap start = new IntIntMap();
+		start.put(0, 1);
+		final ReadMostly<IntIntMap> table = new ReadMostly<>(start, IntIntMap::new, true);
+		final AtomicBoolean done = new AtomicBoolean(false);
+		final AtomicReference<String> failure = new AtomicReference<>();
+		Thread[] readers = new Thread[3];
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread(() -> {
+				int lastSize = 0;
+				while (!done.get()) {
+					IntIntMap snapshot = table.enter();
+					try {
+						// key 0 always holds the size of the map, and the map only grows
+						int size = snapshot.size();
+						if (snapshot.get(0) != size || size < lastSize) {
+							failure.compareAndSet(null, "saw size " + size + " with count " + snapshot.get(0));
+						}
+						lastSize = size;
+					} finally {
+						table.exit(snapshot);
+					}
+				}
+			});
+			readers[t].start();
+		}
+		for (int i = 1; i <= 2000; i++) {
+			final int key = i;
+			table.update(m -> {
+				m.put(key, key);
+				m.put(0, m.size());
+			});
+			if (i % 10 == 0) table.publish();
+		}
+		done.set(true);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		assertNull(failure.get());
+		IntIntMap last = table.enter();
+		assertEquals(2001, last.size());
+		assertEquals(2001, last.get(0));
+		table.exit(last);
+		table.updateAndPublish(m -> m.remove(5));
+		last = table.enter();
+		assertFalse(last.containsKey(5));
+		table.exit(last);
+		try {
+			table.edit();
+			fail("edit() should not be allowed in delta mode");
+		} catch (IllegalStateException expected) {
+		}
+	}
+
+	@Test
+	public void testExitOnAnotherThread() throws InterruptedException {
+		IntIntMap start = new IntIntMap();
+		start.put(0, 0);
+		final ReadMostly<IntIntMap> table = new ReadMostly<>(start, IntIntMap::new, true);
+		// hand each snapshot to a new thread to finish with, so enter() and exit() use different threads
+		for (int i = 1; i <= 20; i++) {
+			final IntIntMap snapshot = table.enter();
+			Thread other = new Thread(() -> table.exit(snapshot));
+			other.start();
+			other.join();
+			final int key = i;
+			table.update(m -> m.put(0, key));
+			Thread writer = new Thread(table::publish);
+			writer.setDaemon(true);
+			writer.start();
+			writer.join(5000L);
+			assertFalse("publish() waited forever for a reader that already exited", writer.isAlive());
+		}
+		IntIntMap last = table.enter();
+		assertEquals(20, last.get(0));
+		table.exit(last);
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.ByteList;
+import com.github.tommyettinger.ds.DoubleList;
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongList;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ReductionTest {
+	@Test
+	public void testIntReductions() {
+		Random random = new Random(32L);
+		IntList list = new IntList();
+		long expectedSum = 0;
+		int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+		for (int i = 0; i < 1003; i++) {
+			int v = random.nextInt();
+			list.add(v);
+			expectedSum += v;
+			min = Math.min(min, v);
+			max = Math.max(max, v);
+		}
+		assertEquals(expectedSum, list.sum());
+		assertEquals(min, list.min());
+		assertEquals(max, list.max());
+		assertEquals(min, list.get(list.argMin()));
+		assertEquals(max, list.get(list.argMax()));
+		assertEquals(expectedSum / 1003.0, list.mean(), 1e-6);
+		assertEquals((long) list.get(5) + list.get(6) + list.get(7), list.sum(5, 8));
+		assertEquals(-1, new IntList().argMax());
+		assertTrue(Double.isNaN(new IntList().mean()));
+		try {
+			new IntList().min();
+			fail("min() of an empty list should throw");
+		} catch (IndexOutOfBoundsException expected) {
+		}
+	}
+
+	@Test
+	public void testScans() {
+		IntList sizes = IntList.with(3, 0, 2, 5);
+		IntList offsets = new IntList(sizes);
+		assertEquals(10L, offsets.exclusiveScan());
+		assertEquals(IntList.with(0, 3, 3, 5), offsets);
+		assertEquals(IntList.with(3, 3, 5, 10), sizes.inclusiveScan());
+		LongList longs = LongList.with(1, 1, 1, 1, 1);
+		assertEquals(LongList.with(1, 1, 2, 3, 1), longs.inclusiveScan(1, 4));
+		ByteList bytes = ByteList.with((byte) 100, (byte) 100, (byte) 100);
+		assertEquals(300L, bytes.exclusiveScan());
+		assertEquals(ByteList.with((byte) 0, (byte) 100, (byte) 200), bytes);
+
+		IntDeque deque = new IntDeque(4);
+		deque.addLast(7, 7, 1, 2);
+		deque.removeFirst();
+		deque.removeFirst();
+		deque.addLast(3);
+		deque.addLast(4);
+		deque.inclusiveScan();
+		assertEquals(1, deque.get(0));
+		assertEquals(10, deque.get(3));
+		assertEquals(10L, deque.sum(3, 4));
+		assertEquals(3, deque.argMax());
+	}
+
+	@Test
+	public void testCompensatedSums() {
+		FloatList floats = new FloatList();
+		floats.add(1e8f);
+		for (int i = 0; i < 1000; i++) {
+			floats.add(1f);
+		}
+		floats.add(-1e8f);
+		assertEquals(1000f, floats.sum(), 0f);
+		// 16777217 can't be stored in a float, but the mean should not round it away.
+		assertEquals(8388608.5, FloatList.with(16777216f, 1f).mean(), 0.0);
+		DoubleList doubles = DoubleList.with(1.0, 1e100, 1.0, -1e100);
+		assertEquals(2.0, doubles.sum(), 0.0);
+		DoubleList histogram = new DoubleList();
+		for (int i = 0; i < 100000; i++) {
+			histogram.add(0.1);
+		}
+		histogram.inclusiveScan();
+		assertEquals(10000.0, histogram.get(histogram.size() - 1), 1e-9);
+		assertEquals(5000.0, histogram.get(49999), 1e-9);
+		FloatList withNaN = FloatList.with(Float.NaN, 3f, -2f, Float.NaN);
+		assertEquals(2, withNaN.argMin());
+		assertEquals(1, withNaN.argMax());
+		assertTrue(Float.isNaN(withNaN.min()));
+		FloatList cdf = FloatList.with(1f, 2f, 3f);
+		assertEquals(6f, cdf.exclusiveScan(), 0f);
+		assertEquals(FloatList.with(0f, 1f, 3f), cdf);
+	}
+}
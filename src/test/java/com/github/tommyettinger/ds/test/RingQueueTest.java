@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.concurrent.MpscIntQueue;
+import com.github.tommyettinger.ds.concurrent.MpscLongQueue;
+import com.github.tommyettinger.ds.concurrent.MpscObjectQueue;
+import com.github.tommyettinger.ds.concurrent.SpscIntQueue;
+import com.github.tommyettinger.ds.concurrent.SpscLongQueue;
+import com.github.tommyettinger.ds.concurrent.SpscObjectQueue;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RingQueueTest {
+	@Test
+	public void testSingleThreaded() {
+		SpscIntQueue spsc = new SpscIntQueue(5);
+		assertEquals(8, spsc.capacity());
+		spsc.defaultValue = -1;
+		assertEquals(-1, spsc.poll());
+		assertEquals(6, spsc.offerAll(1, 2, 3, 4, 5, 6));
+		assertEquals(2, spsc.offerAll(IntList.with(7, 8, 9)));
+		assertFalse(spsc.offer(10));
+		assertEquals(1, spsc.poll());
+		assertEquals(2, spsc.peek());
+		assertTrue(spsc.offer(9));
+		IntDeque into = new IntDeque();
+		assertEquals(8, spsc.drainTo(into));
+		assertEquals(IntDeque.with(2, 3, 4, 5, 6, 7, 8, 9), into);
+		assertTrue(spsc.isEmpty());
+
+		MpscLongQueue mpsc = new MpscLongQueue(4);
+		assertEquals(3, mpsc.offerAll(1L, 2L, 3L));
+		assertEquals(1L, mpsc.poll());
+		assertEquals(2, mpsc.offerAll(4L, 5L, 6L));
+		LongList longs = new LongList();
+		assertEquals(2, mpsc.drainTo(longs, 2));
+		assertEquals(2, mpsc.size());
+		assertEquals(2, mpsc.drainTo(longs));
+		assertEquals(LongList.with(2L, 3L, 4L, 5L), longs);
+		assertEquals(0L, mpsc.poll());
+
+		SpscObjectQueue<String> strings = new SpscObjectQueue<>(2);
+		assertTrue(strings.offer("a"));
+		try {
+			strings.offer(null);
+			fail("null items should be rejected");
+		} catch (NullPointerException expected) {
+		}
+		assertEquals("a", strings.poll());
+		assertNull(strings.poll());
+	}
+
+	@Test
+	public void testSpscHandoff() throws InterruptedException {
+		final int total = 100000;
+		final SpscLongQueue queue = new SpscLongQueue(64);
+		Thread producer = new Thread(() -> {
+			long[] batch = new long[7];
+			for (long i = 0; i < total; ) {
+				int n = (int) Math.min(batch.length, total - i);
+				for (int j = 0; j < n; j++) batch[j] = i + j;
+				i += queue.offerAll(batch, 0, n);
+			}
+		});
+		producer.start();
+		LongList received = new LongList(total);
+		while (received.size() < total) {
+			if (queue.drainTo(received, 10) == 0) Thread.yield();
+		}
+		producer.join();
+		for (int i = 0; i < total; i++) {
+			assertEquals(i, received.get(i));
+		}
+	}
+
+	@Test
+	public void testMpscIngestion() throws InterruptedException {
+		final int producers = 4, each = 20000;
+		final MpscIntQueue ints = new MpscIntQueue(128);
+		final MpscObjectQueue<Integer> objects = new MpscObjectQueue<>(64);
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			final int id = p;
+			threads[p] = new Thread(() -> {
+				for (int i = 0; i < each; i++) {
+					int item = id * each + i;
+					while (!ints.offer(item)) Thread.yield();
+					if ((i & 63) == 0) {
+						while (!objects.offer(item)) Thread.yield();
+					}
+				}
+			});
+			threads[p].start();
+		}
+		int[] next = new int[producers];
+		IntList drained = new IntList();
+		ObjectList<Integer> boxes = new ObjectList<>();
+		int count = 0;
+		while (count < producers * each) {
+			drained.clear();
+			if (ints.drainTo(drained) == 0) Thread.yield();
+			for (int i = 0, n = drained.size(); i < n; i++) {
+				int item = drained.get(i), id = item / each;
+				assertEquals(next[id]++, item % each);
+			}
+			count += drained.size();
+			objects.drainTo(boxes);
+		}
+		for (Thread t : threads) {
+			t.join();
+		}
+		objects.drainTo(boxes);
+		assertEquals(producers * ((each + 63) / 64), boxes.size());
+		assertTrue(ints.isEmpty());
+	}
+}
@@ -16,6 +16,7 @@
 
 package com.github.tommyettinger.ds.test;
 
+import com.github.tommyettinger.ds.FloatRing;
 import com.github.tommyettinger.ds.ObjectRing;
 import org.junit.Assert;
 import org.junit.Test;
@@ -36,4 +37,47 @@ public class RingTest {
 		Assert.assertEquals("billy", deque.getLast());
 		Assert.assertEquals("jamie", deque.getFirst());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testFloatRing() {
+		FloatRing ring = new FloatRing(4);
+		for (int i = 0; i < 7; i++) {
+			ring.addLast(i);
+		}
+		Assert.assertTrue(ring.isFull());
+		Assert.assertEquals(4, ring.size());
+		Assert.assertEquals(3f, ring.get(0), 0f);
+		Assert.assertEquals(5f, ring.get(2), 0f);
+		Assert.assertEquals(6f, ring.getLast(), 0f);
+		float[] out = ring.copyTo(new float[6], 1);
+		Assert.assertArrayEquals(new float[]{0f, 3f, 4f, 5f, 6f, 0f}, out, 0f);
+		ring.addAll(new float[]{7f, 8f, 9f}, 0, 3);
+		Assert.assertArrayEquals(new float[]{6f, 7f, 8f, 9f}, ring.toArray(), 0f);
+		ring.addAll(new float[]{10f, 11f, 12f, 13f, 14f}, 0, 5);
+		Assert.assertArrayEquals(new float[]{11f, 12f, 13f, 14f}, ring.toArray(), 0f);
+		Assert.assertEquals(12f, ring.removeAt(1), 0f);
+		Assert.assertEquals(11f, ring.removeFirst(), 0f);
+		ring.addLast(15f);
+		ring.addLast(16f);
+		Assert.assertEquals(FloatRing.with(13f, 14f, 15f, 16f), ring);
+		Assert.assertTrue(ring.remove(14f));
+		Assert.assertEquals(16f, ring.removeLast(), 0f);
+		Assert.assertEquals(2, ring.size());
+		ring.clear();
+		Assert.assertEquals(0f, ring.peekFirst(), 0f);
+	}
+
+	@Test
+	public void testObjectRingCopy() {
+		ObjectRing<String> ring = ObjectRing.with("a", "b", "c");
+		ring.addLast("d");
+		ring.addLast("e");
+		Assert.assertArrayEquals(new String[]{"c", "d", "e"}, ring.copyTo(new String[3]));
+		Assert.assertEquals("c", ring.removeFirst());
+		Assert.assertEquals("[d, e]", ring.toString());
+		ObjectRing<String> copy = new ObjectRing<>(ring);
+		Assert.assertEquals(ring, copy);
+		Assert.assertEquals(ring.hashCode(), copy.hashCode());
+		Assert.assertNull(new ObjectRing<String>(2).peekLast());
+	}
+}
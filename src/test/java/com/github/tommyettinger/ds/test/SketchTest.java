@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.CountMinSketch;
+import com.github.tommyettinger.ds.HyperLogLog;
+import com.github.tommyettinger.ds.IntIntMap;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SketchTest {
+	@Test
+	public void testHyperLogLog() {
+		HyperLogLog small = new HyperLogLog();
+		for (int i = 0; i < 100; i++) {
+			small.add(i);
+			small.add((long) i);
+			small.add(Integer.valueOf(i));
+		}
+		assertEquals(100L, small.estimate(), 2L);
+
+		HyperLogLog a = new HyperLogLog(14, 7), b = new HyperLogLog(14, 7);
+		Random random = new Random(45L);
+		for (int i = 0; i < 1000000; i++) {
+			long item = random.nextLong();
+			a.add(item);
+			if ((i & 1) == 0) b.add(item);
+		}
+		assertEquals(1000000.0, a.estimate(), 1000000.0 * a.standardError() * 4);
+		assertEquals(500000.0, b.estimate(), 500000.0 * b.standardError() * 4);
+		HyperLogLog merged = new HyperLogLog(b.getRegisters(), 7);
+		assertEquals(b, merged);
+		merged.merge(a);
+		assertEquals(a, merged);
+		try {
+			merged.merge(new HyperLogLog(14, 8));
+			fail("HyperLogLogs with different seeds should not be merged");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	@Test
+	public void testHyperLogLogNearSmallRange() {
+		// the classic estimator switches from linear counting at 2.5 times the register count, and overestimates there
+		final int m = 1 << 10, n = m * 5 / 2, trials = 200;
+		double total = 0.0;
+		for (int seed = 0; seed < trials; seed++) {
+			HyperLogLog hll = new HyperLogLog(10, seed);
+			for (int i = 0; i < n; i++) {
+				hll.add((long) seed << 32 | i);
+			}
+			total += hll.estimate();
+		}
+		assertEquals(1.0, total / trials / n, 0.01);
+	}
+
+	@Test
+	public void testCountMinSketch() {
+		Random random = new Random(46L);
+		CountMinSketch plain = CountMinSketch.withError(0.001, 0.01, false);
+		CountMinSketch conservative = CountMinSketch.withError(0.001, 0.01, true);
+		IntIntMap truth = new IntIntMap();
+		for (int i = 0; i < 200000; i++) {
+			// a skewed distribution, with a few very common items and many rare ones
+			int item = (int) (Math.pow(random.nextDouble(), 4.0) * 100000);
+			plain.add(item);
+			conservative.add(item);
+			truth.getAndIncrement(item, 0, 1);
+		}
+		assertEquals(200000L, plain.getTotalCount());
+		long plainError = 0L, conservativeError = 0L;
+		for (IntIntMap.Entry e : truth) {
+			long p = plain.estimate(e.key), c = conservative.estimate(e.key);
+			assertTrue(p >= e.value);
+			assertTrue(c >= e.value);
+			assertTrue(c <= p);
+			plainError += p - e.value;
+			conservativeError += c - e.value;
+		}
+		assertTrue(conservativeError <= plainError);
+		assertTrue(plainError / (double) truth.size() < 0.001 * 200000);
+
+		assertEquals(plain.estimate(5), plain.estimate((long) 5));
+		assertEquals(plain.estimate(5), plain.estimate(Integer.valueOf(5)));
+		CountMinSketch copy = new CountMinSketch(plain);
+		copy.merge(plain);
+		assertEquals(plain.estimate(0) * 2, copy.estimate(0));
+		plain.add("negative", -3L);
+		try {
+			conservative.add("negative", -3L);
+			fail("conservative update should not accept negative counts");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.*;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SmallMapTest {
+	static class CountingKey {
+		static int hashes = 0;
+		final int id;
+
+		CountingKey(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CountingKey && ((CountingKey) o).id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			++hashes;
+			return id;
+		}
+	}
+
+	@Test
+	public void testSmallObjectObjectMapDoesNotHash() {
+		SmallObjectObjectMap<CountingKey, String> map = new SmallObjectObjectMap<>();
+		assertEquals(SmallObjectObjectMap.SMALL_TABLE_SIZE, map.getTableSize());
+		CountingKey.hashes = 0;
+		for (int i = 0; i < SmallObjectObjectMap.SMALL_TABLE_SIZE - 1; i++) {
+			map.put(new CountingKey(i), "v" + i);
+		}
+		for (int i = 0; i < SmallObjectObjectMap.SMALL_TABLE_SIZE; i++) {
+			assertEquals(i < SmallObjectObjectMap.SMALL_TABLE_SIZE - 1 ? "v" + i : null, map.get(new CountingKey(i)));
+		}
+		map.remove(new CountingKey(3));
+		assertFalse(map.containsKey(new CountingKey(3)));
+		assertEquals(0, CountingKey.hashes);
+		assertEquals(SmallObjectObjectMap.SMALL_TABLE_SIZE, map.getTableSize());
+		map.put(new CountingKey(3), "v3");
+		map.put(new CountingKey(100), "v100");
+		assertTrue(map.getTableSize() > SmallObjectObjectMap.SMALL_TABLE_SIZE);
+		assertTrue(CountingKey.hashes > 0);
+		assertEquals(SmallObjectObjectMap.SMALL_TABLE_SIZE, map.size());
+		assertEquals("v100", map.get(new CountingKey(100)));
+		assertEquals(2, SmallObjectObjectMap.with("a", 1).getTableSize());
+	}
+
+	@Test
+	public void testSmallObjectObjectMap() {
+		Random random = new Random(49L);
+		for (int round = 0; round < 200; round++) {
+			SmallObjectObjectMap<String, Integer> small = new SmallObjectObjectMap<>(random.nextInt(4));
+			HashMap<String, Integer> plain = new HashMap<>();
+			int range = 2 + random.nextInt(round % 10 == 0 ? 40 : 10);
+			for (int i = 0, n = random.nextInt(60); i < n; i++) {
+				String key = "k" + random.nextInt(range);
+				int op = random.nextInt(10);
+				if (op < 3) {
+					assertEquals(plain.remove(key), small.remove(key));
+				} else if (op == 3) {
+					int max = random.nextInt(8);
+					small.shrink(max);
+					assertEquals(plain.size(), small.size());
+				} else if (op == 4) {
+					Iterator<Map.Entry<String, Integer>> it = small.iterator();
+					while (it.hasNext()) {
+						Map.Entry<String, Integer> e = it.next();
+						if ((e.getValue() & 3) == 0) {
+							plain.remove(e.getKey());
+							it.remove();
+						}
+					}
+				} else {
+					Integer value = random.nextInt(100);
+					assertEquals(plain.put(key, value), small.put(key, value));
+				}
+				assertEquals(plain.size(), small.size());
+				for (int k = 0; k < range; k++) {
+					assertEquals(plain.get("k" + k), small.get("k" + k));
+				}
+			}
+			ObjectObjectMap<String, Integer> hashed = new ObjectObjectMap<>(small);
+			assertEquals(plain, hashed);
+			assertEquals(hashed, small);
+			assertEquals(hashed.hashCode(), small.hashCode());
+			ObjectObjectMap<String, Integer> reset = new ObjectObjectMap<>();
+			reset.putAll(small);
+			assertEquals(plain, reset);
+			SmallObjectObjectMap<String, Integer> copy = new SmallObjectObjectMap<>(hashed);
+			assertEquals(plain, copy);
+			for (String key : plain.keySet()) {
+				assertTrue(copy.containsKey(key));
+			}
+		}
+	}
+
+	@Test
+	public void testSmallIntIntMap() {
+		Random random = new Random(49L);
+		for (int round = 0; round < 200; round++) {
+			SmallIntIntMap small = new SmallIntIntMap(random.nextInt(4));
+			small.setDefaultValue(-1);
+			HashMap<Integer, Integer> plain = new HashMap<>();
+			int range = 2 + random.nextInt(round % 10 == 0 ? 40 : 10);
+			for (int i = 0, n = random.nextInt(60); i < n; i++) {
+				int key = random.nextInt(range) - 1;
+				int op = random.nextInt(10);
+				if (op < 3) {
+					Integer old = plain.remove(key);
+					assertEquals(old == null ? -1 : old, small.remove(key));
+				} else if (op == 3) {
+					small.shrink(random.nextInt(8));
+				} else if (op == 4) {
+					IntIntMap.EntryIterator it = small.iterator();
+					while (it.hasNext()) {
+						IntIntMap.Entry e = it.next();
+						if ((e.getValue() & 3) == 0) {
+							plain.remove(e.getKey());
+							it.remove();
+						}
+					}
+				} else {
+					int value = random.nextInt(100);
+					Integer old = plain.put(key, value);
+					assertEquals(old == null ? -1 : old, small.put(key, value));
+				}
+				assertEquals(plain.size(), small.size());
+				for (int k = -1; k < range; k++) {
+					Integer value = plain.get(k);
+					assertEquals(value == null ? -1 : value, small.get(k));
+				}
+			}
+			IntIntMap hashed = new IntIntMap(small);
+			assertEquals(plain.size(), hashed.size());
+			for (Map.Entry<Integer, Integer> e : plain.entrySet()) {
+				assertEquals((int) e.getValue(), hashed.get(e.getKey()));
+			}
+			assertEquals(hashed, small);
+			assertEquals(hashed.hashCode(), small.hashCode());
+			// a subclass with its own resize() must also be able to copy a table that has to be rehashed
+			StampedIntIntMap stamped = new StampedIntIntMap(small);
+			assertEquals(hashed, stamped);
+			IntIntMap reset = new IntIntMap();
+			reset.putAll(small);
+			SmallIntIntMap copy = new SmallIntIntMap(hashed);
+			assertEquals(plain.size(), reset.size());
+			assertEquals(plain.size(), copy.size());
+			for (Map.Entry<Integer, Integer> e : plain.entrySet()) {
+				assertEquals((int) e.getValue(), reset.get(e.getKey()));
+				assertEquals((int) e.getValue(), copy.get(e.getKey()));
+			}
+		}
+		assertEquals(4, SmallIntIntMap.withPrimitive(1, 2, 3, 4).getTableSize());
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.FloatList;
+import com.github.tommyettinger.ds.IntDeque;
+import com.github.tommyettinger.ds.IntIntMap;
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.ObjectList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SortedListTest {
+	private static IntList randomSorted(Random random, int size, int bound) {
+		IntList list = new IntList(size);
+		for (int i = 0; i < size; i++) {
+			list.add(random.nextInt(bound));
+		}
+		list.sort();
+		return list;
+	}
+
+	private static IntIntMap counts(IntList list) {
+		IntIntMap map = new IntIntMap();
+		for (int i = 0; i < list.size(); i++) {
+			map.getAndIncrement(list.get(i), 0, 1);
+		}
+		return map;
+	}
+
+	/**
+	 * Builds the expected result of a multiset operation, in sorted order, by brute force.
+	 */
+	private static IntList expected(IntList a, IntList b, int op) {
+		IntIntMap ca = counts(a), cb = counts(b);
+		IntList result = new IntList();
+		for (int v = 0; v < 2000; v++) {
+			int m = ca.get(v), n = cb.get(v), c;
+			if (op == 0) c = m + n;
+			else if (op == 1) c = Math.min(m, n);
+			else if (op == 2) c = Math.max(m, n);
+			else c = Math.max(m - n, 0);
+			for (int i = 0; i < c; i++) {
+				result.add(v);
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testIntListOperations() {
+		Random random = new Random(30L);
+		IntList into = new IntList();
+		int[][] sizes = {{0, 10}, {10, 0}, {5, 1000}, {1000, 5}, {300, 300}, {1, 1}, {64, 4000}};
+		for (int[] s : sizes) {
+			for (int bound : new int[]{20, 2000}) {
+				IntList a = randomSorted(random, s[0], bound), b = randomSorted(random, s[1], bound);
+				assertEquals(expected(a, b, 0), a.mergeSorted(b, into));
+				assertEquals(expected(a, b, 1), a.intersectSorted(b, into));
+				assertEquals(expected(a, b, 2), a.unionSorted(b, into));
+				assertEquals(expected(a, b, 3), a.differenceSorted(b, into));
+			}
+		}
+		try {
+			into.intersectSorted(new IntList(), into);
+			fail("into must not be an input");
+		} catch (IllegalArgumentException expected) {
+		}
+	}
+
+	@Test
+	public void testBinarySearch() {
+		Random random = new Random(31L);
+		IntList list = randomSorted(random, 500, 100000);
+		int[] array = list.toArray();
+		for (int i = 0; i < 2000; i++) {
+			int key = random.nextInt(100010) - 5;
+			int expected = Arrays.binarySearch(array, key);
+			int actual = list.binarySearch(key);
+			if (expected >= 0) assertEquals(key, list.get(actual));
+			else assertEquals(expected, actual);
+		}
+		assertEquals(-1, new IntList().binarySearch(5));
+		FloatList floats = FloatList.with(-2f, -0f, 0f, 1.5f, Float.NaN);
+		assertEquals(1, floats.binarySearch(-0f));
+		assertEquals(2, floats.binarySearch(0f));
+		assertEquals(4, floats.binarySearch(Float.NaN));
+		assertEquals(-4, floats.binarySearch(1f));
+		FloatList other = FloatList.with(-0f, 1.5f, 3f);
+		assertEquals(FloatList.with(-0f, 1.5f), floats.intersectSorted(other, new FloatList()));
+	}
+
+	@Test
+	public void testWrappedDeque() {
+		IntDeque deque = new IntDeque(8);
+		for (int i = 0; i < 6; i++) {
+			deque.addLast(i * 10);
+		}
+		deque.removeFirst();
+		deque.removeFirst();
+		deque.removeFirst();
+		for (int i = 6; i < 10; i++) {
+			deque.addLast(i * 10);
+		}
+		// the deque now wraps around the end of its backing array
+		assertEquals(IntList.with(30, 40, 50, 60, 70, 80, 90), new IntList(deque.iterator()));
+		assertEquals(3, deque.binarySearch(60));
+		assertEquals(-1, deque.binarySearch(0));
+		assertEquals(-8, deque.binarySearch(95));
+		IntList other = IntList.with(0, 40, 45, 90, 100);
+		assertEquals(IntList.with(40, 90), deque.intersectSorted(other, new IntList()));
+		assertEquals(IntList.with(30, 50, 60, 70, 80), deque.differenceSorted(other, new IntList()));
+		IntDeque into = new IntDeque();
+		assertEquals(IntList.with(0, 30, 40, 40, 45, 50, 60, 70, 80, 90, 90, 100), new IntList(other.mergeSorted(deque, into).iterator()));
+		assertEquals(IntList.with(30, 40, 50, 60, 70, 80, 90), new IntList(deque.iterator()));
+	}
+
+	@Test
+	public void testWrappedDequeIsNotRearranged() {
+		Random random = new Random(33L);
+		IntList list = randomSorted(random, 40, 200);
+		IntDeque deque = new IntDeque(64);
+		for (int i = 0; i < 50; i++) {
+			deque.addLast(-1);
+		}
+		for (int i = 0; i < 50; i++) {
+			deque.removeFirst();
+		}
+		deque.addAll(list);
+		int[] storage = deque.items, snapshot = storage.clone();
+		assertEquals(list, new IntList(deque.iterator()));
+		for (int from = 0; from <= list.size(); from += 3) {
+			for (int to = from; to <= list.size(); to += 5) {
+				for (int key = -1; key <= 201; key += 7) {
+					int expected = list.binarySearch(from, to, key), actual = deque.binarySearch(from, to, key);
+					if (expected >= 0) assertEquals(key, deque.get(actual));
+					else assertEquals(expected, actual);
+				}
+			}
+		}
+		IntList other = randomSorted(random, 25, 200);
+		assertEquals(list.intersectSorted(other, new IntList()), other.intersectSorted(deque, new IntList()));
+		assertEquals(list.unionSorted(other, new IntList()), deque.unionSorted(other, new IntList()));
+		assertEquals(list.differenceSorted(other, new IntList()), deque.differenceSorted(other, new IntList()));
+		assertEquals(list.mergeSorted(other, new IntList()), other.mergeSorted(deque, new IntList()));
+		assertEquals(list.sum(), deque.sum());
+		assertEquals(list.sum(7, 33), deque.sum(7, 33));
+		assertEquals(list.argMax(), deque.argMax());
+		assertEquals(list.min(), deque.min());
+		assertEquals(list.dot(list), deque.dot(list));
+		assertEquals(list, deque);
+		// None of the read-only operations above may move the deque's items.
+		assertSame(storage, deque.items);
+		assertArrayEquals(snapshot, deque.items);
+		IntList copy = new IntList(list);
+		copy.plus(deque);
+		list.plus(list);
+		assertEquals(list, copy);
+	}
+
+	@Test
+	public void testFloatSetOperationsMatchBinarySearch() {
+		// Arrays.binarySearch puts -0.0 before 0.0 and NaN after everything; the set operations must agree.
+		FloatList a = FloatList.with(-0f, 0f, 1f, Float.NaN), b = FloatList.with(0f, Float.NaN);
+		assertEquals(FloatList.with(0f, Float.NaN), a.intersectSorted(b, new FloatList()));
+		assertEquals(FloatList.with(-0f, 1f), a.differenceSorted(b, new FloatList()));
+		assertEquals(FloatList.with(-0f, 0f, 1f, Float.NaN), a.unionSorted(b, new FloatList()));
+		assertEquals(FloatList.with(-0f, 0f, 0f, 1f, Float.NaN, Float.NaN), a.mergeSorted(b, new FloatList()));
+		FloatList onlyNegativeZero = FloatList.with(-0f);
+		assertEquals(0, onlyNegativeZero.intersectSorted(FloatList.with(0f), new FloatList()).size());
+		assertEquals(-2, onlyNegativeZero.binarySearch(0f));
+	}
+
+	@Test
+	public void testObjectList() {
+		Comparator<String> byLength = Comparator.comparingInt(String::length);
+		ObjectList<String> a = ObjectList.with("a", "bb", "cc", "dddd");
+		ObjectList<String> b = ObjectList.with("x", "yy", "zzz");
+		ObjectList<String> into = new ObjectList<>();
+		assertEquals(ObjectList.with("a", "x", "bb", "cc", "yy", "zzz", "dddd"), a.mergeSorted(b, into, byLength));
+		assertEquals(ObjectList.with("a", "bb"), a.intersectSorted(b, into, byLength));
+		assertEquals(ObjectList.with("a", "bb", "cc", "zzz", "dddd"), a.unionSorted(b, into, byLength));
+		assertEquals(ObjectList.with("cc", "dddd"), a.differenceSorted(b, into, byLength));
+		ObjectList<String> words = ObjectList.with("apple", "banana", "cherry", "date", "fig");
+		assertEquals(2, words.binarySearch("cherry", null));
+		assertEquals(-5, words.binarySearch("eggplant", null));
+		assertEquals(ObjectList.with("banana", "fig"), words.intersectSorted(ObjectList.with("banana", "cantaloupe", "fig"), into, null));
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.IntObjectSortedMap;
+import com.github.tommyettinger.ds.LongLongSortedMap;
+import com.github.tommyettinger.ds.LongList;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectObjectSortedMap;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class SortedMapTest {
+	@Test
+	public void testIntObjectAgainstTreeMap() {
+		Random random = new Random(123L);
+		IntObjectSortedMap<String> map = new IntObjectSortedMap<>();
+		TreeMap<Integer, String> check = new TreeMap<>();
+		for (int round = 0; round < 200000; round++) {
+			int key = random.nextInt(20000) - 10000;
+			if (random.nextInt(3) == 0) {
+				assertEquals(check.remove(key), map.remove(key));
+			} else {
+				String v = String.valueOf(round);
+				assertEquals(check.put(key, v), map.put(key, v));
+			}
+			assertEquals(check.size(), map.size());
+		}
+		int i = 0;
+		for (IntObjectSortedMap.Entry<String> e : map) {
+			Map.Entry<Integer, String> c = check.pollFirstEntry();
+			assertEquals(c.getKey().intValue(), e.key);
+			assertEquals(c.getValue(), e.value);
+			assertEquals(i, map.rank(e.key));
+			assertEquals(e.key, map.keyAt(i));
+			assertEquals(e.value, map.valueAt(i));
+			i++;
+		}
+		assertEquals(map.size(), i);
+		while (map.notEmpty()) {
+			int k = map.keyAt(random.nextInt(map.size()));
+			assertNotNull(map.remove(k));
+			assertFalse(map.containsKey(k));
+		}
+		map.put(1, "one");
+		assertEquals("{1=one}", map.toString());
+	}
+
+	@Test
+	public void testIntObjectNavigation() {
+		Random random = new Random(456L);
+		IntObjectSortedMap<String> map = new IntObjectSortedMap<>();
+		TreeMap<Integer, String> check = new TreeMap<>();
+		for (int i = 0; i < 5000; i++) {
+			int key = random.nextInt(100000);
+			map.put(key, "v" + key);
+			check.put(key, "v" + key);
+		}
+		for (int i = 0; i < 5000; i++) {
+			int key = random.nextInt(100010) - 5;
+			Integer f = check.floorKey(key), c = check.ceilingKey(key), l = check.lowerKey(key), h = check.higherKey(key);
+			assertEquals(f == null ? -1 : f, map.floorKey(key, -1));
+			assertEquals(c == null ? -1 : c, map.ceilingKey(key, -1));
+			assertEquals(l == null ? -1 : l, map.lowerKey(key, -1));
+			assertEquals(h == null ? -1 : h, map.higherKey(key, -1));
+			assertEquals(check.headMap(key).size(), map.rank(key));
+		}
+		assertEquals(check.firstKey().intValue(), map.firstKey());
+		assertEquals(check.lastKey().intValue(), map.lastKey());
+		IntList keys = map.keyRange(20000, 30000).toList();
+		IntList expected = new IntList();
+		for (Integer k : check.subMap(20000, 30000).keySet()) {
+			expected.add(k);
+		}
+		assertEquals(expected, keys);
+		// removes every even key in a range through the iterator
+		for (Iterator<IntObjectSortedMap.Entry<String>> it = map.range(40000, 60000); it.hasNext(); ) {
+			IntObjectSortedMap.Entry<String> e = it.next();
+			if ((e.key & 1) == 0) {
+				it.remove();
+				check.remove(e.key);
+			}
+		}
+		assertEquals(check.size(), map.size());
+		for (Map.Entry<Integer, String> e : check.entrySet()) {
+			assertEquals(e.getValue(), map.get(e.getKey()));
+		}
+	}
+
+	@Test
+	public void testIntObjectBulkLoad() {
+		int n = 100000;
+		int[] keys = new int[n];
+		Integer[] values = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			keys[i] = i * 3 - 50000;
+			values[i] = i;
+		}
+		IntObjectSortedMap<Integer> map = new IntObjectSortedMap<>();
+		map.putAllSorted(keys, values);
+		assertEquals(n, map.size());
+		for (int i = 0; i < n; i += 7) {
+			assertEquals(values[i], map.get(keys[i]));
+			assertEquals(i, map.rank(keys[i]));
+		}
+		for (int i = 0; i < n; i += 2) {
+			map.remove(keys[i]);
+		}
+		assertEquals(n / 2, map.size());
+		assertEquals(keys[1], map.firstKey());
+		IntObjectSortedMap<Integer> copy = new IntObjectSortedMap<>(map);
+		assertEquals(map, copy);
+		assertEquals(map.hashCode(), copy.hashCode());
+		map.putAllSorted(new int[]{-99997, -99999, -99998}, new Integer[]{3, 1, 2});
+		assertEquals(n / 2 + 3, map.size());
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(keys[1]));
+	}
+
+	@Test
+	public void testLongLongAgainstTreeMap() {
+		Random random = new Random(789L);
+		LongLongSortedMap map = new LongLongSortedMap();
+		TreeMap<Long, Long> check = new TreeMap<>();
+		for (int round = 0; round < 100000; round++) {
+			long key = random.nextLong() >> 50;
+			if (random.nextInt(3) == 0) {
+				Long old = check.remove(key);
+				assertEquals(old == null ? 0L : old, map.remove(key));
+			} else {
+				Long old = check.put(key, (long) round);
+				assertEquals(old == null ? 0L : old, map.put(key, round));
+			}
+		}
+		assertEquals(check.size(), map.size());
+		for (int i = 0; i < 1000; i++) {
+			long key = random.nextLong() >> 50;
+			Long f = check.floorKey(key), c = check.ceilingKey(key);
+			assertEquals(f == null ? Long.MIN_VALUE : f, map.floorKey(key, Long.MIN_VALUE));
+			assertEquals(c == null ? Long.MAX_VALUE : c, map.ceilingKey(key, Long.MAX_VALUE));
+			assertEquals(check.headMap(key).size(), map.rank(key));
+		}
+		LongList values = map.valueRange(-1000L, 1000L).toList();
+		LongList expected = new LongList();
+		for (Long v : check.subMap(-1000L, 1000L).values()) {
+			expected.add(v);
+		}
+		assertEquals(expected, values);
+		LongLongSortedMap copy = new LongLongSortedMap(map);
+		assertEquals(map, copy);
+		assertEquals(map.hashCode(), copy.hashCode());
+	}
+
+	@Test
+	public void testObjectObjectAgainstTreeMap() {
+		Random random = new Random(101112L);
+		ObjectObjectSortedMap<String, Integer> map = new ObjectObjectSortedMap<>(Comparator.reverseOrder());
+		TreeMap<String, Integer> check = new TreeMap<>(Comparator.reverseOrder());
+		for (int round = 0; round < 100000; round++) {
+			String key = Integer.toString(random.nextInt(5000), 36);
+			if (random.nextInt(3) == 0) {
+				assertEquals(check.remove(key), map.remove(key));
+			} else {
+				assertEquals(check.put(key, round), map.put(key, round));
+			}
+		}
+		assertEquals(check, map);
+		assertEquals(map, check);
+		assertEquals(check.hashCode(), map.hashCode());
+		assertEquals(new ObjectList<>(check.keySet()), map.keySet().iterator().toList());
+		String low = check.lastKey(), high = check.firstKey();
+		assertEquals(low, map.lastKey());
+		assertEquals(high, map.firstKey());
+		for (int i = 0; i < 1000; i++) {
+			String key = Integer.toString(random.nextInt(6000), 36);
+			assertEquals(check.floorKey(key), map.floorKey(key));
+			assertEquals(check.ceilingKey(key), map.ceilingKey(key));
+			assertEquals(check.lowerKey(key), map.lowerKey(key));
+			assertEquals(check.higherKey(key), map.higherKey(key));
+			assertEquals(check.headMap(key).size(), map.rank(key));
+		}
+		ObjectObjectSortedMap<String, Integer> copy = new ObjectObjectSortedMap<>(map);
+		assertEquals(map, copy);
+		map.keySet().removeIf(k -> k.length() < 3);
+		check.keySet().removeIf(k -> k.length() < 3);
+		assertEquals(check, map);
+		String[] keys = {"a", "b", "c", "d"};
+		Integer[] values = {1, 2, 3, 4};
+		ObjectObjectSortedMap<String, Integer> small = new ObjectObjectSortedMap<>();
+		small.putAllSorted(keys, values);
+		assertEquals("{a=1, b=2, c=3, d=4}", small.toString());
+		assertEquals("c", small.keyAt(2));
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntIntMap;
+import com.github.tommyettinger.ds.IntIntSparseMap;
+import com.github.tommyettinger.ds.IntSet;
+import com.github.tommyettinger.ds.IntSparseSet;
+import com.github.tommyettinger.ds.support.util.IntIterator;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SparseSetTest {
+	@Test
+	public void testAgainstIntSet() {
+		Random random = new Random(47L);
+		IntSparseSet sparse = new IntSparseSet(100);
+		IntSet set = new IntSet();
+		for (int round = 0; round < 20; round++) {
+			for (int i = 0; i < 500; i++) {
+				int item = random.nextInt(round < 10 ? 100 : 400);
+				if (random.nextInt(3) == 0) {
+					assertEquals(set.remove(item), sparse.remove(item));
+				} else {
+					assertEquals(set.add(item), sparse.add(item));
+				}
+				assertEquals(set.size(), sparse.size());
+			}
+			assertEquals(set, sparse);
+			assertEquals(sparse, set);
+			assertEquals(set.hashCode(), sparse.hashCode());
+			for (int i = -5; i < 405; i++) {
+				assertEquals(set.contains(i), sparse.contains(i));
+			}
+			if (round % 5 == 4) {
+				set.clear();
+				sparse.clear();
+				assertTrue(sparse.isEmpty());
+				assertFalse(sparse.contains(0));
+			}
+		}
+		assertTrue(sparse.universe() >= 400);
+	}
+
+	@Test
+	public void testDenseOrderAndIterator() {
+		IntSparseSet sparse = IntSparseSet.with(5, 3, 9, 1);
+		assertArrayEquals(new int[]{5, 3, 9, 1}, sparse.toArray());
+		sparse.remove(3);
+		assertArrayEquals(new int[]{5, 1, 9}, sparse.toArray());
+		assertEquals(1, sparse.indexOf(1));
+		assertEquals(-1, sparse.indexOf(3));
+		sparse.addVarargs(2, 4, 6);
+		IntIterator it = sparse.iterator();
+		int seen = 0;
+		while (it.hasNext()) {
+			int item = it.nextInt();
+			seen++;
+			if ((item & 1) == 0) it.remove();
+		}
+		assertEquals(6, seen);
+		assertEquals(IntSet.with(5, 1, 9), sparse);
+		assertEquals(9, sparse.pop());
+		assertEquals("[5, 1]", sparse.toString());
+		sparse.clear();
+		assertFalse(sparse.contains(5));
+		assertTrue(sparse.add(5));
+		assertEquals(1, sparse.size());
+	}
+
+	@Test
+	public void testFloodFill() {
+		final int width = 64, height = 48;
+		IntSparseSet visited = new IntSparseSet(width * height);
+		int[] queue = new int[width * height];
+		for (int frame = 0; frame < 3; frame++) {
+			visited.clear();
+			int head = 0, tail = 0;
+			queue[tail++] = frame;
+			visited.add(frame);
+			while (head < tail) {
+				int cell = queue[head++], x = cell % width, y = cell / width;
+				if (x > 0 && visited.add(cell - 1)) queue[tail++] = cell - 1;
+				if (x < width - 1 && visited.add(cell + 1)) queue[tail++] = cell + 1;
+				if (y > 0 && visited.add(cell - width)) queue[tail++] = cell - width;
+				if (y < height - 1 && visited.add(cell + width)) queue[tail++] = cell + width;
+			}
+			assertEquals(width * height, visited.size());
+			assertEquals(frame, visited.get(0));
+		}
+	}
+
+	@Test
+	public void testMapAgainstIntIntMap() {
+		Random random = new Random(470L);
+		IntIntSparseMap sparse = new IntIntSparseMap(50);
+		IntIntMap map = new IntIntMap();
+		sparse.setDefaultValue(-1);
+		map.setDefaultValue(-1);
+		for (int i = 0; i < 2000; i++) {
+			int key = random.nextInt(200), value = random.nextInt();
+			switch (random.nextInt(4)) {
+				case 0:
+					assertEquals(map.remove(key), sparse.remove(key));
+					break;
+				case 1:
+					assertEquals(map.getAndIncrement(key, 0, 3), sparse.getAndIncrement(key, 0, 3));
+					break;
+				default:
+					assertEquals(map.put(key, value), sparse.put(key, value));
+			}
+			assertEquals(map.size(), sparse.size());
+			assertEquals(map.get(key), sparse.get(key));
+		}
+		assertEquals(map.hashCode(), sparse.hashCode());
+		for (IntIntMap.Entry e : sparse) {
+			assertEquals(map.get(e.key), e.value);
+		}
+		IntIntSparseMap copy = new IntIntSparseMap(sparse);
+		assertEquals(sparse, copy);
+		IntIntSparseMap.KeyIterator keys = copy.keyIterator();
+		while (keys.hasNext()) {
+			if ((keys.nextInt() & 1) == 1) keys.remove();
+		}
+		for (int i = 0; i < 200; i++) {
+			assertEquals((i & 1) == 0 && map.containsKey(i), copy.containsKey(i));
+			if (copy.containsKey(i)) assertEquals(map.get(i), copy.get(i));
+		}
+		sparse.clear();
+		assertEquals(-1, sparse.get(copy.keyAt(0)));
+		assertEquals("{2=7, 1=0}", IntIntSparseMap.with(2, 7, 1, 0).toString());
+	}
+}
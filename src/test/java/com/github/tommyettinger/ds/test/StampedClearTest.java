@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.*;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class StampedClearTest {
+	@Test
+	public void testObjectSet() {
+		Random random = new Random(48L);
+		StampedObjectSet<String> stamped = new StampedObjectSet<>(8);
+		HashSet<String> plain = new HashSet<>();
+		for (int round = 0; round < 700; round++) {
+			int count = random.nextInt(round % 50 == 0 ? 300 : 20);
+			for (int i = 0; i < count; i++) {
+				String item = "s" + random.nextInt(64);
+				if (random.nextInt(4) == 0) {
+					assertEquals(plain.remove(item), stamped.remove(item));
+				} else {
+					assertEquals(plain.add(item), stamped.add(item));
+				}
+			}
+			assertEquals(plain.size(), stamped.size());
+			for (int i = 0; i < 64; i++) {
+				String item = "s" + i;
+				assertEquals(plain.contains(item), stamped.contains(item));
+			}
+			if (round % 7 == 3) {
+				assertEquals(plain, stamped);
+				assertEquals(new ObjectSet<>(plain).hashCode(), stamped.hashCode());
+				assertEquals(new ObjectSet<>(plain), new ObjectSet<>(stamped));
+			}
+			plain.clear();
+			stamped.clear();
+			assertTrue(stamped.isEmpty());
+			for (String s : stamped) {
+				fail("Found " + s + " after clear()");
+			}
+		}
+	}
+
+	@Test
+	public void testIntSet() {
+		Random random = new Random(48L);
+		StampedIntSet stamped = new StampedIntSet(8);
+		HashSet<Integer> plain = new HashSet<>();
+		for (int round = 0; round < 700; round++) {
+			int count = random.nextInt(round % 50 == 0 ? 300 : 20);
+			for (int i = 0; i < count; i++) {
+				int item = random.nextInt(64) - 8;
+				if (random.nextInt(4) == 0) {
+					assertEquals(plain.remove(item), stamped.remove(item));
+				} else {
+					assertEquals(plain.add(item), stamped.add(item));
+				}
+			}
+			assertEquals(plain.size(), stamped.size());
+			for (int i = -8; i < 56; i++) {
+				assertEquals(plain.contains(i), stamped.contains(i));
+			}
+			if (round % 7 == 3) {
+				IntSet copy = new IntSet(stamped);
+				assertEquals(plain.size(), copy.size());
+				for (Integer item : plain) {
+					assertTrue(copy.contains(item));
+				}
+				assertEquals(copy, stamped);
+				assertEquals(copy.hashCode(), stamped.hashCode());
+				StampedIntSet other = new StampedIntSet();
+				other.addAll(stamped);
+				assertEquals(copy, other);
+			}
+			plain.clear();
+			stamped.clear();
+			assertTrue(stamped.isEmpty());
+			assertFalse(stamped.iterator().hasNext());
+		}
+	}
+
+	@Test
+	public void testIntIntMap() {
+		Random random = new Random(48L);
+		StampedIntIntMap stamped = new StampedIntIntMap(8);
+		stamped.setDefaultValue(-1);
+		HashMap<Integer, Integer> plain = new HashMap<>();
+		for (int round = 0; round < 700; round++) {
+			int count = random.nextInt(round % 50 == 0 ? 300 : 20);
+			for (int i = 0; i < count; i++) {
+				int key = random.nextInt(64) - 8;
+				if (random.nextInt(4) == 0) {
+					Integer old = plain.remove(key);
+					assertEquals(old == null ? -1 : old, stamped.remove(key));
+				} else {
+					int value = random.nextInt(1000);
+					Integer old = plain.put(key, value);
+					assertEquals(old == null ? -1 : old, stamped.put(key, value));
+				}
+			}
+			assertEquals(plain.size(), stamped.size());
+			for (int i = -8; i < 56; i++) {
+				Integer value = plain.get(i);
+				assertEquals(value != null, stamped.containsKey(i));
+				assertEquals(value == null ? -1 : value, stamped.get(i));
+			}
+			if (round % 7 == 3) {
+				IntIntMap copy = new IntIntMap(stamped);
+				assertEquals(plain.size(), copy.size());
+				assertEquals(copy, stamped);
+				assertEquals(copy.hashCode(), stamped.hashCode());
+				StampedIntIntMap other = new StampedIntIntMap();
+				other.putAll(stamped);
+				assertEquals(plain.size(), other.size());
+				for (Integer key : plain.keySet()) {
+					assertEquals((int) plain.get(key), other.get(key));
+				}
+			}
+			plain.clear();
+			stamped.clear();
+			assertTrue(stamped.isEmpty());
+			assertFalse(stamped.iterator().hasNext());
+		}
+	}
+
+	@Test
+	public void testObjectObjectMap() {
+		Random random = new Random(48L);
+		StampedObjectObjectMap<String, Integer> stamped = new StampedObjectObjectMap<>(8);
+		HashMap<String, Integer> plain = new HashMap<>();
+		for (int round = 0; round < 700; round++) {
+			int count = random.nextInt(round % 50 == 0 ? 300 : 20);
+			for (int i = 0; i < count; i++) {
+				String key = "k" + random.nextInt(64);
+				if (random.nextInt(4) == 0) {
+					assertEquals(plain.remove(key), stamped.remove(key));
+				} else {
+					Integer value = random.nextInt(1000);
+					assertEquals(plain.put(key, value), stamped.put(key, value));
+				}
+			}
+			assertEquals(plain.size(), stamped.size());
+			for (int i = 0; i < 64; i++) {
+				String key = "k" + i;
+				assertEquals(plain.containsKey(key), stamped.containsKey(key));
+				assertEquals(plain.get(key), stamped.get(key));
+			}
+			if (round % 7 == 3) {
+				ObjectObjectMap<String, Integer> copy = new ObjectObjectMap<>(stamped);
+				assertEquals(plain.size(), copy.size());
+				assertEquals(copy, stamped);
+				assertEquals(copy.hashCode(), stamped.hashCode());
+				StampedObjectObjectMap<String, Integer> other = new StampedObjectObjectMap<>();
+				other.putAll(stamped);
+				assertEquals(copy, other);
+			}
+			plain.clear();
+			stamped.clear();
+			assertTrue(stamped.isEmpty());
+			assertFalse(stamped.iterator().hasNext());
+		}
+	}
+
+	@Test
+	public void testIntObjectMap() {
+		Random random = new Random(48L);
+		StampedIntObjectMap<String> stamped = new StampedIntObjectMap<>(8);
+		HashMap<Integer, String> plain = new HashMap<>();
+		for (int round = 0; round < 700; round++) {
+			int count = random.nextInt(round % 50 == 0 ? 300 : 20);
+			for (int i = 0; i < count; i++) {
+				int key = random.nextInt(64) - 8;
+				if (random.nextInt(4) == 0) {
+					assertEquals(plain.remove(key), stamped.remove(key));
+				} else {
+					String value = "v" + random.nextInt(1000);
+					assertEquals(plain.put(key, value), stamped.put(key, value));
+				}
+			}
+			assertEquals(plain.size(), stamped.size());
+			for (int i = -8; i < 56; i++) {
+				assertEquals(plain.containsKey(i), stamped.containsKey(i));
+				assertEquals(plain.get(i), stamped.get(i));
+			}
+			if (round % 7 == 3) {
+				IntObjectMap<String> copy = new IntObjectMap<>(stamped);
+				assertEquals(plain.size(), copy.size());
+				assertEquals(copy, stamped);
+				assertEquals(copy.hashCode(), stamped.hashCode());
+				StampedIntObjectMap<String> other = new StampedIntObjectMap<>();
+				other.putAll(stamped);
+				assertEquals(copy, other);
+			}
+			plain.clear();
+			stamped.clear();
+			assertTrue(stamped.isEmpty());
+			assertFalse(stamped.iterator().hasNext());
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.BooleanList;
+import com.github.tommyettinger.ds.CharList;
+import com.github.tommyettinger.ds.DoubleList;
+import com.github.tommyettinger.ds.LongLongMap;
+import com.github.tommyettinger.ds.ObjectIntMap;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectObjectMap;
+import com.github.tommyettinger.ds.support.util.LegibleTokenizer;
+import com.github.tommyettinger.ds.support.util.PartialParser;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class StreamingLegibleTest {
+	@Test
+	public void testTokenizer() {
+		LegibleTokenizer tokens = new LegibleTokenizer(new StringReader("alpha::beta::a-token-much-longer-than-the-buffer::z"), 16);
+		ObjectList<String> seen = new ObjectList<>();
+		while (tokens.next("::")) {
+			seen.add(tokens.text().substring(tokens.start(), tokens.end()));
+		}
+		assertEquals(ObjectList.with("alpha", "beta", "a-token-much-longer-than-the-buffer", "z"), seen);
+		tokens = new LegibleTokenizer(CharBuffer.wrap("[1, 2, 3]"), 1, 7);
+		assertTrue(tokens.next(", "));
+		assertTrue(tokens.next(", "));
+		assertTrue(tokens.next(", "));
+		assertEquals("3", new String(tokens.chars(), tokens.start(), tokens.end() - tokens.start()));
+		assertFalse(tokens.next(", "));
+	}
+
+	@Test
+	public void testPrimitiveCollections() {
+		Random random = new Random(36L);
+		DoubleList doubles = new DoubleList();
+		for (int i = 0; i < 3000; i++) {
+			doubles.add(random.nextInt(100000) / 64.0);
+		}
+		String text = doubles.toString(", ");
+		DoubleList fromReader = new DoubleList();
+		fromReader.addLegible(new StringReader(text), ", ");
+		assertEquals(doubles, fromReader);
+		DoubleList fromWindow = new DoubleList();
+		fromWindow.addLegible(new CharList(doubles.toString(", ", true)), ", ", 1, text.length());
+		assertEquals(doubles, fromWindow);
+		BooleanList booleans = BooleanList.with(true, false, false, true);
+		BooleanList parsed = new BooleanList();
+		parsed.addLegible(new StringReader(booleans.toString("|")), "|");
+		assertEquals(booleans, parsed);
+	}
+
+	@Test
+	public void testMaps() {
+		Random random = new Random(360L);
+		LongLongMap longs = new LongLongMap();
+		ObjectIntMap<String> names = new ObjectIntMap<>();
+		for (int i = 0; i < 2000; i++) {
+			longs.put(random.nextLong(), random.nextLong());
+			names.put("name" + random.nextInt(), i);
+		}
+		LongLongMap longsCopy = new LongLongMap();
+		longsCopy.putLegible(new StringReader(longs.toString(", ", false)), ", ", "=");
+		assertEquals(longs, longsCopy);
+		ObjectIntMap<String> namesCopy = new ObjectIntMap<>();
+		namesCopy.putLegible(CharBuffer.wrap(names.toString()), ", ", "=", PartialParser.DEFAULT_STRING, 1, names.toString().length() - 2);
+		assertEquals(names, namesCopy);
+		ObjectObjectMap<String, String> strings = ObjectObjectMap.with("a", "apple", "b", "banana");
+		ObjectObjectMap<String, String> stringsCopy = new ObjectObjectMap<>();
+		stringsCopy.putLegible(new StringReader(strings.toString(";", false)), ";", "=", PartialParser.DEFAULT_STRING, PartialParser.DEFAULT_STRING);
+		assertEquals(strings, stringsCopy);
+	}
+}
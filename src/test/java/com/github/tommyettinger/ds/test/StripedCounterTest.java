@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntLongOrderedMap;
+import com.github.tommyettinger.ds.ObjectLongMap;
+import com.github.tommyettinger.ds.ObjectLongOrderedMap;
+import com.github.tommyettinger.ds.concurrent.StripedIntCounter;
+import com.github.tommyettinger.ds.concurrent.StripedLongCounter;
+import com.github.tommyettinger.ds.concurrent.StripedObjectCounter;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StripedCounterTest {
+	@Test
+	public void testObjectCounterFromThreads() throws InterruptedException {
+		final StripedObjectCounter<String> counter = new StripedObjectCounter<>(4);
+		assertEquals(4, counter.getStripeCount());
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 10000; i++) {
+					counter.increment("hot");
+					counter.increment("k" + (i % 10), 2L);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40000L, counter.sum("hot"));
+		assertEquals(8000L, counter.sum("k3"));
+		assertEquals(120000L, counter.total());
+		ObjectLongOrderedMap<String> top = counter.top(3);
+		assertEquals(3, top.size());
+		assertEquals("hot", top.keyAt(0));
+		assertEquals(40000L, top.getAt(0));
+		assertEquals(8000L, top.getAt(2));
+		assertEquals(40000L, counter.sumThenReset("hot"));
+		assertEquals(0L, counter.sum("hot"));
+		ObjectLongMap<String> all = counter.sumAllThenReset();
+		assertEquals(10, all.size());
+		assertEquals(8000L, all.get("k9"));
+		assertEquals(0L, counter.total());
+	}
+
+	@Test
+	public void testPrimitiveCounters() {
+		StripedIntCounter ints = new StripedIntCounter(3);
+		assertEquals(4, ints.getStripeCount());
+		for (int i = 0; i < 100; i++) {
+			ints.increment(i % 7, i);
+		}
+		ints.increment(-1, -5L);
+		IntLongOrderedMap top = ints.top(2, true);
+		assertEquals(2, top.size());
+		assertTrue(top.getAt(0) >= top.getAt(1));
+		assertEquals(0L, ints.total());
+
+		StripedLongCounter longs = new StripedLongCounter(1);
+		longs.increment(Long.MIN_VALUE);
+		longs.increment(Long.MIN_VALUE);
+		longs.increment(0L);
+		assertEquals(2L, longs.sum(Long.MIN_VALUE));
+		assertEquals(Long.MIN_VALUE, longs.top(1).keyAt(0));
+		longs.clear();
+		assertEquals(0L, longs.sum(0L));
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.IntList;
+import com.github.tommyettinger.ds.IntUnionFind;
+import com.github.tommyettinger.ds.ObjectList;
+import com.github.tommyettinger.ds.ObjectUnionFind;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class UnionFindTest {
+	@Test
+	public void testGridLabeling() {
+		final int width = 200, height = 150;
+		Random random = new Random(46L);
+		boolean[] open = new boolean[width * height];
+		for (int i = 0; i < open.length; i++) {
+			open[i] = random.nextInt(10) < 6;
+		}
+		IntUnionFind forest = new IntUnionFind(width * height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int i = x + y * width;
+				if (!open[i]) continue;
+				if (x + 1 < width && open[i + 1]) forest.union(i, i + 1);
+				if (y + 1 < height && open[i + width]) forest.union(i, i + width);
+			}
+		}
+		// compare against a flood fill
+		int[] labels = forest.labels(null);
+		int[] fill = new int[open.length];
+		Arrays.fill(fill, -1);
+		IntList stack = new IntList();
+		int floodComponents = 0;
+		for (int start = 0; start < open.length; start++) {
+			if (fill[start] != -1) continue;
+			fill[start] = start;
+			floodComponents++;
+			int count = 1;
+			if (open[start]) {
+				stack.add(start);
+				while (stack.notEmpty()) {
+					int i = stack.pop(), x = i % width, y = i / width;
+					int[] neighbors = {x > 0 ? i - 1 : -1, x + 1 < width ? i + 1 : -1, y > 0 ? i - width : -1,
+						y + 1 < height ? i + width : -1};
+					for (int n : neighbors) {
+						if (n >= 0 && open[n] && fill[n] == -1) {
+							fill[n] = start;
+							count++;
+							stack.add(n);
+						}
+					}
+				}
+			}
+			assertEquals(count, forest.componentSize(start));
+			IntList members = forest.component(start);
+			assertEquals(count, members.size());
+			for (int i = 0; i < members.size(); i++) {
+				assertEquals(start, fill[members.get(i)]);
+				assertEquals(labels[start], labels[members.get(i)]);
+			}
+		}
+		assertEquals(floodComponents, forest.componentCount());
+		assertEquals(floodComponents, forest.representatives(new IntList()).size());
+	}
+
+	@Test
+	public void testGrowthAndObjects() {
+		IntUnionFind forest = new IntUnionFind();
+		assertEquals(0, forest.add());
+		assertTrue(forest.union(3, 10));
+		assertEquals(11, forest.size());
+		assertEquals(10, forest.componentCount());
+		assertFalse(forest.union(10, 3));
+		assertTrue(forest.connected(3, 10));
+		assertFalse(forest.connected(0, 10));
+		IntUnionFind copy = new IntUnionFind(forest);
+		forest.reset();
+		assertEquals(11, forest.componentCount());
+		assertTrue(copy.connected(3, 10));
+
+		ObjectUnionFind<String> names = new ObjectUnionFind<>();
+		names.union("a", "b");
+		names.union("c", "d");
+		names.add("e");
+		assertEquals(3, names.componentCount());
+		assertTrue(names.connected("b", "a"));
+		assertFalse(names.connected("a", "c"));
+		assertFalse(names.connected("a", "zzz"));
+		names.union("d", "a");
+		assertEquals(4, names.componentSize("c"));
+		ObjectList<String> members = names.component("a");
+		members.sort(null);
+		assertEquals(ObjectList.with("a", "b", "c", "d"), members);
+		assertEquals(names.find("a"), names.find("d"));
+		assertNull(names.find("zzz"));
+		assertEquals(0, names.component("zzz").size());
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2022-2025 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.ds.test;
+
+import com.github.tommyettinger.ds.DoubleWindow;
+import com.github.tommyettinger.ds.FloatWindow;
+import com.github.tommyettinger.ds.LongWindow;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class WindowTest {
+	@Test
+	public void testDoubleWindowMatchesRescan() {
+		Random random = new Random(39L);
+		DoubleWindow window = new DoubleWindow(37);
+		double[] all = new double[2000];
+		for (int i = 0; i < all.length; i++) {
+			all[i] = random.nextGaussian() * 1000.0 + 1e6;
+			window.addLast(all[i]);
+			if (i % 97 == 0 && window.size() > 3) {
+				window.removeFirst();
+			}
+			int n = window.size(), start = i + 1 - n;
+			double sum = 0.0, min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+			for (int j = start; j <= i; j++) {
+				sum += all[j];
+				min = Math.min(min, all[j]);
+				max = Math.max(max, all[j]);
+			}
+			double mean = sum / n, sq = 0.0;
+			for (int j = start; j <= i; j++) {
+				sq += (all[j] - mean) * (all[j] - mean);
+			}
+			assertEquals(sum, window.sum(), 1e-6);
+			assertEquals(min, window.min(), 0.0);
+			assertEquals(max, window.max(), 0.0);
+			assertEquals(mean, window.mean(), 1e-8);
+			assertEquals(sq / n, window.variance(), 1e-4);
+			assertEquals(all[start], window.first(), 0.0);
+		}
+	}
+
+	@Test
+	public void testVarianceAfterSpike() {
+		// once the spike leaves, the variance must be near the true value, not the rounding error the spike left behind
+		Random random = new Random(-39L);
+		DoubleWindow doubles = new DoubleWindow(64);
+		FloatWindow floats = new FloatWindow(64);
+		LongWindow longs = new LongWindow(64);
+		doubles.addLast(1e9);
+		floats.addLast(1e9f);
+		longs.addLast(1000000000000000L);
+		double[] d = new double[64], f = new double[64], l = new double[64];
+		for (int i = 0; i < 64; i++) {
+			doubles.addLast(d[i] = 1e6 + (random.nextDouble() - 0.5) * 0.002);
+			floats.addLast((float) (f[i] = (float) (1e3 + (random.nextDouble() - 0.5) * 0.02)));
+			longs.addLast((long) (l[i] = 1000000 + random.nextInt(3) - 1));
+		}
+		assertEquals(64, doubles.size());
+		assertEquals(exactVariance(d), doubles.variance(), exactVariance(d) * 1e-6);
+		assertEquals(exactVariance(f), floats.variance(), exactVariance(f) * 1e-6);
+		assertEquals(exactVariance(l), longs.variance(), exactVariance(l) * 1e-6);
+		assertEquals(1e6, doubles.mean(), 1e-3);
+		assertEquals(1e3, floats.mean(), 1e-2);
+		assertEquals(1e6, longs.mean(), 1.0);
+		// the running updates keep working after the variance is recomputed
+		for (int i = 0; i < 32; i++) {
+			doubles.addLast(d[i]);
+			floats.addLast((float) f[i]);
+			longs.addLast((long) l[i]);
+		}
+		assertEquals(exactVariance(d), doubles.variance(), exactVariance(d) * 1e-6);
+		assertEquals(exactVariance(f), floats.variance(), exactVariance(f) * 1e-6);
+		assertEquals(exactVariance(l), longs.variance(), exactVariance(l) * 1e-6);
+	}
+
+	private static double exactVariance(double[] items) {
+		double mean = 0.0, sq = 0.0;
+		for (double item : items) {
+			mean += item;
+		}
+		mean /= items.length;
+		for (double item : items) {
+			sq += (item - mean) * (item - mean);
+		}
+		return sq / items.length;
+	}
+
+	@Test
+	public void testLongAndFloatWindows() {
+		LongWindow longs = new LongWindow();
+		longs.addLast(5L);
+		longs.addLast(1L);
+		longs.addLast(3L);
+		longs.addLast(1L);
+		assertEquals(10L, longs.sum());
+		assertEquals(1L, longs.min());
+		assertEquals(5L, longs.max());
+		assertEquals(5L, longs.removeFirst());
+		assertEquals(3L, longs.max());
+		assertEquals(1L, longs.removeFirst());
+		assertEquals(1L, longs.min());
+		longs.truncateFirst(1);
+		assertEquals(1L, longs.max());
+		assertEquals(0.0, longs.variance(), 0.0);
+		assertTrue(Double.isNaN(longs.sampleVariance()));
+		longs.removeFirst();
+		assertTrue(Double.isNaN(longs.mean()));
+		try {
+			longs.min();
+			fail("min() of an empty window should throw");
+		} catch (NoSuchElementException expected) {
+		}
+
+		FloatWindow floats = new FloatWindow(3);
+		floats.addLast(1e8f);
+		floats.addLast(1f);
+		floats.addLast(1f);
+		floats.addLast(-1e8f);
+		assertEquals(-99999998f, floats.sum(), 0f);
+		floats.addLast(Float.NaN);
+		assertTrue(Float.isNaN(floats.max()));
+		assertEquals(-1e8f, floats.min(), 0f);
+		floats.addLast(2f);
+		floats.addLast(4f);
+		assertEquals(2f, floats.min(), 0f);
+		assertEquals(Float.NaN, floats.max(), 0f);
+		floats.addLast(3f);
+		assertEquals(4f, floats.max(), 0f);
+		assertEquals(9f, floats.sum(), 0f);
+		assertEquals(2.0 / 3.0, floats.variance(), 1e-9);
+	}
+}